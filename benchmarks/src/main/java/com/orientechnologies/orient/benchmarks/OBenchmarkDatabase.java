@@ -0,0 +1,84 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import java.io.File;
+import java.util.function.IntConsumer;
+
+/**
+ * Embedded database used by a benchmark trial. Disk based databases are created below the directory
+ * set by the <code>orientdb.benchmarks.directory</code> system property and are dropped when the
+ * trial ends.
+ */
+final class OBenchmarkDatabase implements AutoCloseable {
+  static final String DIRECTORY_PROPERTY = "orientdb.benchmarks.directory";
+
+  private static final int BATCH_SIZE = 1_000;
+
+  private final OrientDB orientDB;
+  private final String name;
+  private final ODatabaseSession session;
+
+  OBenchmarkDatabase(final String name, final ODatabaseType type) {
+    this.name = name;
+    this.orientDB =
+        new OrientDB("embedded:" + directory().getAbsolutePath(), OrientDBConfig.defaultConfig());
+    if (orientDB.exists(name)) orientDB.drop(name);
+    orientDB.create(name, type);
+    this.session = orientDB.open(name, "admin", "admin");
+  }
+
+  static File directory() {
+    return new File(System.getProperty(DIRECTORY_PROPERTY, "./target/benchmark-databases"));
+  }
+
+  ODatabaseSession getSession() {
+    return session;
+  }
+
+  ODatabaseDocumentInternal getInternalSession() {
+    return (ODatabaseDocumentInternal) session;
+  }
+
+  /** Calls the creator <code>count</code> times, committing a transaction every few calls. */
+  void populate(final int count, final IntConsumer creator) {
+    session.activateOnCurrentThread();
+    for (int i = 0; i < count; i += BATCH_SIZE) {
+      session.begin();
+      for (int j = i; j < Math.min(count, i + BATCH_SIZE); j++) creator.accept(j);
+      session.commit();
+    }
+  }
+
+  @Override
+  public void close() {
+    session.activateOnCurrentThread();
+    session.close();
+    orientDB.drop(name);
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(directory(), name));
+  }
+}
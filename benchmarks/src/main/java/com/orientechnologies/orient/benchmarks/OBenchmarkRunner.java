@@ -0,0 +1,75 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import java.io.IOException;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line, but runs all the
+ * OrientDB benchmarks when no pattern is passed and writes the results as JSON, so runs of
+ * different releases can be compared.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                         # everything, results in jmh-result.json
+ * java -jar target/benchmarks.jar OSqlExecutorBenchmark   # a single suite
+ * java -jar target/benchmarks.jar -rff release.json -p storage=plocal
+ * </pre>
+ */
+public final class OBenchmarkRunner {
+  private static final String ALL_BENCHMARKS =
+      OBenchmarkRunner.class.getPackage().getName() + "\\..*Benchmark\\..*";
+
+  private OBenchmarkRunner() {}
+
+  public static void main(final String[] args) throws RunnerException, IOException {
+    final CommandLineOptions commandLine;
+    try {
+      commandLine = new CommandLineOptions(args);
+    } catch (CommandLineOptionException e) {
+      System.err.println("Error parsing command line: " + e.getMessage());
+      System.exit(1);
+      return;
+    }
+
+    if (commandLine.shouldHelp()
+        || commandLine.shouldList()
+        || commandLine.shouldListWithParams()
+        || commandLine.shouldListProfilers()
+        || commandLine.shouldListResultFormats()) {
+      // LISTING AND HELP ARE HANDLED BY THE STANDARD JMH LAUNCHER
+      Main.main(args);
+      return;
+    }
+
+    final OptionsBuilder options = new OptionsBuilder();
+    options.parent(commandLine);
+    if (commandLine.getIncludes().isEmpty()) options.include(ALL_BENCHMARKS);
+    if (!commandLine.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON);
+
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.index.hashindex.local.OHashIndexFactory;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Put, point lookup and range scan of a unique index on a long property, for every index engine.
+ * Range scans are measured only on the engines that keep keys ordered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OIndexBenchmark {
+  private static final int KEYS = 100_000;
+  private static final int RANGE = 100;
+
+  @Benchmark
+  public ORID put(final AnyEngine state) {
+    final ODatabaseSession session = state.database.getSession();
+    session.begin();
+    state.index.put(state.nextKey++, state.rid);
+    session.commit();
+    return state.rid;
+  }
+
+  @Benchmark
+  public ORID get(final AnyEngine state) {
+    return state.internal.getRids(state.randomKey()).findFirst().orElse(null);
+  }
+
+  @Benchmark
+  public long range(final OrderedEngine state) {
+    final long from = state.randomKey();
+    return state.internal.streamEntriesBetween(from, true, from + RANGE, false, true).count();
+  }
+
+  @State(Scope.Thread)
+  public static class AnyEngine extends OIndexFixture {
+    @Param({"SBTREE", "CELL_BTREE", OHashIndexFactory.HASH_INDEX_ALGORITHM})
+    public String engine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      create(engine);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      database.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class OrderedEngine extends OIndexFixture {
+    @Param({"SBTREE", "CELL_BTREE"})
+    public String engine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      create(engine);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      database.close();
+    }
+  }
+
+  abstract static class OIndexFixture {
+    OBenchmarkDatabase database;
+    OIndex index;
+    OIndexInternal internal;
+    ORID rid;
+    long nextKey = KEYS;
+    private final Random random = new Random(42);
+
+    void create(final String engine) {
+      database = new OBenchmarkDatabase("indexBenchmark", ODatabaseType.MEMORY);
+      final ODatabaseSession session = database.getSession();
+      final OClass item = session.createClass("Item");
+      item.createProperty("key", OType.LONG);
+      final String type =
+          OHashIndexFactory.HASH_INDEX_ALGORITHM.equals(engine)
+              ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.name()
+              : OClass.INDEX_TYPE.UNIQUE.name();
+      index = item.createIndex("Item.key", type, null, null, engine, new String[] {"key"});
+
+      database.populate(KEYS, i -> newItem(session, i));
+      // VALUE OF THE KEYS ADDED BY THE PUT BENCHMARK
+      rid = newItem(session, -1).getIdentity();
+      internal = index.getInternal();
+    }
+
+    private static OElement newItem(final ODatabaseSession session, final long key) {
+      final OElement item = session.newElement("Item");
+      item.setProperty("key", key);
+      return item.save();
+    }
+
+    long randomKey() {
+      return random.nextInt(KEYS);
+    }
+  }
+}
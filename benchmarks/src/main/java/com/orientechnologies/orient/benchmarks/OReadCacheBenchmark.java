@@ -0,0 +1,116 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load and release of pages that are already in the read cache of a disk based storage. The pages
+ * belong to the data file of a cluster, so the page set is much smaller than the cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OReadCacheBenchmark {
+  private static final int RECORDS = 20_000;
+
+  @Param({"false", "true"})
+  public boolean verifyChecksums;
+
+  private OBenchmarkDatabase database;
+  private OReadCache readCache;
+  private OWriteCache writeCache;
+  private long fileId;
+  private int pages;
+  private Random random;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = new OBenchmarkDatabase("readCacheBenchmark", ODatabaseType.PLOCAL);
+    final ODatabaseSession session = database.getSession();
+    // A SINGLE CLUSTER, SO ALL THE RECORDS END UP IN THE SAME DATA FILE
+    final int clusterId =
+        session.getMetadata().getSchema().createClass("Item", 1).getDefaultClusterId();
+    database.populate(
+        RECORDS,
+        i -> {
+          final OElement item = session.newElement("Item");
+          item.setProperty("name", "item" + i);
+          item.setProperty("description", "description of the item number " + i);
+          item.save();
+        });
+
+    final OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) database.getInternalSession().getStorage();
+    readCache = storage.getReadCache();
+    writeCache = storage.getWriteCache();
+    fileId =
+        writeCache.fileIdByName(
+            session.getClusterNameById(clusterId) + OPaginatedCluster.DEF_EXTENSION);
+    pages = (int) writeCache.getFilledUpTo(fileId);
+    random = new Random(42);
+
+    // BRING ALL THE PAGES IN THE CACHE BEFORE THE MEASUREMENT
+    for (int i = 0; i < pages; i++) loadAndRelease(i);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public OCacheEntry loadForRead() throws IOException {
+    return loadAndRelease(random.nextInt(pages));
+  }
+
+  private OCacheEntry loadAndRelease(final int pageIndex) throws IOException {
+    final OCacheEntry cacheEntry =
+        readCache.loadForRead(fileId, pageIndex, false, writeCache, verifyChecksums);
+    readCache.releaseFromRead(cacheEntry, writeCache);
+    return cacheEntry;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Creation, loading and update of single records outside of transactions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ORecordCrudBenchmark {
+  private static final int RECORDS = 10_000;
+
+  @Param({"memory", "plocal"})
+  public String storage;
+
+  private OBenchmarkDatabase database;
+  private ODatabaseSession session;
+  private ORID[] rids;
+  private Random random;
+  private int counter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    database =
+        new OBenchmarkDatabase("crudBenchmark", ODatabaseType.valueOf(storage.toUpperCase()));
+    session = database.getSession();
+    session.createClass("Item");
+
+    final OElement[] items = new OElement[RECORDS];
+    database.populate(RECORDS, i -> items[i] = newItem(i).save());
+    // THE IDENTITIES ASSIGNED IN A TRANSACTION ARE THE FINAL ONES ONLY AFTER THE COMMIT
+    rids = new ORID[RECORDS];
+    for (int i = 0; i < RECORDS; i++) rids[i] = items[i].getIdentity().copy();
+    random = new Random(42);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public ORID create() {
+    return newItem(counter++).save().getIdentity();
+  }
+
+  @Benchmark
+  public ODocument read() {
+    // BYPASS THE LOCAL CACHE, OTHERWISE ONLY THE FIRST LOAD OF EVERY RECORD HITS THE STORAGE
+    return session.load(rids[random.nextInt(RECORDS)], null, true);
+  }
+
+  @Benchmark
+  public ORID update() {
+    final ODocument document = session.load(rids[random.nextInt(RECORDS)], null, true);
+    document.field("counter", counter++);
+    return document.save().getIdentity();
+  }
+
+  private OElement newItem(final int i) {
+    final OElement item = session.newElement("Item");
+    item.setProperty("name", "item" + i);
+    item.setProperty("counter", i);
+    item.setProperty("price", i / 100.0);
+    item.setProperty("description", "description of the item number " + i);
+    return item;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinaryV1;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of a document that mixes schema-full and schema-less fields, embedded documents,
+ * collections and links with {@link ORecordSerializerBinaryV1}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ORecordSerializerBinaryV1Benchmark {
+  private static final String[] PARTIAL_FIELDS = {"age"};
+
+  private final ORecordSerializerBinaryV1 serializer = new ORecordSerializerBinaryV1();
+
+  private OBenchmarkDatabase database;
+  private ODocument document;
+  private byte[] serialized;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    database = new OBenchmarkDatabase("serializerBenchmark", ODatabaseType.MEMORY);
+    final ODatabaseSession session = database.getSession();
+    final OClass person = session.createClass("Person");
+    person.createProperty("name", OType.STRING);
+    person.createProperty("age", OType.INTEGER);
+    person.createProperty("birthDate", OType.DATETIME);
+    person.createProperty("score", OType.DOUBLE);
+
+    final ODocument company = new ODocument("Company").field("name", "OrientDB");
+    company.save();
+
+    final List<String> tags = new ArrayList<>();
+    for (int i = 0; i < 10; i++) tags.add("tag" + i);
+    final Map<String, Object> attributes = new HashMap<>();
+    for (int i = 0; i < 10; i++) attributes.put("attribute" + i, i);
+
+    document = new ODocument("Person");
+    document.field("name", "John Smith");
+    document.field("age", 42);
+    document.field("birthDate", new Date(0));
+    document.field("score", 12.5d);
+    document.field("nickname", "johnny");
+    document.field("active", true);
+    document.field("tags", tags);
+    document.field("attributes", attributes);
+    document.field("employer", company);
+    document.field(
+        "address",
+        new ODocument().field("street", "Via Roma 1").field("city", "London").field("zip", 10100),
+        OType.EMBEDDED);
+    serialized = serialize();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    final BytesContainer container = new BytesContainer();
+    serializer.serialize(document, container);
+    return container.fitBytes();
+  }
+
+  @Benchmark
+  public ODocument deserialize() {
+    final ODocument result = new ODocument();
+    serializer.deserialize(result, new BytesContainer(serialized));
+    return result;
+  }
+
+  @Benchmark
+  public ODocument deserializePartial() {
+    final ODocument result = new ODocument();
+    serializer.deserializePartial(result, new BytesContainer(serialized), PARTIAL_FIELDS);
+    return result;
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.network.OServerNetworkListener;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round trips of the binary protocol against a server started in the same JVM: record load, record
+ * creation, and queries that return one or many rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ORemoteBenchmark {
+  private static final String DATABASE = "remoteBenchmark";
+  private static final int RECORDS = 10_000;
+
+  private File serverDirectory;
+  private OServer server;
+  private OrientDB orientDB;
+  private ODatabaseSession session;
+  private ORID[] rids;
+  private Random random;
+  private int counter;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    serverDirectory = new File(OBenchmarkDatabase.directory(), "server");
+    OFileUtils.deleteRecursively(serverDirectory);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(serverDirectory.getAbsolutePath());
+    try (InputStream configuration =
+        ORemoteBenchmark.class.getResourceAsStream("/benchmark-server-config.xml")) {
+      server.startup(configuration);
+    }
+    server.activate();
+
+    final OServerNetworkListener listener =
+        server.getListenerByProtocol(ONetworkProtocolBinary.class);
+    orientDB =
+        new OrientDB(
+            "remote:localhost:" + listener.getInboundAddr().getPort(),
+            "root",
+            "root",
+            OrientDBConfig.defaultConfig());
+    orientDB.create(DATABASE, ODatabaseType.MEMORY);
+    session = orientDB.open(DATABASE, "admin", "admin");
+
+    final OClass item = session.createClass("Item");
+    item.createProperty("key", OType.INTEGER);
+    item.createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE, "key");
+
+    final OElement[] items = new OElement[RECORDS];
+    for (int i = 0; i < RECORDS; i += 1_000) {
+      session.begin();
+      for (int j = i; j < i + 1_000; j++) items[j] = newItem(j).save();
+      session.commit();
+    }
+    rids = new ORID[RECORDS];
+    for (int i = 0; i < RECORDS; i++) rids[i] = items[i].getIdentity().copy();
+    random = new Random(42);
+    counter = RECORDS;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    session.close();
+    orientDB.drop(DATABASE);
+    orientDB.close();
+    server.shutdown();
+    OFileUtils.deleteRecursively(serverDirectory);
+  }
+
+  @Benchmark
+  public ODocument load() {
+    return session.load(rids[random.nextInt(RECORDS)], null, true);
+  }
+
+  @Benchmark
+  public ORID create() {
+    return newItem(counter++).save().getIdentity();
+  }
+
+  @Benchmark
+  public long indexedQuery() {
+    try (OResultSet result =
+        session.query("select from Item where key = ?", random.nextInt(RECORDS))) {
+      return result.stream().count();
+    }
+  }
+
+  @Benchmark
+  public long pagedQuery() {
+    // LARGER THAN A RESULT PAGE, SO SEVERAL ROUND TRIPS ARE NEEDED TO CONSUME IT
+    try (OResultSet result = session.query("select from Item limit 1000")) {
+      return result.stream().count();
+    }
+  }
+
+  private OElement newItem(final int key) {
+    final OElement item = session.newElement("Item");
+    item.setProperty("key", key);
+    item.setProperty("name", "item" + key);
+    return item;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.sql.executor.OCompactRidSet;
+import com.orientechnologies.orient.core.sql.executor.ORidSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sets of RIDs as used to track the visited records of TRAVERSE, DISTINCT and graph functions:
+ * filling a set, looking RIDs up (half of them are missing) and iterating it. RIDs are spread over
+ * a few clusters, either as consecutive positions, as after a scan, or as random positions up to
+ * 100 millions, as reached by following edges in a large graph. Run with <code>-prof gc</code> to
+ * compare the memory allocated by each implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ORidSetBenchmark {
+  private static final int RIDS = 200_000;
+  private static final int CLUSTERS = 4;
+  private static final int SPARSE_RANGE = 100_000_000;
+
+  @Param({"hashSet", "ridSet", "compact", "compactOffHeap"})
+  public String implementation;
+
+  @Param({"dense", "sparse"})
+  public String distribution;
+
+  private ORID[] rids;
+  private ORID[] probes;
+  private Set<ORID> set;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(42);
+    final boolean dense = "dense".equals(distribution);
+    rids = new ORID[RIDS];
+    probes = new ORID[RIDS];
+    for (int i = 0; i < RIDS; i++) {
+      final int cluster = i % CLUSTERS;
+      final long position = dense ? i / CLUSTERS : random.nextInt(SPARSE_RANGE);
+      rids[i] = new ORecordId(cluster, position);
+      // EVERY OTHER PROBE IS NOT IN THE SET
+      probes[i] =
+          i % 2 == 0
+              ? new ORecordId(cluster, position)
+              : new ORecordId(cluster, dense ? RIDS + i : random.nextInt(SPARSE_RANGE));
+    }
+    set = fill();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    close(set);
+  }
+
+  @Benchmark
+  public int add() throws Exception {
+    final Set<ORID> result = fill();
+    final int size = result.size();
+    close(result);
+    return size;
+  }
+
+  @Benchmark
+  public int contains() {
+    int found = 0;
+    for (ORID probe : probes) {
+      if (set.contains(probe)) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public long iterate() {
+    long sum = 0;
+    for (ORID rid : set) {
+      sum += rid.getClusterPosition();
+    }
+    return sum;
+  }
+
+  private Set<ORID> fill() {
+    final Set<ORID> result = newSet();
+    for (ORID rid : rids) {
+      result.add(rid);
+    }
+    return result;
+  }
+
+  private Set<ORID> newSet() {
+    switch (implementation) {
+      case "hashSet":
+        return new HashSet<>();
+      case "ridSet":
+        return new ORidSet();
+      case "compact":
+        return new OCompactRidSet(false);
+      case "compactOffHeap":
+        return new OCompactRidSet(true);
+      default:
+        throw new IllegalArgumentException("Unknown implementation " + implementation);
+    }
+  }
+
+  private static void close(Set<ORID> set) throws Exception {
+    if (set instanceof AutoCloseable) {
+      ((AutoCloseable) set).close();
+    }
+  }
+}
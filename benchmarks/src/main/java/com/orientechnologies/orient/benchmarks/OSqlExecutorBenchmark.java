@@ -0,0 +1,130 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Execution of the SQL executor pipelines over a graph of people: a class scan with a filter, a
+ * group by, a full sort and a MATCH traversal. Every result set is consumed up to the last row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OSqlExecutorBenchmark {
+  private static final int CITIES = 50;
+  private static final int FRIENDS = 3;
+
+  @Param({"10000"})
+  public int people;
+
+  private OBenchmarkDatabase database;
+  private ODatabaseSession session;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    database = new OBenchmarkDatabase("sqlBenchmark", ODatabaseType.MEMORY);
+    session = database.getSession();
+    final OClass person = session.createVertexClass("Person");
+    person.createProperty("name", OType.STRING);
+    person.createProperty("age", OType.INTEGER);
+    person.createProperty("city", OType.STRING);
+    session.createEdgeClass("Knows");
+
+    final OVertex[] vertices = new OVertex[people];
+    database.populate(
+        people,
+        i -> {
+          final OVertex vertex = session.newVertex("Person");
+          vertex.setProperty("name", "person" + i);
+          vertex.setProperty("age", i % 90);
+          vertex.setProperty("city", "city" + (i % CITIES));
+          vertices[i] = vertex.save();
+        });
+    database.populate(
+        people,
+        i -> {
+          for (int j = 1; j <= FRIENDS; j++)
+            vertices[i].addEdge(vertices[(i * 7 + j * 13) % people], "Knows").save();
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public long scanAndFilter() {
+    return consume(session.query("select from Person where age > 30 and city = 'city7'"));
+  }
+
+  @Benchmark
+  public long groupBy() {
+    return consume(
+        session.query("select city, count(*), avg(age), max(name) from Person group by city"));
+  }
+
+  @Benchmark
+  public long orderBy() {
+    return consume(session.query("select name, age from Person order by age desc, name"));
+  }
+
+  @Benchmark
+  public long match() {
+    return consume(
+        session.query(
+            "match {class: Person, as: a, where: (city = 'city3')}-Knows->{as: b}"
+                + "-Knows->{as: c, where: (age < 40)} return a.name, b.name, c.name"));
+  }
+
+  private static long consume(final OResultSet resultSet) {
+    try (OResultSet result = resultSet) {
+      long count = 0;
+      while (result.hasNext()) {
+        result.next();
+        count++;
+      }
+      return count;
+    }
+  }
+}
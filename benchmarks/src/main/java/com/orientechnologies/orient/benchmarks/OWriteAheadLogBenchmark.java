@@ -0,0 +1,116 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitStartMetadataRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Append of records to the write ahead log, alone and followed by a flush that forces the records
+ * to the disk. The log is recreated for every iteration, so the disk usage of a run stays bounded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OWriteAheadLogBenchmark {
+  private static final long SEGMENT_SIZE = 128 * 1024 * 1024L;
+
+  @Param({"64", "1024", "16384"})
+  public int recordSize;
+
+  private Path directory;
+  private CASDiskWriteAheadLog wal;
+  private byte[] payload;
+  private long unitId;
+
+  @Setup(Level.Iteration)
+  public void setup() throws IOException {
+    directory = new File(OBenchmarkDatabase.directory(), "walBenchmark").toPath();
+    OFileUtils.deleteRecursively(directory.toFile());
+    payload = new byte[recordSize];
+    new Random(42).nextBytes(payload);
+
+    wal =
+        new CASDiskWriteAheadLog(
+            "walBenchmark",
+            directory,
+            directory,
+            OGlobalConfiguration.WAL_CACHE_SIZE.getValueAsInteger(),
+            OGlobalConfiguration.WAL_BUFFER_SIZE.getValueAsInteger(),
+            null,
+            null,
+            Integer.MAX_VALUE,
+            SEGMENT_SIZE,
+            10,
+            true,
+            Locale.getDefault(),
+            -1,
+            -1,
+            OGlobalConfiguration.WAL_COMMIT_TIMEOUT.getValueAsInteger(),
+            false,
+            true,
+            false,
+            10);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    wal.delete();
+    OFileUtils.deleteRecursively(directory.toFile());
+  }
+
+  @Benchmark
+  public OLogSequenceNumber append() {
+    return wal.log(new OAtomicUnitStartMetadataRecord(false, unitId++, payload));
+  }
+
+  @Benchmark
+  public OLogSequenceNumber appendAndFlush() {
+    final OLogSequenceNumber lsn =
+        wal.log(new OAtomicUnitStartMetadataRecord(false, unitId++, payload));
+    wal.flush();
+    return lsn;
+  }
+}
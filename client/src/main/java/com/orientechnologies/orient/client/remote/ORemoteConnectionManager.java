@@ -27,6 +27,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OAcquireTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -84,7 +85,26 @@ public class ORemoteConnectionManager {
   }
 
   public OChannelBinaryAsynchClient acquire(
-      String iServerURL, final OContextConfiguration clientConfiguration) {
+      final String iServerURL, final OContextConfiguration clientConfiguration) {
+    return acquire(iServerURL, clientConfiguration, true);
+  }
+
+  /**
+   * Acquires a connection only if one is free, without waiting for the release of the others.
+   *
+   * @return the connection or null if all the connections of the pool are in use
+   */
+  public OChannelBinaryAsynchClient tryAcquire(
+      final String iServerURL, final OContextConfiguration clientConfiguration) {
+    try {
+      return acquire(iServerURL, clientConfiguration, false);
+    } catch (OAcquireTimeoutException e) {
+      return null;
+    }
+  }
+
+  private OChannelBinaryAsynchClient acquire(
+      String iServerURL, final OContextConfiguration clientConfiguration, final boolean wait) {
     if (iServerURL.startsWith(OEngineRemote.PREFIX))
       iServerURL = iServerURL.substring(OEngineRemote.PREFIX.length());
 
@@ -117,7 +137,8 @@ public class ORemoteConnectionManager {
 
     try {
       // RETURN THE RESOURCE
-      OChannelBinaryAsynchClient ret = pool.acquire(iServerURL, localTimeout, clientConfiguration);
+      OChannelBinaryAsynchClient ret =
+          pool.acquire(iServerURL, wait ? localTimeout : 0, clientConfiguration);
       ret.markInUse();
       return ret;
 
@@ -0,0 +1,104 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.client.remote;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OIOException;
+import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
+import com.orientechnologies.orient.client.remote.message.OQueryNextPageRequest;
+import com.orientechnologies.orient.client.remote.message.OQueryResponse;
+import java.io.IOException;
+
+/**
+ * Next page of a remote result set, requested while the application still consumes the current one.
+ * The request is written on a network channel that stays reserved to the result set until the
+ * response is read, so the server computes the page during the processing of the previous one
+ * instead of after a further round trip. Only one page is requested in advance: the server reports
+ * the end of the result only with the last page, and a request past it would fail as a query of an
+ * expired session. The number of channels reserved to prefetched pages is limited per storage.
+ *
+ * <p>The size of the requested pages follows the consumption rate: when the application waits for a
+ * page a significant part of the time elapsed since it was requested, the records are consumed
+ * faster than the server sends them and the next page is twice as large, up to the configured
+ * maximum.
+ */
+public class ORemotePagePrefetcher {
+  /** The page size grows when the wait is more than this fraction of the request time. */
+  private static final int WAIT_RATIO = 4;
+
+  private final OStorageRemote storage;
+  private final OChannelBinaryAsynchClient network;
+  private final OStorageRemoteSession session;
+  private final OQueryNextPageRequest request;
+  private final long requestedAt;
+  private long waited;
+  private long elapsed;
+
+  ORemotePagePrefetcher(
+      final OStorageRemote storage,
+      final OChannelBinaryAsynchClient network,
+      final OStorageRemoteSession session,
+      final OQueryNextPageRequest request) {
+    this.storage = storage;
+    this.network = network;
+    this.session = session;
+    this.request = request;
+    this.requestedAt = System.nanoTime();
+  }
+
+  /** Reads the requested page, waiting for it if the server did not send it yet. */
+  OQueryResponse await() {
+    final long start = System.nanoTime();
+    final OQueryResponse response = request.createResponse();
+    try {
+      try {
+        OStorageRemote.beginResponse(network, session);
+        response.read(network, session);
+      } finally {
+        storage.endResponse(network);
+      }
+    } catch (IOException e) {
+      storage.connectionManager.remove(network);
+      throw OException.wrapException(
+          new OIOException("Error on fetching next page for statement: " + request.getQueryId()),
+          e);
+    } catch (RuntimeException e) {
+      // ERROR SENT BY THE SERVER: THE RESPONSE HAS BEEN READ, SO THE CHANNEL CAN BE REUSED
+      storage.connectionManager.release(network);
+      throw e;
+    } finally {
+      storage.prefetches.decrementAndGet();
+    }
+    storage.connectionManager.release(network);
+
+    final long end = System.nanoTime();
+    waited = end - start;
+    elapsed = end - requestedAt;
+    return response;
+  }
+
+  /** Size of the page to request after the one read by {@link #await()}. */
+  int nextPageSize(final int maxPageSize) {
+    final int pageSize = request.getRecordsPerPage();
+    if (waited * WAIT_RATIO > elapsed && pageSize < maxPageSize)
+      return (int) Math.min(maxPageSize, pageSize * 2L);
+    return pageSize;
+  }
+}
@@ -215,6 +215,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   private final ExecutorService asynchExecutor;
   private final ODocument clusterConfiguration = new ODocument();
   private final AtomicInteger users = new AtomicInteger(0);
+  // CHANNELS RESERVED TO PAGES REQUESTED IN ADVANCE
+  final AtomicInteger prefetches = new AtomicInteger(0);
   private OContextConfiguration clientConfiguration;
   private int connectionRetry;
   private int connectionRetryDelay;
@@ -1101,6 +1103,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             response.isHasNextPage());
     if (response.isHasNextPage()) {
       stickToSession();
+      prefetchNextPage(db, rs, recordsPerPage);
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1127,6 +1130,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             response.isHasNextPage());
     if (response.isHasNextPage()) {
       stickToSession();
+      prefetchNextPage(db, rs, recordsPerPage);
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1153,6 +1157,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             response.isHasNextPage());
     if (response.isHasNextPage()) {
       stickToSession();
+      prefetchNextPage(db, rs, recordsPerPage);
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1179,6 +1184,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             response.isHasNextPage());
     if (response.isHasNextPage()) {
       stickToSession();
+      prefetchNextPage(db, rs, recordsPerPage);
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1269,6 +1275,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
     if (response.isHasNextPage()) {
       stickToSession();
+      prefetchNextPage(db, rs, recordsPerPage);
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1297,6 +1304,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             response.isHasNextPage());
     if (response.isHasNextPage()) {
       stickToSession();
+      prefetchNextPage(db, rs, recordsPerPage);
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1310,13 +1318,24 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   }
 
   public void fetchNextPage(ODatabaseDocumentRemote database, ORemoteResultSet rs) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
-    if (recordsPerPage <= 0) {
-      recordsPerPage = 100;
+    final ORemotePagePrefetcher prefetcher = rs.getPrefetcher();
+    final OQueryResponse response;
+    int recordsPerPage;
+    if (prefetcher != null) {
+      rs.setPrefetcher(null);
+      response = prefetcher.await();
+      recordsPerPage =
+          prefetcher.nextPageSize(
+              OGlobalConfiguration.QUERY_REMOTE_RESULTSET_MAX_PAGE_SIZE.getValueAsInteger());
+    } else {
+      recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
+      if (recordsPerPage <= 0) {
+        recordsPerPage = 100;
+      }
+      OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage);
+      response =
+          networkOperation(request, "Error on fetching next page for statment: " + rs.getQueryId());
     }
-    OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage);
-    OQueryResponse response =
-        networkOperation(request, "Error on fetching next page for statment: " + rs.getQueryId());
 
     rs.fetched(
         response.getResult(),
@@ -1326,7 +1345,110 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     if (!response.isHasNextPage()) {
       unstickToSession();
       database.queryClosed(response.getQueryId());
+    } else {
+      prefetchNextPage(database, rs, recordsPerPage);
+    }
+  }
+
+  /**
+   * Reads and drops the page requested in advance for a result set that is being closed, so the
+   * channel reserved to it can be reused. The query is closed on the server if that was the last
+   * page.
+   */
+  public void discardPrefetchedPage(ODatabaseDocumentRemote database, ORemoteResultSet rs) {
+    final ORemotePagePrefetcher prefetcher = rs.getPrefetcher();
+    if (prefetcher == null) return;
+
+    rs.setPrefetcher(null);
+    final OQueryResponse response;
+    try {
+      response = prefetcher.await();
+    } catch (OException e) {
+      // THE QUERY IS STILL CONSIDERED OPEN AND IS CLOSED WITH AN EXPLICIT REQUEST
+      OLogManager.instance()
+          .debug(this, "Error on reading the prefetched page of query %s", e, rs.getQueryId());
+      return;
+    }
+    rs.fetched(
+        response.getResult(),
+        response.isHasNextPage(),
+        response.getExecutionPlan(),
+        response.getQueryStats());
+    if (!response.isHasNextPage()) {
+      unstickToSession();
+      database.queryClosed(response.getQueryId());
+    }
+  }
+
+  /**
+   * Requests the next page of the result set without waiting for the response, see {@link
+   * ORemotePagePrefetcher}. Pages are not requested in advance inside of a transaction, because
+   * they have to reflect the changes sent with the request of every page. The page is not requested
+   * either when no channel of the pool is free or when the configured number of channels is already
+   * reserved to prefetched pages, so result sets that are not closed cannot exhaust the pool.
+   */
+  private void prefetchNextPage(
+      final ODatabaseDocumentRemote database, final ORemoteResultSet rs, final int recordsPerPage) {
+    if (!OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH.getValueAsBoolean()
+        || database.getTransaction().isActive()) return;
+
+    if (prefetches.incrementAndGet()
+        > OGlobalConfiguration.QUERY_REMOTE_RESULTSET_MAX_PREFETCHES.getValueAsInteger()) {
+      prefetches.decrementAndGet();
+      return;
+    }
+
+    final ORemotePagePrefetcher prefetcher = requestNextPage(rs, recordsPerPage);
+    if (prefetcher == null) {
+      prefetches.decrementAndGet();
+      return;
+    }
+    rs.setPrefetcher(prefetcher);
+  }
+
+  private ORemotePagePrefetcher requestNextPage(
+      final ORemoteResultSet rs, final int recordsPerPage) {
+    final OStorageRemoteSession session = getCurrentSession();
+    final String serverUrl = getNextAvailableServerURL(false, session);
+    final OChannelBinaryAsynchClient network;
+    try {
+      network = connectionManager.tryAcquire(serverUrl, clientConfiguration);
+    } catch (OException e) {
+      // THE PAGE IS REQUESTED AGAIN WHEN IT IS NEEDED, THAT REPORTS THE ERROR IF IT PERSISTS
+      OLogManager.instance()
+          .debug(this, "Error on requesting the next page of query %s", e, rs.getQueryId());
+      return null;
+    }
+    if (network == null) return null;
+
+    if (!network.tryLock()) {
+      connectionManager.remove(network);
+      return null;
+    }
+
+    final OStorageRemoteNodeSession nodeSession = session.getServerSession(network.getServerURL());
+    if (nodeSession == null || !nodeSession.isValid()) {
+      connectionManager.release(network);
+      return null;
+    }
+
+    final OQueryNextPageRequest request =
+        new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage);
+    try {
+      try {
+        network.beginRequest(request.getCommand(), session);
+        request.write(network, session);
+      } finally {
+        network.endRequest();
+      }
+    } catch (IOException e) {
+      OLogManager.instance()
+          .debug(this, "Error on requesting the next page of query %s", e, rs.getQueryId());
+      connectionManager.remove(network);
+      return null;
     }
+    // THE CHANNEL IS RELEASED AFTER THE RESPONSE IS READ
+    return new ORemotePagePrefetcher(this, network, session, request);
   }
 
   public List<ORecordOperation> commit(final OTransactionInternal iTx) {
@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.client.remote.message;
 
+import com.orientechnologies.orient.client.remote.ORemotePagePrefetcher;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentRemote;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
@@ -19,6 +20,7 @@ public class ORemoteResultSet implements OResultSet {
   private Optional<OExecutionPlan> executionPlan;
   private Map<String, Long> queryStats;
   private boolean hasNextPage;
+  private ORemotePagePrefetcher prefetcher;
 
   public ORemoteResultSet(
       ODatabaseDocumentRemote db,
@@ -83,6 +85,9 @@ public class ORemoteResultSet implements OResultSet {
 
   @Override
   public void close() {
+    if (prefetcher != null && db != null) {
+      db.discardPrefetchedPage(this);
+    }
     if (hasNextPage && db != null) {
       // CLOSES THE QUERY SERVER SIDE ONLY IF THERE IS ANOTHER PAGE. THE SERVER ALREADY
       // AUTOMATICALLY CLOSES THE QUERY AFTER SENDING THE LAST PAGE
@@ -112,6 +117,15 @@ public class ORemoteResultSet implements OResultSet {
     return queryId;
   }
 
+  /** Returns the request of the next page sent in advance, if any. */
+  public ORemotePagePrefetcher getPrefetcher() {
+    return prefetcher;
+  }
+
+  public void setPrefetcher(ORemotePagePrefetcher prefetcher) {
+    this.prefetcher = prefetcher;
+  }
+
   public void fetched(
       List<OResultInternal> result,
       boolean hasNextPage,
@@ -466,6 +466,10 @@ public class ODatabaseDocumentRemote extends ODatabaseDocumentAbstract {
     storage.fetchNextPage(this, rs);
   }
 
+  public void discardPrefetchedPage(ORemoteResultSet rs) {
+    storage.discardPrefetchedPage(this, rs);
+  }
+
   @Override
   public OLiveQueryMonitor live(String query, OLiveQueryResultListener listener, Object... args) {
     return storage.liveQuery(
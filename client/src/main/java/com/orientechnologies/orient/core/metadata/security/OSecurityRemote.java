@@ -11,6 +11,7 @@ import com.orientechnologies.orient.core.metadata.security.auth.OAuthenticationI
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -357,6 +358,11 @@ public class OSecurityRemote implements OSecurityInternal {
     return false;
   }
 
+  @Override
+  public OBooleanExpression getReadPredicateForQuery(ODatabaseSession session, OClass clazz) {
+    return null;
+  }
+
   @Override
   public Set<OSecurityResourceProperty> getAllFilteredProperties(
       ODatabaseDocumentInternal database) {
@@ -19,13 +19,17 @@
  */
 package com.orientechnologies.common.directmemory;
 
+import com.kenai.jffi.Platform;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -35,6 +39,10 @@ import java.util.concurrent.atomic.AtomicReference;
  * by other parts of the code. All <code>DirectByteBuffer</code> objects have the same size which is
  * specified in objects constructor as "page size".
  *
+ * <p>If size of memory arena is set, pages are not allocated one by one but are cut from big memory
+ * arenas, which may be backed by transparent huge pages on Linux, to decrease fragmentation of
+ * memory and amount of TLB misses.
+ *
  * @see ODirectMemoryAllocator
  */
 public final class OByteBufferPool implements OByteBufferPoolMXBean {
@@ -48,6 +56,9 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    */
   private static final AtomicReference<OByteBufferPool> INSTANCE_HOLDER = new AtomicReference<>();
 
+  /** Size of the huge page on the platforms which support transparent huge pages. */
+  private static final int HUGE_PAGE_SIZE = 2 * 1024 * 1024;
+
   /** Limit of direct memory pointers are hold inside of the pool */
   private final int poolSize;
 
@@ -84,8 +95,14 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
   private final ConcurrentHashMap<OPointer, PointerTracker> pointerMapping =
       new ConcurrentHashMap<>();
 
-  /** Pool of already allocated pages. */
-  private final ConcurrentLinkedQueue<OPointer> pointersPool = new ConcurrentLinkedQueue<>();
+  /**
+   * Pool of already allocated pages. Pool is split in several stripes, each thread puts and takes
+   * pages from its own stripe first, so threads do not compete on the head of a single queue.
+   */
+  private final ConcurrentLinkedQueue<OPointer>[] pointersPool;
+
+  /** Mask used to calculate index of the stripe of the pool by the thread id. */
+  private final int stripeMask;
 
   /**
    * Size of the pool of pages is kept in separate counter because it is slow to ask pool itself and
@@ -96,14 +113,55 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
   /** Direct memory allocator. */
   private final ODirectMemoryAllocator allocator;
 
+  /** Maximum size of a memory arena in bytes, a multiple of the size of huge pages. */
+  static final int MAX_ARENA_SIZE = 1024 * 1024 * 1024;
+
+  /** Size of single memory arena in bytes, or 0 if pages are allocated one by one. */
+  private final int arenaSize;
+
+  /** Whether memory of arenas should be backed by transparent huge pages. */
+  private final boolean hugePages;
+
+  /** All arenas allocated by this pool. */
+  private final List<OPageArena> arenas = new CopyOnWriteArrayList<>();
+
+  /** Arena new pages are cut from. */
+  private volatile OPageArena currentArena;
+
+  private final Object arenaLock = new Object();
+
   /**
    * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by
    *     pool.
    */
   public OByteBufferPool(int pageSize) {
-    this.pageSize = pageSize;
-    this.allocator = ODirectMemoryAllocator.instance();
-    this.poolSize = OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger();
+    this(
+        pageSize,
+        ODirectMemoryAllocator.instance(),
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger(),
+        arenaSizeInBytes(OGlobalConfiguration.DIRECT_MEMORY_POOL_ARENA_SIZE.getValueAsInteger()),
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_HUGE_PAGES.getValueAsBoolean());
+  }
+
+  /**
+   * Converts the arena size setting from megabytes to bytes. A single allocation is limited to an
+   * <code>int</code> size, so arenas are capped at {@link #MAX_ARENA_SIZE} bytes.
+   */
+  static int arenaSizeInBytes(int megabytes) {
+    if (megabytes <= 0) {
+      return 0;
+    }
+    final long bytes = megabytes * 1024L * 1024;
+    if (bytes > MAX_ARENA_SIZE) {
+      OLogManager.instance()
+          .warnNoDb(
+              OByteBufferPool.class,
+              "Size of direct memory arenas %d MB is too big, %d MB is used instead",
+              megabytes,
+              MAX_ARENA_SIZE / 1024 / 1024);
+      return MAX_ARENA_SIZE;
+    }
+    return (int) bytes;
   }
 
   /**
@@ -113,9 +171,43 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * @param poolSize Size of the page pool
    */
   public OByteBufferPool(int pageSize, ODirectMemoryAllocator allocator, int poolSize) {
+    this(pageSize, allocator, poolSize, 0, false);
+  }
+
+  /**
+   * @param allocator Direct memory allocator to use.
+   * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by
+   *     pool.
+   * @param poolSize Size of the page pool
+   * @param arenaSize Size of memory arenas in bytes pages are cut from, if it is less than two
+   *     pages then each page is allocated separately.
+   * @param hugePages Whether memory of arenas should be backed by transparent huge pages.
+   */
+  @SuppressWarnings("unchecked")
+  public OByteBufferPool(
+      int pageSize,
+      ODirectMemoryAllocator allocator,
+      int poolSize,
+      int arenaSize,
+      boolean hugePages) {
     this.pageSize = pageSize;
     this.allocator = allocator;
     this.poolSize = poolSize;
+    this.hugePages = hugePages;
+
+    if (arenaSize / pageSize > 1) {
+      // ARENA SHOULD CONTAIN WHOLE NUMBER OF PAGES
+      this.arenaSize = (arenaSize / pageSize) * pageSize;
+    } else {
+      this.arenaSize = 0;
+    }
+
+    final int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+    this.stripeMask = stripes - 1;
+    this.pointersPool = new ConcurrentLinkedQueue[stripes];
+    for (int i = 0; i < stripes; i++) {
+      pointersPool[i] = new ConcurrentLinkedQueue<>();
+    }
   }
 
   /**
@@ -126,13 +218,17 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * @return Direct memory buffer instance.
    */
   public final OPointer acquireDirect(boolean clear) {
-    OPointer pointer;
-
-    pointer = pointersPool.poll();
+    OPointer pointer = pollPooledPointer();
 
     if (pointer != null) {
       pointersPoolSize.decrementAndGet();
 
+      if (clear) {
+        pointer.clear();
+      }
+    } else if (arenaSize > 0) {
+      pointer = allocateFromArena();
+
       if (clear) {
         pointer.clear();
       }
@@ -140,6 +236,11 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
       pointer = allocator.allocate(pageSize, -1, clear);
     }
 
+    final OPageArena arena = pointer.getArena();
+    if (arena != null) {
+      arena.pageAcquired();
+    }
+
     pointer.getNativeByteBuffer().position(0);
 
     if (TRACK) {
@@ -160,13 +261,84 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
       pointerMapping.remove(pointer);
     }
 
+    final OPageArena arena = pointer.getArena();
+    if (arena != null) {
+      arena.pageReleased();
+    }
+
     long poolSize = pointersPoolSize.incrementAndGet();
-    if (poolSize > this.poolSize) {
+    if (poolSize > this.poolSize && arena == null) {
       pointersPoolSize.decrementAndGet();
       allocator.deallocate(pointer);
     } else {
-      pointersPool.add(pointer);
+      // PAGES OF ARENAS CAN NOT BE RETURNED TO THE OS ONE BY ONE SO THEY ARE ALWAYS POOLED
+      pointersPool[stripeIndex()].add(pointer);
+    }
+  }
+
+  private OPointer pollPooledPointer() {
+    final int stripe = stripeIndex();
+
+    OPointer pointer = pointersPool[stripe].poll();
+    if (pointer != null) {
+      return pointer;
+    }
+
+    // STEAL PAGE FROM THE OTHER STRIPES
+    for (int i = 1; i <= stripeMask; i++) {
+      pointer = pointersPool[(stripe + i) & stripeMask].poll();
+      if (pointer != null) {
+        return pointer;
+      }
     }
+
+    return null;
+  }
+
+  private int stripeIndex() {
+    return (int) Thread.currentThread().getId() & stripeMask;
+  }
+
+  private OPointer allocateFromArena() {
+    OPageArena arena = currentArena;
+    if (arena != null) {
+      final OPointer pointer = arena.nextPage();
+      if (pointer != null) {
+        return pointer;
+      }
+    }
+
+    synchronized (arenaLock) {
+      while (true) {
+        arena = currentArena;
+        if (arena != null) {
+          final OPointer pointer = arena.nextPage();
+          if (pointer != null) {
+            return pointer;
+          }
+        }
+
+        currentArena = allocateArena();
+      }
+    }
+  }
+
+  private OPageArena allocateArena() {
+    final boolean adviseHugePages =
+        hugePages
+            && Platform.getPlatform().getOS() == Platform.OS.LINUX
+            && arenaSize % HUGE_PAGE_SIZE == 0;
+
+    final OPointer memory =
+        allocator.allocate(arenaSize, adviseHugePages ? HUGE_PAGE_SIZE : -1, false);
+    if (adviseHugePages) {
+      allocator.adviseHugePages(memory);
+    }
+
+    final OPageArena arena = new OPageArena(memory, pageSize);
+    arenas.add(arena);
+
+    return arena;
   }
 
   /** @inheritDoc */
@@ -175,6 +347,56 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
     return pointersPoolSize.get();
   }
 
+  /** @inheritDoc */
+  @Override
+  public int getArenaCount() {
+    return arenas.size();
+  }
+
+  /** @inheritDoc */
+  @Override
+  public long getArenaPagesCapacity() {
+    long capacity = 0;
+    for (OPageArena arena : arenas) {
+      capacity += arena.getPageCount();
+    }
+    return capacity;
+  }
+
+  /** @inheritDoc */
+  @Override
+  public long getArenaPagesAllocated() {
+    long allocated = 0;
+    for (OPageArena arena : arenas) {
+      allocated += arena.getPagesAllocated();
+    }
+    return allocated;
+  }
+
+  /** @inheritDoc */
+  @Override
+  public long getArenaPagesInUse() {
+    long inUse = 0;
+    for (OPageArena arena : arenas) {
+      inUse += arena.getPagesInUse();
+    }
+    return inUse;
+  }
+
+  /** @inheritDoc */
+  @Override
+  public int[] getArenasOccupancy() {
+    final List<OPageArena> arenas = new ArrayList<>(this.arenas);
+    final int[] occupancy = new int[arenas.size()];
+
+    for (int i = 0; i < occupancy.length; i++) {
+      final OPageArena arena = arenas.get(i);
+      occupancy[i] = (int) (arena.getPagesInUse() * 100L / arena.getPageCount());
+    }
+
+    return occupancy;
+  }
+
   /** Checks whether there are not released buffers in the pool */
   public void checkMemoryLeaks() {
     boolean detected = false;
@@ -195,18 +417,34 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
 
   /** Clears pool and dealocates memory. */
   public void clear() {
-    for (OPointer pointer : pointersPool) {
-      allocator.deallocate(pointer);
+    for (ConcurrentLinkedQueue<OPointer> stripe : pointersPool) {
+      for (OPointer pointer : stripe) {
+        if (pointer.getArena() == null) {
+          allocator.deallocate(pointer);
+        }
+      }
+
+      stripe.clear();
     }
 
-    pointersPool.clear();
     pointersPoolSize.set(0);
 
     for (OPointer pointer : pointerMapping.keySet()) {
-      allocator.deallocate(pointer);
+      if (pointer.getArena() == null) {
+        allocator.deallocate(pointer);
+      }
     }
 
     pointerMapping.clear();
+
+    synchronized (arenaLock) {
+      for (OPageArena arena : arenas) {
+        allocator.deallocate(arena.getMemory());
+      }
+
+      arenas.clear();
+      currentArena = null;
+    }
   }
 
   /** Holder which contains if memory tracking is enabled stack trace for the first allocation. */
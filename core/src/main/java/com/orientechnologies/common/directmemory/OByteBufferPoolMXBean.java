@@ -26,4 +26,19 @@ package com.orientechnologies.common.directmemory;
 public interface OByteBufferPoolMXBean {
   /** @return Current size of the memory pool */
   int getPoolSize();
+
+  /** @return Amount of memory arenas pages are cut from */
+  int getArenaCount();
+
+  /** @return Amount of pages which can be cut from all memory arenas */
+  long getArenaPagesCapacity();
+
+  /** @return Amount of pages which were cut from memory arenas, used or kept inside of the pool */
+  long getArenaPagesAllocated();
+
+  /** @return Amount of pages of memory arenas which are in use */
+  long getArenaPagesInUse();
+
+  /** @return Percent of pages in use for every memory arena */
+  int[] getArenasOccupancy();
 }
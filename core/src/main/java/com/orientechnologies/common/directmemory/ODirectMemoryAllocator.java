@@ -23,6 +23,8 @@ package com.orientechnologies.common.directmemory;
 import com.kenai.jffi.MemoryIO;
 import com.kenai.jffi.Platform;
 import com.orientechnologies.common.exception.ODirectMemoryAllocationFailedException;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.OCLibrary;
 import com.orientechnologies.common.jnr.ONative;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
@@ -32,6 +34,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import jnr.ffi.NativeLong;
@@ -81,6 +84,12 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
   /** Amount of direct memory consumed by using this allocator. */
   private final LongAdder memoryConsumption = new LongAdder();
 
+  /** Amount of direct memory which is advised to be backed by transparent huge pages. */
+  private final LongAdder hugePagesMemoryConsumption = new LongAdder();
+
+  /** Addresses of memory chunks advised to be backed by transparent huge pages. */
+  private final Set<Long> hugePages = ConcurrentHashMap.newKeySet();
+
   private final boolean isLinux = Platform.getPlatform().getOS() == Platform.OS.LINUX;
 
   /** @return singleton instance. */
@@ -143,6 +152,33 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     return track(ptr);
   }
 
+  /**
+   * Advises OS to back memory of passed in pointer by transparent huge pages. Memory should be
+   * aligned to the size of huge page to get benefit from this call.
+   *
+   * @return <code>true</code> if advice was accepted, <code>false</code> if platform does not
+   *     support transparent huge pages.
+   */
+  public boolean adviseHugePages(OPointer pointer) {
+    if (!isLinux) {
+      return false;
+    }
+
+    try {
+      ONative.instance()
+          .madvise(pointer.getNativePointer(), pointer.getSize(), OCLibrary.MADV_HUGEPAGE);
+    } catch (LastErrorException e) {
+      OLogManager.instance()
+          .warnNoDb(
+              this, "Transparent huge pages are not supported (error code %d)", e.getErrorCode());
+      return false;
+    }
+
+    hugePages.add(pointer.getNativePointer());
+    hugePagesMemoryConsumption.add(pointer.getSize());
+    return true;
+  }
+
   /** Returns allocated direct memory back to OS */
   public void deallocate(OPointer pointer) {
     if (pointer == null) {
@@ -153,6 +189,9 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     if (ptr > 0) {
       MemoryIO.getInstance().freeMemory(ptr);
       memoryConsumption.add(-pointer.getSize());
+      if (!hugePages.isEmpty() && hugePages.remove(ptr)) {
+        hugePagesMemoryConsumption.add(-pointer.getSize());
+      }
       untrack(pointer);
     }
   }
@@ -163,6 +202,12 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     return memoryConsumption.longValue();
   }
 
+  /** @inheritDoc */
+  @Override
+  public long getHugePagesMemoryConsumption() {
+    return hugePagesMemoryConsumption.longValue();
+  }
+
   /** Verifies that all pointers which were allocated by allocator are freed. */
   public void checkMemoryLeaks() {
     if (TRACK) {
@@ -23,4 +23,7 @@ package com.orientechnologies.common.directmemory;
 public interface ODirectMemoryAllocatorMXBean {
   /** @return Amount of direct memory allocated using this allocator */
   long getMemoryConsumption();
+
+  /** @return Amount of direct memory advised to be backed by transparent huge pages */
+  long getHugePagesMemoryConsumption();
 }
@@ -0,0 +1,88 @@
+/*
+ *
+ *  *  Copyright 2015 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.common.directmemory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Big chunk of direct memory which is cut in pages of the same size. Pages are handed out by
+ * bumping an index, they are never returned to the arena but are reused through the pool of {@link
+ * OByteBufferPool}. Memory of the arena is released at once, when the pool is cleared.
+ *
+ * @see OByteBufferPool
+ */
+final class OPageArena {
+  /** Memory of the whole arena. */
+  private final OPointer memory;
+
+  private final int pageSize;
+  private final int pageCount;
+
+  /** Index of the next page which was never handed out. */
+  private final AtomicInteger nextPage = new AtomicInteger();
+
+  /** Amount of pages of this arena which are acquired and not released back to the pool. */
+  private final AtomicInteger pagesInUse = new AtomicInteger();
+
+  OPageArena(OPointer memory, int pageSize) {
+    this.memory = memory;
+    this.pageSize = pageSize;
+    this.pageCount = memory.getSize() / pageSize;
+  }
+
+  /** @return New page cut from the arena or <code>null</code> if arena is exhausted. */
+  OPointer nextPage() {
+    while (true) {
+      final int index = nextPage.get();
+      if (index >= pageCount) {
+        return null;
+      }
+
+      if (nextPage.compareAndSet(index, index + 1)) {
+        return new OPointer(memory.getNativePointer() + (long) index * pageSize, pageSize, this);
+      }
+    }
+  }
+
+  void pageAcquired() {
+    pagesInUse.incrementAndGet();
+  }
+
+  void pageReleased() {
+    pagesInUse.decrementAndGet();
+  }
+
+  OPointer getMemory() {
+    return memory;
+  }
+
+  int getPageCount() {
+    return pageCount;
+  }
+
+  /** @return Amount of pages which were cut from the arena, used or kept inside of the pool. */
+  int getPagesAllocated() {
+    return Math.min(nextPage.get(), pageCount);
+  }
+
+  int getPagesInUse() {
+    return pagesInUse.get();
+  }
+}
@@ -10,12 +10,20 @@ public final class OPointer {
   private final long pointer;
   private final int size;
 
+  /** Arena this page was cut from, or <code>null</code> if memory was allocated separately. */
+  private final OPageArena arena;
+
   private WeakReference<ByteBuffer> byteBuffer;
   private int hash = 0;
 
   OPointer(long pointer, int size) {
+    this(pointer, size, null);
+  }
+
+  OPointer(long pointer, int size, OPageArena arena) {
     this.pointer = pointer;
     this.size = size;
+    this.arena = arena;
   }
 
   public void clear() {
@@ -46,6 +54,10 @@ public final class OPointer {
     return size;
   }
 
+  OPageArena getArena() {
+    return arena;
+  }
+
   private ByteBuffer createNativeBuffer() {
     return MemoryIO.getInstance().newDirectByteBuffer(pointer, size).order(ByteOrder.nativeOrder());
   }
@@ -14,11 +14,16 @@ public interface OCLibrary {
   /** Denotes no limit on a resource. */
   int RLIM_INFINITY = 0;
 
+  /** Enables transparent huge pages for the advised range of memory. */
+  int MADV_HUGEPAGE = 14;
+
   int fallocate(int fd, int mode, long offset, long len) throws LastErrorException;
 
   int posix_memalign(PointerByReference memptr, NativeLong alignment, NativeLong size)
       throws LastErrorException;
 
+  int madvise(long addr, NativeLong length, int advice) throws LastErrorException;
+
   int getpagesize() throws LastErrorException;
 
   int pathconf(String path, int name) throws LastErrorException;
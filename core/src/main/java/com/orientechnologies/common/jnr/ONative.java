@@ -333,6 +333,13 @@ public class ONative {
     }
   }
 
+  public void madvise(long addr, long length, int advice) throws LastErrorException {
+    final int res = C_LIBRARY.madvise(addr, new NativeLong(length), advice);
+    if (res != 0) {
+      checkLastError();
+    }
+  }
+
   public int getpagesize() throws LastErrorException {
     return C_LIBRARY.getpagesize();
   }
@@ -0,0 +1,381 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyList;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMap;
+import com.orientechnologies.orient.core.db.record.OTrackedList;
+import com.orientechnologies.orient.core.db.record.OTrackedMap;
+import com.orientechnologies.orient.core.db.record.OTrackedSet;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.storage.cache.chm.FrequencySketch;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Second level record cache, shared by all the sessions of a storage. It keeps deserialized images
+ * of documents, keyed by RID and version, so sessions which read the same records get a copy of the
+ * image instead of deserializing the record again.
+ *
+ * <p>Images are never modified once cached, sessions always work on copies. The version is checked
+ * on every lookup, so an image of an old version of the record is never returned even if it was not
+ * invalidated yet. Images are invalidated when records are updated or deleted only to release the
+ * memory earlier.
+ *
+ * <p>The size of the cache is bounded by the serialized size of the records. Eviction follows the
+ * Window TinyLFU policy (https://arxiv.org/pdf/1512.00727.pdf) used by the read cache: new images
+ * enter the eden, images which leave the eden are admitted in the main space only if they are
+ * accessed more frequently than the victim they would replace. Accesses are recorded on a best
+ * effort basis, they are skipped if the policy is busy.
+ */
+public final class OSharedRecordCache {
+  private static final int EDEN_PERCENT = 20;
+  private static final int PROBATIONARY_PERCENT = 20;
+
+  /** Average size of a record, used to size the frequency sketch. */
+  private static final int AVERAGE_RECORD_SIZE = 256;
+
+  private final long maxWeight;
+  private final long maxEdenWeight;
+  private final long maxProtectedWeight;
+
+  private final ConcurrentHashMap<ORID, Image> images = new ConcurrentHashMap<>();
+
+  /** Lock of the eviction policy, all the fields below are guarded by it. */
+  private final ReentrantLock policyLock = new ReentrantLock();
+
+  private final FrequencySketch admittor = new FrequencySketch();
+
+  private final LinkedHashMap<ORID, Image> eden = new LinkedHashMap<>();
+  private final LinkedHashMap<ORID, Image> probation = new LinkedHashMap<>();
+  private final LinkedHashMap<ORID, Image> protection = new LinkedHashMap<>();
+
+  private long edenWeight;
+  private long probationWeight;
+  private long protectedWeight;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /** @param maxWeight Maximum amount of bytes of serialized records kept by the cache. */
+  public OSharedRecordCache(final long maxWeight) {
+    this.maxWeight = maxWeight;
+    this.maxEdenWeight = maxWeight * EDEN_PERCENT / 100;
+    this.maxProtectedWeight = (maxWeight - maxEdenWeight) * (100 - PROBATIONARY_PERCENT) / 100;
+
+    admittor.ensureCapacity(Math.max(1, maxWeight / AVERAGE_RECORD_SIZE));
+  }
+
+  /**
+   * Looks up the image of a record and copies it in the passed document.
+   *
+   * @return <code>true</code> if the requested version of the record was cached and copied
+   */
+  public boolean copyTo(final ORID rid, final int version, final ODocument destination) {
+    final Image image = images.get(rid);
+    if (image == null || image.version != version) {
+      misses.increment();
+      recordAccess(rid, null);
+      return false;
+    }
+
+    hits.increment();
+    recordAccess(rid, image);
+
+    image.document.copyTo(destination);
+    reown(destination);
+    return true;
+  }
+
+  /**
+   * Tells if an image of a record which was not found should be cached. Records are cached only on
+   * the second access, so scans of records which are read once don't pay for the image.
+   */
+  public boolean shouldCache(final ORID rid, final int weight) {
+    return weight <= maxEdenWeight && admittor.frequency(rid.hashCode()) > 1;
+  }
+
+  /**
+   * Puts the image of a record in the cache. The document must be fully deserialized and must not
+   * be used by anyone else after this call.
+   *
+   * @param weight serialized size of the record
+   */
+  public void put(final ODocument document, final int weight) {
+    if (!isShareable(document)) {
+      return;
+    }
+
+    final ORID rid = document.getIdentity().copy();
+    final Image image = new Image(rid, document.getVersion(), document, weight);
+
+    policyLock.lock();
+    try {
+      final Image old = images.put(rid, image);
+      if (old != null) {
+        removeFromPolicy(old);
+      }
+
+      eden.put(rid, image);
+      edenWeight += weight;
+      purgeEden();
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  /** Removes the image of a record, if any. */
+  public void invalidate(final ORID rid) {
+    if (!images.containsKey(rid)) {
+      return;
+    }
+
+    policyLock.lock();
+    try {
+      final Image image = images.remove(rid);
+      if (image != null) {
+        removeFromPolicy(image);
+      }
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  /** Removes all the images. */
+  public void clear() {
+    policyLock.lock();
+    try {
+      images.clear();
+      eden.clear();
+      probation.clear();
+      protection.clear();
+
+      edenWeight = 0;
+      probationWeight = 0;
+      protectedWeight = 0;
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  public int getSize() {
+    return images.size();
+  }
+
+  public long getWeight() {
+    policyLock.lock();
+    try {
+      return edenWeight + probationWeight + protectedWeight;
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Copies of an image share with it all the values which are not copied by {@link
+   * ODocument#copy()}, so only documents made of immutable values, links and collections of them
+   * can be cached. Embedded documents are copied, link sets and maps, RidBags and loaded records
+   * are not.
+   */
+  private static boolean isShareable(final ODocument document) {
+    for (String field : document.fieldNames()) {
+      if (!isShareable(document.rawField(field), true)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isShareable(final Object value, final boolean field) {
+    if (value == null
+        || value instanceof String
+        || value instanceof Number
+        || value instanceof Boolean
+        || value instanceof Character
+        || value instanceof Date
+        || value instanceof ORecordId) {
+      return true;
+    }
+
+    if (!field) {
+      return false;
+    }
+
+    if (value instanceof ODocument) {
+      return ((ODocument) value).isEmbedded() && isShareable((ODocument) value);
+    }
+    if (value instanceof ORecordLazyList) {
+      for (Iterator<OIdentifiable> it = ((ORecordLazyList) value).rawIterator(); it.hasNext(); ) {
+        if (!(it.next() instanceof ORecordId)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (value instanceof OTrackedList
+        || value instanceof OTrackedSet
+        || value instanceof OTrackedMap && !(value instanceof ORecordLazyMap)) {
+      final Collection<?> items =
+          value instanceof Map ? ((Map<?, ?>) value).values() : (Collection<?>) value;
+      for (Object item : items) {
+        if (!isShareable(item, false)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  /** Copied embedded documents still point to the owner of the image. */
+  private static void reown(final ODocument copy) {
+    for (String field : copy.fieldNames()) {
+      final Object value = copy.rawField(field);
+      if (value instanceof ODocument) {
+        ODocumentInternal.addOwner((ODocument) value, copy);
+        reown((ODocument) value);
+      }
+    }
+  }
+
+  private void recordAccess(final ORID rid, final Image image) {
+    if (!policyLock.tryLock()) {
+      return;
+    }
+
+    try {
+      admittor.increment(rid.hashCode());
+      if (image == null || images.get(rid) != image) {
+        return;
+      }
+
+      if (probation.remove(rid) != null) {
+        probationWeight -= image.weight;
+        protection.put(rid, image);
+        protectedWeight += image.weight;
+
+        while (protectedWeight > maxProtectedWeight) {
+          final Image demoted = poll(protection);
+          protectedWeight -= demoted.weight;
+          probation.put(demoted.rid, demoted);
+          probationWeight += demoted.weight;
+        }
+      } else if (protection.remove(rid) != null) {
+        protection.put(rid, image);
+      } else if (eden.remove(rid) != null) {
+        eden.put(rid, image);
+      }
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  private void purgeEden() {
+    while (edenWeight > maxEdenWeight) {
+      final Image candidate = poll(eden);
+      edenWeight -= candidate.weight;
+
+      probation.put(candidate.rid, candidate);
+      probationWeight += candidate.weight;
+
+      // THE CANDIDATE COMPETES WITH THE OLDEST IMAGES OF THE MAIN SPACE UNTIL IT FITS
+      while (edenWeight + probationWeight + protectedWeight > maxWeight) {
+        Image victim = peek(probation);
+        if (victim == candidate) {
+          victim = peek(protection);
+        }
+
+        if (victim == null
+            || admittor.frequency(candidate.rid.hashCode())
+                < admittor.frequency(victim.rid.hashCode())) {
+          evict(candidate);
+          break;
+        }
+
+        evict(victim);
+      }
+    }
+  }
+
+  private void evict(final Image image) {
+    images.remove(image.rid, image);
+    removeFromPolicy(image);
+  }
+
+  private void removeFromPolicy(final Image image) {
+    if (eden.remove(image.rid, image)) {
+      edenWeight -= image.weight;
+    } else if (probation.remove(image.rid, image)) {
+      probationWeight -= image.weight;
+    } else if (protection.remove(image.rid, image)) {
+      protectedWeight -= image.weight;
+    }
+  }
+
+  private static Image peek(final LinkedHashMap<ORID, Image> segment) {
+    final Iterator<Image> iterator = segment.values().iterator();
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  private static Image poll(final LinkedHashMap<ORID, Image> segment) {
+    final Iterator<Image> iterator = segment.values().iterator();
+    final Image image = iterator.next();
+    iterator.remove();
+    return image;
+  }
+
+  private static final class Image {
+    private final ORID rid;
+    private final int version;
+    private final ODocument document;
+    private final int weight;
+
+    private Image(final ORID rid, final int version, final ODocument document, final int weight) {
+      this.rid = rid;
+      this.version = version;
+      this.document = document;
+      this.weight = weight;
+    }
+  }
+}
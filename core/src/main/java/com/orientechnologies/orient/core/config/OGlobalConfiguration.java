@@ -129,6 +129,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       Integer.MAX_VALUE),
 
+  DIRECT_MEMORY_POOL_ARENA_SIZE(
+      "memory.pool.arenaSize",
+      "Size in megabytes of the memory arenas the pages of the direct memory pool are cut from. "
+          + "Pages cut from arenas are never returned to the OS one by one, so the pool limit does not apply to them. "
+          + "Arenas are at most 1024 megabytes. 0 means that every page is allocated separately",
+      Integer.class,
+      0),
+
+  DIRECT_MEMORY_POOL_HUGE_PAGES(
+      "memory.pool.transparentHugePages",
+      "Indicates whether memory arenas of the direct memory pool should be backed by transparent huge pages "
+          + "(Linux only, see memory.pool.arenaSize)",
+      Boolean.class,
+      true),
+
   DIRECT_MEMORY_PREALLOCATE(
       "memory.directMemory.preallocate",
       "Preallocate amount of direct memory which is needed for the disk cache",
@@ -568,6 +583,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_RESTORE_THREADS(
+      "storage.wal.restore.threads",
+      "Amount of threads which apply page changes during a restore of data from WAL. "
+          + "Changes of the same page are always applied by the same thread, in the order they were logged. "
+          + "1 means that changes are applied by the thread which reads WAL",
+      Integer.class,
+      Math.min(8, Runtime.getRuntime().availableProcessors())),
+
   @Deprecated
   WAL_READ_CACHE_SIZE(
       "storage.wal.readCacheSize",
@@ -662,6 +685,20 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       16),
 
+  PAGINATED_STORAGE_COMPACTION_BATCH_SIZE(
+      "storage.cluster.compaction.batchSize",
+      "Amount of records which are moved by the online compaction of a cluster "
+          + "inside of a single atomic operation",
+      Integer.class,
+      100),
+
+  PAGINATED_STORAGE_COMPACTION_THROTTLE(
+      "storage.cluster.compaction.throttle",
+      "Pause (in ms) of the online compaction of a cluster between batches of moved records, "
+          + "it limits the impact of the compaction on the latency of other operations",
+      Integer.class,
+      10),
+
   STORAGE_LOCK_TIMEOUT(
       "storage.lockTimeout",
       "Maximum amount of time (in ms) to lock the storage",
@@ -701,6 +738,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   DOCUMENT_BINARY_MAPPING(
       "document.binaryMapping", "Mapping approach for binary fields", Integer.class, 0),
 
+  DOCUMENT_BLOB_CHUNK_SIZE(
+      "document.blobChunkSize",
+      "Size (in KB) of the chunks of the large binary objects written as streams. "
+          + "Chunks which fit in a single page of the cluster are read faster",
+      Integer.class,
+      60),
+
   // DATABASE
   DB_POOL_MIN("db.pool.min", "Default database pool minimum size", Integer.class, 1),
 
@@ -775,6 +819,16 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       12),
 
+  TX_SPILL_THRESHOLD(
+      "tx.spillThreshold",
+      "Number of saved records a transaction keeps in memory. When it is exceeded, the content of "
+          + "the oldest new records is written to a temporary file and they are loaded back only "
+          + "when they are used again, so the size of a transaction is not bounded by the heap. "
+          + "Updated and deleted documents are always kept in memory. "
+          + "0 (default) to keep all the records in memory",
+      Integer.class,
+      0),
+
   // INDEX
   INDEX_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD(
       "index.embeddedToSbtreeBonsaiThreshold",
@@ -803,6 +857,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Boolean.class,
       Boolean.TRUE),
 
+  INDEX_REBUILD_THREADS(
+      "index.rebuild.threads",
+      "Number of threads which fill the indexes rebuilt together, in case of a DB crash or by REBUILD INDEX *. "
+          + "Clusters are scanned once for all the indexes, keys of the same index are always put by the same thread. "
+          + "1 means that indexes are filled by the thread which scans the clusters",
+      Integer.class,
+      Math.min(8, Runtime.getRuntime().availableProcessors())),
+
   @Deprecated
   INDEX_AUTO_LAZY_UPDATES(
       "index.auto.lazyUpdates",
@@ -862,6 +924,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   INDEX_CURSOR_PREFETCH_SIZE(
       "index.stream.prefetchSize", "Default prefetch size of index stream", Integer.class, 10),
 
+  INDEX_WRITE_PARTITIONS(
+      "index.writePartitions",
+      "Default amount of partitions of new unique CELL_BTREE indexes. Every partition is a separate "
+          + "tree with its own lock, so transactions which change keys of different partitions are "
+          + "committed in parallel. Can be overridden by the 'writePartitions' index metadata (1 by default)",
+      Integer.class,
+      1),
+
   // SBTREE
   SBTREE_MAX_DEPTH(
       "sbtree.maxDepth",
@@ -1116,6 +1186,19 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       900),
 
+  NETWORK_HTTP_CURSOR_EXPIRE_TIMEOUT(
+      "network.http.cursorExpireTimeout",
+      "Timeout, after which an idle server side cursor of a http query is closed (in seconds)",
+      Integer.class,
+      60),
+
+  NETWORK_HTTP_MAX_CURSORS(
+      "network.http.maxCursors",
+      "Maximum number of server side cursors of http queries which can be open at the same time. "
+          + "The least recently used cursor is closed when a new one would exceed it",
+      Integer.class,
+      100),
+
   NETWORK_HTTP_SESSION_COOKIE_SAME_SITE(
       "network.http.session.cookie.sameSite",
       "Activate the same site cookie session",
@@ -1257,6 +1340,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       String.class,
       ORecordCacheWeakRefs.class.getName()),
 
+  CACHE_LEVEL2_SIZE(
+      "cache.level2.size",
+      "Maximum size in MB of the records kept in the second level record cache, shared by all the"
+          + " sessions of a storage. 0 disables it",
+      Long.class,
+      0),
+
   // COMMAND
   COMMAND_TIMEOUT("command.timeout", "Default timeout for commands (in ms)", Long.class, 0, true),
 
@@ -1288,6 +1378,32 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  QUERY_REMOTE_RESULTSET_PREFETCH(
+      "query.remoteResultSet.prefetch",
+      "Requests the next page of a remote ResultSet while the current one is consumed, so the "
+          + "server computes it in the meantime. The network connection of the request stays "
+          + "reserved to the ResultSet until the page is read, see "
+          + "'query.remoteResultSet.maxPrefetches'. This has to be set on the client.",
+      Boolean.class,
+      false),
+
+  QUERY_REMOTE_RESULTSET_MAX_PREFETCHES(
+      "query.remoteResultSet.maxPrefetches",
+      "Maximum number of network connections of a remote database that are reserved to pages "
+          + "requested in advance. A page is not requested in advance when this limit is "
+          + "reached or when no connection of the pool is free. Used only if "
+          + "'query.remoteResultSet.prefetch' is true. This has to be set on the client.",
+      Integer.class,
+      8),
+
+  QUERY_REMOTE_RESULTSET_MAX_PAGE_SIZE(
+      "query.remoteResultSet.maxPageSize",
+      "Maximum size the pages of a remote ResultSet grow to when the records are consumed faster "
+          + "than the server sends them. Used only if 'query.remoteResultSet.prefetch' is true. "
+          + "This has to be set on the client.",
+      Integer.class,
+      10000),
+
   QUERY_REMOTE_SEND_EXECUTION_PLAN(
       "query.remoteResultSet.sendExecutionPlan",
       "Send the execution plan details or not. False by default",
@@ -1345,6 +1461,29 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Long.class,
       500_000),
 
+  QUERY_HASH_JOIN_MAX_IN_MEMORY(
+      "query.hashJoin.maxInMemory",
+      "Maximum number of rows of the build side of a hash join kept in memory. "
+          + "The following ones are written to a temporary file and only their join keys stay in memory. "
+          + "Negative number means no limit",
+      Long.class,
+      100_000),
+
+  QUERY_MATCH_FAN_OUT_SAMPLE_SIZE(
+      "query.match.fanOutSampleSize",
+      "Maximum number of vertices sampled to estimate the average number of edges of a class per edge class and direction. "
+          + "The estimations are persisted and used to choose the order and the direction of MATCH traversals. "
+          + "0 means that traversals are ordered only by the estimated number of vertices to start from",
+      Integer.class,
+      1000),
+
+  QUERY_RID_SET_OFF_HEAP(
+      "query.ridSet.offHeap",
+      "Allocate the bitmaps of the RID sets used by TRAVERSE, DISTINCT and FIND REFERENCES off-heap. "
+          + "The memory is released when the execution plan of the query is closed",
+      Boolean.class,
+      false),
+
   QUERY_LIVE_SUPPORT(
       "query.live.support",
       "Enable/Disable the support of live query. (Use false to disable)",
@@ -1357,6 +1496,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       100),
 
+  VIEW_INCREMENTAL_MAX_CHANGES(
+      "view.incremental.maxChanges",
+      "Maximum number of changed records (or groups, for aggregated views) collected between two"
+          + " updates of a view to apply them incrementally. Beyond this limit the view is"
+          + " rebuilt. Zero means views are always rebuilt",
+      Integer.class,
+      100000),
+
   // GRAPH
   SQL_GRAPH_CONSISTENCY_MODE(
       "sql.graphConsistencyMode",
@@ -1368,6 +1515,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       String.class,
       "tx"),
 
+  GRAPH_ANALYTICS_MAX_CHANGES(
+      "graph.analytics.maxChanges",
+      "Maximum number of vertex and edge changes applied on top of the adjacency snapshot used by"
+          + " the graph analytics functions. Beyond this limit the snapshot is built again from"
+          + " the storage when it is used",
+      Integer.class,
+      1000000),
+
   /**
    * Maximum size of pool of network channels between client and server. A channel is a TCP/IP
    * connection.
@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.db;
 import com.orientechnologies.common.listener.OListenerManger;
 import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshotManager;
 import com.orientechnologies.orient.core.db.viewmanager.ViewManager;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
@@ -105,4 +106,8 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
   public ViewManager getViewManager() {
     throw new UnsupportedOperationException();
   }
+
+  public OGraphSnapshotManager getGraphSnapshotManager() {
+    throw new UnsupportedOperationException();
+  }
 }
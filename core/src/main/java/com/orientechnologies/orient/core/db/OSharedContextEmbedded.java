@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.core.db;
 
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshotManager;
 import com.orientechnologies.orient.core.db.viewmanager.ViewManager;
 import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.index.OIndexFactory;
@@ -26,6 +27,7 @@ public class OSharedContextEmbedded extends OSharedContext {
 
   private Map<String, DistributedQueryContext> activeDistributedQueries;
   protected ViewManager viewManager;
+  protected final OGraphSnapshotManager graphSnapshotManager = new OGraphSnapshotManager();
 
   public OSharedContextEmbedded(OStorage storage, OrientDBEmbedded orientDB) {
     this.orientDB = orientDB;
@@ -96,6 +98,7 @@ public class OSharedContextEmbedded extends OSharedContext {
   @Override
   public synchronized void close() {
     viewManager.close();
+    graphSnapshotManager.close();
     schema.close();
     security.close();
     indexManager.close();
@@ -156,4 +159,9 @@ public class OSharedContextEmbedded extends OSharedContext {
   public ViewManager getViewManager() {
     return viewManager;
   }
+
+  @Override
+  public OGraphSnapshotManager getGraphSnapshotManager() {
+    return graphSnapshotManager;
+  }
 }
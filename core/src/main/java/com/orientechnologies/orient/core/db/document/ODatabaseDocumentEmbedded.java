@@ -26,6 +26,7 @@ import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.cache.OLocalRecordCache;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OScriptExecutor;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
@@ -132,6 +133,9 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
 
   private InterruptTimerTask commandInterruptTimer;
 
+  /** Class whose READ policy is enforced by the query that is loading records, if any. */
+  private String readPolicyEnforcedFor;
+
   protected class InterruptTimerTask extends TimerTask {
 
     private Thread executionThread;
@@ -941,16 +945,22 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
           microTransaction.commit();
           OLiveQueryHook.notifyForTxChanges(this);
           OLiveQueryHookV2.notifyForTxChanges(this);
+          getSharedContext().getViewManager().commitPendingChanges(this);
+          getSharedContext().getGraphSnapshotManager().commitPendingChanges(this);
         } catch (Exception e) {
           microTransaction.rollbackAfterFailedCommit();
           OLiveQueryHook.removePendingDatabaseOps(this);
           OLiveQueryHookV2.removePendingDatabaseOps(this);
+          getSharedContext().getViewManager().removePendingChanges(this);
+          getSharedContext().getGraphSnapshotManager().removePendingChanges(this);
           throw e;
         }
       } else {
         microTransaction.rollback();
         OLiveQueryHook.removePendingDatabaseOps(this);
         OLiveQueryHookV2.removePendingDatabaseOps(this);
+        getSharedContext().getViewManager().removePendingChanges(this);
+        getSharedContext().getGraphSnapshotManager().removePendingChanges(this);
       }
     } finally {
       if (!microTransaction.isActive()) microTransaction = null;
@@ -1187,6 +1197,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
           OClassTrigger.onRecordAfterCreate(doc, this);
         }
         getSharedContext().getViewManager().recordAdded(clazz, doc, this);
+        getSharedContext().getGraphSnapshotManager().recordCreated(clazz, doc, this);
       }
       OLiveQueryHook.addOp(doc, ORecordOperation.CREATED, this);
       OLiveQueryHookV2.addOp(doc, ORecordOperation.CREATED, this);
@@ -1219,6 +1230,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
         }
 
         getSharedContext().getViewManager().recordUpdated(clazz, doc, this);
+        getSharedContext().getGraphSnapshotManager().recordUpdated(clazz, doc, this);
       }
       OLiveQueryHook.addOp(doc, ORecordOperation.UPDATED, this);
       OLiveQueryHookV2.addOp(doc, ORecordOperation.UPDATED, this);
@@ -1249,6 +1261,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
           OClassTrigger.onRecordAfterDelete(doc, this);
         }
         getSharedContext().getViewManager().recordDeleted(clazz, doc, this);
+        getSharedContext().getGraphSnapshotManager().recordDeleted(clazz, doc, this);
       }
       OLiveQueryHook.addOp(doc, ORecordOperation.DELETED, this);
       OLiveQueryHookV2.addOp(doc, ORecordOperation.DELETED, this);
@@ -1272,6 +1285,29 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
 
   @Override
   public boolean beforeReadOperations(OIdentifiable identifiable) {
+    // RECORDS LOADED BY THE CHECKS ARE NOT FILTERED BY THE QUERY THAT ENFORCES THE READ POLICY
+    final String readPolicyEnforcedFor = this.readPolicyEnforcedFor;
+    this.readPolicyEnforcedFor = null;
+    try {
+      return beforeReadOperations(identifiable, readPolicyEnforcedFor);
+    } finally {
+      this.readPolicyEnforcedFor = readPolicyEnforcedFor;
+    }
+  }
+
+  /**
+   * Sets the class, with its subclasses, whose READ policy is enforced by the query that is loading
+   * records, so that the policy is not checked again on each record.
+   *
+   * @return the previous value
+   */
+  public String setReadPolicyEnforcedFor(String className) {
+    final String previous = readPolicyEnforcedFor;
+    readPolicyEnforcedFor = className;
+    return previous;
+  }
+
+  private boolean beforeReadOperations(OIdentifiable identifiable, String readPolicyEnforcedFor) {
     if (identifiable instanceof ODocument) {
       ODocument doc = (ODocument) identifiable;
       OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(this, doc);
@@ -1294,7 +1330,8 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
           return true;
         }
 
-        if (!getSharedContext().getSecurity().canRead(this, doc)) {
+        if ((readPolicyEnforcedFor == null || !clazz.isSubClassOf(readPolicyEnforcedFor))
+            && !getSharedContext().getSecurity().canRead(this, doc)) {
           return true;
         }
 
@@ -1311,6 +1348,8 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
     super.afterCommitOperations();
     OLiveQueryHook.notifyForTxChanges(this);
     OLiveQueryHookV2.notifyForTxChanges(this);
+    getSharedContext().getViewManager().commitPendingChanges(this);
+    getSharedContext().getGraphSnapshotManager().commitPendingChanges(this);
   }
 
   @Override
@@ -1318,6 +1357,8 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
     super.afterRollbackOperations();
     OLiveQueryHook.removePendingDatabaseOps(this);
     OLiveQueryHookV2.removePendingDatabaseOps(this);
+    getSharedContext().getViewManager().removePendingChanges(this);
+    getSharedContext().getGraphSnapshotManager().removePendingChanges(this);
   }
 
   @Override
@@ -1505,6 +1546,15 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
 
       if (recordBuffer == null) return null;
 
+      // ONLY NEW DOCUMENTS ARE LOADED FROM THE SHARED CACHE
+      OSharedRecordCache sharedCache = null;
+      if (iRecord == null
+          && recordBuffer.recordType == ODocument.RECORD_TYPE
+          && !ORecordVersionHelper.isTombstone(recordBuffer.version)
+          && getStorage().getUnderlying() instanceof OAbstractPaginatedStorage)
+        sharedCache =
+            ((OAbstractPaginatedStorage) getStorage().getUnderlying()).getSharedRecordCache();
+
       if (iRecord == null || ORecordInternal.getRecordType(iRecord) != recordBuffer.recordType)
         // NO SAME RECORD TYPE: CAN'T REUSE OLD ONE BUT CREATE A NEW ONE FOR IT
         iRecord =
@@ -1512,6 +1562,17 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
                 .getRecordFactoryManager()
                 .newInstance(recordBuffer.recordType, rid.getClusterId(), this);
 
+      if (sharedCache != null
+          && sharedCache.copyTo(rid, recordBuffer.version, (ODocument) iRecord)) {
+        ODocumentInternal.checkClass((ODocument) iRecord, this);
+        if (beforeReadOperations(iRecord)) return null;
+
+        afterReadOperations(iRecord);
+        if (iUpdateCache) getLocalCache().updateRecord(iRecord);
+
+        return (RET) iRecord;
+      }
+
       ORecordInternal.setRecordSerializer(iRecord, getSerializer());
       ORecordInternal.fill(iRecord, rid, recordBuffer.version, recordBuffer.buffer, false, this);
 
@@ -1523,6 +1584,15 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
 
       iRecord.fromStream(recordBuffer.buffer);
 
+      if (sharedCache != null && sharedCache.shouldCache(rid, recordBuffer.buffer.length)) {
+        // THE IMAGE IS DESERIALIZED APART, THE RECORD RETURNED TO THE USER CAN BE CHANGED
+        final ODocument image = new ODocument();
+        ORecordInternal.setRecordSerializer(image, getSerializer());
+        ORecordInternal.fill(image, rid, recordBuffer.version, recordBuffer.buffer, false);
+        image.deserializeFields();
+        sharedCache.put(image, recordBuffer.buffer.length);
+      }
+
       afterReadOperations(iRecord);
       if (iUpdateCache) getLocalCache().updateRecord(iRecord);
 
@@ -0,0 +1,459 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Graph analytics algorithms which run on an {@link OGraphSnapshot}, without loading any record.
+ * Traversals expand every level of the frontier in parallel once it is large enough, PageRank and
+ * degree statistics process ranges of vertices in parallel.
+ */
+public final class OGraphAlgorithms {
+  /** Smallest frontier expanded in parallel, smaller ones are not worth the coordination. */
+  private static final int PARALLEL_FRONTIER = 1024;
+
+  private static final int VERTEX_CHUNK = 4096;
+
+  private OGraphAlgorithms() {}
+
+  /**
+   * @param maxDepth maximum amount of edges of the path, negative for no limit
+   * @return the vertices of one of the shortest paths, empty if there is none
+   */
+  public static List<ORID> shortestPath(
+      final OGraphSnapshot graph,
+      final ORID source,
+      final ORID destination,
+      final ODirection direction,
+      final int maxDepth) {
+    final int from = graph.indexOf(source);
+    final int to = graph.indexOf(destination);
+    if (from < 0 || to < 0) return Collections.emptyList();
+    if (from == to) return Collections.singletonList(graph.ridOf(from));
+
+    try (OOffHeapIntArray parents = new OOffHeapIntArray(graph.getVertexCount())) {
+      final AtomicLongArray visited = newBitSet(graph.getVertexCount());
+      mark(visited, from);
+      int[] frontier = {from};
+      for (int depth = 1; frontier.length > 0 && (maxDepth < 0 || depth <= maxDepth); depth++) {
+        frontier = expand(graph, frontier, direction, visited, parents);
+        if (isMarked(visited, to)) {
+          final List<ORID> path = new ArrayList<>(depth + 1);
+          for (int vertex = to; vertex != from; vertex = parents.get(vertex))
+            path.add(graph.ridOf(vertex));
+          path.add(graph.ridOf(from));
+          Collections.reverse(path);
+          return path;
+        }
+      }
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Breadth first traversal from the source vertex.
+   *
+   * @param maxDepth maximum depth of the reached vertices, negative for no limit
+   * @return the reached vertices, source included, with their depth, in order of depth
+   */
+  public static List<ORawPair<ORID, Integer>> bfs(
+      final OGraphSnapshot graph,
+      final ORID source,
+      final ODirection direction,
+      final int maxDepth) {
+    final int from = graph.indexOf(source);
+    if (from < 0) return Collections.emptyList();
+
+    final List<ORawPair<ORID, Integer>> result = new ArrayList<>();
+    result.add(new ORawPair<>(graph.ridOf(from), 0));
+
+    final AtomicLongArray visited = newBitSet(graph.getVertexCount());
+    mark(visited, from);
+    int[] frontier = {from};
+    for (int depth = 1; frontier.length > 0 && (maxDepth < 0 || depth <= maxDepth); depth++) {
+      frontier = expand(graph, frontier, direction, visited, null);
+      for (int vertex : frontier) result.add(new ORawPair<>(graph.ridOf(vertex), depth));
+    }
+    return result;
+  }
+
+  /**
+   * Expands a level of a breadth first traversal. Every vertex is claimed by the first thread which
+   * marks it as visited, which is also the only one writing its parent.
+   */
+  private static int[] expand(
+      final OGraphSnapshot graph,
+      final int[] frontier,
+      final ODirection direction,
+      final AtomicLongArray visited,
+      final OOffHeapIntArray parents) {
+    if (Thread.interrupted())
+      throw new OCommandExecutionException("The graph traversal has been interrupted");
+
+    if (frontier.length < PARALLEL_FRONTIER) {
+      return expand(graph, frontier, 0, frontier.length, direction, visited, parents);
+    }
+
+    final int chunks = Math.max(1, frontier.length / (PARALLEL_FRONTIER / 4));
+    final int[][] next =
+        IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(
+                chunk ->
+                    expand(
+                        graph,
+                        frontier,
+                        (int) ((long) frontier.length * chunk / chunks),
+                        (int) ((long) frontier.length * (chunk + 1) / chunks),
+                        direction,
+                        visited,
+                        parents))
+            .toArray(int[][]::new);
+
+    int size = 0;
+    for (int[] items : next) size += items.length;
+    final int[] result = new int[size];
+    int offset = 0;
+    for (int[] items : next) {
+      System.arraycopy(items, 0, result, offset, items.length);
+      offset += items.length;
+    }
+    return result;
+  }
+
+  private static int[] expand(
+      final OGraphSnapshot graph,
+      final int[] frontier,
+      final int from,
+      final int to,
+      final ODirection direction,
+      final AtomicLongArray visited,
+      final OOffHeapIntArray parents) {
+    final int[][] next = {new int[16]};
+    final int[] size = {0};
+    for (int i = from; i < to; i++) {
+      final int vertex = frontier[i];
+      graph.forEachNeighbor(
+          vertex,
+          direction,
+          neighbor -> {
+            if (mark(visited, neighbor)) {
+              if (parents != null) parents.set(neighbor, vertex);
+              if (size[0] == next[0].length) next[0] = Arrays.copyOf(next[0], size[0] * 2);
+              next[0][size[0]++] = neighbor;
+            }
+          });
+    }
+    return Arrays.copyOf(next[0], size[0]);
+  }
+
+  /**
+   * PageRank of the vertices, computed by pulling the rank of the neighbors on the other side of
+   * the edges. The rank of vertices without edges in the direction is spread over all the vertices.
+   *
+   * @param limit maximum amount of returned vertices, negative for all of them
+   * @return the vertices with the highest rank, in descending order of rank
+   */
+  public static List<ORawPair<ORID, Double>> pageRank(
+      final OGraphSnapshot graph,
+      final ODirection direction,
+      final int iterations,
+      final double damping,
+      final double tolerance,
+      final int limit) {
+    final int count = graph.getVertexCount();
+    final int active = graph.getActiveVertexCount();
+    if (active == 0) return Collections.emptyList();
+
+    final ODirection reverse =
+        direction == ODirection.OUT
+            ? ODirection.IN
+            : direction == ODirection.IN ? ODirection.OUT : ODirection.BOTH;
+
+    try (OOffHeapLongArray ranks = new OOffHeapLongArray(count);
+        OOffHeapLongArray next = new OOffHeapLongArray(count);
+        OOffHeapIntArray degrees = new OOffHeapIntArray(count)) {
+      forEachChunk(
+          count,
+          (from, to) -> {
+            for (int v = from; v < to; v++) {
+              if (!graph.isVertex(v)) continue;
+              setDouble(ranks, v, 1.0 / active);
+              degrees.set(v, graph.degree(v, direction));
+            }
+            return 0;
+          });
+
+      OOffHeapLongArray current = ranks;
+      OOffHeapLongArray updated = next;
+      for (int iteration = 0; iteration < iterations; iteration++) {
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The PageRank computation has been interrupted");
+
+        final OOffHeapLongArray source = current;
+        final OOffHeapLongArray target = updated;
+        final double dangling =
+            forEachChunk(
+                count,
+                (from, to) -> {
+                  double sum = 0;
+                  for (int v = from; v < to; v++) {
+                    if (graph.isVertex(v) && degrees.get(v) == 0) sum += getDouble(source, v);
+                  }
+                  return sum;
+                });
+
+        final double base = (1 - damping) / active + damping * dangling / active;
+        final double difference =
+            forEachChunk(
+                count,
+                (from, to) -> {
+                  double sum = 0;
+                  for (int v = from; v < to; v++) {
+                    if (!graph.isVertex(v)) continue;
+                    final double[] pulled = {0};
+                    graph.forEachNeighbor(
+                        v,
+                        reverse,
+                        neighbor ->
+                            pulled[0] += getDouble(source, neighbor) / degrees.get(neighbor));
+                    final double rank = base + damping * pulled[0];
+                    sum += Math.abs(rank - getDouble(source, v));
+                    setDouble(target, v, rank);
+                  }
+                  return sum;
+                });
+
+        current = target;
+        updated = source;
+        if (difference < tolerance) break;
+      }
+
+      final OOffHeapLongArray result = current;
+      return top(graph, limit, v -> getDouble(result, v), false);
+    }
+  }
+
+  /**
+   * Weakly connected components, computed with a union-find over the edges. A single sequential
+   * pass is used instead of parallel label propagation, whose amount of rounds grows with the
+   * diameter of the graph.
+   *
+   * @param limit maximum amount of returned components, negative for all of them
+   * @return a vertex of every component with the size of the component, largest components first
+   */
+  public static List<ORawPair<ORID, Integer>> connectedComponents(
+      final OGraphSnapshot graph, final int limit) {
+    final int count = graph.getVertexCount();
+    try (OOffHeapIntArray parents = new OOffHeapIntArray(count);
+        OOffHeapIntArray sizes = new OOffHeapIntArray(count)) {
+      for (int v = 0; v < count; v++) parents.set(v, v);
+
+      for (int v = 0; v < count; v++) {
+        if ((v & 0xFFFF) == 0 && Thread.interrupted())
+          throw new OCommandExecutionException(
+              "The connected components computation has been interrupted");
+
+        final int vertex = v;
+        graph.forEachNeighbor(
+            v,
+            ODirection.OUT,
+            neighbor -> {
+              final int first = find(parents, vertex);
+              final int second = find(parents, neighbor);
+              if (first != second) parents.set(Math.max(first, second), Math.min(first, second));
+            });
+      }
+
+      for (int v = 0; v < count; v++) {
+        if (!graph.isVertex(v)) continue;
+        final int root = find(parents, v);
+        sizes.set(root, sizes.get(root) + 1);
+      }
+
+      // ONLY THE ROOTS OF THE COMPONENTS HAVE A SIZE
+      final List<ORawPair<ORID, Double>> components = top(graph, limit, sizes::get, true);
+      final List<ORawPair<ORID, Integer>> result = new ArrayList<>(components.size());
+      for (ORawPair<ORID, Double> component : components)
+        result.add(new ORawPair<>(component.first, component.second.intValue()));
+      return result;
+    }
+  }
+
+  /** Finds the root of the vertex, halving the path on the way. */
+  private static int find(final OOffHeapIntArray parents, int vertex) {
+    int parent = parents.get(vertex);
+    while (parent != vertex) {
+      final int grandParent = parents.get(parent);
+      parents.set(vertex, grandParent);
+      vertex = grandParent;
+      parent = parents.get(vertex);
+    }
+    return vertex;
+  }
+
+  /**
+   * @return amount of vertices and edges, minimum, maximum, average and standard deviation of the
+   *     degree of the vertices in the direction, and amount of vertices without edges
+   */
+  public static Map<String, Object> degreeStats(
+      final OGraphSnapshot graph, final ODirection direction) {
+    final int count = graph.getVertexCount();
+    final int chunks = (count + VERTEX_CHUNK - 1) / VERTEX_CHUNK;
+    final long[] totals =
+        IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(
+                chunk -> {
+                  // MIN, MAX, SUM, SUM OF SQUARES, ISOLATED
+                  final long[] stats = {Long.MAX_VALUE, 0, 0, 0, 0};
+                  final int to = Math.min(count, (chunk + 1) * VERTEX_CHUNK);
+                  for (int v = chunk * VERTEX_CHUNK; v < to; v++) {
+                    if (!graph.isVertex(v)) continue;
+                    final long degree = graph.degree(v, direction);
+                    stats[0] = Math.min(stats[0], degree);
+                    stats[1] = Math.max(stats[1], degree);
+                    stats[2] += degree;
+                    stats[3] += degree * degree;
+                    if (degree == 0) stats[4]++;
+                  }
+                  return stats;
+                })
+            .reduce(
+                new long[] {Long.MAX_VALUE, 0, 0, 0, 0},
+                (a, b) ->
+                    new long[] {
+                      Math.min(a[0], b[0]),
+                      Math.max(a[1], b[1]),
+                      a[2] + b[2],
+                      a[3] + b[3],
+                      a[4] + b[4]
+                    });
+
+    final int vertices = graph.getActiveVertexCount();
+    final double average = vertices == 0 ? 0 : (double) totals[2] / vertices;
+    final double variance = vertices == 0 ? 0 : (double) totals[3] / vertices - average * average;
+
+    final Map<String, Object> result = new LinkedHashMap<>();
+    result.put("vertices", vertices);
+    result.put("edges", graph.getEdgeCount());
+    result.put("minDegree", vertices == 0 ? 0 : totals[0]);
+    result.put("maxDegree", totals[1]);
+    result.put("averageDegree", average);
+    result.put("stdDevDegree", Math.sqrt(Math.max(0, variance)));
+    result.put("isolatedVertices", totals[4]);
+    return result;
+  }
+
+  private interface OVertexScore {
+    double score(int vertex);
+  }
+
+  private interface OChunkTask {
+    double run(int from, int to);
+  }
+
+  /** Runs the task on ranges of vertices in parallel, @return the sum of the results. */
+  private static double forEachChunk(final int count, final OChunkTask task) {
+    final int chunks = (count + VERTEX_CHUNK - 1) / VERTEX_CHUNK;
+    return IntStream.range(0, chunks)
+        .parallel()
+        .mapToDouble(
+            chunk -> task.run(chunk * VERTEX_CHUNK, Math.min(count, (chunk + 1) * VERTEX_CHUNK)))
+        .sum();
+  }
+
+  private static List<ORawPair<ORID, Double>> top(
+      final OGraphSnapshot graph,
+      final int limit,
+      final OVertexScore score,
+      final boolean positiveOnly) {
+    final Comparator<ORawPair<Integer, Double>> byScore =
+        Comparator.comparingDouble(pair -> pair.second);
+    final PriorityQueue<ORawPair<Integer, Double>> queue = new PriorityQueue<>(byScore);
+    final List<ORawPair<Integer, Double>> all = new ArrayList<>();
+    for (int v = 0; v < graph.getVertexCount(); v++) {
+      if (!graph.isVertex(v)) continue;
+      final double value = score.score(v);
+      if (positiveOnly && value <= 0) continue;
+
+      final ORawPair<Integer, Double> pair = new ORawPair<>(v, value);
+      if (limit < 0) {
+        all.add(pair);
+      } else if (limit > 0) {
+        if (queue.size() < limit) queue.add(pair);
+        else if (queue.peek().second < pair.second) {
+          queue.poll();
+          queue.add(pair);
+        }
+      }
+    }
+    if (limit >= 0) all.addAll(queue);
+    all.sort(byScore.reversed());
+
+    final List<ORawPair<ORID, Double>> result = new ArrayList<>(all.size());
+    for (ORawPair<Integer, Double> pair : all)
+      result.add(new ORawPair<>(graph.ridOf(pair.first), pair.second));
+    return result;
+  }
+
+  private static double getDouble(final OOffHeapLongArray array, final long index) {
+    return Double.longBitsToDouble(array.get(index));
+  }
+
+  private static void setDouble(
+      final OOffHeapLongArray array, final long index, final double value) {
+    array.set(index, Double.doubleToRawLongBits(value));
+  }
+
+  private static AtomicLongArray newBitSet(final int size) {
+    return new AtomicLongArray((size + 63) >>> 6);
+  }
+
+  private static boolean isMarked(final AtomicLongArray bits, final int index) {
+    return (bits.get(index >>> 6) & (1L << index)) != 0;
+  }
+
+  /** @return <code>true</code> if the bit was set by this call */
+  private static boolean mark(final AtomicLongArray bits, final int index) {
+    final int word = index >>> 6;
+    final long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) return false;
+    } while (!bits.compareAndSet(word, current, current | mask));
+    return true;
+  }
+}
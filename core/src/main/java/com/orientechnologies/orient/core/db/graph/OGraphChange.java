@@ -0,0 +1,80 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+
+/**
+ * Change of a vertex or an edge, applied to the snapshots of the graph once committed. Records are
+ * kept instead of their RIDs, because the RIDs of new records are final only after the commit.
+ */
+final class OGraphChange {
+  enum Type {
+    VERTEX_CREATED,
+    VERTEX_DELETED,
+    EDGE_CREATED,
+    EDGE_DELETED
+  }
+
+  final Type type;
+  final OImmutableClass clazz;
+  private final OIdentifiable vertex;
+  private final OIdentifiable out;
+  private final OIdentifiable in;
+
+  private OGraphChange(
+      final Type type,
+      final OImmutableClass clazz,
+      final OIdentifiable vertex,
+      final OIdentifiable out,
+      final OIdentifiable in) {
+    this.type = type;
+    this.clazz = clazz;
+    this.vertex = vertex;
+    this.out = out;
+    this.in = in;
+  }
+
+  static OGraphChange vertex(
+      final Type type, final OImmutableClass clazz, final OIdentifiable vertex) {
+    return new OGraphChange(type, clazz, vertex, null, null);
+  }
+
+  /** @return the change, <code>null</code> if one of the vertices of the edge is missing */
+  static OGraphChange edge(
+      final Type type, final OImmutableClass clazz, final Object out, final Object in) {
+    if (!(out instanceof OIdentifiable) || !(in instanceof OIdentifiable)) return null;
+    return new OGraphChange(type, clazz, null, (OIdentifiable) out, (OIdentifiable) in);
+  }
+
+  ORID getVertex() {
+    return vertex.getIdentity();
+  }
+
+  ORID getOut() {
+    return out.getIdentity();
+  }
+
+  ORID getIn() {
+    return in.getIdentity();
+  }
+}
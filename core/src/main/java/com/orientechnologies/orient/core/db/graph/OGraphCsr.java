@@ -0,0 +1,308 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable adjacency of the vertices of a database in compressed sparse row format.
+ *
+ * <p>Vertices are numbered in the order of their clusters and positions, so the index of a RID is
+ * found with a binary search in the positions of its cluster. The neighbors of vertex <code>v
+ * </code> are the items of the targets array between <code>offsets[v]</code> and <code>
+ * offsets[v + 1]</code>, both for outgoing and incoming edges. All the arrays are kept in direct
+ * memory, which is released when the last snapshot using the adjacency is closed.
+ */
+final class OGraphCsr {
+  private final int[] clusterIds;
+  private final int[] clusterStarts;
+  private final OOffHeapLongArray positions;
+  private final int vertexCount;
+
+  private final OOffHeapLongArray outOffsets;
+  private final OOffHeapIntArray outTargets;
+  private final OOffHeapLongArray inOffsets;
+  private final OOffHeapIntArray inTargets;
+  private final long edgeCount;
+
+  private final AtomicInteger references = new AtomicInteger(1);
+
+  private OGraphCsr(
+      final int[] clusterIds,
+      final int[] clusterStarts,
+      final OOffHeapLongArray positions,
+      final OOffHeapLongArray outOffsets,
+      final OOffHeapIntArray outTargets,
+      final OOffHeapLongArray inOffsets,
+      final OOffHeapIntArray inTargets,
+      final long edgeCount) {
+    this.clusterIds = clusterIds;
+    this.clusterStarts = clusterStarts;
+    this.positions = positions;
+    this.vertexCount = clusterStarts[clusterStarts.length - 1];
+    this.outOffsets = outOffsets;
+    this.outTargets = outTargets;
+    this.inOffsets = inOffsets;
+    this.inTargets = inTargets;
+    this.edgeCount = edgeCount;
+  }
+
+  /**
+   * Reads the vertices and the edges of the given classes from the storage. Edges are read from
+   * their records, which are stored sequentially, instead of following the RidBags of the vertices,
+   * which would need a random read of every edge to find its other vertex.
+   *
+   * @param edgeClasses names of the edge classes to include, all the edges if empty
+   */
+  static OGraphCsr build(
+      final ODatabaseDocumentInternal database, final Collection<String> edgeClasses) {
+    final OSchema schema = database.getMetadata().getImmutableSchemaSnapshot();
+    final OStorage storage = database.getStorage();
+
+    final OClass vertexClass = schema.getClass(OClass.VERTEX_CLASS_NAME);
+    final int[] clusterIds =
+        vertexClass == null
+            ? new int[0]
+            : Arrays.stream(vertexClass.getPolymorphicClusterIds()).sorted().distinct().toArray();
+    final int[] clusterStarts = new int[clusterIds.length + 1];
+
+    final OOffHeapLongArray positions = new OOffHeapLongArray(0);
+    OOffHeapIntArray sources = null;
+    OOffHeapIntArray destinations = null;
+    OOffHeapLongArray outOffsets = null;
+    OOffHeapIntArray outTargets = null;
+    OOffHeapLongArray inOffsets = null;
+    OOffHeapIntArray inTargets = null;
+    try {
+      long vertexCount = 0;
+      for (int i = 0; i < clusterIds.length; i++) {
+        OPhysicalPosition[] chunk =
+            storage.ceilingPhysicalPositions(clusterIds[i], new OPhysicalPosition(0));
+        while (chunk.length > 0) {
+          positions.ensureCapacity(vertexCount + chunk.length);
+          for (OPhysicalPosition position : chunk)
+            positions.set(vertexCount++, position.clusterPosition);
+          chunk = storage.higherPhysicalPositions(clusterIds[i], chunk[chunk.length - 1]);
+        }
+        if (vertexCount >= Integer.MAX_VALUE)
+          throw new OCommandExecutionException(
+              "Graph snapshots support up to " + (Integer.MAX_VALUE - 1) + " vertices");
+        clusterStarts[i + 1] = (int) vertexCount;
+      }
+
+      final OGraphCsr vertices =
+          new OGraphCsr(clusterIds, clusterStarts, positions, null, null, null, null, 0);
+
+      sources = new OOffHeapIntArray(0);
+      destinations = new OOffHeapIntArray(0);
+      long edgeCount = 0;
+      for (int clusterId : edgeClusterIds(schema, edgeClasses)) {
+        OPhysicalPosition[] chunk =
+            storage.ceilingPhysicalPositions(clusterId, new OPhysicalPosition(0));
+        while (chunk.length > 0) {
+          sources.ensureCapacity(edgeCount + chunk.length);
+          destinations.ensureCapacity(edgeCount + chunk.length);
+          for (OPhysicalPosition position : chunk) {
+            final ORecordId rid = new ORecordId(clusterId, position.clusterPosition);
+            final ORawBuffer buffer;
+            try {
+              buffer = storage.readRecord(rid, null, false, false, null).getResult();
+            } catch (ORecordNotFoundException e) {
+              continue;
+            }
+            if (buffer == null || buffer.recordType != ODocument.RECORD_TYPE) continue;
+
+            final ODocument edge = new ODocument();
+            ORecordInternal.fill(edge, rid, buffer.version, buffer.buffer, false);
+            final int source = vertices.indexOf(edge.rawField("out"));
+            final int destination = vertices.indexOf(edge.rawField("in"));
+            if (source < 0 || destination < 0) continue;
+
+            sources.set(edgeCount, source);
+            destinations.set(edgeCount, destination);
+            edgeCount++;
+          }
+          chunk = storage.higherPhysicalPositions(clusterId, chunk[chunk.length - 1]);
+        }
+      }
+
+      final int count = (int) vertexCount;
+      outOffsets = new OOffHeapLongArray(count + 1);
+      outTargets = new OOffHeapIntArray(edgeCount);
+      fill(outOffsets, outTargets, sources, destinations, count, edgeCount);
+      inOffsets = new OOffHeapLongArray(count + 1);
+      inTargets = new OOffHeapIntArray(edgeCount);
+      fill(inOffsets, inTargets, destinations, sources, count, edgeCount);
+
+      return new OGraphCsr(
+          clusterIds,
+          clusterStarts,
+          positions,
+          outOffsets,
+          outTargets,
+          inOffsets,
+          inTargets,
+          edgeCount);
+    } catch (RuntimeException | Error e) {
+      positions.close();
+      if (outOffsets != null) outOffsets.close();
+      if (outTargets != null) outTargets.close();
+      if (inOffsets != null) inOffsets.close();
+      if (inTargets != null) inTargets.close();
+      throw e;
+    } finally {
+      if (sources != null) sources.close();
+      if (destinations != null) destinations.close();
+    }
+  }
+
+  private static int[] edgeClusterIds(final OSchema schema, final Collection<String> edgeClasses) {
+    final TreeSet<Integer> clusterIds = new TreeSet<>();
+    for (String className :
+        edgeClasses.isEmpty() ? Arrays.asList(OClass.EDGE_CLASS_NAME) : edgeClasses) {
+      final OClass edgeClass = schema.getClass(className);
+      if (edgeClass == null) {
+        if (edgeClasses.isEmpty()) continue;
+        throw new OCommandExecutionException("Class '" + className + "' was not found");
+      }
+      if (!edgeClass.isEdgeType())
+        throw new OCommandExecutionException("Class '" + className + "' is not an edge class");
+      for (int clusterId : edgeClass.getPolymorphicClusterIds()) clusterIds.add(clusterId);
+    }
+    return clusterIds.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Counting sort of the edges by their source, offsets end up as the start of every vertex. */
+  private static void fill(
+      final OOffHeapLongArray offsets,
+      final OOffHeapIntArray targets,
+      final OOffHeapIntArray sources,
+      final OOffHeapIntArray destinations,
+      final int vertexCount,
+      final long edgeCount) {
+    for (long i = 0; i < edgeCount; i++) {
+      final int source = sources.get(i);
+      offsets.set(source + 1, offsets.get(source + 1) + 1);
+    }
+    for (int v = 1; v <= vertexCount; v++) offsets.set(v, offsets.get(v) + offsets.get(v - 1));
+
+    // OFFSETS ARE MOVED TO THE END OF EVERY VERTEX WHILE TARGETS ARE WRITTEN, THEN SHIFTED BACK
+    for (long i = 0; i < edgeCount; i++) {
+      final int source = sources.get(i);
+      final long offset = offsets.get(source);
+      targets.set(offset, destinations.get(i));
+      offsets.set(source, offset + 1);
+    }
+    for (int v = vertexCount; v > 0; v--) offsets.set(v, offsets.get(v - 1));
+    offsets.set(0, 0);
+  }
+
+  int getVertexCount() {
+    return vertexCount;
+  }
+
+  long getEdgeCount() {
+    return edgeCount;
+  }
+
+  /** @return the index of the vertex, <code>-1</code> if it is not part of the adjacency */
+  int indexOf(final Object value) {
+    if (!(value instanceof OIdentifiable)) return -1;
+    final ORID rid = ((OIdentifiable) value).getIdentity();
+
+    final int slot = Arrays.binarySearch(clusterIds, rid.getClusterId());
+    if (slot < 0) return -1;
+
+    final long position = rid.getClusterPosition();
+    int low = clusterStarts[slot];
+    int high = clusterStarts[slot + 1] - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final long current = positions.get(middle);
+      if (current < position) low = middle + 1;
+      else if (current > position) high = middle - 1;
+      else return middle;
+    }
+    return -1;
+  }
+
+  ORID ridOf(final int vertex) {
+    int slot = Arrays.binarySearch(clusterStarts, vertex);
+    // EMPTY CLUSTERS SHARE THEIR START WITH THE NEXT ONE
+    if (slot >= 0) while (clusterStarts[slot + 1] == vertex) slot++;
+    else slot = -slot - 2;
+    return new ORecordId(clusterIds[slot], positions.get(vertex));
+  }
+
+  long outStart(final int vertex) {
+    return outOffsets.get(vertex);
+  }
+
+  long outEnd(final int vertex) {
+    return outOffsets.get(vertex + 1);
+  }
+
+  int outTarget(final long offset) {
+    return outTargets.get(offset);
+  }
+
+  long inStart(final int vertex) {
+    return inOffsets.get(vertex);
+  }
+
+  long inEnd(final int vertex) {
+    return inOffsets.get(vertex + 1);
+  }
+
+  int inTarget(final long offset) {
+    return inTargets.get(offset);
+  }
+
+  OGraphCsr retain() {
+    references.incrementAndGet();
+    return this;
+  }
+
+  void release() {
+    if (references.decrementAndGet() == 0) {
+      positions.close();
+      outOffsets.close();
+      outTargets.close();
+      inOffsets.close();
+      inTargets.close();
+    }
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.orient.core.id.ORID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of changes committed after an adjacency was built: created vertices, which get the
+ * indexes after the ones of the adjacency, deleted vertices, and created or deleted edges. Applying
+ * new changes returns a new delta, so snapshots which use the current one are not affected.
+ */
+final class OGraphDelta {
+  static final OGraphDelta EMPTY =
+      new OGraphDelta(
+          Collections.emptyList(),
+          Collections.emptyMap(),
+          new BitSet(),
+          Collections.emptyMap(),
+          Collections.emptyMap(),
+          Collections.emptyMap(),
+          Collections.emptyMap(),
+          0,
+          0,
+          0);
+
+  private final List<ORID> addedVertices;
+  private final Map<ORID, Integer> addedIndexes;
+  private final BitSet removedVertices;
+  private final Map<Integer, int[]> addedOut;
+  private final Map<Integer, int[]> addedIn;
+  private final Map<Integer, Map<Integer, Integer>> removedOut;
+  private final Map<Integer, Map<Integer, Integer>> removedIn;
+  private final long addedEdges;
+  private final long removedEdges;
+  private final int changes;
+
+  private OGraphDelta(
+      final List<ORID> addedVertices,
+      final Map<ORID, Integer> addedIndexes,
+      final BitSet removedVertices,
+      final Map<Integer, int[]> addedOut,
+      final Map<Integer, int[]> addedIn,
+      final Map<Integer, Map<Integer, Integer>> removedOut,
+      final Map<Integer, Map<Integer, Integer>> removedIn,
+      final long addedEdges,
+      final long removedEdges,
+      final int changes) {
+    this.addedVertices = addedVertices;
+    this.addedIndexes = addedIndexes;
+    this.removedVertices = removedVertices;
+    this.addedOut = addedOut;
+    this.addedIn = addedIn;
+    this.removedOut = removedOut;
+    this.removedIn = removedIn;
+    this.addedEdges = addedEdges;
+    this.removedEdges = removedEdges;
+    this.changes = changes;
+  }
+
+  /** @return amount of changes applied since the adjacency was built */
+  int getChanges() {
+    return changes;
+  }
+
+  int getAddedVertexCount() {
+    return addedVertices.size();
+  }
+
+  ORID getAddedVertex(final int index) {
+    return addedVertices.get(index);
+  }
+
+  /** @return the index of a created vertex, <code>null</code> if it was not created */
+  Integer getAddedIndex(final ORID rid) {
+    return addedIndexes.get(rid);
+  }
+
+  boolean hasRemovedVertices() {
+    return !removedVertices.isEmpty();
+  }
+
+  int getRemovedVertexCount() {
+    return removedVertices.cardinality();
+  }
+
+  boolean isRemoved(final int vertex) {
+    return removedVertices.get(vertex);
+  }
+
+  long getEdgeCountDelta() {
+    return addedEdges - removedEdges;
+  }
+
+  int[] getAdded(final int vertex, final boolean out) {
+    return (out ? addedOut : addedIn).get(vertex);
+  }
+
+  Map<Integer, Integer> getRemoved(final int vertex, final boolean out) {
+    return (out ? removedOut : removedIn).get(vertex);
+  }
+
+  /**
+   * @param raced <code>true</code> if the changes may have been committed while the adjacency was
+   *     built, so they may be already part of it: they are applied only if the adjacency does not
+   *     reflect them. Parallel edges between the same vertices created at that time can't be told
+   *     apart and are counted once.
+   */
+  OGraphDelta apply(final OGraphCsr csr, final List<OGraphChange> changes, final boolean raced) {
+    final List<ORID> vertices = new ArrayList<>(addedVertices);
+    final Map<ORID, Integer> indexes = new HashMap<>(addedIndexes);
+    final BitSet removed = (BitSet) removedVertices.clone();
+    final Map<Integer, int[]> out = new HashMap<>(addedOut);
+    final Map<Integer, int[]> in = new HashMap<>(addedIn);
+    final Map<Integer, Map<Integer, Integer>> outRemoved = copy(removedOut);
+    final Map<Integer, Map<Integer, Integer>> inRemoved = copy(removedIn);
+    long added = addedEdges;
+    long deleted = removedEdges;
+    int applied = this.changes;
+
+    for (OGraphChange change : changes) {
+      switch (change.type) {
+        case VERTEX_CREATED:
+          {
+            final ORID rid = change.getVertex();
+            if (csr.indexOf(rid) >= 0 || indexes.containsKey(rid)) continue;
+            indexes.put(rid, csr.getVertexCount() + vertices.size());
+            vertices.add(rid);
+            break;
+          }
+        case VERTEX_DELETED:
+          {
+            final int vertex = indexOf(csr, indexes, change.getVertex());
+            if (vertex < 0) continue;
+            removed.set(vertex);
+            break;
+          }
+        case EDGE_CREATED:
+          {
+            final int source = indexOf(csr, indexes, change.getOut());
+            final int destination = indexOf(csr, indexes, change.getIn());
+            if (source < 0 || destination < 0) continue;
+            if (raced && containsBase(csr, source, destination)) continue;
+            out.put(source, append(out.get(source), destination));
+            in.put(destination, append(in.get(destination), source));
+            added++;
+            break;
+          }
+        case EDGE_DELETED:
+          {
+            final int source = indexOf(csr, indexes, change.getOut());
+            final int destination = indexOf(csr, indexes, change.getIn());
+            if (source < 0 || destination < 0) continue;
+
+            final int[] targets = out.get(source);
+            if (targets != null && contains(targets, destination)) {
+              out.put(source, remove(targets, destination));
+              in.put(destination, remove(in.get(destination), source));
+              added--;
+            } else if (!raced || containsBase(csr, source, destination)) {
+              outRemoved
+                  .computeIfAbsent(source, k -> new HashMap<>())
+                  .merge(destination, 1, Integer::sum);
+              inRemoved
+                  .computeIfAbsent(destination, k -> new HashMap<>())
+                  .merge(source, 1, Integer::sum);
+              deleted++;
+            } else {
+              continue;
+            }
+            break;
+          }
+      }
+      applied++;
+    }
+
+    return new OGraphDelta(
+        vertices, indexes, removed, out, in, outRemoved, inRemoved, added, deleted, applied);
+  }
+
+  private static int indexOf(
+      final OGraphCsr csr, final Map<ORID, Integer> indexes, final ORID rid) {
+    final int index = csr.indexOf(rid);
+    if (index >= 0) return index;
+    final Integer added = indexes.get(rid);
+    return added == null ? -1 : added;
+  }
+
+  private static boolean containsBase(
+      final OGraphCsr csr, final int source, final int destination) {
+    if (source >= csr.getVertexCount()) return false;
+    for (long i = csr.outStart(source), end = csr.outEnd(source); i < end; i++) {
+      if (csr.outTarget(i) == destination) return true;
+    }
+    return false;
+  }
+
+  private static Map<Integer, Map<Integer, Integer>> copy(
+      final Map<Integer, Map<Integer, Integer>> removed) {
+    final Map<Integer, Map<Integer, Integer>> result = new HashMap<>(removed.size());
+    for (Map.Entry<Integer, Map<Integer, Integer>> entry : removed.entrySet())
+      result.put(entry.getKey(), new HashMap<>(entry.getValue()));
+    return result;
+  }
+
+  private static boolean contains(final int[] items, final int item) {
+    for (int current : items) if (current == item) return true;
+    return false;
+  }
+
+  private static int[] append(final int[] items, final int item) {
+    if (items == null) return new int[] {item};
+    final int[] result = Arrays.copyOf(items, items.length + 1);
+    result[items.length] = item;
+    return result;
+  }
+
+  /** Removes one occurrence of the item, arrays are never modified because deltas share them. */
+  private static int[] remove(final int[] items, final int item) {
+    for (int i = 0; i < items.length; i++) {
+      if (items[i] == item) {
+        final int[] result = new int[items.length - 1];
+        System.arraycopy(items, 0, result, 0, i);
+        System.arraycopy(items, i + 1, result, i, items.length - i - 1);
+        return result;
+      }
+    }
+    return items;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+/**
+ * Read only view of the adjacency of the vertices of a database, used by the graph analytics
+ * algorithms of {@link OGraphAlgorithms}. Vertices are identified by an index between 0 and {@link
+ * #getVertexCount()}, indexes of deleted vertices are skipped by {@link #isVertex(int)}.
+ *
+ * <p>A snapshot reflects the changes committed before it was acquired from the {@link
+ * OGraphSnapshotManager} and is not affected by later ones. It must be closed to release the memory
+ * of the adjacency once it is replaced by a new one.
+ */
+public final class OGraphSnapshot implements AutoCloseable {
+  private final OGraphCsr csr;
+  private final OGraphDelta delta;
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  OGraphSnapshot(final OGraphCsr csr, final OGraphDelta delta) {
+    this.csr = csr.retain();
+    this.delta = delta;
+  }
+
+  /** @return the amount of vertex indexes, including the ones of deleted vertices */
+  public int getVertexCount() {
+    return csr.getVertexCount() + delta.getAddedVertexCount();
+  }
+
+  /** @return the amount of vertices which are not deleted */
+  public int getActiveVertexCount() {
+    return getVertexCount() - delta.getRemovedVertexCount();
+  }
+
+  public long getEdgeCount() {
+    return csr.getEdgeCount() + delta.getEdgeCountDelta();
+  }
+
+  public boolean isVertex(final int vertex) {
+    return !delta.isRemoved(vertex);
+  }
+
+  /** @return the index of the vertex, <code>-1</code> if it is not a vertex of the snapshot */
+  public int indexOf(final ORID rid) {
+    int index = csr.indexOf(rid);
+    if (index < 0) {
+      final Integer added = delta.getAddedIndex(rid);
+      if (added == null) return -1;
+      index = added;
+    }
+    return delta.isRemoved(index) ? -1 : index;
+  }
+
+  public ORID ridOf(final int vertex) {
+    final int base = csr.getVertexCount();
+    return vertex < base ? csr.ridOf(vertex) : delta.getAddedVertex(vertex - base);
+  }
+
+  /** Calls the consumer for every neighbor of the vertex, once per edge. */
+  public void forEachNeighbor(
+      final int vertex, final ODirection direction, final IntConsumer consumer) {
+    if (direction != ODirection.IN) forEachNeighbor(vertex, true, consumer);
+    if (direction != ODirection.OUT) forEachNeighbor(vertex, false, consumer);
+  }
+
+  public int degree(final int vertex, final ODirection direction) {
+    int degree = 0;
+    if (direction != ODirection.IN) degree += degree(vertex, true);
+    if (direction != ODirection.OUT) degree += degree(vertex, false);
+    return degree;
+  }
+
+  private int degree(final int vertex, final boolean out) {
+    if (delta.isRemoved(vertex)) return 0;
+    if (!delta.hasRemovedVertices()
+        && delta.getAdded(vertex, out) == null
+        && delta.getRemoved(vertex, out) == null) {
+      if (vertex >= csr.getVertexCount()) return 0;
+      return (int)
+          (out
+              ? csr.outEnd(vertex) - csr.outStart(vertex)
+              : csr.inEnd(vertex) - csr.inStart(vertex));
+    }
+
+    final int[] degree = new int[1];
+    forEachNeighbor(vertex, out, neighbor -> degree[0]++);
+    return degree[0];
+  }
+
+  private void forEachNeighbor(final int vertex, final boolean out, final IntConsumer consumer) {
+    if (delta.isRemoved(vertex)) return;
+
+    if (vertex < csr.getVertexCount()) {
+      final Map<Integer, Integer> removed = delta.getRemoved(vertex, out);
+      final Map<Integer, Integer> skipped = removed == null ? null : new HashMap<>(removed);
+      final boolean checkRemoved = delta.hasRemovedVertices();
+      final long end = out ? csr.outEnd(vertex) : csr.inEnd(vertex);
+      for (long i = out ? csr.outStart(vertex) : csr.inStart(vertex); i < end; i++) {
+        final int neighbor = out ? csr.outTarget(i) : csr.inTarget(i);
+        if (skipped != null && skip(skipped, neighbor)) continue;
+        if (checkRemoved && delta.isRemoved(neighbor)) continue;
+        consumer.accept(neighbor);
+      }
+    }
+
+    final int[] added = delta.getAdded(vertex, out);
+    if (added != null) {
+      for (int neighbor : added) {
+        if (!delta.isRemoved(neighbor)) consumer.accept(neighbor);
+      }
+    }
+  }
+
+  /** Consumes one of the deleted edges towards the neighbor, if any. */
+  private static boolean skip(final Map<Integer, Integer> skipped, final int neighbor) {
+    final Integer count = skipped.get(neighbor);
+    if (count == null) return false;
+    if (count == 1) skipped.remove(neighbor);
+    else skipped.put(neighbor, count - 1);
+    return true;
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) csr.release();
+  }
+}
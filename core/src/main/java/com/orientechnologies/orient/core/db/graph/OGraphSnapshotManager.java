@@ -0,0 +1,236 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the adjacency snapshots of a database used by the graph analytics functions, one for every
+ * set of edge classes. A snapshot is built from the storage the first time it is acquired, then the
+ * vertex and edge changes committed by the sessions are applied on top of it, until more than
+ * {@link OGlobalConfiguration#GRAPH_ANALYTICS_MAX_CHANGES} changes pile up and it is built again.
+ * Changes are collected only while at least one snapshot exists.
+ */
+public class OGraphSnapshotManager {
+  private final Map<String, OSnapshotHolder> snapshots = new ConcurrentHashMap<>();
+  private final Map<ODatabaseDocument, List<OGraphChange>> pendingChanges =
+      new ConcurrentHashMap<>();
+
+  /**
+   * @param edgeClasses edge classes of the snapshot, all the edges if empty
+   * @return a snapshot which reflects all the committed changes, to close once used
+   */
+  public OGraphSnapshot acquire(
+      final ODatabaseDocumentInternal database, final Collection<String> edgeClasses) {
+    final TreeSet<String> classes = normalize(edgeClasses);
+    final OSnapshotHolder holder =
+        snapshots.computeIfAbsent(String.join(",", classes), k -> new OSnapshotHolder(classes));
+
+    synchronized (holder) {
+      // RELEASED WHILE WAITING FOR THE LOCK
+      if (holder.closed) return acquire(database, edgeClasses);
+
+      if (holder.csr == null || holder.stale) {
+        rebuild(holder, database);
+      } else if (holder.pending.get() > 0) {
+        holder.delta = holder.delta.apply(holder.csr, holder.drain(), false);
+        if (holder.delta.getChanges() > getMaxChanges()) rebuild(holder, database);
+      }
+      return new OGraphSnapshot(holder.csr, holder.delta);
+    }
+  }
+
+  /** Drops the snapshot of the edge classes, its memory is released once it is not used anymore. */
+  public void release(final Collection<String> edgeClasses) {
+    final OSnapshotHolder holder = snapshots.remove(String.join(",", normalize(edgeClasses)));
+    if (holder != null) holder.close();
+  }
+
+  public void close() {
+    for (String key : new ArrayList<>(snapshots.keySet())) {
+      final OSnapshotHolder holder = snapshots.remove(key);
+      if (holder != null) holder.close();
+    }
+    pendingChanges.clear();
+  }
+
+  private void rebuild(final OSnapshotHolder holder, final ODatabaseDocumentInternal database) {
+    // CHANGES COMMITTED BEFORE THE SCAN ARE READ FROM THE STORAGE
+    holder.drain();
+    holder.stale = false;
+
+    final OGraphCsr csr = OGraphCsr.build(database, holder.edgeClasses);
+    if (holder.csr != null) holder.csr.release();
+    holder.csr = csr;
+    holder.delta = OGraphDelta.EMPTY.apply(csr, holder.drain(), true);
+  }
+
+  private static TreeSet<String> normalize(final Collection<String> edgeClasses) {
+    final TreeSet<String> classes = new TreeSet<>();
+    if (edgeClasses != null) {
+      for (String edgeClass : edgeClasses) {
+        if (edgeClass != null) classes.add(edgeClass.toLowerCase(Locale.ENGLISH));
+      }
+    }
+    return classes;
+  }
+
+  private static int getMaxChanges() {
+    return OGlobalConfiguration.GRAPH_ANALYTICS_MAX_CHANGES.getValueAsInteger();
+  }
+
+  public void recordCreated(
+      final OImmutableClass clazz, final ODocument doc, final ODatabaseDocument database) {
+    if (snapshots.isEmpty()) return;
+    if (clazz.isVertexType()) {
+      track(database, OGraphChange.vertex(OGraphChange.Type.VERTEX_CREATED, clazz, doc));
+    } else if (clazz.isEdgeType()) {
+      track(
+          database,
+          OGraphChange.edge(
+              OGraphChange.Type.EDGE_CREATED, clazz, doc.rawField("out"), doc.rawField("in")));
+    }
+  }
+
+  public void recordUpdated(
+      final OImmutableClass clazz, final ODocument doc, final ODatabaseDocument database) {
+    if (snapshots.isEmpty() || !clazz.isEdgeType()) return;
+
+    final List<String> dirtyFields = Arrays.asList(doc.getDirtyFields());
+    if (dirtyFields.contains("out") || dirtyFields.contains("in")) {
+      final Object out =
+          dirtyFields.contains("out") ? doc.getOriginalValue("out") : doc.rawField("out");
+      final Object in =
+          dirtyFields.contains("in") ? doc.getOriginalValue("in") : doc.rawField("in");
+      track(database, OGraphChange.edge(OGraphChange.Type.EDGE_DELETED, clazz, out, in));
+      track(
+          database,
+          OGraphChange.edge(
+              OGraphChange.Type.EDGE_CREATED, clazz, doc.rawField("out"), doc.rawField("in")));
+    }
+  }
+
+  public void recordDeleted(
+      final OImmutableClass clazz, final ODocument doc, final ODatabaseDocument database) {
+    if (snapshots.isEmpty()) return;
+    if (clazz.isVertexType()) {
+      track(database, OGraphChange.vertex(OGraphChange.Type.VERTEX_DELETED, clazz, doc));
+    } else if (clazz.isEdgeType()) {
+      track(
+          database,
+          OGraphChange.edge(
+              OGraphChange.Type.EDGE_DELETED, clazz, doc.rawField("out"), doc.rawField("in")));
+    }
+  }
+
+  private void track(final ODatabaseDocument database, final OGraphChange change) {
+    if (change != null)
+      pendingChanges.computeIfAbsent(database, k -> new ArrayList<>()).add(change);
+  }
+
+  /** Called after the commit of a session, hands its changes to the snapshots. */
+  public void commitPendingChanges(final ODatabaseDocument database) {
+    final List<OGraphChange> changes = pendingChanges.remove(database);
+    if (changes == null) return;
+
+    final int maxChanges = getMaxChanges();
+    for (OSnapshotHolder holder : snapshots.values()) {
+      for (OGraphChange change : changes) {
+        if (holder.stale) break;
+        if (holder.tracks(change.clazz)) holder.add(change, maxChanges);
+      }
+    }
+  }
+
+  /** Called after the rollback of a session, discards its changes. */
+  public void removePendingChanges(final ODatabaseDocument database) {
+    pendingChanges.remove(database);
+  }
+
+  private static final class OSnapshotHolder {
+    private final Collection<String> edgeClasses;
+    private final Queue<OGraphChange> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Too many changes were committed, the snapshot will be built again from the storage. */
+    private volatile boolean stale;
+
+    private OGraphCsr csr;
+    private OGraphDelta delta;
+    private boolean closed;
+
+    private OSnapshotHolder(final Collection<String> edgeClasses) {
+      this.edgeClasses = Collections.unmodifiableCollection(edgeClasses);
+    }
+
+    private boolean tracks(final OImmutableClass clazz) {
+      if (clazz.isVertexType() || edgeClasses.isEmpty()) return true;
+      for (String edgeClass : edgeClasses) {
+        if (clazz.isSubClassOf(edgeClass)) return true;
+      }
+      return false;
+    }
+
+    private void add(final OGraphChange change, final int maxChanges) {
+      if (pending.incrementAndGet() > maxChanges) {
+        pending.decrementAndGet();
+        stale = true;
+        drain();
+      } else {
+        changes.add(change);
+      }
+    }
+
+    private List<OGraphChange> drain() {
+      final List<OGraphChange> drained = new ArrayList<>();
+      OGraphChange change;
+      while ((change = changes.poll()) != null) {
+        drained.add(change);
+        pending.decrementAndGet();
+      }
+      return drained;
+    }
+
+    private synchronized void close() {
+      closed = true;
+      if (csr != null) {
+        csr.release();
+        csr = null;
+      }
+      drain();
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Array of longs allocated in direct memory, in chunks, so it can hold more than 2^31 items and can
+ * grow without copying the full chunks. New items are zero.
+ */
+final class OOffHeapLongArray implements AutoCloseable {
+  private static final int CHUNK_SHIFT = 24;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private OPointer[] pointers = new OPointer[0];
+  private LongBuffer[] chunks = new LongBuffer[0];
+  private long capacity;
+
+  OOffHeapLongArray(final long size) {
+    ensureCapacity(size);
+  }
+
+  long get(final long index) {
+    return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+  }
+
+  void set(final long index, final long value) {
+    chunks[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+  }
+
+  long capacity() {
+    return capacity;
+  }
+
+  void ensureCapacity(final long size) {
+    if (size <= capacity) return;
+
+    final int last = chunks.length - 1;
+    if (last >= 0 && chunks[last].capacity() < CHUNK_SIZE) {
+      // ONLY THE LAST CHUNK CAN BE PARTIAL, IT GROWS BY DOUBLING UP TO A FULL CHUNK
+      final long needed = size - ((long) last << CHUNK_SHIFT);
+      final OPointer previous = pointers[last];
+      final LongBuffer content = chunks[last];
+      allocate(last, (int) Math.min(CHUNK_SIZE, Math.max(needed, 2L * content.capacity())));
+      content.position(0);
+      chunks[last].put(content);
+      chunks[last].position(0);
+      ODirectMemoryAllocator.instance().deallocate(previous);
+    }
+
+    while (capacity < size) {
+      final int index = chunks.length;
+      pointers = Arrays.copyOf(pointers, index + 1);
+      chunks = Arrays.copyOf(chunks, index + 1);
+      allocate(index, (int) Math.min(CHUNK_SIZE, size - capacity));
+    }
+  }
+
+  private void allocate(final int index, final int length) {
+    final long previous = chunks[index] == null ? 0 : chunks[index].capacity();
+    pointers[index] = ODirectMemoryAllocator.instance().allocate(length * Long.BYTES, -1, true);
+    chunks[index] = pointers[index].getNativeByteBuffer().asLongBuffer();
+    capacity += length - previous;
+  }
+
+  @Override
+  public void close() {
+    for (OPointer pointer : pointers) ODirectMemoryAllocator.instance().deallocate(pointer);
+    pointers = new OPointer[0];
+    chunks = new LongBuffer[0];
+    capacity = 0;
+  }
+}
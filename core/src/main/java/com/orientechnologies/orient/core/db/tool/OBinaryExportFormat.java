@@ -0,0 +1,248 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.tool;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Layout of the directories written by {@link ODatabaseBinaryExport} and read by {@link
+ * ODatabaseBinaryImport}.
+ *
+ * <p>A directory contains the manifest, the schema exported as JSON without records, and one
+ * segment file per range of positions of every exported cluster. A segment stores the records of
+ * its range in ascending position order, as they are serialized in the storage:
+ *
+ * <pre>
+ * header:  magic (int), format version (int), cluster id (int), from (long), to (long)
+ * record:  position (long), version (int), type (byte), flags (byte), length (int), content
+ * footer:  -1 (long), amount of records (long)
+ * </pre>
+ */
+final class OBinaryExportFormat {
+  static final int FORMAT_VERSION = 1;
+
+  static final String MANIFEST = "manifest.json";
+  static final String IMPORT_CHECKPOINT = "import-checkpoint.json";
+  static final String SCHEMA = "schema.json.gz";
+
+  /** Tree based RidBags of the record were converted to embedded ones during the export. */
+  static final byte RIDBAGS_EMBEDDED = 1;
+
+  private static final int SEGMENT_MAGIC = 0x4F534547;
+  private static final int BUFFER_SIZE = 1 << 20;
+
+  private OBinaryExportFormat() {}
+
+  static String segmentFileName(final int clusterId, final int index) {
+    return String.format("cluster-%d-%06d.seg", clusterId, index);
+  }
+
+  static ODocument readDocument(final File file) throws IOException {
+    final String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    return new ODocument().fromJSON(json);
+  }
+
+  /** Replaces the file atomically, so a crash never leaves a partially written manifest. */
+  static void writeDocument(final File file, final ODocument document) throws IOException {
+    final File temp = new File(file.getPath() + ".tmp");
+    Files.write(temp.toPath(), document.toJSON("prettyPrint").getBytes(StandardCharsets.UTF_8));
+    OFileUtils.atomicMoveWithFallback(
+        temp.toPath(), Paths.get(file.getPath()), OBinaryExportFormat.class);
+  }
+
+  /** Range of positions of a cluster, stored in its own segment file. */
+  static final class OSegment {
+    final int clusterId;
+    final String clusterName;
+    final long from;
+    final long to;
+    final String file;
+    long records;
+    boolean done;
+
+    OSegment(
+        final int clusterId,
+        final String clusterName,
+        final int index,
+        final long segmentSize,
+        final boolean last) {
+      this.clusterId = clusterId;
+      this.clusterName = clusterName;
+      this.from = index * segmentSize;
+      this.to = last ? Long.MAX_VALUE : from + segmentSize;
+      this.file = segmentFileName(clusterId, index);
+    }
+
+    OSegment(final Map<String, Object> entry) {
+      clusterId = ((Number) entry.get("clusterId")).intValue();
+      clusterName = (String) entry.get("clusterName");
+      from = ((Number) entry.get("from")).longValue();
+      to = ((Number) entry.get("to")).longValue();
+      file = (String) entry.get("file");
+      records = ((Number) entry.get("records")).longValue();
+      done = (Boolean) entry.get("done");
+    }
+
+    Map<String, Object> toMap() {
+      final Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("clusterId", clusterId);
+      entry.put("clusterName", clusterName);
+      entry.put("from", from);
+      entry.put("to", to);
+      entry.put("file", file);
+      entry.put("records", records);
+      entry.put("done", done);
+      return entry;
+    }
+  }
+
+  static final class OSegmentWriter implements Closeable {
+    private final File file;
+    private final File temp;
+    private final DataOutputStream out;
+    private long records;
+
+    OSegmentWriter(final File file, final int clusterId, final long from, final long to)
+        throws IOException {
+      this.file = file;
+      this.temp = new File(file.getPath() + ".tmp");
+      this.out =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), BUFFER_SIZE));
+      out.writeInt(SEGMENT_MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(clusterId);
+      out.writeLong(from);
+      out.writeLong(to);
+    }
+
+    void write(
+        final long position,
+        final int version,
+        final byte type,
+        final byte flags,
+        final byte[] content)
+        throws IOException {
+      out.writeLong(position);
+      out.writeInt(version);
+      out.writeByte(type);
+      out.writeByte(flags);
+      out.writeInt(content.length);
+      out.write(content);
+      records++;
+    }
+
+    long getRecords() {
+      return records;
+    }
+
+    /** Writes the footer and makes the segment visible under its final name. */
+    void complete() throws IOException {
+      out.writeLong(-1);
+      out.writeLong(records);
+      out.close();
+      OFileUtils.atomicMoveWithFallback(temp.toPath(), file.toPath(), this);
+    }
+
+    @Override
+    public void close() throws IOException {
+      out.close();
+      Files.deleteIfExists(temp.toPath());
+    }
+  }
+
+  static final class OSegmentReader implements Closeable {
+    private final File file;
+    private final DataInputStream in;
+    private final long from;
+    private final long to;
+    private long records;
+
+    long position;
+    int version;
+    byte type;
+    byte flags;
+    byte[] content;
+
+    OSegmentReader(final File file, final int clusterId) throws IOException {
+      this.file = file;
+      this.in =
+          new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+      try {
+        if (in.readInt() != SEGMENT_MAGIC || in.readInt() != FORMAT_VERSION)
+          throw new ODatabaseImportException(
+              "File " + file + " is not a segment of a binary export");
+        if (in.readInt() != clusterId)
+          throw new ODatabaseImportException(
+              "Segment " + file + " does not contain records of cluster " + clusterId);
+        from = in.readLong();
+        to = in.readLong();
+      } catch (IOException | RuntimeException e) {
+        in.close();
+        throw e;
+      }
+    }
+
+    long getFrom() {
+      return from;
+    }
+
+    long getTo() {
+      return to;
+    }
+
+    /** Reads the next record, returns <code>false</code> after the last one. */
+    boolean next() throws IOException {
+      position = in.readLong();
+      if (position < 0) {
+        if (in.readLong() != records)
+          throw new ODatabaseImportException("Segment " + file + " is corrupted");
+        return false;
+      }
+
+      version = in.readInt();
+      type = in.readByte();
+      flags = in.readByte();
+      content = new byte[in.readInt()];
+      in.readFully(content);
+      records++;
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
@@ -0,0 +1,417 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.tool;
+
+import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.db.tool.OBinaryExportFormat.OSegment;
+import com.orientechnologies.orient.core.db.tool.OBinaryExportFormat.OSegmentWriter;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.OMetadataDefault;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OGlobalProperty;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exports a database to a directory in binary format, to be imported with {@link
+ * ODatabaseBinaryImport}.
+ *
+ * <p>Records are written as they are serialized in the storage, without any conversion, in segment
+ * files that cover a range of positions of a cluster. Segments are exported in parallel. The
+ * schema, the index definitions and the content of the manual indexes are exported in JSON format
+ * by {@link ODatabaseExport}. Documents with tree based RidBags are the only records that are
+ * deserialized: their RidBags are converted to embedded ones, because the trees are not part of the
+ * records.
+ *
+ * <p>The manifest of the directory keeps track of the exported segments: an interrupted export is
+ * resumed by running it again on the same directory, only the segments that were not completed are
+ * exported again.
+ *
+ * <p>Supported options: <code>-parallel=&lt;threads&gt;</code>, <code>-segmentSize=&lt;positions
+ * per segment&gt;</code> and the cluster and class filters of {@link ODatabaseImpExpAbstract}.
+ * Classes are filtered by their clusters.
+ */
+public class ODatabaseBinaryExport extends ODatabaseImpExpAbstract {
+  private final File directory;
+  private int parallel = Runtime.getRuntime().availableProcessors();
+  private long segmentSize = 1_000_000;
+
+  private ODocument manifest;
+  private List<OSegment> segments;
+
+  public ODatabaseBinaryExport(
+      final ODatabaseDocumentInternal iDatabase,
+      final String iDirectory,
+      final OCommandOutputListener iListener) {
+    super(iDatabase, iDirectory, iListener);
+    if (fileName == null) throw new IllegalArgumentException("directory missing");
+
+    directory = new File(fileName);
+    if (listener == null) listener = iText -> {};
+  }
+
+  @Override
+  protected String getDefaultExtension() {
+    return null;
+  }
+
+  @Override
+  public void run() {
+    exportDatabase();
+  }
+
+  @Override
+  public ODatabaseBinaryExport setOptions(final String s) {
+    super.setOptions(s);
+    return this;
+  }
+
+  public ODatabaseBinaryExport exportDatabase() {
+    try {
+      listener.onMessage(
+          "\nStarted binary export of database '"
+              + database.getName()
+              + "' to "
+              + directory
+              + "...");
+      final long time = System.currentTimeMillis();
+
+      Files.createDirectories(directory.toPath());
+      loadManifest();
+
+      if (!Boolean.TRUE.equals(manifest.field("schemaExported"))) {
+        exportSchema();
+        manifest.field("schemaExported", true);
+        saveManifest();
+      }
+
+      exportSegments();
+
+      manifest.field("completed", true);
+      saveManifest();
+
+      long records = 0;
+      for (OSegment segment : segments) records += segment.records;
+      listener.onMessage(
+          "\n\nDatabase binary export completed in "
+              + (System.currentTimeMillis() - time)
+              + "ms: "
+              + records
+              + " records in "
+              + segments.size()
+              + " segments");
+    } catch (ODatabaseExportException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new ODatabaseExportException(
+          "Error on exporting database '" + database.getName() + "' to: " + directory, e);
+    } finally {
+      database.activateOnCurrentThread();
+    }
+    return this;
+  }
+
+  public int getParallel() {
+    return parallel;
+  }
+
+  public void setParallel(final int parallel) {
+    this.parallel = parallel;
+  }
+
+  public long getSegmentSize() {
+    return segmentSize;
+  }
+
+  public void setSegmentSize(final long segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  @Override
+  protected void parseSetting(final String option, final List<String> items) {
+    if (option.equalsIgnoreCase("-parallel")) parallel = Integer.parseInt(items.get(0));
+    else if (option.equalsIgnoreCase("-segmentSize")) segmentSize = Long.parseLong(items.get(0));
+    else super.parseSetting(option, items);
+  }
+
+  /** Resumes the export described by the manifest, if it was not completed, or starts a new one. */
+  private void loadManifest() throws IOException {
+    final File file = new File(directory, OBinaryExportFormat.MANIFEST);
+    if (file.exists()) {
+      final ODocument previous = OBinaryExportFormat.readDocument(file);
+      if (!Boolean.TRUE.equals(previous.field("completed"))
+          && database.getName().equals(previous.field("database"))) {
+        manifest = previous;
+        segments = new ArrayList<>();
+        int exported = 0;
+        for (Map<String, Object> segment : previous.<List<Map<String, Object>>>field("segments")) {
+          segments.add(new OSegment(segment));
+          if (segments.get(segments.size() - 1).done) exported++;
+        }
+
+        listener.onMessage(
+            "\nResuming interrupted export: "
+                + exported
+                + " of "
+                + segments.size()
+                + " segments were already exported");
+        return;
+      }
+    }
+
+    final File[] previousFiles = directory.listFiles();
+    if (previousFiles != null) {
+      for (File previousFile : previousFiles) {
+        if (previousFile.getName().endsWith(".seg")) Files.delete(previousFile.toPath());
+      }
+    }
+
+    manifest = new ODocument();
+    manifest.field("formatVersion", OBinaryExportFormat.FORMAT_VERSION);
+    manifest.field("database", database.getName());
+    manifest.field("recordSerializer", database.getSerializer().getName());
+    manifest.field("schemaExported", false);
+    manifest.field("completed", false);
+
+    final List<Map<String, Object>> globalProperties = new ArrayList<>();
+    for (OGlobalProperty property : database.getMetadata().getSchema().getGlobalProperties()) {
+      if (property == null) continue;
+      final Map<String, Object> globalProperty = new LinkedHashMap<>();
+      globalProperty.put("id", property.getId());
+      globalProperty.put("name", property.getName());
+      globalProperty.put("type", property.getType().name());
+      globalProperties.add(globalProperty);
+    }
+    manifest.field("globalProperties", globalProperties);
+
+    final OStorage storage = database.getStorage();
+    segments = new ArrayList<>();
+    for (String clusterName : database.getClusterNames()) {
+      final int clusterId = database.getClusterIdByName(clusterName);
+      if (!isClusterExported(clusterId, clusterName)) continue;
+
+      final long lastPosition = storage.getClusterDataRange(clusterId)[1];
+      final int count = lastPosition < 0 ? 1 : (int) (lastPosition / segmentSize) + 1;
+      for (int i = 0; i < count; i++) {
+        segments.add(new OSegment(clusterId, clusterName, i, segmentSize, i == count - 1));
+      }
+    }
+    saveManifest();
+  }
+
+  private void saveManifest() throws IOException {
+    final List<Map<String, Object>> entries = new ArrayList<>();
+    for (OSegment segment : segments) entries.add(segment.toMap());
+    manifest.field("segments", entries);
+    OBinaryExportFormat.writeDocument(new File(directory, OBinaryExportFormat.MANIFEST), manifest);
+  }
+
+  private boolean isClusterExported(final int clusterId, final String clusterName) {
+    // THE SCHEMA AND THE INDEX MANAGER ARE EXPORTED IN JSON FORMAT
+    if (clusterName.equalsIgnoreCase(OMetadataDefault.CLUSTER_INTERNAL_NAME)) return false;
+
+    final String name = clusterName.toUpperCase(Locale.ENGLISH);
+    if (includeClusters != null) {
+      return includeClusters.contains(name) || includeClusters.contains(clusterName);
+    }
+    if (excludeClusters != null
+        && (excludeClusters.contains(name) || excludeClusters.contains(clusterName))) return false;
+
+    if (includeClasses != null || excludeClasses != null) {
+      final OClass cls =
+          database.getMetadata().getImmutableSchemaSnapshot().getClassByClusterId(clusterId);
+      final String className = cls != null ? cls.getName().toUpperCase(Locale.ENGLISH) : null;
+      if (includeClasses != null) return includeClasses.contains(className);
+      return !excludeClasses.contains(className);
+    }
+    return true;
+  }
+
+  private void exportSchema() throws IOException {
+    listener.onMessage("\nExporting schema...");
+
+    final ODatabaseExport export =
+        new ODatabaseExport(
+            database, new File(directory, OBinaryExportFormat.SCHEMA).getPath(), iText -> {});
+    export.setIncludeRecords(false);
+    export.exportDatabase();
+
+    listener.onMessage("OK");
+  }
+
+  private void exportSegments() throws InterruptedException, IOException {
+    final Queue<OSegment> pending = new ConcurrentLinkedQueue<>();
+    for (OSegment segment : segments) {
+      if (!segment.done) pending.add(segment);
+    }
+    if (pending.isEmpty()) return;
+
+    listener.onMessage(
+        "\nExporting " + pending.size() + " segments with " + parallel + " threads...");
+
+    final int threads = Math.max(1, Math.min(parallel, pending.size()));
+    final BlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+    final AtomicBoolean aborted = new AtomicBoolean();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int i = 0; i < threads; i++) {
+        final ODatabaseDocumentInternal session = database.copy();
+        executor.submit(
+            () -> {
+              session.activateOnCurrentThread();
+              try {
+                OSegment segment;
+                while (!aborted.get() && (segment = pending.poll()) != null) {
+                  segment.records = exportSegment(segment, aborted);
+                  completed.add(segment);
+                }
+              } catch (Throwable t) {
+                completed.add(t);
+              } finally {
+                session.activateOnCurrentThread();
+                session.close();
+              }
+            });
+      }
+
+      for (int remaining = pending.size(); remaining > 0; remaining--) {
+        final Object result = completed.take();
+        if (result instanceof Throwable) {
+          throw new ODatabaseExportException(
+              "Error on exporting database '" + database.getName() + "' to: " + directory,
+              (Throwable) result);
+        }
+
+        final OSegment segment = (OSegment) result;
+        segment.done = true;
+        saveManifest();
+        listener.onMessage(
+            "\n- Exported segment "
+                + segment.file
+                + " of cluster '"
+                + segment.clusterName
+                + "' (records="
+                + segment.records
+                + ")");
+      }
+    } finally {
+      aborted.set(true);
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private long exportSegment(final OSegment segment, final AtomicBoolean aborted)
+      throws IOException {
+    final OStorage storage = database.getStorage();
+    final int clusterId = segment.clusterId;
+
+    try (OSegmentWriter writer =
+        new OSegmentWriter(
+            new File(directory, segment.file), clusterId, segment.from, segment.to)) {
+      OPhysicalPosition[] positions =
+          storage.ceilingPhysicalPositions(clusterId, new OPhysicalPosition(segment.from));
+      scan:
+      while (positions.length > 0) {
+        for (OPhysicalPosition position : positions) {
+          if (position.clusterPosition >= segment.to) break scan;
+          if (aborted.get()) return writer.getRecords();
+
+          final ORecordId rid = new ORecordId(clusterId, position.clusterPosition);
+          final ORawBuffer buffer;
+          try {
+            buffer = storage.readRecord(rid, null, false, false, null).getResult();
+          } catch (ORecordNotFoundException e) {
+            // DELETED IN THE MEANTIME
+            continue;
+          }
+          if (buffer == null) continue;
+
+          byte flags = 0;
+          byte[] content = buffer.buffer;
+          if (buffer.recordType == ODocument.RECORD_TYPE) {
+            final byte[] converted = embedTreeRidBags(rid, buffer);
+            if (converted != null) {
+              content = converted;
+              flags = OBinaryExportFormat.RIDBAGS_EMBEDDED;
+            }
+          }
+
+          writer.write(position.clusterPosition, buffer.version, buffer.recordType, flags, content);
+        }
+        positions = storage.higherPhysicalPositions(clusterId, positions[positions.length - 1]);
+      }
+
+      writer.complete();
+      return writer.getRecords();
+    }
+  }
+
+  /**
+   * Tree based RidBags point to a tree stored in the source database, so they are converted to
+   * embedded ones. The import converts them back once the record is stored.
+   *
+   * @return the serialized document with embedded RidBags, <code>null</code> if it has no tree
+   *     based RidBags
+   */
+  private static byte[] embedTreeRidBags(final ORecordId rid, final ORawBuffer buffer) {
+    final ODocument document = new ODocument();
+    ORecordInternal.fill(document, rid, buffer.version, buffer.buffer, false);
+
+    boolean converted = false;
+    for (String field : document.fieldNames()) {
+      final Object value = document.rawField(field);
+      if (value instanceof ORidBag && !((ORidBag) value).isEmbedded()) {
+        // NEVER CONVERTED BACK TO A TREE WHILE SERIALIZED
+        final ORidBag embedded = new ORidBag(Integer.MAX_VALUE, -1);
+        for (Iterator<OIdentifiable> it = ((ORidBag) value).rawIterator(); it.hasNext(); ) {
+          embedded.add(it.next());
+        }
+        document.field(field, embedded);
+        converted = true;
+      }
+    }
+    return converted ? document.toStream() : null;
+  }
+}
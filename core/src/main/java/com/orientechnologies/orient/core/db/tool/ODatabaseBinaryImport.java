@@ -0,0 +1,505 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.tool;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.tool.OBinaryExportFormat.OSegment;
+import com.orientechnologies.orient.core.db.tool.OBinaryExportFormat.OSegmentReader;
+import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OGlobalProperty;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.OIdentity;
+import com.orientechnologies.orient.core.metadata.security.OSecurityPolicy;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Imports a database exported by {@link ODatabaseBinaryExport} in a new database.
+ *
+ * <p>The schema is imported first by {@link ODatabaseImport}, keeping the ids of clusters and
+ * global properties of the exported database, because the binary records refer to them, followed by
+ * users, roles and policies. The other records are then written directly in the clusters at their
+ * original positions, so RIDs and versions are preserved and links need no migration. Clusters are
+ * imported in parallel, the segments of a cluster in position order. Indexes are not updated while
+ * records are written, the automatic indexes are built once all the records are imported. Documents
+ * whose tree based RidBags were embedded by the export are saved again to convert them back, which
+ * increments their version.
+ *
+ * <p>A checkpoint in the export directory keeps track of the imported segments: an interrupted
+ * import is resumed by running it again on the same database, only the segments that were not
+ * completed are imported again.
+ *
+ * <p>Supported options: <code>-parallel=&lt;threads&gt;</code> and <code>-batchSize=&lt;records
+ * written in each atomic operation&gt;</code>.
+ */
+public class ODatabaseBinaryImport extends ODatabaseImpExpAbstract {
+  private final File directory;
+  private int parallel = Runtime.getRuntime().availableProcessors();
+  private int batchSize = 1_000;
+
+  private ODocument manifest;
+  private ODocument checkpoint;
+  private final Set<String> importedSegments = new HashSet<>();
+
+  public ODatabaseBinaryImport(
+      final ODatabaseDocumentInternal iDatabase,
+      final String iDirectory,
+      final OCommandOutputListener iListener) {
+    super(iDatabase, iDirectory, iListener);
+    if (fileName == null) throw new IllegalArgumentException("directory missing");
+
+    directory = new File(fileName);
+    if (listener == null) listener = iText -> {};
+  }
+
+  @Override
+  protected String getDefaultExtension() {
+    return null;
+  }
+
+  @Override
+  public void run() {
+    importDatabase();
+  }
+
+  @Override
+  public ODatabaseBinaryImport setOptions(final String s) {
+    super.setOptions(s);
+    return this;
+  }
+
+  public ODatabaseBinaryImport importDatabase() {
+    final boolean preValidation = database.isValidationEnabled();
+    try {
+      listener.onMessage(
+          "\nStarted binary import of database '"
+              + database.getName()
+              + "' from "
+              + directory
+              + "...");
+      final long time = System.currentTimeMillis();
+
+      if (!(database.getStorage().getUnderlying() instanceof OAbstractPaginatedStorage))
+        throw new ODatabaseImportException(
+            "Binary import is not supported by storage " + database.getStorage().getName());
+
+      loadManifest();
+      loadCheckpoint();
+
+      database.setValidationEnabled(false);
+
+      long records = 0;
+      if (!Boolean.TRUE.equals(checkpoint.field("schemaImported"))) {
+        importSchema();
+        records += importSecurity();
+        checkpoint.field("schemaImported", true);
+        saveCheckpoint();
+      }
+
+      records += importSegments();
+
+      database.getLocalCache().clear();
+      database.getMetadata().reload();
+
+      if (!Boolean.TRUE.equals(checkpoint.field("indexesBuilt"))) {
+        buildIndexes();
+        checkpoint.field("indexesBuilt", true);
+        saveCheckpoint();
+      }
+
+      database.getStorage().synch();
+      checkpoint.field("completed", true);
+      saveCheckpoint();
+
+      listener.onMessage(
+          "\n\nDatabase binary import completed in "
+              + (System.currentTimeMillis() - time)
+              + "ms: "
+              + records
+              + " records imported");
+    } catch (ODatabaseImportException e) {
+      throw e;
+    } catch (Exception e) {
+      throw OException.wrapException(
+          new ODatabaseImportException(
+              "Error on importing database '" + database.getName() + "' from: " + directory),
+          e);
+    } finally {
+      database.activateOnCurrentThread();
+      database.setValidationEnabled(preValidation);
+    }
+    return this;
+  }
+
+  public int getParallel() {
+    return parallel;
+  }
+
+  public void setParallel(final int parallel) {
+    this.parallel = parallel;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(final int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  protected void parseSetting(final String option, final List<String> items) {
+    if (option.equalsIgnoreCase("-parallel")) parallel = Integer.parseInt(items.get(0));
+    else if (option.equalsIgnoreCase("-batchSize")) batchSize = Integer.parseInt(items.get(0));
+    else super.parseSetting(option, items);
+  }
+
+  private void loadManifest() throws IOException {
+    final File file = new File(directory, OBinaryExportFormat.MANIFEST);
+    if (!file.exists())
+      throw new ODatabaseImportException(
+          "Directory " + directory + " does not contain a binary export");
+
+    manifest = OBinaryExportFormat.readDocument(file);
+    if (manifest.<Number>field("formatVersion").intValue() > OBinaryExportFormat.FORMAT_VERSION)
+      throw new ODatabaseImportException(
+          "Binary export in " + directory + " was written by a newer version");
+    if (!Boolean.TRUE.equals(manifest.field("completed")))
+      throw new ODatabaseImportException(
+          "Binary export in " + directory + " is not completed, resume the export first");
+
+    final String serializer = manifest.field("recordSerializer");
+    if (!serializer.equals(database.getSerializer().getName()))
+      throw new ODatabaseImportException(
+          "Records were exported with serializer "
+              + serializer
+              + ", but database '"
+              + database.getName()
+              + "' uses "
+              + database.getSerializer().getName());
+  }
+
+  /** Resumes the import of the checkpoint, if it was not completed, or starts a new one. */
+  private void loadCheckpoint() throws IOException {
+    final File file = new File(directory, OBinaryExportFormat.IMPORT_CHECKPOINT);
+    if (file.exists()) {
+      final ODocument previous = OBinaryExportFormat.readDocument(file);
+      if (!Boolean.TRUE.equals(previous.field("completed"))
+          && database.getName().equals(previous.field("database"))) {
+        checkpoint = previous;
+        final List<String> segments = previous.field("segments");
+        importedSegments.addAll(segments);
+
+        listener.onMessage(
+            "\nResuming interrupted import: "
+                + importedSegments.size()
+                + " segments were already imported");
+        return;
+      }
+    }
+
+    checkpoint = new ODocument();
+    checkpoint.field("database", database.getName());
+    checkpoint.field("schemaImported", false);
+    checkpoint.field("indexesBuilt", false);
+    checkpoint.field("completed", false);
+    saveCheckpoint();
+  }
+
+  private void saveCheckpoint() throws IOException {
+    checkpoint.field("segments", new ArrayList<>(importedSegments));
+    OBinaryExportFormat.writeDocument(
+        new File(directory, OBinaryExportFormat.IMPORT_CHECKPOINT), checkpoint);
+  }
+
+  private void importSchema() throws IOException {
+    listener.onMessage("\nImporting schema...");
+
+    // BINARY RECORDS REFER TO PROPERTIES BY THE ID OF THEIR GLOBAL PROPERTY
+    final OSchemaShared schema = database.getSharedContext().getSchema();
+    final List<Map<String, Object>> globalProperties = manifest.field("globalProperties");
+    schema.acquireSchemaWriteLock(database);
+    try {
+      for (Map<String, Object> property : globalProperties) {
+        schema.createGlobalProperty(
+            (String) property.get("name"),
+            OType.valueOf((String) property.get("type")),
+            ((Number) property.get("id")).intValue());
+      }
+    } catch (OSchemaException e) {
+      throw OException.wrapException(
+          new ODatabaseImportException(
+              "Global properties of database '"
+                  + database.getName()
+                  + "' are not compatible with the exported ones, import in a new database"),
+          e);
+    } finally {
+      schema.releaseSchemaWriteLock(database);
+    }
+
+    final ODatabaseImport schemaImport =
+        new ODatabaseImport(
+            database, new File(directory, OBinaryExportFormat.SCHEMA).getPath(), iText -> {});
+    schemaImport.setRebuildIndexes(false);
+    schemaImport.importDatabase();
+
+    for (Map<String, Object> property : globalProperties) {
+      final OGlobalProperty imported =
+          schema.getGlobalPropertyById(((Number) property.get("id")).intValue());
+      if (imported == null || !imported.getName().equals(property.get("name")))
+        throw new ODatabaseImportException(
+            "Global property '"
+                + property.get("name")
+                + "' was not preserved by the import of the schema");
+    }
+
+    listener.onMessage("OK");
+  }
+
+  /**
+   * Imports users, roles and policies before any other record: the import of the schema replaces
+   * the policies, so the database cannot be opened by other sessions until they are imported.
+   */
+  private long importSecurity() throws IOException {
+    listener.onMessage("\nImporting security...");
+
+    final OSchema schema = database.getMetadata().getSchema();
+    final Set<Integer> clusterIds = new HashSet<>();
+    for (String className :
+        new String[] {OIdentity.CLASS_NAME, OSecurityPolicy.class.getSimpleName()}) {
+      final OClass cls = schema.getClass(className);
+      if (cls != null)
+        for (int clusterId : cls.getPolymorphicClusterIds()) clusterIds.add(clusterId);
+    }
+
+    long records = 0;
+    for (Map<String, Object> entry : manifest.<List<Map<String, Object>>>field("segments")) {
+      final OSegment segment = new OSegment(entry);
+      if (!clusterIds.contains(segment.clusterId)) continue;
+
+      checkCluster(segment);
+      importSegment(database, segment, new AtomicBoolean());
+      importedSegments.add(segment.file);
+      records += segment.records;
+    }
+
+    database.getLocalCache().clear();
+    database.getMetadata().reload();
+
+    listener.onMessage("OK (records=" + records + ")");
+    return records;
+  }
+
+  private void checkCluster(final OSegment segment) {
+    final String clusterName = database.getClusterNameById(segment.clusterId);
+    if (clusterName == null || !clusterName.equalsIgnoreCase(segment.clusterName))
+      throw new ODatabaseImportException(
+          "Cluster '"
+              + segment.clusterName
+              + "' was not imported with id "
+              + segment.clusterId
+              + " by the import of the schema");
+  }
+
+  private long importSegments() throws InterruptedException {
+    final Map<Integer, List<OSegment>> byCluster = new LinkedHashMap<>();
+    int total = 0;
+    for (Map<String, Object> entry : manifest.<List<Map<String, Object>>>field("segments")) {
+      final OSegment segment = new OSegment(entry);
+      if (importedSegments.contains(segment.file)) continue;
+
+      checkCluster(segment);
+      byCluster.computeIfAbsent(segment.clusterId, id -> new ArrayList<>()).add(segment);
+      total++;
+    }
+    if (total == 0) return 0;
+
+    listener.onMessage(
+        "\nImporting "
+            + total
+            + " segments of "
+            + byCluster.size()
+            + " clusters with "
+            + parallel
+            + " threads...");
+
+    final Queue<List<OSegment>> pending = new ConcurrentLinkedQueue<>(byCluster.values());
+    final int threads = Math.max(1, Math.min(parallel, pending.size()));
+    final BlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+    final AtomicBoolean aborted = new AtomicBoolean();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    long records = 0;
+    try {
+      for (int i = 0; i < threads; i++) {
+        final ODatabaseDocumentInternal session = database.copy();
+        executor.submit(
+            () -> {
+              session.activateOnCurrentThread();
+              try {
+                List<OSegment> segments;
+                while (!aborted.get() && (segments = pending.poll()) != null) {
+                  for (OSegment segment : segments) {
+                    if (!importSegment(session, segment, aborted)) return;
+                    completed.add(segment);
+                  }
+                }
+              } catch (Throwable t) {
+                completed.add(t);
+              } finally {
+                session.activateOnCurrentThread();
+                session.close();
+              }
+            });
+      }
+
+      for (int remaining = total; remaining > 0; remaining--) {
+        final Object result = completed.take();
+        if (result instanceof Throwable) {
+          throw OException.wrapException(
+              new ODatabaseImportException(
+                  "Error on importing database '" + database.getName() + "' from: " + directory),
+              (Throwable) result);
+        }
+
+        final OSegment segment = (OSegment) result;
+        importedSegments.add(segment.file);
+        saveCheckpoint();
+        records += segment.records;
+        listener.onMessage(
+            "\n- Imported segment "
+                + segment.file
+                + " of cluster '"
+                + segment.clusterName
+                + "' (records="
+                + segment.records
+                + ")");
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new ODatabaseImportException("Error on saving the checkpoint of the import"), e);
+    } finally {
+      aborted.set(true);
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+    return records;
+  }
+
+  /** @return <code>false</code> if the import was aborted before the end of the segment */
+  private boolean importSegment(
+      final ODatabaseDocumentInternal session, final OSegment segment, final AtomicBoolean aborted)
+      throws IOException {
+    final OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    final int clusterId = segment.clusterId;
+
+    final List<OPhysicalPosition> positions = new ArrayList<>(batchSize);
+    final List<byte[]> contents = new ArrayList<>(batchSize);
+    final List<ORecordId> embeddedRidBags = new ArrayList<>();
+
+    try (OSegmentReader reader = new OSegmentReader(new File(directory, segment.file), clusterId)) {
+      long from = reader.getFrom();
+      while (reader.next()) {
+        final OPhysicalPosition position = new OPhysicalPosition(reader.position, reader.version);
+        position.recordType = reader.type;
+        positions.add(position);
+        contents.add(reader.content);
+        if ((reader.flags & OBinaryExportFormat.RIDBAGS_EMBEDDED) != 0)
+          embeddedRidBags.add(new ORecordId(clusterId, reader.position));
+
+        if (positions.size() >= batchSize) {
+          final long to = reader.position + 1;
+          writeBatch(session, storage, clusterId, from, to, positions, contents, embeddedRidBags);
+          from = to;
+          if (aborted.get()) return false;
+        }
+      }
+      writeBatch(
+          session, storage, clusterId, from, reader.getTo(), positions, contents, embeddedRidBags);
+    }
+    return true;
+  }
+
+  private void writeBatch(
+      final ODatabaseDocumentInternal session,
+      final OAbstractPaginatedStorage storage,
+      final int clusterId,
+      final long from,
+      final long to,
+      final List<OPhysicalPosition> positions,
+      final List<byte[]> contents,
+      final List<ORecordId> embeddedRidBags) {
+    storage.importRecords(
+        clusterId,
+        from,
+        to,
+        positions.toArray(new OPhysicalPosition[0]),
+        contents.toArray(new byte[0][]));
+
+    for (ORecordId rid : embeddedRidBags) {
+      final ODocument document = session.load(rid, null, true);
+      if (document != null) {
+        // SERIALIZATION CONVERTS THE EMBEDDED RIDBAGS OVER THE THRESHOLD TO TREES
+        document.setDirty();
+        session.save(document);
+      }
+    }
+
+    positions.clear();
+    contents.clear();
+    embeddedRidBags.clear();
+  }
+
+  private void buildIndexes() {
+    final OIndexManagerAbstract indexManager = database.getMetadata().getIndexManagerInternal();
+    for (OIndex index : indexManager.getIndexes(database)) {
+      if (!index.isAutomatic()) continue;
+
+      listener.onMessage("\n- Building index '" + index.getName() + "'...");
+      final long entries = index.rebuild();
+      listener.onMessage("OK (entries=" + entries + ")");
+    }
+  }
+}
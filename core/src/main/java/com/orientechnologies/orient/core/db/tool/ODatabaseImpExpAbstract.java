@@ -71,7 +71,8 @@ public abstract class ODatabaseImpExpAbstract extends ODatabaseTool {
       }
     }
 
-    if (fileName != null && fileName.indexOf('.') == -1) fileName += DEFAULT_EXT;
+    if (fileName != null && fileName.indexOf('.') == -1 && getDefaultExtension() != null)
+      fileName += getDefaultExtension();
 
     listener = iListener;
     excludeClusters = new LinkedHashSet<String>();
@@ -79,6 +80,11 @@ public abstract class ODatabaseImpExpAbstract extends ODatabaseTool {
     excludeClusters.add(OMetadataDefault.CLUSTER_MANUAL_INDEX_NAME);
   }
 
+  /** @return extension appended to file names without one, <code>null</code> to keep them as is */
+  protected String getDefaultExtension() {
+    return DEFAULT_EXT;
+  }
+
   public Set<String> getIncludeClusters() {
     return includeClusters;
   }
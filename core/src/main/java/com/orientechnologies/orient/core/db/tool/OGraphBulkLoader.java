@@ -0,0 +1,816 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.tool;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.OVertexDocument;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TimerTask;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk loader of graphs made of many vertex and edge classes, that don't fit in memory.
+ *
+ * <p>Vertices are identified by a class and a numeric id (>= 0), the RID of every vertex is
+ * computed upfront from its id, so edges can be created before their vertices are written. Half
+ * edges are buffered per partition (vertex class and cluster) and, when the buffer is full, each
+ * partition is sorted by vertex id and spilled as a run to a temporary file. On {@link #end()} the
+ * runs of every partition are merged in a single pass and vertices are written in cluster order
+ * together with their ridbags, one thread per partition. Ridbags that will exceed the embedded
+ * threshold are created as tree ridbags upfront, instead of being converted while they grow.
+ *
+ * <p>Vertices are assigned to the first <code>parallel</code> clusters of their class, ids that are
+ * never used leave a deleted record in the cluster. The database must not be modified by other
+ * clients while the loader is running: the positions reserved for the vertices are checked before
+ * the first edge of a vertex class is saved and before vertices are written, so a modified cluster
+ * is reported before the graph is partially written. Instances are not thread safe.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * OGraphBulkLoader loader = new OGraphBulkLoader(orientDB, "mydb", "admin", "admin");
+ * loader.begin();
+ * loader.createVertex("Person", 0L, props);
+ * loader.createEdge("Knows", "Person", 0L, "Person", 1L, null);
+ * loader.end();
+ * </pre>
+ */
+public class OGraphBulkLoader {
+  private static final byte VERTEX = 0;
+  private static final byte OUT = 1;
+  private static final byte IN = 2;
+  private static final byte PROPERTIES = 3;
+
+  private static final Comparator<OEntry> BY_VERTEX =
+      new Comparator<OEntry>() {
+        @Override
+        public int compare(final OEntry o1, final OEntry o2) {
+          return Long.compare(o1.vertexId, o2.vertexId);
+        }
+      };
+
+  private final OrientDB orientDB;
+  private final String dbName;
+  private final String userName;
+  private final String password;
+
+  private int parallel = 4;
+  private String idPropertyName = "uid";
+  private boolean useLightweightEdges = false;
+  private int maxBufferedEntries = 10_000_000;
+  private long progressInterval = 10_000;
+  private File tempDirectory;
+  private OCommandOutputListener outputListener;
+
+  private ODatabaseDocumentInternal db;
+  private File runsDirectory;
+  private final Map<String, OVertexClass> vertexClasses = new HashMap<>();
+  private final List<OPartition> partitions = new ArrayList<>();
+  private final Map<String, Integer> edgeClassIndexes = new HashMap<>();
+  private final List<String> edgeClasses = new ArrayList<>();
+  private int bufferedEntries;
+
+  private final AtomicLong verticesCreated = new AtomicLong();
+  private final AtomicLong edgesCreated = new AtomicLong();
+  private final AtomicLong spilledEntries = new AtomicLong();
+  private final AtomicLong spilledRuns = new AtomicLong();
+  private final AtomicLong verticesWritten = new AtomicLong();
+  private final AtomicLong linksWritten = new AtomicLong();
+  private long beginTime;
+
+  public OGraphBulkLoader(
+      final OrientDB orientDB, final String dbName, final String userName, final String password) {
+    this.orientDB = orientDB;
+    this.dbName = dbName;
+    this.userName = userName;
+    this.password = password;
+  }
+
+  /** Creates the temporary directory of the runs and opens the database. */
+  public void begin() {
+    if (db != null) throw new IllegalStateException("Bulk loader is already started");
+
+    try {
+      runsDirectory =
+          tempDirectory != null
+              ? Files.createTempDirectory(tempDirectory.toPath(), "orientdb-bulk").toFile()
+              : Files.createTempDirectory("orientdb-bulk").toFile();
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new ODatabaseException("Cannot create temporary directory for bulk load"), e);
+    }
+
+    db = (ODatabaseDocumentInternal) orientDB.open(dbName, userName, password);
+    db.declareIntent(new OIntentMassiveInsert());
+    beginTime = System.currentTimeMillis();
+  }
+
+  public void createVertex(final String vertexClass, final long id) {
+    createVertex(vertexClass, id, null);
+  }
+
+  /**
+   * Creates a vertex. Calling it more than once for the same id merges the properties, vertices
+   * that are only referenced by edges are created without properties.
+   */
+  public void createVertex(
+      final String vertexClass, final long id, final Map<String, Object> properties) {
+    checkStarted();
+    final OVertexClass vClass = getVertexClass(vertexClass, id);
+
+    final OEntry entry;
+    if (properties == null || properties.isEmpty()) entry = new OEntry(id, VERTEX);
+    else {
+      db.activateOnCurrentThread();
+      entry = new OEntry(id, PROPERTIES);
+      entry.properties = new ODocument().fromMap(properties).toStream();
+    }
+
+    buffer(vClass, entry);
+    verticesCreated.incrementAndGet();
+  }
+
+  /**
+   * Creates an edge between two vertices. An edge without properties is stored as a lightweight
+   * edge if {@link #setUseLightweightEdges(boolean)} is enabled, otherwise the edge document is
+   * saved immediately.
+   */
+  public void createEdge(
+      final String edgeClass,
+      final String fromClass,
+      final long from,
+      final String toClass,
+      final long to,
+      final Map<String, Object> properties) {
+    checkStarted();
+    final OVertexClass fromVClass = getVertexClass(fromClass, from);
+    final OVertexClass toVClass = getVertexClass(toClass, to);
+    final int edgeClassIndex = getEdgeClassIndex(edgeClass);
+
+    if (!fromVClass.checked) checkReservedPositions(fromVClass);
+    if (!toVClass.checked) checkReservedPositions(toVClass);
+
+    final ORecordId fromRid = fromVClass.getRid(from, parallel);
+    final ORecordId toRid = toVClass.getRid(to, parallel);
+
+    final ORID outLink;
+    final ORID inLink;
+    if (useLightweightEdges && (properties == null || properties.isEmpty())) {
+      outLink = toRid;
+      inLink = fromRid;
+    } else {
+      db.activateOnCurrentThread();
+      final ODocument edge = new ODocument(edgeClass);
+      if (properties != null) edge.fromMap(properties);
+      edge.field("out", fromRid);
+      edge.field("in", toRid);
+      db.save(edge);
+
+      outLink = edge.getIdentity();
+      inLink = outLink;
+    }
+
+    buffer(fromVClass, new OEntry(from, OUT, edgeClassIndex, outLink));
+    buffer(toVClass, new OEntry(to, IN, edgeClassIndex, inLink));
+    edgesCreated.incrementAndGet();
+  }
+
+  /**
+   * Writes all the vertices with their ridbags, closes the database and removes the temporary
+   * files. Call it once, after creation of all vertices and edges.
+   */
+  public void end() {
+    checkStarted();
+
+    final TimerTask progress =
+        Orient.instance()
+            .scheduleTask(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    message(
+                        "Bulk load of '%s': written %d vertices and %d links (%d vertices/sec)\n",
+                        dbName,
+                        verticesWritten.get(),
+                        linksWritten.get(),
+                        verticesWritten.get() * 1000 / Math.max(1, elapsed()));
+                  }
+                },
+                progressInterval,
+                progressInterval);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(parallel);
+    try {
+      for (OVertexClass vClass : vertexClasses.values()) checkReservedPositions(vClass);
+
+      message(
+          "Bulk load of '%s': %d vertices and %d edges loaded, %d entries spilled in %d runs, writing"
+              + " %d partitions\n",
+          dbName,
+          verticesCreated.get(),
+          edgesCreated.get(),
+          spilledEntries.get(),
+          spilledRuns.get(),
+          partitions.size());
+
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final OPartition partition : partitions) {
+        futures.add(executor.submit(() -> writePartition(partition)));
+      }
+
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException.wrapException(new ODatabaseException("Bulk load was interrupted"), e);
+        } catch (ExecutionException e) {
+          throw OException.wrapException(
+              new ODatabaseException("Error during bulk load of '" + dbName + "'"), e.getCause());
+        }
+      }
+
+      final long elapsed = elapsed();
+      message(
+          "Bulk load of '%s' completed in %d ms: %d vertices, %d edges, %d links (%d"
+              + " vertices/sec, %d links/sec)\n",
+          dbName,
+          elapsed,
+          verticesWritten.get(),
+          edgesCreated.get(),
+          linksWritten.get(),
+          verticesWritten.get() * 1000 / Math.max(1, elapsed),
+          linksWritten.get() * 1000 / Math.max(1, elapsed));
+    } finally {
+      progress.cancel();
+      executor.shutdownNow();
+      close();
+    }
+  }
+
+  private void writePartition(final OPartition partition) {
+    final OVertexClass vClass = partition.vertexClass;
+    final int clusterId = vClass.clusterIds[partition.index];
+    final int embeddedThreshold =
+        OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
+    final int treeThreshold =
+        OGlobalConfiguration.RID_BAG_SBTREEBONSAI_TO_EMBEDDED_THRESHOLD.getValueAsInteger();
+
+    final PriorityQueue<ORun> queue = new PriorityQueue<>();
+    final ODatabaseSession session = orientDB.open(dbName, userName, password);
+    try {
+      session.declareIntent(new OIntentMassiveInsert());
+      final String clusterName = session.getClusterNameById(clusterId);
+
+      for (int i = 0; i < partition.runs.size(); i++) {
+        final ORun run = new ORun(i, partition.openRun(i));
+        if (run.advance()) queue.add(run);
+      }
+
+      // ENTRIES LEFT IN MEMORY ARE MERGED AS THE LAST RUN, WITHOUT SPILLING THEM
+      Collections.sort(partition.buffer, BY_VERTEX);
+      final ORun memoryRun = new ORun(partition.runs.size(), partition.buffer.iterator());
+      if (memoryRun.advance()) queue.add(memoryRun);
+
+      @SuppressWarnings("unchecked")
+      final List<ORID>[][] links = new List[2][edgeClasses.size()];
+
+      for (long id = partition.index; id <= vClass.lastId; id += parallel) {
+        final ODocument vertex = new ODocument(vClass.name);
+        boolean exists = false;
+
+        while (!queue.isEmpty() && queue.peek().current.vertexId == id) {
+          final ORun run = queue.poll();
+          final OEntry entry = run.current;
+          exists = true;
+
+          if (entry.kind == OUT || entry.kind == IN) {
+            final List<ORID>[] byClass = links[entry.kind - OUT];
+            if (byClass[entry.edgeClass] == null) byClass[entry.edgeClass] = new ArrayList<>();
+            byClass[entry.edgeClass].add(entry.link);
+          } else if (entry.kind == PROPERTIES) {
+            final ODocument properties = new ODocument().fromStream(entry.properties);
+            for (String field : properties.fieldNames()) {
+              vertex.field(field, properties.<Object>field(field));
+            }
+          }
+
+          if (run.advance()) queue.add(run);
+        }
+
+        if (!exists) {
+          // FILL THE HOLE TO KEEP RIDS OF THE NEXT VERTICES
+          session.save(vertex, clusterName);
+          checkPosition(vClass, partition, id, vertex.getIdentity().getClusterPosition());
+          session.delete(vertex);
+          continue;
+        }
+
+        vertex.field(idPropertyName, id);
+        for (int direction = 0; direction < 2; direction++) {
+          for (int edgeClass = 0; edgeClass < edgeClasses.size(); edgeClass++) {
+            final List<ORID> rids = links[direction][edgeClass];
+            if (rids == null) continue;
+
+            final ORidBag bag =
+                rids.size() > embeddedThreshold && embeddedThreshold >= 0
+                    ? new ORidBag(-1, treeThreshold)
+                    : new ORidBag();
+            for (ORID rid : rids) bag.add(rid);
+
+            vertex.field(
+                OVertexDocument.getConnectionFieldName(
+                    direction == 0 ? ODirection.OUT : ODirection.IN,
+                    edgeClasses.get(edgeClass),
+                    true),
+                bag);
+            linksWritten.addAndGet(rids.size());
+            links[direction][edgeClass] = null;
+          }
+        }
+
+        session.save(vertex, clusterName);
+        checkPosition(vClass, partition, id, vertex.getIdentity().getClusterPosition());
+        verticesWritten.incrementAndGet();
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new ODatabaseException("Error on reading runs of cluster " + clusterId), e);
+    } finally {
+      for (ORun run : queue) run.close();
+      session.activateOnCurrentThread();
+      session.declareIntent(null);
+      session.close();
+    }
+  }
+
+  /**
+   * Checks that no record was added to the clusters of a vertex class since their first positions
+   * were reserved, otherwise the RIDs computed for its vertices are wrong.
+   */
+  private void checkReservedPositions(final OVertexClass vClass) {
+    for (int i = 0; i < parallel; i++) {
+      final long nextPosition = db.getStorage().getClusterNextPosition(vClass.clusterIds[i]);
+      if (nextPosition != vClass.firstPositions[i])
+        throw new ODatabaseException(
+            "Cluster "
+                + vClass.clusterIds[i]
+                + " of class "
+                + vClass.name
+                + " was modified during the bulk load, next position is "
+                + nextPosition
+                + " instead of "
+                + vClass.firstPositions[i]);
+    }
+    vClass.checked = true;
+  }
+
+  private void checkPosition(
+      final OVertexClass vClass, final OPartition partition, final long id, final long position) {
+    final long expected = vClass.firstPositions[partition.index] + id / parallel;
+    if (position != expected)
+      throw new ODatabaseException(
+          "Vertex "
+              + vClass.name
+              + ":"
+              + id
+              + " was stored at position "
+              + position
+              + " instead of "
+              + expected
+              + ", cluster was modified during the bulk load");
+  }
+
+  private void buffer(final OVertexClass vClass, final OEntry entry) {
+    partitions.get(vClass.firstPartition + (int) (entry.vertexId % parallel)).buffer.add(entry);
+    if (++bufferedEntries >= maxBufferedEntries) spill();
+  }
+
+  /** Sorts the buffer of every partition by vertex id and writes it as a new run. */
+  private void spill() {
+    long spilled = 0;
+    for (OPartition partition : partitions) spilled += partition.spill(runsDirectory);
+
+    bufferedEntries = 0;
+    spilledEntries.addAndGet(spilled);
+    spilledRuns.incrementAndGet();
+
+    message(
+        "Bulk load of '%s': spilled %d entries (%d vertices and %d edges loaded, %d edges/sec)\n",
+        dbName,
+        spilled,
+        verticesCreated.get(),
+        edgesCreated.get(),
+        edgesCreated.get() * 1000 / Math.max(1, elapsed()));
+  }
+
+  private OVertexClass getVertexClass(final String className, final long id) {
+    if (id < 0) throw new IllegalArgumentException("Vertex id must be >= 0, found " + id);
+
+    OVertexClass vClass = vertexClasses.get(className);
+    if (vClass == null) {
+      final int[] clusterIds = createClusters(className);
+      final long[] firstPositions = new long[parallel];
+      for (int i = 0; i < parallel; i++) {
+        // RIDS OF NEW VERTICES START FROM THE NEXT POSITION OF EACH CLUSTER, THAT INCLUDES THE
+        // DELETED RECORDS AT ITS TAIL
+        firstPositions[i] = db.getStorage().getClusterNextPosition(clusterIds[i]);
+      }
+
+      vClass = new OVertexClass(className, partitions.size(), clusterIds, firstPositions);
+      for (int i = 0; i < parallel; i++) partitions.add(new OPartition(vClass, i));
+      vertexClasses.put(className, vClass);
+    }
+
+    if (id > vClass.lastId) vClass.lastId = id;
+    return vClass;
+  }
+
+  private int[] createClusters(final String className) {
+    db.activateOnCurrentThread();
+    final OSchema schema = db.getMetadata().getSchema();
+    OClass cls = schema.getClass(className);
+    if (cls == null) cls = schema.createClass(className, schema.getClass("V"));
+    else if (!cls.isVertexType())
+      throw new IllegalArgumentException("Class '" + className + "' is not a vertex class");
+
+    for (int c = cls.getClusterIds().length; c < parallel; c++) {
+      cls.addCluster(className.toLowerCase() + "_" + c);
+    }
+
+    return Arrays.copyOf(cls.getClusterIds(), parallel);
+  }
+
+  private int getEdgeClassIndex(final String className) {
+    Integer index = edgeClassIndexes.get(className);
+    if (index == null) {
+      db.activateOnCurrentThread();
+      final OSchema schema = db.getMetadata().getSchema();
+      final OClass cls = schema.getClass(className);
+      if (cls == null) schema.createClass(className, schema.getClass("E"));
+      else if (!cls.isEdgeType())
+        throw new IllegalArgumentException("Class '" + className + "' is not an edge class");
+
+      index = edgeClasses.size();
+      edgeClasses.add(className);
+      edgeClassIndexes.put(className, index);
+    }
+    return index;
+  }
+
+  private void checkStarted() {
+    if (db == null) throw new IllegalStateException("Bulk loader is not started, call begin()");
+  }
+
+  private void close() {
+    try {
+      db.activateOnCurrentThread();
+      db.declareIntent(null);
+      db.close();
+    } finally {
+      db = null;
+      OFileUtils.deleteRecursively(runsDirectory);
+    }
+  }
+
+  private long elapsed() {
+    return System.currentTimeMillis() - beginTime;
+  }
+
+  private void message(final String format, final Object... args) {
+    if (outputListener != null) outputListener.onMessage(String.format(format, args));
+    else OLogManager.instance().info(this, format.trim(), args);
+  }
+
+  public long getVerticesCreated() {
+    return verticesCreated.get();
+  }
+
+  public long getEdgesCreated() {
+    return edgesCreated.get();
+  }
+
+  public long getSpilledEntries() {
+    return spilledEntries.get();
+  }
+
+  public long getVerticesWritten() {
+    return verticesWritten.get();
+  }
+
+  public long getLinksWritten() {
+    return linksWritten.get();
+  }
+
+  public int getParallel() {
+    return parallel;
+  }
+
+  /** Number of clusters per vertex class and of threads that write them. Default is 4. */
+  public void setParallel(final int parallel) {
+    if (db != null) throw new IllegalStateException("Bulk loader is already started");
+    if (parallel < 1) throw new IllegalArgumentException("Parallel must be at least 1");
+    this.parallel = parallel;
+  }
+
+  public String getIdPropertyName() {
+    return idPropertyName;
+  }
+
+  /** Name of the property that stores the id of vertices. Default is <code>uid</code>. */
+  public void setIdPropertyName(final String idPropertyName) {
+    this.idPropertyName = idPropertyName;
+  }
+
+  public boolean isUseLightweightEdges() {
+    return useLightweightEdges;
+  }
+
+  public void setUseLightweightEdges(final boolean useLightweightEdges) {
+    this.useLightweightEdges = useLightweightEdges;
+  }
+
+  public int getMaxBufferedEntries() {
+    return maxBufferedEntries;
+  }
+
+  /**
+   * Maximum number of vertices and half edges kept in memory before they are spilled to disk.
+   * Default is 10 millions.
+   */
+  public void setMaxBufferedEntries(final int maxBufferedEntries) {
+    if (maxBufferedEntries < 1)
+      throw new IllegalArgumentException("Max buffered entries must be at least 1");
+    this.maxBufferedEntries = maxBufferedEntries;
+  }
+
+  public long getProgressInterval() {
+    return progressInterval;
+  }
+
+  /** Interval in milliseconds between progress messages while vertices are written. */
+  public void setProgressInterval(final long progressInterval) {
+    this.progressInterval = progressInterval;
+  }
+
+  public File getTempDirectory() {
+    return tempDirectory;
+  }
+
+  /** Directory where runs are spilled, the default temporary directory is used if not set. */
+  public void setTempDirectory(final File tempDirectory) {
+    this.tempDirectory = tempDirectory;
+  }
+
+  public void setOutputListener(final OCommandOutputListener outputListener) {
+    this.outputListener = outputListener;
+  }
+
+  private static final class OVertexClass {
+    private final String name;
+    private final int firstPartition;
+    private final int[] clusterIds;
+    private final long[] firstPositions;
+    private long lastId = -1;
+    private boolean checked;
+
+    private OVertexClass(
+        final String name,
+        final int firstPartition,
+        final int[] clusterIds,
+        final long[] firstPositions) {
+      this.name = name;
+      this.firstPartition = firstPartition;
+      this.clusterIds = clusterIds;
+      this.firstPositions = firstPositions;
+    }
+
+    private ORecordId getRid(final long id, final int parallel) {
+      final int index = (int) (id % parallel);
+      return new ORecordId(clusterIds[index], firstPositions[index] + id / parallel);
+    }
+  }
+
+  /** Entries of the vertices of one cluster, sorted runs on disk and the unsorted buffer. */
+  private static final class OPartition {
+    private final OVertexClass vertexClass;
+    private final int index;
+    private List<OEntry> buffer = new ArrayList<>();
+
+    /** Offset and number of entries of every run in the file of the partition. */
+    private final List<long[]> runs = new ArrayList<>();
+
+    private File file;
+    private long fileLength;
+
+    private OPartition(final OVertexClass vertexClass, final int index) {
+      this.vertexClass = vertexClass;
+      this.index = index;
+    }
+
+    private int spill(final File directory) {
+      if (buffer.isEmpty()) return 0;
+
+      Collections.sort(buffer, BY_VERTEX);
+      if (file == null) file = new File(directory, vertexClass.firstPartition + index + ".run");
+
+      final int count = buffer.size();
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(new FileOutputStream(file, true), 1 << 16))) {
+        for (OEntry entry : buffer) entry.write(out);
+        out.flush();
+
+        runs.add(new long[] {fileLength, count});
+        fileLength += out.size();
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new ODatabaseException("Cannot spill bulk load entries to " + file), e);
+      }
+
+      buffer = new ArrayList<>();
+      return count;
+    }
+
+    private Iterator<OEntry> openRun(final int run) throws IOException {
+      final long[] descriptor = runs.get(run);
+      final FileInputStream in = new FileInputStream(file);
+      in.getChannel().position(descriptor[0]);
+
+      final DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+      return new OFileRunIterator(data, descriptor[1]);
+    }
+  }
+
+  private static final class OFileRunIterator implements Iterator<OEntry> {
+    private final DataInputStream in;
+    private long remaining;
+
+    private OFileRunIterator(final DataInputStream in, final long count) {
+      this.in = in;
+      this.remaining = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (remaining > 0) return true;
+      close();
+      return false;
+    }
+
+    @Override
+    public OEntry next() {
+      if (remaining <= 0) throw new NoSuchElementException();
+      remaining--;
+      try {
+        return OEntry.read(in);
+      } catch (IOException e) {
+        close();
+        throw OException.wrapException(new ODatabaseException("Cannot read bulk load run"), e);
+      }
+    }
+
+    private void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Cannot close bulk load run", e);
+      }
+    }
+  }
+
+  /** Cursor on a sorted run during the merge, ties are broken by run order. */
+  private static final class ORun implements Comparable<ORun> {
+    private final int index;
+    private final Iterator<OEntry> entries;
+    private OEntry current;
+
+    private ORun(final int index, final Iterator<OEntry> entries) {
+      this.index = index;
+      this.entries = entries;
+    }
+
+    private boolean advance() {
+      current = entries.hasNext() ? entries.next() : null;
+      return current != null;
+    }
+
+    private void close() {
+      if (entries instanceof OFileRunIterator) ((OFileRunIterator) entries).close();
+    }
+
+    @Override
+    public int compareTo(final ORun o) {
+      final int result = Long.compare(current.vertexId, o.current.vertexId);
+      return result != 0 ? result : Integer.compare(index, o.index);
+    }
+  }
+
+  /** Vertex, vertex properties or half edge that belongs to a vertex. */
+  private static final class OEntry {
+    private final long vertexId;
+    private final byte kind;
+    private int edgeClass;
+    private ORID link;
+    private byte[] properties;
+
+    private OEntry(final long vertexId, final byte kind) {
+      this.vertexId = vertexId;
+      this.kind = kind;
+    }
+
+    private OEntry(final long vertexId, final byte kind, final int edgeClass, final ORID link) {
+      this.vertexId = vertexId;
+      this.kind = kind;
+      this.edgeClass = edgeClass;
+      this.link = link;
+    }
+
+    private void write(final DataOutputStream out) throws IOException {
+      out.writeLong(vertexId);
+      out.writeByte(kind);
+      if (kind == OUT || kind == IN) {
+        out.writeInt(edgeClass);
+        out.writeInt(link.getClusterId());
+        out.writeLong(link.getClusterPosition());
+      } else if (kind == PROPERTIES) {
+        out.writeInt(properties.length);
+        out.write(properties);
+      }
+    }
+
+    private static OEntry read(final DataInputStream in) throws IOException {
+      final long vertexId = in.readLong();
+      final byte kind = in.readByte();
+      if (kind == OUT || kind == IN) {
+        final int edgeClass = in.readInt();
+        final int clusterId = in.readInt();
+        return new OEntry(vertexId, kind, edgeClass, new ORecordId(clusterId, in.readLong()));
+      }
+
+      final OEntry entry = new OEntry(vertexId, kind);
+      if (kind == PROPERTIES) {
+        entry.properties = new byte[in.readInt()];
+        in.readFully(entry.properties);
+      } else if (kind != VERTEX) throw new EOFException("Unexpected entry type " + kind);
+      return entry;
+    }
+  }
+}
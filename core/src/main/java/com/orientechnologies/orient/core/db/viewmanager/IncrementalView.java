@@ -0,0 +1,382 @@
+package com.orientechnologies.orient.core.db.viewmanager;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OFromItem;
+import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatementCache;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the changes of the source class of a view, so they can be applied to the view without
+ * rebuilding it. Only views on a single class are supported:
+ *
+ * <ul>
+ *   <li>filter/projection views (no GROUP BY, LET, UNWIND, SKIP or LIMIT) with an origin RID field:
+ *       RIDs of the changed records are collected and their rows are computed again.
+ *   <li>aggregate views grouped by properties that are part of the projection: values of the
+ *       changed groups are collected and only these groups are computed again.
+ * </ul>
+ *
+ * Only changes of the source class are tracked, so the rows of the view must depend only on the
+ * values of the source record: projections and conditions that follow links, run sub-queries or
+ * call graph functions are excluded. If too many changes are collected or a change can't be
+ * tracked, the view is rebuilt as usual.
+ */
+class IncrementalView {
+  /** Alias of the projection added to filter views to keep track of the origin record. */
+  static final String ORIGIN_ALIAS = "__viewOrigin";
+
+  private final String viewName;
+  private final String query;
+  private final String originRidField;
+  private final String className;
+  private final OSelectStatement statement;
+
+  /** Group by properties of the source class and their aliases in the view, if aggregate. */
+  private final List<String> groupByProperties;
+
+  private final List<String> groupByAliases;
+
+  private final int maxChanges;
+  private final Set<ORID> changedRecords = ConcurrentHashMap.newKeySet();
+  private final Set<List<Object>> changedGroups = ConcurrentHashMap.newKeySet();
+  private volatile boolean overflow = false;
+
+  private IncrementalView(
+      OView view,
+      String className,
+      OSelectStatement statement,
+      List<String> groupByProperties,
+      List<String> groupByAliases) {
+    this.viewName = view.getName();
+    this.query = view.getQuery();
+    this.originRidField = view.getOriginRidField();
+    this.className = className;
+    this.statement = statement;
+    this.groupByProperties = groupByProperties;
+    this.groupByAliases = groupByAliases;
+    this.maxChanges = OGlobalConfiguration.VIEW_INCREMENTAL_MAX_CHANGES.getValueAsInteger();
+  }
+
+  /** Returns the incremental maintenance of the view or <code>null</code> if not supported. */
+  static IncrementalView analyze(OView view, ODatabaseDocumentInternal db) {
+    if (OGlobalConfiguration.VIEW_INCREMENTAL_MAX_CHANGES.getValueAsInteger() <= 0) {
+      return null;
+    }
+
+    final OStatement parsed;
+    try {
+      parsed = OStatementCache.get(view.getQuery(), db);
+    } catch (RuntimeException e) {
+      return null;
+    }
+    if (!(parsed instanceof OSelectStatement)) {
+      return null;
+    }
+
+    final OSelectStatement select = ((OSelectStatement) parsed).copy();
+    if (select.getTarget() == null
+        || select.getLetClause() != null
+        || select.getUnwind() != null
+        || select.getSkip() != null
+        || select.getLimit() != null) {
+      return null;
+    }
+
+    final OFromItem from = select.getTarget().getItem();
+    if (from.getIdentifier() == null
+        || from.getModifier() != null
+        || from.getRids() != null && !from.getRids().isEmpty()) {
+      return null;
+    }
+
+    final OClass sourceClass =
+        db.getMetadata()
+            .getImmutableSchemaSnapshot()
+            .getClass(from.getIdentifier().getStringValue());
+    if (sourceClass == null || sourceClass.isAbstract() && sourceClass.getSubclasses().isEmpty()) {
+      return null;
+    }
+
+    final OProjection projection = select.getProjection();
+    if (projection != null && projection.isDistinct() || !dependsOnlyOnSourceRecord(select)) {
+      return null;
+    }
+
+    if (select.getGroupBy() == null) {
+      if (view.getOriginRidField() == null) {
+        return null;
+      }
+      if (projection != null) {
+        for (OProjectionItem item : projection.getItems()) {
+          if (item.isAggregate() || item.isExpand()) {
+            return null;
+          }
+        }
+        projection.getItems().add(originItem(db));
+      }
+
+      return new IncrementalView(
+          view, sourceClass.getName(), select, Collections.emptyList(), Collections.emptyList());
+    }
+
+    // AGGREGATE VIEW: EVERY GROUP BY PROPERTY HAS TO BE PROJECTED, TO FIND THE ROWS OF A GROUP
+    if (projection == null) {
+      return null;
+    }
+
+    final List<String> groupByProperties = new ArrayList<>();
+    final List<String> groupByAliases = new ArrayList<>();
+    for (OExpression groupBy : select.getGroupBy().getItems()) {
+      if (!groupBy.isBaseIdentifier()) {
+        return null;
+      }
+
+      String alias = null;
+      for (OProjectionItem item : projection.getItems()) {
+        if (!item.isAll() && groupBy.equals(item.getExpression())) {
+          alias = item.getProjectionAliasAsString();
+          break;
+        }
+      }
+      if (alias == null) {
+        return null;
+      }
+
+      groupByProperties.add(groupBy.getDefaultAlias().getStringValue());
+      groupByAliases.add(alias);
+    }
+
+    return new IncrementalView(
+        view, sourceClass.getName(), select, groupByProperties, groupByAliases);
+  }
+
+  /**
+   * Changes are tracked only on the source class, so link traversals, sub-queries and graph
+   * functions would make rows of the view depend on records that are not tracked.
+   */
+  private static boolean dependsOnlyOnSourceRecord(OSelectStatement select) {
+    if (select.getProjection() != null) {
+      for (OProjectionItem item : select.getProjection().getItems()) {
+        if (!item.dependsOnlyOnCurrentRecord()) {
+          return false;
+        }
+      }
+    }
+    return select.getWhereClause() == null || select.getWhereClause().dependsOnlyOnCurrentRecord();
+  }
+
+  private static OProjectionItem originItem(ODatabaseDocumentInternal db) {
+    final OSelectStatement template =
+        (OSelectStatement) OStatementCache.get("SELECT @rid AS " + ORIGIN_ALIAS + " FROM V", db);
+    return template.getProjection().getItems().get(0).copy();
+  }
+
+  String getViewName() {
+    return viewName;
+  }
+
+  boolean isAggregate() {
+    return !groupByProperties.isEmpty();
+  }
+
+  /** Returns <code>true</code> if collected changes are enough to bring the view up to date. */
+  boolean canBeAppliedTo(OView view) {
+    return !overflow
+        && query.equals(view.getQuery())
+        && Objects.equals(originRidField, view.getOriginRidField())
+        && view.getClusterIds().length == 1;
+  }
+
+  /** Discards the collected changes, so the view is rebuilt on next update. */
+  void invalidate() {
+    overflow = true;
+  }
+
+  boolean tracks(OImmutableClass clazz) {
+    return clazz.isSubClassOf(className);
+  }
+
+  /**
+   * Captures the change of a record of the source class, called when the record is saved. The
+   * change is collected only when the transaction that made it is committed.
+   */
+  Change recordChanged(ODocument doc) {
+    if (overflow) {
+      return null;
+    }
+    if (!isAggregate()) {
+      return new Change(this, doc, null);
+    }
+
+    // ORIGINAL VALUES ARE NOT AVAILABLE ANYMORE AT COMMIT TIME
+    try {
+      final Set<String> dirtyFields = new HashSet<>(Arrays.asList(doc.getDirtyFields()));
+      final List<Object> current = new ArrayList<>(groupByProperties.size());
+      final List<Object> original = new ArrayList<>(groupByProperties.size());
+      for (String property : groupByProperties) {
+        final Object value = doc.field(property);
+        current.add(value);
+        original.add(dirtyFields.contains(property) ? doc.getOriginalValue(property) : value);
+      }
+      return new Change(
+          this,
+          doc,
+          current.equals(original)
+              ? Collections.singletonList(current)
+              : Arrays.asList(current, original));
+    } catch (RuntimeException e) {
+      overflow = true;
+      return null;
+    }
+  }
+
+  /** Collects a committed change, it is applied to the view on next update. */
+  void commit(Change change) {
+    if (change.source != this && !query.equals(change.source.query)) {
+      return;
+    }
+
+    if (change.groups != null) {
+      changedGroups.addAll(change.groups);
+    } else {
+      // TEMPORARY RIDS ARE REPLACED BY PERSISTENT ONES ON COMMIT
+      final ORID rid = change.doc.getIdentity();
+      if (!rid.isPersistent()) {
+        overflow = true;
+        return;
+      }
+      changedRecords.add(rid.copy());
+    }
+
+    if (changedRecords.size() + changedGroups.size() > maxChanges) {
+      overflow = true;
+    }
+  }
+
+  /**
+   * Removes the collected changes. Changes collected concurrently are either returned or kept for
+   * the next call.
+   */
+  private static <T> List<T> drain(Set<T> changes) {
+    final List<T> result = new ArrayList<>();
+    for (Iterator<T> iterator = changes.iterator(); iterator.hasNext(); ) {
+      result.add(iterator.next());
+      iterator.remove();
+    }
+    return result;
+  }
+
+  List<ORID> drainChangedRecords() {
+    return drain(changedRecords);
+  }
+
+  List<List<Object>> drainChangedGroups() {
+    return drain(changedGroups);
+  }
+
+  /** Runs the view query on all the records of the source class. */
+  OResultSet queryAll(ODatabaseDocumentInternal db) {
+    return statement.execute(db, new HashMap<>(), null, false);
+  }
+
+  /** Runs the view query only on the given records of the source class. */
+  OResultSet queryRecords(ODatabaseDocumentInternal db, Collection<ORID> rids) {
+    final OSelectStatement select = statement.copy();
+    select.setTarget(
+        ((OSelectStatement) OStatementCache.get("SELECT FROM :rids", db)).getTarget().copy());
+
+    final Map<Object, Object> params = new HashMap<>();
+    params.put("rids", rids);
+    return select.execute(db, params, null, false);
+  }
+
+  /** Runs the view query only on the records of the given groups. */
+  OResultSet queryGroups(ODatabaseDocumentInternal db, List<List<Object>> groups) {
+    final Map<Object, Object> params = new HashMap<>();
+    final StringBuilder condition = new StringBuilder();
+    for (List<Object> group : groups) {
+      if (condition.length() > 0) {
+        condition.append(" OR ");
+      }
+      condition.append('(');
+      for (int i = 0; i < groupByProperties.size(); i++) {
+        if (i > 0) {
+          condition.append(" AND ");
+        }
+        condition.append('`').append(groupByProperties.get(i)).append('`');
+
+        final Object value = group.get(i);
+        if (value == null) {
+          condition.append(" IS NULL");
+        } else {
+          final String param = "g" + params.size();
+          condition.append(" = :").append(param);
+          params.put(param, value);
+        }
+      }
+      condition.append(')');
+    }
+
+    final OSelectStatement select = statement.copy();
+    if (select.getWhereClause() != null) {
+      condition.insert(0, "(" + select.getWhereClause() + ") AND (").append(')');
+    }
+    final OWhereClause where = new OWhereClause(-1);
+    where.setBaseExpression(OSQLEngine.parsePredicate(condition.toString()));
+    select.setWhereClause(where);
+
+    return select.execute(db, params, null, false);
+  }
+
+  /** Returns the values of the group by properties stored in a row of the view. */
+  List<Object> groupOf(OElement row) {
+    final List<Object> group = new ArrayList<>(groupByAliases.size());
+    for (String alias : groupByAliases) {
+      group.add(row.getProperty(alias));
+    }
+    return group;
+  }
+
+  /** Change of a record of the source class, waiting for its transaction to be committed. */
+  static final class Change {
+    private final IncrementalView source;
+    private final ODocument doc;
+    private final List<List<Object>> groups;
+
+    private Change(IncrementalView source, ODocument doc, List<List<Object>> groups) {
+      this.source = source;
+      this.doc = doc;
+      this.groups = groups;
+    }
+
+    String getViewName() {
+      return source.viewName;
+    }
+  }
+}
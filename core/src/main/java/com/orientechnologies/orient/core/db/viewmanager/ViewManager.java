@@ -13,6 +13,8 @@ import com.orientechnologies.orient.core.db.OScenarioThreadLocal;
 import com.orientechnologies.orient.core.db.OrientDBInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
@@ -25,6 +27,7 @@ import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.metadata.schema.OViewConfig;
 import com.orientechnologies.orient.core.metadata.schema.OViewImpl;
 import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
@@ -37,9 +40,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimerTask;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -50,9 +55,14 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ViewManager {
+  private static final int RECORDS_PER_BATCH = 1000;
+  private static final int GROUPS_PER_BATCH = 100;
+
   private final OrientDBInternal orientDB;
   private final String dbName;
 
@@ -81,6 +91,13 @@ public class ViewManager {
 
   private final Map<String, Long> lastChangePerClass = new ConcurrentHashMap<>();
 
+  /** Views maintained incrementally, by view name. */
+  private final Map<String, IncrementalView> incrementalViews = new ConcurrentHashMap<>();
+
+  /** Changes of the source classes of incremental views, waiting for the commit of a session. */
+  private final Map<ODatabaseDocument, List<IncrementalView.Change>> pendingChanges =
+      new ConcurrentHashMap<>();
+
   private volatile String lastUpdatedView = null;
   private volatile TimerTask timerTask;
   private volatile Future<?> lastTask;
@@ -313,11 +330,26 @@ public class ViewManager {
   public synchronized void updateView(OView view, ODatabaseDocumentInternal db) {
     lastUpdateTimestampForView.put(view.getName(), System.currentTimeMillis());
 
-    int cluster = db.addCluster(getNextClusterNameFor(view, db));
-
     String viewName = view.getName();
     String query = view.getQuery();
     String originRidField = view.getOriginRidField();
+
+    IncrementalView incremental = incrementalViews.get(viewName);
+    if (incremental != null && incremental.canBeAppliedTo(view)) {
+      applyChanges(view, incremental, db);
+      return;
+    }
+
+    // changes done while the view is rebuilt are applied on next update
+    incremental = IncrementalView.analyze(view, db);
+    if (incremental != null) {
+      incrementalViews.put(viewName, incremental);
+    } else {
+      incrementalViews.remove(viewName);
+    }
+    final IncrementalView tracker = incremental;
+
+    int cluster = db.addCluster(getNextClusterNameFor(view, db));
     String clusterName = db.getClusterNameById(cluster);
 
     List<OIndex> indexes = createNewIndexesForView(view, cluster, db);
@@ -327,7 +359,8 @@ public class ViewManager {
           @Override
           public Object call() {
 
-            OResultSet rs = db.query(query);
+            OResultSet rs =
+                tracker != null && !tracker.isAggregate() ? tracker.queryAll(db) : db.query(query);
             while (rs.hasNext()) {
               OResult item = rs.next();
               addItemToView(item, db, originRidField, viewName, clusterName, indexes);
@@ -340,6 +373,7 @@ public class ViewManager {
     view = db.getMetadata().getSchema().getView(view.getName());
     if (view == null) {
       // the view was dropped in the meantime
+      incrementalViews.remove(viewName);
       db.dropCluster(clusterName);
       indexes.forEach(x -> x.delete());
       return;
@@ -372,6 +406,188 @@ public class ViewManager {
     cleanUnusedViewClusters(db);
   }
 
+  /** Applies the changes of the source class to the current cluster and indexes of the view. */
+  private void applyChanges(OView view, IncrementalView incremental, ODatabaseDocumentInternal db) {
+    String clusterName = db.getClusterNameById(view.getClusterIds()[0]);
+    List<OIndex> indexes = new ArrayList<>(((OViewImpl) view).getClassIndexes());
+
+    OScenarioThreadLocal.executeAsDistributed(
+        new Callable<Object>() {
+          @Override
+          public Object call() {
+            try {
+              if (incremental.isAggregate()) {
+                applyGroupChanges(view, incremental, clusterName, indexes, db);
+              } else {
+                applyRecordChanges(view, incremental, clusterName, indexes, db);
+              }
+            } catch (RuntimeException e) {
+              // the changes that were not applied are lost, the view is rebuilt on next update
+              incremental.invalidate();
+              throw e;
+            }
+            return null;
+          }
+        });
+  }
+
+  private void applyRecordChanges(
+      OView view,
+      IncrementalView incremental,
+      String clusterName,
+      List<OIndex> indexes,
+      ODatabaseDocumentInternal db) {
+    List<ORID> changed = incremental.drainChangedRecords();
+    if (changed.isEmpty()) {
+      return;
+    }
+
+    String originRidField = view.getOriginRidField();
+    OIndex originIndex = null;
+    for (OIndex idx : indexes) {
+      if (idx.getDefinition().getFields().equals(Collections.singletonList(originRidField))) {
+        originIndex = idx;
+        break;
+      }
+    }
+
+    // without an index on the origin field, the cluster of the view is scanned once
+    Map<ORID, List<ORID>> rowsPerOrigin = null;
+    if (originIndex == null) {
+      Set<ORID> changedSet = new HashSet<>(changed);
+      rowsPerOrigin = new HashMap<>();
+      for (ORecord record : db.browseCluster(clusterName)) {
+        if (record instanceof OElement) {
+          Object origin = ((OElement) record).getProperty(originRidField);
+          if (origin instanceof OIdentifiable
+              && changedSet.contains(((OIdentifiable) origin).getIdentity())) {
+            rowsPerOrigin
+                .computeIfAbsent(((OIdentifiable) origin).getIdentity(), k -> new ArrayList<>())
+                .add(record.getIdentity());
+          }
+        }
+      }
+    }
+
+    for (int from = 0; from < changed.size(); from += RECORDS_PER_BATCH) {
+      List<ORID> batch = changed.subList(from, Math.min(changed.size(), from + RECORDS_PER_BATCH));
+
+      List<ORID> oldRows = new ArrayList<>();
+      for (ORID rid : batch) {
+        if (originIndex != null) {
+          try (Stream<ORID> rows = originIndex.getInternal().getRids(rid)) {
+            rows.forEach(oldRows::add);
+          }
+        } else {
+          oldRows.addAll(rowsPerOrigin.getOrDefault(rid, Collections.emptyList()));
+        }
+      }
+
+      replaceRows(
+          oldRows,
+          txIndexes -> {
+            try (OResultSet rs = incremental.queryRecords(db, batch)) {
+              while (rs.hasNext()) {
+                addItemToView(
+                    rs.next(), db, originRidField, view.getName(), clusterName, txIndexes);
+              }
+            }
+          },
+          indexes,
+          db);
+    }
+  }
+
+  private void applyGroupChanges(
+      OView view,
+      IncrementalView incremental,
+      String clusterName,
+      List<OIndex> indexes,
+      ODatabaseDocumentInternal db) {
+    List<List<Object>> changed = incremental.drainChangedGroups();
+    if (changed.isEmpty()) {
+      return;
+    }
+
+    // aggregated views are small, scanning the cluster is cheaper than an index per group
+    Set<List<Object>> changedSet = new HashSet<>(changed);
+    Map<List<Object>, List<ORID>> rowsPerGroup = new HashMap<>();
+    for (ORecord record : db.browseCluster(clusterName)) {
+      if (record instanceof OElement) {
+        List<Object> group = incremental.groupOf((OElement) record);
+        if (changedSet.contains(group)) {
+          rowsPerGroup.computeIfAbsent(group, k -> new ArrayList<>()).add(record.getIdentity());
+        }
+      }
+    }
+
+    for (int from = 0; from < changed.size(); from += GROUPS_PER_BATCH) {
+      List<List<Object>> batch =
+          changed.subList(from, Math.min(changed.size(), from + GROUPS_PER_BATCH));
+
+      List<ORID> oldRows = new ArrayList<>();
+      for (List<Object> group : batch) {
+        oldRows.addAll(rowsPerGroup.getOrDefault(group, Collections.emptyList()));
+      }
+
+      replaceRows(
+          oldRows,
+          txIndexes -> {
+            try (OResultSet rs = incremental.queryGroups(db, batch)) {
+              while (rs.hasNext()) {
+                addItemToView(
+                    rs.next(),
+                    db,
+                    view.getOriginRidField(),
+                    view.getName(),
+                    clusterName,
+                    txIndexes);
+              }
+            }
+          },
+          indexes,
+          db);
+    }
+  }
+
+  /**
+   * Removes the old rows of a batch of changes and adds the new ones in the same transaction, so
+   * queries on the view never miss the rows of the changed records.
+   */
+  private void replaceRows(
+      List<ORID> oldRows,
+      Consumer<List<OIndex>> addNewRows,
+      List<OIndex> indexes,
+      ODatabaseDocumentInternal db) {
+    db.begin();
+    try {
+      OIndexManagerAbstract indexManager = db.getMetadata().getIndexManagerInternal();
+      List<OIndex> txIndexes =
+          indexes.stream()
+              .map(idx -> indexManager.preProcessBeforeReturn(db, idx))
+              .collect(Collectors.toList());
+
+      for (ORID rid : oldRows) {
+        OElement row = rid.getRecord();
+        if (row != null) {
+          removeItemFromView(row, txIndexes);
+        }
+      }
+      addNewRows.accept(txIndexes);
+      db.commit();
+    } catch (RuntimeException e) {
+      if (db.getTransaction().isActive()) {
+        db.rollback();
+      }
+      throw e;
+    }
+  }
+
+  private void removeItemFromView(OElement row, List<OIndex> indexes) {
+    indexes.forEach(idx -> idx.remove(indexedKeyFor(idx, row), row));
+    row.delete();
+  }
+
   private void addItemToView(
       OResult item,
       ODatabaseDocument db,
@@ -381,7 +597,11 @@ public class ViewManager {
       List<OIndex> indexes) {
     OElement newRow = copyElement(item, db);
     if (originRidField != null) {
-      newRow.setProperty(originRidField, item.getIdentity().orElse(item.getProperty("@rid")));
+      Object origin = item.getProperty(IncrementalView.ORIGIN_ALIAS);
+      if (origin == null) {
+        origin = item.getIdentity().orElse(item.getProperty("@rid"));
+      }
+      newRow.setProperty(originRidField, origin);
       newRow.setProperty("@view", viewName);
     }
     db.save(newRow, clusterName);
@@ -458,7 +678,9 @@ public class ViewManager {
   private OElement copyElement(OResult item, ODatabaseDocument db) {
     OElement newRow = db.newElement();
     for (String prop : item.getPropertyNames()) {
-      if (!prop.equalsIgnoreCase("@rid") && !prop.equalsIgnoreCase("@class")) {
+      if (!prop.equalsIgnoreCase("@rid")
+          && !prop.equalsIgnoreCase("@class")
+          && !prop.equals(IncrementalView.ORIGIN_ALIAS)) {
         newRow.setProperty(prop, item.getProperty(prop));
       }
     }
@@ -507,16 +729,51 @@ public class ViewManager {
   public void recordAdded(
       OImmutableClass clazz, ODocument doc, ODatabaseDocumentEmbedded oDatabaseDocumentEmbedded) {
     lastChangePerClass.put(clazz.getName().toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    trackChange(clazz, doc, oDatabaseDocumentEmbedded);
   }
 
   public void recordUpdated(
       OImmutableClass clazz, ODocument doc, ODatabaseDocumentEmbedded oDatabaseDocumentEmbedded) {
     lastChangePerClass.put(clazz.getName().toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    trackChange(clazz, doc, oDatabaseDocumentEmbedded);
   }
 
   public void recordDeleted(
       OImmutableClass clazz, ODocument doc, ODatabaseDocumentEmbedded oDatabaseDocumentEmbedded) {
     lastChangePerClass.put(clazz.getName().toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    trackChange(clazz, doc, oDatabaseDocumentEmbedded);
+  }
+
+  private void trackChange(OImmutableClass clazz, ODocument doc, ODatabaseDocument db) {
+    if (incrementalViews.isEmpty()) {
+      return;
+    }
+    for (IncrementalView incremental : incrementalViews.values()) {
+      if (incremental.tracks(clazz)) {
+        IncrementalView.Change change = incremental.recordChanged(doc);
+        if (change != null) {
+          pendingChanges.computeIfAbsent(db, k -> new ArrayList<>()).add(change);
+        }
+      }
+    }
+  }
+
+  /** Called after the commit of a session, collects its changes for the incremental views. */
+  public void commitPendingChanges(ODatabaseDocument db) {
+    List<IncrementalView.Change> changes = pendingChanges.remove(db);
+    if (changes != null) {
+      for (IncrementalView.Change change : changes) {
+        IncrementalView incremental = incrementalViews.get(change.getViewName());
+        if (incremental != null) {
+          incremental.commit(change);
+        }
+      }
+    }
+  }
+
+  /** Called after the rollback of a session, discards its changes. */
+  public void removePendingChanges(ODatabaseDocument db) {
+    pendingChanges.remove(db);
   }
 
   public String getViewFromOldCluster(int clusterId) {
@@ -245,7 +245,11 @@ public class ODefaultIndexFactory implements OIndexFactory {
             } else {
               indexEngine =
                   new OCellBTreeSingleValueIndexEngine(
-                      indexId, name, (OAbstractPaginatedStorage) storage, version);
+                      indexId,
+                      name,
+                      (OAbstractPaginatedStorage) storage,
+                      version,
+                      engineProperties);
             }
             break;
           default:
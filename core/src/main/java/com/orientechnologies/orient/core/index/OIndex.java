@@ -129,10 +129,9 @@ public interface OIndex extends Comparable<OIndex> {
   long getRebuildVersion();
 
   /**
-   * @return Indicates whether index is rebuilding at the moment.
-   * @see #getRebuildVersion()
+   * @return Indicates whether index is rebuilding at the moment. Query planners do not use indexes
+   *     which are being rebuilt, since they do not contain all the keys yet.
    */
-  @Deprecated
   boolean isRebuilding();
 
   /**
@@ -92,6 +92,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
   protected volatile int indexId = -1;
   protected volatile int apiVersion = -1;
+  private volatile boolean rebuilding;
 
   protected Set<String> clustersToIndex = new HashSet<>();
   private String algorithm;
@@ -411,13 +412,13 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return 0;
   }
 
-  /**
-   * @return Indicates whether index is rebuilding at the moment.
-   * @see #getRebuildVersion()
-   */
-  @Deprecated
+  /** @return Indicates whether index is rebuilding at the moment. */
   public boolean isRebuilding() {
-    return false;
+    return rebuilding;
+  }
+
+  void setRebuilding(final boolean rebuilding) {
+    this.rebuilding = rebuilding;
   }
 
   @Deprecated
@@ -502,8 +503,45 @@ public abstract class OIndexAbstract implements OIndexInternal {
   public long rebuild(final OProgressListener iProgressListener) {
     long documentIndexed;
 
-    final boolean intentInstalled = getDatabase().declareIntent(new OIntentMassiveInsert());
+    final ODatabaseDocumentInternal database = getDatabase();
+    final boolean intentInstalled = database.declareIntent(new OIntentMassiveInsert());
+
+    // THE INDEX IS FLAGGED BEFORE IT IS EMPTIED, SO QUERY PLANNERS DO NOT USE IT MEANWHILE
+    rebuilding = true;
+    database.getSharedContext().getExecutionPlanCache().invalidate();
+    try {
+      recreateEngine();
+
+      acquireSharedLock();
+      try {
+        documentIndexed = fillIndex(iProgressListener, true);
+      } catch (final Exception e) {
+        OLogManager.instance().error(this, "Error during index rebuild", e);
+        try {
+          if (indexId >= 0) storage.clearIndex(indexId);
+        } catch (Exception e2) {
+          OLogManager.instance().error(this, "Error during index rebuild", e2);
+          // IGNORE EXCEPTION: IF THE REBUILD WAS LAUNCHED IN CASE OF RID INVALID CLEAR ALWAYS GOES
+          // IN ERROR
+        }
+
+        throw OException.wrapException(
+            new OIndexException("Error on rebuilding the index for clusters: " + clustersToIndex),
+            e);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      rebuilding = false;
+      database.getSharedContext().getExecutionPlanCache().invalidate();
+      if (intentInstalled) database.declareIntent(null);
+    }
+
+    return documentIndexed;
+  }
 
+  /** Replaces the index engine with an empty one, the first step of a rebuild. */
+  void recreateEngine() {
     acquireExclusiveLock();
     try {
       try {
@@ -546,29 +584,6 @@ public abstract class OIndexAbstract implements OIndexInternal {
     } finally {
       releaseExclusiveLock();
     }
-
-    acquireSharedLock();
-    try {
-      documentIndexed = fillIndex(iProgressListener, true);
-    } catch (final Exception e) {
-      OLogManager.instance().error(this, "Error during index rebuild", e);
-      try {
-        if (indexId >= 0) storage.clearIndex(indexId);
-      } catch (Exception e2) {
-        OLogManager.instance().error(this, "Error during index rebuild", e2);
-        // IGNORE EXCEPTION: IF THE REBUILD WAS LAUNCHED IN CASE OF RID INVALID CLEAR ALWAYS GOES IN
-        // ERROR
-      }
-
-      throw OException.wrapException(
-          new OIndexException("Error on rebuilding the index for clusters: " + clustersToIndex), e);
-    } finally {
-      if (intentInstalled) getDatabase().declareIntent(null);
-
-      releaseSharedLock();
-    }
-
-    return documentIndexed;
   }
 
   private long fillIndex(final OProgressListener iProgressListener, final boolean rebuild) {
@@ -941,7 +956,44 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
   protected abstract OBinarySerializer determineValueSerializer();
 
-  private void populateIndex(ODocument doc, Object fieldValue) {
+  /**
+   * Extracts the value a document is indexed with during a rebuild.
+   *
+   * @return the value to index, <code>null</code> values have to be indexed only if {@link
+   *     OIndexDefinition#isNullValuesIgnored()} is <code>false</code>
+   */
+  Object getDocumentValueToIndex(final ODocument doc) {
+    if (indexDefinition == null)
+      throw new OConfigurationException(
+          "Index '"
+              + name
+              + "' cannot be rebuilt because has no a valid definition ("
+              + indexDefinition
+              + ")");
+
+    return indexDefinition.getDocumentValueToIndex(doc);
+  }
+
+  /**
+   * Puts the value extracted by {@link #getDocumentValueToIndex(ODocument)} during a rebuild. Keys
+   * which cannot be indexed are logged and skipped.
+   */
+  void indexDocumentValue(final OIdentifiable doc, final Object fieldValue) {
+    try {
+      populateIndex(doc, fieldValue);
+    } catch (OTooBigIndexKeyException | OIndexException e) {
+      OLogManager.instance()
+          .error(
+              this,
+              "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+                  + " Rebuild will continue from this point",
+              e,
+              fieldValue,
+              doc.getIdentity());
+    }
+  }
+
+  private void populateIndex(OIdentifiable doc, Object fieldValue) {
     if (fieldValue instanceof Collection) {
       for (final Object fieldValueItem : (Collection<?>) fieldValue) {
         put(fieldValueItem, doc);
@@ -1038,31 +1090,10 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
         if (record instanceof ODocument) {
           final ODocument doc = (ODocument) record;
-
-          if (indexDefinition == null)
-            throw new OConfigurationException(
-                "Index '"
-                    + name
-                    + "' cannot be rebuilt because has no a valid definition ("
-                    + indexDefinition
-                    + ")");
-
-          final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+          final Object fieldValue = getDocumentValueToIndex(doc);
 
           if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
-            try {
-              populateIndex(doc, fieldValue);
-            } catch (OTooBigIndexKeyException | OIndexException e) {
-              OLogManager.instance()
-                  .error(
-                      this,
-                      "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
-                          + " Rebuild will continue from this point",
-                      e,
-                      fieldValue,
-                      doc.getIdentity());
-            }
-
+            indexDocumentValue(doc, fieldValue);
             ++documentIndexed;
           }
         }
@@ -140,7 +140,6 @@ public class OIndexAbstractDelegate implements OIndexInternal {
     return delegate.getRebuildVersion();
   }
 
-  @Deprecated
   @Override
   public boolean isRebuilding() {
     return delegate.isRebuilding();
@@ -576,6 +576,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
 
   private class RecreateIndexesTask implements Runnable {
     private final OSharedContext ctx;
+    private final List<OIndexAbstract> indexesToFill = new ArrayList<>();
     private int ok;
     private int errors;
 
@@ -628,6 +629,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
         Collection<ODocument> indexesToRebuild, ODatabaseDocumentEmbedded db) {
       ok = 0;
       errors = 0;
+      indexesToFill.clear();
       for (ODocument index : indexesToRebuild) {
         try {
           recreateIndex(index, db);
@@ -637,6 +639,8 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
         }
       }
 
+      fillIndexes(db);
+
       db.getMetadata().getIndexManagerInternal().save();
 
       rebuildCompleted = true;
@@ -716,6 +720,21 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
             false,
             new OIndexRebuildOutputListener(index));
 
+        if (index instanceof OIndexAbstract) {
+          // THE INDEX IS NOT USED BY QUERIES TILL IT IS FILLED TOGETHER WITH THE OTHER ONES
+          ((OIndexAbstract) index).setRebuilding(true);
+          addIndexInternal(index);
+          setDirty();
+          indexesToFill.add((OIndexAbstract) index);
+
+          OLogManager.instance()
+              .info(
+                  this,
+                  "Index '%s' was successfully created and will be filled together with other rebuilt indexes",
+                  indexName);
+          return;
+        }
+
         addIndexInternal(index);
 
         OLogManager.instance()
@@ -747,6 +766,34 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
       }
     }
 
+    /** Fills the created indexes with a single scan of the clusters they cover. */
+    private void fillIndexes(ODatabaseDocumentEmbedded db) {
+      if (indexesToFill.isEmpty()) return;
+
+      final OIndexRebuildCoordinator coordinator =
+          new OIndexRebuildCoordinator(
+              db,
+              indexesToFill,
+              db.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_REBUILD_THREADS));
+      try {
+        coordinator.rebuild();
+      } catch (RuntimeException e) {
+        OLogManager.instance().error(this, "Error during rebuild of indexes", e);
+        errors += indexesToFill.size();
+        return;
+      }
+
+      for (OIndexAbstract index : indexesToFill) {
+        if (coordinator.getFailures().containsKey(index)) {
+          errors++;
+        } else {
+          ok++;
+          OLogManager.instance()
+              .info(this, "Rebuild of '%s index was successfully finished", index.getName());
+        }
+      }
+    }
+
     private void addIndexAsIs(
         ODocument indexDocument, OIndexInternal index, ODatabaseDocumentEmbedded database) {
       if (index.loadFromConfiguration(indexDocument)) {
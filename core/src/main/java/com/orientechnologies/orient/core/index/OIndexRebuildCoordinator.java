@@ -0,0 +1,553 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Rebuilds several automatic indexes with a single scan of the clusters they cover.
+ *
+ * <p>Indexes are grouped by cluster, every cluster is browsed once and the keys extracted from each
+ * document are put in all the indexes of the cluster. Keys are put by a pool of workers, all the
+ * keys of an index are put by the same worker in the order of the scan, so the content of unique
+ * indexes is the same as after a sequential rebuild. With a single worker keys are put by the
+ * scanning thread.
+ *
+ * <p>Indexes are flagged as rebuilding while they are filled, so query planners do not use them,
+ * and progress is exposed through JMX as {@link OIndexRebuildMXBean}. The rebuild of an index which
+ * fails does not stop the rebuild of the other ones, see {@link #getFailures()}.
+ */
+public class OIndexRebuildCoordinator implements OIndexRebuildMXBean {
+  private static final int BATCH_SIZE = 1024;
+  private static final int QUEUE_CAPACITY = 16;
+
+  private final ODatabaseDocumentInternal database;
+  private final List<OIndexAbstract> indexes;
+  private final int threads;
+
+  private final Map<String, List<OIndexAbstract>> indexesByCluster = new LinkedHashMap<>();
+  private final Map<OIndexAbstract, Integer> positions = new IdentityHashMap<>();
+  private final AtomicLongArray documentsIndexed;
+  private final Map<OIndexAbstract, Throwable> failures = new ConcurrentHashMap<>();
+
+  private final AtomicLong keysPending = new AtomicLong();
+  private volatile long recordsTotal;
+  private volatile long recordsScanned;
+  private volatile int clustersScanned;
+  private volatile String currentCluster;
+
+  private Worker[] workers;
+  private List<Entry>[] batches;
+
+  /**
+   * @param database database which is used to browse the clusters, the rebuild has to be started on
+   *     the thread it is active on
+   * @param indexes indexes to rebuild, their engines have to be empty
+   * @param threads amount of workers which put the keys in the indexes
+   */
+  public OIndexRebuildCoordinator(
+      final ODatabaseDocumentInternal database,
+      final Collection<? extends OIndexAbstract> indexes,
+      final int threads) {
+    this.database = database;
+    this.indexes = new ArrayList<>(indexes);
+    this.threads = Math.max(1, Math.min(threads, this.indexes.size()));
+    this.documentsIndexed = new AtomicLongArray(this.indexes.size());
+
+    for (int i = 0; i < this.indexes.size(); i++) {
+      final OIndexAbstract index = this.indexes.get(i);
+      positions.put(index, i);
+      for (final String cluster : index.getClusters()) {
+        indexesByCluster.computeIfAbsent(cluster.toLowerCase(), c -> new ArrayList<>()).add(index);
+      }
+    }
+  }
+
+  /**
+   * Rebuilds automatic indexes from scratch, indexes which are not managed by the coordinator are
+   * rebuilt one by one.
+   *
+   * @return amount of documents indexed, summed over all the indexes
+   * @throws OIndexException if rebuild of any of the indexes failed
+   */
+  public static long rebuildIndexes(
+      final ODatabaseDocumentInternal database, final Collection<? extends OIndex> indexes) {
+    long indexed = 0;
+    final List<OIndexAbstract> coordinated = new ArrayList<>();
+    for (final OIndex index : indexes) {
+      // INDEXES ARE USUALLY WRAPPED TO BE TRANSACTION AWARE
+      final OIndex raw =
+          database.getMetadata().getIndexManagerInternal().getRawIndex(index.getName());
+      if (raw instanceof OIndexAbstract) coordinated.add((OIndexAbstract) raw);
+      else indexed += index.rebuild();
+    }
+    if (coordinated.isEmpty()) return indexed;
+
+    final boolean intentInstalled = database.declareIntent(new OIntentMassiveInsert());
+    // ALL THE INDEXES ARE FLAGGED BEFORE ANY OF THEM IS EMPTIED, SO QUERY PLANNERS DO NOT USE THEM
+    for (final OIndexAbstract index : coordinated) {
+      index.setRebuilding(true);
+    }
+    database.getSharedContext().getExecutionPlanCache().invalidate();
+    try {
+      for (final OIndexAbstract index : coordinated) {
+        index.recreateEngine();
+      }
+
+      final OIndexRebuildCoordinator coordinator =
+          new OIndexRebuildCoordinator(
+              database,
+              coordinated,
+              database
+                  .getConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.INDEX_REBUILD_THREADS));
+      indexed += coordinator.rebuild();
+
+      if (!coordinator.failures.isEmpty()) {
+        throw OException.wrapException(
+            new OIndexException(
+                "Error on rebuilding of indexes "
+                    + Arrays.toString(coordinator.getFailedIndexes())),
+            coordinator.failures.values().iterator().next());
+      }
+    } finally {
+      for (final OIndexAbstract index : coordinated) {
+        index.setRebuilding(false);
+      }
+      database.getSharedContext().getExecutionPlanCache().invalidate();
+      if (intentInstalled) database.declareIntent(null);
+    }
+    return indexed;
+  }
+
+  /**
+   * Fills the indexes with the content of their clusters.
+   *
+   * @return amount of documents indexed, summed over all the indexes
+   * @throws OIndexException if the clusters cannot be scanned, the content of all the indexes is
+   *     incomplete in such case
+   */
+  public long rebuild() {
+    final ObjectName objectName = registerMBean();
+    for (final OIndexAbstract index : indexes) {
+      index.setRebuilding(true);
+    }
+    database.getSharedContext().getExecutionPlanCache().invalidate();
+
+    try {
+      final OStorage storage = database.getStorage();
+      long total = 0;
+      for (final String cluster : indexesByCluster.keySet()) {
+        final int clusterId = storage.getClusterIdByName(cluster);
+        if (clusterId >= 0) {
+          total += storage.count(clusterId);
+        }
+      }
+      recordsTotal = total;
+
+      OLogManager.instance()
+          .info(
+              this,
+              "Rebuild of %d indexes started, %d records of %d clusters will be scanned by %d threads",
+              indexes.size(),
+              recordsTotal,
+              indexesByCluster.size(),
+              threads);
+
+      try {
+        startWorkers();
+        for (final Map.Entry<String, List<OIndexAbstract>> entry : indexesByCluster.entrySet()) {
+          scanCluster(entry.getKey(), entry.getValue());
+          clustersScanned++;
+        }
+        flushBatches();
+      } finally {
+        stopWorkers();
+      }
+    } catch (RuntimeException e) {
+      throw OException.wrapException(
+          new OIndexException("Error on rebuilding of indexes " + Arrays.toString(getIndexes())),
+          e);
+    } finally {
+      for (final OIndexAbstract index : indexes) {
+        index.setRebuilding(false);
+      }
+      database.getSharedContext().getExecutionPlanCache().invalidate();
+      unregisterMBean(objectName);
+    }
+
+    long indexed = 0;
+    for (int i = 0; i < indexes.size(); i++) {
+      if (!failures.containsKey(indexes.get(i))) {
+        indexed += documentsIndexed.get(i);
+      }
+    }
+
+    OLogManager.instance()
+        .info(
+            this,
+            "Rebuild of %d indexes finished, %d documents were indexed, %d indexes failed",
+            indexes.size(),
+            indexed,
+            failures.size());
+    return indexed;
+  }
+
+  /** @return indexes which could not be rebuilt with the cause, their content is incomplete */
+  public Map<OIndexAbstract, Throwable> getFailures() {
+    return Collections.unmodifiableMap(failures);
+  }
+
+  /** @return amount of documents indexed by the index during the rebuild */
+  public long getDocumentsIndexed(final OIndexAbstract index) {
+    return documentsIndexed.get(positions.get(index));
+  }
+
+  @Override
+  public String getDatabaseName() {
+    return database.getName();
+  }
+
+  @Override
+  public String[] getIndexes() {
+    final String[] names = new String[indexes.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = indexes.get(i).getName();
+    }
+    return names;
+  }
+
+  @Override
+  public String[] getFailedIndexes() {
+    final List<String> names = new ArrayList<>();
+    for (final OIndexAbstract index : failures.keySet()) {
+      names.add(index.getName());
+    }
+    return names.toArray(new String[0]);
+  }
+
+  @Override
+  public int getClustersTotal() {
+    return indexesByCluster.size();
+  }
+
+  @Override
+  public int getClustersScanned() {
+    return clustersScanned;
+  }
+
+  @Override
+  public String getCurrentCluster() {
+    return currentCluster;
+  }
+
+  @Override
+  public long getRecordsTotal() {
+    return recordsTotal;
+  }
+
+  @Override
+  public long getRecordsScanned() {
+    return recordsScanned;
+  }
+
+  @Override
+  public long getKeysPending() {
+    return keysPending.get();
+  }
+
+  @Override
+  public float getProgress() {
+    final long total = recordsTotal;
+    if (total == 0) {
+      return clustersScanned == indexesByCluster.size() ? 100 : 0;
+    }
+    return Math.min(100, (float) (recordsScanned * 100.0 / total));
+  }
+
+  private void scanCluster(final String clusterName, final List<OIndexAbstract> clusterIndexes) {
+    if (database.getStorage().getClusterIdByName(clusterName) < 0) {
+      return;
+    }
+    currentCluster = clusterName;
+
+    try {
+      for (final ORecord record : database.browseCluster(clusterName)) {
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+        if (record instanceof ODocument) {
+          final ODocument doc = (ODocument) record;
+          for (final OIndexAbstract index : clusterIndexes) {
+            if (failures.containsKey(index)) {
+              continue;
+            }
+
+            final Object fieldValue;
+            try {
+              fieldValue = index.getDocumentValueToIndex(doc);
+            } catch (RuntimeException e) {
+              fail(index, e);
+              continue;
+            }
+
+            if (fieldValue != null || !index.getDefinition().isNullValuesIgnored()) {
+              dispatch(index, doc.getIdentity(), fieldValue);
+              documentsIndexed.incrementAndGet(positions.get(index));
+            }
+          }
+        }
+        recordsScanned++;
+      }
+    } catch (NoSuchElementException ignore) {
+      // END OF CLUSTER REACHED, IGNORE IT
+    }
+
+    OLogManager.instance()
+        .info(
+            this,
+            "Cluster '%s' was scanned for rebuild of %d indexes, %.2f%% of records done",
+            clusterName,
+            clusterIndexes.size(),
+            getProgress());
+  }
+
+  private void dispatch(final OIndexAbstract index, final ORID rid, final Object fieldValue) {
+    if (workers == null) {
+      put(index, rid, fieldValue);
+      return;
+    }
+
+    final int worker = positions.get(index) % workers.length;
+    final List<Entry> batch = batches[worker];
+    batch.add(new Entry(index, rid, fieldValue));
+    keysPending.incrementAndGet();
+    if (batch.size() >= BATCH_SIZE) {
+      workers[worker].enqueue(batch);
+      batches[worker] = new ArrayList<>(BATCH_SIZE);
+    }
+  }
+
+  private void put(final OIndexAbstract index, final ORID rid, final Object fieldValue) {
+    if (failures.containsKey(index)) {
+      return;
+    }
+    try {
+      index.indexDocumentValue(rid, fieldValue);
+    } catch (RuntimeException e) {
+      fail(index, e);
+    }
+  }
+
+  private void fail(final OIndexAbstract index, final Throwable e) {
+    if (failures.putIfAbsent(index, e) == null) {
+      OLogManager.instance()
+          .error(
+              this,
+              "Error during rebuild of index '%s', its content is incomplete",
+              e,
+              index.getName());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void startWorkers() {
+    if (threads < 2) {
+      return;
+    }
+
+    workers = new Worker[threads];
+    batches = new List[threads];
+    for (int i = 0; i < threads; i++) {
+      batches[i] = new ArrayList<>(BATCH_SIZE);
+      // EVERY WORKER NEEDS ITS OWN DATABASE INSTANCE, INDEXES LIKE LUCENE ONES USE IT TO PUT KEYS
+      workers[i] = new Worker(database.copy());
+      final Thread thread =
+          new Thread(workers[i], "OrientDB index rebuild of " + database.getName() + " #" + i);
+      thread.setDaemon(true);
+      thread.start();
+    }
+    database.activateOnCurrentThread();
+  }
+
+  private void flushBatches() {
+    if (workers == null) {
+      return;
+    }
+    for (int i = 0; i < workers.length; i++) {
+      if (!batches[i].isEmpty()) {
+        workers[i].enqueue(batches[i]);
+        batches[i] = new ArrayList<>(BATCH_SIZE);
+      }
+    }
+  }
+
+  private void stopWorkers() {
+    if (workers == null) {
+      return;
+    }
+
+    int started = 0;
+    for (final Worker worker : workers) {
+      if (worker != null) started++;
+    }
+    final CountDownLatch latch = new CountDownLatch(started);
+    for (final Worker worker : workers) {
+      if (worker != null) worker.stop(latch);
+    }
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OIndexException("Rebuild of indexes was interrupted"), e);
+    }
+  }
+
+  private ObjectName registerMBean() {
+    try {
+      final ObjectName objectName =
+          new ObjectName(
+              "com.orientechnologies.orient.core.index:type=OIndexRebuildMXBean,database="
+                  + ObjectName.quote(database.getName()));
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      if (server.isRegistered(objectName)) {
+        return null;
+      }
+      server.registerMBean(this, objectName);
+      return objectName;
+    } catch (JMException e) {
+      OLogManager.instance().warn(this, "Progress of index rebuild cannot be exposed via JMX", e);
+      return null;
+    }
+  }
+
+  private void unregisterMBean(final ObjectName objectName) {
+    if (objectName == null) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    } catch (JMException e) {
+      OLogManager.instance().warn(this, "Cannot unregister JMX bean of index rebuild", e);
+    }
+  }
+
+  private static final class Entry {
+    private final OIndexAbstract index;
+    private final ORID rid;
+    private final Object fieldValue;
+
+    private Entry(final OIndexAbstract index, final ORID rid, final Object fieldValue) {
+      this.index = index;
+      this.rid = rid;
+      this.fieldValue = fieldValue;
+    }
+  }
+
+  private final class Worker implements Runnable {
+    private final BlockingQueue<List<Entry>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ODatabaseDocumentInternal workerDatabase;
+    private volatile CountDownLatch stopped;
+
+    private Worker(final ODatabaseDocumentInternal workerDatabase) {
+      this.workerDatabase = workerDatabase;
+    }
+
+    private void enqueue(final List<Entry> batch) {
+      try {
+        queue.put(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(
+            new OIndexException("Rebuild of indexes was interrupted"), e);
+      }
+    }
+
+    private void stop(final CountDownLatch latch) {
+      stopped = latch;
+      enqueue(Collections.emptyList());
+    }
+
+    @Override
+    public void run() {
+      workerDatabase.activateOnCurrentThread();
+      try {
+        while (true) {
+          final List<Entry> batch;
+          try {
+            batch = queue.take();
+          } catch (InterruptedException e) {
+            // THE SCANNING THREAD WAITS FOR THE WORKER, KEYS ARE PUT ANYWAY
+            continue;
+          }
+
+          if (batch.isEmpty()) {
+            return;
+          }
+          for (final Entry entry : batch) {
+            try {
+              put(entry.index, entry.rid, entry.fieldValue);
+            } catch (Throwable t) {
+              // THE WORKER HAS TO SURVIVE, OTHERWISE THE SCANNING THREAD WOULD WAIT FOR IT FOREVER
+              fail(entry.index, t);
+            }
+          }
+          keysPending.addAndGet(-batch.size());
+        }
+      } finally {
+        try {
+          workerDatabase.close();
+        } catch (RuntimeException e) {
+          OLogManager.instance()
+              .error(this, "Error on closing of database used by index rebuild", e);
+        }
+        stopped.countDown();
+      }
+    }
+  }
+}
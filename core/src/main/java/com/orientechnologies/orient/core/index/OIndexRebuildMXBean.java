@@ -0,0 +1,53 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index;
+
+/** Progress of a rebuild of several indexes by {@link OIndexRebuildCoordinator}. */
+public interface OIndexRebuildMXBean {
+  /** @return Name of the database indexes of which are rebuilt */
+  String getDatabaseName();
+
+  /** @return Names of the indexes which are rebuilt */
+  String[] getIndexes();
+
+  /** @return Names of the indexes rebuild of which failed so far */
+  String[] getFailedIndexes();
+
+  /** @return Amount of clusters which have to be scanned */
+  int getClustersTotal();
+
+  /** @return Amount of clusters which were scanned so far */
+  int getClustersScanned();
+
+  /** @return Name of the cluster which is scanned at the moment */
+  String getCurrentCluster();
+
+  /** @return Amount of records contained in the clusters to scan when the rebuild was started */
+  long getRecordsTotal();
+
+  /** @return Amount of records which were scanned so far */
+  long getRecordsScanned();
+
+  /** @return Amount of extracted keys which were not put in the indexes yet */
+  long getKeysPending();
+
+  /** @return Percent of records which were scanned */
+  float getProgress();
+}
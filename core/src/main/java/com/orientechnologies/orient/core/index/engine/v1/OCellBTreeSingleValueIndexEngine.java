@@ -1,6 +1,8 @@
 package com.orientechnologies.orient.core.index.engine.v1;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.hash.OMurmurHash3;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.encryption.OEncryption;
@@ -18,38 +20,92 @@ import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.Cel
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMap;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMapV0;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Engine of unique indexes based on {@link OCellBTreeSingleValue}.
+ *
+ * <p>Index can be split in several partitions by hash of the key (<code>writePartitions</code>
+ * engine property). Every partition is a separate tree with its own lock, which is held by an
+ * atomic operation until it is completed, so transactions which change keys of different partitions
+ * don't wait for each other. Range queries merge the sorted streams of all the partitions.
+ */
 public final class OCellBTreeSingleValueIndexEngine
     implements OSingleValueIndexEngine, OCellBTreeIndexEngine {
+  public static final String WRITE_PARTITIONS_PROPERTY = "writePartitions";
+
   private static final String DATA_FILE_EXTENSION = ".cbt";
   private static final String NULL_BUCKET_FILE_EXTENSION = ".nbt";
+  private static final int PARTITION_HASH_SEED = 362498820;
 
-  private final OCellBTreeSingleValue<Object> sbTree;
-  private final OVersionPositionMap versionPositionMap;
+  private final OCellBTreeSingleValue<Object>[] sbTrees;
+  private final OVersionPositionMap[] versionPositionMaps;
   private final String name;
   private final int id;
 
+  private OBinarySerializer<Object> keySerializer;
+  private OType[] keyTypes;
+
   public OCellBTreeSingleValueIndexEngine(
       int id, String name, OAbstractPaginatedStorage storage, int version) {
+    this(id, name, storage, version, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  public OCellBTreeSingleValueIndexEngine(
+      int id,
+      String name,
+      OAbstractPaginatedStorage storage,
+      int version,
+      Map<String, String> engineProperties) {
     this.name = name;
     this.id = id;
 
-    if (version < 3) {
-      this.sbTree =
-          new CellBTreeSingleValueV1<>(
-              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
-    } else if (version == 3 || version == 4) {
-      this.sbTree =
-          new CellBTreeSingleValueV3<>(
-              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
-    } else {
-      throw new IllegalStateException("Invalid tree version " + version);
+    final String partitionsProperty =
+        engineProperties != null ? engineProperties.get(WRITE_PARTITIONS_PROPERTY) : null;
+    final int partitions = partitionsProperty != null ? Integer.parseInt(partitionsProperty) : 1;
+    if (partitions < 1) {
+      throw new OIndexException("Invalid amount of partitions " + partitions + " of index " + name);
+    }
+    if (partitions > 1 && version < 3) {
+      throw new OIndexException(
+          "Index " + name + " of version " + version + " can not be partitioned");
+    }
+
+    this.sbTrees = new OCellBTreeSingleValue[partitions];
+    this.versionPositionMaps = new OVersionPositionMap[partitions];
+    for (int i = 0; i < partitions; i++) {
+      // FIRST PARTITION KEEPS THE FILES OF NOT PARTITIONED INDEX
+      final String partitionName = i == 0 ? name : name + "_p" + i;
+
+      if (version < 3) {
+        sbTrees[i] =
+            new CellBTreeSingleValueV1<>(
+                partitionName, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+      } else if (version == 3 || version == 4) {
+        sbTrees[i] =
+            new CellBTreeSingleValueV3<>(
+                partitionName, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+      } else {
+        throw new IllegalStateException("Invalid tree version " + version);
+      }
+      versionPositionMaps[i] =
+          new OVersionPositionMapV0(
+              storage,
+              partitionName,
+              partitionName + DATA_FILE_EXTENSION,
+              OVersionPositionMap.DEF_EXTENSION);
     }
-    versionPositionMap =
-        new OVersionPositionMapV0(
-            storage, name, name + DATA_FILE_EXTENSION, OVersionPositionMap.DEF_EXTENSION);
   }
 
   @Override
@@ -84,10 +140,16 @@ public final class OCellBTreeSingleValueIndexEngine
       int keySize,
       Map<String, String> engineProperties,
       OEncryption encryption) {
+    //noinspection unchecked
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+
     try {
-      //noinspection unchecked
-      sbTree.create(atomicOperation, keySerializer, keyTypes, keySize, encryption);
-      versionPositionMap.create(atomicOperation);
+      for (int i = 0; i < sbTrees.length; i++) {
+        //noinspection unchecked
+        sbTrees[i].create(atomicOperation, keySerializer, keyTypes, keySize, encryption);
+        versionPositionMaps[i].create(atomicOperation);
+      }
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error of creation of index " + name), e);
     }
@@ -97,8 +159,10 @@ public final class OCellBTreeSingleValueIndexEngine
   public void delete(final OAtomicOperation atomicOperation) {
     try {
       doClearTree(atomicOperation);
-      sbTree.delete(atomicOperation);
-      versionPositionMap.delete(atomicOperation);
+      for (int i = 0; i < sbTrees.length; i++) {
+        sbTrees[i].delete(atomicOperation);
+        versionPositionMaps[i].delete(atomicOperation);
+      }
     } catch (IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during deletion of index " + name), e);
@@ -106,17 +170,19 @@ public final class OCellBTreeSingleValueIndexEngine
   }
 
   private void doClearTree(OAtomicOperation atomicOperation) throws IOException {
-    try (Stream<Object> stream = sbTree.keyStream()) {
-      stream.forEach(
-          (key) -> {
-            try {
-              sbTree.remove(atomicOperation, key);
-            } catch (IOException e) {
-              throw OException.wrapException(new OIndexException("Can not clear index"), e);
-            }
-          });
+    for (OCellBTreeSingleValue<Object> sbTree : sbTrees) {
+      try (Stream<Object> stream = sbTree.keyStream()) {
+        stream.forEach(
+            (key) -> {
+              try {
+                sbTree.remove(atomicOperation, key);
+              } catch (IOException e) {
+                throw OException.wrapException(new OIndexException("Can not clear index"), e);
+              }
+            });
+      }
+      sbTree.remove(atomicOperation, null);
     }
-    sbTree.remove(atomicOperation, null);
   }
 
   @Override
@@ -127,19 +193,26 @@ public final class OCellBTreeSingleValueIndexEngine
       final OBinarySerializer keySerializer,
       final OEncryption encryption) {
     //noinspection unchecked
-    sbTree.load(indexName, keySize, keyTypes, keySerializer, encryption);
-    try {
-      versionPositionMap.open();
-    } catch (final IOException e) {
-      throw OException.wrapException(
-          new OIndexException("Error during VPM load of index " + indexName), e);
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+
+    for (int i = 0; i < sbTrees.length; i++) {
+      //noinspection unchecked
+      sbTrees[i].load(
+          i == 0 ? indexName : indexName + "_p" + i, keySize, keyTypes, keySerializer, encryption);
+      try {
+        versionPositionMaps[i].open();
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new OIndexException("Error during VPM load of index " + indexName), e);
+      }
     }
   }
 
   @Override
   public boolean remove(OAtomicOperation atomicOperation, Object key) {
     try {
-      return sbTree.remove(atomicOperation, key) != null;
+      return partition(key).remove(atomicOperation, key) != null;
     } catch (IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during removal of key " + key + " from index " + name), e);
@@ -157,12 +230,14 @@ public final class OCellBTreeSingleValueIndexEngine
 
   @Override
   public void close() {
-    sbTree.close();
+    for (OCellBTreeSingleValue<Object> sbTree : sbTrees) {
+      sbTree.close();
+    }
   }
 
   @Override
   public Stream<ORID> get(Object key) {
-    final ORID rid = sbTree.get(key);
+    final ORID rid = partition(key).get(key);
     if (rid == null) {
       return Stream.empty();
     }
@@ -171,31 +246,47 @@ public final class OCellBTreeSingleValueIndexEngine
 
   @Override
   public Stream<ORawPair<Object, ORID>> stream(ValuesTransformer valuesTransformer) {
-    final Object firstKey = sbTree.firstKey();
-    if (firstKey == null) {
-      return Stream.empty();
-    }
-    return sbTree.iterateEntriesMajor(firstKey, true, true);
+    return merge(
+        sbTree -> {
+          final Object firstKey = sbTree.firstKey();
+          if (firstKey == null) {
+            return Stream.empty();
+          }
+          return sbTree.iterateEntriesMajor(firstKey, true, true);
+        },
+        true);
   }
 
   @Override
   public Stream<ORawPair<Object, ORID>> descStream(ValuesTransformer valuesTransformer) {
-    final Object lastKey = sbTree.lastKey();
-    if (lastKey == null) {
-      return Stream.empty();
-    }
-    return sbTree.iterateEntriesMinor(lastKey, true, false);
+    return merge(
+        sbTree -> {
+          final Object lastKey = sbTree.lastKey();
+          if (lastKey == null) {
+            return Stream.empty();
+          }
+          return sbTree.iterateEntriesMinor(lastKey, true, false);
+        },
+        false);
   }
 
   @Override
   public Stream<Object> keyStream() {
-    return sbTree.keyStream();
+    if (sbTrees.length == 1) {
+      return sbTrees[0].keyStream();
+    }
+
+    final List<Stream<Object>> streams = new ArrayList<>(sbTrees.length);
+    for (OCellBTreeSingleValue<Object> sbTree : sbTrees) {
+      streams.add(sbTree.keyStream());
+    }
+    return mergeSorted(streams, Function.identity(), true);
   }
 
   @Override
   public void put(OAtomicOperation atomicOperation, Object key, ORID value) {
     try {
-      sbTree.put(atomicOperation, key, value);
+      partition(key).put(atomicOperation, key, value);
     } catch (IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during insertion of key " + key + " into index " + name), e);
@@ -206,7 +297,7 @@ public final class OCellBTreeSingleValueIndexEngine
   public boolean validatedPut(
       OAtomicOperation atomicOperation, Object key, ORID value, Validator<Object, ORID> validator) {
     try {
-      return sbTree.validatedPut(atomicOperation, key, value, validator);
+      return partition(key).validatedPut(atomicOperation, key, value, validator);
     } catch (IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during insertion of key " + key + " into index " + name), e);
@@ -221,25 +312,34 @@ public final class OCellBTreeSingleValueIndexEngine
       boolean toInclusive,
       boolean ascSortOrder,
       ValuesTransformer transformer) {
-    return sbTree.iterateEntriesBetween(
-        rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder);
+    return merge(
+        sbTree ->
+            sbTree.iterateEntriesBetween(
+                rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder),
+        ascSortOrder);
   }
 
   @Override
   public Stream<ORawPair<Object, ORID>> iterateEntriesMajor(
       Object fromKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
-    return sbTree.iterateEntriesMajor(fromKey, isInclusive, ascSortOrder);
+    return merge(
+        sbTree -> sbTree.iterateEntriesMajor(fromKey, isInclusive, ascSortOrder), ascSortOrder);
   }
 
   @Override
   public Stream<ORawPair<Object, ORID>> iterateEntriesMinor(
       Object toKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
-    return sbTree.iterateEntriesMinor(toKey, isInclusive, ascSortOrder);
+    return merge(
+        sbTree -> sbTree.iterateEntriesMinor(toKey, isInclusive, ascSortOrder), ascSortOrder);
   }
 
   @Override
   public long size(final ValuesTransformer transformer) {
-    return sbTree.size();
+    long size = 0;
+    for (OCellBTreeSingleValue<Object> sbTree : sbTrees) {
+      size += sbTree.size();
+    }
+    return size;
   }
 
   @Override
@@ -247,26 +347,135 @@ public final class OCellBTreeSingleValueIndexEngine
     return true;
   }
 
+  /**
+   * Locks only the partition of the key if index is partitioned, so locks of the other keys have to
+   * be acquired too.
+   */
   @Override
   public boolean acquireAtomicExclusiveLock(Object key) {
-    sbTree.acquireAtomicExclusiveLock();
-    return true;
+    if (sbTrees.length == 1) {
+      sbTrees[0].acquireAtomicExclusiveLock();
+      return true;
+    }
+
+    partition(key).acquireAtomicExclusiveLock();
+    return false;
   }
 
   @Override
   public String getIndexNameByKey(Object key) {
-    return name;
+    final int partition = partitionIndex(key);
+    return partition == 0 ? name : name + "_p" + partition;
   }
 
   @Override
   public void updateUniqueIndexVersion(final Object key) {
+    final OVersionPositionMap versionPositionMap = versionPositionMaps[partitionIndex(key)];
     final int keyHash = versionPositionMap.getKeyHash(key);
     versionPositionMap.updateVersion(keyHash);
   }
 
   @Override
   public int getUniqueIndexVersion(final Object key) {
+    final OVersionPositionMap versionPositionMap = versionPositionMaps[partitionIndex(key)];
     final int keyHash = versionPositionMap.getKeyHash(key);
     return versionPositionMap.getVersion(keyHash);
   }
+
+  public int getPartitionsCount() {
+    return sbTrees.length;
+  }
+
+  private OCellBTreeSingleValue<Object> partition(final Object key) {
+    return sbTrees[partitionIndex(key)];
+  }
+
+  private int partitionIndex(final Object key) {
+    if (sbTrees.length == 1 || key == null) {
+      return 0;
+    }
+
+    // HASH THE SERIALIZED KEY, SO THE PARTITION DOES NOT DEPEND ON THE JAVA TYPE OF THE KEY
+    final Object preprocessed = keySerializer.preprocess(key, (Object[]) keyTypes);
+    final byte[] serializedKey =
+        keySerializer.serializeNativeAsWhole(preprocessed, (Object[]) keyTypes);
+    final long hash = OMurmurHash3.murmurHash3_x64_64(serializedKey, PARTITION_HASH_SEED);
+    return (int) ((hash & Long.MAX_VALUE) % sbTrees.length);
+  }
+
+  private Stream<ORawPair<Object, ORID>> merge(
+      final Function<OCellBTreeSingleValue<Object>, Stream<ORawPair<Object, ORID>>> query,
+      final boolean ascSortOrder) {
+    if (sbTrees.length == 1) {
+      return query.apply(sbTrees[0]);
+    }
+
+    final List<Stream<ORawPair<Object, ORID>>> streams = new ArrayList<>(sbTrees.length);
+    for (OCellBTreeSingleValue<Object> sbTree : sbTrees) {
+      streams.add(query.apply(sbTree));
+    }
+    return mergeSorted(streams, pair -> pair.first, ascSortOrder);
+  }
+
+  /** Merges streams sorted by key into a single sorted stream, which closes all of them. */
+  private static <T> Stream<T> mergeSorted(
+      final List<Stream<T>> streams, final Function<T, Object> key, final boolean ascSortOrder) {
+    final Comparator<Object> keyComparator =
+        ascSortOrder ? ODefaultComparator.INSTANCE : ODefaultComparator.INSTANCE.reversed();
+
+    final PriorityQueue<MergeCursor<T>> queue =
+        new PriorityQueue<>(
+            streams.size(),
+            (c1, c2) -> keyComparator.compare(key.apply(c1.current), key.apply(c2.current)));
+    for (Stream<T> stream : streams) {
+      final MergeCursor<T> cursor = new MergeCursor<>(stream.spliterator());
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+    }
+
+    final Spliterator<T> spliterator =
+        new Spliterators.AbstractSpliterator<T>(
+            Long.MAX_VALUE, Spliterator.NONNULL | Spliterator.ORDERED) {
+          @Override
+          public boolean tryAdvance(final Consumer<? super T> action) {
+            final MergeCursor<T> cursor = queue.poll();
+            if (cursor == null) {
+              return false;
+            }
+
+            action.accept(cursor.current);
+            if (cursor.advance()) {
+              queue.add(cursor);
+            }
+            return true;
+          }
+        };
+
+    return StreamSupport.stream(spliterator, false)
+        .onClose(
+            () -> {
+              for (Stream<T> stream : streams) {
+                stream.close();
+              }
+            });
+  }
+
+  private static final class MergeCursor<T> implements Consumer<T> {
+    private final Spliterator<T> spliterator;
+    private T current;
+
+    private MergeCursor(final Spliterator<T> spliterator) {
+      this.spliterator = spliterator;
+    }
+
+    private boolean advance() {
+      return spliterator.tryAdvance(this);
+    }
+
+    @Override
+    public void accept(final T item) {
+      current = item;
+    }
+  }
 }
@@ -5,9 +5,11 @@ import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.function.OFunction;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.security.auth.OAuthenticationInfo;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -189,6 +191,19 @@ public interface OSecurityInternal {
    */
   boolean isReadRestrictedBySecurityPolicy(ODatabaseSession session, String resource);
 
+  /**
+   * returns the READ policy predicate of the current session on a class, to be merged in the WHERE
+   * condition of the queries on that class. Only predicates that give the same result in the query
+   * and in the per-record check are returned (plain comparisons of properties with constants), and
+   * only if the class and all its subclasses share the same predicate
+   *
+   * @param session The session to check for the existence of policies
+   * @param clazz the class the query is executed on
+   * @return the predicate, or null if there is no restriction or it cannot be evaluated by the
+   *     query
+   */
+  OBooleanExpression getReadPredicateForQuery(ODatabaseSession session, OClass clazz);
+
   /**
    * returns the list of all the filtered properties (for any role defined in the db)
    *
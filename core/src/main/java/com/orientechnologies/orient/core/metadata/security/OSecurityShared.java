@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.metadata.security;
 
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
@@ -51,6 +52,8 @@ import com.orientechnologies.orient.core.security.OSecuritySystem;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
 import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -1175,6 +1178,8 @@ public class OSecurityShared implements OSecurityInternal {
   public void incrementVersion(final ODatabaseSession session) {
     version.incrementAndGet();
     securityPredicateCache.clear();
+    // CACHED QUERY PLANS CAN CONTAIN READ POLICIES
+    ((ODatabaseDocumentInternal) session).getSharedContext().getExecutionPlanCache().invalidate();
     updateAllFilteredProperties((ODatabaseDocumentInternal) session);
     initPredicateSecurityOptimizations(session);
   }
@@ -1625,6 +1630,80 @@ public class OSecurityShared implements OSecurityInternal {
     }
   }
 
+  @Override
+  public OBooleanExpression getReadPredicateForQuery(ODatabaseSession session, OClass clazz) {
+    if (session.getUser() == null
+        || OSecurityPolicy.class.getSimpleName().equalsIgnoreCase(clazz.getName())) {
+      return null;
+    }
+
+    final List<OClass> classes = new ArrayList<>();
+    classes.add(clazz);
+    classes.addAll(clazz.getAllSubclasses());
+
+    OBooleanExpression result = null;
+    for (OClass cls : classes) {
+      final OBooleanExpression predicate = getReadPredicate(session, cls);
+      if (result == null) {
+        result = predicate;
+      } else if (!result.toString().equals(predicate.toString())) {
+        // RECORDS OF SUBCLASSES WITH A DIFFERENT POLICY ARE CHECKED ONE BY ONE
+        return null;
+      }
+    }
+
+    if (OBooleanExpression.TRUE.equals(result) || !isEvaluableByQuery(session, result)) {
+      return null;
+    }
+    return result;
+  }
+
+  /** Same predicate checked by {@link #canRead(ODatabaseSession, ORecord)} on a class. */
+  private OBooleanExpression getReadPredicate(ODatabaseSession session, OClass clazz) {
+    if (roleHasPredicateSecurityForClass != null) {
+      for (OSecurityRole role : session.getUser().getRoles()) {
+        Map<String, Boolean> roleMap = roleHasPredicateSecurityForClass.get(role.getName());
+        if (roleMap == null || !Boolean.TRUE.equals(roleMap.get(clazz.getName()))) {
+          return OBooleanExpression.TRUE;
+        }
+      }
+    }
+
+    final OBooleanExpression predicate =
+        OSecurityEngine.getPredicateForSecurityResource(
+            session, this, "database.class.`" + clazz.getName() + "`", OSecurityPolicy.Scope.READ);
+    return predicate == null ? OBooleanExpression.TRUE : predicate;
+  }
+
+  /**
+   * Policies are evaluated with no authorization and can refer to the current user, while queries
+   * are evaluated with the permissions of the user. Only comparisons of plain properties with
+   * constants give the same result in both cases.
+   */
+  private static boolean isEvaluableByQuery(
+      ODatabaseSession session, OBooleanExpression predicate) {
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase((ODatabaseDocumentInternal) session);
+
+    for (OAndBlock block : predicate.flatten()) {
+      for (OBooleanExpression condition : block.getSubBlocks()) {
+        if (OBooleanExpression.TRUE.equals(condition)
+            || OBooleanExpression.FALSE.equals(condition)) {
+          continue;
+        }
+        if (!(condition instanceof OBinaryCondition) || condition.toString().contains("$")) {
+          return false;
+        }
+        final OBinaryCondition comparison = (OBinaryCondition) condition;
+        if (!comparison.getLeft().isBaseIdentifier()
+            || !comparison.getRight().isEarlyCalculated(ctx)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
   @Override
   public boolean isReadRestrictedBySecurityPolicy(ODatabaseSession session, String resource) {
     if (session.getUser() == null) {
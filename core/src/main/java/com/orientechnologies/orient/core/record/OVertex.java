@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.record;
 
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 
@@ -37,6 +38,12 @@ public interface OVertex extends OElement {
 
   Iterable<OVertex> getVertices(ODirection direction, OClass... type);
 
+  /**
+   * Returns the adjacent vertices without loading them: only the link-bag fields of this vertex and
+   * the edges are read, the vertices are loaded when their content is accessed.
+   */
+  Iterable<OIdentifiable> getVertexIdentities(ODirection direction, String... type);
+
   OEdge addEdge(OVertex to);
 
   OEdge addEdge(OVertex to, String type);
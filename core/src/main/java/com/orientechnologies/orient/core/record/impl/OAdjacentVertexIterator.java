@@ -0,0 +1,111 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.iterator.OLazyWrapperIterator;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.Iterator;
+
+/**
+ * Iterates the vertices connected through the content of an edge field of a vertex, returning their
+ * identities. The vertices are never loaded: lightweight edges already point to them, the other end
+ * of regular edges is read from the edge record without converting the link.
+ */
+public class OAdjacentVertexIterator extends OLazyWrapperIterator<OIdentifiable> {
+  private final OIdentifiable sourceVertex;
+  private final OPair<ODirection, String> connection;
+  private final String[] labels;
+  private final OImmutableSchema schema;
+
+  public OAdjacentVertexIterator(
+      final OIdentifiable iSourceVertex,
+      final Object iMultiValue,
+      final Iterator<?> iterator,
+      final OPair<ODirection, String> connection,
+      final String[] iLabels,
+      final int iSize) {
+    super(iterator, iSize, iMultiValue);
+    this.sourceVertex = iSourceVertex;
+    this.connection = connection;
+    this.labels = iLabels;
+
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    this.schema = db != null ? db.getMetadata().getImmutableSchemaSnapshot() : null;
+  }
+
+  @Override
+  public OIdentifiable createGraphElement(final Object iObject) {
+    final OIdentifiable rec = (OIdentifiable) iObject;
+    if (rec == null) return null;
+
+    if (!(rec instanceof ORecord) && schema != null) {
+      // LIGHTWEIGHT EDGES POINT DIRECTLY TO THE VERTEX: CHECK THE CLASS OF THE CLUSTER
+      final OClass clazz = schema.getClassByClusterId(rec.getIdentity().getClusterId());
+      if (clazz != null && clazz.isVertexType()) return rec;
+    }
+
+    final ORecord record = rec.getRecord();
+    if (!(record instanceof OElement)) {
+      // SKIP IT
+      OLogManager.instance()
+          .warn(
+              this,
+              "Found a record (%s) that is not an edge. Source vertex : %s",
+              rec,
+              sourceVertex != null ? sourceVertex.getIdentity() : null);
+      return null;
+    }
+
+    final OElement element = (OElement) record;
+    if (element.isVertex()) return element;
+
+    if (!element.isEdge())
+      throw new IllegalStateException(
+          "Invalid content found while iterating edges, value '" + element + "' is not an edge");
+
+    if (!element.asEdge().get().isLabeled(labels)) return null;
+
+    final Object vertex =
+        ((ODocument) element)
+            .rawField(
+                connection.getKey() == ODirection.OUT ? OEdge.DIRECTION_IN : OEdge.DIRECTION_OUT);
+    return vertex instanceof OIdentifiable ? (OIdentifiable) vertex : null;
+  }
+
+  @Override
+  public boolean filter(final OIdentifiable iObject) {
+    return true;
+  }
+
+  @Override
+  public boolean canUseMultiValueDirectly() {
+    return false;
+  }
+}
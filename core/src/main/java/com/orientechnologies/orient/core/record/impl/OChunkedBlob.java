@@ -0,0 +1,177 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyList;
+import com.orientechnologies.orient.core.id.ORID;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Large binary object stored as a sequence of chunks. Every chunk is a {@link ORecordBytes} of the
+ * same size, only the last one may be smaller, and a document keeps the size of the object and the
+ * RIDs of its chunks.
+ *
+ * <p>Unlike {@link ORecordBytes} the content is never kept in memory at once: it is written by
+ * {@link OChunkedBlobOutputStream} and read by {@link OChunkedBlobInputStream}, which keep a single
+ * chunk in memory. A range of the content can be read without loading the chunks before it. Chunks
+ * are loaded one by one, so the same streams work on embedded and remote databases.
+ */
+public final class OChunkedBlob {
+  public static final String SIZE_FIELD = "blobSize";
+  public static final String CHUNK_SIZE_FIELD = "blobChunkSize";
+  public static final String CHUNKS_FIELD = "blobChunks";
+
+  private final ODocument document;
+
+  public OChunkedBlob(final ODocument document) {
+    if (!isChunkedBlob(document)) {
+      throw new IllegalArgumentException(
+          "Document " + document.getIdentity() + " is not a chunked blob");
+    }
+    this.document = document;
+  }
+
+  /** @return <code>true</code> if the document describes a chunked blob */
+  public static boolean isChunkedBlob(final ODocument document) {
+    return document.containsField(SIZE_FIELD)
+        && document.containsField(CHUNK_SIZE_FIELD)
+        && document.containsField(CHUNKS_FIELD);
+  }
+
+  /**
+   * Opens a stream which stores a new chunked blob in the current database, chunks have the size
+   * set by {@link OGlobalConfiguration#DOCUMENT_BLOB_CHUNK_SIZE} and are stored in the first blob
+   * cluster, or in the default cluster if the database has no blob clusters. The document of the
+   * blob is stored in the default cluster.
+   */
+  public static OChunkedBlobOutputStream create() {
+    return create(null, OGlobalConfiguration.DOCUMENT_BLOB_CHUNK_SIZE.getValueAsInteger() * 1024);
+  }
+
+  /**
+   * Opens a stream which stores a new chunked blob in the current database.
+   *
+   * @param clusterName cluster of the chunks, the default one is used if it is <code>null</code>
+   * @param chunkSize size of the chunks in bytes
+   */
+  public static OChunkedBlobOutputStream create(final String clusterName, final int chunkSize) {
+    return new OChunkedBlobOutputStream(
+        ODatabaseRecordThreadLocal.instance().get(), clusterName, chunkSize);
+  }
+
+  public ODocument getDocument() {
+    return document;
+  }
+
+  public ORID getIdentity() {
+    return document.getIdentity();
+  }
+
+  /** @return size of the content in bytes */
+  public long getSize() {
+    return document.<Number>field(SIZE_FIELD).longValue();
+  }
+
+  public int getChunkSize() {
+    return document.<Number>field(CHUNK_SIZE_FIELD).intValue();
+  }
+
+  /** @return RIDs of the chunks, they are not loaded */
+  public List<ORID> getChunks() {
+    final Object value = document.rawField(CHUNKS_FIELD);
+    @SuppressWarnings("unchecked")
+    final Iterator<OIdentifiable> iterator =
+        value instanceof ORecordLazyList
+            ? ((ORecordLazyList) value).rawIterator()
+            : ((Collection<OIdentifiable>) value).iterator();
+
+    final List<ORID> chunks = new ArrayList<>();
+    while (iterator.hasNext()) {
+      chunks.add(iterator.next().getIdentity());
+    }
+    return chunks;
+  }
+
+  /** Opens a stream which reads the whole content. */
+  public OChunkedBlobInputStream openStream() {
+    return openStream(0, getSize());
+  }
+
+  /**
+   * Opens a stream which reads a range of the content. Only the chunks which contain the range are
+   * loaded.
+   *
+   * @param offset position of the first byte of the range
+   * @param length amount of bytes of the range
+   */
+  public OChunkedBlobInputStream openStream(final long offset, final long length) {
+    final long size = getSize();
+    if (offset < 0 || length < 0 || offset + length > size) {
+      throw new IllegalArgumentException(
+          "Range ["
+              + offset
+              + ", "
+              + (offset + length)
+              + ") is out of the bounds of blob "
+              + getIdentity()
+              + " of "
+              + size
+              + " bytes");
+    }
+
+    return new OChunkedBlobInputStream(
+        ODatabaseRecordThreadLocal.instance().get(),
+        getChunks(),
+        getChunkSize(),
+        offset,
+        offset + length);
+  }
+
+  /** Writes the whole content in the passed stream, one chunk at a time. */
+  public void toOutputStream(final OutputStream out) throws IOException {
+    try (InputStream in = openStream()) {
+      final byte[] buffer = new byte[getChunkSize()];
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        out.write(buffer, 0, read);
+      }
+    }
+  }
+
+  /** Deletes the chunks and the document of the blob. */
+  public void delete() {
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.instance().get();
+    for (ORID chunk : getChunks()) {
+      database.delete(chunk);
+    }
+    database.delete(document);
+  }
+}
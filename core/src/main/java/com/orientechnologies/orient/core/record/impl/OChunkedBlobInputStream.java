@@ -0,0 +1,136 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORID;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Stream which reads a range of the content of a {@link OChunkedBlob}. Chunks are loaded only when
+ * the stream reaches them, bypassing the local cache, and only the current one is kept in memory.
+ * Skipped bytes are not read at all.
+ */
+public class OChunkedBlobInputStream extends InputStream {
+  private final ODatabaseDocumentInternal database;
+  private final List<ORID> chunks;
+  private final int chunkSize;
+  private final long end;
+
+  private long position;
+
+  private byte[] chunk;
+  private int chunkIndex = -1;
+
+  public OChunkedBlobInputStream(
+      final ODatabaseDocumentInternal database,
+      final List<ORID> chunks,
+      final int chunkSize,
+      final long offset,
+      final long end) {
+    this.database = database;
+    this.chunks = chunks;
+    this.chunkSize = chunkSize;
+    this.position = offset;
+    this.end = end;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (position >= end) {
+      return -1;
+    }
+
+    final byte[] content = loadChunk();
+    return content[(int) (position++ % chunkSize)] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (position >= end) {
+      return -1;
+    }
+
+    final byte[] content = loadChunk();
+    final int chunkOffset = (int) (position % chunkSize);
+    final int read = (int) Math.min(len, Math.min(end - position, content.length - chunkOffset));
+
+    System.arraycopy(content, chunkOffset, b, off, read);
+    position += read;
+    return read;
+  }
+
+  @Override
+  public long skip(final long n) {
+    if (n <= 0) {
+      return 0;
+    }
+
+    final long skipped = Math.min(n, end - position);
+    position += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    if (chunk == null || position >= end || position / chunkSize != chunkIndex) {
+      return 0;
+    }
+    return (int) Math.min(end - position, chunk.length - position % chunkSize);
+  }
+
+  @Override
+  public void close() {
+    chunk = null;
+    position = end;
+  }
+
+  private byte[] loadChunk() throws IOException {
+    final int index = (int) (position / chunkSize);
+    if (index == chunkIndex) {
+      return chunk;
+    }
+
+    // THE PREVIOUS CHUNK IS RELEASED BEFORE THE NEXT ONE IS LOADED
+    chunk = null;
+
+    final ORID rid = chunks.get(index);
+    final ORecordBytes record = database.load(rid, null, true);
+    if (record == null) {
+      throw new ORecordNotFoundException(rid, "Chunk " + index + " of blob was not found: " + rid);
+    }
+
+    final byte[] content = record.toStream();
+    if (content.length <= (int) (position % chunkSize)) {
+      throw new IOException("Chunk " + rid + " is shorter than expected");
+    }
+
+    chunk = content;
+    chunkIndex = index;
+    return chunk;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stream which stores a {@link OChunkedBlob}. Every time a chunk is full it is saved and released,
+ * the document of the blob is saved when the stream is closed.
+ *
+ * <p>Outside of a transaction chunks are removed from the local cache once saved, so the memory
+ * used by the stream does not depend on the size of the blob. Inside of a transaction all the
+ * chunks are kept by the transaction until it is committed.
+ */
+public class OChunkedBlobOutputStream extends OutputStream {
+  private final ODatabaseDocumentInternal database;
+  private final String clusterName;
+  private final int chunkSize;
+
+  private final List<OIdentifiable> chunks = new ArrayList<>();
+  private byte[] buffer;
+  private int position;
+  private long size;
+
+  private OChunkedBlob blob;
+  private boolean closed;
+
+  public OChunkedBlobOutputStream(
+      final ODatabaseDocumentInternal database, final String clusterName, final int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Invalid chunk size " + chunkSize);
+    }
+
+    this.database = database;
+    this.chunkSize = chunkSize;
+    this.buffer = new byte[chunkSize];
+
+    if (clusterName != null) {
+      this.clusterName = clusterName;
+    } else if (!database.getBlobClusterIds().isEmpty()) {
+      this.clusterName =
+          database.getClusterNameById(database.getBlobClusterIds().iterator().next());
+    } else {
+      this.clusterName = database.getClusterNameById(database.getDefaultClusterId());
+    }
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    checkOpen();
+
+    buffer[position++] = (byte) b;
+    size++;
+    if (position == chunkSize) {
+      saveChunk();
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, int off, int len) throws IOException {
+    checkOpen();
+
+    while (len > 0) {
+      final int written = Math.min(len, chunkSize - position);
+      System.arraycopy(b, off, buffer, position, written);
+
+      position += written;
+      size += written;
+      off += written;
+      len -= written;
+
+      if (position == chunkSize) {
+        saveChunk();
+      }
+    }
+  }
+
+  /** Saves the last chunk and the document of the blob. */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    if (position > 0) {
+      saveChunk();
+    }
+    closed = true;
+
+    final ODocument document = new ODocument();
+    document.field(OChunkedBlob.SIZE_FIELD, size);
+    document.field(OChunkedBlob.CHUNK_SIZE_FIELD, chunkSize);
+    document.field(OChunkedBlob.CHUNKS_FIELD, chunks, OType.LINKLIST);
+    database.save(document, database.getClusterNameById(database.getDefaultClusterId()));
+
+    blob = new OChunkedBlob(document);
+  }
+
+  /** Deletes the chunks saved so far, the blob is not stored. */
+  public void abort() {
+    closed = true;
+    buffer = null;
+    for (OIdentifiable chunk : chunks) {
+      database.delete(chunk.getIdentity());
+    }
+    chunks.clear();
+  }
+
+  /** @return the stored blob, available once the stream is closed */
+  public OChunkedBlob getBlob() {
+    if (blob == null) {
+      throw new IllegalStateException("Blob is not stored until the stream is closed");
+    }
+    return blob;
+  }
+
+  /** @return amount of bytes written so far */
+  public long getSize() {
+    return size;
+  }
+
+  private void saveChunk() {
+    // THE RECORD TAKES THE OWNERSHIP OF THE BUFFER
+    final byte[] content = position == chunkSize ? buffer : Arrays.copyOf(buffer, position);
+    final ORecordBytes chunk = new ORecordBytes(content);
+    database.save(chunk, clusterName);
+    chunks.add(chunk.getIdentity());
+
+    if (!database.getTransaction().isActive()) {
+      database.getLocalCache().deleteRecord(chunk.getIdentity());
+    }
+
+    buffer = new byte[chunkSize];
+    position = 0;
+  }
+
+  private void checkOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+  }
+}
@@ -36,6 +36,9 @@ import java.util.Arrays;
  * byte[] without matter about the content. Useful also to store multimedia contents and binary
  * files. The object can be reused across calls to the database by using the reset() at every
  * re-use.
+ *
+ * <p>The whole content is kept in memory, large contents should be stored as {@link OChunkedBlob}
+ * instead.
  */
 @SuppressWarnings({"unchecked"})
 public class ORecordBytes extends ORecordAbstract implements OBlob {
@@ -199,6 +199,58 @@ public class OVertexDelegate implements OVertex {
     return getVertices(direction, types.toArray(new String[] {}));
   }
 
+  @Override
+  public Iterable<OIdentifiable> getVertexIdentities(ODirection direction, String... labels) {
+    final OMultiCollectionIterator<OIdentifiable> iterable =
+        new OMultiCollectionIterator<OIdentifiable>().setEmbedded(true);
+    if (direction == ODirection.BOTH) {
+      iterable.add(getVertexIdentities(ODirection.OUT, labels));
+      iterable.add(getVertexIdentities(ODirection.IN, labels));
+      return iterable;
+    }
+
+    Set<String> fieldNames = null;
+    if (labels != null && labels.length > 0) {
+      fieldNames = getEdgeFieldNames(direction, labels);
+      if (fieldNames != null)
+        // READ ONLY THE FIELDS THAT MATTERS
+        element.deserializeFields(fieldNames.toArray(new String[] {}));
+    }
+
+    if (fieldNames == null) fieldNames = getPropertyNames();
+
+    for (String fieldName : fieldNames) {
+      final OPair<ODirection, String> connection = getConnection(direction, fieldName, labels);
+      if (connection == null)
+        // SKIP THIS FIELD
+        continue;
+
+      Object fieldValue = element.rawField(fieldName);
+      if (fieldValue instanceof OIdentifiable) {
+        fieldValue = Collections.singleton(fieldValue);
+      }
+
+      if (fieldValue instanceof ORecordLazyMultiValue) {
+        final ORecordLazyMultiValue coll = (ORecordLazyMultiValue) fieldValue;
+        iterable.add(
+            new OAdjacentVertexIterator(
+                this, coll, coll.rawIterator(), connection, labels, coll.size()));
+      } else if (fieldValue instanceof Collection<?>) {
+        final Collection<?> coll = (Collection<?>) fieldValue;
+        iterable.add(
+            new OAdjacentVertexIterator(this, coll, coll.iterator(), connection, labels, -1));
+      } else if (fieldValue instanceof ORidBag) {
+        // STREAMS THE RIDS OF THE EMBEDDED OR TREE BASED BAG
+        final ORidBag bag = (ORidBag) fieldValue;
+        iterable.add(
+            new OAdjacentVertexIterator(
+                this, bag, bag.rawIterator(), connection, labels, bag.size()));
+      }
+    }
+
+    return iterable;
+  }
+
   @Override
   public OEdge addEdge(OVertex to) {
     return addEdge(to, "E");
@@ -26,6 +26,7 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OSecurityAccessException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.function.OFunction;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.security.ORestrictedOperation;
 import com.orientechnologies.orient.core.metadata.security.ORole;
 import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
@@ -40,6 +41,7 @@ import com.orientechnologies.orient.core.metadata.security.auth.OAuthenticationI
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.security.OSecurityManager;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -351,6 +353,11 @@ public class OSymmetricKeySecurity implements OSecurityInternal {
     return delegate.isReadRestrictedBySecurityPolicy(session, resource);
   }
 
+  @Override
+  public OBooleanExpression getReadPredicateForQuery(ODatabaseSession session, OClass clazz) {
+    return delegate.getReadPredicateForQuery(session, clazz);
+  }
+
   @Override
   public Set<OSecurityResourceProperty> getAllFilteredProperties(
       ODatabaseDocumentInternal database) {
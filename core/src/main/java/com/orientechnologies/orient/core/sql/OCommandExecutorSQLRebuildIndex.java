@@ -25,6 +25,9 @@ import com.orientechnologies.orient.core.command.OCommandRequestText;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexRebuildCoordinator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -86,12 +89,12 @@ public class OCommandExecutorSQLRebuildIndex extends OCommandExecutorSQLAbstract
 
     final ODatabaseDocumentInternal database = getDatabase();
     if (name.equals("*")) {
-      long totalIndexed = 0;
+      final List<OIndex> automatic = new ArrayList<>();
       for (OIndex idx : database.getMetadata().getIndexManagerInternal().getIndexes(database)) {
-        if (idx.isAutomatic()) totalIndexed += idx.rebuild();
+        if (idx.isAutomatic()) automatic.add(idx);
       }
 
-      return totalIndexed;
+      return OIndexRebuildCoordinator.rebuildIndexes(database, automatic);
 
     } else {
       final OIndex idx = database.getMetadata().getIndexManagerInternal().getIndex(database, name);
@@ -2,7 +2,6 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
-import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.sql.parser.OInteger;
 import com.orientechnologies.orient.core.sql.parser.OTraverseProjectionItem;
 import com.orientechnologies.orient.core.sql.parser.OWhereClause;
@@ -10,7 +9,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,7 +22,7 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
   protected List<OResult> results = new ArrayList<>();
   private long cost = 0;
 
-  protected Set<ORID> traversed = new ORidSet();
+  protected final OCompactRidSet traversed;
 
   public AbstractTraverseStep(
       List<OTraverseProjectionItem> projections,
@@ -35,6 +33,7 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
     super(ctx, profilingEnabled);
     this.whileClause = whileClause;
     this.maxDepth = maxDepth;
+    this.traversed = OCompactRidSet.create(ctx);
 
     try (final Stream<OTraverseProjectionItem> stream = projections.stream()) {
       this.projections = stream.map(OTraverseProjectionItem::copy).collect(Collectors.toList());
@@ -129,6 +128,12 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
     return entryPoints != null && entryPoints.isEmpty() && results.isEmpty();
   }
 
+  @Override
+  public void close() {
+    super.close();
+    traversed.close();
+  }
+
   @Override
   public long getCost() {
     return cost;
@@ -12,7 +12,7 @@ import java.util.Set;
 public class DistinctExecutionStep extends AbstractExecutionStep {
 
   private Set<OResult> pastItems = new HashSet<>();
-  private ORidSet pastRids = new ORidSet();
+  private final OCompactRidSet pastRids;
 
   private OResultSet lastResult = null;
   private OResult nextValue;
@@ -21,6 +21,7 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
 
   public DistinctExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
+    this.pastRids = OCompactRidSet.create(ctx);
   }
 
   @Override
@@ -134,6 +135,7 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
   @Override
   public void close() {
     prev.ifPresent(x -> x.close());
+    pastRids.close();
   }
 
   @Override
@@ -11,6 +11,7 @@ public class EdgeTraversal {
   private String leftCluster;
   private ORid leftRid;
   private OWhereClause leftFilter;
+  private long estimatedRows = -1;
 
   public EdgeTraversal(PatternEdge edge, boolean out) {
     this.edge = edge;
@@ -49,6 +50,15 @@ public class EdgeTraversal {
     return leftFilter;
   }
 
+  /** @return estimated number of results after the traversal, -1 if it was not estimated */
+  public long getEstimatedRows() {
+    return estimatedRows;
+  }
+
+  public void setEstimatedRows(long estimatedRows) {
+    this.estimatedRows = estimatedRows;
+  }
+
   @Override
   public String toString() {
     return edge.toString();
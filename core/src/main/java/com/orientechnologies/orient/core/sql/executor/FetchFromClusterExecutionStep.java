@@ -5,6 +5,7 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
@@ -68,6 +69,8 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
           iterator.last();
         }
       }
+      String readPolicyEnforcedFor =
+          queryPlanning == null ? null : queryPlanning.readPolicyEnforcedFor;
       OResultSet rs =
           new OResultSet() {
 
@@ -79,6 +82,7 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
                 throw new OTimeoutException("Command execution timeout");
               }
               long begin = profilingEnabled ? System.nanoTime() : 0;
+              String previousReadPolicy = enforceReadPolicy(ctx, readPolicyEnforcedFor);
               try {
                 if (nFetched >= nRecords) {
                   return false;
@@ -89,6 +93,9 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
                   return iterator.hasNext();
                 }
               } finally {
+                if (readPolicyEnforcedFor != null) {
+                  enforceReadPolicy(ctx, previousReadPolicy);
+                }
                 if (profilingEnabled) {
                   cost += (System.nanoTime() - begin);
                 }
@@ -105,6 +112,7 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
                 throw new OCommandInterruptedException("The command has been interrupted");
               }
               long begin = profilingEnabled ? System.nanoTime() : 0;
+              String previousReadPolicy = enforceReadPolicy(ctx, readPolicyEnforcedFor);
               try {
                 if (nFetched >= nRecords) {
                   throw new IllegalStateException();
@@ -127,6 +135,9 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
                 ctx.setVariable("$current", result);
                 return result;
               } finally {
+                if (readPolicyEnforcedFor != null) {
+                  enforceReadPolicy(ctx, previousReadPolicy);
+                }
                 if (profilingEnabled) {
                   cost += (System.nanoTime() - begin);
                 }
@@ -154,6 +165,19 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     }
   }
 
+  /**
+   * The READ policy of the class is part of the WHERE condition, records the user can't read are
+   * filtered by the query so they don't need to be checked while they are loaded.
+   *
+   * @return the class previously set
+   */
+  private static String enforceReadPolicy(OCommandContext ctx, String className) {
+    if (className != null && ctx.getDatabase() instanceof ODatabaseDocumentEmbedded) {
+      return ((ODatabaseDocumentEmbedded) ctx.getDatabase()).setReadPolicyEnforcedFor(className);
+    }
+    return null;
+  }
+
   private long calculateMinClusterPosition() {
     if (queryPlanning == null
         || queryPlanning.ridRangeConditions == null
@@ -33,7 +33,7 @@ public class FindReferencesStep extends AbstractExecutionStep {
   private final List<OCluster> clusters;
 
   private boolean inited = false;
-  private Set<ORID> ridsToFind;
+  private OCompactRidSet ridsToFind;
   private ORecordIteratorCluster currentIterator;
   private Iterator<ORecordIteratorCluster> clusterIterators;
   private OResultInternal nextResult;
@@ -165,7 +165,7 @@ public class FindReferencesStep extends AbstractExecutionStep {
   }
 
   private void fetchRidsToFind(OCommandContext ctx, int nRecords) {
-    ridsToFind = new HashSet<>();
+    ridsToFind = OCompactRidSet.create(ctx);
 
     OExecutionStepInternal prevStep = getPrev().get();
     OResultSet nextSlot = prevStep.syncPull(ctx, nRecords);
@@ -268,6 +268,14 @@ public class FindReferencesStep extends AbstractExecutionStep {
     return result;
   }
 
+  @Override
+  public void close() {
+    super.close();
+    if (ridsToFind != null) {
+      ridsToFind.close();
+    }
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
@@ -0,0 +1,224 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OLocalResultSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Joins the patterns matched upstream with the ones of an independent sub-pattern of a MATCH
+ * statement, whose filters compare its nodes with the nodes matched upstream (eg. <code>
+ * {class: B, as: b, where: (fk = $matched.a.id)}</code>). The sub-pattern is matched once to build
+ * a hash table on the left side of the comparisons, which is probed with the right side evaluated
+ * on each upstream pattern.
+ */
+public class HashJoinStep extends AbstractExecutionStep {
+  private final OInternalExecutionPlan buildPlan;
+  private final List<String> buildAliases;
+  private final List<OExpression> buildKeys;
+  private final List<OExpression> probeKeys;
+
+  private OHashJoinTable table;
+  private OResultSet upstream;
+  private OResult lastUpstreamRecord;
+  private Iterator<OResult> matches;
+  private OResult nextResult;
+
+  private long cost = 0;
+
+  /**
+   * @param buildPlan plan of the sub-pattern on the build side
+   * @param buildAliases aliases of the sub-pattern the build keys are evaluated on
+   * @param buildKeys expressions evaluated on the nodes of the sub-pattern
+   * @param probeKeys expressions evaluated with <code>$matched</code> set to the upstream patterns
+   */
+  public HashJoinStep(
+      OInternalExecutionPlan buildPlan,
+      List<String> buildAliases,
+      List<OExpression> buildKeys,
+      List<OExpression> probeKeys,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.buildPlan = buildPlan;
+    this.buildAliases = buildAliases;
+    this.buildKeys = buildKeys;
+    this.probeKeys = probeKeys;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!getPrev().isPresent()) {
+      throw new OCommandExecutionException("Cannot execute a hash join without a probe side");
+    }
+    if (upstream == null) {
+      // THE PROBE SIDE IS PULLED FIRST, IT CAN PREFETCH NODES OF THE BUILD SIDE
+      upstream = getPrev().get().syncPull(ctx, nRecords);
+    }
+    init(ctx);
+    return new OResultSet() {
+      private int localCount = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (localCount >= nRecords) {
+          return false;
+        }
+        if (nextResult == null) {
+          fetchNext(ctx, nRecords);
+        }
+        return nextResult != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextResult;
+        nextResult = null;
+        localCount++;
+        ctx.setVariable("$matched", result);
+        return result;
+      }
+
+      @Override
+      public void close() {}
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private void init(OCommandContext ctx) {
+    if (table != null) {
+      return;
+    }
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      table =
+          new OHashJoinTable(OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.getValueAsLong());
+      OResultSet rs = new OLocalResultSet(buildPlan);
+      while (rs.hasNext()) {
+        OResult row = rs.next();
+        List<Object> key = new ArrayList<>(buildKeys.size());
+        for (int i = 0; i < buildKeys.size(); i++) {
+          Object node = row.getProperty(buildAliases.get(i));
+          if (node instanceof OIdentifiable) {
+            node = new OResultInternal((OIdentifiable) node);
+          }
+          key.add(node == null ? null : buildKeys.get(i).execute((OResult) node, ctx));
+        }
+        table.add(key, row);
+      }
+      rs.close();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private void fetchNext(OCommandContext ctx, int nRecords) {
+    while (matches == null || !matches.hasNext()) {
+      if (upstream == null || !upstream.hasNext()) {
+        upstream = getPrev().get().syncPull(ctx, nRecords);
+      }
+      if (!upstream.hasNext()) {
+        return;
+      }
+      lastUpstreamRecord = upstream.next();
+
+      long begin = profilingEnabled ? System.nanoTime() : 0;
+      try {
+        ctx.setVariable("$matched", lastUpstreamRecord);
+        List<Object> key = new ArrayList<>(probeKeys.size());
+        for (OExpression probeKey : probeKeys) {
+          key.add(probeKey.execute(lastUpstreamRecord, ctx));
+        }
+        matches = table.get(key).iterator();
+      } finally {
+        if (profilingEnabled) {
+          cost += (System.nanoTime() - begin);
+        }
+      }
+    }
+
+    OResult match = matches.next();
+    OResultInternal result = new OResultInternal();
+    for (String property : lastUpstreamRecord.getPropertyNames()) {
+      result.setProperty(property, lastUpstreamRecord.getProperty(property));
+    }
+    for (String property : match.getPropertyNames()) {
+      result.setProperty(property, match.getProperty(property));
+    }
+    nextResult = result;
+  }
+
+  @Override
+  public void reset() {
+    this.upstream = null;
+    this.lastUpstreamRecord = null;
+    this.matches = null;
+    this.nextResult = null;
+  }
+
+  @Override
+  public void close() {
+    if (table != null) {
+      table.close();
+    }
+    buildPlan.close();
+    super.close();
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    StringBuilder result = new StringBuilder();
+    result.append(spaces);
+    result.append("+ HASH JOIN ON ");
+    for (int i = 0; i < buildKeys.size(); i++) {
+      if (i > 0) {
+        result.append(" AND ");
+      }
+      result.append("{" + buildAliases.get(i) + "}." + buildKeys.get(i));
+      result.append(" = ");
+      result.append(probeKeys.get(i));
+    }
+    if (profilingEnabled) {
+      result.append(" (" + getCostFormatted() + ")");
+    }
+    if (table != null) {
+      result.append("\n");
+      result.append(spaces);
+      result.append("  build side: " + table.size() + " rows");
+      if (table.getSpilledRows() > 0) {
+        result.append(", " + table.getSpilledRows() + " in temporary file");
+      }
+    }
+    result.append("\n");
+    result.append(buildPlan.prettyPrint(depth + 1, indent));
+    return result.toString();
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+}
@@ -0,0 +1,176 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OIdentifier;
+import com.orientechnologies.orient.core.sql.parser.OLocalResultSet;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per record LET of a subquery correlated to the parent query only by equalities (eg. <code>
+ * LET $x = (SELECT FROM B WHERE fk = $parent.$current.id)</code>). The subquery is executed once,
+ * without the correlated conditions, to build a hash table on their left side; the table is then
+ * probed with the right side evaluated on each record, in place of executing the subquery again.
+ */
+public class LetHashJoinStep extends AbstractExecutionStep {
+  private final OIdentifier varName;
+  private final OStatement query;
+  private final OStatement buildQuery;
+  private final List<OExpression> buildKeys;
+  private final List<String> buildKeyAliases;
+  private final List<OExpression> probeKeys;
+
+  private OHashJoinTable table;
+  private long cost = 0;
+
+  /**
+   * @param varName the LET variable
+   * @param query the original subquery
+   * @param buildQuery the subquery without the correlated conditions
+   * @param buildKeys left side of the correlated conditions, evaluated on the rows of the subquery
+   * @param buildKeyAliases aliases of the projections added to the subquery to calculate the build
+   *     keys, removed from the rows once read, or null if the subquery has no projection
+   * @param probeKeys right side of the correlated conditions
+   */
+  public LetHashJoinStep(
+      OIdentifier varName,
+      OStatement query,
+      OStatement buildQuery,
+      List<OExpression> buildKeys,
+      List<String> buildKeyAliases,
+      List<OExpression> probeKeys,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.varName = varName;
+    this.query = query;
+    this.buildQuery = buildQuery;
+    this.buildKeys = buildKeys;
+    this.buildKeyAliases = buildKeyAliases;
+    this.probeKeys = probeKeys;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!getPrev().isPresent()) {
+      throw new OCommandExecutionException(
+          "Cannot execute a local LET on a query without a target");
+    }
+    return new OResultSet() {
+      private OResultSet source = getPrev().get().syncPull(ctx, nRecords);
+
+      @Override
+      public boolean hasNext() {
+        return source.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        OResultInternal result = (OResultInternal) source.next();
+        if (result != null) {
+          calculate(result, ctx);
+        }
+        return result;
+      }
+
+      @Override
+      public void close() {
+        source.close();
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private void calculate(OResultInternal result, OCommandContext ctx) {
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      if (table == null) {
+        table = build(ctx);
+      }
+      // SAME CONTEXT THE SUBQUERY WOULD BE EXECUTED WITH
+      OBasicCommandContext subCtx = new OBasicCommandContext();
+      subCtx.setDatabase(ctx.getDatabase());
+      subCtx.setParentWithoutOverridingChild(ctx);
+      List<Object> key = new ArrayList<>(probeKeys.size());
+      for (OExpression probeKey : probeKeys) {
+        key.add(probeKey.execute(result, subCtx));
+      }
+      result.setMetadata(varName.getStringValue(), table.get(key));
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private OHashJoinTable build(OCommandContext ctx) {
+    OBasicCommandContext subCtx = new OBasicCommandContext();
+    subCtx.setDatabase(ctx.getDatabase());
+    subCtx.setParentWithoutOverridingChild(ctx);
+    OInternalExecutionPlan plan;
+    if (buildQuery.toString().contains("?")) {
+      plan = buildQuery.createExecutionPlanNoCache(subCtx, profilingEnabled);
+    } else {
+      plan = buildQuery.createExecutionPlan(subCtx, profilingEnabled);
+    }
+
+    OHashJoinTable result =
+        new OHashJoinTable(OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.getValueAsLong());
+    OLocalResultSet rs = new OLocalResultSet(plan);
+    while (rs.hasNext()) {
+      OResult row = rs.next();
+      List<Object> key = new ArrayList<>(buildKeys.size());
+      for (int i = 0; i < buildKeys.size(); i++) {
+        if (buildKeyAliases == null) {
+          key.add(buildKeys.get(i).execute(row, subCtx));
+        } else {
+          key.add(row.getProperty(buildKeyAliases.get(i)));
+          ((OResultInternal) row).removeProperty(buildKeyAliases.get(i));
+        }
+      }
+      result.add(key, row);
+    }
+    rs.close();
+    return result;
+  }
+
+  @Override
+  public void close() {
+    if (table != null) {
+      table.close();
+    }
+    super.close();
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ LET (hash join)\n" + spaces + "  " + varName + " = (" + query + ")";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+}
@@ -1,7 +1,10 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.OContextualRecordId;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.sql.parser.OMatchPathItem;
@@ -44,7 +47,9 @@ public class MatchEdgeTraverser {
     }
     String endPointAlias = getEndpointAlias();
     OResultInternal nextR = downstream.next();
-    OIdentifiable nextElement = nextR.getElement().get();
+    // KEEP LINKS AS THEY ARE: THE RECORD IS LOADED ONLY IF THE QUERY READS ITS CONTENT
+    OIdentifiable nextElement =
+        nextR.element instanceof ORID ? nextR.element : nextR.getElement().get();
     Object prevValue = sourceRecord.getProperty(endPointAlias);
     if (prevValue != null && !equals(prevValue, nextElement)) {
       return null;
@@ -75,6 +80,9 @@ public class MatchEdgeTraverser {
   }
 
   protected Object toResult(OIdentifiable nextElement) {
+    if (nextElement instanceof ORID && !(nextElement instanceof OContextualRecordId)) {
+      return new OResultInternal(nextElement);
+    }
     OResultInternal result = new OResultInternal();
     result.setElement(nextElement);
     return result;
@@ -177,7 +185,11 @@ public class MatchEdgeTraverser {
                 }
                 while (iter.hasNext()) {
                   OResultInternal next = iter.next();
-                  OElement elem = next.toElement();
+                  // WITHOUT A FILTER THE TARGET IS CHECKED ON ITS IDENTITY, WITHOUT LOADING IT
+                  OIdentifiable elem =
+                      theFilter == null && next.element instanceof ORID
+                          ? next.element
+                          : next.toElement();
                   iCommandContext.setVariable("$currentMatch", elem);
                   if (matchesFilters(iCommandContext, theFilter, elem)
                       && matchesClass(iCommandContext, theClassName, elem)
@@ -269,6 +281,16 @@ public class MatchEdgeTraverser {
     if (className == null) {
       return true;
     }
+    if (origin instanceof ORID) {
+      final OClass clazz =
+          ((ODatabaseDocumentInternal) iCommandContext.getDatabase())
+              .getMetadata()
+              .getImmutableSchemaSnapshot()
+              .getClassByClusterId(origin.getIdentity().getClusterId());
+      if (clazz != null) {
+        return clazz.isSubClassOf(className);
+      }
+    }
     OElement element = null;
     if (origin instanceof OElement) {
       element = (OElement) origin;
@@ -13,6 +13,7 @@ import java.util.Optional;
 public class MatchFirstStep extends AbstractExecutionStep {
   private final PatternNode node;
   private OInternalExecutionPlan executionPlan;
+  private long estimatedRows = -1;
 
   private Iterator<OResult> iterator;
   private OResultSet subResultSet;
@@ -31,6 +32,11 @@ public class MatchFirstStep extends AbstractExecutionStep {
     this.executionPlan = subPlan;
   }
 
+  /** @param estimatedRows estimated number of vertices the pattern is matched from */
+  public void setEstimatedRows(long estimatedRows) {
+    this.estimatedRows = estimatedRows;
+  }
+
   @Override
   public void reset() {
     this.iterator = null;
@@ -133,6 +139,9 @@ public class MatchFirstStep extends AbstractExecutionStep {
     result.append(spaces);
     result.append("   ");
     result.append(getAlias());
+    if (estimatedRows >= 0) {
+      result.append(" (estimated rows: ").append(estimatedRows).append(")");
+    }
     if (executionPlan != null) {
       result.append("\n");
       result.append(spaces);
@@ -133,10 +133,14 @@ public class MatchStep extends AbstractExecutionStep {
     result.append(spaces);
     result.append("+ MATCH ");
     if (edge.out) {
-      result.append("     ---->\n");
+      result.append("     ---->");
     } else {
-      result.append("     <----\n");
+      result.append("     <----");
     }
+    if (edge.getEstimatedRows() >= 0) {
+      result.append(" (estimated rows: ").append(edge.getEstimatedRows()).append(")");
+    }
+    result.append("\n");
     result.append(spaces);
     result.append("  ");
     result.append("{" + edge.edge.out.alias + "}");
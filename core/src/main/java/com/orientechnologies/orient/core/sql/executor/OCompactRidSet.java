@@ -0,0 +1,633 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import java.nio.ByteBuffer;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Set of RIDs that keeps the positions of each cluster in compressed containers, as roaring bitmaps
+ * do. Positions are grouped by their high 48 bits, and the low 16 bits of the positions of a group
+ * are kept in a sorted array while they are at most 4096, in a bitmap of 8KB otherwise. So sparse
+ * positions take two bytes each and dense ones about one bit each, whatever the size of the
+ * positions is. The groups of the first 2^28 positions of a cluster are looked up by index, the
+ * following ones with a binary search.
+ *
+ * <p>Bitmaps can be allocated off-heap, in this case the set has to be closed to release them. RIDs
+ * with a negative cluster id or position are kept as they are in a hash set. As for {@link ORidSet}
+ * the other RIDs are not stored, so the iterator returns new instances, in ascending order.
+ *
+ * @see OGlobalConfiguration#QUERY_RID_SET_OFF_HEAP
+ */
+public class OCompactRidSet extends AbstractSet<ORID> implements AutoCloseable {
+  private static final int LOW_BITS = 16;
+  private static final int LOW_MASK = (1 << LOW_BITS) - 1;
+  private static final int ARRAY_MAX_SIZE = 4096;
+  private static final int BITMAP_WORDS = (1 << LOW_BITS) / Long.SIZE;
+  private static final int DIRECT_HIGHS = 1 << 12;
+
+  private final boolean offHeap;
+  private ClusterSet[] clusters = new ClusterSet[8];
+  private final Set<ORID> negatives = new HashSet<>();
+  private long size = 0;
+  private int modCount = 0;
+
+  public OCompactRidSet() {
+    this(false);
+  }
+
+  /** @param offHeap if <code>true</code> bitmaps are allocated off-heap until the set is closed */
+  public OCompactRidSet(boolean offHeap) {
+    this.offHeap = offHeap;
+  }
+
+  /**
+   * Creates a set that is allocated off-heap if {@link OGlobalConfiguration#QUERY_RID_SET_OFF_HEAP}
+   * is enabled for the database of the context.
+   */
+  public static OCompactRidSet create(OCommandContext ctx) {
+    ODatabase<?> db = ctx == null ? null : ctx.getDatabase();
+    OContextConfiguration configuration = db == null ? null : db.getConfiguration();
+    if (configuration == null) {
+      return new OCompactRidSet(OGlobalConfiguration.QUERY_RID_SET_OFF_HEAP.getValueAsBoolean());
+    }
+    return new OCompactRidSet(
+        configuration.getValueAsBoolean(OGlobalConfiguration.QUERY_RID_SET_OFF_HEAP));
+  }
+
+  public boolean isOffHeap() {
+    return offHeap;
+  }
+
+  @Override
+  public int size() {
+    long total = size + negatives.size();
+    return total <= Integer.MAX_VALUE ? (int) total : Integer.MAX_VALUE;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0 && negatives.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof ORID)) {
+      return false;
+    }
+    ORID rid = (ORID) o;
+    int clusterId = rid.getClusterId();
+    long position = rid.getClusterPosition();
+    if (clusterId < 0 || position < 0) {
+      return negatives.contains(rid);
+    }
+    if (clusterId >= clusters.length) {
+      return false;
+    }
+    ClusterSet cluster = clusters[clusterId];
+    return cluster != null && cluster.contains(position);
+  }
+
+  @Override
+  public boolean add(ORID rid) {
+    if (rid == null) {
+      throw new IllegalArgumentException();
+    }
+    int clusterId = rid.getClusterId();
+    long position = rid.getClusterPosition();
+    if (clusterId < 0 || position < 0) {
+      if (negatives.add(rid)) {
+        modCount++;
+        return true;
+      }
+      return false;
+    }
+    if (clusterId >= clusters.length) {
+      clusters = Arrays.copyOf(clusters, Math.max(clusterId + 1, clusters.length * 2));
+    }
+    ClusterSet cluster = clusters[clusterId];
+    if (cluster == null) {
+      cluster = new ClusterSet();
+      clusters[clusterId] = cluster;
+    }
+    if (cluster.add(position)) {
+      size++;
+      modCount++;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof ORID)) {
+      return false;
+    }
+    ORID rid = (ORID) o;
+    int clusterId = rid.getClusterId();
+    long position = rid.getClusterPosition();
+    if (clusterId < 0 || position < 0) {
+      if (negatives.remove(rid)) {
+        modCount++;
+        return true;
+      }
+      return false;
+    }
+    if (clusterId >= clusters.length) {
+      return false;
+    }
+    ClusterSet cluster = clusters[clusterId];
+    if (cluster == null || !cluster.remove(position)) {
+      return false;
+    }
+    if (cluster.count == 0) {
+      clusters[clusterId] = null;
+    }
+    size--;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    boolean modified = false;
+    for (Object o : c) {
+      modified |= remove(o);
+    }
+    return modified;
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    List<ORID> toRemove = new ArrayList<>();
+    for (ORID rid : this) {
+      if (!c.contains(rid)) {
+        toRemove.add(rid);
+      }
+    }
+    for (ORID rid : toRemove) {
+      remove(rid);
+    }
+    return !toRemove.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    for (ClusterSet cluster : clusters) {
+      if (cluster != null) {
+        cluster.free();
+      }
+    }
+    clusters = new ClusterSet[8];
+    negatives.clear();
+    size = 0;
+    modCount++;
+  }
+
+  /** Empties the set and releases the off-heap memory, the set can still be used afterwards. */
+  @Override
+  public void close() {
+    clear();
+  }
+
+  @Override
+  public Iterator<ORID> iterator() {
+    return new RidIterator();
+  }
+
+  private final class RidIterator implements Iterator<ORID> {
+    private final Iterator<ORID> negativesIterator = negatives.iterator();
+    private int expectedModCount = modCount;
+
+    // CLUSTER AND POSITION OF THE NEXT RID, CLUSTER IS -1 WHEN THERE ARE NO MORE RIDS
+    private int clusterId = -1;
+    private long nextPosition;
+    private int slot;
+
+    private ORID lastReturned;
+    private boolean lastNegative;
+
+    private RidIterator() {
+      seekCluster(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return negativesIterator.hasNext() || clusterId >= 0;
+    }
+
+    @Override
+    public ORID next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (negativesIterator.hasNext()) {
+        lastReturned = negativesIterator.next();
+        lastNegative = true;
+        return lastReturned;
+      }
+      if (clusterId < 0) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = new ORecordId(clusterId, nextPosition);
+      lastNegative = false;
+
+      ClusterSet cluster = clusters[clusterId];
+      int low = cluster.container(slot).next((int) (nextPosition & LOW_MASK) + 1);
+      if (low >= 0) {
+        nextPosition = (nextPosition & ~(long) LOW_MASK) | low;
+      } else {
+        slot = cluster.nextSlot(slot + 1);
+        if (slot >= 0) {
+          nextPosition = cluster.first(slot);
+        } else {
+          seekCluster(clusterId + 1);
+        }
+      }
+      return lastReturned;
+    }
+
+    @Override
+    public void remove() {
+      if (lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (lastNegative) {
+        negativesIterator.remove();
+        modCount++;
+      } else {
+        OCompactRidSet.this.remove(lastReturned);
+        if (clusterId >= 0) {
+          // THE CONTAINER OF THE NEXT POSITION MAY HAVE MOVED OR CHANGED
+          slot = clusters[clusterId].slotOf(nextPosition >>> LOW_BITS);
+        }
+      }
+      expectedModCount = modCount;
+      lastReturned = null;
+    }
+
+    private void seekCluster(int from) {
+      for (int i = from; i < clusters.length; i++) {
+        if (clusters[i] != null) {
+          clusterId = i;
+          slot = clusters[i].nextSlot(0);
+          nextPosition = clusters[i].first(slot);
+          return;
+        }
+      }
+      clusterId = -1;
+    }
+  }
+
+  /**
+   * Positions of a cluster. The containers of the first 2^28 positions are indexed by their high
+   * bits, the others are sorted by their high bits. A slot identifies a container in both cases.
+   */
+  private final class ClusterSet {
+    private Container[] direct = new Container[4];
+    private long[] highs = new long[0];
+    private Container[] sorted = new Container[0];
+    private int sortedCount = 0;
+    private int count = 0;
+
+    private Container get(long high) {
+      if (high < DIRECT_HIGHS) {
+        return high < direct.length ? direct[(int) high] : null;
+      }
+      int index = Arrays.binarySearch(highs, 0, sortedCount, high);
+      return index >= 0 ? sorted[index] : null;
+    }
+
+    /** @return the slot of the container of the given high bits, -1 if there is none */
+    private int slotOf(long high) {
+      if (high < DIRECT_HIGHS) {
+        return high < direct.length && direct[(int) high] != null ? (int) high : -1;
+      }
+      int index = Arrays.binarySearch(highs, 0, sortedCount, high);
+      return index >= 0 ? DIRECT_HIGHS + index : -1;
+    }
+
+    /** @return the first slot, starting from the given one, that has a container, -1 if none */
+    private int nextSlot(int from) {
+      for (int i = from; i < direct.length; i++) {
+        if (direct[i] != null) {
+          return i;
+        }
+      }
+      int index = Math.max(from, DIRECT_HIGHS) - DIRECT_HIGHS;
+      return index < sortedCount ? DIRECT_HIGHS + index : -1;
+    }
+
+    private Container container(int slot) {
+      return slot < DIRECT_HIGHS ? direct[slot] : sorted[slot - DIRECT_HIGHS];
+    }
+
+    private void setContainer(int slot, Container container) {
+      if (slot < DIRECT_HIGHS) {
+        direct[slot] = container;
+      } else {
+        sorted[slot - DIRECT_HIGHS] = container;
+      }
+    }
+
+    private long first(int slot) {
+      long high = slot < DIRECT_HIGHS ? slot : highs[slot - DIRECT_HIGHS];
+      return (high << LOW_BITS) | container(slot).next(0);
+    }
+
+    private boolean contains(long position) {
+      Container container = get(position >>> LOW_BITS);
+      return container != null && container.contains((char) (position & LOW_MASK));
+    }
+
+    private boolean add(long position) {
+      long high = position >>> LOW_BITS;
+      char low = (char) (position & LOW_MASK);
+      int slot;
+      if (high < DIRECT_HIGHS) {
+        slot = (int) high;
+        if (slot >= direct.length) {
+          direct =
+              Arrays.copyOf(direct, Math.min(Math.max(slot + 1, direct.length * 2), DIRECT_HIGHS));
+        }
+        if (direct[slot] == null) {
+          direct[slot] = new ArrayContainer(4);
+          count++;
+        }
+      } else {
+        int index = Arrays.binarySearch(highs, 0, sortedCount, high);
+        if (index < 0) {
+          index = -index - 1;
+          insert(index, high, new ArrayContainer(4));
+          count++;
+        }
+        slot = DIRECT_HIGHS + index;
+      }
+      Container container = container(slot);
+      if (container instanceof ArrayContainer
+          && container.cardinality() == ARRAY_MAX_SIZE
+          && !container.contains(low)) {
+        container = ((ArrayContainer) container).toBitmap();
+        setContainer(slot, container);
+      }
+      return container.add(low);
+    }
+
+    private boolean remove(long position) {
+      int slot = slotOf(position >>> LOW_BITS);
+      if (slot < 0) {
+        return false;
+      }
+      Container container = container(slot);
+      if (!container.remove((char) (position & LOW_MASK))) {
+        return false;
+      }
+      if (container.cardinality() == 0) {
+        container.free();
+        if (slot < DIRECT_HIGHS) {
+          direct[slot] = null;
+        } else {
+          delete(slot - DIRECT_HIGHS);
+        }
+        count--;
+      } else if (container instanceof BitmapContainer
+          && container.cardinality() <= ARRAY_MAX_SIZE / 2) {
+        // HALF OF THE ARRAY LIMIT, SO THAT ALTERNATE ADDS AND REMOVES DO NOT CONVERT EVERY TIME
+        setContainer(slot, ((BitmapContainer) container).toArray());
+        container.free();
+      }
+      return true;
+    }
+
+    private void insert(int index, long high, Container container) {
+      if (sortedCount == highs.length) {
+        highs = Arrays.copyOf(highs, Math.max(4, sortedCount * 2));
+        sorted = Arrays.copyOf(sorted, highs.length);
+      }
+      System.arraycopy(highs, index, highs, index + 1, sortedCount - index);
+      System.arraycopy(sorted, index, sorted, index + 1, sortedCount - index);
+      highs[index] = high;
+      sorted[index] = container;
+      sortedCount++;
+    }
+
+    private void delete(int index) {
+      System.arraycopy(highs, index + 1, highs, index, sortedCount - index - 1);
+      System.arraycopy(sorted, index + 1, sorted, index, sortedCount - index - 1);
+      sortedCount--;
+      sorted[sortedCount] = null;
+    }
+
+    private void free() {
+      for (Container container : direct) {
+        if (container != null) {
+          container.free();
+        }
+      }
+      for (int i = 0; i < sortedCount; i++) {
+        sorted[i].free();
+      }
+    }
+  }
+
+  /** Low 16 bits of the positions that share the same high bits. */
+  private abstract static class Container {
+    abstract boolean contains(char low);
+
+    abstract boolean add(char low);
+
+    abstract boolean remove(char low);
+
+    abstract int cardinality();
+
+    /** @return the lowest value that is greater or equal to <code>from</code>, -1 if none */
+    abstract int next(int from);
+
+    abstract void free();
+  }
+
+  private final class ArrayContainer extends Container {
+    private char[] values;
+    private int size = 0;
+
+    private ArrayContainer(int capacity) {
+      values = new char[capacity];
+    }
+
+    @Override
+    boolean contains(char low) {
+      return Arrays.binarySearch(values, 0, size, low) >= 0;
+    }
+
+    @Override
+    boolean add(char low) {
+      int index = Arrays.binarySearch(values, 0, size, low);
+      if (index >= 0) {
+        return false;
+      }
+      index = -index - 1;
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_MAX_SIZE));
+      }
+      System.arraycopy(values, index, values, index + 1, size - index);
+      values[index] = low;
+      size++;
+      return true;
+    }
+
+    @Override
+    boolean remove(char low) {
+      int index = Arrays.binarySearch(values, 0, size, low);
+      if (index < 0) {
+        return false;
+      }
+      System.arraycopy(values, index + 1, values, index, size - index - 1);
+      size--;
+      return true;
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    int next(int from) {
+      if (from > LOW_MASK) {
+        return -1;
+      }
+      int index = Arrays.binarySearch(values, 0, size, (char) from);
+      if (index < 0) {
+        index = -index - 1;
+      }
+      return index < size ? values[index] : -1;
+    }
+
+    @Override
+    void free() {}
+
+    private BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < size; i++) {
+        bitmap.add(values[i]);
+      }
+      return bitmap;
+    }
+  }
+
+  private final class BitmapContainer extends Container {
+    private final long[] words;
+    private final OPointer pointer;
+    private final ByteBuffer buffer;
+    private int cardinality = 0;
+
+    private BitmapContainer() {
+      if (offHeap) {
+        words = null;
+        pointer = ODirectMemoryAllocator.instance().allocate(BITMAP_WORDS * Long.BYTES, -1, true);
+        buffer = pointer.getNativeByteBuffer();
+      } else {
+        words = new long[BITMAP_WORDS];
+        pointer = null;
+        buffer = null;
+      }
+    }
+
+    private long word(int index) {
+      return words != null ? words[index] : buffer.getLong(index * Long.BYTES);
+    }
+
+    private void setWord(int index, long word) {
+      if (words != null) {
+        words[index] = word;
+      } else {
+        buffer.putLong(index * Long.BYTES, word);
+      }
+    }
+
+    @Override
+    boolean contains(char low) {
+      return (word(low >>> 6) & (1L << low)) != 0;
+    }
+
+    @Override
+    boolean add(char low) {
+      int index = low >>> 6;
+      long word = word(index);
+      long bit = 1L << low;
+      if ((word & bit) != 0) {
+        return false;
+      }
+      setWord(index, word | bit);
+      cardinality++;
+      return true;
+    }
+
+    @Override
+    boolean remove(char low) {
+      int index = low >>> 6;
+      long word = word(index);
+      long bit = 1L << low;
+      if ((word & bit) == 0) {
+        return false;
+      }
+      setWord(index, word & ~bit);
+      cardinality--;
+      return true;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    int next(int from) {
+      if (from > LOW_MASK) {
+        return -1;
+      }
+      int index = from >>> 6;
+      long word = word(index) & (-1L << from);
+      while (word == 0) {
+        if (++index == BITMAP_WORDS) {
+          return -1;
+        }
+        word = word(index);
+      }
+      return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    void free() {
+      if (pointer != null) {
+        ODirectMemoryAllocator.instance().deallocate(pointer);
+      }
+    }
+
+    private ArrayContainer toArray() {
+      ArrayContainer array = new ArrayContainer(cardinality);
+      for (int low = next(0); low >= 0; low = next(low + 1)) {
+        array.add((char) low);
+      }
+      return array;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Average number of edges of the vertices of a class, per edge class and direction. It is used by
+ * the MATCH planner to estimate the number of intermediate results of a traversal.
+ *
+ * <p>Fan-outs are sampled from the sizes of the edge bags of the first vertices of the class and
+ * persisted in background as storage properties, so they are not sampled again after a restart. A
+ * fan-out is sampled again when the number of vertices of the class has changed by more than a
+ * fifth since it was sampled.
+ *
+ * @see OGlobalConfiguration#QUERY_MATCH_FAN_OUT_SAMPLE_SIZE
+ */
+public class OEdgeFanOutStatistics {
+  private static final String PROPERTY_PREFIX = "match.fanOut.";
+
+  private final Map<String, FanOut> fanOuts = new ConcurrentHashMap<>();
+
+  public static OEdgeFanOutStatistics get(ODatabaseDocumentInternal db) {
+    return OQueryStats.get(db).getEdgeFanOutStatistics();
+  }
+
+  /**
+   * @param vertexClass class of the vertices the edges start from, <code>null</code> means all the
+   *     vertices
+   * @param edgeClass class of the edges, subclasses included, <code>null</code> means all the edges
+   * @return average number of edges per vertex, or -1 if it cannot be estimated
+   */
+  public double getFanOut(
+      ODatabaseDocumentInternal db, String vertexClass, String edgeClass, ODirection direction) {
+    if (direction == ODirection.BOTH) {
+      double out = getFanOut(db, vertexClass, edgeClass, ODirection.OUT);
+      double in = getFanOut(db, vertexClass, edgeClass, ODirection.IN);
+      return out < 0 || in < 0 ? -1 : out + in;
+    }
+
+    int sampleSize =
+        db.getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_MATCH_FAN_OUT_SAMPLE_SIZE);
+    if (sampleSize <= 0) {
+      return -1;
+    }
+
+    OSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    OClass vClass = schema.getClass(vertexClass == null ? "V" : vertexClass);
+    if (vClass == null) {
+      return -1;
+    }
+    OClass eClass = null;
+    if (edgeClass != null) {
+      eClass = schema.getClass(edgeClass);
+      if (eClass == null) {
+        return 0;
+      }
+    }
+
+    String key =
+        PROPERTY_PREFIX
+            + direction.name().toLowerCase(Locale.ENGLISH)
+            + "."
+            + vClass.getName()
+            + "."
+            + (eClass == null ? "" : eClass.getName());
+    long vertices = vClass.count(true);
+
+    FanOut fanOut = fanOuts.get(key);
+    if (fanOut == null) {
+      fanOut = FanOut.parse(db.getStorage().getConfiguration().getProperty(key));
+    }
+    if (fanOut == null || fanOut.isStale(vertices)) {
+      fanOut = sample(db, vClass, eClass, direction, sampleSize, vertices);
+      persist(db, key, fanOut);
+    }
+    fanOuts.put(key, fanOut);
+    return fanOut.value;
+  }
+
+  /** Persists the fan-out in background, so the query that sampled it is not slowed down. */
+  private void persist(ODatabaseDocumentInternal db, String key, FanOut fanOut) {
+    final String value = fanOut.toString();
+    try {
+      db.getSharedContext()
+          .getOrientDB()
+          .executeNoAuthorization(
+              db.getName(),
+              session -> {
+                try {
+                  ((ODatabaseDocumentInternal) session).getStorage().setProperty(key, value);
+                } catch (RuntimeException e) {
+                  OLogManager.instance()
+                      .debug(this, "Cannot persist the fan-out estimation %s", e, key);
+                }
+                return null;
+              });
+    } catch (RejectedExecutionException e) {
+      OLogManager.instance().debug(this, "Cannot persist the fan-out estimation %s", e, key);
+    }
+  }
+
+  private static FanOut sample(
+      ODatabaseDocumentInternal db,
+      OClass vClass,
+      OClass eClass,
+      ODirection direction,
+      int sampleSize,
+      long vertices) {
+    String prefix = direction == ODirection.OUT ? "out_" : "in_";
+    Set<String> fields = null;
+    if (eClass != null) {
+      fields = new HashSet<>();
+      fields.add((prefix + eClass.getName()).toLowerCase(Locale.ENGLISH));
+      for (OClass subclass : eClass.getAllSubclasses()) {
+        fields.add((prefix + subclass.getName()).toLowerCase(Locale.ENGLISH));
+      }
+    }
+
+    long sampled = 0;
+    long edges = 0;
+    for (ODocument vertex : db.browseClass(vClass.getName(), true)) {
+      if (sampled >= sampleSize) {
+        break;
+      }
+      sampled++;
+      for (String field : vertex.fieldNames()) {
+        if (fields == null
+            ? field.startsWith(prefix)
+            : fields.contains(field.toLowerCase(Locale.ENGLISH))) {
+          edges += size(vertex.rawField(field));
+        }
+      }
+    }
+    return new FanOut(sampled == 0 ? 0 : (double) edges / sampled, vertices);
+  }
+
+  private static long size(Object edges) {
+    if (edges instanceof ORidBag) {
+      return ((ORidBag) edges).size();
+    }
+    if (edges instanceof Collection) {
+      return ((Collection<?>) edges).size();
+    }
+    return edges instanceof OIdentifiable ? 1 : 0;
+  }
+
+  private static final class FanOut {
+    private final double value;
+    private final long vertices;
+
+    private FanOut(double value, long vertices) {
+      this.value = value;
+      this.vertices = vertices;
+    }
+
+    private boolean isStale(long currentVertices) {
+      return Math.abs(currentVertices - vertices) > vertices / 5;
+    }
+
+    private static FanOut parse(String property) {
+      if (property == null) {
+        return null;
+      }
+      int separator = property.indexOf(';');
+      if (separator < 0) {
+        return null;
+      }
+      try {
+        return new FanOut(
+            Double.parseDouble(property.substring(0, separator)),
+            Long.parseLong(property.substring(separator + 1)));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return value + ";" + vertices;
+    }
+  }
+}
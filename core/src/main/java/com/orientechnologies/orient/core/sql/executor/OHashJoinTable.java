@@ -0,0 +1,272 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorEquals;
+import com.orientechnologies.orient.core.tx.OTransactionSpillFile;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash table built on one side of a hash join and probed with the join keys of the rows of the
+ * other side.
+ *
+ * <p>Keys are compared with the semantics of the SQL <code>=</code> operator: the hash only selects
+ * the candidate rows, which are then checked with {@link OQueryOperatorEquals}. Key values of kinds
+ * that cannot be hashed consistently with that operator (collections, projections, values compared
+ * with values of another kind) are matched by a scan. The rows matching a key are always returned
+ * in the order they were added.
+ *
+ * <p>Once the table holds the configured maximum amount of rows, the following ones are written to
+ * a temporary file and only their keys are kept in memory.
+ */
+public class OHashJoinTable implements Closeable {
+  private static final byte SPILLED_ELEMENT = 0;
+  private static final byte SPILLED_RESULT = 1;
+
+  private final long maxInMemory;
+
+  private final List<List<Object>> keys = new ArrayList<>();
+  private final List<Object> rows = new ArrayList<>();
+  private final Map<List<Object>, List<Integer>> buckets = new HashMap<>();
+  private final List<Integer> unhashable = new ArrayList<>();
+  private final List<Set<Class<?>>> kinds = new ArrayList<>();
+
+  private OTransactionSpillFile spillFile;
+  private long spilledRows;
+
+  /** @param maxInMemory maximum amount of rows kept in memory, negative means no limit */
+  public OHashJoinTable(final long maxInMemory) {
+    this.maxInMemory = maxInMemory;
+  }
+
+  /**
+   * Adds a row of the build side. Rows with a <code>null</code> key value are ignored, they never
+   * match.
+   */
+  public void add(final List<Object> key, final OResult row) {
+    if (key.contains(null)) {
+      return;
+    }
+    final int index = keys.size();
+    keys.add(key);
+    rows.add(maxInMemory >= 0 && index >= maxInMemory ? spill(row) : row);
+
+    final List<Object> hashKey = toHashKey(key);
+    if (hashKey == null) {
+      unhashable.add(index);
+    } else {
+      buckets.computeIfAbsent(hashKey, k -> new ArrayList<>(1)).add(index);
+    }
+
+    for (int i = 0; i < key.size(); i++) {
+      if (kinds.size() <= i) {
+        kinds.add(new HashSet<>());
+      }
+      kinds.get(i).add(kindOf(key.get(i)));
+    }
+  }
+
+  /** @return the rows of the build side whose key is equal to the given one */
+  public List<OResult> get(final List<Object> key) {
+    if (keys.isEmpty() || key.contains(null)) {
+      return Collections.emptyList();
+    }
+
+    final List<Object> hashKey = toHashKey(key);
+    List<Integer> candidates;
+    if (hashKey == null || !sameKinds(key)) {
+      candidates = null;
+    } else if (unhashable.isEmpty()) {
+      candidates = buckets.getOrDefault(hashKey, Collections.emptyList());
+    } else {
+      candidates = new ArrayList<>(unhashable);
+      candidates.addAll(buckets.getOrDefault(hashKey, Collections.emptyList()));
+      Collections.sort(candidates);
+    }
+
+    final List<OResult> result = new ArrayList<>();
+    if (candidates == null) {
+      for (int i = 0; i < keys.size(); i++) {
+        if (matches(keys.get(i), key)) {
+          result.add(getRow(i));
+        }
+      }
+    } else {
+      for (int i : candidates) {
+        if (matches(keys.get(i), key)) {
+          result.add(getRow(i));
+        }
+      }
+    }
+    return result;
+  }
+
+  /** @return amount of rows of the build side */
+  public int size() {
+    return keys.size();
+  }
+
+  /** @return amount of rows of the build side written to the temporary file */
+  public long getSpilledRows() {
+    return spilledRows;
+  }
+
+  @Override
+  public void close() {
+    if (spillFile != null) {
+      try {
+        spillFile.close();
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Error on closing the hash join temporary file"), e);
+      }
+      spillFile = null;
+    }
+  }
+
+  private boolean sameKinds(final List<Object> key) {
+    for (int i = 0; i < key.size(); i++) {
+      final Set<Class<?>> buildKinds = kinds.get(i);
+      if (buildKinds.size() > 1 || !buildKinds.contains(kindOf(key.get(i)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matches(final List<Object> buildKey, final List<Object> probeKey) {
+    for (int i = 0; i < buildKey.size(); i++) {
+      if (!OQueryOperatorEquals.equals(buildKey.get(i), probeKey.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Values equal for the <code>=</code> operator have the same hash key if they are of the same
+   * kind. Numbers are all hashed as doubles, the check of the candidates compares them exactly.
+   */
+  private static List<Object> toHashKey(final List<Object> key) {
+    final List<Object> result = new ArrayList<>(key.size());
+    for (Object value : key) {
+      if (value instanceof OResult && ((OResult) value).isElement()) {
+        value = ((OResult) value).getIdentity().orElse(null);
+      }
+      if (value instanceof OIdentifiable) {
+        result.add(((OIdentifiable) value).getIdentity());
+      } else if (value instanceof Number) {
+        final double number = ((Number) value).doubleValue();
+        result.add(number == 0.0 ? 0.0 : number);
+      } else if (value == null
+          || value instanceof OResult
+          || value instanceof Iterable
+          || value instanceof Map
+          || value.getClass().isArray()) {
+        return null;
+      } else {
+        result.add(value);
+      }
+    }
+    return result;
+  }
+
+  private static Class<?> kindOf(final Object value) {
+    if (value instanceof OIdentifiable
+        || (value instanceof OResult && ((OResult) value).isElement())) {
+      return ORID.class;
+    }
+    if (value instanceof Number) {
+      return Number.class;
+    }
+    return value.getClass();
+  }
+
+  private Object spill(final OResult row) {
+    final BytesContainer bytes = new BytesContainer();
+    bytes.bytes[bytes.alloc(1)] = row.isElement() ? SPILLED_ELEMENT : SPILLED_RESULT;
+    if (row.isElement()) {
+      final byte[] rid = row.getIdentity().get().toStream();
+      System.arraycopy(rid, 0, bytes.bytes, bytes.alloc(rid.length), rid.length);
+    } else {
+      new OResultSerializerNetwork().serialize(row, bytes);
+    }
+    final byte[] content = bytes.fitBytes();
+
+    try {
+      if (spillFile == null) {
+        spillFile = new OTransactionSpillFile();
+      }
+      final long position = spillFile.write(content);
+      spilledRows++;
+      return new OSpilledRow(position, content.length);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Error on writing the hash join temporary file"), e);
+    }
+  }
+
+  private OResult getRow(final int index) {
+    final Object row = rows.get(index);
+    if (row instanceof OResult) {
+      return (OResult) row;
+    }
+
+    final OSpilledRow spilled = (OSpilledRow) row;
+    final byte[] content;
+    try {
+      content = spillFile.read(spilled.position, spilled.length);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Error on reading the hash join temporary file"), e);
+    }
+    if (content[0] == SPILLED_ELEMENT) {
+      final byte[] rid = new byte[content.length - 1];
+      System.arraycopy(content, 1, rid, 0, rid.length);
+      return new OResultInternal(new ORecordId().fromStream(rid));
+    }
+    return new OResultSerializerNetwork().deserialize(new BytesContainer(content, 1));
+  }
+
+  private static final class OSpilledRow {
+    private final long position;
+    private final int length;
+
+    private OSpilledRow(final long position, final int length) {
+      this.position = position;
+      this.length = length;
+    }
+  }
+}
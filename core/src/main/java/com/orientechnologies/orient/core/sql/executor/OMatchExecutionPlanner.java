@@ -3,13 +3,21 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
 import com.orientechnologies.orient.core.sql.parser.OCluster;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OFieldMatchPathItem;
 import com.orientechnologies.orient.core.sql.parser.OFromClause;
 import com.orientechnologies.orient.core.sql.parser.OFromItem;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
@@ -32,11 +40,15 @@ import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import com.orientechnologies.orient.core.sql.parser.Pattern;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -65,12 +77,17 @@ public class OMatchExecutionPlanner {
   // post-parsing
   private Pattern pattern;
   private List<Pattern> subPatterns;
+  private List<HashJoin> hashJoins;
   private Map<String, OWhereClause> aliasFilters;
   private Map<String, String> aliasClasses;
   private Map<String, String> aliasClusters;
   private Map<String, ORid> aliasRids;
   private boolean foundOptional = false;
   private long threshold = 100;
+  private OCommandContext context;
+  private Map<String, Long> rootEstimates = Collections.emptyMap();
+  private final Map<PatternEdge, Double> outFanOuts = new IdentityHashMap<>();
+  private final Map<PatternEdge, Double> inFanOuts = new IdentityHashMap<>();
 
   public OMatchExecutionPlanner(OMatchStatement stm) {
     this.matchExpressions =
@@ -102,13 +119,16 @@ public class OMatchExecutionPlanner {
 
   public OInternalExecutionPlan createExecutionPlan(
       OCommandContext context, boolean enableProfiling) {
+    this.context = context;
 
     buildPatterns(context);
     splitDisjointPatterns(context);
+    splitHashJoins();
 
     OSelectExecutionPlan result = new OSelectExecutionPlan(context);
     Map<String, Long> estimatedRootEntries =
         estimateRootEntries(aliasClasses, aliasClusters, aliasRids, aliasFilters, context);
+    this.rootEstimates = estimatedRootEntries;
     Set<String> aliasesToPrefetch =
         estimatedRootEntries.entrySet().stream()
             .filter(x -> x.getValue() < this.threshold)
@@ -135,12 +155,28 @@ public class OMatchExecutionPlanner {
     } else {
       OInternalExecutionPlan plan =
           createPlanForPattern(
-              pattern, context, estimatedRootEntries, aliasesToPrefetch, enableProfiling);
+              hashJoins.isEmpty() ? pattern : subPatterns.get(0),
+              context,
+              estimatedRootEntries,
+              aliasesToPrefetch,
+              enableProfiling);
       for (OExecutionStep step : plan.getSteps()) {
         result.chain((OExecutionStepInternal) step);
       }
     }
 
+    for (HashJoin join : hashJoins) {
+      result.chain(
+          new HashJoinStep(
+              createPlanForPattern(
+                  join.pattern, context, estimatedRootEntries, aliasesToPrefetch, enableProfiling),
+              join.buildAliases,
+              join.buildKeys,
+              join.probeKeys,
+              context,
+              enableProfiling));
+    }
+
     manageNotPatterns(result, pattern, notMatchExpressions, context, enableProfiling);
 
     if (foundOptional) {
@@ -306,7 +342,7 @@ public class OMatchExecutionPlanner {
           edge.setLeftClass(aliasClasses.get(edge.edge.out.alias));
           edge.setLeftFilter(aliasFilters.get(edge.edge.out.alias));
         }
-        addStepsFor(plan, edge, context, first, profilingEnabled);
+        addStepsFor(plan, edge, context, first, estimatedRootEntries, profilingEnabled);
         first = false;
       }
     } else {
@@ -332,34 +368,69 @@ public class OMatchExecutionPlanner {
     return plan;
   }
 
-  /** sort edges in the order they will be matched */
+  /**
+   * sort edges in the order they will be matched.
+   *
+   * <p>When fan-outs of edges can be estimated (see {@link OEdgeFanOutStatistics}) a schedule is
+   * built starting from each root of the pattern, and the one with the lowest estimated number of
+   * traversed edges and loaded roots is chosen. Starting from the other side of a pattern reverses
+   * its edges, that are then matched by {@link MatchReverseEdgeTraverser}.
+   */
   private List<EdgeTraversal> getTopologicalSortedSchedule(
       Map<String, Long> estimatedRootEntries, Pattern pattern) {
-    List<EdgeTraversal> resultingSchedule = new ArrayList<>();
-    Map<String, Set<String>> remainingDependencies = getDependencies(pattern);
-    Set<PatternNode> visitedNodes = new HashSet<>();
-    Set<PatternEdge> visitedEdges = new HashSet<>();
-
     // Sort the possible root vertices in order of estimated size, since we want to start with a
     // small vertex set.
     List<OPair<Long, String>> rootWeights = new ArrayList<>();
     for (Map.Entry<String, Long> root : estimatedRootEntries.entrySet()) {
-      rootWeights.add(new OPair<>(root.getValue(), root.getKey()));
+      if (pattern.aliasToNode.containsKey(root.getKey())) {
+        rootWeights.add(new OPair<>(root.getValue(), root.getKey()));
+      }
     }
     Collections.sort(rootWeights);
 
     // Add the starting vertices, in the correct order, to an ordered set.
-    Set<String> remainingStarts = new LinkedHashSet<String>();
+    Set<String> starts = new LinkedHashSet<String>();
     for (OPair<Long, String> item : rootWeights) {
-      remainingStarts.add(item.getValue());
+      starts.add(item.getValue());
     }
     // Add all the remaining aliases after all the suggested start points.
     for (String alias : pattern.aliasToNode.keySet()) {
-      if (!remainingStarts.contains(alias)) {
-        remainingStarts.add(alias);
+      if (!starts.contains(alias)) {
+        starts.add(alias);
+      }
+    }
+
+    if (!isCostBased() || rootWeights.size() < 2) {
+      List<EdgeTraversal> schedule = getTopologicalSortedSchedule(starts, pattern);
+      if (isCostBased()) {
+        estimateCost(schedule, estimatedRootEntries);
       }
+      return schedule;
     }
 
+    List<EdgeTraversal> bestSchedule = null;
+    double bestCost = 0;
+    for (OPair<Long, String> root : rootWeights) {
+      Set<String> rootFirst = new LinkedHashSet<>();
+      rootFirst.add(root.getValue());
+      rootFirst.addAll(starts);
+      List<EdgeTraversal> schedule = getTopologicalSortedSchedule(rootFirst, pattern);
+      double cost = estimateCost(schedule, estimatedRootEntries);
+      if (bestSchedule == null || cost < bestCost) {
+        bestSchedule = schedule;
+        bestCost = cost;
+      }
+    }
+    return bestSchedule;
+  }
+
+  private List<EdgeTraversal> getTopologicalSortedSchedule(Set<String> starts, Pattern pattern) {
+    List<EdgeTraversal> resultingSchedule = new ArrayList<>();
+    Map<String, Set<String>> remainingDependencies = getDependencies(pattern);
+    Set<PatternNode> visitedNodes = new HashSet<>();
+    Set<PatternEdge> visitedEdges = new HashSet<>();
+    Set<String> remainingStarts = new LinkedHashSet<>(starts);
+
     while (resultingSchedule.size() < pattern.numOfEdges) {
       // Start a new depth-first pass, adding all nodes with satisfied dependencies.
       // 1. Find a starting vertex for the depth-first pass.
@@ -465,6 +536,17 @@ public class OMatchExecutionPlanner {
         edges.put(inEdge, false);
       }
     }
+    if (isCostBased()) {
+      // TRAVERSE FIRST THE EDGES WHICH LEAD TO THE FEWEST RESULTS, THE OTHER ONES ARE EXPANDED LESS
+      List<Map.Entry<PatternEdge, Boolean>> sorted = new ArrayList<>(edges.entrySet());
+      sorted.sort(
+          Comparator.comparingDouble(
+              x -> estimateExpansion(x.getKey(), x.getValue(), startNode.alias)));
+      edges = new LinkedHashMap<>();
+      for (Map.Entry<PatternEdge, Boolean> entry : sorted) {
+        edges.put(entry.getKey(), entry.getValue());
+      }
+    }
 
     for (Map.Entry<PatternEdge, Boolean> edgeData : edges.entrySet()) {
       PatternEdge edge = edgeData.getKey();
@@ -558,6 +640,170 @@ public class OMatchExecutionPlanner {
     return true;
   }
 
+  private boolean isCostBased() {
+    return context
+            .getDatabase()
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_MATCH_FAN_OUT_SAMPLE_SIZE)
+        > 0;
+  }
+
+  /**
+   * Estimates the number of loaded roots and traversed edges of a schedule, and stores in the
+   * traversals the estimated number of results after each of them.
+   */
+  private double estimateCost(
+      List<EdgeTraversal> schedule, Map<String, Long> estimatedRootEntries) {
+    Set<String> matched = new HashSet<>();
+    double rows = 1;
+    double cost = 0;
+    for (EdgeTraversal traversal : schedule) {
+      PatternNode from = traversal.out ? traversal.edge.out : traversal.edge.in;
+      PatternNode to = traversal.out ? traversal.edge.in : traversal.edge.out;
+      if (matched.add(from.alias)) {
+        // START OF A DEPTH-FIRST PASS, EVERY PARTIAL MATCH IS COMBINED WITH THE NEW ROOTS
+        Long roots = estimatedRootEntries.get(from.alias);
+        rows *= roots == null ? Long.MAX_VALUE : roots;
+        cost += rows;
+      }
+
+      double fanOut = estimateFanOut(traversal.edge, traversal.out, from.alias);
+      double traversed = rows * (fanOut < 0 ? 1 : fanOut);
+      cost += traversed;
+      if (matched.add(to.alias)) {
+        rows = traversed * estimateSelectivity(to.alias, estimatedRootEntries);
+      } else {
+        // THE TRAVERSAL ONLY CHECKS THAT THE ALIAS MATCHED BEFORE IS REACHED
+        rows = Math.min(rows, traversed);
+      }
+      // ALIASES WITHOUT A CLASS CANNOT BE ESTIMATED
+      traversal.setEstimatedRows(rows < Long.MAX_VALUE ? Math.round(rows) : -1);
+    }
+    return cost;
+  }
+
+  /** @return estimated number of results per starting vertex of a traversal */
+  private double estimateExpansion(PatternEdge edge, boolean outbound, String fromAlias) {
+    double fanOut = estimateFanOut(edge, outbound, fromAlias);
+    if (fanOut < 0) {
+      return Double.MAX_VALUE;
+    }
+    String toAlias = outbound ? edge.in.alias : edge.out.alias;
+    return fanOut * estimateSelectivity(toAlias, rootEstimates);
+  }
+
+  /**
+   * @return fraction of the vertices of the class of the alias which satisfy its filter, 1 if
+   *     unknown
+   */
+  private double estimateSelectivity(String alias, Map<String, Long> estimatedRootEntries) {
+    Long estimate = estimatedRootEntries.get(alias);
+    String className = aliasClasses.get(alias);
+    if (estimate == null || className == null) {
+      return 1;
+    }
+    OClass clazz = context.getDatabase().getMetadata().getSchema().getClass(className);
+    long count = clazz == null ? 0 : clazz.count();
+    return count == 0 ? 1 : Math.min(1, (double) estimate / count);
+  }
+
+  /**
+   * @return average number of vertices or edges reached by a traversal from a single element, -1 if
+   *     unknown
+   */
+  private double estimateFanOut(PatternEdge edge, boolean outbound, String fromAlias) {
+    Map<PatternEdge, Double> fanOuts = outbound ? outFanOuts : inFanOuts;
+    Double result = fanOuts.get(edge);
+    if (result == null) {
+      result = calculateFanOut(edge.item, outbound, aliasClasses.get(fromAlias));
+      fanOuts.put(edge, result);
+    }
+    return result;
+  }
+
+  private double calculateFanOut(OMatchPathItem item, boolean outbound, String fromClass) {
+    if (item instanceof OMultiMatchPathItem
+        || item instanceof OFieldMatchPathItem
+        || item.getMethod() == null) {
+      return -1;
+    }
+    OMatchFilter filter = item.getFilter();
+    if (filter != null && (filter.getWhileCondition() != null || filter.getMaxDepth() != null)) {
+      return -1;
+    }
+
+    String method = item.getMethod().getMethodNameString().toLowerCase(Locale.ENGLISH);
+    if (!outbound) {
+      // THE REVERSE OF A VERTEX TO EDGE TRAVERSAL LEADS TO A SINGLE VERTEX AND VICE VERSA
+      switch (method) {
+        case "oute":
+        case "ine":
+          return 1;
+        case "bothe":
+          return 2;
+        case "outv":
+          method = "oute";
+          break;
+        case "inv":
+          method = "ine";
+          break;
+        case "bothv":
+          method = "bothe";
+          break;
+      }
+    }
+
+    ODirection direction;
+    switch (method) {
+      case "out":
+      case "oute":
+        direction = outbound ? ODirection.OUT : ODirection.IN;
+        break;
+      case "in":
+      case "ine":
+        direction = outbound ? ODirection.IN : ODirection.OUT;
+        break;
+      case "both":
+      case "bothe":
+        direction = ODirection.BOTH;
+        break;
+      case "outv":
+      case "inv":
+        return 1;
+      case "bothv":
+        return 2;
+      default:
+        return -1;
+    }
+
+    List<String> edgeClasses = new ArrayList<>();
+    for (OExpression param : item.getMethod().getParams()) {
+      if (!param.isEarlyCalculated(context)) {
+        return -1;
+      }
+      Object edgeClass = param.execute((OResult) null, context);
+      if (!(edgeClass instanceof String)) {
+        return -1;
+      }
+      edgeClasses.add((String) edgeClass);
+    }
+    if (edgeClasses.isEmpty()) {
+      edgeClasses.add(null);
+    }
+
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) context.getDatabase();
+    OEdgeFanOutStatistics statistics = OEdgeFanOutStatistics.get(db);
+    double result = 0;
+    for (String edgeClass : edgeClasses) {
+      double fanOut = statistics.getFanOut(db, fromClass, edgeClass, direction);
+      if (fanOut < 0) {
+        return -1;
+      }
+      result += fanOut;
+    }
+    return result;
+  }
+
   /**
    * Calculate the set of dependency aliases for each alias in the pattern.
    *
@@ -592,11 +838,136 @@ public class OMatchExecutionPlanner {
     this.subPatterns = pattern.getDisjointPatterns();
   }
 
+  /**
+   * Finds the sub-patterns whose nodes are compared with nodes of the other sub-patterns only by
+   * equalities on <code>$matched</code> (eg. <code>{class: B, as: b, where: (fk = $matched.a.id)}
+   * </code>). They are removed from the sub-patterns combined by the cartesian product, and joined
+   * with a hash join once the nodes they refer to are matched. The equalities are removed from the
+   * filters of their nodes.
+   */
+  private void splitHashJoins() {
+    if (this.hashJoins != null) {
+      return;
+    }
+    this.hashJoins = new ArrayList<>();
+    if (subPatterns.size() < 2) {
+      return;
+    }
+
+    Map<Pattern, HashJoin> candidates = new LinkedHashMap<>();
+    Set<String> matchedAliases = new HashSet<>();
+    for (Pattern subPattern : subPatterns) {
+      HashJoin join = findHashJoin(subPattern);
+      if (join == null) {
+        matchedAliases.addAll(subPattern.aliasToNode.keySet());
+      } else {
+        candidates.put(subPattern, join);
+      }
+    }
+    if (matchedAliases.isEmpty()) {
+      return;
+    }
+
+    boolean found = true;
+    while (found) {
+      found = false;
+      Iterator<HashJoin> iterator = candidates.values().iterator();
+      while (iterator.hasNext()) {
+        HashJoin join = iterator.next();
+        if (matchedAliases.containsAll(join.probeAliases)) {
+          iterator.remove();
+          hashJoins.add(join);
+          matchedAliases.addAll(join.pattern.aliasToNode.keySet());
+          found = true;
+        }
+      }
+    }
+    if (hashJoins.isEmpty()) {
+      return;
+    }
+
+    // SUB-PATTERNS REFERRING TO EACH OTHER IN A CYCLE STAY IN THE CARTESIAN PRODUCT
+    List<Pattern> remaining = new ArrayList<>(subPatterns);
+    for (HashJoin join : hashJoins) {
+      remaining.remove(join.pattern);
+      for (Map.Entry<String, OWhereClause> filter : join.filters.entrySet()) {
+        if (filter.getValue() == null) {
+          aliasFilters.remove(filter.getKey());
+        } else {
+          aliasFilters.put(filter.getKey(), filter.getValue());
+        }
+      }
+    }
+    this.subPatterns = remaining;
+    rebindFilters(aliasFilters);
+  }
+
+  /** @return the join of the sub-pattern, or null if it cannot be matched with a hash join */
+  private HashJoin findHashJoin(Pattern subPattern) {
+    HashJoin join = new HashJoin(subPattern);
+    for (Map.Entry<String, PatternNode> node : subPattern.aliasToNode.entrySet()) {
+      OWhereClause filter = aliasFilters.get(node.getKey());
+      if (filter == null || filter.getBaseExpression() == null) {
+        continue;
+      }
+      List<String> involvedAliases = filter.getBaseExpression().getMatchPatternInvolvedAliases();
+      if (involvedAliases == null || subPattern.aliasToNode.keySet().containsAll(involvedAliases)) {
+        continue;
+      }
+      if (node.getValue().isOptionalNode()) {
+        return null;
+      }
+      List<OAndBlock> flattened = filter.flatten();
+      if (flattened.size() != 1) {
+        return null;
+      }
+
+      OAndBlock remaining = new OAndBlock(-1);
+      for (OBooleanExpression condition : flattened.get(0).getSubBlocks()) {
+        List<String> conditionAliases = condition.getMatchPatternInvolvedAliases();
+        if (conditionAliases == null
+            || subPattern.aliasToNode.keySet().containsAll(conditionAliases)) {
+          remaining.getSubBlocks().add(condition.copy());
+          continue;
+        }
+        if (!Collections.disjoint(subPattern.aliasToNode.keySet(), conditionAliases)
+            || !(condition instanceof OBinaryCondition)
+            || !(((OBinaryCondition) condition).getOperator() instanceof OEqualsCompareOperator)) {
+          return null;
+        }
+        OExpression left = ((OBinaryCondition) condition).getLeft();
+        OExpression right = ((OBinaryCondition) condition).getRight();
+        if (isMatchedReference(right) && !left.toString().contains("$")) {
+          join.add(node.getKey(), left.copy(), right.copy());
+        } else if (isMatchedReference(left) && !right.toString().contains("$")) {
+          join.add(node.getKey(), right.copy(), left.copy());
+        } else {
+          return null;
+        }
+        join.probeAliases.addAll(conditionAliases);
+      }
+
+      OWhereClause newFilter = null;
+      if (!remaining.getSubBlocks().isEmpty()) {
+        newFilter = new OWhereClause(-1);
+        newFilter.setBaseExpression(remaining);
+      }
+      join.filters.put(node.getKey(), newFilter);
+    }
+    return join.buildKeys.isEmpty() ? null : join;
+  }
+
+  private static boolean isMatchedReference(OExpression expression) {
+    return expression.getMathExpression() instanceof OBaseExpression
+        && expression.toString().toLowerCase(Locale.ENGLISH).startsWith("$matched.");
+  }
+
   private void addStepsFor(
       OSelectExecutionPlan plan,
       EdgeTraversal edge,
       OCommandContext context,
       boolean first,
+      Map<String, Long> estimatedRootEntries,
       boolean profilingEnabled) {
     if (first) {
       PatternNode patternNode = edge.out ? edge.edge.out : edge.edge.in;
@@ -617,12 +988,17 @@ public class OMatchExecutionPlanner {
       select.setWhereClause(where == null ? null : where.copy());
       OBasicCommandContext subContxt = new OBasicCommandContext();
       subContxt.setParentWithoutOverridingChild(context);
-      plan.chain(
+      MatchFirstStep step =
           new MatchFirstStep(
               context,
               patternNode,
               select.createExecutionPlan(subContxt, profilingEnabled),
-              profilingEnabled));
+              profilingEnabled);
+      Long estimatedRows = estimatedRootEntries.get(patternNode.alias);
+      if (estimatedRows != null) {
+        step.setEstimatedRows(estimatedRows);
+      }
+      plan.chain(step);
     }
     if (edge.edge.in.isOptionalNode()) {
       foundOptional = true;
@@ -913,4 +1289,24 @@ public class OMatchExecutionPlanner {
     }
     return result;
   }
+
+  /** Sub-pattern matched with a hash join, and the equalities it is joined on. */
+  private static class HashJoin {
+    private final Pattern pattern;
+    private final List<String> buildAliases = new ArrayList<>();
+    private final List<OExpression> buildKeys = new ArrayList<>();
+    private final List<OExpression> probeKeys = new ArrayList<>();
+    private final Set<String> probeAliases = new HashSet<>();
+    private final Map<String, OWhereClause> filters = new HashMap<>();
+
+    private HashJoin(Pattern pattern) {
+      this.pattern = pattern;
+    }
+
+    private void add(String alias, OExpression buildKey, OExpression probeKey) {
+      buildAliases.add(alias);
+      buildKeys.add(buildKey);
+      probeKeys.add(probeKey);
+    }
+  }
 }
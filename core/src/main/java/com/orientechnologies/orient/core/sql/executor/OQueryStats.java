@@ -15,10 +15,16 @@ public class OQueryStats {
 
   public Map<String, Long> stats = new ConcurrentHashMap<>();
 
+  private final OEdgeFanOutStatistics edgeFanOutStatistics = new OEdgeFanOutStatistics();
+
   public static OQueryStats get(ODatabaseDocumentInternal db) {
     return db.getSharedContext().getQueryStats();
   }
 
+  public OEdgeFanOutStatistics getEdgeFanOutStatistics() {
+    return edgeFanOutStatistics;
+  }
+
   public long getIndexStats(String indexName, int params, boolean range, boolean additionalRange) {
     String key =
         generateKey(
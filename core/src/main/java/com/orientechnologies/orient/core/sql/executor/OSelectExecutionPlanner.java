@@ -22,6 +22,8 @@ import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
+import com.orientechnologies.orient.core.metadata.security.OSecurityRole;
+import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
 import com.orientechnologies.orient.core.sql.parser.*;
 import java.util.ArrayList;
@@ -87,8 +89,9 @@ public class OSelectExecutionPlanner {
   public OInternalExecutionPlan createExecutionPlan(
       OCommandContext ctx, boolean enableProfiling, boolean useCache) {
     ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    String cacheKey = getPlanCacheKey(db);
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached()) {
-      OExecutionPlan plan = OExecutionPlanCache.get(statement.getOriginalStatement(), ctx, db);
+      OExecutionPlan plan = OExecutionPlanCache.get(cacheKey, ctx, db);
       if (plan != null) {
         return (OInternalExecutionPlan) plan;
       }
@@ -104,8 +107,15 @@ public class OSelectExecutionPlanner {
           "Cannot execute a statement with DISTINCT expand(), please use a subquery");
     }
 
+    pushDownReadPolicy(info, ctx);
+
     optimizeQuery(info, ctx);
 
+    if (info.perRecordLetClause != null && !info.perRecordLetClause.getItems().isEmpty()) {
+      // LET IS CALCULATED BEFORE THE WHERE CONDITION, ON RECORDS THE USER COULD NOT READ
+      info.readPolicyEnforcedFor = null;
+    }
+
     if (handleHardwiredOptimizations(result, ctx, enableProfiling)) {
       return result;
     }
@@ -141,12 +151,57 @@ public class OSelectExecutionPlanner {
         && statement.executinPlanCanBeCached()
         && result.canBeCached()
         && OExecutionPlanCache.getLastInvalidation(db) < planningStart) {
-      OExecutionPlanCache.put(
-          statement.getOriginalStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
+      OExecutionPlanCache.put(cacheKey, result, (ODatabaseDocumentInternal) ctx.getDatabase());
     }
     return result;
   }
 
+  /** Plans contain the READ policies of the roles of the user, so they are cached by role. */
+  private String getPlanCacheKey(ODatabaseDocumentInternal db) {
+    String statement = this.statement.getOriginalStatement();
+    OSecurityUser user = db.getUser();
+    if (statement == null || user == null || user.getRoles() == null) {
+      return statement;
+    }
+    return user.getRoles().stream()
+        .map(OSecurityRole::getName)
+        .sorted()
+        .collect(Collectors.joining(",", statement + " [", "]"));
+  }
+
+  /**
+   * Merges the READ policy of the target class in the WHERE condition, so that indexes can be used
+   * for it and the records fetched from the clusters of the class don't need to be checked one by
+   * one
+   */
+  private static void pushDownReadPolicy(QueryPlanningInfo info, OCommandContext ctx) {
+    if (info.target == null
+        || info.target.getItem().getIdentifier() == null
+        || info.target.getItem().getModifier() != null) {
+      return;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClass clazz =
+        getSchemaFromContext(ctx).getClass(info.target.getItem().getIdentifier().getStringValue());
+    if (clazz == null) {
+      return;
+    }
+    OBooleanExpression policy =
+        db.getSharedContext().getSecurity().getReadPredicateForQuery(db, clazz);
+    if (policy == null) {
+      return;
+    }
+
+    OAndBlock condition = new OAndBlock(-1);
+    condition.getSubBlocks().add(policy.copy());
+    if (info.whereClause != null) {
+      condition.getSubBlocks().add(info.whereClause.getBaseExpression());
+    }
+    info.whereClause = new OWhereClause(-1);
+    info.whereClause.setBaseExpression(condition);
+    info.readPolicyEnforcedFor = clazz.getName();
+  }
+
   private void handleLockRecord(
       OSelectExecutionPlan result,
       QueryPlanningInfo info,
@@ -662,6 +717,9 @@ public class OSelectExecutionPlanner {
     }
 
     for (OIndex classIndex : clazz.getClassIndexes()) {
+      if (classIndex.isRebuilding()) {
+        continue;
+      }
       List<String> fields = classIndex.getDefinition().getFields();
       if (fields.size() == 1
           && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
@@ -1731,7 +1789,8 @@ public class OSelectExecutionPlanner {
                 new LetExpressionStep(
                     item.getVarName(), item.getExpression(), ctx, profilingEnabled));
           } else {
-            plan.chain(new LetQueryStep(item.getVarName(), item.getQuery(), ctx, profilingEnabled));
+            plan.chain(
+                createLetQueryStep(item.getVarName(), item.getQuery(), ctx, profilingEnabled));
           }
         }
       } else {
@@ -1746,7 +1805,7 @@ public class OSelectExecutionPlanner {
                       profilingEnabled));
             } else {
               shardedPlan.chain(
-                  new LetQueryStep(
+                  createLetQueryStep(
                       item.getVarName().copy(), item.getQuery().copy(), ctx, profilingEnabled));
             }
           }
@@ -1755,6 +1814,124 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  private static AbstractExecutionStep createLetQueryStep(
+      OIdentifier varName, OStatement query, OCommandContext ctx, boolean profilingEnabled) {
+    LetHashJoinStep hashJoin = createLetHashJoin(varName, query, ctx, profilingEnabled);
+    if (hashJoin != null) {
+      return hashJoin;
+    }
+    return new LetQueryStep(varName, query, ctx, profilingEnabled);
+  }
+
+  /**
+   * Decorrelates a per record LET subquery that refers to the parent query only in equality
+   * conditions on its target class (eg. <code>fk = $parent.$current.id</code>), so that it is
+   * executed once to build a hash table instead of once per record. Subqueries whose correlated
+   * fields are indexed are left as they are: executing them is an index lookup per record.
+   *
+   * @return the LET step, or null if the subquery cannot be decorrelated
+   */
+  private static LetHashJoinStep createLetHashJoin(
+      OIdentifier varName, OStatement statement, OCommandContext ctx, boolean profilingEnabled) {
+    if (!(statement instanceof OSelectStatement)) {
+      return null;
+    }
+    OSelectStatement query = (OSelectStatement) statement;
+    if (query.getWhereClause() == null
+        || query.getLetClause() != null
+        || query.getGroupBy() != null
+        || query.getUnwind() != null
+        || query.getSkip() != null
+        || query.getLimit() != null
+        || query.getLockRecord() != null) {
+      return null;
+    }
+    OProjection projection = query.getProjection();
+    if (projection != null) {
+      if (projection.isDistinct() || projection.isExpand()) {
+        return null;
+      }
+      for (OProjectionItem item : projection.getItems()) {
+        if (item.isAggregate()) {
+          return null;
+        }
+      }
+    }
+    OFromItem target = query.getTarget() == null ? null : query.getTarget().getItem();
+    if (target == null || target.getIdentifier() == null || target.getModifier() != null) {
+      return null;
+    }
+    OClass clazz = getSchemaFromContext(ctx).getClass(target.getIdentifier().getStringValue());
+    if (clazz == null) {
+      return null;
+    }
+
+    List<OAndBlock> flattened = query.getWhereClause().flatten();
+    if (flattened.size() != 1) {
+      return null;
+    }
+    OAndBlock remaining = new OAndBlock(-1);
+    List<OExpression> buildKeys = new ArrayList<>();
+    List<OExpression> probeKeys = new ArrayList<>();
+    for (OBooleanExpression condition : flattened.get(0).getSubBlocks()) {
+      if (!condition.refersToParent()) {
+        remaining.getSubBlocks().add(condition.copy());
+        continue;
+      }
+      if (!(condition instanceof OBinaryCondition)
+          || !(((OBinaryCondition) condition).getOperator() instanceof OEqualsCompareOperator)) {
+        return null;
+      }
+      OExpression left = ((OBinaryCondition) condition).getLeft();
+      OExpression right = ((OBinaryCondition) condition).getRight();
+      OExpression inner;
+      if (isParentReference(right) && !left.toString().contains("$")) {
+        inner = left;
+        probeKeys.add(right.copy());
+      } else if (isParentReference(left) && !right.toString().contains("$")) {
+        inner = right;
+        probeKeys.add(left.copy());
+      } else {
+        return null;
+      }
+      if (inner.isBaseIdentifier() && !clazz.getInvolvedIndexes(inner.toString()).isEmpty()) {
+        return null;
+      }
+      buildKeys.add(inner.copy());
+    }
+
+    OSelectStatement buildQuery = query.copy();
+    if (remaining.getSubBlocks().isEmpty()) {
+      buildQuery.setWhereClause(null);
+    } else {
+      OWhereClause where = new OWhereClause(-1);
+      where.setBaseExpression(remaining);
+      buildQuery.setWhereClause(where);
+    }
+    if (buildQuery.refersToParent()) {
+      return null;
+    }
+    List<String> buildKeyAliases = null;
+    if (buildQuery.getProjection() != null) {
+      buildKeyAliases = new ArrayList<>();
+      for (int i = 0; i < buildKeys.size(); i++) {
+        String alias = "_$$$HASH_JOIN_KEY$$$_" + i;
+        buildKeyAliases.add(alias);
+        buildQuery
+            .getProjection()
+            .getItems()
+            .add(new OProjectionItem(buildKeys.get(i).copy(), new OIdentifier(alias), null));
+      }
+    }
+    return new LetHashJoinStep(
+        varName, query, buildQuery, buildKeys, buildKeyAliases, probeKeys, ctx, profilingEnabled);
+  }
+
+  private static boolean isParentReference(OExpression expression) {
+    return expression.getMathExpression() instanceof OBaseExpression
+        && expression.toString().toLowerCase(Locale.ENGLISH).startsWith("$parent.");
+  }
+
   private List<OLetItem> sortLet(List<OLetItem> items, OLetClause letClause) {
     if (letClause == null) {
       return items;
@@ -2159,6 +2336,7 @@ public class OSelectExecutionPlanner {
 
     for (OIndex idx :
         clazz.getIndexes().stream()
+            .filter(i -> !i.isRebuilding())
             .filter(i -> i.supportsOrderedIterations())
             .filter(i -> i.getDefinition() != null)
             .collect(Collectors.toList())) {
@@ -2604,6 +2782,7 @@ public class OSelectExecutionPlanner {
     // get all valid index descriptors
     List<IndexSearchDescriptor> descriptors =
         indexes.stream()
+            .filter(x -> !x.isRebuilding())
             .filter(x -> x.getInternal().canBeUsedInEqualityOperators())
             .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz))
             .filter(Objects::nonNull)
@@ -2613,6 +2792,7 @@ public class OSelectExecutionPlanner {
 
     List<IndexSearchDescriptor> fullTextIndexDescriptors =
         indexes.stream()
+            .filter(idx -> !idx.isRebuilding())
             .filter(idx -> idx.getType().equalsIgnoreCase("FULLTEXT"))
             .filter(idx -> !idx.getAlgorithm().equalsIgnoreCase("LUCENE"))
             .map(idx -> buildIndexSearchDescriptorForFulltext(ctx, idx, block, clazz))
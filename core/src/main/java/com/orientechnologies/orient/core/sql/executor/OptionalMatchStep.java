@@ -20,10 +20,14 @@ public class OptionalMatchStep extends MatchStep {
     result.append(spaces);
     result.append("+ OPTIONAL MATCH ");
     if (edge.out) {
-      result.append(" ---->\n");
+      result.append(" ---->");
     } else {
-      result.append("     <----\n");
+      result.append("     <----");
     }
+    if (edge.getEstimatedRows() >= 0) {
+      result.append(" (estimated rows: ").append(edge.getEstimatedRows()).append(")");
+    }
+    result.append("\n");
     result.append(spaces);
     result.append("  ");
     result.append("{" + edge.edge.out.alias + "}");
@@ -51,6 +51,12 @@ public class QueryPlanningInfo {
   protected OAndBlock ridRangeConditions;
   protected OStorage.LOCKING_STRATEGY lockRecord;
 
+  /**
+   * class whose READ policy is merged in the WHERE condition, so records fetched from its clusters
+   * don't need to be checked one by one
+   */
+  protected String readPolicyEnforcedFor;
+
   public QueryPlanningInfo copy() {
     // TODO check what has to be copied and what can be just referenced as it is
     QueryPlanningInfo result = new QueryPlanningInfo();
@@ -81,6 +87,7 @@ public class QueryPlanningInfo {
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
+    result.readPolicyEnforcedFor = this.readPolicyEnforcedFor;
     return result;
   }
 }
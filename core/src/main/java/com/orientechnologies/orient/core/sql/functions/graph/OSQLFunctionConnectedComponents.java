@@ -0,0 +1,73 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.graph.OGraphAlgorithms;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Weakly connected components of the graph, computed on the adjacency snapshot of the database.
+ * Returns a vertex of every component with its size, largest components first.
+ */
+public class OSQLFunctionConnectedComponents extends OSQLFunctionGraphAnalyticsAbstract {
+  public static final String NAME = "connectedComponents";
+
+  public OSQLFunctionConnectedComponents() {
+    super(NAME, 0, 2);
+  }
+
+  @Override
+  public Object execute(
+      final Object iThis,
+      final OIdentifiable iCurrentRecord,
+      final Object iCurrentResult,
+      final Object[] iParams,
+      final OCommandContext iContext) {
+    final List<String> edgeClasses = edgeClasses(iParams.length > 0 ? iParams[0] : null);
+    final int limit =
+        iParams.length > 1 && iParams[1] != null ? ((Number) iParams[1]).intValue() : -1;
+
+    try (OGraphSnapshot snapshot = acquireSnapshot(iContext, edgeClasses)) {
+      final List<OResult> result = new ArrayList<>();
+      for (ORawPair<ORID, Integer> component :
+          OGraphAlgorithms.connectedComponents(snapshot, limit)) {
+        final OResultInternal item = new OResultInternal();
+        item.setProperty("vertex", component.first);
+        item.setProperty("size", component.second);
+        result.add(item);
+      }
+      return result;
+    }
+  }
+
+  @Override
+  public String getSyntax() {
+    return "connectedComponents([<edgeClasses>, [<limit>]])";
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.graph.OGraphAlgorithms;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of the degree of the vertices, computed on the adjacency snapshot of the database:
+ * amount of vertices and edges, minimum, maximum, average and standard deviation of the degree and
+ * amount of isolated vertices.
+ */
+public class OSQLFunctionDegreeStats extends OSQLFunctionGraphAnalyticsAbstract {
+  public static final String NAME = "degreeStats";
+
+  public OSQLFunctionDegreeStats() {
+    super(NAME, 0, 2);
+  }
+
+  @Override
+  public Object execute(
+      final Object iThis,
+      final OIdentifiable iCurrentRecord,
+      final Object iCurrentResult,
+      final Object[] iParams,
+      final OCommandContext iContext) {
+    final ODirection direction = direction(iParams.length > 0 ? iParams[0] : null, ODirection.BOTH);
+    final List<String> edgeClasses = edgeClasses(iParams.length > 1 ? iParams[1] : null);
+
+    try (OGraphSnapshot snapshot = acquireSnapshot(iContext, edgeClasses)) {
+      final OResultInternal result = new OResultInternal();
+      for (Map.Entry<String, Object> entry :
+          OGraphAlgorithms.degreeStats(snapshot, direction).entrySet())
+        result.setProperty(entry.getKey(), entry.getValue());
+      return result;
+    }
+  }
+
+  @Override
+  public String getSyntax() {
+    return "degreeStats([<direction>, [<edgeClasses>]])";
+  }
+}
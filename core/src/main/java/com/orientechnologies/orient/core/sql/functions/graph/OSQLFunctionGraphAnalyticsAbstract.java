@@ -0,0 +1,124 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionConfigurableAbstract;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Base class of the graph analytics functions, which run on an adjacency snapshot of the database
+ * kept by the {@link com.orientechnologies.orient.core.db.graph.OGraphSnapshotManager} instead of
+ * loading the vertices and the edges.
+ */
+public abstract class OSQLFunctionGraphAnalyticsAbstract extends OSQLFunctionConfigurableAbstract {
+
+  protected OSQLFunctionGraphAnalyticsAbstract(
+      final String iName, final int iMinParams, final int iMaxParams) {
+    super(iName, iMinParams, iMaxParams);
+  }
+
+  protected static OGraphSnapshot acquireSnapshot(
+      final OCommandContext iContext, final List<String> edgeClasses) {
+    final ODatabaseDocumentInternal db =
+        iContext != null && iContext.getDatabase() != null
+            ? (ODatabaseDocumentInternal) iContext.getDatabase()
+            : ODatabaseRecordThreadLocal.instance().get();
+    return db.getSharedContext().getGraphSnapshotManager().acquire(db, edgeClasses);
+  }
+
+  /** @return the edge classes passed as a string or a collection, empty for all the edges */
+  protected static List<String> edgeClasses(final Object param) {
+    if (param == null) return Collections.emptyList();
+    final List<String> result = new ArrayList<>();
+    if (OMultiValue.isMultiValue(param)) {
+      for (Object item : OMultiValue.getMultiValueIterable(param)) {
+        if (item != null) result.add(item.toString());
+      }
+    } else {
+      result.add(param.toString());
+    }
+    return result;
+  }
+
+  protected static ODirection direction(final Object param, final ODirection defaultDirection) {
+    if (param == null) return defaultDirection;
+    return ODirection.valueOf(param.toString().toUpperCase(Locale.ENGLISH));
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static Map<String, Object> options(final Object param) {
+    if (param instanceof Map) return (Map<String, Object>) param;
+    if (param instanceof OIdentifiable) {
+      return ((ODocument) ((OIdentifiable) param).getRecord()).toMap();
+    }
+    return Collections.emptyMap();
+  }
+
+  protected static int intOption(
+      final Map<String, Object> options, final String name, final int defaultValue) {
+    final Object value = options.get(name);
+    if (value instanceof Number) return ((Number) value).intValue();
+    return value == null ? defaultValue : Integer.parseInt(value.toString());
+  }
+
+  protected static double doubleOption(
+      final Map<String, Object> options, final String name, final double defaultValue) {
+    final Object value = options.get(name);
+    if (value instanceof Number) return ((Number) value).doubleValue();
+    return value == null ? defaultValue : Double.parseDouble(value.toString());
+  }
+
+  protected ORID vertex(
+      final Object param,
+      final OIdentifiable iCurrentRecord,
+      final OCommandContext iContext,
+      final String description) {
+    Object value = param;
+    if (OMultiValue.isMultiValue(value)) {
+      if (OMultiValue.getSize(value) != 1)
+        throw new IllegalArgumentException("Only one " + description + " is allowed");
+      value = OMultiValue.getFirstValue(value);
+    }
+    value =
+        OSQLHelper.getValue(
+            value, iCurrentRecord != null ? iCurrentRecord.getRecord() : null, iContext);
+    if (value instanceof OIdentifiable) {
+      final OElement element = ((OIdentifiable) value).getRecord();
+      if (element != null && element.isVertex()) return element.getIdentity();
+    }
+    throw new IllegalArgumentException("The " + description + " must be a vertex record");
+  }
+}
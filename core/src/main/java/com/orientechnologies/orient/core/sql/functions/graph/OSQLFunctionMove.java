@@ -18,6 +18,8 @@ import java.util.List;
 public abstract class OSQLFunctionMove extends OSQLFunctionConfigurableAbstract {
   public static final String NAME = "move";
 
+  protected boolean vertexLinks = false;
+
   public OSQLFunctionMove() {
     super(NAME, 1, 2);
   }
@@ -29,6 +31,14 @@ public abstract class OSQLFunctionMove extends OSQLFunctionConfigurableAbstract
   protected abstract Object move(
       final ODatabase db, final OIdentifiable iRecord, final String[] iLabels);
 
+  /**
+   * Returns the adjacent vertices as links, without loading them. Set by the traversals that load
+   * the vertices only when the query reads their content.
+   */
+  public void setVertexLinks(final boolean vertexLinks) {
+    this.vertexLinks = vertexLinks;
+  }
+
   public String getSyntax() {
     return "Syntax error: " + name + "([<labels>])";
   }
@@ -78,6 +88,9 @@ public abstract class OSQLFunctionMove extends OSQLFunctionConfigurableAbstract
       final String[] iLabels) {
     OElement rec = iRecord.getRecord();
     if (rec != null && rec.isVertex()) {
+      if (vertexLinks) {
+        return rec.asVertex().get().getVertexIdentities(iDirection, iLabels);
+      }
       return rec.asVertex().get().getVertices(iDirection, iLabels);
     } else {
       return null;
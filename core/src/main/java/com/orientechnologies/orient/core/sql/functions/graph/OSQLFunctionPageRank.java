@@ -0,0 +1,85 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.graph.OGraphAlgorithms;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PageRank of the vertices, computed on the adjacency snapshot of the database. Returns the
+ * vertices in descending order of rank.
+ *
+ * <p>Options: <code>direction</code> of the edges which transfer the rank (default OUT), <code>
+ * iterations</code> (default 20), <code>damping</code> factor (default 0.85), <code>tolerance
+ * </code> under which the ranks are considered stable (default 0.000001) and <code>limit</code> of
+ * returned vertices (default all).
+ */
+public class OSQLFunctionPageRank extends OSQLFunctionGraphAnalyticsAbstract {
+  public static final String NAME = "pageRank";
+
+  public OSQLFunctionPageRank() {
+    super(NAME, 0, 2);
+  }
+
+  @Override
+  public Object execute(
+      final Object iThis,
+      final OIdentifiable iCurrentRecord,
+      final Object iCurrentResult,
+      final Object[] iParams,
+      final OCommandContext iContext) {
+    final List<String> edgeClasses = edgeClasses(iParams.length > 0 ? iParams[0] : null);
+    final Map<String, Object> options = options(iParams.length > 1 ? iParams[1] : null);
+
+    try (OGraphSnapshot snapshot = acquireSnapshot(iContext, edgeClasses)) {
+      final List<OResult> result = new ArrayList<>();
+      for (ORawPair<ORID, Double> ranked :
+          OGraphAlgorithms.pageRank(
+              snapshot,
+              direction(options.get("direction"), ODirection.OUT),
+              intOption(options, "iterations", 20),
+              doubleOption(options, "damping", 0.85),
+              doubleOption(options, "tolerance", 0.000001),
+              intOption(options, "limit", -1))) {
+        final OResultInternal item = new OResultInternal();
+        item.setProperty("vertex", ranked.first);
+        item.setProperty("rank", ranked.second);
+        result.add(item);
+      }
+      return result;
+    }
+  }
+
+  @Override
+  public String getSyntax() {
+    return "pageRank([<edgeClasses>, [{direction, iterations, damping, tolerance, limit}]])";
+  }
+}
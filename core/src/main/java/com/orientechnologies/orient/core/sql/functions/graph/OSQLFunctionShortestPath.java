@@ -6,6 +6,10 @@ import com.orientechnologies.common.collection.OMultiCollectionIterator;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandExecutorAbstract;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.graph.OGraphAlgorithms;
+import com.orientechnologies.orient.core.db.graph.OGraphSnapshot;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
@@ -17,17 +21,16 @@ import com.orientechnologies.orient.core.record.OVertex;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.OEdgeToVertexIterable;
 import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.executor.OCompactRidSet;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Shortest path algorithm to find the shortest path from one node to another node in a directed
@@ -38,6 +41,7 @@ import java.util.Set;
 public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
   public static final String NAME = "shortestPath";
   public static final String PARAM_MAX_DEPTH = "maxDepth";
+  public static final String PARAM_SNAPSHOT = "snapshot";
 
   protected static final float DISTANCE = 1f;
 
@@ -57,8 +61,8 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     private ArrayDeque<OVertex> queueLeft = new ArrayDeque<>();
     private ArrayDeque<OVertex> queueRight = new ArrayDeque<>();
 
-    private final Set<ORID> leftVisited = new HashSet<ORID>();
-    private final Set<ORID> rightVisited = new HashSet<ORID>();
+    private final OCompactRidSet leftVisited;
+    private final OCompactRidSet rightVisited;
 
     private final Map<ORID, ORID> previouses = new HashMap<ORID, ORID>();
     private final Map<ORID, ORID> nexts = new HashMap<ORID, ORID>();
@@ -68,6 +72,18 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     public Integer maxDepth;
     /** option that decides whether or not to return the edge information */
     public Boolean edge;
+    /** option that runs the search on the adjacency snapshot of the database */
+    public boolean snapshot;
+
+    private OShortestPathContext(final OCommandContext iContext) {
+      leftVisited = OCompactRidSet.create(iContext);
+      rightVisited = OCompactRidSet.create(iContext);
+    }
+
+    private void close() {
+      leftVisited.close();
+      rightVisited.close();
+    }
   }
 
   public List<ORID> execute(
@@ -76,11 +92,21 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
       final Object iCurrentResult,
       final Object[] iParams,
       final OCommandContext iContext) {
+    final OShortestPathContext ctx = new OShortestPathContext(iContext);
+    try {
+      return execute(ctx, iCurrentRecord, iParams, iContext);
+    } finally {
+      ctx.close();
+    }
+  }
 
+  private List<ORID> execute(
+      final OShortestPathContext ctx,
+      final OIdentifiable iCurrentRecord,
+      final Object[] iParams,
+      final OCommandContext iContext) {
     final ORecord record = iCurrentRecord != null ? iCurrentRecord.getRecord() : null;
 
-    final OShortestPathContext ctx = new OShortestPathContext();
-
     Object source = iParams[0];
     source = getSingleItem(source);
     if (source == null) {
@@ -145,6 +171,10 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
       bindAdditionalParams(iParams[4], ctx);
     }
 
+    if (ctx.snapshot && !Boolean.TRUE.equals(ctx.edge)) {
+      return executeOnSnapshot(ctx, iContext);
+    }
+
     ctx.queueLeft.add(ctx.sourceVertex);
     ctx.leftVisited.add(ctx.sourceVertex.getIdentity());
 
@@ -215,6 +245,32 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
       ctx.maxDepth = integer(mapParams.get("maxDepth"));
       Boolean withEdge = toBoolean(mapParams.get("edge"));
       ctx.edge = Boolean.TRUE.equals(withEdge) ? Boolean.TRUE : Boolean.FALSE;
+      ctx.snapshot = Boolean.TRUE.equals(toBoolean(mapParams.get(PARAM_SNAPSHOT)));
+    }
+  }
+
+  /** Breadth first search on the adjacency snapshot, without loading the vertices. */
+  private List<ORID> executeOnSnapshot(
+      final OShortestPathContext ctx, final OCommandContext iContext) {
+    final List<String> edgeClasses = new ArrayList<>();
+    for (String edgeClass : ctx.edgeTypeParam) {
+      if (edgeClass != null) edgeClasses.add(edgeClass);
+    }
+
+    final ODatabaseDocumentInternal db =
+        iContext != null && iContext.getDatabase() != null
+            ? (ODatabaseDocumentInternal) iContext.getDatabase()
+            : ODatabaseRecordThreadLocal.instance().get();
+    try (OGraphSnapshot snapshot =
+        db.getSharedContext().getGraphSnapshotManager().acquire(db, edgeClasses)) {
+      // MAX DEPTH COUNTS THE VERTICES OF THE PATH
+      return new ArrayList<>(
+          OGraphAlgorithms.shortestPath(
+              snapshot,
+              ctx.sourceVertex.getIdentity(),
+              ctx.destinationVertex.getIdentity(),
+              ctx.directionLeft,
+              ctx.maxDepth == null ? -1 : ctx.maxDepth - 1));
     }
   }
 
@@ -298,7 +354,7 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
   }
 
   public String getSyntax() {
-    return "shortestPath(<sourceVertex>, <destinationVertex>, [<direction>, [ <edgeTypeAsString> ]])";
+    return "shortestPath(<sourceVertex>, <destinationVertex>, [<direction>, [ <edgeTypeAsString>, [{maxDepth, edge, snapshot}] ]])";
   }
 
   protected List<ORID> walkLeft(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
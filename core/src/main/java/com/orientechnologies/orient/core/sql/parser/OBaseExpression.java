@@ -326,6 +326,15 @@ public class OBaseExpression extends OMathExpression {
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    // MODIFIERS CAN FOLLOW LINKS TO OTHER RECORDS
+    if (modifier != null) {
+      return false;
+    }
+    return identifier == null || identifier.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -296,6 +296,13 @@ public class OBaseIdentifier extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (levelZero != null) {
+      return levelZero.dependsOnlyOnCurrentRecord();
+    }
+    return suffix == null || suffix.dependsOnlyOnCurrentRecord();
+  }
+
   public OSuffixIdentifier getSuffix() {
     return suffix;
   }
@@ -200,6 +200,13 @@ public class OBetweenCondition extends OBooleanExpression {
     return first.refersToParent() || second.refersToParent() || third.refersToParent();
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return first.dependsOnlyOnCurrentRecord()
+        && second.dependsOnlyOnCurrentRecord()
+        && third.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
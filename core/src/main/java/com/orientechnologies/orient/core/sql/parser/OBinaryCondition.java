@@ -236,6 +236,11 @@ public class OBinaryCondition extends OBooleanExpression {
     return left.refersToParent() || right.refersToParent();
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return left.dependsOnlyOnCurrentRecord() && right.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public Optional<OUpdateItem> transformToUpdateItem() {
     if (!checkCanTransformToUpdate()) {
@@ -89,6 +89,11 @@ public abstract class OBooleanExpression extends SimpleNode {
           return false;
         }
 
+        @Override
+        public boolean dependsOnlyOnCurrentRecord() {
+          return true;
+        }
+
         @Override
         public boolean isAlwaysTrue() {
           return true;
@@ -166,6 +171,11 @@ public abstract class OBooleanExpression extends SimpleNode {
         public boolean refersToParent() {
           return false;
         }
+
+        @Override
+        public boolean dependsOnlyOnCurrentRecord() {
+          return true;
+        }
       };
 
   public OBooleanExpression(int id) {
@@ -228,6 +238,15 @@ public abstract class OBooleanExpression extends SimpleNode {
 
   public abstract boolean refersToParent();
 
+  /**
+   * returns true if the condition is evaluated only on the properties and the attributes of the
+   * current record, see {@link OExpression#dependsOnlyOnCurrentRecord()}. Conditions that don't
+   * support this check return false.
+   */
+  public boolean dependsOnlyOnCurrentRecord() {
+    return false;
+  }
+
   /**
    * returns the equivalent of current condition as an UPDATE expression with the same syntax, if
    * possible.
@@ -148,6 +148,17 @@ public class OCollection extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (expressions != null) {
+      for (OExpression exp : expressions) {
+        if (exp != null && !exp.dependsOnlyOnCurrentRecord()) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
   public OResult serialize() {
     OResultInternal result = new OResultInternal();
     if (expressions != null) {
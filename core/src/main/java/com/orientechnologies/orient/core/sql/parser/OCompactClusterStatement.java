@@ -0,0 +1,126 @@
+/* Generated By:JJTree: Do not edit this line. OCompactClusterStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.util.Map;
+
+public class OCompactClusterStatement extends OSimpleExecStatement {
+
+  public OIdentifier clusterName;
+  public OInteger clusterNumber;
+  public OInteger throttle;
+
+  public OCompactClusterStatement(int id) {
+    super(id);
+  }
+
+  public OCompactClusterStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OResultSet executeSimple(OCommandContext ctx) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) ctx.getDatabase();
+
+    final int clusterId;
+    if (clusterNumber != null) {
+      clusterId = clusterNumber.getValue().intValue();
+    } else {
+      clusterId = database.getClusterIdByName(clusterName.getStringValue());
+    }
+
+    final String name = clusterId < 0 ? null : database.getClusterNameById(clusterId);
+    if (name == null) {
+      throw new OCommandExecutionException(
+          "Cluster not found: " + (clusterName != null ? clusterName : clusterNumber));
+    }
+    database.checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_UPDATE, name);
+
+    final OStorage storage = database.getStorage();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      throw new OCommandExecutionException(
+          "Compaction of clusters is not supported by storage " + storage.getName());
+    }
+
+    final OClusterCompactionResult compaction =
+        ((OAbstractPaginatedStorage) storage)
+            .compactCluster(
+                clusterId,
+                throttle == null ? -1 : throttle.getValue().intValue(),
+                message -> OLogManager.instance().debug(this, message.trim()));
+
+    final OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "compact cluster");
+    result.setProperty("clusterName", name);
+    result.setProperty("clusterId", clusterId);
+    result.setProperty("candidates", compaction.getCandidates());
+    result.setProperty("movedRecords", compaction.getMovedRecords());
+    result.setProperty("skippedRecords", compaction.getSkippedRecords());
+    result.setProperty("outOfSpace", compaction.isOutOfSpace());
+    result.setProperty("releasedPages", compaction.getReleasedPages());
+    result.setProperty("reclaimedBytes", compaction.getReclaimedBytes());
+
+    final OInternalResultSet rs = new OInternalResultSet();
+    rs.add(result);
+    return rs;
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("COMPACT CLUSTER ");
+    if (clusterName != null) {
+      clusterName.toString(params, builder);
+    } else if (clusterNumber != null) {
+      clusterNumber.toString(params, builder);
+    }
+    if (throttle != null) {
+      builder.append(" THROTTLE ");
+      throttle.toString(params, builder);
+    }
+  }
+
+  @Override
+  public OCompactClusterStatement copy() {
+    OCompactClusterStatement result = new OCompactClusterStatement(-1);
+    result.clusterName = clusterName == null ? null : clusterName.copy();
+    result.clusterNumber = clusterNumber == null ? null : clusterNumber.copy();
+    result.throttle = throttle == null ? null : throttle.copy();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    OCompactClusterStatement that = (OCompactClusterStatement) o;
+
+    if (clusterName != null ? !clusterName.equals(that.clusterName) : that.clusterName != null)
+      return false;
+    if (clusterNumber != null
+        ? !clusterNumber.equals(that.clusterNumber)
+        : that.clusterNumber != null) return false;
+    return throttle != null ? throttle.equals(that.throttle) : that.throttle == null;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = clusterName != null ? clusterName.hashCode() : 0;
+    result = 31 * result + (clusterNumber != null ? clusterNumber.hashCode() : 0);
+    result = 31 * result + (throttle != null ? throttle.hashCode() : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=5c0ba2a4f4c3a1e7b2d9f0e6c1a8b3d7 (do not edit this line) */
@@ -540,6 +540,18 @@ public class OExpression extends SimpleNode {
     return false;
   }
 
+  /**
+   * returns true if the value of this expression is computed only from the properties and the
+   * attributes of the current record, from constants and from input parameters, so it does not
+   * change when other records are changed.
+   */
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (mathExpression != null) {
+      return mathExpression.dependsOnlyOnCurrentRecord();
+    }
+    return arrayConcatExpression == null && json == null;
+  }
+
   public ORid getRid() {
     return rid;
   }
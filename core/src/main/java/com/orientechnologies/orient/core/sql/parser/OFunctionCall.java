@@ -7,6 +7,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.executor.AggregationContext;
 import com.orientechnologies.orient.core.sql.executor.OFuncitonAggregationContext;
@@ -14,7 +15,14 @@ import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.functions.OIndexableSQLFunction;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.coll.OSQLFunctionTraversedElement;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionMove;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionEval;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionCount;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionIndexKeySize;
+import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionMedian;
+import com.orientechnologies.orient.core.sql.functions.text.OSQLFunctionConcat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -419,6 +427,49 @@ public class OFunctionCall extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (!isRecordIndependentFunction()) {
+      return false;
+    }
+    if (params != null) {
+      for (OExpression param : params) {
+        if (param != null && !param.dependsOnlyOnCurrentRecord()) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * returns true for the built-in functions that compute their result only from their parameters:
+   * graph functions, sequences, eval(), the functions on the traversal stack and the functions
+   * defined in the database can read other records.
+   */
+  private boolean isRecordIndependentFunction() {
+    if (name == null) {
+      return false;
+    }
+    final OSQLFunction function;
+    try {
+      function = OSQLEngine.getInstance().getFunction(name.getStringValue());
+    } catch (OCommandSQLParsingException e) {
+      return false;
+    }
+    if (function == null
+        || function instanceof OSQLFunctionEval
+        || function instanceof OSQLFunctionTraversedElement
+        || function instanceof OSQLFunctionIndexKeySize) {
+      return false;
+    }
+    final String pkg = function.getClass().getPackage().getName();
+    return pkg.equals(OSQLFunctionMathAbstract.class.getPackage().getName())
+        || pkg.equals(OSQLFunctionMedian.class.getPackage().getName())
+        || pkg.equals(OSQLFunctionConcat.class.getPackage().getName())
+        || pkg.equals(OSQLFunctionCount.class.getPackage().getName())
+        || pkg.equals(OSQLFunctionTraversedElement.class.getPackage().getName());
+  }
+
   public OIdentifier getName() {
     return name;
   }
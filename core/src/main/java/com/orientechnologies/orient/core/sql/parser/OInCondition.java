@@ -279,6 +279,17 @@ public class OInCondition extends OBooleanExpression {
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (rightStatement != null) {
+      return false;
+    }
+    if (left != null && !left.dependsOnlyOnCurrentRecord()) {
+      return false;
+    }
+    return rightMathExpression == null || rightMathExpression.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
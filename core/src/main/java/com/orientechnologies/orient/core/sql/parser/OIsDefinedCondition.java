@@ -88,6 +88,11 @@ public class OIsDefinedCondition extends OBooleanExpression implements OSimpleBo
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return expression == null || expression.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
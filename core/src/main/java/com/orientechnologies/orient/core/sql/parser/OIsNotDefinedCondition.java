@@ -80,6 +80,11 @@ public class OIsNotDefinedCondition extends OBooleanExpression {
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return expression == null || expression.dependsOnlyOnCurrentRecord();
+  }
+
   public void toString(Map<Object, Object> params, StringBuilder builder) {
     expression.toString(params, builder);
     builder.append(" is not defined");
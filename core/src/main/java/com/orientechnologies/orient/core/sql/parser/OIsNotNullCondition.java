@@ -111,6 +111,11 @@ public class OIsNotNullCondition extends OBooleanExpression {
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return expression == null || expression.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -285,6 +285,16 @@ public class OLevelZeroIdentifier extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (functionCall != null) {
+      return functionCall.dependsOnlyOnCurrentRecord();
+    }
+    if (collection != null) {
+      return collection.dependsOnlyOnCurrentRecord();
+    }
+    return true;
+  }
+
   public OFunctionCall getFunctionCall() {
     return functionCall;
   }
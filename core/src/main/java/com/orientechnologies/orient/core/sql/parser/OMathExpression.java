@@ -1048,6 +1048,15 @@ public class OMathExpression extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    for (OMathExpression expr : this.childExpressions) {
+      if (!expr.dependsOnlyOnCurrentRecord()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
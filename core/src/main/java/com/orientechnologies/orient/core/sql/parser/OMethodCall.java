@@ -12,6 +12,7 @@ import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunctionFiltered;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionMove;
 import com.orientechnologies.orient.core.sql.method.OSQLMethod;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,17 +63,29 @@ public class OMethodCall extends SimpleNode {
     builder.append(")");
   }
 
+  public String getMethodNameString() {
+    return methodName.getStringValue();
+  }
+
+  public List<OExpression> getParams() {
+    return params;
+  }
+
   public boolean isBidirectional() {
     return bidirectionalMethods.contains(methodName.getStringValue().toLowerCase(Locale.ENGLISH));
   }
 
   public Object execute(Object targetObjects, OCommandContext ctx) {
-    return execute(targetObjects, ctx, methodName.getStringValue(), params, null);
+    return execute(targetObjects, ctx, methodName.getStringValue(), params, null, false);
   }
 
+  /**
+   * Executes the method as a step of a MATCH traversal: graph functions return the adjacent
+   * vertices as links, loaded only if the pattern needs their content.
+   */
   public Object execute(
       Object targetObjects, Iterable<OIdentifiable> iPossibleResults, OCommandContext ctx) {
-    return execute(targetObjects, ctx, methodName.getStringValue(), params, iPossibleResults);
+    return execute(targetObjects, ctx, methodName.getStringValue(), params, iPossibleResults, true);
   }
 
   private Object execute(
@@ -80,7 +93,8 @@ public class OMethodCall extends SimpleNode {
       OCommandContext ctx,
       String name,
       List<OExpression> iParams,
-      Iterable<OIdentifiable> iPossibleResults) {
+      Iterable<OIdentifiable> iPossibleResults,
+      boolean traversal) {
     List<Object> paramValues = new ArrayList<Object>();
     Object val = ctx.getVariable("$current");
     if (val == null && targetObjects == null) {
@@ -101,6 +115,9 @@ public class OMethodCall extends SimpleNode {
     }
     if (isGraphFunction()) {
       OSQLFunction function = OSQLEngine.getInstance().getFunction(name);
+      if (traversal && function instanceof OSQLFunctionMove) {
+        ((OSQLFunctionMove) function).setVertexLinks(true);
+      }
       if (function instanceof OSQLFunctionFiltered) {
         Object current = ctx.getVariable("$current");
         if (current instanceof OResult) {
@@ -150,38 +167,38 @@ public class OMethodCall extends SimpleNode {
 
     String straightName = methodName.getStringValue();
     if (straightName.equalsIgnoreCase("out")) {
-      return execute(targetObjects, ctx, "in", params, null);
+      return execute(targetObjects, ctx, "in", params, null, true);
     }
     if (straightName.equalsIgnoreCase("in")) {
-      return execute(targetObjects, ctx, "out", params, null);
+      return execute(targetObjects, ctx, "out", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("both")) {
-      return execute(targetObjects, ctx, "both", params, null);
+      return execute(targetObjects, ctx, "both", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("outE")) {
-      return execute(targetObjects, ctx, "outV", params, null);
+      return execute(targetObjects, ctx, "outV", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("outV")) {
-      return execute(targetObjects, ctx, "outE", params, null);
+      return execute(targetObjects, ctx, "outE", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("inE")) {
-      return execute(targetObjects, ctx, "inV", params, null);
+      return execute(targetObjects, ctx, "inV", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("inV")) {
-      return execute(targetObjects, ctx, "inE", params, null);
+      return execute(targetObjects, ctx, "inE", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("bothE")) {
-      return execute(targetObjects, ctx, "bothV", params, null);
+      return execute(targetObjects, ctx, "bothV", params, null, true);
     }
 
     if (straightName.equalsIgnoreCase("bothV")) {
-      return execute(targetObjects, ctx, "bothE", params, null);
+      return execute(targetObjects, ctx, "bothE", params, null, true);
     }
 
     throw new UnsupportedOperationException("Invalid reverse traversal: " + methodName);
@@ -128,6 +128,11 @@ public class ONotBlock extends OBooleanExpression {
     return sub.refersToParent();
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return sub.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -212,6 +212,16 @@ public class OOrBlock extends OBooleanExpression {
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    for (OBooleanExpression exp : subBlocks) {
+      if (exp != null && !exp.dependsOnlyOnCurrentRecord()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public List<String> getMatchPatternInvolvedAliases() {
     List<String> result = new ArrayList<String>();
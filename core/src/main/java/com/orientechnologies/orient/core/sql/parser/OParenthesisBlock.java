@@ -79,6 +79,11 @@ public class OParenthesisBlock extends OBooleanExpression {
     return subElement.refersToParent();
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    return subElement.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -178,6 +178,14 @@ public class OParenthesisExpression extends OMathExpression {
     return false;
   }
 
+  @Override
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (statement != null) {
+      return false;
+    }
+    return expression == null || expression.dependsOnlyOnCurrentRecord();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -284,6 +284,13 @@ public class OProjectionItem extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    if (nestedProjection != null) {
+      return false;
+    }
+    return expression == null || expression.dependsOnlyOnCurrentRecord();
+  }
+
   public OResult serialize() {
     OResultInternal result = new OResultInternal();
     result.setProperty("all", all);
@@ -6,9 +6,12 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexRebuildCoordinator;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class ORebuildIndexStatement extends OSimpleExecStatement {
@@ -31,10 +34,12 @@ public class ORebuildIndexStatement extends OSimpleExecStatement {
 
     final ODatabaseDocumentInternal database = getDatabase();
     if (all) {
-      long totalIndexed = 0;
+      final List<OIndex> automatic = new ArrayList<>();
       for (OIndex idx : database.getMetadata().getIndexManagerInternal().getIndexes(database)) {
-        if (idx.isAutomatic()) totalIndexed += idx.rebuild();
+        if (idx.isAutomatic()) automatic.add(idx);
       }
+      // CLUSTERS ARE SCANNED ONCE FOR ALL THE INDEXES
+      final long totalIndexed = OIndexRebuildCoordinator.rebuildIndexes(database, automatic);
 
       result.setProperty("totalIndexed", totalIndexed);
     } else {
@@ -327,6 +327,11 @@ public class OSuffixIdentifier extends SimpleNode {
     return false;
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    // CONTEXT VARIABLES ARE NOT PART OF THE RECORD
+    return identifier == null || !identifier.getStringValue().startsWith("$");
+  }
+
   public void setValue(Object target, Object value, OCommandContext ctx) {
     if (target instanceof OResult) {
       setValue((OResult) target, value, ctx);
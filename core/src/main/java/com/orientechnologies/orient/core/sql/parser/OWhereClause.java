@@ -103,7 +103,7 @@ public class OWhereClause extends SimpleNode {
         Map<String, Object> conditions = getEqualityOperations(condition, ctx);
 
         for (OIndex index : indexes) {
-          if (index.getType().equals(OClass.INDEX_TYPE.FULLTEXT.name())) {
+          if (index.getType().equals(OClass.INDEX_TYPE.FULLTEXT.name()) || index.isRebuilding()) {
             continue;
           }
           List<String> indexedFields = index.getDefinition().getFields();
@@ -183,6 +183,9 @@ public class OWhereClause extends SimpleNode {
       Map<String, Object> bestCondition = null;
 
       for (OIndex index : indexes) {
+        if (index.isRebuilding()) {
+          continue;
+        }
         List<String> indexedFields = index.getDefinition().getFields();
         int nMatchingKeys = 0;
         for (String indexedField : indexedFields) {
@@ -332,6 +335,10 @@ public class OWhereClause extends SimpleNode {
     return baseExpression != null && baseExpression.refersToParent();
   }
 
+  public boolean dependsOnlyOnCurrentRecord() {
+    return baseExpression == null || baseExpression.dependsOnlyOnCurrentRecord();
+  }
+
   public OBooleanExpression getBaseExpression() {
     return baseExpression;
   }
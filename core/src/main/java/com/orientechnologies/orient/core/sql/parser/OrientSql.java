@@ -28,7 +28,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(270);
+        jj_consume_token(272);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -202,6 +202,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -299,7 +301,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:;
+          case 272:;
             break;
           default:
             jj_la1[2] = jj_gen;
@@ -548,6 +550,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case TRUNCATE:
           token = jj_consume_token(TRUNCATE);
           break;
+        case COMPACT:
+          token = jj_consume_token(COMPACT);
+          break;
+        case THROTTLE:
+          token = jj_consume_token(THROTTLE);
+          break;
         case FIND:
           token = jj_consume_token(FIND);
           break;
@@ -1106,6 +1114,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -1201,7 +1211,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:
+          case 272:
             result = ExpressionStatement();
             break;
           default:
@@ -1254,7 +1264,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result = null;
     try {
-      if (jj_2_52(2)) {
+      if (jj_2_53(2)) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
           case TRAVERSE:
@@ -1328,21 +1338,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           result = TruncateClassStatement();
                         } else if (jj_2_34(2147483647)) {
                           result = TruncateClusterStatement();
-                        } else if (jj_2_35(2147483647)) {
+                        } else if (jj_2_35(2)) {
+                          result = CompactClusterStatement();
+                        } else if (jj_2_36(2147483647)) {
                           result = TruncateRecordStatement();
-                        } else if (jj_2_36(2)) {
+                        } else if (jj_2_37(2)) {
                           result = AlterSequenceStatement();
-                        } else if (jj_2_37(2147483647)) {
+                        } else if (jj_2_38(2147483647)) {
                           result = AlterClassStatement();
-                        } else if (jj_2_38(2)) {
+                        } else if (jj_2_39(2)) {
                           result = DropSequenceStatement();
-                        } else if (jj_2_39(2147483647)) {
-                          result = DropClassStatement();
                         } else if (jj_2_40(2147483647)) {
-                          result = DropViewStatement();
+                          result = DropClassStatement();
                         } else if (jj_2_41(2147483647)) {
-                          result = AlterPropertyStatement();
+                          result = DropViewStatement();
                         } else if (jj_2_42(2147483647)) {
+                          result = AlterPropertyStatement();
+                        } else if (jj_2_43(2147483647)) {
                           result = DropPropertyStatement();
                         } else {
                           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1351,13 +1363,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                               break;
                             default:
                               jj_la1[14] = jj_gen;
-                              if (jj_2_43(2)) {
+                              if (jj_2_44(2)) {
                                 result = DropIndexStatement();
-                              } else if (jj_2_44(2147483647)) {
+                              } else if (jj_2_45(2147483647)) {
                                 result = AlterClusterStatement();
-                              } else if (jj_2_45(2)) {
-                                result = DropClusterStatement();
                               } else if (jj_2_46(2)) {
+                                result = DropClusterStatement();
+                              } else if (jj_2_47(2)) {
                                 result = AlterDatabaseStatement();
                               } else {
                                 switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1393,15 +1405,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                     break;
                                   default:
                                     jj_la1[15] = jj_gen;
-                                    if (jj_2_47(2147483647)) {
+                                    if (jj_2_48(2147483647)) {
                                       result = HaRemoveServerStatement();
-                                    } else if (jj_2_48(2147483647)) {
-                                      result = HaStatusStatement();
                                     } else if (jj_2_49(2147483647)) {
-                                      result = HaSyncDatabaseStatement();
+                                      result = HaStatusStatement();
                                     } else if (jj_2_50(2147483647)) {
-                                      result = HaSyncClusterStatement();
+                                      result = HaSyncDatabaseStatement();
                                     } else if (jj_2_51(2147483647)) {
+                                      result = HaSyncClusterStatement();
+                                    } else if (jj_2_52(2147483647)) {
                                       result = HaSetStatement();
                                     } else {
                                       jj_consume_token(-1);
@@ -1423,7 +1435,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[16] = jj_gen;
-            if (jj_2_53(2147483647)) {
+            if (jj_2_54(2147483647)) {
               result = ProfileStatement();
             } else {
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1524,7 +1536,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result;
     try {
-      if (jj_2_54(2147483647)) {
+      if (jj_2_55(2147483647)) {
         result = SelectStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1539,7 +1551,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[18] = jj_gen;
-            if (jj_2_55(2147483647)) {
+            if (jj_2_56(2147483647)) {
               result = FindReferencesStatement();
             } else {
               jj_consume_token(-1);
@@ -1795,6 +1807,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -1890,7 +1904,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           jjtn000.projection = Projection();
           break;
         default:
@@ -2127,6 +2141,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -2356,7 +2372,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
       jj_consume_token(RETURN);
-      if (jj_2_56(2)) {
+      if (jj_2_57(2)) {
         jj_consume_token(DISTINCT);
         jjtn000.returnDistinct = true;
         lastReturn = Expression();
@@ -2369,7 +2385,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jj_la1[56] = jj_gen;
             ;
         }
-      } else if (jj_2_57(2147483647)) {
+      } else if (jj_2_58(2147483647)) {
         lastReturn = Expression();
         lastReturnAlias = null;
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -2685,15 +2701,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     ODeleteEdgeStatement result;
     try {
-      if (jj_2_58(2147483647)) {
+      if (jj_2_59(2147483647)) {
         result = DeleteEdgeByRidStatement();
-      } else if (jj_2_59(2147483647)) {
-        result = DeleteEdgeFromToStatement();
       } else if (jj_2_60(2147483647)) {
-        result = DeleteEdgeVToStatement();
+        result = DeleteEdgeFromToStatement();
       } else if (jj_2_61(2147483647)) {
-        result = DeleteEdgeToStatement();
+        result = DeleteEdgeVToStatement();
       } else if (jj_2_62(2147483647)) {
+        result = DeleteEdgeToStatement();
+      } else if (jj_2_63(2147483647)) {
         result = DeleteEdgeWhereStatement();
       } else {
         jj_consume_token(-1);
@@ -2748,7 +2764,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 270:
+        case 272:
           jjtn000.rid = Rid();
           break;
         case LBRACKET:
@@ -2757,7 +2773,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 270:
+            case 272:
               lastRid = Rid();
               jjtn000.rids = new ArrayList();
               jjtn000.rids.add(lastRid);
@@ -2874,6 +2890,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -3218,6 +3236,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -3453,6 +3473,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -3548,7 +3570,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 270:
+            case 272:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -3749,6 +3771,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -3844,7 +3868,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 270:
+            case 272:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -4351,7 +4375,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(INSERT);
       jj_consume_token(INTO);
-      if (jj_2_63(2147483647)) {
+      if (jj_2_64(2147483647)) {
         jjtn000.targetIndex = IndexIdentifier();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -4388,6 +4412,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -4487,7 +4513,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             throw new ParseException();
         }
       }
-      if (jj_2_64(2147483647)) {
+      if (jj_2_65(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {;
       }
@@ -4515,7 +4541,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case SELECT:
-              if (jj_2_65(2147483647)) {
+              if (jj_2_66(2147483647)) {
                 jjtn000.selectStatement = SelectStatement();
               } else {
                 switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -4531,9 +4557,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             default:
               jj_la1[132] = jj_gen;
-              if (jj_2_67(2)) {
+              if (jj_2_68(2)) {
                 jj_consume_token(LPAREN);
-                if (jj_2_66(2147483647)) {
+                if (jj_2_67(2147483647)) {
                   jjtn000.selectStatement = SelectStatement();
                 } else {
                   switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -4612,7 +4638,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OExpression lastExpression;
     List<OExpression> lastExpressionList;
     try {
-      if (jj_2_68(3)) {
+      if (jj_2_69(3)) {
         jj_consume_token(LPAREN);
         lastIdentifier = Identifier();
         jjtn000.identifierList = new ArrayList<OIdentifier>();
@@ -4682,7 +4708,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           jj_consume_token(RPAREN);
         }
-      } else if (jj_2_69(3)) {
+      } else if (jj_2_70(3)) {
         jj_consume_token(SET);
         jjtn000.setExpressions = new ArrayList<OInsertSetExpression>();
         OInsertSetExpression lastSetExpr = new OInsertSetExpression();
@@ -4800,7 +4826,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(CREATE);
       jj_consume_token(VERTEX);
-      if (jj_2_70(2147483647)) {
+      if (jj_2_71(2147483647)) {
         jjtn000.targetClass = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case CLUSTER:
@@ -4811,7 +4837,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jj_la1[142] = jj_gen;
             ;
         }
-      } else if (jj_2_71(2147483647)) {
+      } else if (jj_2_72(2147483647)) {
         jjtn000.targetCluster = Cluster();
       } else {
         jj_consume_token(-1);
@@ -4826,7 +4852,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_la1[143] = jj_gen;
           ;
       }
-      if (jj_2_72(2147483647)) {
+      if (jj_2_73(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {;
       }
@@ -5040,6 +5066,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -5339,6 +5367,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -5483,7 +5513,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     java.util.List<OProjectionItem> items = new java.util.ArrayList<OProjectionItem>();
     OProjectionItem lastItem = null;
     try {
-      if (jj_2_73(2147483647)) {
+      if (jj_2_74(2147483647)) {
         lastItem = ProjectionItem();
         items.add(lastItem);
         label_17:
@@ -5741,6 +5771,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -5836,7 +5868,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case BANG:
               jj_consume_token(BANG);
@@ -5921,11 +5953,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_74(2147483647)) {
+      if (jj_2_75(2147483647)) {
         jjtn000.rid = Rid();
-      } else if (jj_2_75(2147483647)) {
-        jjtn000.inputParam = InputParameter();
       } else if (jj_2_76(2147483647)) {
+        jjtn000.inputParam = InputParameter();
+      } else if (jj_2_77(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -5974,9 +6006,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     Token tokenVal;
     try {
-      if (jj_2_77(2147483647)) {
+      if (jj_2_78(2147483647)) {
         jjtn000.inputValue = InputParameter();
-      } else if (jj_2_78(2147483647)) {
+      } else if (jj_2_79(2147483647)) {
         tokenVal = jj_consume_token(INTEGER_LITERAL);
         jjtn000.integer = Integer.parseInt(tokenVal.image);
       } else {
@@ -6275,6 +6307,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -6400,6 +6434,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -6495,7 +6531,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           lastExpression = Expression();
           jjtn000.params.add(lastExpression);
           label_21:
@@ -6598,6 +6634,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -6693,7 +6731,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           lastExpression = Expression();
           jjtn000.params.add(lastExpression);
           label_22:
@@ -6757,7 +6795,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_79(2147483647)) {
+      if (jj_2_80(2147483647)) {
         jjtn000.functionCall = FunctionCall();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -6767,7 +6805,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[175] = jj_gen;
-            if (jj_2_80(2147483647)) {
+            if (jj_2_81(2147483647)) {
               jjtn000.collection = Collection();
             } else {
               jj_consume_token(-1);
@@ -6817,9 +6855,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_81(2147483647)) {
+      if (jj_2_82(2147483647)) {
         jjtn000.identifier = Identifier();
-      } else if (jj_2_82(2147483647)) {
+      } else if (jj_2_83(2147483647)) {
         jjtn000.recordAttribute = RecordAttribute();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -6875,9 +6913,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_83(2147483647)) {
+      if (jj_2_84(2147483647)) {
         jjtn000.levelZero = LevelZeroIdentifier();
-      } else if (jj_2_84(2147483647)) {
+      } else if (jj_2_85(2147483647)) {
         jjtn000.suffix = SuffixIdentifier();
       } else {
         jj_consume_token(-1);
@@ -6929,13 +6967,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case LBRACKET:
           jj_consume_token(LBRACKET);
           jjtn000.squareBrackets = true;
-          if (jj_2_85(2147483647)) {
+          if (jj_2_86(2147483647)) {
             jjtn000.rightBinaryCondition = RightBinaryCondition();
-          } else if (jj_2_86(2147483647)) {
-            jjtn000.arrayRange = ArrayRangeSelector();
           } else if (jj_2_87(2147483647)) {
-            jjtn000.condition = OrBlock();
+            jjtn000.arrayRange = ArrayRangeSelector();
           } else if (jj_2_88(2147483647)) {
+            jjtn000.condition = OrBlock();
+          } else if (jj_2_89(2147483647)) {
             jjtn000.arraySingleValues = ArraySingleValuesSelector();
           } else {
             jj_consume_token(-1);
@@ -6945,7 +6983,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           break;
         default:
           jj_la1[177] = jj_gen;
-          if (jj_2_89(2147483647)) {
+          if (jj_2_90(2147483647)) {
             jjtn000.methodCall = MethodCall();
           } else {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -6960,7 +6998,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             }
           }
       }
-      if (jj_2_90(2147483647)) {
+      if (jj_2_91(2147483647)) {
         jjtn000.next = Modifier();
       } else {;
       }
@@ -7007,7 +7045,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     Token token;
     try {
-      if (jj_2_91(2147483647)) {
+      if (jj_2_92(2147483647)) {
         jjtn000.arrayConcatExpression = ArrayConcatExpression();
         jjtn000.value = jjtn000.arrayConcatExpression;
       } else {
@@ -7029,10 +7067,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[179] = jj_gen;
-            if (jj_2_92(2147483647)) {
+            if (jj_2_93(2147483647)) {
               jjtn000.rid = Rid();
               jjtn000.value = jjtn000.rid;
-            } else if (jj_2_93(2147483647)) {
+            } else if (jj_2_94(2147483647)) {
               jjtn000.mathExpression = MathExpression();
               jjtn000.value = jjtn000.mathExpression;
             } else {
@@ -7170,10 +7208,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           break;
         default:
           jj_la1[182] = jj_gen;
-          if (jj_2_94(2147483647)) {
+          if (jj_2_95(2147483647)) {
             jjtn000.rid = Rid();
             jjtn000.value = jjtn000.rid;
-          } else if (jj_2_95(2147483647)) {
+          } else if (jj_2_96(2147483647)) {
             jjtn000.mathExpression = MathExpression();
             jjtn000.value = jjtn000.mathExpression;
           } else {
@@ -7237,7 +7275,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.getChildExpressions().add(sub);
       label_24:
       while (true) {
-        if (jj_2_96(2)) {;
+        if (jj_2_97(2)) {;
         } else {
           break label_24;
         }
@@ -7347,9 +7385,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OMathExpression expr;
     try {
-      if (jj_2_97(2147483647)) {
+      if (jj_2_98(2147483647)) {
         expr = ParenthesisExpression();
-      } else if (jj_2_98(2147483647)) {
+      } else if (jj_2_99(2147483647)) {
         expr = BaseExpression();
       } else {
         jj_consume_token(-1);
@@ -7398,7 +7436,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(LPAREN);
-      if (jj_2_99(2)) {
+      if (jj_2_100(2)) {
         jjtn000.statement = QueryStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -7436,6 +7474,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -7531,7 +7571,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:
+          case 272:
             jjtn000.expression = Expression();
             break;
           case INSERT:
@@ -7625,6 +7665,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -7709,7 +7751,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
           jjtn000.identifier = BaseIdentifier();
-          if (jj_2_100(2147483647)) {
+          if (jj_2_101(2147483647)) {
             jjtn000.modifier = Modifier();
           } else {;
           }
@@ -7717,7 +7759,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case HOOK:
         case COLON:
           jjtn000.inputParam = InputParameter();
-          if (jj_2_101(2147483647)) {
+          if (jj_2_102(2147483647)) {
             jjtn000.modifier = Modifier();
           } else {;
           }
@@ -7739,7 +7781,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(-1);
               throw new ParseException();
           }
-          if (jj_2_102(2147483647)) {
+          if (jj_2_103(2147483647)) {
             jjtn000.modifier = Modifier();
           } else {;
           }
@@ -7895,7 +7937,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.varName = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_103(2147483647)) {
+      if (jj_2_104(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -7960,13 +8002,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 270:
+        case 272:
           lastRid = Rid();
           jjtn000.rids.add(lastRid);
           break;
         default:
           jj_la1[194] = jj_gen;
-          if (jj_2_107(2)) {
+          if (jj_2_108(2)) {
             jj_consume_token(LBRACKET);
             lastRid = Rid();
             jjtn000.rids.add(lastRid);
@@ -8039,7 +8081,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               default:
                 jj_la1[195] = jj_gen;
-                if (jj_2_108(2147483647)) {
+                if (jj_2_109(2147483647)) {
                   jjtn000.index = IndexIdentifier();
                 } else {
                   switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -8050,7 +8092,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jj_consume_token(LPAREN);
                       jjtn000.statement = QueryStatement();
                       jj_consume_token(RPAREN);
-                      if (jj_2_104(2147483647)) {
+                      if (jj_2_105(2147483647)) {
                         jjtn000.modifier = Modifier();
                       } else {;
                       }
@@ -8061,9 +8103,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     default:
                       jj_la1[196] = jj_gen;
-                      if (jj_2_109(2)) {
+                      if (jj_2_110(2)) {
                         jjtn000.functionCall = FunctionCall();
-                        if (jj_2_105(2147483647)) {
+                        if (jj_2_106(2147483647)) {
                           jjtn000.modifier = Modifier();
                         } else {;
                         }
@@ -8102,6 +8144,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           case ON:
                           case OFF:
                           case TRUNCATE:
+                          case COMPACT:
+                          case THROTTLE:
                           case FIND:
                           case REFERENCES:
                           case EXTENDS:
@@ -8181,7 +8225,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           case IDENTIFIER:
                           case QUOTED_IDENTIFIER:
                             jjtn000.identifier = Identifier();
-                            if (jj_2_106(2147483647)) {
+                            if (jj_2_107(2147483647)) {
                               jjtn000.modifier = Modifier();
                             } else {;
                             }
@@ -8314,6 +8358,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -8484,8 +8530,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 271:
-          jj_consume_token(271);
+        case 273:
+          jj_consume_token(273);
           builder.append("__@recordmap@___");
           break;
         default:
@@ -8804,9 +8850,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case NOT:
           jj_consume_token(NOT);
           jjtn000.negate = true;
-          if (jj_2_110(2147483647)) {
+          if (jj_2_111(2147483647)) {
             jjtn000.sub = ConditionBlock();
-          } else if (jj_2_111(2147483647)) {
+          } else if (jj_2_112(2147483647)) {
             jjtn000.sub = ParenthesisBlock();
           } else {
             jj_consume_token(-1);
@@ -8847,6 +8893,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -8942,10 +8990,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
-          if (jj_2_112(2147483647)) {
+        case 272:
+          if (jj_2_113(2147483647)) {
             jjtn000.sub = ConditionBlock();
-          } else if (jj_2_113(2147483647)) {
+          } else if (jj_2_114(2147483647)) {
             jjtn000.sub = ParenthesisBlock();
           } else {
             jj_consume_token(-1);
@@ -9045,35 +9093,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OBooleanExpression result = null;
     try {
-      if (jj_2_114(2147483647)) {
+      if (jj_2_115(2147483647)) {
         result = IsNotNullCondition();
-      } else if (jj_2_115(2147483647)) {
-        result = IsNullCondition();
       } else if (jj_2_116(2147483647)) {
-        result = IsNotDefinedCondition();
+        result = IsNullCondition();
       } else if (jj_2_117(2147483647)) {
-        result = IsDefinedCondition();
+        result = IsNotDefinedCondition();
       } else if (jj_2_118(2147483647)) {
-        result = InCondition();
+        result = IsDefinedCondition();
       } else if (jj_2_119(2147483647)) {
-        result = NotInCondition();
+        result = InCondition();
       } else if (jj_2_120(2147483647)) {
-        result = BinaryCondition();
+        result = NotInCondition();
       } else if (jj_2_121(2147483647)) {
-        result = BetweenCondition();
+        result = BinaryCondition();
       } else if (jj_2_122(2147483647)) {
-        result = ContainsCondition();
+        result = BetweenCondition();
       } else if (jj_2_123(2147483647)) {
-        result = ContainsValueCondition();
+        result = ContainsCondition();
       } else if (jj_2_124(2147483647)) {
-        result = ContainsAllCondition();
+        result = ContainsValueCondition();
       } else if (jj_2_125(2147483647)) {
-        result = ContainsAnyCondition();
+        result = ContainsAllCondition();
       } else if (jj_2_126(2147483647)) {
-        result = ContainsTextCondition();
+        result = ContainsAnyCondition();
       } else if (jj_2_127(2147483647)) {
-        result = MatchesCondition();
+        result = ContainsTextCondition();
       } else if (jj_2_128(2147483647)) {
+        result = MatchesCondition();
+      } else if (jj_2_129(2147483647)) {
         result = InstanceofCondition();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -9683,11 +9731,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jjtn000.operator = ContainsValueOperator();
-      if (jj_2_129(3)) {
+      if (jj_2_130(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_130(2147483647)) {
+      } else if (jj_2_131(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -9772,6 +9820,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -10138,11 +10188,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINS);
-      if (jj_2_131(3)) {
+      if (jj_2_132(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_132(2147483647)) {
+      } else if (jj_2_133(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10216,9 +10266,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jjtn000.operator = InOperator();
-      if (jj_2_134(2)) {
+      if (jj_2_135(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_133(2147483647)) {
+        if (jj_2_134(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -10232,7 +10282,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_135(2)) {
+      } else if (jj_2_136(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -10271,6 +10321,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -10417,9 +10469,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.left = Expression();
       jj_consume_token(NOT);
       InOperator();
-      if (jj_2_137(2)) {
+      if (jj_2_138(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_136(2147483647)) {
+        if (jj_2_137(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -10433,7 +10485,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_138(2)) {
+      } else if (jj_2_139(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -10472,6 +10524,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -10616,11 +10670,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSALL);
-      if (jj_2_139(3)) {
+      if (jj_2_140(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_140(2147483647)) {
+      } else if (jj_2_141(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10670,11 +10724,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSANY);
-      if (jj_2_141(3)) {
+      if (jj_2_142(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_142(2147483647)) {
+      } else if (jj_2_143(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10770,7 +10824,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.expression = Expression();
       jj_consume_token(MATCHES);
-      if (jj_2_143(2147483647)) {
+      if (jj_2_144(2147483647)) {
         jjtn000.rightExpression = Expression();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -10876,6 +10930,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -10958,7 +11014,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           lastItem = new OOrderByItem();
           jjtn000.items.add(lastItem);
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -10995,6 +11051,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -11089,7 +11147,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 270:
+            case 272:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11171,6 +11229,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -11265,7 +11325,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 270:
+            case 272:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11359,6 +11419,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -11441,7 +11503,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:
+          case 272:
             lastItem = new OOrderByItem();
             jjtn000.items.add(lastItem);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11478,6 +11540,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ON:
               case OFF:
               case TRUNCATE:
+              case COMPACT:
+              case THROTTLE:
               case FIND:
               case REFERENCES:
               case EXTENDS:
@@ -11572,7 +11636,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 270:
+              case 272:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -11654,6 +11718,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ON:
               case OFF:
               case TRUNCATE:
+              case COMPACT:
+              case THROTTLE:
               case FIND:
               case REFERENCES:
               case EXTENDS:
@@ -11748,7 +11814,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 270:
+              case 272:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -12351,6 +12417,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -12446,7 +12514,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           lastExpression = Expression();
           jjtn000.expressions.add(lastExpression);
           label_35:
@@ -12550,6 +12618,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -12720,6 +12790,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -12916,7 +12988,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_144(2147483647)) {
+      if (jj_2_145(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {;
       }
@@ -12999,6 +13071,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -13116,6 +13190,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -13263,6 +13339,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ON:
               case OFF:
               case TRUNCATE:
+              case COMPACT:
+              case THROTTLE:
               case FIND:
               case REFERENCES:
               case EXTENDS:
@@ -13428,13 +13506,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jj_la1[265] = jj_gen;
             break label_39;
         }
-        if (jj_2_145(3)) {
+        if (jj_2_146(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_146(3)) {
-          nextItem = MultiMatchPathItemArrows();
         } else if (jj_2_147(3)) {
+          nextItem = MultiMatchPathItemArrows();
+        } else if (jj_2_148(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_148(2147483647)) {
+        } else if (jj_2_149(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -13443,7 +13521,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             default:
               jj_la1[266] = jj_gen;
-              if (jj_2_149(2147483647)) {
+              if (jj_2_150(2147483647)) {
                 nextItem = BothPathItem();
               } else {
                 switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -13663,7 +13741,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.items.add(nextItem);
       label_40:
       while (true) {
-        if (jj_2_150(2147483647)) {;
+        if (jj_2_151(2147483647)) {;
         } else {
           break label_40;
         }
@@ -13727,13 +13805,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LPAREN);
       label_41:
       while (true) {
-        if (jj_2_151(2147483647)) {
+        if (jj_2_152(2147483647)) {
           nextItem = OutPathItemOpt();
           jjtn000.items.add(nextItem);
-        } else if (jj_2_152(2147483647)) {
+        } else if (jj_2_153(2147483647)) {
           nextItem = InPathItemOpt();
           jjtn000.items.add(nextItem);
-        } else if (jj_2_153(2147483647)) {
+        } else if (jj_2_154(2147483647)) {
           nextItem = BothPathItemOpt();
           jjtn000.items.add(nextItem);
         } else {
@@ -13935,6 +14013,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -14185,6 +14265,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -14373,6 +14455,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -14559,6 +14643,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -14745,6 +14831,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -14940,6 +15028,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -15133,6 +15223,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -15425,6 +15517,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -15558,6 +15652,184 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
+  public final OCompactClusterStatement CompactClusterStatement() throws ParseException {
+    /*@bgen(jjtree) CompactClusterStatement */
+    OCompactClusterStatement jjtn000 = new OCompactClusterStatement(JJTCOMPACTCLUSTERSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(COMPACT);
+      jj_consume_token(CLUSTER);
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case TO:
+        case VALUE:
+        case VALUES:
+        case SET:
+        case ADD:
+        case PUT:
+        case MERGE:
+        case CONTENT:
+        case REMOVE:
+        case ORDER:
+        case GROUP:
+        case OFFSET:
+        case RECORD:
+        case CACHE:
+        case CYCLE:
+        case NOLIMIT:
+        case NOCYCLE:
+        case LUCENE:
+        case NEAR:
+        case WITHIN:
+        case MINDEPTH:
+        case CLASS:
+        case SUPERCLASS:
+        case CLASSES:
+        case SUPERCLASSES:
+        case VIEW:
+        case UPDATABLE:
+        case EXCEPTION:
+        case PROFILE:
+        case STORAGE:
+        case ON:
+        case OFF:
+        case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
+        case FIND:
+        case REFERENCES:
+        case EXTENDS:
+        case CLUSTERS:
+        case ABSTRACT:
+        case ALTER:
+        case NAME:
+        case SHORTNAME:
+        case OVERSIZE:
+        case STRICTMODE:
+        case ADDCLUSTER:
+        case REMOVECLUSTER:
+        case CUSTOM:
+        case CLUSTERSELECTION:
+        case DESCRIPTION:
+        case ENCRYPTION:
+        case DROP:
+        case PROPERTY:
+        case FORCE:
+        case METADATA:
+        case INDEX:
+        case COLLATE:
+        case ENGINE:
+        case REBUILD:
+        case ID:
+        case DATABASE:
+        case OPTIMIZE:
+        case LINK:
+        case TYPE:
+        case INVERSE:
+        case EXPLAIN:
+        case GRANT:
+        case REVOKE:
+        case READ:
+        case EXECUTE:
+        case ALL:
+        case NONE:
+        case FUNCTION:
+        case PARAMETERS:
+        case IDEMPOTENT:
+        case LANGUAGE:
+        case BEGIN:
+        case COMMIT:
+        case ROLLBACK:
+        case IF:
+        case ELSE:
+        case CONTINUE:
+        case FAIL:
+        case ISOLATION:
+        case SLEEP:
+        case CONSOLE:
+        case BLOB:
+        case SHARED:
+        case DEFAULT_:
+        case SEQUENCE:
+        case START:
+        case OPTIONAL:
+        case COUNT:
+        case HA:
+        case STATUS:
+        case SERVER:
+        case SYNC:
+        case EXISTS:
+        case MOVE:
+        case DEPTH_ALIAS:
+        case PATH_ALIAS:
+        case IDENTIFIED:
+        case ROLE:
+        case USER:
+        case RID:
+        case SECURITY:
+        case POLICY:
+        case DEFAULTCLUSTER:
+        case SYSTEM:
+        case IN:
+        case KEY:
+        case IDENTIFIER:
+        case QUOTED_IDENTIFIER:
+          jjtn000.clusterName = Identifier();
+          break;
+        case INTEGER_LITERAL:
+        case MINUS:
+          jjtn000.clusterNumber = Integer();
+          break;
+        default:
+          jj_la1[300] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+      }
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case THROTTLE:
+          jj_consume_token(THROTTLE);
+          jjtn000.throttle = Integer();
+          break;
+        default:
+          jj_la1[301] = jj_gen;
+          ;
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   public final OTruncateRecordStatement TruncateRecordStatement() throws ParseException {
     /*@bgen(jjtree) TruncateRecordStatement */
     OTruncateRecordStatement jjtn000 = new OTruncateRecordStatement(JJTTRUNCATERECORDSTATEMENT);
@@ -15572,7 +15844,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 270:
+        case 272:
           jjtn000.record = Rid();
           break;
         case LBRACKET:
@@ -15582,7 +15854,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 270:
+            case 272:
               lastRecord = Rid();
               jjtn000.records.add(lastRecord);
               label_43:
@@ -15591,7 +15863,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   case COMMA:;
                     break;
                   default:
-                    jj_la1[300] = jj_gen;
+                    jj_la1[302] = jj_gen;
                     break label_43;
                 }
                 jj_consume_token(COMMA);
@@ -15600,13 +15872,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               }
               break;
             default:
-              jj_la1[301] = jj_gen;
+              jj_la1[303] = jj_gen;
               ;
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[302] = jj_gen;
+          jj_la1[304] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -15659,7 +15931,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 270:
+        case 272:
           jjtn000.rid = Rid();
           break;
         case LPAREN:
@@ -15668,7 +15940,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[303] = jj_gen;
+          jj_la1[305] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -15710,6 +15982,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -15795,7 +16069,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               lastTarget = Cluster();
               break;
             default:
-              jj_la1[304] = jj_gen;
+              jj_la1[306] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -15806,7 +16080,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[305] = jj_gen;
+                jj_la1[307] = jj_gen;
                 break label_44;
             }
             jj_consume_token(COMMA);
@@ -15844,6 +16118,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ON:
               case OFF:
               case TRUNCATE:
+              case COMPACT:
+              case THROTTLE:
               case FIND:
               case REFERENCES:
               case EXTENDS:
@@ -15929,7 +16205,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 lastTarget = Cluster();
                 break;
               default:
-                jj_la1[306] = jj_gen;
+                jj_la1[308] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -15938,7 +16214,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[307] = jj_gen;
+          jj_la1[309] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -15996,7 +16272,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[308] = jj_gen;
+          jj_la1[310] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16011,7 +16287,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[309] = jj_gen;
+                jj_la1[311] = jj_gen;
                 break label_45;
             }
             jj_consume_token(COMMA);
@@ -16020,7 +16296,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           break;
         default:
-          jj_la1[310] = jj_gen;
+          jj_la1[312] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16035,7 +16311,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[311] = jj_gen;
+                jj_la1[313] = jj_gen;
                 break label_46;
             }
             jj_consume_token(COMMA);
@@ -16044,7 +16320,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           break;
         default:
-          jj_la1[312] = jj_gen;
+          jj_la1[314] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16053,7 +16329,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.totalClusterNo = Integer();
           break;
         default:
-          jj_la1[313] = jj_gen;
+          jj_la1[315] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16062,7 +16338,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.abstractClass = true;
           break;
         default:
-          jj_la1[314] = jj_gen;
+          jj_la1[316] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16118,7 +16394,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[315] = jj_gen;
+          jj_la1[317] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -16131,7 +16407,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.metadata = Json();
           break;
         default:
-          jj_la1[316] = jj_gen;
+          jj_la1[318] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16228,6 +16504,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -16312,7 +16590,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(NULL);
               break;
             default:
-              jj_la1[317] = jj_gen;
+              jj_la1[319] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16334,13 +16612,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.remove = true;
                   break;
                 default:
-                  jj_la1[318] = jj_gen;
+                  jj_la1[320] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[319] = jj_gen;
+              jj_la1[321] = jj_gen;
               ;
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16377,6 +16655,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -16462,7 +16742,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.identifierValue = null;
               break;
             default:
-              jj_la1[320] = jj_gen;
+              jj_la1[322] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16506,6 +16786,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -16592,7 +16874,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   case COMMA:;
                     break;
                   default:
-                    jj_la1[321] = jj_gen;
+                    jj_la1[323] = jj_gen;
                     break label_47;
                 }
                 jj_consume_token(COMMA);
@@ -16605,7 +16887,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.identifierListValue = null;
               break;
             default:
-              jj_la1[322] = jj_gen;
+              jj_la1[324] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16630,7 +16912,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.booleanValue = false;
               break;
             default:
-              jj_la1[323] = jj_gen;
+              jj_la1[325] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16673,6 +16955,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -16758,7 +17042,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.numberValue = Integer();
               break;
             default:
-              jj_la1[324] = jj_gen;
+              jj_la1[326] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16801,6 +17085,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -16886,7 +17172,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.numberValue = Integer();
               break;
             default:
-              jj_la1[325] = jj_gen;
+              jj_la1[327] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16913,7 +17199,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.booleanValue = false;
               break;
             default:
-              jj_la1[326] = jj_gen;
+              jj_la1[328] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16956,6 +17242,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -17036,8 +17324,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case QUOTED_IDENTIFIER:
               jjtn000.identifierValue = Identifier();
               break;
-            case 272:
-              jj_consume_token(272);
+            case 274:
+              jj_consume_token(274);
               jjtn000.customString = "round-robin";
               break;
             case RID_STRING:
@@ -17047,7 +17335,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.customString.substring(1, jjtn000.customString.length() - 1);
               break;
             default:
-              jj_la1[327] = jj_gen;
+              jj_la1[329] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17090,6 +17378,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -17174,7 +17464,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(NULL);
               break;
             default:
-              jj_la1[328] = jj_gen;
+              jj_la1[330] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17217,6 +17507,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -17301,7 +17593,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(NULL);
               break;
             default:
-              jj_la1[329] = jj_gen;
+              jj_la1[331] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17346,6 +17638,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -17427,13 +17721,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.defaultClusterName = Identifier();
               break;
             default:
-              jj_la1[330] = jj_gen;
+              jj_la1[332] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[331] = jj_gen;
+          jj_la1[333] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -17443,7 +17737,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.unsafe = true;
           break;
         default:
-          jj_la1[332] = jj_gen;
+          jj_la1[334] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17498,7 +17792,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[333] = jj_gen;
+          jj_la1[335] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -17507,7 +17801,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.unsafe = true;
           break;
         default:
-          jj_la1[334] = jj_gen;
+          jj_la1[336] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17562,7 +17856,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[335] = jj_gen;
+          jj_la1[337] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17631,7 +17925,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_154(3)) {
+      if (jj_2_155(3)) {
         IfNotExists();
         jjtn000.ifNotExists = true;
       } else {;
@@ -17671,6 +17965,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -17752,7 +18048,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.linkedType = Identifier();
           break;
         default:
-          jj_la1[336] = jj_gen;
+          jj_la1[338] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -17766,7 +18062,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[337] = jj_gen;
+                jj_la1[339] = jj_gen;
                 break label_48;
             }
             jj_consume_token(COMMA);
@@ -17776,7 +18072,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[338] = jj_gen;
+          jj_la1[340] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -17785,7 +18081,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.unsafe = true;
           break;
         default:
-          jj_la1[339] = jj_gen;
+          jj_la1[341] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17884,7 +18180,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_155(3)) {
+      if (jj_2_156(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -17924,6 +18220,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -18006,7 +18304,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.settingValue = Expression();
             break;
           default:
-            jj_la1[340] = jj_gen;
+            jj_la1[342] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -18065,7 +18363,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[341] = jj_gen;
+          jj_la1[343] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18074,7 +18372,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.force = true;
           break;
         default:
-          jj_la1[342] = jj_gen;
+          jj_la1[344] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18125,7 +18423,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_157(4)) {
+      if (jj_2_158(4)) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case IF:
             jj_consume_token(IF);
@@ -18134,7 +18432,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.ifNotExists = true;
             break;
           default:
-            jj_la1[343] = jj_gen;
+            jj_la1[345] = jj_gen;
             ;
         }
         jj_consume_token(ON);
@@ -18174,6 +18472,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -18264,7 +18564,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.propertyList.add(lastProperty);
             break;
           default:
-            jj_la1[344] = jj_gen;
+            jj_la1[346] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -18281,13 +18581,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 lastProperty.byValue = true;
                 break;
               default:
-                jj_la1[345] = jj_gen;
+                jj_la1[347] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           default:
-            jj_la1[346] = jj_gen;
+            jj_la1[348] = jj_gen;
             ;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18296,7 +18596,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[347] = jj_gen;
+            jj_la1[349] = jj_gen;
             ;
         }
         label_49:
@@ -18305,7 +18605,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COMMA:;
               break;
             default:
-              jj_la1[348] = jj_gen;
+              jj_la1[350] = jj_gen;
               break label_49;
           }
           jj_consume_token(COMMA);
@@ -18343,6 +18643,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -18433,7 +18735,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.propertyList.add(lastProperty);
               break;
             default:
-              jj_la1[349] = jj_gen;
+              jj_la1[351] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -18450,13 +18752,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   lastProperty.byValue = true;
                   break;
                 default:
-                  jj_la1[350] = jj_gen;
+                  jj_la1[352] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[351] = jj_gen;
+              jj_la1[353] = jj_gen;
               ;
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18465,7 +18767,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               lastProperty.collate = Identifier();
               break;
             default:
-              jj_la1[352] = jj_gen;
+              jj_la1[354] = jj_gen;
               ;
           }
         }
@@ -18506,6 +18808,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -18584,7 +18888,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_156(3)) {
+            if (jj_2_157(3)) {
               jj_consume_token(IF);
               jj_consume_token(NOT);
               jj_consume_token(EXISTS);
@@ -18625,6 +18929,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ON:
                 case OFF:
                 case TRUNCATE:
+                case COMPACT:
+                case THROTTLE:
                 case FIND:
                 case REFERENCES:
                 case EXTENDS:
@@ -18706,19 +19012,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.type = Identifier();
                   break;
                 default:
-                  jj_la1[353] = jj_gen;
+                  jj_la1[355] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[354] = jj_gen;
+            jj_la1[356] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
-      if (jj_2_160(2)) {
+      if (jj_2_161(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18755,6 +19061,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -18833,7 +19141,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_158(2)) {
+            if (jj_2_159(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -18871,6 +19179,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ON:
                 case OFF:
                 case TRUNCATE:
+                case COMPACT:
+                case THROTTLE:
                 case FIND:
                 case REFERENCES:
                 case EXTENDS:
@@ -18957,7 +19267,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[355] = jj_gen;
+                        jj_la1[357] = jj_gen;
                         break label_50;
                     }
                     jj_consume_token(COMMA);
@@ -18970,19 +19280,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[356] = jj_gen;
+                      jj_la1[358] = jj_gen;
                       ;
                   }
                   break;
                 default:
-                  jj_la1[357] = jj_gen;
+                  jj_la1[359] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[358] = jj_gen;
+            jj_la1[360] = jj_gen;
             ;
         }
       } else {
@@ -19020,6 +19330,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -19098,7 +19410,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_159(2)) {
+            if (jj_2_160(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -19136,6 +19448,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ON:
                 case OFF:
                 case TRUNCATE:
+                case COMPACT:
+                case THROTTLE:
                 case FIND:
                 case REFERENCES:
                 case EXTENDS:
@@ -19222,7 +19536,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[359] = jj_gen;
+                        jj_la1[361] = jj_gen;
                         break label_51;
                     }
                     jj_consume_token(COMMA);
@@ -19235,19 +19549,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[360] = jj_gen;
+                      jj_la1[362] = jj_gen;
                       ;
                   }
                   break;
                 default:
-                  jj_la1[361] = jj_gen;
+                  jj_la1[363] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[362] = jj_gen;
+            jj_la1[364] = jj_gen;
             ;
         }
       }
@@ -19329,6 +19643,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -19407,7 +19723,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 273:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19415,7 +19731,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.all = true;
           break;
         default:
-          jj_la1[363] = jj_gen;
+          jj_la1[365] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19497,6 +19813,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -19575,7 +19893,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 273:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19583,7 +19901,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.all = true;
           break;
         default:
-          jj_la1[364] = jj_gen;
+          jj_la1[366] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19594,7 +19912,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[365] = jj_gen;
+          jj_la1[367] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19650,7 +19968,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.blob = true;
           break;
         default:
-          jj_la1[366] = jj_gen;
+          jj_la1[368] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19662,250 +19980,252 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(EXISTS);
           jjtn000.ifNotExists = true;
           break;
-        default:
-          jj_la1[367] = jj_gen;
-          ;
-      }
-      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case ID:
-          jj_consume_token(ID);
-          jjtn000.id = Integer();
-          break;
-        default:
-          jj_la1[368] = jj_gen;
-          ;
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {
-        if (true) return jjtn000;
-      }
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {
-          if (true) throw (RuntimeException) jjte000;
-        }
-      }
-      if (jjte000 instanceof ParseException) {
-        {
-          if (true) throw (ParseException) jjte000;
-        }
-      }
-      {
-        if (true) throw (Error) jjte000;
-      }
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  public final OAlterClusterStatement AlterClusterStatement() throws ParseException {
-    /*@bgen(jjtree) AlterClusterStatement */
-    OAlterClusterStatement jjtn000 = new OAlterClusterStatement(JJTALTERCLUSTERSTATEMENT);
-    boolean jjtc000 = true;
-    jjtree.openNodeScope(jjtn000);
-    jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jj_consume_token(ALTER);
-      jj_consume_token(CLUSTER);
-      jjtn000.name = Identifier();
-      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case STAR:
-          jj_consume_token(STAR);
-          jjtn000.starred = true;
-          break;
         default:
           jj_la1[369] = jj_gen;
           ;
       }
-      jjtn000.attributeName = Identifier();
-      jjtn000.attributeValue = Expression();
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {
-        if (true) return jjtn000;
-      }
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {
-          if (true) throw (RuntimeException) jjte000;
-        }
-      }
-      if (jjte000 instanceof ParseException) {
-        {
-          if (true) throw (ParseException) jjte000;
-        }
-      }
-      {
-        if (true) throw (Error) jjte000;
-      }
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  public final ODropClusterStatement DropClusterStatement() throws ParseException {
-    /*@bgen(jjtree) DropClusterStatement */
-    ODropClusterStatement jjtn000 = new ODropClusterStatement(JJTDROPCLUSTERSTATEMENT);
-    boolean jjtc000 = true;
-    jjtree.openNodeScope(jjtn000);
-    jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jj_consume_token(DROP);
-      jj_consume_token(CLUSTER);
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case TO:
-        case VALUE:
-        case VALUES:
-        case SET:
-        case ADD:
-        case PUT:
-        case MERGE:
-        case CONTENT:
-        case REMOVE:
-        case ORDER:
-        case GROUP:
-        case OFFSET:
-        case RECORD:
-        case CACHE:
-        case CYCLE:
-        case NOLIMIT:
-        case NOCYCLE:
-        case LUCENE:
-        case NEAR:
-        case WITHIN:
-        case MINDEPTH:
-        case CLASS:
-        case SUPERCLASS:
-        case CLASSES:
-        case SUPERCLASSES:
-        case VIEW:
-        case UPDATABLE:
-        case EXCEPTION:
-        case PROFILE:
-        case STORAGE:
-        case ON:
-        case OFF:
-        case TRUNCATE:
-        case FIND:
-        case REFERENCES:
-        case EXTENDS:
-        case CLUSTERS:
-        case ABSTRACT:
-        case ALTER:
-        case NAME:
-        case SHORTNAME:
-        case OVERSIZE:
-        case STRICTMODE:
-        case ADDCLUSTER:
-        case REMOVECLUSTER:
-        case CUSTOM:
-        case CLUSTERSELECTION:
-        case DESCRIPTION:
-        case ENCRYPTION:
-        case DROP:
-        case PROPERTY:
-        case FORCE:
-        case METADATA:
-        case INDEX:
-        case COLLATE:
-        case ENGINE:
-        case REBUILD:
         case ID:
-        case DATABASE:
-        case OPTIMIZE:
-        case LINK:
-        case TYPE:
-        case INVERSE:
-        case EXPLAIN:
-        case GRANT:
-        case REVOKE:
-        case READ:
-        case EXECUTE:
-        case ALL:
-        case NONE:
-        case FUNCTION:
-        case PARAMETERS:
-        case IDEMPOTENT:
-        case LANGUAGE:
-        case BEGIN:
-        case COMMIT:
-        case ROLLBACK:
-        case IF:
-        case ELSE:
-        case CONTINUE:
-        case FAIL:
-        case ISOLATION:
-        case SLEEP:
-        case CONSOLE:
-        case BLOB:
-        case SHARED:
-        case DEFAULT_:
-        case SEQUENCE:
-        case START:
-        case OPTIONAL:
-        case COUNT:
-        case HA:
-        case STATUS:
-        case SERVER:
-        case SYNC:
-        case EXISTS:
-        case MOVE:
-        case DEPTH_ALIAS:
-        case PATH_ALIAS:
-        case IDENTIFIED:
-        case ROLE:
-        case USER:
-        case RID:
-        case SECURITY:
-        case POLICY:
-        case DEFAULTCLUSTER:
-        case SYSTEM:
-        case IN:
-        case KEY:
-        case IDENTIFIER:
-        case QUOTED_IDENTIFIER:
-          jjtn000.name = Identifier();
-          break;
-        case INTEGER_LITERAL:
-        case MINUS:
+          jj_consume_token(ID);
           jjtn000.id = Integer();
           break;
         default:
           jj_la1[370] = jj_gen;
-          jj_consume_token(-1);
-          throw new ParseException();
-      }
-      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case IF:
-          jj_consume_token(IF);
-          jj_consume_token(EXISTS);
-          jjtn000.ifExists = true;
-          break;
-        default:
-          jj_la1[371] = jj_gen;
+          ;
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  public final OAlterClusterStatement AlterClusterStatement() throws ParseException {
+    /*@bgen(jjtree) AlterClusterStatement */
+    OAlterClusterStatement jjtn000 = new OAlterClusterStatement(JJTALTERCLUSTERSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ALTER);
+      jj_consume_token(CLUSTER);
+      jjtn000.name = Identifier();
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case STAR:
+          jj_consume_token(STAR);
+          jjtn000.starred = true;
+          break;
+        default:
+          jj_la1[371] = jj_gen;
+          ;
+      }
+      jjtn000.attributeName = Identifier();
+      jjtn000.attributeValue = Expression();
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  public final ODropClusterStatement DropClusterStatement() throws ParseException {
+    /*@bgen(jjtree) DropClusterStatement */
+    ODropClusterStatement jjtn000 = new ODropClusterStatement(JJTDROPCLUSTERSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(DROP);
+      jj_consume_token(CLUSTER);
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case TO:
+        case VALUE:
+        case VALUES:
+        case SET:
+        case ADD:
+        case PUT:
+        case MERGE:
+        case CONTENT:
+        case REMOVE:
+        case ORDER:
+        case GROUP:
+        case OFFSET:
+        case RECORD:
+        case CACHE:
+        case CYCLE:
+        case NOLIMIT:
+        case NOCYCLE:
+        case LUCENE:
+        case NEAR:
+        case WITHIN:
+        case MINDEPTH:
+        case CLASS:
+        case SUPERCLASS:
+        case CLASSES:
+        case SUPERCLASSES:
+        case VIEW:
+        case UPDATABLE:
+        case EXCEPTION:
+        case PROFILE:
+        case STORAGE:
+        case ON:
+        case OFF:
+        case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
+        case FIND:
+        case REFERENCES:
+        case EXTENDS:
+        case CLUSTERS:
+        case ABSTRACT:
+        case ALTER:
+        case NAME:
+        case SHORTNAME:
+        case OVERSIZE:
+        case STRICTMODE:
+        case ADDCLUSTER:
+        case REMOVECLUSTER:
+        case CUSTOM:
+        case CLUSTERSELECTION:
+        case DESCRIPTION:
+        case ENCRYPTION:
+        case DROP:
+        case PROPERTY:
+        case FORCE:
+        case METADATA:
+        case INDEX:
+        case COLLATE:
+        case ENGINE:
+        case REBUILD:
+        case ID:
+        case DATABASE:
+        case OPTIMIZE:
+        case LINK:
+        case TYPE:
+        case INVERSE:
+        case EXPLAIN:
+        case GRANT:
+        case REVOKE:
+        case READ:
+        case EXECUTE:
+        case ALL:
+        case NONE:
+        case FUNCTION:
+        case PARAMETERS:
+        case IDEMPOTENT:
+        case LANGUAGE:
+        case BEGIN:
+        case COMMIT:
+        case ROLLBACK:
+        case IF:
+        case ELSE:
+        case CONTINUE:
+        case FAIL:
+        case ISOLATION:
+        case SLEEP:
+        case CONSOLE:
+        case BLOB:
+        case SHARED:
+        case DEFAULT_:
+        case SEQUENCE:
+        case START:
+        case OPTIONAL:
+        case COUNT:
+        case HA:
+        case STATUS:
+        case SERVER:
+        case SYNC:
+        case EXISTS:
+        case MOVE:
+        case DEPTH_ALIAS:
+        case PATH_ALIAS:
+        case IDENTIFIED:
+        case ROLE:
+        case USER:
+        case RID:
+        case SECURITY:
+        case POLICY:
+        case DEFAULTCLUSTER:
+        case SYSTEM:
+        case IN:
+        case KEY:
+        case IDENTIFIER:
+        case QUOTED_IDENTIFIER:
+          jjtn000.name = Identifier();
+          break;
+        case INTEGER_LITERAL:
+        case MINUS:
+          jjtn000.id = Integer();
+          break;
+        default:
+          jj_la1[372] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+      }
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case IF:
+          jj_consume_token(IF);
+          jj_consume_token(EXISTS);
+          jjtn000.ifExists = true;
+          break;
+        default:
+          jj_la1[373] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19952,7 +20272,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_161(3)) {
+      if (jj_2_162(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -19992,6 +20312,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -20074,7 +20396,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.settingValue = Expression();
             break;
           default:
-            jj_la1[372] = jj_gen;
+            jj_la1[374] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -20175,7 +20497,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case MINUS:;
             break;
           default:
-            jj_la1[373] = jj_gen;
+            jj_la1[375] = jj_gen;
             break label_52;
         }
         lastOption = CommandLineOption();
@@ -20265,6 +20587,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -20349,7 +20673,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.sourceRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[374] = jj_gen;
+          jj_la1[376] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20390,6 +20714,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -20474,7 +20800,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.destRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[375] = jj_gen;
+          jj_la1[377] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20484,7 +20810,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.inverse = true;
           break;
         default:
-          jj_la1[376] = jj_gen;
+          jj_la1[378] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20647,7 +20973,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = "NONE";
           break;
         default:
-          jj_la1[377] = jj_gen;
+          jj_la1[379] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20689,7 +21015,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[378] = jj_gen;
+          jj_la1[380] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20755,7 +21081,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[379] = jj_gen;
+          jj_la1[381] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20825,7 +21151,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[380] = jj_gen;
+                jj_la1[382] = jj_gen;
                 break label_53;
             }
             jj_consume_token(COMMA);
@@ -20835,7 +21161,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[381] = jj_gen;
+          jj_la1[383] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -20851,13 +21177,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.idempotent = false;
               break;
             default:
-              jj_la1[382] = jj_gen;
+              jj_la1[384] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[383] = jj_gen;
+          jj_la1[385] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -20866,7 +21192,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.language = Identifier();
           break;
         default:
-          jj_la1[384] = jj_gen;
+          jj_la1[386] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20954,6 +21280,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -21043,7 +21371,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[385] = jj_gen;
+          jj_la1[387] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21084,6 +21412,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -21201,6 +21531,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ON:
                 case OFF:
                 case TRUNCATE:
+                case COMPACT:
+                case THROTTLE:
                 case FIND:
                 case REFERENCES:
                 case EXTENDS:
@@ -21287,7 +21619,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[386] = jj_gen;
+                        jj_la1[388] = jj_gen;
                         break label_54;
                     }
                     jj_consume_token(COMMA);
@@ -21296,19 +21628,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[387] = jj_gen;
+                  jj_la1[389] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[388] = jj_gen;
+              jj_la1[390] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[389] = jj_gen;
+          jj_la1[391] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21394,6 +21726,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -21479,7 +21813,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordString = String();
           break;
         default:
-          jj_la1[390] = jj_gen;
+          jj_la1[392] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21520,6 +21854,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ON:
             case OFF:
             case TRUNCATE:
+            case COMPACT:
+            case THROTTLE:
             case FIND:
             case REFERENCES:
             case EXTENDS:
@@ -21637,6 +21973,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ON:
                 case OFF:
                 case TRUNCATE:
+                case COMPACT:
+                case THROTTLE:
                 case FIND:
                 case REFERENCES:
                 case EXTENDS:
@@ -21723,7 +22061,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[391] = jj_gen;
+                        jj_la1[393] = jj_gen;
                         break label_55;
                     }
                     jj_consume_token(COMMA);
@@ -21732,19 +22070,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[392] = jj_gen;
+                  jj_la1[394] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[393] = jj_gen;
+              jj_la1[395] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[394] = jj_gen;
+          jj_la1[396] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21867,7 +22205,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     null));
             break;
           default:
-            jj_la1[395] = jj_gen;
+            jj_la1[397] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -21876,7 +22214,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case REMOVE:;
             break;
           default:
-            jj_la1[396] = jj_gen;
+            jj_la1[398] = jj_gen;
             break label_56;
         }
       }
@@ -21955,7 +22293,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     null));
             break;
           default:
-            jj_la1[397] = jj_gen;
+            jj_la1[399] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -21964,7 +22302,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case REMOVE:;
             break;
           default:
-            jj_la1[398] = jj_gen;
+            jj_la1[400] = jj_gen;
             break label_57;
         }
       }
@@ -22013,9 +22351,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_162(2147483647)) {
+      if (jj_2_163(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_163(2147483647)) {
+      } else if (jj_2_164(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -22070,7 +22408,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.isolation = Identifier();
           break;
         default:
-          jj_la1[399] = jj_gen;
+          jj_la1[401] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22145,6 +22483,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case LET:
                       case PROFILE:
                       case TRUNCATE:
+                      case COMPACT:
                       case FIND:
                       case ALTER:
                       case DROP:
@@ -22163,7 +22502,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case MOVE:;
                         break;
                       default:
-                        jj_la1[400] = jj_gen;
+                        jj_la1[402] = jj_gen;
                         break label_58;
                     }
                   }
@@ -22181,13 +22520,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           jjtn000.elseFail = true;
                           break;
                         default:
-                          jj_la1[401] = jj_gen;
+                          jj_la1[403] = jj_gen;
                           jj_consume_token(-1);
                           throw new ParseException();
                       }
                       break;
                     default:
-                      jj_la1[402] = jj_gen;
+                      jj_la1[404] = jj_gen;
                       ;
                   }
                   break;
@@ -22203,24 +22542,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.elseFail = true;
                       break;
                     default:
-                      jj_la1[403] = jj_gen;
+                      jj_la1[405] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 default:
-                  jj_la1[404] = jj_gen;
+                  jj_la1[406] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[405] = jj_gen;
+              jj_la1[407] = jj_gen;
               ;
           }
           break;
         default:
-          jj_la1[406] = jj_gen;
+          jj_la1[408] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22324,6 +22663,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -22419,11 +22760,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 270:
+        case 272:
           jjtn000.expression = Expression();
           break;
         default:
-          jj_la1[407] = jj_gen;
+          jj_la1[409] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22521,6 +22862,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -22618,13 +22961,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:;
+          case 272:;
             break;
           default:
-            jj_la1[408] = jj_gen;
+            jj_la1[410] = jj_gen;
             break label_59;
         }
-        if (jj_2_164(2147483647)) {
+        if (jj_2_165(2147483647)) {
           last = StatementSemicolon();
           jjtn000.statements.add(last);
         } else {
@@ -22645,7 +22988,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[409] = jj_gen;
+              jj_la1[411] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -22796,7 +23139,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[410] = jj_gen;
+          jj_la1[412] = jj_gen;
           ;
       }
       jj_consume_token(TYPE);
@@ -22822,7 +23165,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case START:;
             break;
           default:
-            jj_la1[411] = jj_gen;
+            jj_la1[413] = jj_gen;
             break label_60;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -22850,7 +23193,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[412] = jj_gen;
+                jj_la1[414] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -22868,7 +23211,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.positive = false;
             break;
           default:
-            jj_la1[413] = jj_gen;
+            jj_la1[415] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -22932,7 +23275,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case START:;
             break;
           default:
-            jj_la1[414] = jj_gen;
+            jj_la1[416] = jj_gen;
             break label_61;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -22960,7 +23303,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[415] = jj_gen;
+                jj_la1[417] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -22982,7 +23325,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.turnLimitOff = true;
             break;
           default:
-            jj_la1[416] = jj_gen;
+            jj_la1[418] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23040,7 +23383,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[417] = jj_gen;
+          jj_la1[419] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -23091,53 +23434,53 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       label_62:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 273:
-          case 274:
           case 275:
           case 276:
           case 277:
           case 278:
-          case 279:;
+          case 279:
+          case 280:
+          case 281:;
             break;
           default:
-            jj_la1[418] = jj_gen;
+            jj_la1[420] = jj_gen;
             break label_62;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 273:
-            token = jj_consume_token(273);
-            jjtn000.servers = true;
-            break;
-          case 274:
-            token = jj_consume_token(274);
-            jjtn000.db = true;
-            break;
           case 275:
             token = jj_consume_token(275);
-            jjtn000.latency = true;
+            jjtn000.servers = true;
             break;
           case 276:
             token = jj_consume_token(276);
-            jjtn000.messages = true;
+            jjtn000.db = true;
             break;
           case 277:
             token = jj_consume_token(277);
-            jjtn000.locks = true;
+            jjtn000.latency = true;
             break;
           case 278:
             token = jj_consume_token(278);
+            jjtn000.messages = true;
+            break;
+          case 279:
+            token = jj_consume_token(279);
+            jjtn000.locks = true;
+            break;
+          case 280:
+            token = jj_consume_token(280);
             jjtn000.servers = true;
             jjtn000.db = true;
             jjtn000.latency = true;
             jjtn000.messages = true;
             jjtn000.locks = true;
             break;
-          case 279:
-            token = jj_consume_token(279);
+          case 281:
+            token = jj_consume_token(281);
             jjtn000.outputText = true;
             break;
           default:
-            jj_la1[419] = jj_gen;
+            jj_la1[421] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23216,24 +23559,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       label_63:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 280:
-          case 281:;
+          case 282:
+          case 283:;
             break;
           default:
-            jj_la1[420] = jj_gen;
+            jj_la1[422] = jj_gen;
             break label_63;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 280:
-            jj_consume_token(280);
+          case 282:
+            jj_consume_token(282);
             jjtn000.force = true;
             break;
-          case 281:
-            jj_consume_token(281);
+          case 283:
+            jj_consume_token(283);
             jjtn000.full = true;
             break;
           default:
-            jj_la1[421] = jj_gen;
+            jj_la1[423] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23265,25 +23608,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 282:
-        case 283:
+        case 284:
+        case 285:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-            case 282:
-              jj_consume_token(282);
+            case 284:
+              jj_consume_token(284);
               jjtn000.modeFull = true;
               break;
-            case 283:
-              jj_consume_token(283);
+            case 285:
+              jj_consume_token(285);
               jjtn000.modeMerge = true;
               break;
             default:
-              jj_la1[422] = jj_gen;
+              jj_la1[424] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[423] = jj_gen;
+          jj_la1[425] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -23432,6 +23775,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -23529,13 +23874,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:;
+          case 272:;
             break;
           default:
-            jj_la1[424] = jj_gen;
+            jj_la1[426] = jj_gen;
             break label_64;
         }
-        if (jj_2_165(2147483647)) {
+        if (jj_2_166(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.statements.add(lastStatement);
         } else {
@@ -23556,7 +23901,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[425] = jj_gen;
+              jj_la1[427] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -23658,6 +24003,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ON:
           case OFF:
           case TRUNCATE:
+          case COMPACT:
+          case THROTTLE:
           case FIND:
           case REFERENCES:
           case EXTENDS:
@@ -23755,13 +24102,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 270:;
+          case 272:;
             break;
           default:
-            jj_la1[426] = jj_gen;
+            jj_la1[428] = jj_gen;
             break label_65;
         }
-        if (jj_2_166(2147483647)) {
+        if (jj_2_167(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.statements.add(lastStatement);
         } else {
@@ -23782,7 +24129,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[427] = jj_gen;
+              jj_la1[429] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -23869,6 +24216,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -24006,7 +24355,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.identifier = new OIdentifier(token.image);
           break;
         default:
-          jj_la1[428] = jj_gen;
+          jj_la1[430] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -24016,7 +24365,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.next = SecurityResourceSegment();
           break;
         default:
-          jj_la1[429] = jj_gen;
+          jj_la1[431] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24116,7 +24465,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(RPAREN);
               break;
             default:
-              jj_la1[430] = jj_gen;
+              jj_la1[432] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24126,7 +24475,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[431] = jj_gen;
+                jj_la1[433] = jj_gen;
                 break label_66;
             }
             jj_consume_token(COMMA);
@@ -24176,14 +24525,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[432] = jj_gen;
+                jj_la1[434] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[433] = jj_gen;
+          jj_la1[435] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24284,7 +24633,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[434] = jj_gen;
+                jj_la1[436] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -24294,7 +24643,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COMMA:;
                   break;
                 default:
-                  jj_la1[435] = jj_gen;
+                  jj_la1[437] = jj_gen;
                   break label_68;
               }
               jj_consume_token(COMMA);
@@ -24344,7 +24693,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jj_consume_token(RPAREN);
                   break;
                 default:
-                  jj_la1[436] = jj_gen;
+                  jj_la1[438] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -24380,7 +24729,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.removeExecute = true;
                 break;
               default:
-                jj_la1[437] = jj_gen;
+                jj_la1[439] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -24390,7 +24739,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COMMA:;
                   break;
                 default:
-                  jj_la1[438] = jj_gen;
+                  jj_la1[440] = jj_gen;
                   break label_69;
               }
               jj_consume_token(COMMA);
@@ -24422,14 +24771,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.removeExecute = true;
                   break;
                 default:
-                  jj_la1[439] = jj_gen;
+                  jj_la1[441] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[440] = jj_gen;
+            jj_la1[442] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -24438,7 +24787,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case REMOVE:;
             break;
           default:
-            jj_la1[441] = jj_gen;
+            jj_la1[443] = jj_gen;
             break label_67;
         }
       }
@@ -24496,7 +24845,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[442] = jj_gen;
+          jj_la1[444] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24504,7 +24853,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.config = Json();
           break;
         default:
-          jj_la1[443] = jj_gen;
+          jj_la1[445] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24585,6 +24934,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ON:
         case OFF:
         case TRUNCATE:
+        case COMPACT:
+        case THROTTLE:
         case FIND:
         case REFERENCES:
         case EXTENDS:
@@ -24670,7 +25021,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[444] = jj_gen;
+          jj_la1[446] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -24681,7 +25032,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[445] = jj_gen;
+          jj_la1[447] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -26711,167 +27062,157 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
   }
 
-  private boolean jj_3R_218() {
-    if (jj_3R_157()) return true;
-    if (jj_scan_token(INSTANCEOF)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_442()) {
-      jj_scanpos = xsp;
-      if (jj_3R_443()) {
-        jj_scanpos = xsp;
-        if (jj_3R_444()) return true;
-      }
+  private boolean jj_2_167(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_167();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(166, xla);
     }
-    return false;
   }
 
-  private boolean jj_3R_435() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3_129() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_213() {
-    if (jj_3R_157()) return true;
-    if (jj_3R_434()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_158()) return true;
+    if (jj_3R_435()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_129()) {
+    if (jj_3_130()) {
       jj_scanpos = xsp;
-      if (jj_3R_435()) return true;
+      if (jj_3R_436()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_157()) return true;
-    if (jj_3R_432()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_158()) return true;
+    if (jj_3R_433()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
+  private boolean jj_3R_558() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
+  private boolean jj_3R_385() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_557()) jj_scanpos = xsp;
-    if (jj_3R_429()) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_558()) jj_scanpos = xsp;
+    if (jj_3R_430()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_432()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_433()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_179() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_383()) {
+    if (jj_3R_384()) {
       jj_scanpos = xsp;
-      if (jj_3R_384()) return true;
+      if (jj_3R_385()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_828() {
+  private boolean jj_3R_832() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_827() {
+  private boolean jj_3R_831() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_679() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) {
+    if (jj_3R_831()) {
       jj_scanpos = xsp;
-      if (jj_3R_828()) return true;
+      if (jj_3R_832()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_434() {
+  private boolean jj_3R_435() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_691() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_690() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_689() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_688() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_686() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_685() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_682() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_681() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_680() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
+  private boolean jj_3R_598() {
+    if (jj_3R_691()) return true;
+    return false;
+  }
+
   private boolean jj_3R_597() {
     if (jj_3R_690()) return true;
     return false;
@@ -26887,13 +27228,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_687()) return true;
+  private boolean jj_3R_586() {
+    if (jj_3R_679()) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_678()) return true;
+  private boolean jj_3R_594() {
+    if (jj_3R_687()) return true;
     return false;
   }
 
@@ -26932,8 +27273,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_679()) return true;
+  private boolean jj_3_129() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
@@ -26942,39 +27283,34 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_127() {
-    if (jj_3R_217()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_432() {
+  private boolean jj_3R_433() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_585()) {
+    if (jj_3R_586()) {
       jj_scanpos = xsp;
-      if (jj_3R_586()) {
+      if (jj_3R_587()) {
         jj_scanpos = xsp;
-        if (jj_3R_587()) {
+        if (jj_3R_588()) {
           jj_scanpos = xsp;
-          if (jj_3R_588()) {
+          if (jj_3R_589()) {
             jj_scanpos = xsp;
-            if (jj_3R_589()) {
+            if (jj_3R_590()) {
               jj_scanpos = xsp;
-              if (jj_3R_590()) {
+              if (jj_3R_591()) {
                 jj_scanpos = xsp;
-                if (jj_3R_591()) {
+                if (jj_3R_592()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_592()) {
+                  if (jj_3R_593()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_593()) {
+                    if (jj_3R_594()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_594()) {
+                      if (jj_3R_595()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_595()) {
+                        if (jj_3R_596()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_596()) {
+                          if (jj_3R_597()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_597()) return true;
+                            if (jj_3R_598()) return true;
                           }
                         }
                       }
@@ -26990,38 +27326,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_126() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3_127() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
+  private boolean jj_3R_429() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3_124() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3_125() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
+  private boolean jj_3R_428() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_125() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3_126() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_218()) return true;
+    return false;
+  }
+
+  private boolean jj_3_124() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
@@ -27035,6 +27376,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_425() {
+    if (jj_3R_217()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_423() {
+    if (jj_3R_215()) return true;
+    return false;
+  }
+
   private boolean jj_3_121() {
     if (jj_3R_211()) return true;
     return false;
@@ -27050,18 +27401,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_120() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3_119() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3_120() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
@@ -27075,11 +27426,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_119() {
-    if (jj_3R_209()) return true;
-    return false;
-  }
-
   private boolean jj_3R_419() {
     if (jj_3R_211()) return true;
     return false;
@@ -27090,33 +27436,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_3R_210()) return true;
-    return false;
-  }
-
   private boolean jj_3_116() {
     if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3_115() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_417() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3_115() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3_114() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_418() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_208()) return true;
     return false;
   }
 
@@ -27135,52 +27476,47 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_412() {
+  private boolean jj_3_114() {
     if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3_113() {
-    if (jj_3R_203()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_202() {
+  private boolean jj_3R_203() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_412()) {
+    if (jj_3R_413()) {
       jj_scanpos = xsp;
-      if (jj_3R_413()) {
+      if (jj_3R_414()) {
         jj_scanpos = xsp;
-        if (jj_3R_414()) {
+        if (jj_3R_415()) {
           jj_scanpos = xsp;
-          if (jj_3R_415()) {
+          if (jj_3R_416()) {
             jj_scanpos = xsp;
-            if (jj_3R_416()) {
+            if (jj_3R_417()) {
               jj_scanpos = xsp;
-              if (jj_3R_417()) {
+              if (jj_3R_418()) {
                 jj_scanpos = xsp;
-                if (jj_3R_418()) {
+                if (jj_3R_419()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_419()) {
+                  if (jj_3R_420()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_420()) {
+                    if (jj_3R_421()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_421()) {
+                      if (jj_3R_422()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_422()) {
+                        if (jj_3R_423()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_423()) {
+                          if (jj_3R_424()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_424()) {
+                            if (jj_3R_425()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_425()) {
+                              if (jj_3R_426()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_426()) {
+                                if (jj_3R_427()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_427()) {
+                                  if (jj_3R_428()) {
                                     jj_scanpos = xsp;
-                                    if (jj_3R_428()) return true;
+                                    if (jj_3R_429()) return true;
                                   }
                                 }
                               }
@@ -27200,97 +27536,97 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_112() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3_113() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3_111() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3_112() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_204() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_110() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3_111() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_818() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_817() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_816() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_666() {
+  private boolean jj_3R_667() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_813()) {
+    if (jj_3R_817()) {
       jj_scanpos = xsp;
-      if (jj_3R_814()) return true;
+      if (jj_3R_818()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_811() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_815() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_666() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_811()) {
+    if (jj_3R_815()) {
       jj_scanpos = xsp;
-      if (jj_3R_812()) return true;
+      if (jj_3R_816()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_561() {
+  private boolean jj_3R_562() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_665()) {
+    if (jj_3R_666()) {
       jj_scanpos = xsp;
-      if (jj_3R_666()) return true;
+      if (jj_3R_667()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_562() {
+  private boolean jj_3R_563() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_561()) return true;
+    if (jj_3R_562()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
+  private boolean jj_3R_390() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_388()) return true;
+    if (jj_3R_389()) return true;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_3R_561()) return true;
+  private boolean jj_3R_389() {
+    if (jj_3R_562()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_562()) {
+      if (jj_3R_563()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27298,12 +27634,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_180() {
-    if (jj_3R_388()) return true;
+  private boolean jj_3R_181() {
+    if (jj_3R_389()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_389()) {
+      if (jj_3R_390()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27311,89 +27647,89 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_471() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_472() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
+  private boolean jj_3R_546() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
+  private boolean jj_3R_544() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
+  private boolean jj_3R_364() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_543()) {
+    if (jj_3R_544()) {
       jj_scanpos = xsp;
-      if (jj_3R_544()) {
+      if (jj_3R_545()) {
         jj_scanpos = xsp;
-        if (jj_3R_545()) return true;
+        if (jj_3R_546()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_363() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_542()) return true;
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_362()) {
+    if (jj_3R_363()) {
       jj_scanpos = xsp;
-      if (jj_3R_363()) return true;
+      if (jj_3R_364()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_809() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3R_656() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_805()) {
+    if (jj_3R_809()) {
       jj_scanpos = xsp;
-      if (jj_3R_806()) return true;
+      if (jj_3R_810()) return true;
     }
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_scan_token(271)) return true;
+  private boolean jj_3R_655() {
+    if (jj_scan_token(273)) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
+  private boolean jj_3R_543() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_654()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
+    if (jj_3R_655()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_655()) {
+      if (jj_3R_656()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27401,18 +27737,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1010() {
+  private boolean jj_3R_1014() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_911() {
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1010()) {
+      if (jj_3R_1014()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27420,182 +27756,182 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_757() {
+  private boolean jj_3R_761() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_760() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_907()) jj_scanpos = xsp;
+    if (jj_3R_911()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
+  private boolean jj_3_107() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3_106() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_368() {
+    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
+  private boolean jj_3R_367() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_106() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_170() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_366()) {
+    if (jj_3R_367()) {
       jj_scanpos = xsp;
-      if (jj_3R_367()) return true;
+      if (jj_3R_368()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_760() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_764() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_105() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_763() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_623() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_760()) jj_scanpos = xsp;
+    if (jj_3R_764()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_762() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3_109() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3_110() {
+    if (jj_3R_174()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_759()) jj_scanpos = xsp;
+    if (jj_3R_763()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3_108() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3_109() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
+  private boolean jj_3R_621() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_201()) return true;
+    if (jj_3R_202()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_758()) jj_scanpos = xsp;
+    if (jj_3R_762()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_3R_757()) return true;
+  private boolean jj_3R_620() {
+    if (jj_3R_761()) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_910() {
+    if (jj_3R_555()) return true;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_3R_756()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_640() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_638()) return true;
+    if (jj_3R_639()) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
+  private boolean jj_3R_759() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_905()) {
+    if (jj_3R_909()) {
       jj_scanpos = xsp;
-      if (jj_3R_906()) return true;
+      if (jj_3R_910()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_909() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_553()) return true;
+    if (jj_3R_554()) return true;
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_758() {
+    if (jj_3R_555()) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_3R_553()) return true;
+  private boolean jj_3R_757() {
+    if (jj_3R_554()) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
+  private boolean jj_3R_756() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_615() {
+  private boolean jj_3R_616() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_753()) {
+    if (jj_3R_757()) {
       jj_scanpos = xsp;
-      if (jj_3R_754()) return true;
+      if (jj_3R_758()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_755()) {
+      if (jj_3R_759()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27604,13 +27940,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_107() {
+  private boolean jj_3_108() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_752()) {
+      if (jj_3R_756()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27619,35 +27955,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_615() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
+  private boolean jj_3R_467() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) {
+    if (jj_3R_615()) {
       jj_scanpos = xsp;
-      if (jj_3_107()) {
+      if (jj_3_108()) {
         jj_scanpos = xsp;
-        if (jj_3R_615()) {
+        if (jj_3R_616()) {
           jj_scanpos = xsp;
-          if (jj_3R_616()) {
+          if (jj_3R_617()) {
             jj_scanpos = xsp;
-            if (jj_3R_617()) {
+            if (jj_3R_618()) {
               jj_scanpos = xsp;
-              if (jj_3R_618()) {
+              if (jj_3R_619()) {
                 jj_scanpos = xsp;
-                if (jj_3R_619()) {
+                if (jj_3R_620()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_620()) {
+                  if (jj_3R_621()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_621()) {
+                    if (jj_3R_622()) {
                       jj_scanpos = xsp;
-                      if (jj_3_109()) {
+                      if (jj_3_110()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_622()) return true;
+                        if (jj_3R_623()) return true;
                       }
                     }
                   }
@@ -27661,47 +27997,47 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_783() {
+  private boolean jj_3R_787() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_201()) return true;
+    if (jj_3R_202()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_786() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_638() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_639() {
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_782()) {
+    if (jj_3R_786()) {
       jj_scanpos = xsp;
-      if (jj_3R_783()) return true;
+      if (jj_3R_787()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_103() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
+  private boolean jj_3R_528() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_638()) return true;
+    if (jj_3R_639()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_639()) {
+      if (jj_3R_640()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27709,102 +28045,107 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_3R_466()) return true;
+  private boolean jj_3R_261() {
+    if (jj_3R_467()) return true;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_583() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_102() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
+  private boolean jj_3R_582() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3_100() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
+  private boolean jj_3R_407() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_580()) {
+    if (jj_3R_581()) {
       jj_scanpos = xsp;
-      if (jj_3R_581()) return true;
+      if (jj_3R_582()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_582()) jj_scanpos = xsp;
+    if (jj_3R_583()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_173()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_579()) jj_scanpos = xsp;
+    if (jj_3R_580()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_577()) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_578()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_578()) jj_scanpos = xsp;
+    if (jj_3R_579()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_493()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_494()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_201() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_403()) {
+    if (jj_3R_404()) {
       jj_scanpos = xsp;
-      if (jj_3R_404()) {
+      if (jj_3R_405()) {
         jj_scanpos = xsp;
-        if (jj_3R_405()) {
+        if (jj_3R_406()) {
           jj_scanpos = xsp;
-          if (jj_3R_406()) return true;
+          if (jj_3R_407()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_402() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_309()) return true;
+  private boolean jj_3R_403() {
+    if (jj_3R_310()) return true;
+    return false;
+  }
+
+  private boolean jj_3_100() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
@@ -27818,132 +28159,127 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_97() {
-    if (jj_3R_199()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_199() {
+  private boolean jj_3R_200() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_99()) {
+    if (jj_3_100()) {
       jj_scanpos = xsp;
-      if (jj_3R_401()) {
+      if (jj_3R_402()) {
         jj_scanpos = xsp;
-        if (jj_3R_402()) return true;
+        if (jj_3R_403()) return true;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_200()) return true;
+  private boolean jj_3R_401() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_400() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_199() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_399()) {
+    if (jj_3R_400()) {
       jj_scanpos = xsp;
-      if (jj_3R_400()) return true;
+      if (jj_3R_401()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(NULL_COALESCING)) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_192() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_191() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_190() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
+  private boolean jj_3R_189() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
+  private boolean jj_3R_188() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_187() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_96() {
+  private boolean jj_3_97() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_186()) {
+    if (jj_3R_187()) {
       jj_scanpos = xsp;
-      if (jj_3R_187()) {
+      if (jj_3R_188()) {
         jj_scanpos = xsp;
-        if (jj_3R_188()) {
+        if (jj_3R_189()) {
           jj_scanpos = xsp;
-          if (jj_3R_189()) {
+          if (jj_3R_190()) {
             jj_scanpos = xsp;
-            if (jj_3R_190()) {
+            if (jj_3R_191()) {
               jj_scanpos = xsp;
-              if (jj_3R_191()) {
+              if (jj_3R_192()) {
                 jj_scanpos = xsp;
-                if (jj_3R_192()) {
+                if (jj_3R_193()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_193()) {
+                  if (jj_3R_194()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_194()) {
+                    if (jj_3R_195()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_195()) {
+                      if (jj_3R_196()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_196()) {
+                        if (jj_3R_197()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_197()) return true;
+                          if (jj_3R_198()) return true;
                         }
                       }
                     }
@@ -27955,16 +28291,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    if (jj_3R_198()) return true;
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_185() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3R_186() {
+    if (jj_3R_199()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_96()) {
+      if (jj_3_97()) {
         jj_scanpos = xsp;
         break;
       }
@@ -27972,23 +28308,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_185()) return true;
-    return false;
-  }
-
-  private boolean jj_3_94() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_576() {
-    if (jj_3R_235()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_575() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_96() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
@@ -27998,101 +28319,78 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1050() {
+  private boolean jj_3R_1054() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1049() {
+  private boolean jj_3R_1053() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_1048() {
+  private boolean jj_3R_1052() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_1051() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_577() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_1046() {
+  private boolean jj_3R_1050() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_1045() {
+  private boolean jj_3R_1049() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_571()) {
-      jj_scanpos = xsp;
-      if (jj_3R_572()) {
-        jj_scanpos = xsp;
-        if (jj_3R_573()) {
-          jj_scanpos = xsp;
-          if (jj_3R_574()) {
-            jj_scanpos = xsp;
-            if (jj_3R_575()) {
-              jj_scanpos = xsp;
-              if (jj_3R_576()) return true;
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_576() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_397()) return true;
+  private boolean jj_3R_575() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_1001() {
+  private boolean jj_3R_574() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1005() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1045()) {
+    if (jj_3R_1049()) {
       jj_scanpos = xsp;
-      if (jj_3R_1046()) {
+      if (jj_3R_1050()) {
         jj_scanpos = xsp;
-        if (jj_3R_1047()) {
+        if (jj_3R_1051()) {
           jj_scanpos = xsp;
-          if (jj_3R_1048()) {
+          if (jj_3R_1052()) {
             jj_scanpos = xsp;
-            if (jj_3R_1049()) {
+            if (jj_3R_1053()) {
               jj_scanpos = xsp;
-              if (jj_3R_1050()) return true;
+              if (jj_3R_1054()) return true;
             }
           }
         }
@@ -28101,120 +28399,129 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1000() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_573() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_999() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_1004() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
-    if (jj_scan_token(AFTER)) return true;
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_572() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_997() {
-    if (jj_scan_token(BEFORE)) return true;
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_1003() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_1002() {
+    if (jj_scan_token(AFTER)) return true;
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_3R_397()) return true;
+  private boolean jj_3R_398() {
     Token xsp;
-    if (jj_3R_398()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_398()) {
+    xsp = jj_scanpos;
+    if (jj_3R_572()) {
+      jj_scanpos = xsp;
+      if (jj_3R_573()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_574()) {
+          jj_scanpos = xsp;
+          if (jj_3R_575()) {
+            jj_scanpos = xsp;
+            if (jj_3R_576()) {
+              jj_scanpos = xsp;
+              if (jj_3R_577()) return true;
+            }
+          }
+        }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_996() {
+  private boolean jj_3R_1001() {
+    if (jj_scan_token(BEFORE)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1000() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_995() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_399() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_398()) return true;
     return false;
   }
 
-  private boolean jj_3_92() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_999() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1044() {
+  private boolean jj_3R_1048() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1043() {
+  private boolean jj_3R_1047() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1042() {
+  private boolean jj_3R_1046() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
-    if (jj_3R_235()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1041() {
+  private boolean jj_3R_1045() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_870() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_995()) {
+    if (jj_3R_999()) {
       jj_scanpos = xsp;
-      if (jj_3R_996()) {
+      if (jj_3R_1000()) {
         jj_scanpos = xsp;
-        if (jj_3R_997()) {
+        if (jj_3R_1001()) {
           jj_scanpos = xsp;
-          if (jj_3R_998()) {
+          if (jj_3R_1002()) {
             jj_scanpos = xsp;
-            if (jj_3R_999()) {
+            if (jj_3R_1003()) {
               jj_scanpos = xsp;
-              if (jj_3R_1000()) return true;
+              if (jj_3R_1004()) return true;
             }
           }
         }
@@ -28222,7 +28529,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1001()) {
+      if (jj_3R_1005()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28230,74 +28537,68 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_3R_185()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1040() {
+  private boolean jj_3R_1044() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3_94() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_1039() {
+  private boolean jj_3R_185() {
+    if (jj_3R_398()) return true;
+    Token xsp;
+    if (jj_3R_399()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_399()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_1043() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_340() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_339() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_338() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_344() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
+  private boolean jj_3R_998() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1039()) {
+    if (jj_3R_1043()) {
       jj_scanpos = xsp;
-      if (jj_3R_1040()) {
+      if (jj_3R_1044()) {
         jj_scanpos = xsp;
-        if (jj_3R_1041()) {
+        if (jj_3R_1045()) {
           jj_scanpos = xsp;
-          if (jj_3R_1042()) {
+          if (jj_3R_1046()) {
             jj_scanpos = xsp;
-            if (jj_3R_1043()) {
+            if (jj_3R_1047()) {
               jj_scanpos = xsp;
-              if (jj_3R_1044()) return true;
+              if (jj_3R_1048()) return true;
             }
           }
         }
@@ -28306,173 +28607,167 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_993() {
+  private boolean jj_3R_997() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_343() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_992() {
+  private boolean jj_3R_996() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3_88() {
     if (jj_3R_181()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_92() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_991() {
+  private boolean jj_3R_995() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_157() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_337()) {
-      jj_scanpos = xsp;
-      if (jj_3R_338()) {
-        jj_scanpos = xsp;
-        if (jj_3R_339()) {
-          jj_scanpos = xsp;
-          if (jj_3R_340()) {
-            jj_scanpos = xsp;
-            if (jj_3R_341()) {
-              jj_scanpos = xsp;
-              if (jj_3R_342()) {
-                jj_scanpos = xsp;
-                if (jj_3R_343()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_342() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_990() {
+  private boolean jj_3R_994() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_989() {
+  private boolean jj_3R_341() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_993() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_396() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_340() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_988() {
+  private boolean jj_3R_992() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_339() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_177()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_338() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
+  private boolean jj_3_89() {
     if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
+  private boolean jj_3R_158() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_338()) {
+      jj_scanpos = xsp;
+      if (jj_3R_339()) {
+        jj_scanpos = xsp;
+        if (jj_3R_340()) {
+          jj_scanpos = xsp;
+          if (jj_3R_341()) {
+            jj_scanpos = xsp;
+            if (jj_3R_342()) {
+              jj_scanpos = xsp;
+              if (jj_3R_343()) {
+                jj_scanpos = xsp;
+                if (jj_3R_344()) return true;
+              }
+            }
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_730() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_865()) {
+    if (jj_3R_869()) {
       jj_scanpos = xsp;
-      if (jj_3R_866()) return true;
+      if (jj_3R_870()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_865() {
+  private boolean jj_3R_869() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_988()) {
+    if (jj_3R_992()) {
       jj_scanpos = xsp;
-      if (jj_3R_989()) {
+      if (jj_3R_993()) {
         jj_scanpos = xsp;
-        if (jj_3R_990()) {
+        if (jj_3R_994()) {
           jj_scanpos = xsp;
-          if (jj_3R_991()) {
+          if (jj_3R_995()) {
             jj_scanpos = xsp;
-            if (jj_3R_992()) {
+            if (jj_3R_996()) {
               jj_scanpos = xsp;
-              if (jj_3R_993()) return true;
+              if (jj_3R_997()) return true;
             }
           }
         }
@@ -28480,7 +28775,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_994()) {
+      if (jj_3R_998()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28488,21 +28783,47 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_567() {
+  private boolean jj_3_87() {
+    if (jj_3R_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_397() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3_86() {
+    if (jj_3R_179()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_396() {
+    if (jj_scan_token(DOT)) return true;
     if (jj_3R_178()) return true;
     return false;
   }
 
+  private boolean jj_3R_571() {
+    if (jj_3R_182()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_395() {
+    if (jj_3R_183()) return true;
+    return false;
+  }
+
   private boolean jj_3R_91() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
-    if (jj_3R_729()) return true;
+    if (jj_3R_730()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_729()) {
+      if (jj_3R_730()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28510,140 +28831,125 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_987() {
+  private boolean jj_3R_991() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
+  private boolean jj_3R_570() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_990() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_985() {
+  private boolean jj_3R_569() {
+    if (jj_3R_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_989() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_567()) {
-      jj_scanpos = xsp;
-      if (jj_3R_568()) {
-        jj_scanpos = xsp;
-        if (jj_3R_569()) {
-          jj_scanpos = xsp;
-          if (jj_3R_570()) return true;
-        }
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_988() {
+    if (jj_scan_token(BEFORE)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_181()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_984() {
-    if (jj_scan_token(BEFORE)) return true;
-    if (jj_scan_token(UPDATE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_568() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_983() {
+  private boolean jj_3R_987() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_177()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_982() {
+  private boolean jj_3R_986() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_83() {
-    if (jj_3R_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_183() {
+  private boolean jj_3R_394() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_393()) {
+    if (jj_3R_568()) {
       jj_scanpos = xsp;
-      if (jj_3R_394()) {
+      if (jj_3R_569()) {
         jj_scanpos = xsp;
-        if (jj_3R_395()) return true;
+        if (jj_3R_570()) {
+          jj_scanpos = xsp;
+          if (jj_3R_571()) return true;
+        }
       }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_396()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_556() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
+  private boolean jj_3R_867() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_864() {
+  private boolean jj_3R_868() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_982()) {
+    if (jj_3R_986()) {
       jj_scanpos = xsp;
-      if (jj_3R_983()) {
+      if (jj_3R_987()) {
         jj_scanpos = xsp;
-        if (jj_3R_984()) {
+        if (jj_3R_988()) {
           jj_scanpos = xsp;
-          if (jj_3R_985()) {
+          if (jj_3R_989()) {
             jj_scanpos = xsp;
-            if (jj_3R_986()) {
+            if (jj_3R_990()) {
               jj_scanpos = xsp;
-              if (jj_3R_987()) return true;
+              if (jj_3R_991()) return true;
             }
           }
         }
@@ -28652,103 +28958,103 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_862() {
+  private boolean jj_3_85() {
+    if (jj_3R_178()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_866() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
-    if (jj_3R_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_861() {
+  private boolean jj_3R_865() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_84() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_577() {
+  private boolean jj_3R_184() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) {
+    if (jj_3R_394()) {
       jj_scanpos = xsp;
-      if (jj_3R_675()) return true;
+      if (jj_3R_395()) {
+        jj_scanpos = xsp;
+        if (jj_3R_396()) return true;
+      }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_397()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_858() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_676() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_675() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_858()) {
+    if (jj_3R_862()) {
       jj_scanpos = xsp;
-      if (jj_3R_859()) {
+      if (jj_3R_863()) {
         jj_scanpos = xsp;
-        if (jj_3R_860()) {
+        if (jj_3R_864()) {
           jj_scanpos = xsp;
-          if (jj_3R_861()) {
+          if (jj_3R_865()) {
             jj_scanpos = xsp;
-            if (jj_3R_862()) {
+            if (jj_3R_866()) {
               jj_scanpos = xsp;
-              if (jj_3R_863()) return true;
+              if (jj_3R_867()) return true;
             }
           }
         }
@@ -28756,7 +29062,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_864()) {
+      if (jj_3R_868()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28764,13 +29070,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_578() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_675()) {
+      jj_scanpos = xsp;
+      if (jj_3R_676()) return true;
+    }
     return false;
   }
 
@@ -28778,176 +29094,167 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_728()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_79() {
-    if (jj_3R_173()) return true;
+    if (jj_3R_729()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_177() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_380()) {
-      jj_scanpos = xsp;
-      if (jj_3R_381()) {
-        jj_scanpos = xsp;
-        if (jj_3R_382()) return true;
-      }
-    }
+  private boolean jj_3R_903() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_752()) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_748()) return true;
+  private boolean jj_3R_383() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
+  private boolean jj_3R_902() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
+  private boolean jj_3R_901() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_900() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3_81() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
-    if (jj_scan_token(CONTAINSANY)) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_899() {
+    if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
+  private boolean jj_3R_898() {
     if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
-    if (jj_scan_token(CONTAINS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_566() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_scan_token(EDGE)) return true;
+  private boolean jj_3R_897() {
+    if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_178() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_377()) {
+    if (jj_3R_381()) {
       jj_scanpos = xsp;
-      if (jj_3R_378()) {
+      if (jj_3R_382()) {
         jj_scanpos = xsp;
-        if (jj_3R_379()) return true;
+        if (jj_3R_383()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_891() {
+  private boolean jj_3R_896() {
+    if (jj_scan_token(EDGE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_895() {
     if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_3R_157()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_566()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_380() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
+  private boolean jj_3R_894() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_889() {
+  private boolean jj_3R_379() {
+    if (jj_scan_token(THIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_893() {
     if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_888() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_378() {
+    if (jj_3R_174()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_891() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_392()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_567() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_885() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_177() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_378()) {
+      jj_scanpos = xsp;
+      if (jj_3R_379()) {
+        jj_scanpos = xsp;
+        if (jj_3R_380()) return true;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_884() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_889() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_555()) {
+      if (jj_3R_567()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28955,55 +29262,61 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_883() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_888() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_scan_token(DISTINCT)) return true;
+  private boolean jj_3R_887() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_183() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_393()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_752() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_883()) {
+    if (jj_3R_887()) {
       jj_scanpos = xsp;
-      if (jj_3R_884()) {
+      if (jj_3R_888()) {
         jj_scanpos = xsp;
-        if (jj_3R_885()) {
+        if (jj_3R_889()) {
           jj_scanpos = xsp;
-          if (jj_3R_886()) {
+          if (jj_3R_890()) {
             jj_scanpos = xsp;
-            if (jj_3R_887()) {
+            if (jj_3R_891()) {
               jj_scanpos = xsp;
-              if (jj_3R_888()) {
+              if (jj_3R_892()) {
                 jj_scanpos = xsp;
-                if (jj_3R_889()) {
+                if (jj_3R_893()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_890()) {
+                  if (jj_3R_894()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_891()) {
+                    if (jj_3R_895()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_892()) {
+                      if (jj_3R_896()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_893()) {
+                        if (jj_3R_897()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_894()) {
+                          if (jj_3R_898()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_895()) {
+                            if (jj_3R_899()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_896()) {
+                              if (jj_3R_900()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_897()) {
+                                if (jj_3R_901()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_898()) return true;
+                                  if (jj_3R_902()) return true;
                                 }
                               }
                             }
@@ -29020,61 +29333,70 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_899()) jj_scanpos = xsp;
+    if (jj_3R_903()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_166() {
+  private boolean jj_3R_376() {
+    if (jj_3R_158()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_556()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3_167() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_373()) {
-      jj_scanpos = xsp;
-      if (jj_3R_374()) return true;
-    }
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_375()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_1071() {
+    if (jj_3R_1012()) return true;
     return false;
   }
 
-  private boolean jj_3R_1067() {
-    if (jj_3R_1008()) return true;
+  private boolean jj_3R_375() {
+    if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_1066() {
-    if (jj_3R_1009()) return true;
+  private boolean jj_3R_1070() {
+    if (jj_3R_1013()) return true;
     return false;
   }
 
-  private boolean jj_3R_1065() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_374() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1064() {
+  private boolean jj_3R_1069() {
+    if (jj_3R_322()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1068() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_1055() {
+  private boolean jj_3R_1059() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1064()) {
+    if (jj_3R_1068()) {
       jj_scanpos = xsp;
-      if (jj_3R_1065()) {
+      if (jj_3R_1069()) {
         jj_scanpos = xsp;
-        if (jj_3R_1066()) {
+        if (jj_3R_1070()) {
           jj_scanpos = xsp;
-          if (jj_3R_1067()) {
+          if (jj_3R_1071()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(197)) return true;
+            if (jj_scan_token(199)) return true;
           }
         }
       }
@@ -29082,26 +29404,30 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_175() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_552() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_174() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) {
+      jj_scanpos = xsp;
+      if (jj_3R_375()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_376()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1008() {
+  private boolean jj_3R_1012() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1055()) {
+      if (jj_3R_1059()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29110,65 +29436,58 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_560() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+  private boolean jj_3R_176() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3_166() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3_165() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_1075() {
+    if (jj_3R_1012()) return true;
     return false;
   }
 
-  private boolean jj_3R_1071() {
-    if (jj_3R_1008()) return true;
+  private boolean jj_3R_553() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1070() {
-    if (jj_3R_1009()) return true;
+  private boolean jj_3R_1074() {
+    if (jj_3R_1013()) return true;
     return false;
   }
 
-  private boolean jj_3R_1069() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_1073() {
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_3R_558()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_559()) {
-      jj_scanpos = xsp;
-      if (jj_3R_560()) return true;
-    }
-    if (jj_3R_558()) return true;
+  private boolean jj_3R_561() {
+    if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1068() {
+  private boolean jj_3R_1072() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_1056() {
+  private boolean jj_3R_1060() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1068()) {
+    if (jj_3R_1072()) {
       jj_scanpos = xsp;
-      if (jj_3R_1069()) {
+      if (jj_3R_1073()) {
         jj_scanpos = xsp;
-        if (jj_3R_1070()) {
+        if (jj_3R_1074()) {
           jj_scanpos = xsp;
-          if (jj_3R_1071()) {
+          if (jj_3R_1075()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(197)) return true;
+            if (jj_scan_token(199)) return true;
           }
         }
       }
@@ -29176,23 +29495,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
+  private boolean jj_3R_560() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1009() {
+  private boolean jj_3R_388() {
+    if (jj_3R_559()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_560()) {
+      jj_scanpos = xsp;
+      if (jj_3R_561()) return true;
+    }
+    if (jj_3R_559()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1013() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1056()) {
+      if (jj_3R_1060()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29201,162 +29532,132 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_179() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_385()) {
-      jj_scanpos = xsp;
-      if (jj_3R_386()) {
-        jj_scanpos = xsp;
-        if (jj_3R_387()) return true;
-      }
-    }
+  private boolean jj_3R_387() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_118() {
+  private boolean jj_3R_119() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_390()) return true;
+  private boolean jj_3R_520() {
+    if (jj_scan_token(285)) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_scan_token(283)) return true;
+  private boolean jj_3R_386() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
+  private boolean jj_3R_309() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_518()) {
+    if (jj_3R_519()) {
       jj_scanpos = xsp;
-      if (jj_3R_519()) return true;
+      if (jj_3R_520()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_scan_token(282)) return true;
-    return false;
-  }
-
-  private boolean jj_3_78() {
-    if (jj_3R_70()) return true;
+  private boolean jj_3R_519() {
+    if (jj_scan_token(284)) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
-    if (jj_3R_390()) return true;
+  private boolean jj_3R_180() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_391()) {
+    xsp = jj_scanpos;
+    if (jj_3R_386()) {
+      jj_scanpos = xsp;
+      if (jj_3R_387()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_388()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_172()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_664() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_392() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_391()) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
+  private boolean jj_3R_118() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_308()) jj_scanpos = xsp;
+    if (jj_3R_309()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_182() {
+    if (jj_3R_391()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_392()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_scan_token(281)) return true;
+  private boolean jj_3R_518() {
+    if (jj_scan_token(283)) return true;
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
+  private boolean jj_3R_308() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_516()) {
+    if (jj_3R_517()) {
       jj_scanpos = xsp;
-      if (jj_3R_517()) return true;
+      if (jj_3R_518()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_scan_token(280)) return true;
-    return false;
-  }
-
-  private boolean jj_3_74() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_558() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_663()) {
-      jj_scanpos = xsp;
-      if (jj_3R_664()) return true;
-    }
+  private boolean jj_3R_517() {
+    if (jj_scan_token(282)) return true;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_665() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
+  private boolean jj_3R_117() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_307()) {
+      if (jj_3R_308()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29364,125 +29665,118 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_564() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_664() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
+  private boolean jj_3_76() {
+    if (jj_3R_173()) return true;
+    return false;
+  }
+
+  private boolean jj_3_75() {
+    if (jj_3R_172()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_559() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_563()) {
+    if (jj_3R_664()) {
       jj_scanpos = xsp;
-      if (jj_3R_564()) {
-        jj_scanpos = xsp;
-        if (jj_3R_565()) return true;
-      }
+      if (jj_3R_665()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_114() {
+  private boolean jj_3R_115() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_scan_token(279)) return true;
+  private boolean jj_3R_516() {
+    if (jj_scan_token(281)) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_810() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_565() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
-    if (jj_3R_551()) return true;
+  private boolean jj_3R_564() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_515() {
+    if (jj_scan_token(280)) return true;
     return false;
   }
 
-  private boolean jj_3R_943() {
-    if (jj_scan_token(BANG)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_513() {
-    if (jj_scan_token(277)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_512() {
-    if (jj_scan_token(276)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_751() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_514() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_391() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_943()) jj_scanpos = xsp;
-    if (jj_3R_157()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_944()) jj_scanpos = xsp;
+    if (jj_3R_564()) {
+      jj_scanpos = xsp;
+      if (jj_3R_565()) {
+        jj_scanpos = xsp;
+        if (jj_3R_566()) return true;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_scan_token(275)) return true;
+  private boolean jj_3R_513() {
+    if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_512() {
+    if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_scan_token(274)) return true;
+  private boolean jj_3R_511() {
+    if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
+  private boolean jj_3R_307() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_509()) {
+    if (jj_3R_510()) {
       jj_scanpos = xsp;
-      if (jj_3R_510()) {
+      if (jj_3R_511()) {
         jj_scanpos = xsp;
-        if (jj_3R_511()) {
+        if (jj_3R_512()) {
           jj_scanpos = xsp;
-          if (jj_3R_512()) {
+          if (jj_3R_513()) {
             jj_scanpos = xsp;
-            if (jj_3R_513()) {
+            if (jj_3R_514()) {
               jj_scanpos = xsp;
-              if (jj_3R_514()) {
+              if (jj_3R_515()) {
                 jj_scanpos = xsp;
-                if (jj_3R_515()) return true;
+                if (jj_3R_516()) return true;
               }
             }
           }
@@ -29492,38 +29786,60 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_scan_token(273)) return true;
+  private boolean jj_3R_510() {
+    if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
+  private boolean jj_3R_948() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_814() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_813() {
+    if (jj_3R_552()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_947() {
+    if (jj_scan_token(BANG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_755() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_812() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_807()) {
-      jj_scanpos = xsp;
-      if (jj_3R_808()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_809()) jj_scanpos = xsp;
+    if (jj_3R_947()) jj_scanpos = xsp;
+    if (jj_3R_158()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_810()) jj_scanpos = xsp;
+    if (jj_3R_948()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_750() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_811() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
+  private boolean jj_3R_116() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(STATUS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_306()) {
+      if (jj_3R_307()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29531,67 +29847,98 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_737() {
+  private boolean jj_3R_741() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
   private boolean jj_3R_658() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_811()) {
+      jj_scanpos = xsp;
+      if (jj_3R_812()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_813()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_814()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_754() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_657()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_106() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_737()) jj_scanpos = xsp;
+    if (jj_3R_741()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1005() {
+  private boolean jj_3R_1009() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_659() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_658()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_882() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_1004() {
+  private boolean jj_3R_1008() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_881() {
+    if (jj_scan_token(CYCLE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1008()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1009()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_552() {
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_657()) return true;
+    if (jj_3R_658()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_658()) {
+      if (jj_3R_659()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29600,73 +29947,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_552()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_368() {
-    if (jj_3R_551()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_877() {
-    if (jj_scan_token(CYCLE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1004()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1005()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_876() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_170() {
-    if (jj_3R_157()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_368()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_369()) jj_scanpos = xsp;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_879() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3_73() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
+  private boolean jj_3R_740() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_874()) {
+    if (jj_3R_878()) {
       jj_scanpos = xsp;
-      if (jj_3R_875()) {
+      if (jj_3R_879()) {
         jj_scanpos = xsp;
-        if (jj_3R_876()) {
+        if (jj_3R_880()) {
           jj_scanpos = xsp;
-          if (jj_3R_877()) {
+          if (jj_3R_881()) {
             jj_scanpos = xsp;
-            if (jj_3R_878()) {
+            if (jj_3R_882()) {
               jj_scanpos = xsp;
-              if (jj_3R_879()) {
+              if (jj_3R_883()) {
                 jj_scanpos = xsp;
-                if (jj_3R_880()) {
+                if (jj_3R_884()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_881()) return true;
+                  if (jj_3R_885()) return true;
                 }
               }
             }
@@ -29677,47 +29987,41 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_170()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_751()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_370() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_553()) return true;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_369() {
+    if (jj_3R_552()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_171() {
+    if (jj_3R_158()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_750()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_369()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_370()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_103() {
+  private boolean jj_3R_104() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_736()) {
+      if (jj_3R_740()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29725,101 +30029,133 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_461() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_610()) {
-      jj_scanpos = xsp;
-      if (jj_3R_611()) return true;
-    }
+  private boolean jj_3_74() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_877() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1003() {
+  private boolean jj_3R_1007() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1002() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_612() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_755()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_660() {
-    if (jj_scan_token(SKIP2)) return true;
+  private boolean jj_3R_875() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_1006() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_754()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_661() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_462() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_611()) {
+      jj_scanpos = xsp;
+      if (jj_3R_612()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_874() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1002()) {
+    if (jj_3R_1006()) {
       jj_scanpos = xsp;
-      if (jj_3R_1003()) return true;
+      if (jj_3R_1007()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_873() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_661() {
+    if (jj_scan_token(SKIP2)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_663() {
+    if (jj_scan_token(FROM)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_872() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_660() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_662() {
+    if (jj_scan_token(LIMIT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_732() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_867()) {
+    if (jj_3R_871()) {
       jj_scanpos = xsp;
-      if (jj_3R_868()) {
+      if (jj_3R_872()) {
         jj_scanpos = xsp;
-        if (jj_3R_869()) {
+        if (jj_3R_873()) {
           jj_scanpos = xsp;
-          if (jj_3R_870()) {
+          if (jj_3R_874()) {
             jj_scanpos = xsp;
-            if (jj_3R_871()) {
+            if (jj_3R_875()) {
               jj_scanpos = xsp;
-              if (jj_3R_872()) {
+              if (jj_3R_876()) {
                 jj_scanpos = xsp;
-                if (jj_3R_873()) return true;
+                if (jj_3R_877()) return true;
               }
             }
           }
@@ -29829,69 +30165,54 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_871() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
+  private boolean jj_3R_555() {
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_659()) {
+    if (jj_3R_660()) {
       jj_scanpos = xsp;
-      if (jj_3R_660()) {
+      if (jj_3R_661()) {
         jj_scanpos = xsp;
-        if (jj_3R_661()) {
+        if (jj_3R_662()) {
           jj_scanpos = xsp;
-          if (jj_3R_662()) return true;
+          if (jj_3R_663()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_553() {
-    if (jj_scan_token(HOOK)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_730() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_372() {
-    if (jj_3R_554()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_371() {
-    if (jj_3R_553()) return true;
+  private boolean jj_3R_463() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_92() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_730()) jj_scanpos = xsp;
+    if (jj_3R_731()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_731()) {
+      if (jj_3R_732()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29899,133 +30220,120 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_172() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_371()) {
-      jj_scanpos = xsp;
-      if (jj_3R_372()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_259() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_554() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_555()) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_3R_463()) return true;
+  private boolean jj_3R_372() {
+    if (jj_3R_554()) return true;
     return false;
   }
 
-  private boolean jj_3R_1063() {
+  private boolean jj_3R_1067() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_3R_164()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_320() {
+  private boolean jj_3R_321() {
     if (jj_scan_token(CONSOLE)) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_173() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_372()) {
+      jj_scanpos = xsp;
+      if (jj_3R_373()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_1054() {
+  private boolean jj_3R_1058() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_462()) jj_scanpos = xsp;
+  private boolean jj_3R_260() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
+  private boolean jj_3R_259() {
+    if (jj_3R_465()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_320() {
     if (jj_scan_token(SLEEP)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3_164() {
+  private boolean jj_3R_258() {
+    if (jj_3R_464()) return true;
+    return false;
+  }
+
+  private boolean jj_3_165() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
-    if (jj_3R_1009()) return true;
+  private boolean jj_3R_257() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_3R_1008()) return true;
+  private boolean jj_3R_908() {
+    if (jj_3R_1013()) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_254()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_255()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_157()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_256()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_257()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_258()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_259()) jj_scanpos = xsp;
+  private boolean jj_3R_907() {
+    if (jj_3R_1012()) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_256() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_255() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_463()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_749() {
+  private boolean jj_3R_906() {
+    if (jj_3R_322()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_753() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) {
+    if (jj_3R_905()) {
       jj_scanpos = xsp;
-      if (jj_3R_902()) {
+      if (jj_3R_906()) {
         jj_scanpos = xsp;
-        if (jj_3R_903()) {
+        if (jj_3R_907()) {
           jj_scanpos = xsp;
-          if (jj_3R_904()) {
+          if (jj_3R_908()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(197)) return true;
+            if (jj_scan_token(199)) return true;
           }
         }
       }
@@ -30033,38 +30341,49 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_901() {
+  private boolean jj_3R_905() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
-    if (jj_3R_467()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_733() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_96() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_255()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_256()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_158()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_158()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_257()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_258()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_259()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_260()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_732() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_736() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
+  private boolean jj_3R_322() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_749()) {
+      if (jj_3R_753()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30073,170 +30392,206 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_735() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_scan_token(MOVE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_466()) return true;
-    if (jj_scan_token(TO)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_732()) {
-      jj_scanpos = xsp;
-      if (jj_3R_733()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_734()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_735()) jj_scanpos = xsp;
+  private boolean jj_3R_527() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_734() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_733() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1062() {
+  private boolean jj_3R_1066() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_319() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_526()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_460() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_253() {
-    if (jj_3R_164()) return true;
-    return false;
-  }
-
-  private boolean jj_3_70() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_527()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_461()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1053() {
+  private boolean jj_3R_1057() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_311() {
+    if (jj_scan_token(MOVE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_467()) return true;
+    if (jj_scan_token(TO)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_733()) {
+      jj_scanpos = xsp;
+      if (jj_3R_734()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_735()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_736()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_164()) return true;
+  private boolean jj_3_73() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_1052() {
+  private boolean jj_3R_1056() {
     if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1062()) {
+    if (jj_3R_1066()) {
       jj_scanpos = xsp;
-      if (jj_3R_1063()) return true;
+      if (jj_3R_1067()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1007() {
+  private boolean jj_3R_1011() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1053()) {
+    if (jj_3R_1057()) {
       jj_scanpos = xsp;
-      if (jj_3R_1054()) return true;
+      if (jj_3R_1058()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_317() {
+  private boolean jj_3_72() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_318() {
     if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_1051() {
+  private boolean jj_3R_1055() {
     if (jj_3R_76()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_460()) jj_scanpos = xsp;
+  private boolean jj_3R_461() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1006() {
+  private boolean jj_3R_254() {
+    if (jj_3R_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3_71() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_253() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_462()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_252() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_93() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1010() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    if (jj_3R_1051()) return true;
+    if (jj_3R_1055()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1051()) {
+      if (jj_3R_1055()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1052()) jj_scanpos = xsp;
+    if (jj_3R_1056()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_904() {
     if (jj_scan_token(ELSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1006()) {
+    if (jj_3R_1010()) {
       jj_scanpos = xsp;
-      if (jj_3R_1007()) return true;
+      if (jj_3R_1011()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_461()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_526() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_70()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_900()) jj_scanpos = xsp;
+    if (jj_3R_904()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_317() {
+    if (jj_scan_token(COMMIT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_526()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_551() {
+    if (jj_3R_173()) return true;
+    return false;
+  }
+
+  private boolean jj_3_164() {
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_525() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
@@ -30245,14 +30600,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_250()) {
+    if (jj_3R_251()) {
       jj_scanpos = xsp;
-      if (jj_3R_251()) return true;
+      if (jj_3R_252()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_252()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_253()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_254()) jj_scanpos = xsp;
     return false;
   }
 
@@ -30262,87 +30617,81 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_3R_235()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_236()) return true;
+    return false;
+  }
+
+  private boolean jj_3_163() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
   private boolean jj_3R_316() {
-    if (jj_scan_token(COMMIT)) return true;
+    if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_525()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_364() {
+  private boolean jj_3R_610() {
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_365() {
     if (jj_scan_token(CONTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_549()) {
+    if (jj_3R_550()) {
       jj_scanpos = xsp;
-      if (jj_3R_550()) return true;
+      if (jj_3R_551()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_549() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3_163() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_524() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_162() {
-    if (jj_3R_236()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_scan_token(BEGIN)) return true;
+  private boolean jj_3R_460() {
+    if (jj_scan_token(LET)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_524()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_609() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_608() {
-    if (jj_3R_76()) return true;
+    if (jj_3R_609()) {
+      jj_scanpos = xsp;
+      if (jj_3R_610()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_656() {
+  private boolean jj_3R_657() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_69() {
+  private boolean jj_3_70() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_548()) {
+      if (jj_3R_549()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30350,14 +30699,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_548() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_656()) {
+      if (jj_3R_657()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30366,45 +30715,40 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_459() {
-    if (jj_scan_token(LET)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_608()) {
-      jj_scanpos = xsp;
-      if (jj_3R_609()) return true;
-    }
+  private boolean jj_3R_547() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_75() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(ROLE)) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3R_169() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3R_861() {
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_752()) return true;
     return false;
   }
 
-  private boolean jj_3_68() {
+  private boolean jj_3_69() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_168()) {
+      if (jj_3R_169()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30412,10 +30756,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_546()) {
+      if (jj_3R_547()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30423,7 +30767,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_547()) {
+      if (jj_3R_548()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30431,86 +30775,104 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_728() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_860()) {
+      jj_scanpos = xsp;
+      if (jj_3R_861()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_857() {
-    if (jj_scan_token(REMOVE)) return true;
+  private boolean jj_3R_860() {
+    if (jj_scan_token(SET)) return true;
     if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_748()) return true;
+    if (jj_3R_752()) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3_67() {
+    if (jj_3R_156()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_819() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3R_165() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_68()) {
+    if (jj_3_69()) {
       jj_scanpos = xsp;
-      if (jj_3_69()) {
+      if (jj_3_70()) {
         jj_scanpos = xsp;
-        if (jj_3R_364()) return true;
+        if (jj_3R_365()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_3R_365()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_727() {
+  private boolean jj_3R_89() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(ROLE)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_856()) {
-      jj_scanpos = xsp;
-      if (jj_3R_857()) return true;
+    if (jj_3R_728()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_728()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_856() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_748()) return true;
+  private boolean jj_3R_167() {
+    if (jj_3R_366()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_166() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_673() {
+  private boolean jj_3R_674() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_1042() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_88() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_985() {
+    if (jj_3R_168()) return true;
     Token xsp;
-    if (jj_3R_727()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_727()) {
+      if (jj_3R_1042()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30518,317 +30880,324 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_959() {
-    if (jj_3R_365()) return true;
+  private boolean jj_3R_963() {
+    if (jj_3R_366()) return true;
     return false;
   }
 
-  private boolean jj_3_67() {
+  private boolean jj_3_68() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       jj_scanpos = xsp;
-      if (jj_3R_166()) return true;
+      if (jj_3R_167()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_958() {
-    if (jj_3R_155()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1038() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_962() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
+  private boolean jj_3R_821() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) {
+    if (jj_3R_962()) {
       jj_scanpos = xsp;
-      if (jj_3R_959()) return true;
+      if (jj_3R_963()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_88() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3_64() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_859() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_985()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3_65() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_981() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1038()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3_64() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_820() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_915() {
+  private boolean jj_3R_919() {
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_673() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_816()) jj_scanpos = xsp;
+    if (jj_3R_820()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_817()) {
+    if (jj_3R_821()) {
       jj_scanpos = xsp;
-      if (jj_3_67()) return true;
+      if (jj_3_68()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_858() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_815()) jj_scanpos = xsp;
+  private boolean jj_3R_670() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_669() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_819()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_672() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_727() {
+    if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_981()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_3R_858()) {
+      jj_scanpos = xsp;
+      if (jj_3R_859()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_667() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_671() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_854() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_726() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_scan_token(ROLE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_854()) {
-      jj_scanpos = xsp;
-      if (jj_3R_855()) return true;
-    }
+  private boolean jj_3R_668() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
   private boolean jj_3R_725() {
-    if (jj_3R_598()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_87() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_725()) {
+      jj_scanpos = xsp;
+      if (jj_3R_726()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_727()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_309() {
+  private boolean jj_3R_310() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_667()) {
+    if (jj_3R_668()) {
       jj_scanpos = xsp;
-      if (jj_3R_668()) {
+      if (jj_3R_669()) {
         jj_scanpos = xsp;
-        if (jj_3R_669()) return true;
+        if (jj_3R_670()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_670()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_671()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_672()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_673()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_674()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_763() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_767() {
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
+  private boolean jj_3R_775() {
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_724()) {
-      jj_scanpos = xsp;
-      if (jj_3R_725()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_726()) jj_scanpos = xsp;
+    if (jj_3R_919()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_771() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_918() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_773() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_915()) jj_scanpos = xsp;
+    if (jj_3R_918()) jj_scanpos = xsp;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_917() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
   private boolean jj_3R_914() {
-    if (jj_3R_183()) return true;
+    if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_914()) jj_scanpos = xsp;
+  private boolean jj_3R_916() {
+    if (jj_scan_token(STARASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_913() {
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_915() {
+    if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
-    if (jj_scan_token(PLUSASSIGN)) return true;
+  private boolean jj_3R_481() {
+    if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
   private boolean jj_3R_912() {
-    if (jj_scan_token(STARASSIGN)) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_74() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_scan_token(MINUSASSIGN)) return true;
+  private boolean jj_3R_724() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
-    if (jj_scan_token(COUNT)) return true;
+  private boolean jj_3R_857() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_776() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_775()) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_771()) return true;
+  private boolean jj_3R_856() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_761() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_765() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_908()) jj_scanpos = xsp;
+    if (jj_3R_912()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_909()) {
+    if (jj_3R_913()) {
       jj_scanpos = xsp;
-      if (jj_3R_910()) {
+      if (jj_3R_914()) {
         jj_scanpos = xsp;
-        if (jj_3R_911()) {
+        if (jj_3R_915()) {
           jj_scanpos = xsp;
-          if (jj_3R_912()) {
+          if (jj_3R_916()) {
             jj_scanpos = xsp;
-            if (jj_3R_913()) return true;
+            if (jj_3R_917()) return true;
           }
         }
       }
     }
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_74() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
+  private boolean jj_3R_723() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_856()) {
+      jj_scanpos = xsp;
+      if (jj_3R_857()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_770() {
+  private boolean jj_3R_774() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_769()) return true;
+    if (jj_3R_773()) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
+  private boolean jj_3R_855() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_628() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_771()) return true;
+    if (jj_3R_775()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_772()) {
+      if (jj_3R_776()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30836,70 +31205,53 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_772() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_853() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_767() {
+  private boolean jj_3R_771() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
   private boolean jj_3R_722() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_852()) {
-      jj_scanpos = xsp;
-      if (jj_3R_853()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_855()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_770() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_765() {
+  private boolean jj_3R_769() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_627() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_767()) {
+    if (jj_3R_771()) {
       jj_scanpos = xsp;
-      if (jj_3R_768()) return true;
+      if (jj_3R_772()) return true;
     }
-    if (jj_3R_769()) return true;
+    if (jj_3R_773()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_770()) {
+      if (jj_3R_774()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30907,57 +31259,56 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_768() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_763()) return true;
+    if (jj_3R_767()) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
+  private boolean jj_3R_480() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
+  private boolean jj_3R_626() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_765()) {
+    if (jj_3R_769()) {
       jj_scanpos = xsp;
-      if (jj_3R_766()) return true;
+      if (jj_3R_770()) return true;
     }
-    if (jj_3R_235()) return true;
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_86() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_3R_599()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_851()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_722()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_723()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_724()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_761()) return true;
+    if (jj_3R_765()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
+  private boolean jj_3R_625() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_763()) return true;
+    if (jj_3R_767()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_764()) {
+      if (jj_3R_768()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30965,13 +31316,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_623() {
+  private boolean jj_3R_524() {
+    if (jj_3R_638()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_523() {
+    if (jj_scan_token(POLICY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_624() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_761()) return true;
+    if (jj_3R_765()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_762()) {
+      if (jj_3R_766()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30979,33 +31340,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_3R_598()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_721()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_722()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_723()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_467() {
+  private boolean jj_3R_468() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_623()) {
+    if (jj_3R_624()) {
       jj_scanpos = xsp;
-      if (jj_3R_624()) {
+      if (jj_3R_625()) {
         jj_scanpos = xsp;
-        if (jj_3R_625()) {
+        if (jj_3R_626()) {
           jj_scanpos = xsp;
-          if (jj_3R_626()) {
+          if (jj_3R_627()) {
             jj_scanpos = xsp;
-            if (jj_3R_627()) return true;
+            if (jj_3R_628()) return true;
           }
         }
       }
@@ -31013,166 +31359,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_3R_637()) return true;
+  private boolean jj_3R_315() {
+    if (jj_scan_token(REVOKE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_523()) {
+      jj_scanpos = xsp;
+      if (jj_3R_524()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_752()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(POLICY)) return true;
+  private boolean jj_3R_275() {
+    if (jj_3R_478()) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
-    if (jj_3R_477()) return true;
+  private boolean jj_3R_470() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3R_485() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_274() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_522() {
+    if (jj_3R_638()) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_484() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
+  private boolean jj_3R_483() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
-    if (jj_scan_token(REVOKE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_522()) {
-      jj_scanpos = xsp;
-      if (jj_3R_523()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_748()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_521() {
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_482() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
+  private boolean jj_3R_273() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_483()) {
       jj_scanpos = xsp;
-      if (jj_3R_483()) {
+      if (jj_3R_484()) {
         jj_scanpos = xsp;
-        if (jj_3R_484()) {
+        if (jj_3R_485()) {
           jj_scanpos = xsp;
-          if (jj_3R_485()) return true;
+          if (jj_3R_486()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_271() {
+  private boolean jj_3R_272() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
+  private boolean jj_3R_479() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_521() {
-    if (jj_3R_637()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_270() {
+  private boolean jj_3R_271() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_479()) {
       jj_scanpos = xsp;
-      if (jj_3R_479()) {
+      if (jj_3R_480()) {
         jj_scanpos = xsp;
-        if (jj_3R_480()) return true;
+        if (jj_3R_481()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_481()) jj_scanpos = xsp;
+    if (jj_3R_482()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_314() {
+    if (jj_scan_token(GRANT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_521()) {
+      jj_scanpos = xsp;
+      if (jj_3R_522()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_752()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
+  private boolean jj_3R_270() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_269() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_scan_token(GRANT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_520()) {
-      jj_scanpos = xsp;
-      if (jj_3R_521()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_748()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_785() {
+    if (jj_scan_token(NONE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_784() {
+    if (jj_scan_token(ALL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_783() {
+    if (jj_scan_token(EXECUTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_782() {
+    if (jj_scan_token(DELETE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_781() {
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
   private boolean jj_3R_98() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_260()) return true;
+    if (jj_3R_261()) return true;
     Token xsp;
-    if (jj_3R_268()) return true;
+    if (jj_3R_269()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_268()) {
+      if (jj_3R_269()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_269()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_270()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_271()) jj_scanpos = xsp;
@@ -31182,177 +31541,173 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_273()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_274()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_275()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_267() {
-    if (jj_3R_477()) return true;
+  private boolean jj_3R_780() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_268() {
+    if (jj_3R_478()) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_779() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_267() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_471() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_780() {
-    if (jj_scan_token(ALL)) return true;
+  private boolean jj_3R_476() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
+  private boolean jj_3R_475() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_638() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_779()) {
+      jj_scanpos = xsp;
+      if (jj_3R_780()) {
+        jj_scanpos = xsp;
+        if (jj_3R_781()) {
+          jj_scanpos = xsp;
+          if (jj_3R_782()) {
+            jj_scanpos = xsp;
+            if (jj_3R_783()) {
+              jj_scanpos = xsp;
+              if (jj_3R_784()) {
+                jj_scanpos = xsp;
+                if (jj_3R_785()) return true;
+              }
+            }
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_473() {
+  private boolean jj_3R_474() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_472() {
+  private boolean jj_3R_473() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_777() {
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_468() {
+  private boolean jj_3R_469() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_265() {
+  private boolean jj_3R_266() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_472()) {
+    if (jj_3R_473()) {
       jj_scanpos = xsp;
-      if (jj_3R_473()) {
+      if (jj_3R_474()) {
         jj_scanpos = xsp;
-        if (jj_3R_474()) {
+        if (jj_3R_475()) {
           jj_scanpos = xsp;
-          if (jj_3R_475()) return true;
+          if (jj_3R_476()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_264() {
+  private boolean jj_3R_265() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_263() {
+  private boolean jj_3R_264() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_468()) {
+    if (jj_3R_469()) {
       jj_scanpos = xsp;
-      if (jj_3R_469()) return true;
+      if (jj_3R_470()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_470()) jj_scanpos = xsp;
+    if (jj_3R_471()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_155() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_775()) {
-      jj_scanpos = xsp;
-      if (jj_3R_776()) {
-        jj_scanpos = xsp;
-        if (jj_3R_777()) {
-          jj_scanpos = xsp;
-          if (jj_3R_778()) {
-            jj_scanpos = xsp;
-            if (jj_3R_779()) {
-              jj_scanpos = xsp;
-              if (jj_3R_780()) {
-                jj_scanpos = xsp;
-                if (jj_3R_781()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_263() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
   private boolean jj_3R_262() {
-    if (jj_scan_token(UPSERT)) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_459() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_720() {
+    if (jj_3R_176()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_721() {
+    if (jj_scan_token(INVERSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_719() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_97() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_260()) return true;
-    Token xsp;
     if (jj_3R_261()) return true;
+    Token xsp;
+    if (jj_3R_262()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_261()) {
+      if (jj_3R_262()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_262()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_263()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_264()) jj_scanpos = xsp;
@@ -31362,328 +31717,328 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_266()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_267()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_268()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_3R_465()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_360() {
-    if (jj_3R_476()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_359() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_458() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_718() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_361() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_360() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_717() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_359() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_163() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_359()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_360()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_361()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_362()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_716() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_354() {
-    if (jj_3R_465()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_353() {
-    if (jj_3R_476()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_352() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
   private boolean jj_3R_85() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_716()) {
+    if (jj_3R_717()) {
       jj_scanpos = xsp;
-      if (jj_3R_717()) return true;
+      if (jj_3R_718()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_718()) {
+    if (jj_3R_719()) {
       jj_scanpos = xsp;
-      if (jj_3R_719()) return true;
+      if (jj_3R_720()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_720()) jj_scanpos = xsp;
+    if (jj_3R_721()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_882()) return true;
+  private boolean jj_3R_354() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
+  private boolean jj_3R_751() {
+    if (jj_3R_886()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_353() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_472()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_313() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_751()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_161() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_352()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_353()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_354()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_355()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_358() {
+    if (jj_3R_466()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_886() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_357() {
-    if (jj_3R_465()) return true;
+    if (jj_3R_477()) return true;
     return false;
   }
 
   private boolean jj_3R_356() {
-    if (jj_3R_476()) return true;
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_750() {
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
-    if (jj_scan_token(OPTIMIZE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_747()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3_162() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_114() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_162()) {
+      jj_scanpos = xsp;
+      if (jj_3R_750()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_356()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_357()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_358()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_746() {
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_748() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_747() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_749() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_161() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_352() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
+  private boolean jj_3R_351() {
+    if (jj_3R_477()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_350() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
+  private boolean jj_3R_349() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3R_113() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_161()) {
+    if (jj_3R_747()) {
       jj_scanpos = xsp;
-      if (jj_3R_746()) return true;
+      if (jj_3R_748()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_749()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_70()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_743() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_745() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_348() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_306() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
   private boolean jj_3R_112() {
-    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_743()) {
-      jj_scanpos = xsp;
-      if (jj_3R_744()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_745()) jj_scanpos = xsp;
+    if (jj_3R_306()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_653() {
+  private boolean jj_3R_716() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_654() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_305() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_715() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_160() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_347()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_157()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_348()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_158()) return true;
     xsp = jj_scanpos;
     if (jj_3R_349()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_350()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_351()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_352()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_250() {
+    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_305()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_542() {
+    if (jj_3R_172()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_653()) {
+      if (jj_3R_654()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31691,73 +32046,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_715() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_70()) return true;
+  private boolean jj_3R_84() {
+    if (jj_scan_token(CREATE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(260)) {
+      jj_scanpos = xsp;
+      if (jj_3R_250()) return true;
+    }
+    if (jj_3R_168()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_715()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_716()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_714() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_745() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_746() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
+  private boolean jj_3R_346() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_541()) jj_scanpos = xsp;
+    if (jj_3R_542()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_744() {
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_345() {
+    if (jj_3R_172()) return true;
+    return false;
+  }
+
+  private boolean jj_3_63() {
+    if (jj_3R_163()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_111() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(258)) {
+    if (jj_3R_744()) {
       jj_scanpos = xsp;
-      if (jj_3R_249()) return true;
+      if (jj_3R_745()) return true;
     }
-    if (jj_3R_167()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_714()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_715()) jj_scanpos = xsp;
+    if (jj_3R_746()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_162()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_741() {
+  private boolean jj_3R_743() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3_62() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
-    if (jj_3R_542()) return true;
+  private boolean jj_3R_742() {
+    if (jj_3R_543()) return true;
     return false;
   }
 
@@ -31766,71 +32131,86 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_158() {
+  private boolean jj_3R_159() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_344()) {
+    if (jj_3R_345()) {
       jj_scanpos = xsp;
-      if (jj_3R_345()) return true;
+      if (jj_3R_346()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_346()) jj_scanpos = xsp;
+    if (jj_3R_347()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_1041() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_1040() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_58() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3_60() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_scan_token(DROP)) return true;
+  private boolean jj_3_59() {
+    if (jj_3R_159()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_248() {
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_312() {
+    if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) {
+    if (jj_3R_742()) {
       jj_scanpos = xsp;
-      if (jj_3R_741()) return true;
+      if (jj_3R_743()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_742()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_739() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_984() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1040()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1041()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_738() {
-    if (jj_3R_542()) return true;
+  private boolean jj_3R_246() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
@@ -31839,35 +32219,46 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1037() {
+  private boolean jj_3_160() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_1036() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_854() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_160()) {
+      jj_scanpos = xsp;
+      if (jj_3R_984()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_1039() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_236()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1038() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_79() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_244()) {
+    if (jj_3R_245()) {
       jj_scanpos = xsp;
-      if (jj_3R_245()) {
+      if (jj_3R_246()) {
         jj_scanpos = xsp;
-        if (jj_3R_246()) {
+        if (jj_3R_247()) {
           jj_scanpos = xsp;
-          if (jj_3R_247()) {
+          if (jj_3R_248()) {
             jj_scanpos = xsp;
-            if (jj_3R_248()) return true;
+            if (jj_3R_249()) return true;
           }
         }
       }
@@ -31875,101 +32266,84 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_311() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_738()) {
-      jj_scanpos = xsp;
-      if (jj_3R_739()) return true;
-    }
+  private boolean jj_3R_700() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
   private boolean jj_3R_699() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_702() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_980() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1036()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_1037()) jj_scanpos = xsp;
+  private boolean jj_3R_698() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
   private boolean jj_3R_701() {
-    if (jj_3R_465()) return true;
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_714() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_854()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_700() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_983() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1038()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1039()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_159() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_853() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_159()) {
       jj_scanpos = xsp;
-      if (jj_3R_980()) return true;
+      if (jj_3R_983()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1035() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1034() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_697() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
   private boolean jj_3R_696() {
-    if (jj_scan_token(UNSAFE)) return true;
+    if (jj_3R_477()) return true;
     return false;
   }
 
   private boolean jj_3R_695() {
-    if (jj_3R_476()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_694() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
@@ -31978,403 +32352,411 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_697()) jj_scanpos = xsp;
-    if (jj_3R_260()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_698()) jj_scanpos = xsp;
+    if (jj_3R_261()) return true;
     xsp = jj_scanpos;
     if (jj_3R_699()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_700()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_701()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_702()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3_161() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) jj_scanpos = xsp;
+    if (jj_3R_853()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_979() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1034()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_1035()) jj_scanpos = xsp;
+  private boolean jj_3R_852() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_158() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+  private boolean jj_3R_961() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_158()) {
-      jj_scanpos = xsp;
-      if (jj_3R_979()) return true;
-    }
+  private boolean jj_3R_960() {
+    if (jj_3R_646()) return true;
     return false;
   }
 
-  private boolean jj_3R_957() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3_157() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
-    if (jj_3R_645()) return true;
+  private boolean jj_3R_959() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_1037() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_954() {
-    if (jj_3R_529()) return true;
+  private boolean jj_3R_982() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_958() {
+    if (jj_3R_530()) return true;
     return false;
   }
 
   private boolean jj_3R_77() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_260()) return true;
+    if (jj_3R_261()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_693()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_694()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_695()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_696()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_697()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_953() {
-    if (jj_3R_528()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1029() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1028() {
-    if (jj_3R_551()) return true;
-    return false;
-  }
-
-  private boolean jj_3_160() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_849()) jj_scanpos = xsp;
+  private boolean jj_3R_957() {
+    if (jj_3R_529()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_1036() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_713() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1028()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1029()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_156() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3_157()) {
+      jj_scanpos = xsp;
+      if (jj_3R_852()) return true;
+    }
     return false;
   }
 
   private boolean jj_3R_1033() {
-    if (jj_scan_token(VALUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_978() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_1032() {
-    if (jj_scan_token(KEY)) return true;
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
+  private boolean jj_3R_981() {
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_156()) {
+    if (jj_3R_1036()) {
       jj_scanpos = xsp;
-      if (jj_3R_848()) return true;
+      if (jj_3R_1037()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_956() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1032()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1033()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1027() {
-    if (jj_3R_551()) return true;
+  private boolean jj_3R_980() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3_58() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_977() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1032()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1033()) return true;
-    }
+  private boolean jj_3R_1031() {
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3R_1026() {
-    if (jj_3R_551()) return true;
+  private boolean jj_3R_955() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_950() {
-    if (jj_3R_157()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1027()) jj_scanpos = xsp;
+  private boolean jj_3R_979() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_1030() {
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3_56() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_954() {
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1026()) jj_scanpos = xsp;
+    if (jj_3R_1031()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_975() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_851() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_979()) {
+      jj_scanpos = xsp;
+      if (jj_3R_980()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_981()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_982()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1025() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_3R_677()) return true;
+  private boolean jj_3R_978() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1024() {
-    if (jj_3R_677()) return true;
+  private boolean jj_3R_850() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_847() {
-    if (jj_scan_token(COMMA)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_975()) {
-      jj_scanpos = xsp;
-      if (jj_3R_976()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_977()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_978()) jj_scanpos = xsp;
+  private boolean jj_3R_977() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3_57() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1024()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1025()) return true;
-    }
+    if (jj_3R_1030()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_974() {
-    if (jj_scan_token(VALUE)) return true;
+  private boolean jj_3R_1029() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_3R_678()) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_1028() {
+    if (jj_3R_678()) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_849() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_977()) {
+      jj_scanpos = xsp;
+      if (jj_3R_978()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_845() {
-    if (jj_scan_token(BY)) return true;
+  private boolean jj_3R_953() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_973()) {
+    if (jj_3R_1028()) {
       jj_scanpos = xsp;
-      if (jj_3R_974()) return true;
+      if (jj_3R_1029()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_584() {
+  private boolean jj_3R_235() {
+    if (jj_3R_176()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_234() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_585() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_677()) return true;
+    if (jj_3R_678()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_949()) {
+      if (jj_3R_953()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_56()) {
+    if (jj_3_57()) {
       jj_scanpos = xsp;
-      if (jj_3R_950()) return true;
+      if (jj_3R_954()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_951()) jj_scanpos = xsp;
+    if (jj_3R_955()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_952()) {
+      if (jj_3R_956()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_953()) jj_scanpos = xsp;
+    if (jj_3R_957()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_954()) jj_scanpos = xsp;
+    if (jj_3R_958()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
+    if (jj_3R_959()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_956()) jj_scanpos = xsp;
+    if (jj_3R_960()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_957()) jj_scanpos = xsp;
+    if (jj_3R_961()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1022() {
+  private boolean jj_3R_1026() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1021() {
+  private boolean jj_3R_1025() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_233() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_952() {
+    if (jj_scan_token(STRATEGY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1025()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1026()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_948() {
-    if (jj_scan_token(STRATEGY)) return true;
+  private boolean jj_3_158() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1021()) {
+    if (jj_3R_233()) jj_scanpos = xsp;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_234()) {
       jj_scanpos = xsp;
-      if (jj_3R_1022()) return true;
+      if (jj_3R_235()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_849()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_850()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_851()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_951() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_946() {
+  private boolean jj_3R_950() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_1020() {
+  private boolean jj_3R_1024() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_818()) return true;
+    if (jj_3R_822()) return true;
     return false;
   }
 
-  private boolean jj_3R_945() {
+  private boolean jj_3R_949() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_83() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    if (jj_3R_543()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_158()) {
+      jj_scanpos = xsp;
+      if (jj_3R_713()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3_161()) {
+      jj_scanpos = xsp;
+      if (jj_3R_714()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_676() {
-    if (jj_3R_818()) return true;
+  private boolean jj_3R_677() {
+    if (jj_3R_822()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1020()) {
+      if (jj_3R_1024()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32382,209 +32764,168 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_648() {
+    if (jj_3R_646()) return true;
+    return false;
+  }
+
   private boolean jj_3R_647() {
-    if (jj_3R_645()) return true;
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_305() {
+    if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3_157() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_232()) jj_scanpos = xsp;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_233()) {
-      jj_scanpos = xsp;
-      if (jj_3R_234()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_845()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_846()) jj_scanpos = xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_847()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_304() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
+  private boolean jj_3R_584() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_676()) jj_scanpos = xsp;
+    if (jj_3R_677()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_260()) return true;
+    if (jj_3R_261()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_945()) jj_scanpos = xsp;
+    if (jj_3R_949()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_946()) jj_scanpos = xsp;
+    if (jj_3R_950()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_947()) jj_scanpos = xsp;
+    if (jj_3R_951()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_948()) jj_scanpos = xsp;
+    if (jj_3R_952()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_83() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_542()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_157()) {
-      jj_scanpos = xsp;
-      if (jj_3R_712()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3_160()) {
-      jj_scanpos = xsp;
-      if (jj_3R_713()) return true;
-    }
+  private boolean jj_3R_538() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_303() {
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
+  private boolean jj_3R_110() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_304()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_305()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_334() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_537() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
+  private boolean jj_3R_333() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
+  private boolean jj_3R_536() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_535() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
-    if (jj_scan_token(FORCE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_303() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3_156() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_1031() {
-    if (jj_3R_645()) return true;
+  private boolean jj_3R_1035() {
+    if (jj_3R_646()) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_533() {
+    if (jj_3R_477()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_647()) jj_scanpos = xsp;
+    if (jj_3R_648()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3R_332() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_534()) {
+    if (jj_3R_535()) {
       jj_scanpos = xsp;
-      if (jj_3R_535()) {
+      if (jj_3R_536()) {
         jj_scanpos = xsp;
-        if (jj_3R_536()) {
+        if (jj_3R_537()) {
           jj_scanpos = xsp;
-          if (jj_3R_537()) return true;
+          if (jj_3R_538()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_109() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_303()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_304()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_330() {
-    if (jj_3R_477()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_478()) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
+  private boolean jj_3R_329() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_531()) {
+    if (jj_3R_532()) {
       jj_scanpos = xsp;
-      if (jj_3R_532()) return true;
+      if (jj_3R_533()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_531() {
-    if (jj_3R_645()) return true;
+  private boolean jj_3R_532() {
+    if (jj_3R_646()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_646()) jj_scanpos = xsp;
+    if (jj_3R_647()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_329() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_330() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_1030() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_1034() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3_155() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_328() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
@@ -32599,43 +32940,56 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3R_325() {
-    if (jj_3R_528()) return true;
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_472()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_109() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_156()) {
+      jj_scanpos = xsp;
+      if (jj_3R_303()) return true;
+    }
     return false;
   }
 
   private boolean jj_3R_324() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_528()) return true;
     return false;
   }
 
   private boolean jj_3R_323() {
-    if (jj_3R_527()) return true;
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_976() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_961() {
-    if (jj_3R_476()) return true;
+  private boolean jj_3R_965() {
+    if (jj_3R_477()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1031()) jj_scanpos = xsp;
+    if (jj_3R_1035()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_156() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_322()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_260()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_323()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_261()) return true;
     xsp = jj_scanpos;
     if (jj_3R_324()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -32656,175 +33010,168 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_332()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_333()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_108() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_155()) {
-      jj_scanpos = xsp;
-      if (jj_3R_302()) return true;
-    }
+    if (jj_3R_334()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_960() {
-    if (jj_3R_645()) return true;
+  private boolean jj_3R_964() {
+    if (jj_3R_646()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1030()) jj_scanpos = xsp;
+    if (jj_3R_1034()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_821() {
+  private boolean jj_3R_825() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_960()) {
+    if (jj_3R_964()) {
       jj_scanpos = xsp;
-      if (jj_3R_961()) return true;
+      if (jj_3R_965()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_965() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_712() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_848() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_847()) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
-    if (jj_scan_token(NOCACHE)) return true;
+  private boolean jj_3R_969() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_scan_token(PARALLEL)) return true;
+  private boolean jj_3R_710() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_968() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_972() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_830() {
+    if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_711() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_847()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_848()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_711() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_829() {
+    if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_843()) return true;
+  private boolean jj_3R_967() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_scan_token(LOCK)) return true;
+  private boolean jj_3R_847() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_962()) {
-      jj_scanpos = xsp;
-      if (jj_3R_963()) {
-        jj_scanpos = xsp;
-        if (jj_3R_964()) {
-          jj_scanpos = xsp;
-          if (jj_3R_965()) return true;
-        }
-      }
-    }
+    if (jj_3R_976()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_709() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_966() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_3R_477()) return true;
+  private boolean jj_3_155() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_843()) return true;
+  private boolean jj_3R_828() {
+    if (jj_scan_token(LOCK)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_844()) {
+    xsp = jj_scanpos;
+    if (jj_3R_966()) {
+      jj_scanpos = xsp;
+      if (jj_3R_967()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_968()) {
+          jj_scanpos = xsp;
+          if (jj_3R_969()) return true;
+        }
       }
     }
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_822() {
-    if (jj_3R_533()) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_972()) jj_scanpos = xsp;
+  private boolean jj_3R_827() {
+    if (jj_3R_478()) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_826() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_824() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
-    if (jj_3R_527()) return true;
+  private boolean jj_3R_823() {
+    if (jj_3R_528()) return true;
     return false;
   }
 
-  private boolean jj_3_55() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3_56() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
-    if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_82() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_819()) jj_scanpos = xsp;
+    if (jj_3_155()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_820()) jj_scanpos = xsp;
+    if (jj_3R_710()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_821()) jj_scanpos = xsp;
+    if (jj_3R_711()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_822()) jj_scanpos = xsp;
+    if (jj_3R_712()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_366() {
+    if (jj_scan_token(SELECT)) return true;
+    if (jj_3R_462()) return true;
+    Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_823()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -32833,16 +33180,42 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_825()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_826()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_827()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_828()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_829()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_830()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_54() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_156()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_412() {
+    if (jj_3R_157()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_232() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_302() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
   private boolean jj_3R_411() {
-    if (jj_3R_156()) return true;
+    if (jj_3R_585()) return true;
     return false;
   }
 
@@ -32851,59 +33224,49 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_108() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(VIEW)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_154()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_709()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_711()) jj_scanpos = xsp;
+    if (jj_3R_302()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_409() {
-    if (jj_3R_583()) return true;
+    if (jj_3R_366()) return true;
     return false;
   }
 
   private boolean jj_3R_408() {
-    if (jj_3R_365()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_301() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_202() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_407()) {
+    if (jj_3R_408()) {
       jj_scanpos = xsp;
-      if (jj_3R_408()) {
+      if (jj_3R_409()) {
         jj_scanpos = xsp;
-        if (jj_3R_409()) {
+        if (jj_3R_410()) {
           jj_scanpos = xsp;
-          if (jj_3R_410()) {
+          if (jj_3R_411()) {
             jj_scanpos = xsp;
-            if (jj_3R_411()) return true;
+            if (jj_3R_412()) return true;
           }
         }
       }
@@ -32911,526 +33274,449 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_301() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_507() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_107() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_301()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_300() {
-    if (jj_scan_token(UNSAFE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_51() {
-    if (jj_3R_118()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_299() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3_53() {
-    if (jj_3R_154()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_457() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3_50() {
-    if (jj_3R_117()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_506() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_106() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_299()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_300()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_301()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_49() {
-    if (jj_3R_116()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_243() {
-    if (jj_3R_459()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_508() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3_48() {
-    if (jj_3R_115()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_153() {
-    if (jj_3R_118()) return true;
+  private boolean jj_3R_509() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_299() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_508() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_506() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3_52() {
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_54() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_458() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3_51() {
+    if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3_50() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_115()) return true;
+  private boolean jj_3R_505() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_244() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3R_298() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_507()) {
+    if (jj_3R_508()) {
       jj_scanpos = xsp;
-      if (jj_3R_508()) return true;
+      if (jj_3R_509()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_503() {
-    if (jj_scan_token(272)) return true;
+  private boolean jj_3R_504() {
+    if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_297() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_506()) {
+    if (jj_3R_507()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_503() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_243() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3_48() {
+    if (jj_3R_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_318()) return true;
+  private boolean jj_3R_242() {
+    if (jj_3R_459()) return true;
     return false;
   }
 
-  private boolean jj_3R_295() {
+  private boolean jj_3R_153() {
+    if (jj_3R_118()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_152() {
+    if (jj_3R_117()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_296() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_505()) {
+    if (jj_3R_506()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_317()) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_501() {
+  private boolean jj_3R_502() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_316()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_142() {
-    if (jj_3R_315()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
+  private boolean jj_3R_501() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_314()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_140() {
-    if (jj_3R_313()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
-    if (jj_3R_111()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_321()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_312()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_320()) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
+  private boolean jj_3R_295() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) {
+    if (jj_3R_503()) {
       jj_scanpos = xsp;
-      if (jj_3R_503()) {
+      if (jj_3R_504()) {
         jj_scanpos = xsp;
-        if (jj_3R_504()) return true;
+        if (jj_3R_505()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_46() {
-    if (jj_3R_113()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_319()) return true;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_112()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_318()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_317()) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
+  private boolean jj_3R_143() {
+    if (jj_3R_316()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_500() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_3R_111()) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_499() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_314()) return true;
     return false;
   }
 
-  private boolean jj_3_43() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3_45() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_313()) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_500()) {
+    if (jj_3R_501()) {
       jj_scanpos = xsp;
-      if (jj_3R_501()) return true;
+      if (jj_3R_502()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_3R_311()) return true;
+  private boolean jj_3_47() {
+    if (jj_3R_114()) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_106()) return true;
+  private boolean jj_3R_498() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3_46() {
+    if (jj_3R_113()) return true;
     return false;
   }
 
   private boolean jj_3R_497() {
-    if (jj_3R_70()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_43() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_293() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3_42() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3_44() {
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_106()) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_138() {
+    if (jj_3R_312()) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
+  private boolean jj_3R_496() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
+  private boolean jj_3R_292() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_498()) {
+    if (jj_3R_499()) {
       jj_scanpos = xsp;
-      if (jj_3R_499()) return true;
+      if (jj_3R_500()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_101()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_132() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_495() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3_33() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_136() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_635() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
+  private boolean jj_3R_291() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_496()) {
+    if (jj_3R_497()) {
       jj_scanpos = xsp;
-      if (jj_3R_497()) return true;
+      if (jj_3R_498()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_492() {
+  private boolean jj_3R_493() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
+  private boolean jj_3R_290() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_494()) {
+    if (jj_3R_495()) {
       jj_scanpos = xsp;
-      if (jj_3R_495()) return true;
+      if (jj_3R_496()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_98()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_491() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_492() {
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_634()) {
+      if (jj_3R_635()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33438,241 +33724,266 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3_32() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_493()) return true;
+    if (jj_3R_494()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
+  private boolean jj_3_30() {
+    if (jj_3R_97()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_491() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_490() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_128() {
+    if (jj_3R_311()) return true;
+    return false;
+  }
+
+  private boolean jj_3_28() {
+    if (jj_3R_95()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_127() {
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_634() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_126() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
+  private boolean jj_3_26() {
+    if (jj_3R_93()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_489() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_632()) {
+    if (jj_3R_633()) {
       jj_scanpos = xsp;
-      if (jj_3R_633()) return true;
+      if (jj_3R_634()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_632() {
+  private boolean jj_3R_633() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
+  private boolean jj_3R_125() {
+    if (jj_3R_96()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_288() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_491()) {
+    if (jj_3R_492()) {
       jj_scanpos = xsp;
-      if (jj_3R_492()) return true;
+      if (jj_3R_493()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_124() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3R_123() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_488() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_122() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_287() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_488()) jj_scanpos = xsp;
+    if (jj_3R_489()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_489()) {
+    if (jj_3R_490()) {
       jj_scanpos = xsp;
-      if (jj_3R_490()) return true;
+      if (jj_3R_491()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3_22() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3_21() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3_20() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
+  private boolean jj_3R_286() {
     if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) {
+    if (jj_3R_488()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_81()) return true;
-    return false;
-  }
-
-  private boolean jj_3_13() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_284() {
+  private boolean jj_3R_285() {
     if (jj_scan_token(NAME)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_309()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_77()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
+  private boolean jj_3R_105() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_284()) {
+    if (jj_3R_285()) {
       jj_scanpos = xsp;
-      if (jj_3R_285()) {
+      if (jj_3R_286()) {
         jj_scanpos = xsp;
-        if (jj_3R_286()) {
+        if (jj_3R_287()) {
           jj_scanpos = xsp;
-          if (jj_3R_287()) {
+          if (jj_3R_288()) {
             jj_scanpos = xsp;
-            if (jj_3R_288()) {
+            if (jj_3R_289()) {
               jj_scanpos = xsp;
-              if (jj_3R_289()) {
+              if (jj_3R_290()) {
                 jj_scanpos = xsp;
-                if (jj_3R_290()) {
+                if (jj_3R_291()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_291()) {
+                  if (jj_3R_292()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_292()) {
+                    if (jj_3R_293()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_293()) {
+                      if (jj_3R_294()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_294()) {
+                        if (jj_3R_295()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_295()) {
+                          if (jj_3R_296()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_296()) {
+                            if (jj_3R_297()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_297()) return true;
+                              if (jj_3R_298()) return true;
                             }
                           }
                         }
@@ -33687,38 +33998,129 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_298()) jj_scanpos = xsp;
+    if (jj_3R_299()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3_13() {
+    if (jj_3R_80()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_709() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
+  private boolean jj_3R_121() {
+    if (jj_3R_310()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_708() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3_12() {
+    if (jj_3R_79()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_846() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3_52() {
+  private boolean jj_3_11() {
+    if (jj_3R_78()) return true;
+    return false;
+  }
+
+  private boolean jj_3_10() {
+    if (jj_3R_77()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_845() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_120() {
+    if (jj_3R_202()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_707() {
+    if (jj_scan_token(ABSTRACT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_705() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_70()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_846()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_706() {
+    if (jj_scan_token(CLUSTERS)) return true;
+    if (jj_3R_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_81() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VIEW)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_708()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_202()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_709()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_704() {
+    if (jj_scan_token(EXTENDS)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_845()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3_53() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_119()) {
+    if (jj_3R_120()) {
       jj_scanpos = xsp;
       if (jj_3_10()) {
         jj_scanpos = xsp;
@@ -33726,7 +34128,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_scanpos = xsp;
           if (jj_3_12()) {
             jj_scanpos = xsp;
-            if (jj_3R_120()) {
+            if (jj_3R_121()) {
               jj_scanpos = xsp;
               if (jj_3_13()) {
                 jj_scanpos = xsp;
@@ -33754,35 +34156,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                       jj_scanpos = xsp;
                                       if (jj_3_25()) {
                                         jj_scanpos = xsp;
-                                        if (jj_3R_121()) {
+                                        if (jj_3R_122()) {
                                           jj_scanpos = xsp;
-                                          if (jj_3R_122()) {
+                                          if (jj_3R_123()) {
                                             jj_scanpos = xsp;
-                                            if (jj_3R_123()) {
+                                            if (jj_3R_124()) {
                                               jj_scanpos = xsp;
-                                              if (jj_3R_124()) {
+                                              if (jj_3R_125()) {
                                                 jj_scanpos = xsp;
-                                                if (jj_3R_125()) {
+                                                if (jj_3R_126()) {
                                                   jj_scanpos = xsp;
-                                                  if (jj_3R_126()) {
+                                                  if (jj_3R_127()) {
                                                     jj_scanpos = xsp;
-                                                    if (jj_3R_127()) {
+                                                    if (jj_3R_128()) {
                                                       jj_scanpos = xsp;
-                                                      if (jj_3R_128()) {
+                                                      if (jj_3R_129()) {
                                                         jj_scanpos = xsp;
-                                                        if (jj_3R_129()) {
+                                                        if (jj_3R_130()) {
                                                           jj_scanpos = xsp;
-                                                          if (jj_3R_130()) {
+                                                          if (jj_3R_131()) {
                                                             jj_scanpos = xsp;
-                                                            if (jj_3R_131()) {
+                                                            if (jj_3_35()) {
                                                               jj_scanpos = xsp;
-                                                              if (jj_3_36()) {
+                                                              if (jj_3R_132()) {
                                                                 jj_scanpos = xsp;
-                                                                if (jj_3R_132()) {
+                                                                if (jj_3_37()) {
                                                                   jj_scanpos = xsp;
-                                                                  if (jj_3_38()) {
+                                                                  if (jj_3R_133()) {
                                                                     jj_scanpos = xsp;
-                                                                    if (jj_3R_133()) {
+                                                                    if (jj_3_39()) {
                                                                       jj_scanpos = xsp;
                                                                       if (jj_3R_134()) {
                                                                         jj_scanpos = xsp;
@@ -33792,17 +34194,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                             jj_scanpos = xsp;
                                                                             if (jj_3R_137()) {
                                                                               jj_scanpos = xsp;
-                                                                              if (jj_3_43()) {
+                                                                              if (jj_3R_138()) {
                                                                                 jj_scanpos = xsp;
-                                                                                if (jj_3R_138()) {
+                                                                                if (jj_3_44()) {
                                                                                   jj_scanpos = xsp;
-                                                                                  if (jj_3_45()) {
+                                                                                  if (jj_3R_139()) {
                                                                                     jj_scanpos =
                                                                                         xsp;
                                                                                     if (jj_3_46()) {
                                                                                       jj_scanpos =
                                                                                           xsp;
-                                                                                      if (jj_3R_139()) {
+                                                                                      if (jj_3_47()) {
                                                                                         jj_scanpos =
                                                                                             xsp;
                                                                                         if (jj_3R_140()) {
@@ -33844,8 +34246,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                 if (jj_3R_152()) {
                                                                                                                   jj_scanpos =
                                                                                                                       xsp;
-                                                                                                                  if (jj_3R_153())
-                                                                                                                    return true;
+                                                                                                                  if (jj_3R_153()) {
+                                                                                                                    jj_scanpos =
+                                                                                                                        xsp;
+                                                                                                                    if (jj_3R_154())
+                                                                                                                      return true;
+                                                                                                                  }
                                                                                                                 }
                                                                                                               }
                                                                                                             }
@@ -33904,12 +34310,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_841() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
   private boolean jj_3_9() {
     if (jj_3R_76()) return true;
     return false;
@@ -33918,117 +34318,91 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_76() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_52()) {
+    if (jj_3_53()) {
       jj_scanpos = xsp;
-      if (jj_3R_241()) {
+      if (jj_3R_242()) {
         jj_scanpos = xsp;
-        if (jj_3R_242()) {
+        if (jj_3R_243()) {
           jj_scanpos = xsp;
-          if (jj_3R_243()) return true;
+          if (jj_3R_244()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_706() {
-    if (jj_scan_token(ABSTRACT)) return true;
+  private boolean jj_3R_703() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_70()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_842()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_652() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
-    if (jj_scan_token(CLUSTERS)) return true;
-    if (jj_3R_70()) return true;
+  private boolean jj_3R_651() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_707()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_201()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_708()) jj_scanpos = xsp;
+  private boolean jj_3R_240() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
   private boolean jj_3R_239() {
-    if (jj_3R_457()) return true;
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
-    if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_80() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_841()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_238() {
-    if (jj_3R_76()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_703()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_704()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_705()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_706()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_707()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_71() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_238()) {
+    if (jj_3R_239()) {
       jj_scanpos = xsp;
-      if (jj_3R_239()) return true;
+      if (jj_3R_240()) return true;
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_651() {
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_650() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_237() {
+    if (jj_3R_76()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(199)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_541() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(197)) jj_scanpos = xsp;
+    if (jj_3R_651()) {
+      jj_scanpos = xsp;
+      if (jj_3R_652()) return true;
+    }
     return false;
   }
 
@@ -34037,21 +34411,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_80() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_702()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_703()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_704()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
+  private boolean jj_3R_540() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_632() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
@@ -34060,6 +34427,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_539() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
   private boolean jj_3_6() {
     if (jj_3R_73()) return true;
     return false;
@@ -34070,14 +34442,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_540() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_337() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_650()) {
+    if (jj_3R_539()) {
       jj_scanpos = xsp;
-      if (jj_3R_651()) return true;
+      if (jj_3R_540()) return true;
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_541()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
@@ -34086,163 +34466,158 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_487() {
+    if (jj_3R_172()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_632()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_336() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_76()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_335() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_637() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_635() {
+  private boolean jj_3R_636() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_157() {
+    if (jj_scan_token(FIND)) return true;
+    if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_538()) {
+    if (jj_3R_335()) {
       jj_scanpos = xsp;
-      if (jj_3R_539()) return true;
-    }
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_540()) {
-        jj_scanpos = xsp;
-        break;
-      }
+      if (jj_3R_336()) return true;
     }
-    if (jj_scan_token(RBRACKET)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_337()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_493() {
+  private boolean jj_3R_494() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
+    if (jj_3R_636()) {
       jj_scanpos = xsp;
-      if (jj_3R_636()) return true;
+      if (jj_3R_637()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_486() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_631()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_240() {
+  private boolean jj_3R_241() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_76()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_284() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_487()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_283() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
   private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
+    if (jj_3R_241()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
-    if (jj_scan_token(FIND)) return true;
-    if (jj_scan_token(REFERENCES)) return true;
+  private boolean jj_3R_103() {
+    if (jj_scan_token(TRUNCATE)) return true;
+    if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_334()) {
+    if (jj_3R_283()) {
       jj_scanpos = xsp;
-      if (jj_3R_335()) return true;
+      if (jj_3R_284()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_283() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_486()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_738() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_737() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_739() {
+    if (jj_scan_token(THROTTLE)) return true;
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_237()) jj_scanpos = xsp;
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_238() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
   private boolean jj_3R_102() {
-    if (jj_scan_token(TRUNCATE)) return true;
-    if (jj_scan_token(RECORD)) return true;
+    if (jj_scan_token(COMPACT)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_282()) {
+    if (jj_3R_737()) {
       jj_scanpos = xsp;
-      if (jj_3R_283()) return true;
+      if (jj_3R_738()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_739()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_70() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_238()) jj_scanpos = xsp;
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_281() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_280() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -34252,26 +34627,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_279()) {
+    if (jj_3R_280()) {
       jj_scanpos = xsp;
-      if (jj_3R_280()) return true;
+      if (jj_3R_281()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_281()) jj_scanpos = xsp;
+    if (jj_3R_282()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_279() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
+  private boolean jj_3R_278() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
+  private boolean jj_3R_277() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
@@ -34279,16 +34654,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_100() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_277()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_278()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_279()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_275() {
+  private boolean jj_3R_276() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
@@ -34298,215 +34673,234 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_275()) {
+    if (jj_3R_276()) {
       jj_scanpos = xsp;
-      if (jj_3R_276()) return true;
+      if (jj_3R_277()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_457() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_456() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_607()) jj_scanpos = xsp;
+    if (jj_3R_608()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_231() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_455()) {
+    if (jj_3R_456()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(218)) return true;
+      if (jj_scan_token(220)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_456()) jj_scanpos = xsp;
+    if (jj_3R_457()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_607() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_455() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
+  private boolean jj_3R_454() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_606()) jj_scanpos = xsp;
+    if (jj_3R_607()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_230() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_453()) {
+    if (jj_3R_454()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(218)) return true;
+      if (jj_scan_token(220)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_454()) jj_scanpos = xsp;
+    if (jj_3R_455()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_453() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_605()) jj_scanpos = xsp;
+    if (jj_3R_606()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_229() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_451()) {
+    if (jj_3R_452()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(218)) return true;
+      if (jj_scan_token(220)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_452()) jj_scanpos = xsp;
+    if (jj_3R_453()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
+  private boolean jj_3R_450() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_604()) jj_scanpos = xsp;
+    if (jj_3R_605()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_228() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_449()) {
+    if (jj_3R_450()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(218)) return true;
+      if (jj_scan_token(220)) return true;
     }
-    if (jj_3R_448()) return true;
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_1080() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_1084() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1077() {
+  private boolean jj_3R_1081() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1080()) jj_scanpos = xsp;
+    if (jj_3R_1084()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1072() {
+  private boolean jj_3R_1076() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1077()) {
+    if (jj_3R_1081()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(218)) return true;
+      if (jj_scan_token(220)) return true;
     }
-    if (jj_3R_448()) return true;
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_448() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_602()) jj_scanpos = xsp;
+    if (jj_3R_603()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
+  private boolean jj_3R_227() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_447()) {
+    if (jj_3R_448()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(218)) return true;
+      if (jj_scan_token(220)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_448()) return true;
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_971() {
+  private boolean jj_3R_975() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
+  private boolean jj_3R_844() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
+  private boolean jj_3R_974() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_842() {
+    if (jj_scan_token(OPTIONAL)) return true;
+    if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(259)) {
+    if (jj_3R_974()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(245)) {
+      if (jj_3R_975()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_841() {
+    if (jj_scan_token(MAXDEPTH)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_168() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(261)) {
+      jj_scanpos = xsp;
+      if (jj_scan_token(247)) {
         jj_scanpos = xsp;
         if (jj_scan_token(28)) {
           jj_scanpos = xsp;
@@ -34522,7 +34916,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     jj_scanpos = xsp;
                     if (jj_scan_token(39)) {
                       jj_scanpos = xsp;
-                      if (jj_scan_token(256)) {
+                      if (jj_scan_token(258)) {
                         jj_scanpos = xsp;
                         if (jj_scan_token(45)) {
                           jj_scanpos = xsp;
@@ -34564,9 +34958,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                               jj_scanpos = xsp;
                                                               if (jj_scan_token(86)) {
                                                                 jj_scanpos = xsp;
-                                                                if (jj_scan_token(88)) {
+                                                                if (jj_scan_token(87)) {
                                                                   jj_scanpos = xsp;
-                                                                  if (jj_scan_token(89)) {
+                                                                  if (jj_scan_token(88)) {
                                                                     jj_scanpos = xsp;
                                                                     if (jj_scan_token(90)) {
                                                                       jj_scanpos = xsp;
@@ -34582,18 +34976,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                   95)) {
                                                                                 jj_scanpos = xsp;
                                                                                 if (jj_scan_token(
-                                                                                    76)) {
+                                                                                    96)) {
                                                                                   jj_scanpos = xsp;
                                                                                   if (jj_scan_token(
-                                                                                      78)) {
+                                                                                      97)) {
                                                                                     jj_scanpos =
                                                                                         xsp;
                                                                                     if (jj_scan_token(
-                                                                                        96)) {
+                                                                                        76)) {
                                                                                       jj_scanpos =
                                                                                           xsp;
                                                                                       if (jj_scan_token(
-                                                                                          97)) {
+                                                                                          78)) {
                                                                                         jj_scanpos =
                                                                                             xsp;
                                                                                         if (jj_scan_token(
@@ -34637,19 +35031,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                             jj_scanpos =
                                                                                                                 xsp;
                                                                                                             if (jj_scan_token(
-                                                                                                                109)) {
+                                                                                                                108)) {
                                                                                                               jj_scanpos =
                                                                                                                   xsp;
                                                                                                               if (jj_scan_token(
-                                                                                                                  108)) {
+                                                                                                                  109)) {
                                                                                                                 jj_scanpos =
                                                                                                                     xsp;
                                                                                                                 if (jj_scan_token(
-                                                                                                                    110)) {
+                                                                                                                    111)) {
                                                                                                                   jj_scanpos =
                                                                                                                       xsp;
                                                                                                                   if (jj_scan_token(
-                                                                                                                      111)) {
+                                                                                                                      110)) {
                                                                                                                     jj_scanpos =
                                                                                                                         xsp;
                                                                                                                     if (jj_scan_token(
@@ -34777,27 +35171,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                       xsp;
                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                      59)) {
+                                                                                                                                                                                      143)) {
                                                                                                                                                                                     jj_scanpos =
                                                                                                                                                                                         xsp;
                                                                                                                                                                                     if (jj_scan_token(
-                                                                                                                                                                                        60)) {
+                                                                                                                                                                                        144)) {
                                                                                                                                                                                       jj_scanpos =
                                                                                                                                                                                           xsp;
                                                                                                                                                                                       if (jj_scan_token(
-                                                                                                                                                                                          62)) {
+                                                                                                                                                                                          59)) {
                                                                                                                                                                                         jj_scanpos =
                                                                                                                                                                                             xsp;
                                                                                                                                                                                         if (jj_scan_token(
-                                                                                                                                                                                            63)) {
+                                                                                                                                                                                            60)) {
                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                               xsp;
                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                              143)) {
+                                                                                                                                                                                              62)) {
                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                 xsp;
                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                144)) {
+                                                                                                                                                                                                63)) {
                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                   xsp;
                                                                                                                                                                                               if (jj_scan_token(
@@ -34805,11 +35199,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                                    147)) {
+                                                                                                                                                                                                    146)) {
                                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                                       xsp;
                                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                                      148)) {
+                                                                                                                                                                                                      147)) {
                                                                                                                                                                                                     jj_scanpos =
                                                                                                                                                                                                         xsp;
                                                                                                                                                                                                     if (jj_scan_token(
@@ -34825,11 +35219,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                                               xsp;
                                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                                              153)) {
+                                                                                                                                                                                                              152)) {
                                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                                 xsp;
                                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                                154)) {
+                                                                                                                                                                                                                153)) {
                                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                                   xsp;
                                                                                                                                                                                                               if (jj_scan_token(
@@ -34853,24 +35247,34 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                                         jj_scanpos =
                                                                                                                                                                                                                             xsp;
                                                                                                                                                                                                                         if (jj_scan_token(
-                                                                                                                                                                                                                            162)) {
+                                                                                                                                                                                                                            160)) {
                                                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                                                               xsp;
                                                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                                                              160)) {
+                                                                                                                                                                                                                              161)) {
                                                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                                                 xsp;
                                                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                                                161)) {
+                                                                                                                                                                                                                                164)) {
                                                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                                                   xsp;
                                                                                                                                                                                                                               if (jj_scan_token(
-                                                                                                                                                                                                                                  163)) {
+                                                                                                                                                                                                                                  162)) {
                                                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                                                                    260))
-                                                                                                                                                                                                                                  return true;
+                                                                                                                                                                                                                                    163)) {
+                                                                                                                                                                                                                                  jj_scanpos =
+                                                                                                                                                                                                                                      xsp;
+                                                                                                                                                                                                                                  if (jj_scan_token(
+                                                                                                                                                                                                                                      165)) {
+                                                                                                                                                                                                                                    jj_scanpos =
+                                                                                                                                                                                                                                        xsp;
+                                                                                                                                                                                                                                    if (jj_scan_token(
+                                                                                                                                                                                                                                        262))
+                                                                                                                                                                                                                                      return true;
+                                                                                                                                                                                                                                  }
+                                                                                                                                                                                                                                }
                                                                                                                                                                                                                               }
                                                                                                                                                                                                                             }
                                                                                                                                                                                                                           }
@@ -34984,160 +35388,141 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_838() {
-    if (jj_scan_token(OPTIONAL)) return true;
-    if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_970()) {
-      jj_scanpos = xsp;
-      if (jj_3R_971()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_837() {
-    if (jj_scan_token(MAXDEPTH)) return true;
+  private boolean jj_3R_840() {
+    if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_70()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_472()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
+  private boolean jj_3R_599() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(186)) {
+    if (jj_scan_token(188)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(167)) return true;
+      if (jj_scan_token(169)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_836() {
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_471()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_835() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_471()) return true;
+    if (jj_3R_472()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_969() {
+  private boolean jj_3R_973() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_71()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_834() {
+  private boolean jj_3R_838() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_968() {
+  private boolean jj_3R_972() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_967() {
+  private boolean jj_3_3() {
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_971() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_970() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_836() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_968()) {
+    if (jj_3R_972()) {
       jj_scanpos = xsp;
-      if (jj_3R_969()) return true;
+      if (jj_3R_973()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_966()) {
+    if (jj_3R_970()) {
       jj_scanpos = xsp;
-      if (jj_3R_967()) return true;
+      if (jj_3R_971()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_830() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_691()) return true;
+    if (jj_3R_692()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_833() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_692() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_829()) {
+    if (jj_3R_833()) {
       jj_scanpos = xsp;
-      if (jj_3R_830()) {
+      if (jj_3R_834()) {
         jj_scanpos = xsp;
-        if (jj_3R_831()) {
+        if (jj_3R_835()) {
           jj_scanpos = xsp;
-          if (jj_3R_832()) {
+          if (jj_3R_836()) {
             jj_scanpos = xsp;
-            if (jj_3R_833()) {
+            if (jj_3R_837()) {
               jj_scanpos = xsp;
-              if (jj_3R_834()) {
+              if (jj_3R_838()) {
                 jj_scanpos = xsp;
-                if (jj_3R_835()) {
+                if (jj_3R_839()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_836()) {
+                  if (jj_3R_840()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_837()) {
+                    if (jj_3R_841()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_838()) {
+                      if (jj_3R_842()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_839()) {
+                        if (jj_3R_843()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_840()) return true;
+                          if (jj_3R_844()) return true;
                         }
                       }
                     }
@@ -35152,12 +35537,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_3R_691()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_692()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_692()) {
+      if (jj_3R_693()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35165,61 +35550,66 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_370() {
+  private boolean jj_3_154() {
+    if (jj_3R_231()) return true;
+    return false;
+  }
+
+  private boolean jj_3_153() {
+    if (jj_3R_230()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_371() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(166)) {
+    if (jj_scan_token(168)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(167)) return true;
+      if (jj_scan_token(169)) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3_152() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3_152() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_449() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_604()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_3R_70()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_70()) return true;
+  private boolean jj_3R_1078() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_scan_token(270)) return true;
+  private boolean jj_3_2() {
     if (jj_3R_70()) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_3R_228()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_448() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_603()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_1074() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3_1() {
+    if (jj_scan_token(272)) return true;
+    if (jj_3R_70()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_70()) return true;
     return false;
   }
 
@@ -35233,154 +35623,154 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_446() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1()) {
+    if (jj_3R_600()) {
       jj_scanpos = xsp;
-      if (jj_3_2()) {
+      if (jj_3R_601()) {
         jj_scanpos = xsp;
-        if (jj_3R_370()) return true;
+        if (jj_3R_602()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_3R_228()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_445() {
+  private boolean jj_3R_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_599()) {
+    if (jj_3_1()) {
       jj_scanpos = xsp;
-      if (jj_3R_600()) {
+      if (jj_3_2()) {
         jj_scanpos = xsp;
-        if (jj_3R_601()) return true;
+        if (jj_3R_371()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_150() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3_151() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
+  private boolean jj_3R_225() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_445()) return true;
+    if (jj_3R_446()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_445()) {
+      if (jj_3R_446()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1074()) jj_scanpos = xsp;
+    if (jj_3R_1078()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1076() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_1080() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_1075() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3R_1079() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
+  private boolean jj_3R_226() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_446()) return true;
+    if (jj_3R_447()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1075()) {
+      if (jj_3R_1079()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1076()) jj_scanpos = xsp;
+    if (jj_3R_1080()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1079() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_1083() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_447() {
+    if (jj_3R_174()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1079()) jj_scanpos = xsp;
+    if (jj_3R_1083()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1078() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_1082() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_1073() {
+  private boolean jj_3R_1077() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1078()) jj_scanpos = xsp;
+    if (jj_3R_1082()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_3R_227()) return true;
+  private boolean jj_3_150() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3_148() {
-    if (jj_3R_226()) return true;
+  private boolean jj_3_149() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_1061() {
-    if (jj_3R_1073()) return true;
+  private boolean jj_3R_1065() {
+    if (jj_3R_1077()) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_224() {
+    if (jj_3R_183()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_450()) jj_scanpos = xsp;
+    if (jj_3R_451()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1060() {
-    if (jj_3R_227()) return true;
+  private boolean jj_3R_1064() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_1059() {
-    if (jj_3R_1072()) return true;
+  private boolean jj_3R_1063() {
+    if (jj_3R_1076()) return true;
     return false;
   }
 
-  private boolean jj_3R_1058() {
+  private boolean jj_3R_1062() {
+    if (jj_3R_227()) return true;
+    return false;
+  }
+
+  private boolean jj_3_148() {
     if (jj_3R_226()) return true;
     return false;
   }
@@ -35395,27 +35785,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_223()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1023() {
+  private boolean jj_3R_1027() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_145()) {
+    if (jj_3_146()) {
       jj_scanpos = xsp;
-      if (jj_3_146()) {
+      if (jj_3_147()) {
         jj_scanpos = xsp;
-        if (jj_3_147()) {
+        if (jj_3_148()) {
           jj_scanpos = xsp;
-          if (jj_3R_1058()) {
+          if (jj_3R_1062()) {
             jj_scanpos = xsp;
-            if (jj_3R_1059()) {
+            if (jj_3R_1063()) {
               jj_scanpos = xsp;
-              if (jj_3R_1060()) {
+              if (jj_3R_1064()) {
                 jj_scanpos = xsp;
-                if (jj_3R_1061()) return true;
+                if (jj_3R_1065()) return true;
               }
             }
           }
@@ -35425,22 +35810,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1019() {
+  private boolean jj_3R_1023() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_946() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_678() {
+    if (jj_3R_449()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1023()) {
+      if (jj_3R_1027()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35448,83 +35833,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_941() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_945() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
+  private boolean jj_3R_944() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_943() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_808() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_939()) {
+    if (jj_3R_943()) {
       jj_scanpos = xsp;
-      if (jj_3R_940()) {
+      if (jj_3R_944()) {
         jj_scanpos = xsp;
-        if (jj_3R_941()) {
+        if (jj_3R_945()) {
           jj_scanpos = xsp;
-          if (jj_3R_942()) return true;
+          if (jj_3R_946()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_807() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_937() {
+  private boolean jj_3R_941() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_806() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_805() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_804() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
+  private boolean jj_3R_653() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) {
+    if (jj_3R_804()) {
       jj_scanpos = xsp;
-      if (jj_3R_801()) {
+      if (jj_3R_805()) {
         jj_scanpos = xsp;
-        if (jj_3R_802()) {
+        if (jj_3R_806()) {
           jj_scanpos = xsp;
-          if (jj_3R_803()) return true;
+          if (jj_3R_807()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_804()) {
+      if (jj_3R_808()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35532,74 +35917,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_145() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
+  private boolean jj_3R_236() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_652()) jj_scanpos = xsp;
+    if (jj_3R_653()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1057() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1061() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_577()) return true;
+  private boolean jj_3R_822() {
+    if (jj_3R_578()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1057()) jj_scanpos = xsp;
+    if (jj_3R_1061()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_938() {
+  private boolean jj_3R_942() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1019()) jj_scanpos = xsp;
+    if (jj_3R_1023()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1018() {
+  private boolean jj_3R_1022() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_1017() {
+  private boolean jj_3R_1021() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
+  private boolean jj_3R_940() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1017()) {
+    if (jj_3R_1021()) {
       jj_scanpos = xsp;
-      if (jj_3R_1018()) return true;
+      if (jj_3R_1022()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_803() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_936()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
+    if (jj_3R_940()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_937()) jj_scanpos = xsp;
+    if (jj_3R_941()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_938()) {
+      if (jj_3R_942()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35607,35 +35992,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_802() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_649() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) {
+    if (jj_3R_802()) {
       jj_scanpos = xsp;
-      if (jj_3R_799()) return true;
+      if (jj_3R_803()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_650() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_648()) return true;
+    if (jj_3R_649()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_649()) {
+      if (jj_3R_650()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35643,18 +36028,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_556() {
+  private boolean jj_3R_557() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_377() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_556()) {
+      if (jj_3R_557()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35662,179 +36047,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_175() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_376()) jj_scanpos = xsp;
+    if (jj_3R_377()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
+  private boolean jj_3R_464() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_778() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_631() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_773()) {
+    if (jj_3R_777()) {
       jj_scanpos = xsp;
-      if (jj_3R_774()) return true;
+      if (jj_3R_778()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_773() {
+  private boolean jj_3R_777() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_478() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_70()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_630()) jj_scanpos = xsp;
+    if (jj_3R_631()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_614() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_613() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_939() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_934() {
+  private boolean jj_3R_938() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3R_466() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_612()) {
+    if (jj_3R_613()) {
       jj_scanpos = xsp;
-      if (jj_3R_613()) return true;
+      if (jj_3R_614()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_933() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_937() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_932() {
+  private boolean jj_3R_936() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_934()) {
+    if (jj_3R_938()) {
       jj_scanpos = xsp;
-      if (jj_3R_935()) return true;
+      if (jj_3R_939()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1016() {
+  private boolean jj_3R_1020() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_800() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_932()) {
+    if (jj_3R_936()) {
       jj_scanpos = xsp;
-      if (jj_3R_933()) return true;
+      if (jj_3R_937()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_645() {
+  private boolean jj_3R_646() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_796()) {
+    if (jj_3R_800()) {
       jj_scanpos = xsp;
-      if (jj_3R_797()) return true;
+      if (jj_3R_801()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_629() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_630() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
+  private boolean jj_3R_629() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_1017() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
+  private boolean jj_3R_477() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_628()) {
+    if (jj_3R_629()) {
       jj_scanpos = xsp;
-      if (jj_3R_629()) return true;
+      if (jj_3R_630()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_644() {
+  private boolean jj_3R_645() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_641() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_531() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_644()) {
+      if (jj_3R_645()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35842,63 +36227,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1014() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1018() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_929() {
+  private boolean jj_3R_933() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_928() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_932() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_931() {
+  private boolean jj_3R_935() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_1015() {
+  private boolean jj_3R_1019() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
+  private boolean jj_3R_934() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1015()) {
+    if (jj_3R_1019()) {
       jj_scanpos = xsp;
-      if (jj_3R_1016()) return true;
+      if (jj_3R_1020()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_927() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_931() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1014()) jj_scanpos = xsp;
+    if (jj_3R_1018()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_528() {
+  private boolean jj_3R_529() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_640()) {
+      if (jj_3R_641()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35906,238 +36291,238 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1011() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1015() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_924() {
+  private boolean jj_3R_928() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_923() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_927() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_1012() {
+  private boolean jj_3R_1016() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
+  private boolean jj_3R_929() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1012()) {
+    if (jj_3R_1016()) {
       jj_scanpos = xsp;
-      if (jj_3R_1013()) return true;
+      if (jj_3R_1017()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_927()) {
+    if (jj_3R_931()) {
       jj_scanpos = xsp;
-      if (jj_3R_928()) {
+      if (jj_3R_932()) {
         jj_scanpos = xsp;
-        if (jj_3R_929()) return true;
+        if (jj_3R_933()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_930()) jj_scanpos = xsp;
+    if (jj_3R_934()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_931()) jj_scanpos = xsp;
+    if (jj_3R_935()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_918() {
+  private boolean jj_3R_922() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_926() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1011()) jj_scanpos = xsp;
+    if (jj_3R_1015()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_794() {
+  private boolean jj_3R_798() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_922()) {
+    if (jj_3R_926()) {
       jj_scanpos = xsp;
-      if (jj_3R_923()) {
+      if (jj_3R_927()) {
         jj_scanpos = xsp;
-        if (jj_3R_924()) return true;
+        if (jj_3R_928()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_925()) jj_scanpos = xsp;
+    if (jj_3R_929()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_926()) jj_scanpos = xsp;
+    if (jj_3R_930()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_644() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) {
+    if (jj_3R_798()) {
       jj_scanpos = xsp;
-      if (jj_3R_795()) return true;
+      if (jj_3R_799()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_919() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_923() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_794() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_796() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_920()) {
+    if (jj_3R_924()) {
       jj_scanpos = xsp;
-      if (jj_3R_921()) return true;
+      if (jj_3R_925()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_920() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_793() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_919()) jj_scanpos = xsp;
+    if (jj_3R_923()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_916() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_920() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
+  private boolean jj_3R_790() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_789() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
+  private boolean jj_3R_792() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
+  private boolean jj_3R_791() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_917()) {
+    if (jj_3R_921()) {
       jj_scanpos = xsp;
-      if (jj_3R_918()) return true;
+      if (jj_3R_922()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_921() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_643() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_789()) {
+    if (jj_3R_793()) {
       jj_scanpos = xsp;
-      if (jj_3R_790()) {
+      if (jj_3R_794()) {
         jj_scanpos = xsp;
-        if (jj_3R_791()) return true;
+        if (jj_3R_795()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_792()) jj_scanpos = xsp;
+    if (jj_3R_796()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_793()) jj_scanpos = xsp;
+    if (jj_3R_797()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_788() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_916()) jj_scanpos = xsp;
+    if (jj_3R_920()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_641() {
+  private boolean jj_3R_642() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_784()) {
+    if (jj_3R_788()) {
       jj_scanpos = xsp;
-      if (jj_3R_785()) {
+      if (jj_3R_789()) {
         jj_scanpos = xsp;
-        if (jj_3R_786()) return true;
+        if (jj_3R_790()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_787()) jj_scanpos = xsp;
+    if (jj_3R_791()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) jj_scanpos = xsp;
+    if (jj_3R_792()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_529() {
+  private boolean jj_3R_530() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_641()) {
+    if (jj_3R_642()) {
       jj_scanpos = xsp;
-      if (jj_3R_642()) return true;
+      if (jj_3R_643()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_643()) {
+      if (jj_3R_644()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36145,313 +36530,340 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_143() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_144() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
+  private boolean jj_3R_441() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_440() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_439() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_142() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_143() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_438()) {
+    if (jj_3R_439()) {
       jj_scanpos = xsp;
-      if (jj_3R_439()) {
+      if (jj_3R_440()) {
         jj_scanpos = xsp;
-        if (jj_3R_440()) {
+        if (jj_3R_441()) {
           jj_scanpos = xsp;
-          if (jj_3R_441()) return true;
+          if (jj_3R_442()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_437() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_438() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_141() {
+  private boolean jj_3_142() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_140() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_141() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_437() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_141()) {
+    if (jj_3_142()) {
       jj_scanpos = xsp;
-      if (jj_3R_437()) return true;
+      if (jj_3R_438()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_139() {
+  private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_136() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_137() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_139()) {
+    if (jj_3_140()) {
       jj_scanpos = xsp;
-      if (jj_3R_436()) return true;
+      if (jj_3R_437()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_431() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_365()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_366()) return true;
     return false;
   }
 
-  private boolean jj_3_138() {
+  private boolean jj_3_139() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3_137() {
+  private boolean jj_3_138() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_221()) {
+    if (jj_3R_222()) {
       jj_scanpos = xsp;
-      if (jj_3R_222()) return true;
+      if (jj_3R_223()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_133() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_134() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_210() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_429()) return true;
+    if (jj_3R_430()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_137()) {
+    if (jj_3_138()) {
       jj_scanpos = xsp;
-      if (jj_3_138()) {
+      if (jj_3_139()) {
         jj_scanpos = xsp;
-        if (jj_3R_431()) return true;
+        if (jj_3R_432()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_365()) return true;
+  private boolean jj_3R_221() {
+    if (jj_3R_366()) return true;
     return false;
   }
 
-  private boolean jj_3_135() {
+  private boolean jj_3_136() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3_134() {
+  private boolean jj_3_135() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_219()) {
+    if (jj_3R_220()) {
       jj_scanpos = xsp;
-      if (jj_3R_220()) return true;
+      if (jj_3R_221()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_132() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_133() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_157()) return true;
-    if (jj_3R_429()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_158()) return true;
+    if (jj_3R_430()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_134()) {
+    if (jj_3_135()) {
       jj_scanpos = xsp;
-      if (jj_3_135()) {
+      if (jj_3_136()) {
         jj_scanpos = xsp;
-        if (jj_3R_430()) return true;
+        if (jj_3R_431()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_429() {
+  private boolean jj_3R_430() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_434() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_131() {
+  private boolean jj_3_132() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_131()) {
+    if (jj_3_132()) {
       jj_scanpos = xsp;
-      if (jj_3R_433()) return true;
+      if (jj_3R_434()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_207() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_205() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_443() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3_131() {
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_219() {
+    if (jj_3R_158()) return true;
+    if (jj_scan_token(INSTANCEOF)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_443()) {
+      jj_scanpos = xsp;
+      if (jj_3R_444()) {
+        jj_scanpos = xsp;
+        if (jj_3R_445()) return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_436() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3_130() {
-    if (jj_3R_157()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_181()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
@@ -36466,7 +36878,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  private final int[] jj_la1 = new int[446];
+  private final int[] jj_la1 = new int[448];
   private static int[] jj_la1_0;
   private static int[] jj_la1_1;
   private static int[] jj_la1_2;
@@ -36792,6 +37204,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xfc400000,
           0x0,
+          0xfc400000,
+          0x0,
           0x0,
           0x0,
           0x0,
@@ -37244,6 +37658,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xd8802183,
           0x0,
+          0xd8802183,
+          0x0,
           0x0,
           0x0,
           0x0,
@@ -37398,16 +37814,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0xff7ffce0,
+          0xfdfffce0,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xfdfffce0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0x1000000,
+          0xfdfffce0,
+          0x4000000,
           0x0,
           0x0,
           0x0,
@@ -37427,7 +37843,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x2,
           0x0,
-          0xff7ffce0,
+          0xfdfffce0,
           0x0,
           0x0,
           0x0,
@@ -37444,7 +37860,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x2,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xfdfffce0,
           0x200,
           0x0,
           0x0,
@@ -37476,25 +37892,431 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x1,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x800,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
           0x0,
           0x0,
           0x0,
+          0xfdfffce0,
           0x0,
+          0xfdfffce0,
           0x0,
+          0xfdfffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xe0,
+          0x0,
+          0x0,
+          0xe0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x20000,
+          0x20000,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2a00,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x2a00,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x300000,
+          0x2000000,
+          0x1,
+          0xfdfffce0,
+          0x1,
+          0xfdfffce0,
+          0x1000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x10000000,
+          0x0,
+          0x0,
+          0x20000000,
+          0x40000000,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x40005000,
+          0x1,
+          0x0,
+          0x1,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x1,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x84c40000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdfffce0,
+          0x0,
+        };
+  }
+
+  private static void jj_la1_init_3() {
+    jj_la1_3 =
+        new int[] {
+          0x0,
+          0x0,
+          0xffffffff,
+          0x0,
+          0x0,
+          0xffffffff,
+          0x0,
+          0x0,
+          0x400,
+          0x0,
+          0xffffffff,
+          0x0,
+          0x0,
+          0x0,
+          0x20000,
+          0x6100000,
+          0x1000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x40000000,
+          0x0,
+          0x0,
+          0x0,
+          0xffffffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x40000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xffffffff,
+          0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
@@ -37504,7 +38326,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
@@ -37523,67 +38344,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x800,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
           0x0,
+          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
@@ -37593,75 +38410,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xe0,
+          0xffffffff,
           0x0,
           0x0,
-          0xe0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x20000,
-          0x20000,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -37669,202 +38474,212 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0x2a00,
-          0xff7ffce0,
           0x0,
           0x0,
-          0x2a00,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
           0x0,
-          0xff7ffce0,
+          0x8000,
           0x0,
+          0xffffffff,
           0x0,
-          0x300000,
-          0x800000,
-          0x1,
-          0xff7ffce0,
-          0x1,
           0x0,
+          0x8000,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
+          0x8000,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0x4000000,
+          0x8000,
+          0xffffffff,
           0x0,
           0x0,
-          0x8000000,
-          0x10000000,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xd0005000,
-          0x1,
           0x0,
-          0x1,
+          0xffffffff,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0x1,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x21440000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0x2000,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
+          0x3ff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0x1000,
           0x0,
+          0xffffffff,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
+          0x8000,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
           0x0,
+          0x8000,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0x2000,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0x2000,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0x40000,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
+          0x800000,
+          0x78000000,
+          0x78000000,
+          0x78000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xffffffff,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_3() {
-    jj_la1_3 =
-        new int[] {
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
           0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x100,
           0x0,
+          0x0,
+          0x7120400,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xffffffff,
           0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0x1840000,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -37875,33 +38690,52 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000000,
           0x0,
           0x0,
+          0xffffffff,
+          0x0,
+          0xffffffff,
           0x0,
           0xffffffff,
           0x0,
+          0x18000000,
           0x0,
+          0x18000000,
           0x0,
+          0x18000000,
           0x0,
+          0x18000000,
+          0x18000000,
           0x0,
+          0x18000000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_4() {
+    jj_la1_4 =
+        new int[] {
           0x0,
-          0x10000000,
           0x0,
+          0xffffffff,
+          0x4000040,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
+          0x8000000,
           0x0,
+          0x1878,
           0x0,
           0x0,
           0x0,
@@ -37913,9 +38747,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xc000,
           0x0,
           0x0,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
           0x0,
@@ -37927,11 +38763,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xc000,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
           0x0,
@@ -37939,27 +38776,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x10000000,
           0x0,
           0x0,
           0x0,
@@ -37968,6 +38800,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
@@ -37975,35 +38808,38 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
+          0xc000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x80000,
+          0xfbffffff,
           0x0,
           0x0,
+          0xc000,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -38011,18 +38847,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -38033,289 +38866,334 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
-          0xffffffff,
+          0x100000,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
+          0xfbffffff,
           0x0,
+          0xfbffffff,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
           0x0,
-          0xffffffff,
           0x0,
+          0xfbffffff,
           0x0,
-          0x2000,
-          0xffffffff,
+          0xfbffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
-          0xffffffff,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
+          0xfbefffff,
           0x0,
+          0xfbffffff,
           0x0,
+          0xfbffffff,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
+          0xfbefffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfbffffff,
+          0xfbefffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x800,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
-          0xff,
+          0x30040000,
+          0xfbefffff,
           0x0,
           0x0,
+          0x30040000,
+          0xfbefffff,
           0x0,
+          0xfbefffff,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
-          0x400,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
           0x0,
-          0x2000,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
-          0xffffffff,
-          0xffffffff,
+          0xfbefffff,
           0x0,
-          0x800,
-          0xffffffff,
-          0xffffffff,
+          0xfbefffff,
           0x0,
-          0x800,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x10000,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
-          0xffffffff,
+          0xfbefffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
-          0x200000,
-          0x1e000000,
-          0x1e000000,
-          0x1e000000,
+          0x40,
           0x0,
-          0x40000000,
           0x0,
-          0x80000000,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
+          0x40,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
+          0xfbefffff,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
-          0x1c48100,
+          0xfbefffff,
+          0xfbefffff,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
           0x0,
+          0x40,
           0x0,
+          0x40,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
-          0xffffffff,
+          0xfbefffff,
+          0x40,
+          0x0,
+          0x40,
+          0xfbefffff,
+          0x0,
+          0x0,
           0x0,
           0x0,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
+          0xfbefffff,
+          0xfbefffff,
+          0x40,
+          0x2000,
+          0x40,
           0x0,
           0x0,
+          0xfbefffff,
+          0x40,
+          0xfbefffff,
           0x0,
+          0xfbefffff,
+          0xfbefffff,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
+          0x0,
+          0x1,
+          0x0,
+          0x2,
+          0x4,
+          0xfbefffff,
+          0x0,
+          0xfbefffff,
+          0xfbefffff,
+          0x80000000,
+          0xfbefffff,
+          0x0,
+          0xfbefffff,
+          0xfbefffff,
+          0x80000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x400,
+          0x8201878,
+          0x300,
+          0x0,
+          0x300,
+          0x300,
+          0x80,
+          0x0,
+          0xfbffffff,
           0xffffffff,
+          0x4000040,
+          0x40,
+          0x20000,
+          0x0,
+          0x20000,
+          0x20000,
+          0x0,
+          0x20000,
+          0x40,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
           0x0,
           0xffffffff,
+          0x4000040,
+          0xffffffff,
+          0x4000040,
+          0xfbefffff,
+          0x0,
+          0x0,
+          0x0,
           0x0,
-          0x6000000,
           0x0,
-          0x6000000,
           0x0,
-          0x6000000,
           0x0,
-          0x6000000,
-          0x6000000,
           0x0,
-          0x6000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
+          0x40,
+          0x0,
+          0xfbefffff,
+          0x40,
         };
   }
 
-  private static void jj_la1_init_4() {
-    jj_la1_4 =
+  private static void jj_la1_init_5() {
+    jj_la1_5 =
         new int[] {
+          0x300,
           0x0,
+          0x984402ff,
+          0x0,
+          0x10000200,
+          0x3f,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x984402ff,
           0x0,
-          0xffffffff,
-          0x1000010,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
-          0x2000000,
           0x0,
-          0x61e,
           0x0,
           0x0,
           0x0,
@@ -38327,11 +39205,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x3000,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
@@ -38343,12 +39220,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x3000,
+          0x0,
+          0x0,
+          0xff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
@@ -38366,6 +39251,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x40000,
+          0x40000,
+          0x0,
+          0x3f,
+          0x0,
           0x0,
           0x0,
           0x0,
@@ -38375,43 +39265,44 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x3f,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
           0x0,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
-          0x3000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x20000,
-          0xfeffffff,
           0x0,
+          0x3f,
           0x0,
-          0x3000,
           0x0,
           0x0,
           0x0,
@@ -38427,17 +39318,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -38446,36 +39338,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
+          0x60040000,
+          0x3f,
           0x0,
+          0x984402ff,
           0x0,
+          0x984402ff,
+          0x40,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
+          0x80000000,
           0x0,
-          0x40000,
           0x0,
+          0x80000000,
           0x0,
           0x0,
+          0x984402ff,
+          0x18000200,
+          0x184402ff,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x40000,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
+          0x3f,
           0x0,
-          0xfeffffff,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -38483,88 +39382,108 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x984402ff,
+          0x80000000,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
           0x0,
+          0x1800023f,
           0x0,
+          0x184402ff,
           0x0,
+          0x184402ff,
+          0x18000200,
           0x0,
+          0x400bf,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x400bf,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0x400bf,
           0x0,
           0x0,
+          0x400bf,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x400bf,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
+          0x400bf,
           0x0,
           0x0,
+          0x40000,
+          0x40000,
+          0x40000,
           0x0,
-          0xfefbffff,
+          0x40000,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
           0x0,
+          0x984402ff,
+          0x3f,
+          0x40000,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
+          0x3f,
+          0x180002bf,
           0x0,
-          0xfefbffff,
+          0x180002bf,
+          0x180002bf,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
+          0x2,
+          0x4003f,
           0x0,
+          0x80000000,
+          0x2,
+          0x3f,
           0x0,
-          0xfefbffff,
+          0x3f,
           0x0,
+          0x3f,
           0x0,
+          0x3f,
           0x0,
           0x0,
+          0x3f,
           0x0,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
-          0xfefbffff,
           0x0,
+          0x4003f,
           0x0,
+          0x4003f,
           0x0,
           0x0,
+          0x40000,
+          0x40000,
+          0x40000,
+          0x3f,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0x3f,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
@@ -38574,195 +39493,163 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x3f,
           0x0,
-          0x8c010000,
-          0xfefbffff,
           0x0,
+          0x3f,
           0x0,
-          0x8c010000,
-          0xfefbffff,
+          0x3f,
+          0x80000000,
+          0x4003f,
+          0x4003f,
+          0x80000000,
+          0x1000023f,
+          0x3f,
+          0x3f,
+          0x4003f,
+          0x10,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
+          0x3f,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0x3f,
           0x0,
           0x0,
           0x0,
+          0xbf,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
+          0xbf,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0x3f,
+          0x3f,
           0x0,
-          0xfefbffff,
           0x0,
-          0x10,
+          0x3f,
+          0x3f,
           0x0,
           0x0,
+          0x3f,
+          0x3f,
+          0x3f,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x10,
           0x0,
-          0xfefbffff,
+          0x4003f,
           0x0,
+          0x3f,
           0x0,
-          0xfefbffff,
+          0xbf,
+          0xbf,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0x8,
+          0x8,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
+          0x80000000,
           0x0,
-          0x10,
           0x0,
-          0x10,
-          0xfefbffff,
+          0x1000023f,
           0x0,
+          0x3f,
+          0x3f,
           0x0,
+          0x1000023f,
           0x0,
-          0xfefbffff,
-          0x10,
+          0x3f,
+          0x3f,
           0x0,
-          0x10,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0x10,
-          0x800,
-          0x10,
           0x0,
+          0x984402ff,
+          0x984402ff,
           0x0,
-          0xfefbffff,
-          0x10,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
+          0x80000000,
           0x0,
           0x0,
+          0x80000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
           0x0,
+          0x984402ff,
           0x0,
+          0x984402ff,
           0x0,
+          0x3f,
           0x0,
-          0x100,
-          0x208061e,
-          0xc0,
           0x0,
-          0xc0,
-          0xc0,
-          0x20,
           0x0,
-          0xfeffffff,
-          0xffffffff,
-          0x1000010,
-          0x10,
-          0x8000,
           0x0,
-          0x8000,
-          0x8000,
           0x0,
-          0x8000,
-          0x10,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
-          0x1000010,
-          0xffffffff,
-          0x1000010,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x3f,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_6() {
+    jj_la1_6 =
+        new int[] {
           0x0,
+          0x8,
+          0xc01800ab,
+          0x80,
           0x0,
           0x0,
+          0x40000000,
+          0x40000000,
           0x0,
+          0x80,
+          0xc018002b,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x10,
           0x0,
-          0xfefbffff,
-          0x10,
-        };
-  }
-
-  private static void jj_la1_init_5() {
-    jj_la1_5 =
-        new int[] {
-          0xc0,
           0x0,
-          0xe61100bf,
           0x0,
-          0x4000080,
-          0xf,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xe61100bf,
           0x0,
           0x0,
           0x0,
@@ -38772,6 +39659,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xc018002b,
           0x0,
           0x0,
           0x0,
@@ -38783,24 +39671,30 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xe61100bf,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x80000020,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x8,
+          0x100000,
+          0x100000,
           0x0,
+          0x100,
+          0x100000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x3f,
           0x0,
           0x0,
           0x0,
@@ -38810,6 +39704,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x40000008,
+          0x40000028,
           0x0,
           0x0,
           0x0,
@@ -38829,10 +39726,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000,
-          0x10000,
+          0xc018002b,
           0x0,
-          0xf,
           0x0,
           0x0,
           0x0,
@@ -38841,17 +39736,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xc018002b,
           0x0,
           0x0,
-          0xf,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x100,
           0x0,
           0x0,
-          0xe61100bf,
+          0x100,
+          0x100,
           0x0,
+          0x220,
+          0x2000,
+          0x220,
+          0x2000,
           0x0,
           0x0,
           0x0,
@@ -38859,8 +39761,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2,
           0x0,
-          0xe61100bf,
+          0x100,
+          0x100,
+          0x100,
+          0x100,
+          0x100,
+          0x180008,
           0x0,
           0x0,
           0x0,
@@ -38870,196 +39778,274 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2,
           0x0,
           0x0,
           0x0,
+          0x180000,
           0x0,
+          0x100,
+          0x100,
           0x0,
+          0x100000,
           0x0,
+          0x100,
+          0x20000,
+          0x80000000,
+          0xc01a002b,
+          0x100000,
           0x0,
+          0x100,
           0x0,
+          0x180000,
           0x0,
-          0xf,
+          0x100,
+          0xc018002b,
+          0x100,
+          0xc018002b,
           0x0,
+          0x80000000,
+          0x20,
+          0x200,
+          0x1,
+          0x8,
+          0x2000000,
+          0x1,
+          0x8,
+          0xe0000000,
+          0xc018002b,
           0x0,
+          0xc0180020,
+          0x100,
+          0x2,
+          0x100,
+          0x180000,
+          0x100100,
+          0x100100,
+          0x40000008,
+          0x20,
+          0x180002,
           0x0,
           0x0,
+          0x100,
           0x0,
-          0x80000000,
           0x0,
+          0x40000200,
+          0x40000200,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xc018002b,
+          0x1,
+          0x5e1e000,
+          0x6000,
           0x0,
+          0x5e1e000,
           0x0,
           0x0,
+          0xc0180022,
           0x0,
+          0xc0180022,
+          0x180000,
+          0x220,
+          0x40000008,
           0x0,
           0x0,
           0x0,
+          0x220,
+          0x40000008,
           0x0,
           0x0,
-          0xf,
           0x0,
-          0x80000000,
+          0x4000000a,
+          0x100,
+          0x220,
+          0x40000008,
           0x0,
           0x0,
           0x0,
+          0x220,
+          0x40000008,
           0x0,
-          0xf,
           0x0,
           0x0,
+          0x4000000a,
+          0x100,
+          0x100,
+          0x40180000,
+          0x40180000,
+          0x40180000,
           0x0,
+          0x40180000,
           0x0,
           0x0,
+          0x100,
+          0xc018002b,
+          0x80000020,
+          0xc0000000,
+          0x20,
+          0x80000000,
+          0x200,
+          0x80000000,
+          0x80000020,
           0x0,
+          0x100,
           0x0,
           0x0,
-          0xe61100bf,
+          0x50008200,
+          0x8000,
+          0x200,
+          0x8,
+          0x8,
+          0x8,
+          0x8,
+          0x50008000,
+          0x8,
+          0x100,
           0x0,
+          0x40000000,
           0x0,
+          0x1,
           0x0,
           0x0,
-          0x18010000,
-          0xf,
+          0x50000000,
           0x0,
-          0xe61100bf,
+          0x50000000,
           0x0,
-          0xe61100bf,
-          0x10,
+          0x50000000,
           0x0,
+          0x50000000,
+          0x8,
           0x0,
+          0x50000000,
+          0x8,
           0x0,
-          0x60000000,
+          0x50000000,
+          0x8,
           0x0,
           0x0,
-          0x60000000,
           0x0,
+          0x40000000,
           0x0,
-          0xe61100bf,
-          0x6000080,
-          0x61100bf,
+          0x40000000,
           0x0,
-          0x80000000,
+          0x100,
+          0x40000008,
+          0x40000028,
+          0x4000000a,
           0x0,
+          0x100,
           0x0,
+          0x20,
           0x0,
+          0x100,
           0x0,
-          0x10000,
+          0x100,
           0x0,
-          0x80000000,
-          0xf,
           0x0,
           0x0,
-          0xf,
           0x0,
           0x0,
           0x0,
+          0x60000000,
+          0x60000000,
           0x0,
+          0x100,
           0x0,
+          0x1,
+          0x40000000,
+          0x40000000,
+          0x1,
           0x0,
           0x0,
-          0xe61100bf,
-          0x60000000,
           0x0,
+          0x40000000,
           0x0,
           0x0,
           0x0,
-          0x600008f,
           0x0,
-          0x861100bf,
           0x0,
-          0x861100bf,
-          0x6000080,
           0x0,
-          0x1002f,
+          0x100,
+          0x2,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1002f,
           0x0,
           0x0,
           0x0,
-          0x8001002f,
           0x0,
           0x0,
-          0x1002f,
+          0x100,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1002f,
           0x0,
           0x0,
+          0x100,
           0x0,
-          0x8001002f,
           0x0,
           0x0,
-          0x10000,
-          0x10000,
-          0x10000,
+          0x100,
           0x0,
-          0x10000,
           0x0,
           0x0,
+          0x80000000,
+          0x80000000,
           0x0,
-          0xe61100bf,
-          0xf,
-          0x10000,
           0x0,
           0x0,
           0x0,
+          0x80000000,
+          0x40000000,
           0x0,
-          0xf,
-          0x60000af,
           0x0,
-          0x60000af,
-          0x60000af,
+          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
           0x0,
+          0x1,
           0x0,
           0x0,
+          0x180000,
+          0x100,
           0x0,
+          0x20,
           0x0,
-          0x1000f,
           0x0,
-          0x60000000,
+          0x100,
           0x0,
-          0xf,
+          0x20,
           0x0,
-          0xf,
           0x0,
-          0xf,
           0x0,
-          0xf,
           0x0,
           0x0,
-          0xf,
           0x0,
           0x0,
-          0xf,
           0x0,
           0x0,
           0x0,
+          0x8,
           0x0,
           0x0,
-          0x1000f,
+          0xc018002b,
+          0xc01800ab,
+          0x80,
           0x0,
           0x0,
-          0x10000,
-          0x10000,
-          0x80010000,
-          0xf,
+          0x1,
           0x0,
-          0xf,
           0x0,
+          0x1,
           0x0,
           0x0,
           0x0,
@@ -39068,84 +40054,67 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xc01800ab,
+          0x80,
+          0xc01800ab,
+          0x80,
+          0x80000000,
+          0x200,
           0x0,
-          0xf,
+          0x100,
           0x0,
           0x0,
-          0xf,
           0x0,
-          0xf,
-          0x60000000,
-          0x1000f,
-          0x1000f,
-          0x60000000,
-          0x400008f,
-          0xf,
-          0xf,
-          0x1000f,
-          0x4,
+          0x100,
           0x0,
           0x0,
+          0x100,
           0x0,
           0x0,
-          0xf,
           0x0,
-          0x80000000,
           0x0,
-          0xf,
+          0x8,
+          0x180000,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_7() {
+    jj_la1_7 =
+        new int[] {
           0x0,
           0x0,
-          0x2f,
+          0x800000,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x2f,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0xf,
-          0xf,
           0x0,
           0x0,
-          0xf,
-          0xf,
           0x0,
           0x0,
-          0xf,
-          0xf,
-          0xf,
-          0xf,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1000f,
           0x0,
-          0xf,
           0x0,
-          0x2f,
-          0x2f,
           0x0,
           0x0,
-          0x2,
-          0x2,
           0x0,
           0x0,
-          0x60000000,
           0x0,
           0x0,
-          0x400008f,
           0x0,
-          0xf,
-          0xf,
           0x0,
-          0x400008f,
+          0x800000,
           0x0,
-          0xf,
-          0xf,
           0x0,
           0x0,
           0x0,
@@ -39159,28 +40128,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xe61100bf,
-          0xe61100bf,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0x60000000,
           0x0,
           0x0,
-          0x60000000,
           0x0,
           0x0,
           0x0,
+          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xe61100bf,
           0x0,
-          0xe61100bf,
           0x0,
-          0xf,
           0x0,
           0x0,
           0x0,
@@ -39196,36 +40160,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xf,
-          0x0,
-        };
-  }
-
-  private static void jj_la1_init_6() {
-    jj_la1_6 =
-        new int[] {
-          0x0,
-          0x2,
-          0x3006002a,
-          0x20,
-          0x0,
-          0x0,
-          0x10000000,
-          0x10000000,
-          0x0,
-          0x20,
-          0x3006000a,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -39235,14 +40172,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x3006000a,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -39251,20 +40189,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x40,
-          0x20000008,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x40,
-          0x2,
-          0x40000,
-          0x40000,
           0x0,
-          0x40,
-          0x40000,
           0x0,
           0x0,
           0x0,
@@ -39274,15 +40205,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x780,
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x40,
-          0x10000002,
-          0x1000000a,
           0x0,
           0x0,
           0x0,
@@ -39300,36 +40230,33 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x3006000a,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x3006000a,
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x40,
-          0x40,
+          0x300000,
           0x0,
+          0x800000,
           0x0,
-          0x40,
-          0x40,
+          0x800000,
           0x0,
-          0x88,
-          0x800,
-          0x88,
-          0x800,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -39339,13 +40266,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x40,
-          0x40,
-          0x40,
-          0x40,
-          0x40,
-          0x60002,
+          0xc007f,
+          0x800000,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -39355,193 +40279,120 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0x60000,
           0x0,
-          0x40,
-          0x40,
           0x0,
-          0x40000,
           0x0,
-          0x40,
-          0x8000,
-          0x20000000,
-          0x3006800a,
-          0x40000,
           0x0,
-          0x40,
           0x0,
-          0x60000,
           0x0,
-          0x40,
-          0x3006000a,
-          0x40,
-          0x3006000a,
+          0xc00000,
           0x0,
-          0x20000000,
-          0x8,
-          0x80,
+          0x41000000,
           0x0,
-          0x2,
+          0x400000,
+          0x41c00000,
           0x800000,
           0x0,
-          0x2,
-          0xf8000000,
-          0x3006000a,
+          0x800000,
           0x0,
-          0x30060008,
-          0x40,
+          0x800000,
           0x0,
-          0x40,
-          0x60000,
-          0x40040,
-          0x40040,
-          0x10000002,
-          0x8,
-          0x60000,
           0x0,
+          0x800000,
           0x0,
-          0x40,
           0x0,
           0x0,
-          0x10000080,
-          0x10000080,
           0x0,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x3006000a,
+          0x800000,
           0x0,
-          0x1787800,
-          0x1800,
           0x0,
-          0x1787800,
+          0x800000,
           0x0,
           0x0,
-          0x30060008,
           0x0,
-          0x30060008,
-          0x60000,
-          0x88,
-          0x10000002,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x88,
-          0x10000002,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x10000002,
-          0x40,
-          0x88,
-          0x10000002,
           0x0,
           0x0,
           0x0,
-          0x88,
-          0x10000002,
           0x0,
           0x0,
           0x0,
-          0x10000002,
-          0x40,
-          0x40,
-          0x10060000,
-          0x10060000,
-          0x10060000,
           0x0,
-          0x10060000,
           0x0,
+          0x800000,
+          0x800000,
           0x0,
-          0x40,
-          0x3006000a,
-          0x20000008,
-          0x30000000,
-          0x8,
-          0x20000000,
-          0x80,
-          0x20000000,
-          0x20000008,
           0x0,
-          0x40,
           0x0,
           0x0,
-          0x14002080,
-          0x2000,
-          0x80,
-          0x2,
-          0x2,
-          0x2,
-          0x2,
-          0x14002000,
-          0x2,
-          0x40,
           0x0,
-          0x10000000,
+          0x800000,
+          0x800000,
           0x0,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x14000000,
           0x0,
-          0x14000000,
           0x0,
-          0x14000000,
           0x0,
-          0x14000000,
-          0x2,
           0x0,
-          0x14000000,
-          0x2,
           0x0,
-          0x14000000,
-          0x2,
           0x0,
           0x0,
           0x0,
-          0x10000000,
+          0x800000,
           0x0,
-          0x40,
-          0x10000002,
-          0x1000000a,
-          0x10000002,
           0x0,
-          0x40,
           0x0,
-          0x8,
+          0x800000,
           0x0,
-          0x40,
+          0x800000,
           0x0,
-          0x40,
+          0x800000,
           0x0,
+          0x800000,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0x18000000,
-          0x18000000,
           0x0,
-          0x40,
           0x0,
           0x0,
-          0x10000000,
-          0x10000000,
           0x0,
+          0x800000,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x10000000,
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x40,
           0x0,
           0x0,
           0x0,
@@ -39550,54 +40401,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x40,
+          0x800000,
           0x0,
+          0x800000,
           0x0,
+          0x800000,
+          0x800000,
           0x0,
+          0x800000,
+          0x800000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x40,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0x40,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0x20000000,
-          0x20000000,
           0x0,
           0x0,
+          0x800000,
           0x0,
           0x0,
-          0x20000000,
-          0x10000000,
           0x0,
           0x0,
-          0x10000000,
+          0x800000,
           0x0,
           0x0,
           0x0,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
+          0x800000,
+          0x800000,
           0x0,
-          0x40,
           0x0,
+          0x800000,
+          0x800000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x60000,
-          0x40,
           0x0,
-          0x8,
           0x0,
+          0x800000,
           0x0,
-          0x40,
+          0x800000,
           0x0,
-          0x8,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -39607,13 +40469,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
-          0x2,
+          0x800000,
+          0x800000,
           0x0,
+          0x800000,
           0x0,
-          0x3006000a,
-          0x3006002a,
-          0x20,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -39627,46 +40491,31 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x800000,
+          0x800000,
           0x0,
-          0x3006002a,
-          0x20,
-          0x3006002a,
-          0x20,
-          0x20000000,
-          0x80,
           0x0,
-          0x40,
           0x0,
           0x0,
           0x0,
-          0x40,
           0x0,
           0x0,
-          0x40,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2,
-          0x60000,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_7() {
-    jj_la1_7 =
-        new int[] {
           0x0,
           0x0,
-          0x200000,
           0x0,
+          0x800000,
           0x0,
-          0x200000,
+          0x800000,
           0x0,
+          0xf9800000,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -39679,16 +40528,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x800000,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_8() {
+    jj_la1_8 =
+        new int[] {
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -39704,14 +40562,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10064,
           0x0,
-          0x100000,
           0x0,
           0x0,
           0x0,
@@ -39727,6 +40584,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -39736,7 +40594,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -39747,46 +40604,47 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
+          0x10000,
+          0x10000,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
-          0x1e0,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -39804,14 +40662,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
+          0x10,
+          0x1864,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -39820,43 +40678,42 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
+          0x10,
           0x0,
+          0x1800,
           0x0,
           0x0,
-          0xc0000,
+          0x10,
+          0x64,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x3001f,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
+          0x10064,
           0x0,
+          0x10064,
           0x0,
-          0x200000,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -39864,63 +40721,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x300000,
+          0x10064,
           0x0,
-          0x10400000,
+          0x64,
           0x0,
-          0x100000,
-          0x10700000,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
           0x0,
-          0x200000,
           0x0,
+          0x10000,
+          0x1810,
+          0x2000,
+          0x64,
+          0x1800,
           0x0,
+          0x64,
+          0x20000,
           0x0,
           0x0,
-          0x200000,
+          0x700,
+          0x780,
           0x0,
           0x0,
+          0x10064,
           0x0,
-          0x200000,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
+          0x64,
           0x0,
+          0x64,
           0x0,
-          0x200000,
+          0x64,
           0x0,
           0x0,
+          0x10064,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
-          0x200000,
-          0x200000,
+          0x10064,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -39930,132 +40789,149 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x10064,
+          0x64,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
-          0x200000,
+          0x64,
+          0x64,
           0x0,
-          0x200000,
+          0x64,
+          0x64,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x1810,
+          0x64,
+          0x1800,
           0x0,
-          0x200000,
+          0x1810,
+          0x64,
           0x0,
+          0x64,
           0x0,
+          0x64,
           0x0,
+          0x64,
           0x0,
           0x0,
-          0x200000,
+          0x64,
           0x0,
-          0x200000,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
+          0x64,
           0x0,
           0x0,
+          0x10000,
+          0x10000,
+          0x10000,
+          0x1864,
           0x0,
-          0x200000,
+          0x1864,
           0x0,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
-          0x200000,
-          0x200000,
-          0x200000,
-          0x200000,
+          0x10,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
-          0x200000,
           0x0,
+          0x64,
           0x0,
+          0x64,
           0x0,
-          0x200000,
+          0x64,
+          0x64,
           0x0,
+          0x40064,
+          0x64,
+          0x64,
+          0x64,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
-          0x200000,
           0x0,
           0x0,
+          0x64,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
           0x0,
-          0x200000,
-          0x200000,
+          0x64,
+          0x4,
           0x0,
           0x0,
-          0x200000,
-          0x200000,
-          0x200000,
-          0x200000,
           0x0,
+          0x64,
+          0x4,
           0x0,
           0x0,
+          0x64,
+          0x64,
           0x0,
           0x0,
-          0x200000,
+          0x64,
+          0x64,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
-          0x200000,
+          0x64,
+          0x64,
+          0x20064,
+          0x20064,
           0x0,
+          0x10,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
+          0x64,
           0x0,
+          0x64,
+          0x64,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
-          0x200000,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
           0x0,
           0x0,
+          0x64,
           0x0,
+          0x64,
+          0x64,
           0x0,
+          0x64,
           0x0,
+          0x64,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -40063,14 +40939,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
-          0x200000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10064,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -40080,11 +40956,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
+          0x3f80000,
+          0x3f80000,
+          0xc000000,
+          0xc000000,
+          0x30000000,
+          0x30000000,
+          0x10064,
           0x0,
-          0x200000,
+          0x10064,
           0x0,
-          0x3e600000,
+          0x74,
           0x0,
           0x0,
           0x0,
@@ -40100,46 +40982,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x200000,
+          0x64,
           0x0,
         };
   }
 
-  private static void jj_la1_init_8() {
-    jj_la1_8 =
-        new int[] {
-          0x0, 0x0, 0x4019, 0x0, 0x0, 0x19, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4000, 0x4000, 0x0, 0x19, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4, 0x619, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4, 0x0, 0x600, 0x0, 0x0, 0x4, 0x19, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x19, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x19, 0x0, 0x4019, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4019,
-          0x0, 0x19, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4000, 0x604, 0x800, 0x19, 0x600, 0x0, 0x19,
-          0x8000, 0x0, 0x0, 0x1c0, 0x1e0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0,
-          0x19, 0x0, 0x19, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x4019, 0x0,
-          0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x4019, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x19, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x19, 0x0, 0x19,
-          0x19, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x604, 0x19, 0x600, 0x0, 0x604,
-          0x19, 0x0, 0x19, 0x0, 0x19, 0x0, 0x19, 0x0, 0x0, 0x19, 0x0, 0x0, 0x19, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x19, 0x0, 0x0, 0x4000, 0x4000, 0x4000, 0x619, 0x0, 0x619, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x4, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0, 0x0, 0x19, 0x0, 0x19, 0x0, 0x19, 0x19, 0x0, 0x10019,
-          0x19, 0x19, 0x19, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0, 0x0, 0x0, 0x19, 0x0, 0x0, 0x0, 0x19,
-          0x1, 0x0, 0x0, 0x0, 0x19, 0x1, 0x0, 0x0, 0x19, 0x19, 0x0, 0x0, 0x19, 0x19, 0x0, 0x0, 0x19,
-          0x19, 0x8019, 0x8019, 0x0, 0x4, 0x0, 0x0, 0x0, 0x19, 0x0, 0x19, 0x0, 0x19, 0x19, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0, 0x19, 0x19, 0x0, 0x19, 0x0, 0x19, 0x19, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4019, 0x4019, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfe0000, 0xfe0000, 0x3000000, 0x3000000, 0xc000000,
-          0xc000000, 0x4019, 0x0, 0x4019, 0x0, 0x1d, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x19, 0x0,
-        };
-  }
-
-  private final JJCalls[] jj_2_rtns = new JJCalls[166];
+  private final JJCalls[] jj_2_rtns = new JJCalls[167];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -40149,7 +40997,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 448; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -40160,7 +41008,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 448; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -40170,7 +41018,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 448; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -40181,7 +41029,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 448; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -40298,12 +41146,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[284];
+    boolean[] la1tokens = new boolean[286];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 446; i++) {
+    for (int i = 0; i < 448; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1 << j)) != 0) {
@@ -40336,7 +41184,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    for (int i = 0; i < 284; i++) {
+    for (int i = 0; i < 286; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -40361,7 +41209,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 166; i++) {
+    for (int i = 0; i < 167; i++) {
       try {
         JJCalls p = jj_2_rtns[i];
         do {
@@ -40867,6 +41715,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case 165:
                 jj_3_166();
                 break;
+              case 166:
+                jj_3_167();
+                break;
             }
           }
           p = p.next;
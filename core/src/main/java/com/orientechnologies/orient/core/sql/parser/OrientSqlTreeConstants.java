@@ -147,62 +147,63 @@ public interface OrientSqlTreeConstants {
   public int JJTPROFILESTORAGESTATEMENT = 142;
   public int JJTTRUNCATECLASSSTATEMENT = 143;
   public int JJTTRUNCATECLUSTERSTATEMENT = 144;
-  public int JJTTRUNCATERECORDSTATEMENT = 145;
-  public int JJTFINDREFERENCESSTATEMENT = 146;
-  public int JJTCREATECLASSSTATEMENT = 147;
-  public int JJTCREATEVIEWSTATEMENT = 148;
-  public int JJTALTERCLASSSTATEMENT = 149;
-  public int JJTDROPCLASSSTATEMENT = 150;
-  public int JJTDROPVIEWSTATEMENT = 151;
-  public int JJTIFNOTEXISTS = 152;
-  public int JJTCREATEPROPERTYSTATEMENT = 153;
-  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 154;
-  public int JJTALTERPROPERTYSTATEMENT = 155;
-  public int JJTDROPPROPERTYSTATEMENT = 156;
-  public int JJTCREATEINDEXSTATEMENT = 157;
-  public int JJTREBUILDINDEXSTATEMENT = 158;
-  public int JJTDROPINDEXSTATEMENT = 159;
-  public int JJTCREATECLUSTERSTATEMENT = 160;
-  public int JJTALTERCLUSTERSTATEMENT = 161;
-  public int JJTDROPCLUSTERSTATEMENT = 162;
-  public int JJTALTERDATABASESTATEMENT = 163;
-  public int JJTCOMMANDLINEOPTION = 164;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 165;
-  public int JJTCREATELINKSTATEMENT = 166;
-  public int JJTEXPLAINSTATEMENT = 167;
-  public int JJTPROFILESTATEMENT = 168;
-  public int JJTPERMISSION = 169;
-  public int JJTGRANTSTATEMENT = 170;
-  public int JJTREVOKESTATEMENT = 171;
-  public int JJTCREATEFUNCTIONSTATEMENT = 172;
-  public int JJTCREATESYSTEMUSERSTATEMENT = 173;
-  public int JJTCREATEUSERSTATEMENT = 174;
-  public int JJTDROPUSERSTATEMENT = 175;
-  public int JJTALTERROLESTATEMENT = 176;
-  public int JJTALTERSYSTEMROLESTATEMENT = 177;
-  public int JJTLETSTATEMENT = 178;
-  public int JJTBEGINSTATEMENT = 179;
-  public int JJTCOMMITSTATEMENT = 180;
-  public int JJTROLLBACKSTATEMENT = 181;
-  public int JJTRETURNSTATEMENT = 182;
-  public int JJTIFSTATEMENT = 183;
-  public int JJTSLEEPSTATEMENT = 184;
-  public int JJTCONSOLESTATEMENT = 185;
-  public int JJTCREATESEQUENCESTATEMENT = 186;
-  public int JJTALTERSEQUENCESTATEMENT = 187;
-  public int JJTDROPSEQUENCESTATEMENT = 188;
-  public int JJTHASTATUSSTATEMENT = 189;
-  public int JJTHAREMOVESERVERSTATEMENT = 190;
-  public int JJTHASYNCDATABASESTATEMENT = 191;
-  public int JJTHASYNCCLUSTERSTATEMENT = 192;
-  public int JJTHASETSTATEMENT = 193;
-  public int JJTFOREACHBLOCK = 194;
-  public int JJTWHILEBLOCK = 195;
-  public int JJTSECURITYRESOURCESEGMENT = 196;
-  public int JJTCREATESECURITYPOLICYSTATEMENT = 197;
-  public int JJTALTERSECURITYPOLICYSTATEMENT = 198;
-  public int JJTCREATEDATABASESTATEMENT = 199;
-  public int JJTDROPDATABASESTATEMENT = 200;
+  public int JJTCOMPACTCLUSTERSTATEMENT = 145;
+  public int JJTTRUNCATERECORDSTATEMENT = 146;
+  public int JJTFINDREFERENCESSTATEMENT = 147;
+  public int JJTCREATECLASSSTATEMENT = 148;
+  public int JJTCREATEVIEWSTATEMENT = 149;
+  public int JJTALTERCLASSSTATEMENT = 150;
+  public int JJTDROPCLASSSTATEMENT = 151;
+  public int JJTDROPVIEWSTATEMENT = 152;
+  public int JJTIFNOTEXISTS = 153;
+  public int JJTCREATEPROPERTYSTATEMENT = 154;
+  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 155;
+  public int JJTALTERPROPERTYSTATEMENT = 156;
+  public int JJTDROPPROPERTYSTATEMENT = 157;
+  public int JJTCREATEINDEXSTATEMENT = 158;
+  public int JJTREBUILDINDEXSTATEMENT = 159;
+  public int JJTDROPINDEXSTATEMENT = 160;
+  public int JJTCREATECLUSTERSTATEMENT = 161;
+  public int JJTALTERCLUSTERSTATEMENT = 162;
+  public int JJTDROPCLUSTERSTATEMENT = 163;
+  public int JJTALTERDATABASESTATEMENT = 164;
+  public int JJTCOMMANDLINEOPTION = 165;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 166;
+  public int JJTCREATELINKSTATEMENT = 167;
+  public int JJTEXPLAINSTATEMENT = 168;
+  public int JJTPROFILESTATEMENT = 169;
+  public int JJTPERMISSION = 170;
+  public int JJTGRANTSTATEMENT = 171;
+  public int JJTREVOKESTATEMENT = 172;
+  public int JJTCREATEFUNCTIONSTATEMENT = 173;
+  public int JJTCREATESYSTEMUSERSTATEMENT = 174;
+  public int JJTCREATEUSERSTATEMENT = 175;
+  public int JJTDROPUSERSTATEMENT = 176;
+  public int JJTALTERROLESTATEMENT = 177;
+  public int JJTALTERSYSTEMROLESTATEMENT = 178;
+  public int JJTLETSTATEMENT = 179;
+  public int JJTBEGINSTATEMENT = 180;
+  public int JJTCOMMITSTATEMENT = 181;
+  public int JJTROLLBACKSTATEMENT = 182;
+  public int JJTRETURNSTATEMENT = 183;
+  public int JJTIFSTATEMENT = 184;
+  public int JJTSLEEPSTATEMENT = 185;
+  public int JJTCONSOLESTATEMENT = 186;
+  public int JJTCREATESEQUENCESTATEMENT = 187;
+  public int JJTALTERSEQUENCESTATEMENT = 188;
+  public int JJTDROPSEQUENCESTATEMENT = 189;
+  public int JJTHASTATUSSTATEMENT = 190;
+  public int JJTHAREMOVESERVERSTATEMENT = 191;
+  public int JJTHASYNCDATABASESTATEMENT = 192;
+  public int JJTHASYNCCLUSTERSTATEMENT = 193;
+  public int JJTHASETSTATEMENT = 194;
+  public int JJTFOREACHBLOCK = 195;
+  public int JJTWHILEBLOCK = 196;
+  public int JJTSECURITYRESOURCESEGMENT = 197;
+  public int JJTCREATESECURITYPOLICYSTATEMENT = 198;
+  public int JJTALTERSECURITYPOLICYSTATEMENT = 199;
+  public int JJTCREATEDATABASESTATEMENT = 200;
+  public int JJTDROPDATABASESTATEMENT = 201;
 
   public String[] jjtNodeName = {
     "Rid",
@@ -350,6 +351,7 @@ public interface OrientSqlTreeConstants {
     "ProfileStorageStatement",
     "TruncateClassStatement",
     "TruncateClusterStatement",
+    "CompactClusterStatement",
     "TruncateRecordStatement",
     "FindReferencesStatement",
     "CreateClassStatement",
@@ -408,4 +410,4 @@ public interface OrientSqlTreeConstants {
     "DropDatabaseStatement",
   };
 }
-/* JavaCC - OriginalChecksum=f7a63a3ae27bef18b9e40080b87a1ea4 (do not edit this line) */
+/* JavaCC - OriginalChecksum=fcc5615a11b7d42b497c86079803e2ab (do not edit this line) */
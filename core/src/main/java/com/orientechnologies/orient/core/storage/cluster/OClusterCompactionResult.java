@@ -0,0 +1,89 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cluster;
+
+/** Progress and outcome of an online compaction of a cluster. */
+public final class OClusterCompactionResult {
+  private long candidates;
+  private long movedRecords;
+  private long skippedRecords;
+  private boolean outOfSpace;
+  private int releasedPages;
+  private long reclaimedBytes;
+
+  /**
+   * @return amount of records found in the tail of the cluster, the scan of the tail stops when the
+   *     pages before it are full
+   */
+  public long getCandidates() {
+    return candidates;
+  }
+
+  public void addCandidates(final long candidates) {
+    this.candidates += candidates;
+  }
+
+  /** @return amount of records moved from the tail of the cluster to the pages before it */
+  public long getMovedRecords() {
+    return movedRecords;
+  }
+
+  public void incrementMovedRecords() {
+    movedRecords++;
+  }
+
+  /**
+   * @return amount of records which were left in place, because they were deleted or moved in the
+   *     meantime or because they do not fit in a single page
+   */
+  public long getSkippedRecords() {
+    return skippedRecords;
+  }
+
+  public void incrementSkippedRecords() {
+    skippedRecords++;
+  }
+
+  /**
+   * @return <code>true</code> if the compaction stopped because the pages before the tail are full
+   */
+  public boolean isOutOfSpace() {
+    return outOfSpace;
+  }
+
+  public void setOutOfSpace(final boolean outOfSpace) {
+    this.outOfSpace = outOfSpace;
+  }
+
+  /** @return amount of empty pages released from the tail of the cluster */
+  public int getReleasedPages() {
+    return releasedPages;
+  }
+
+  public long getReclaimedBytes() {
+    return reclaimedBytes;
+  }
+
+  public void setReleasedPages(final int releasedPages, final int pageSize) {
+    this.releasedPages = releasedPages;
+    this.reclaimedBytes = (long) releasedPages * pageSize;
+  }
+}
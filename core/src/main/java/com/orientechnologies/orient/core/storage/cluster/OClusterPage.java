@@ -30,12 +30,14 @@ import com.orientechnologies.orient.core.record.ORecordVersionHelper;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageAppendRecordPO;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageAppendRecordsPO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageDeleteRecordPO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageInitPO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageReplaceRecordPO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageSetNextPagePO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageSetPrevPagePO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage.ClusterPageSetRecordLongValuePO;
+import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -98,6 +100,66 @@ public final class OClusterPage extends ODurablePage {
       final byte[] record,
       final int requestedPosition,
       final Set<Integer> bookedRecordPositions) {
+    final ORawPair<Integer, Boolean> entry =
+        doAppendRecord(recordVersion, record, requestedPosition, bookedRecordPositions);
+    if (entry == null) {
+      return -1;
+    }
+
+    final int entryIndex = entry.first;
+    if (entryIndex >= 0) {
+      addPageOperation(
+          new ClusterPageAppendRecordPO(
+              recordVersion, record, requestedPosition, entryIndex, entry.second));
+    }
+
+    return entryIndex;
+  }
+
+  /**
+   * Appends records, starting from the passed offset, while there is enough space in the page. A
+   * single page operation is logged for all the appended records.
+   *
+   * @param positions array which receives the positions of the appended records, at the same
+   *     indexes of the records
+   * @return number of appended records
+   */
+  public int appendRecords(
+      final int[] recordVersions,
+      final byte[][] records,
+      final int offset,
+      final int[] positions,
+      final Set<Integer> bookedRecordPositions) {
+    final boolean[] allocatedFromFreeList = new boolean[records.length - offset];
+    int appended = 0;
+    for (int i = offset; i < records.length; i++) {
+      final ORawPair<Integer, Boolean> entry =
+          doAppendRecord(recordVersions[i], records[i], -1, bookedRecordPositions);
+      if (entry == null) {
+        break;
+      }
+
+      positions[i] = entry.first;
+      allocatedFromFreeList[appended] = entry.second;
+      appended++;
+    }
+
+    if (appended > 0) {
+      addPageOperation(
+          new ClusterPageAppendRecordsPO(
+              Arrays.copyOfRange(recordVersions, offset, offset + appended),
+              Arrays.copyOfRange(records, offset, offset + appended),
+              Arrays.copyOfRange(positions, offset, offset + appended),
+              Arrays.copyOf(allocatedFromFreeList, appended)));
+    }
+    return appended;
+  }
+
+  private ORawPair<Integer, Boolean> doAppendRecord(
+      final int recordVersion,
+      final byte[] record,
+      final int requestedPosition,
+      final Set<Integer> bookedRecordPositions) {
     int freePosition = getIntValue(FREE_POSITION_OFFSET);
     final int indexesLength = getIntValue(PAGE_INDEXES_LENGTH_OFFSET);
 
@@ -107,7 +169,7 @@ public final class OClusterPage extends ODurablePage {
     int freeListHeader = getIntValue(FREELIST_HEADER_OFFSET);
 
     if (!checkSpace(entrySize)) {
-      return -1;
+      return null;
     }
 
     if (freePosition - entrySize < lastEntryIndexPosition + INDEX_ITEM_SIZE) {
@@ -154,13 +216,7 @@ public final class OClusterPage extends ODurablePage {
 
     incrementEntriesCount();
 
-    if (entryIndex >= 0) {
-      addPageOperation(
-          new ClusterPageAppendRecordPO(
-              recordVersion, record, requestedPosition, entryIndex, allocatedFromFreeList));
-    }
-
-    return entryIndex;
+    return new ORawPair<>(entryIndex, allocatedFromFreeList);
   }
 
   private boolean insertIntoRequestedSlot(
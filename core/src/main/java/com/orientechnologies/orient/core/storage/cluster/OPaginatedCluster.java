@@ -2,10 +2,13 @@ package com.orientechnologies.orient.core.storage.cluster;
 
 import com.orientechnologies.orient.core.config.OStoragePaginatedClusterConfiguration;
 import com.orientechnologies.orient.core.storage.OCluster;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 public abstract class OPaginatedCluster extends ODurableComponent implements OCluster {
   public enum RECORD_STATUS {
@@ -17,6 +20,51 @@ public abstract class OPaginatedCluster extends ODurableComponent implements OCl
 
   public static final String DEF_EXTENSION = ".pcl";
 
+  /** Record which is created by {@link #createRecords(List, OAtomicOperation)}. */
+  public static final class NewRecord {
+    private final byte[] content;
+    private final int recordVersion;
+    private final byte recordType;
+    private final OPhysicalPosition allocatedPosition;
+    private OPhysicalPosition position;
+
+    public NewRecord(
+        final byte[] content,
+        final int recordVersion,
+        final byte recordType,
+        final OPhysicalPosition allocatedPosition) {
+      this.content = content;
+      this.recordVersion = recordVersion;
+      this.recordType = recordType;
+      this.allocatedPosition = allocatedPosition;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    public int getRecordVersion() {
+      return recordVersion;
+    }
+
+    public byte getRecordType() {
+      return recordType;
+    }
+
+    public OPhysicalPosition getAllocatedPosition() {
+      return allocatedPosition;
+    }
+
+    /** @return position where the record is created, <code>null</code> before it is created */
+    public OPhysicalPosition getPosition() {
+      return position;
+    }
+
+    public void setPosition(final OPhysicalPosition position) {
+      this.position = position;
+    }
+  }
+
   @SuppressWarnings("SameReturnValue")
   public static int getLatestBinaryVersion() {
     return 2;
@@ -38,6 +86,24 @@ public abstract class OPaginatedCluster extends ODurableComponent implements OCl
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Creates several records at once, the position of each of them is set in the passed instances.
+   * Implementations may write the records in a different order than the passed one.
+   *
+   * @see #createRecord(byte[], int, byte, OPhysicalPosition, OAtomicOperation)
+   */
+  public void createRecords(final List<NewRecord> records, final OAtomicOperation atomicOperation) {
+    for (final NewRecord record : records) {
+      record.setPosition(
+          createRecord(
+              record.getContent(),
+              record.getRecordVersion(),
+              record.getRecordType(),
+              record.getAllocatedPosition(),
+              atomicOperation));
+    }
+  }
+
   public abstract RECORD_STATUS getRecordStatus(final long clusterPosition) throws IOException;
 
   public abstract OPaginatedClusterDebug readDebug(long clusterPosition) throws IOException;
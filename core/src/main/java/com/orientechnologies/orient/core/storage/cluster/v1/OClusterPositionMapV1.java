@@ -575,11 +575,16 @@ public final class OClusterPositionMapV1 extends OClusterPositionMap {
   /** Returns the next position available. */
   long getNextPosition(final OAtomicOperation atomicOperation) throws IOException {
     final long pageIndex = getLastPage(atomicOperation);
+    // PAGE 0 IS THE ENTRY POINT, BUCKETS START FROM PAGE 1
+    if (pageIndex == 0) {
+      return 0;
+    }
+
     final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, 1);
     try {
       final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
       final int bucketSize = bucket.getSize();
-      return pageIndex * OClusterPositionMapBucket.MAX_ENTRIES + bucketSize;
+      return (pageIndex - 1) * OClusterPositionMapBucket.MAX_ENTRIES + bucketSize;
     } finally {
       releasePageFromRead(atomicOperation, cacheEntry);
     }
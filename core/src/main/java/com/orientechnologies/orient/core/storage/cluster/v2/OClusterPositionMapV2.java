@@ -29,7 +29,9 @@ import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMapBuck
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -373,6 +375,50 @@ public final class OClusterPositionMapV2 extends OClusterPositionMap {
     return result;
   }
 
+  /**
+   * Collects the entries of the records in the passed range of positions whose first chunk is
+   * stored in a data page with index not less than the passed one.
+   *
+   * @param fromPosition first position of the range, inclusive
+   * @param toPosition last position of the range, exclusive
+   */
+  List<OClusterPositionEntry> entriesStoredFrom(
+      final long dataPageIndex,
+      final long fromPosition,
+      final long toPosition,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final List<OClusterPositionEntry> result = new ArrayList<>();
+    final long lastPage = getLastPage(atomicOperation);
+
+    long pageIndex = fromPosition / OClusterPositionMapBucket.MAX_ENTRIES + 1;
+    for (; pageIndex <= lastPage; pageIndex++) {
+      final long firstPosition = (pageIndex - 1) * OClusterPositionMapBucket.MAX_ENTRIES;
+      if (firstPosition >= toPosition) {
+        break;
+      }
+
+      final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, 1);
+      try {
+        final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
+        final int from = (int) Math.max(0, fromPosition - firstPosition);
+        final int to = (int) Math.min(bucket.getSize(), toPosition - firstPosition);
+        for (int i = from; i < to; i++) {
+          final OClusterPositionMapBucket.PositionEntry entry = bucket.get(i);
+          if (entry != null && entry.getPageIndex() >= dataPageIndex) {
+            result.add(
+                new OClusterPositionEntry(
+                    firstPosition + i, entry.getPageIndex(), entry.getRecordPosition()));
+          }
+        }
+      } finally {
+        releasePageFromRead(atomicOperation, cacheEntry);
+      }
+    }
+
+    return result;
+  }
+
   long[] ceilingPositions(long clusterPosition, final OAtomicOperation atomicOperation)
       throws IOException {
     if (clusterPosition < 0) {
@@ -574,11 +620,16 @@ public final class OClusterPositionMapV2 extends OClusterPositionMap {
   /** Returns the next position available. */
   long getNextPosition(final OAtomicOperation atomicOperation) throws IOException {
     final long pageIndex = getLastPage(atomicOperation);
+    // PAGE 0 IS THE ENTRY POINT, BUCKETS START FROM PAGE 1
+    if (pageIndex == 0) {
+      return 0;
+    }
+
     final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, 1);
     try {
       final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
       final int bucketSize = bucket.getSize();
-      return pageIndex * OClusterPositionMapBucket.MAX_ENTRIES + bucketSize;
+      return (pageIndex - 1) * OClusterPositionMapBucket.MAX_ENTRIES + bucketSize;
     } finally {
       releasePageFromRead(atomicOperation, cacheEntry);
     }
@@ -37,6 +37,7 @@ import com.orientechnologies.orient.core.storage.OPhysicalPosition;
 import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPageDebug;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMap;
@@ -50,6 +51,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,12 +71,30 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   private static final int RECORD_POSITION_MASK = 0xFFFF;
   private static final int ONE_KB = 1024;
 
+  /**
+   * Amount of pages of a free list which are checked to find a page outside of a compacted tail.
+   */
+  private static final int FREE_LIST_SCAN_DEPTH = 64;
+
+  /**
+   * Part of the page space which is expected to be used once records are compacted, it is used to
+   * estimate how many pages are needed to store all the records of the cluster.
+   */
+  private static final int COMPACTION_FILL_PERCENT = 75;
+
   private final boolean systemCluster;
   private final OClusterPositionMapV2 clusterPositionMap;
   private volatile int id;
   private long fileId;
   private ORecordConflictStrategy recordConflictStrategy;
 
+  /**
+   * First page of the tail of the file which is emptied by a running compaction, new records are
+   * not stored there while the compaction runs unless there is no space in the other pages. Guarded
+   * by the exclusive lock.
+   */
+  private long compactionBoundary = -1;
+
   private static final class AddEntryResult {
     private final long pageIndex;
     private final int pagePosition;
@@ -318,23 +338,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
             final int entryContentLength = getEntryContentLength(content.length);
 
             if (entryContentLength < OClusterPage.MAX_RECORD_SIZE) {
-              final byte[] entryContent = new byte[entryContentLength];
-
-              int entryPosition = 0;
-              entryContent[entryPosition] = recordType;
-              entryPosition++;
-
-              OIntegerSerializer.INSTANCE.serializeNative(
-                  content.length, entryContent, entryPosition);
-              entryPosition += OIntegerSerializer.INT_SIZE;
-
-              System.arraycopy(content, 0, entryContent, entryPosition, content.length);
-              entryPosition += content.length;
-
-              entryContent[entryPosition] = 1;
-              entryPosition++;
-
-              OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryPosition);
+              final byte[] entryContent = createEntryContent(content, recordType);
 
               final AddEntryResult addEntryResult =
                   addEntry(recordVersion, entryContent, atomicOperation);
@@ -471,6 +475,101 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         });
   }
 
+  /**
+   * Creates records which fit in a single page filling every page at once, they are stored in the
+   * order of their allocated positions, so the buckets of the position map are updated in order
+   * too. Bigger records are created one by one.
+   */
+  @Override
+  public void createRecords(final List<NewRecord> records, final OAtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final List<NewRecord> batch = new ArrayList<>(records.size());
+            for (final NewRecord record : records) {
+              if (getEntryContentLength(record.getContent().length)
+                  < OClusterPage.MAX_RECORD_SIZE) {
+                batch.add(record);
+              } else {
+                record.setPosition(
+                    createRecord(
+                        record.getContent(),
+                        record.getRecordVersion(),
+                        record.getRecordType(),
+                        record.getAllocatedPosition(),
+                        atomicOperation));
+              }
+            }
+            if (batch.isEmpty()) {
+              return;
+            }
+            batch.sort(
+                Comparator.comparingLong(
+                    record ->
+                        record.getAllocatedPosition() == null
+                            ? Long.MAX_VALUE
+                            : record.getAllocatedPosition().clusterPosition));
+
+            final int[] recordVersions = new int[batch.size()];
+            final byte[][] entries = new byte[batch.size()][];
+            for (int i = 0; i < entries.length; i++) {
+              final NewRecord record = batch.get(i);
+              recordVersions[i] = record.getRecordVersion();
+              entries[i] = createEntryContent(record.getContent(), record.getRecordType());
+            }
+
+            final long[] pageIndexes = new long[entries.length];
+            final int[] positions = new int[entries.length];
+            final int[] versions = new int[entries.length];
+            final int recordsSizeDiff =
+                addEntries(
+                    recordVersions, entries, pageIndexes, positions, versions, atomicOperation);
+            updateClusterState(entries.length, recordsSizeDiff, atomicOperation);
+
+            for (int i = 0; i < entries.length; i++) {
+              final NewRecord record = batch.get(i);
+              final long clusterPosition;
+              if (record.getAllocatedPosition() != null) {
+                clusterPosition = record.getAllocatedPosition().clusterPosition;
+                clusterPositionMap.update(
+                    clusterPosition,
+                    new OClusterPositionMapBucket.PositionEntry(pageIndexes[i], positions[i]),
+                    atomicOperation);
+              } else {
+                clusterPosition =
+                    clusterPositionMap.add(pageIndexes[i], positions[i], atomicOperation);
+              }
+              record.setPosition(
+                  createPhysicalPosition(record.getRecordType(), clusterPosition, versions[i]));
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  private static byte[] createEntryContent(final byte[] content, final byte recordType) {
+    final byte[] entryContent = new byte[getEntryContentLength(content.length)];
+
+    int entryPosition = 0;
+    entryContent[entryPosition] = recordType;
+    entryPosition++;
+
+    OIntegerSerializer.INSTANCE.serializeNative(content.length, entryContent, entryPosition);
+    entryPosition += OIntegerSerializer.INT_SIZE;
+
+    System.arraycopy(content, 0, entryContent, entryPosition, content.length);
+    entryPosition += content.length;
+
+    entryContent[entryPosition] = 1;
+    entryPosition++;
+
+    OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryPosition);
+    return entryContent;
+  }
+
   private static int getEntryContentLength(final int grownContentSize) {
 
     return grownContentSize
@@ -1487,32 +1586,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
       final boolean newPage = findFreePageResult.allocateNewPage;
 
-      final OCacheEntry cacheEntry;
-      if (newPage) {
-        final OCacheEntry stateCacheEntry =
-            loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, false, true);
-        try {
-          final OPaginatedClusterStateV2 clusterState =
-              new OPaginatedClusterStateV2(stateCacheEntry);
-          final int fileSize = clusterState.getFileSize();
-          final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
-
-          if (fileSize == filledUpTo - 1) {
-            cacheEntry = addPage(atomicOperation, fileId);
-          } else {
-            assert fileSize < filledUpTo - 1;
-
-            cacheEntry = loadPageForWrite(atomicOperation, fileId, fileSize + 1, false, false);
-          }
-
-          clusterState.setFileSize(fileSize + 1);
-        } finally {
-          releasePageFromWrite(atomicOperation, stateCacheEntry);
-        }
-      } else {
-        cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false, true);
-      }
-
+      final OCacheEntry cacheEntry = loadFreePageForWrite(findFreePageResult, atomicOperation);
       try {
         final OClusterPage localPage = new OClusterPage(cacheEntry);
         if (newPage) {
@@ -1545,25 +1619,131 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     return new AddEntryResult(pageIndex, position, finalVersion, recordSizesDiff);
   }
 
+  /**
+   * Adds entries of new records filling each page with as many entries as it fits, so each page is
+   * loaded and changed once for all the entries which are stored there.
+   *
+   * @param pageIndexes array which receives the index of the page of each entry
+   * @param positions array which receives the position of each entry inside of its page
+   * @param versions array which receives the version of each added entry
+   * @return sum of the sizes of the added entries
+   */
+  private int addEntries(
+      final int[] recordVersions,
+      final byte[][] entries,
+      final long[] pageIndexes,
+      final int[] positions,
+      final int[] versions,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    int recordSizesDiff = 0;
+    int next = 0;
+
+    while (next < entries.length) {
+      final FindFreePageResult findFreePageResult =
+          findFreePage(entries[next].length, atomicOperation);
+      final long pageIndex = findFreePageResult.pageIndex;
+
+      final int appended;
+      final OCacheEntry cacheEntry = loadFreePageForWrite(findFreePageResult, atomicOperation);
+      try {
+        final OClusterPage localPage = new OClusterPage(cacheEntry);
+        if (findFreePageResult.allocateNewPage) {
+          localPage.init();
+        }
+        assert findFreePageResult.allocateNewPage
+            || findFreePageResult.freePageIndex == calculateFreePageIndex(localPage);
+
+        final int initialFreeSpace = localPage.getFreeSpace();
+        appended =
+            localPage.appendRecords(
+                recordVersions,
+                entries,
+                next,
+                positions,
+                atomicOperation.getBookedRecordPositions(id, cacheEntry.getPageIndex()));
+        recordSizesDiff += initialFreeSpace - localPage.getFreeSpace();
+
+        for (int i = next; i < next + appended; i++) {
+          pageIndexes[i] = pageIndex;
+          versions[i] = localPage.getRecordVersion(positions[i]);
+        }
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+
+      updateFreePagesIndex(findFreePageResult.freePageIndex, pageIndex, atomicOperation);
+      next += appended;
+    }
+
+    return recordSizesDiff;
+  }
+
+  private OCacheEntry loadFreePageForWrite(
+      final FindFreePageResult findFreePageResult, final OAtomicOperation atomicOperation)
+      throws IOException {
+    if (!findFreePageResult.allocateNewPage) {
+      return loadPageForWrite(atomicOperation, fileId, findFreePageResult.pageIndex, false, true);
+    }
+
+    final OCacheEntry cacheEntry;
+    final OCacheEntry stateCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, false, true);
+    try {
+      final OPaginatedClusterStateV2 clusterState = new OPaginatedClusterStateV2(stateCacheEntry);
+      final int fileSize = clusterState.getFileSize();
+      final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+
+      if (fileSize == filledUpTo - 1) {
+        cacheEntry = addPage(atomicOperation, fileId);
+      } else {
+        assert fileSize < filledUpTo - 1;
+
+        cacheEntry = loadPageForWrite(atomicOperation, fileId, fileSize + 1, false, false);
+      }
+
+      clusterState.setFileSize(fileSize + 1);
+    } finally {
+      releasePageFromWrite(atomicOperation, stateCacheEntry);
+    }
+    return cacheEntry;
+  }
+
   private FindFreePageResult findFreePage(
       final int contentSize, final OAtomicOperation atomicOperation) throws IOException {
     int freePageIndex = contentSize / ONE_KB;
-    freePageIndex -= PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
+    freePageIndex -= LOWEST_FREELIST_BOUNDARY;
     if (freePageIndex < 0) {
       freePageIndex = 0;
     }
 
     long pageIndex;
+    final int fileSize;
 
     final OCacheEntry pinnedStateEntry =
         loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
     try {
       final OPaginatedClusterStateV2 freePageLists = new OPaginatedClusterStateV2(pinnedStateEntry);
+      fileSize = freePageLists.getFileSize();
+
+      final int initialFreePageIndex = freePageIndex;
       do {
         pageIndex = freePageLists.getFreeListPage(freePageIndex);
+        if (pageIndex >= 0 && compactionBoundary > 0) {
+          pageIndex = skipCompactedPages(pageIndex, FREE_LIST_SCAN_DEPTH, atomicOperation);
+        }
         freePageIndex++;
       } while (pageIndex < 0 && freePageIndex < FREE_LIST_SIZE);
 
+      // ONLY PAGES IN THE COMPACTED TAIL HAVE FREE SPACE, THEY ARE STILL BETTER THAN A NEW PAGE
+      if (pageIndex < 0 && compactionBoundary > 0) {
+        freePageIndex = initialFreePageIndex;
+        do {
+          pageIndex = freePageLists.getFreeListPage(freePageIndex);
+          freePageIndex++;
+        } while (pageIndex < 0 && freePageIndex < FREE_LIST_SIZE);
+      }
+
     } finally {
       releasePageFromRead(atomicOperation, pinnedStateEntry);
     }
@@ -1571,17 +1751,6 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     final boolean allocateNewPage;
 
     if (pageIndex < 0) {
-      final int fileSize;
-
-      final OCacheEntry stateCacheEntry =
-          loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
-      try {
-        final OPaginatedClusterStateV2 clusterState = new OPaginatedClusterStateV2(stateCacheEntry);
-        fileSize = clusterState.getFileSize();
-      } finally {
-        releasePageFromRead(atomicOperation, stateCacheEntry);
-      }
-
       allocateNewPage = true;
       pageIndex = fileSize + 1;
     } else {
@@ -1592,6 +1761,37 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     return new FindFreePageResult(pageIndex, freePageIndex, allocateNewPage);
   }
 
+  /**
+   * Walks the free list which starts from the passed page and returns the first page which is not
+   * inside of the tail emptied by a running compaction, or -1 if there is no such page within the
+   * passed amount of steps.
+   */
+  private long skipCompactedPages(
+      long pageIndex, final int maxSkippedPages, final OAtomicOperation atomicOperation)
+      throws IOException {
+    for (int i = 0; i < maxSkippedPages && pageIndex >= 0; i++) {
+      if (!isCompactedPage(pageIndex)) {
+        return pageIndex;
+      }
+
+      final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        pageIndex = new OClusterPage(cacheEntry).getNextPage();
+      } finally {
+        releasePageFromRead(atomicOperation, cacheEntry);
+      }
+    }
+
+    if (pageIndex >= 0 && !isCompactedPage(pageIndex)) {
+      return pageIndex;
+    }
+    return -1;
+  }
+
+  private boolean isCompactedPage(final long pageIndex) {
+    return compactionBoundary > 0 && pageIndex >= compactionBoundary;
+  }
+
   private void updateFreePagesIndex(
       final int prevFreePageIndex, final long pageIndex, final OAtomicOperation atomicOperation)
       throws IOException {
@@ -1839,6 +2039,413 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
   }
 
+  /** @return amount of data pages of the cluster file */
+  public long getDataPages() throws IOException {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        final OCacheEntry stateCacheEntry =
+            loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+        try {
+          return new OPaginatedClusterStateV2(stateCacheEntry).getFileSize();
+        } finally {
+          releasePageFromRead(atomicOperation, stateCacheEntry);
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * Calculates the space used by the records stored in the passed range of data pages. Pages are
+   * scanned under the shared lock, so a compaction scans the file in batches and lets the other
+   * operations run between them.
+   *
+   * @param fromPage first data page, starting from 1
+   * @param pages amount of pages to scan
+   */
+  public long getUsedSpace(final long fromPage, final int pages) throws IOException {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+        final int fileSize;
+        final OCacheEntry stateCacheEntry =
+            loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+        try {
+          fileSize = new OPaginatedClusterStateV2(stateCacheEntry).getFileSize();
+        } finally {
+          releasePageFromRead(atomicOperation, stateCacheEntry);
+        }
+
+        // SIZE OF THE RECORDS KEPT IN THE CLUSTER STATE IS NOT DECREASED BY DELETIONS, SO THE USED
+        // SPACE IS CALCULATED FROM THE FREE SPACE OF THE PAGES
+        long usedSpace = 0;
+        final long toPage = Math.min(fileSize, fromPage + pages - 1);
+        for (long pageIndex = Math.max(1, fromPage); pageIndex <= toPage; pageIndex++) {
+          final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+          try {
+            usedSpace += OClusterPage.PAGE_SIZE - new OClusterPage(cacheEntry).getFreeSpace();
+          } finally {
+            releasePageFromRead(atomicOperation, cacheEntry);
+          }
+        }
+        return usedSpace;
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * Starts an online compaction of the cluster. It estimates from the passed used space, see {@link
+   * #getUsedSpace(long, int)}, how many pages are needed to store all the records of the cluster
+   * and returns the first page of the tail of the file which should be emptied, or -1 if the file
+   * is not larger than that. New records are not stored in the tail until {@link
+   * #releaseTailPages(OAtomicOperation)} is called, unless there is no free space in the other
+   * pages.
+   */
+  public long startCompaction(final long usedSpace) throws IOException {
+    acquireExclusiveLock();
+    try {
+      final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+      final int fileSize;
+      final OCacheEntry stateCacheEntry =
+          loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+      try {
+        fileSize = new OPaginatedClusterStateV2(stateCacheEntry).getFileSize();
+      } finally {
+        releasePageFromRead(atomicOperation, stateCacheEntry);
+      }
+
+      final long requiredPages =
+          usedSpace * 100 / ((long) OClusterPage.PAGE_SIZE * COMPACTION_FILL_PERCENT) + 1;
+      if (requiredPages < fileSize) {
+        compactionBoundary = requiredPages + 1;
+      } else {
+        compactionBoundary = -1;
+      }
+      return compactionBoundary;
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  /** Finishes the running compaction without releasing the tail pages. */
+  public void finishCompaction() {
+    acquireExclusiveLock();
+    try {
+      compactionBoundary = -1;
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  /**
+   * Returns the records in the passed range of cluster positions which are stored in the tail
+   * emptied by the running compaction, so the position map is read in windows and never loaded at
+   * once.
+   *
+   * @param fromPosition first cluster position of the window, inclusive
+   * @param toPosition last cluster position of the window, exclusive
+   * @return positions of the records, records stored in the last pages come first
+   */
+  public long[] getCompactionCandidates(final long fromPosition, final long toPosition)
+      throws IOException {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        if (compactionBoundary < 0) {
+          return new long[0];
+        }
+
+        final List<OClusterPositionMapV2.OClusterPositionEntry> entries =
+            clusterPositionMap.entriesStoredFrom(
+                compactionBoundary,
+                fromPosition,
+                toPosition,
+                atomicOperationsManager.getCurrentOperation());
+        entries.sort((first, second) -> Long.compare(second.getPage(), first.getPage()));
+
+        final long[] positions = new long[entries.size()];
+        for (int i = 0; i < positions.length; i++) {
+          positions[i] = entries.get(i).getPosition();
+        }
+        return positions;
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * Moves the passed records from the tail which is emptied by the running compaction to the free
+   * space of the pages before it. Cluster positions of the records, and so their RIDs, and their
+   * versions do not change. Records which are not in the tail any more or which are split in
+   * several pages are left in place. It stops as soon as a record does not fit in the pages before
+   * the tail.
+   */
+  public void relocateRecords(
+      final long[] clusterPositions,
+      final OClusterCompactionResult result,
+      final OAtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            for (final long clusterPosition : clusterPositions) {
+              if (compactionBoundary < 0 || result.isOutOfSpace()) {
+                return;
+              }
+              relocateRecord(clusterPosition, result, atomicOperation);
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  private void relocateRecord(
+      final long clusterPosition,
+      final OClusterCompactionResult result,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final OClusterPositionMapBucket.PositionEntry positionEntry =
+        clusterPositionMap.get(clusterPosition, 1, atomicOperation);
+    if (positionEntry == null || !isCompactedPage(positionEntry.getPageIndex())) {
+      result.incrementSkippedRecords();
+      return;
+    }
+
+    final long pageIndex = positionEntry.getPageIndex();
+    final int recordPosition = positionEntry.getRecordPosition();
+
+    final byte[] entryContent;
+    final int recordVersion;
+    final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry);
+      if (localPage.isDeleted(recordPosition)) {
+        result.incrementSkippedRecords();
+        return;
+      }
+
+      entryContent =
+          localPage.getRecordBinaryValue(
+              recordPosition, 0, localPage.getRecordSize(recordPosition));
+      recordVersion = localPage.getRecordVersion(recordPosition);
+    } finally {
+      releasePageFromRead(atomicOperation, cacheEntry);
+    }
+
+    final long nextPagePointer =
+        OLongSerializer.INSTANCE.deserializeNative(
+            entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
+    if (nextPagePointer >= 0) {
+      result.incrementSkippedRecords();
+      return;
+    }
+
+    final FindFreePageResult target = findCompactionTarget(entryContent.length, atomicOperation);
+    if (target == null) {
+      result.setOutOfSpace(true);
+      return;
+    }
+
+    final int newRecordPosition;
+    final int addedSize;
+    final OCacheEntry targetCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, target.pageIndex, false, true);
+    try {
+      final OClusterPage targetPage = new OClusterPage(targetCacheEntry);
+      final int initialFreeSpace = targetPage.getFreeSpace();
+      newRecordPosition =
+          targetPage.appendRecord(
+              recordVersion,
+              entryContent,
+              -1,
+              atomicOperation.getBookedRecordPositions(id, targetCacheEntry.getPageIndex()));
+      addedSize = initialFreeSpace - targetPage.getFreeSpace();
+    } finally {
+      releasePageFromWrite(atomicOperation, targetCacheEntry);
+    }
+
+    updateFreePagesIndex(target.freePageIndex, target.pageIndex, atomicOperation);
+
+    if (newRecordPosition < 0) {
+      result.setOutOfSpace(true);
+      return;
+    }
+
+    final int initialFreePageIndex;
+    final int removedSize;
+    final OCacheEntry sourceCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, pageIndex, false, true);
+    try {
+      final OClusterPage sourcePage = new OClusterPage(sourceCacheEntry);
+      initialFreePageIndex = calculateFreePageIndex(sourcePage);
+
+      final int initialFreeSpace = sourcePage.getFreeSpace();
+      sourcePage.deleteRecord(recordPosition, true);
+      atomicOperation.addDeletedRecordPosition(id, sourceCacheEntry.getPageIndex(), recordPosition);
+      removedSize = sourcePage.getFreeSpace() - initialFreeSpace;
+    } finally {
+      releasePageFromWrite(atomicOperation, sourceCacheEntry);
+    }
+
+    updateFreePagesIndex(initialFreePageIndex, pageIndex, atomicOperation);
+
+    clusterPositionMap.update(
+        clusterPosition,
+        new OClusterPositionMapBucket.PositionEntry(target.pageIndex, newRecordPosition),
+        atomicOperation);
+    updateClusterState(0, addedSize - removedSize, atomicOperation);
+
+    result.incrementMovedRecords();
+  }
+
+  /** Finds a page before the compacted tail which has enough free space for the passed entry. */
+  private FindFreePageResult findCompactionTarget(
+      final int contentSize, final OAtomicOperation atomicOperation) throws IOException {
+    int freePageIndex = contentSize / ONE_KB;
+    freePageIndex -= LOWEST_FREELIST_BOUNDARY;
+    if (freePageIndex < 0) {
+      freePageIndex = 0;
+    }
+
+    final OCacheEntry pinnedStateEntry =
+        loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
+    try {
+      final OPaginatedClusterStateV2 freePageLists = new OPaginatedClusterStateV2(pinnedStateEntry);
+      for (; freePageIndex < FREE_LIST_SIZE; freePageIndex++) {
+        long pageIndex = freePageLists.getFreeListPage(freePageIndex);
+        if (pageIndex >= 0) {
+          pageIndex = skipCompactedPages(pageIndex, FREE_LIST_SCAN_DEPTH, atomicOperation);
+          if (pageIndex >= 0) {
+            return new FindFreePageResult(pageIndex, freePageIndex, false);
+          }
+        }
+      }
+    } finally {
+      releasePageFromRead(atomicOperation, pinnedStateEntry);
+    }
+
+    return null;
+  }
+
+  /**
+   * Finishes the running compaction, if any, and releases the empty pages at the end of the file.
+   * Released pages stay allocated in the file and are reused when the cluster needs new pages.
+   *
+   * @return amount of released pages
+   */
+  public int releaseTailPages(final OAtomicOperation atomicOperation) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            compactionBoundary = -1;
+
+            final int fileSize;
+            final OCacheEntry stateCacheEntry =
+                loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+            try {
+              fileSize = new OPaginatedClusterStateV2(stateCacheEntry).getFileSize();
+            } finally {
+              releasePageFromRead(atomicOperation, stateCacheEntry);
+            }
+
+            int lastPage = fileSize;
+            while (lastPage > STATE_ENTRY_INDEX && removeEmptyPage(lastPage, atomicOperation)) {
+              lastPage--;
+            }
+
+            if (lastPage < fileSize) {
+              final OCacheEntry pinnedStateEntry =
+                  loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, true, true);
+              try {
+                new OPaginatedClusterStateV2(pinnedStateEntry).setFileSize(lastPage);
+              } finally {
+                releasePageFromWrite(atomicOperation, pinnedStateEntry);
+              }
+            }
+
+            return fileSize - lastPage;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /** Removes the page from its free list if it does not contain records. */
+  private boolean removeEmptyPage(final long pageIndex, final OAtomicOperation atomicOperation)
+      throws IOException {
+    final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+    try {
+      if (new OClusterPage(cacheEntry).getRecordsCount() > 0) {
+        return false;
+      }
+    } finally {
+      releasePageFromRead(atomicOperation, cacheEntry);
+    }
+
+    final OCacheEntry emptyCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, pageIndex, false, true);
+    try {
+      final OClusterPage localPage = new OClusterPage(emptyCacheEntry);
+      final int freePageIndex = calculateFreePageIndex(localPage);
+      if (freePageIndex < 0) {
+        return true;
+      }
+
+      final long nextPageIndex = localPage.getNextPage();
+      final long prevPageIndex = localPage.getPrevPage();
+
+      if (prevPageIndex >= 0) {
+        final OCacheEntry prevPageCacheEntry =
+            loadPageForWrite(atomicOperation, fileId, prevPageIndex, false, true);
+        try {
+          new OClusterPage(prevPageCacheEntry).setNextPage(nextPageIndex);
+        } finally {
+          releasePageFromWrite(atomicOperation, prevPageCacheEntry);
+        }
+      } else {
+        updateFreePagesList(freePageIndex, nextPageIndex, atomicOperation);
+      }
+
+      if (nextPageIndex >= 0) {
+        final OCacheEntry nextPageCacheEntry =
+            loadPageForWrite(atomicOperation, fileId, nextPageIndex, false, true);
+        try {
+          new OClusterPage(nextPageCacheEntry).setPrevPage(prevPageIndex);
+        } finally {
+          releasePageFromWrite(atomicOperation, nextPageCacheEntry);
+        }
+      }
+
+      localPage.setNextPage(-1);
+      localPage.setPrevPage(-1);
+      return true;
+    } finally {
+      releasePageFromWrite(atomicOperation, emptyCacheEntry);
+    }
+  }
+
   @Override
   public void acquireAtomicExclusiveLock() {
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
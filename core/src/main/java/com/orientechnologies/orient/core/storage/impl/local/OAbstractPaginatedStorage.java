@@ -47,6 +47,7 @@ import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.command.OCommandExecutor;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.command.OCommandRequestText;
@@ -122,8 +123,10 @@ import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationErro
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
 import com.orientechnologies.orient.core.storage.cluster.OOfflineCluster;
 import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.cluster.v2.OPaginatedClusterV2;
 import com.orientechnologies.orient.core.storage.config.OClusterBasedStorageConfiguration;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OStorageTransaction;
@@ -139,6 +142,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomi
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OCheckpointEndRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileCreatedWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileDeletedWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileTruncatedWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFullCheckpointStartRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFuzzyCheckpointEndRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFuzzyCheckpointStartRecord;
@@ -152,6 +156,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALPa
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.common.WriteableWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.PageOperationRecord;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
 import com.orientechnologies.orient.core.storage.index.sbtreebonsai.local.OSBTreeBonsaiLocal;
@@ -161,6 +166,7 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollection
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerAbstract;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerShared;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeRidBag;
+import com.orientechnologies.orient.core.tx.OSpilledRecord;
 import com.orientechnologies.orient.core.tx.OTransactionAbstract;
 import com.orientechnologies.orient.core.tx.OTransactionData;
 import com.orientechnologies.orient.core.tx.OTransactionId;
@@ -176,6 +182,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -222,8 +229,14 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         OPageIsBrokenListener {
   private static final int WAL_RESTORE_REPORT_INTERVAL = 30 * 1000; // milliseconds
 
+  /**
+   * Maximum number of new records of a cluster which are serialized before they are written at once
+   * during a commit, it bounds the memory taken by the serialized content of the records.
+   */
+  private static final int COMMIT_BATCH_SIZE = 1024;
+
   private static final Comparator<ORecordOperation> COMMIT_RECORD_OPERATION_COMPARATOR =
-      Comparator.comparing(o -> o.getRecord().getIdentity());
+      Comparator.comparing(ORecordOperation::getRID);
 
   protected static final OScheduledThreadPoolExecutorWithLogging fuzzyCheckpointExecutor;
   // public static final int STORAGE_CONFIGURATION_INDEX_ID = -1;
@@ -258,6 +271,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected volatile OReadCache readCache;
   protected volatile OWriteCache writeCache;
 
+  /** Second level cache of deserialized records, <code>null</code> if it is disabled. */
+  private volatile OSharedRecordCache sharedRecordCache;
+
   private volatile ORecordConflictStrategy recordConflictStrategy =
       Orient.instance().getRecordConflictStrategy().getDefaultImplementation();
 
@@ -283,6 +299,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private UUID uuid;
   private volatile byte[] lastMetadata = null;
 
+  /** Serializes the addition of pages to files by the threads which restore data from WAL. */
+  private final Object restoredPagesAllocationLock = new Object();
+
   private final OModifiableLong recordCreated = new OModifiableLong();
   private final OModifiableLong recordUpdated = new OModifiableLong();
   private final OModifiableLong recordRead = new OModifiableLong();
@@ -459,6 +478,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               // versions
               checkRidBagsPresence(atomicOperation);
 
+              initSharedRecordCache();
               status = STATUS.OPEN;
 
               final String cs = configuration.getConflictStrategy();
@@ -756,6 +776,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
               componentsFactory = new OCurrentStorageComponentsFactory(configuration);
 
+              initSharedRecordCache();
               status = STATUS.OPEN;
 
               sbTreeCollectionManager = new OSBTreeCollectionManagerShared(this);
@@ -1106,6 +1127,291 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Compacts the cluster online. Records stored in the tail of the cluster file are moved to the
+   * free space of the pages before it without changing their RIDs, then the empty pages at the end
+   * of the file are released. Records are moved in batches, each one inside of its own atomic
+   * operation, and the storage pauses between batches to limit the impact of the compaction on the
+   * latency of the other operations.
+   *
+   * @param throttle pause between batches in ms, the configured one is used if it is negative
+   * @param listener receives the progress of the compaction, may be <code>null</code>
+   */
+  public OClusterCompactionResult compactCluster(
+      final int clusterId, final int throttle, final OCommandOutputListener listener) {
+    try {
+      final OPaginatedClusterV2 cluster;
+
+      checkOpenness();
+      checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkClusterId(clusterId);
+
+        final OCluster clusterInstance = clusters.get(clusterId);
+        if (clusterInstance == null) {
+          throwClusterDoesNotExist(clusterId);
+        }
+        if (!(clusterInstance instanceof OPaginatedClusterV2)) {
+          throw new OStorageException(
+              "Cluster '" + clusterInstance.getName() + "' does not support online compaction");
+        }
+
+        cluster = (OPaginatedClusterV2) clusterInstance;
+      } finally {
+        stateLock.releaseReadLock();
+      }
+
+      final OClusterCompactionResult result = new OClusterCompactionResult();
+
+      final int batchSize =
+          Math.max(
+              1, OGlobalConfiguration.PAGINATED_STORAGE_COMPACTION_BATCH_SIZE.getValueAsInteger());
+      final int pause =
+          throttle >= 0
+              ? throttle
+              : OGlobalConfiguration.PAGINATED_STORAGE_COMPACTION_THROTTLE.getValueAsInteger();
+
+      // PAGES ARE SCANNED IN BATCHES, SO THE CLUSTER IS NOT LOCKED FOR THE WHOLE SCAN
+      final long dataPages;
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        dataPages = cluster.getDataPages();
+      } finally {
+        stateLock.releaseReadLock();
+      }
+
+      long usedSpace = 0;
+      for (long page = 1; page <= dataPages; page += batchSize) {
+        stateLock.acquireReadLock();
+        try {
+          checkOpenness();
+          usedSpace += cluster.getUsedSpace(page, batchSize);
+        } finally {
+          stateLock.releaseReadLock();
+        }
+      }
+
+      final long boundary;
+      final long endPosition;
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        boundary = cluster.startCompaction(usedSpace);
+        endPosition = cluster.getNextPosition();
+      } finally {
+        stateLock.releaseReadLock();
+      }
+
+      try {
+        // THE POSITION MAP IS READ IN WINDOWS, EACH WINDOW IS A BATCH OF MOVED RECORDS
+        for (long from = 0;
+            boundary > 0 && from < endPosition && !result.isOutOfSpace();
+            from += batchSize) {
+          final long[] batch;
+
+          stateLock.acquireReadLock();
+          try {
+            checkOpenness();
+            batch = cluster.getCompactionCandidates(from, from + batchSize);
+          } finally {
+            stateLock.releaseReadLock();
+          }
+
+          if (batch.length == 0) {
+            continue;
+          }
+          result.addCandidates(batch.length);
+
+          stateLock.acquireReadLock();
+          try {
+            checkOpenness();
+            makeStorageDirty();
+
+            atomicOperationsManager.executeInsideAtomicOperation(
+                null,
+                atomicOperation -> {
+                  cluster.acquireAtomicExclusiveLock();
+                  cluster.relocateRecords(batch, result, atomicOperation);
+                });
+          } finally {
+            stateLock.releaseReadLock();
+          }
+
+          if (listener != null) {
+            listener.onMessage(
+                "\nCompaction of cluster '"
+                    + cluster.getName()
+                    + "': moved "
+                    + result.getMovedRecords()
+                    + " of "
+                    + result.getCandidates()
+                    + " records found so far");
+          }
+
+          if (pause > 0) {
+            try {
+              Thread.sleep(pause);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+              break;
+            }
+          }
+        }
+      } finally {
+        cluster.finishCompaction();
+      }
+
+      final int releasedPages;
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        makeStorageDirty();
+
+        releasedPages =
+            atomicOperationsManager.calculateInsideAtomicOperation(
+                null,
+                atomicOperation -> {
+                  cluster.acquireAtomicExclusiveLock();
+                  return cluster.releaseTailPages(atomicOperation);
+                });
+      } finally {
+        stateLock.releaseReadLock();
+      }
+
+      result.setReleasedPages(
+          releasedPages, OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024);
+      if (listener != null) {
+        listener.onMessage(
+            "\nCompaction of cluster '"
+                + cluster.getName()
+                + "' completed: moved "
+                + result.getMovedRecords()
+                + " records, released "
+                + releasedPages
+                + " pages ("
+                + result.getReclaimedBytes()
+                + " bytes)");
+      }
+
+      return result;
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Writes records exported from another database at the same cluster positions they had there,
+   * bypassing the record layer: content is stored as is, with its version, and indexes are not
+   * updated. Records already stored at those positions are overwritten and the ones in the range
+   * <code>[from, to)</code> that are not part of the batch are deleted, so importing the same batch
+   * more than once gives the same result. Positions that are skipped are left allocated, but empty.
+   *
+   * @param positions positions of the records sorted in ascending order, with record type and
+   *     version
+   * @param contents serialized content of every record
+   */
+  public void importRecords(
+      final int clusterId,
+      final long from,
+      final long to,
+      final OPhysicalPosition[] positions,
+      final byte[][] contents) {
+    try {
+      checkOpenness();
+      checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkClusterId(clusterId);
+
+        final OCluster clusterInstance = clusters.get(clusterId);
+        if (clusterInstance == null) {
+          throwClusterDoesNotExist(clusterId);
+        }
+        if (!(clusterInstance instanceof OPaginatedCluster)) {
+          throw new OStorageException(
+              "Cluster '" + clusterInstance.getName() + "' does not support import of records");
+        }
+        final OPaginatedCluster cluster = (OPaginatedCluster) clusterInstance;
+
+        makeStorageDirty();
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation -> {
+              cluster.acquireAtomicExclusiveLock();
+
+              // DELETE THE RECORDS OF THE RANGE THAT ARE NOT PART OF THE BATCH
+              final Comparator<OPhysicalPosition> byPosition =
+                  Comparator.comparingLong(p -> p.clusterPosition);
+              OPhysicalPosition[] present = cluster.ceilingPositions(new OPhysicalPosition(from));
+              while (present.length > 0 && present[0].clusterPosition < to) {
+                for (OPhysicalPosition position : present) {
+                  if (position.clusterPosition >= to) break;
+                  if (Arrays.binarySearch(positions, position, byPosition) < 0) {
+                    cluster.deleteRecord(atomicOperation, position.clusterPosition);
+                  }
+                }
+                present = cluster.higherPositions(present[present.length - 1]);
+              }
+
+              for (int i = 0; i < positions.length; i++) {
+                final OPhysicalPosition position = positions[i];
+                final long clusterPosition = position.clusterPosition;
+
+                OPaginatedCluster.RECORD_STATUS status = cluster.getRecordStatus(clusterPosition);
+                if (status == OPaginatedCluster.RECORD_STATUS.NOT_EXISTENT) {
+                  OPhysicalPosition allocated;
+                  do {
+                    allocated = cluster.allocatePosition(position.recordType, atomicOperation);
+                  } while (allocated.clusterPosition < clusterPosition);
+                  status = cluster.getRecordStatus(clusterPosition);
+                }
+
+                if (status == OPaginatedCluster.RECORD_STATUS.PRESENT) {
+                  cluster.updateRecord(
+                      clusterPosition,
+                      contents[i],
+                      position.recordVersion,
+                      position.recordType,
+                      atomicOperation);
+                } else if (status == OPaginatedCluster.RECORD_STATUS.ALLOCATED) {
+                  cluster.createRecord(
+                      contents[i],
+                      position.recordVersion,
+                      position.recordType,
+                      new OPhysicalPosition(clusterPosition),
+                      atomicOperation);
+                } else {
+                  throw new OStorageException(
+                      "Record #"
+                          + clusterId
+                          + ":"
+                          + clusterPosition
+                          + " was deleted and cannot be imported, import records in a new database");
+                }
+              }
+            });
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   private void checkClusterId(int clusterId) {
     if (clusterId < 0 || clusterId >= clusters.size()) {
       throw new OStorageException(
@@ -1485,6 +1791,26 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return readCache;
   }
 
+  /** @return second level record cache or <code>null</code> if it is disabled */
+  public OSharedRecordCache getSharedRecordCache() {
+    return sharedRecordCache;
+  }
+
+  private void initSharedRecordCache() {
+    final long size =
+        configuration
+            .getContextConfiguration()
+            .getValueAsLong(OGlobalConfiguration.CACHE_LEVEL2_SIZE);
+    sharedRecordCache = size > 0 ? new OSharedRecordCache(size * 1024 * 1024) : null;
+  }
+
+  private void invalidateSharedRecord(final ORID rid) {
+    final OSharedRecordCache cache = sharedRecordCache;
+    if (cache != null) {
+      cache.invalidate(rid);
+    }
+  }
+
   public OWriteCache getWriteCache() {
     return writeCache;
   }
@@ -2234,16 +2560,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               lockClusters(clustersToLock);
 
               for (final ORecordOperation txEntry : newRecords) {
-                final ORecord rec = txEntry.getRecord();
+                final OIdentifiable rec = txEntry.getRecordContainer();
+                final byte recordType = getRecordType(txEntry);
                 if (!rec.getIdentity().isPersistent()) {
-                  if (rec.isDirty()) {
+                  if (isDirty(txEntry)) {
                     // This allocate a position for a new record
                     final ORecordId rid = (ORecordId) rec.getIdentity().copy();
                     final ORecordId oldRID = rid.copy();
                     final OCluster cluster = doGetAndCheckCluster(rid.getClusterId());
                     final OPhysicalPosition ppos =
-                        cluster.allocatePosition(
-                            ORecordInternal.getRecordType(rec), atomicOperation);
+                        cluster.allocatePosition(recordType, atomicOperation);
                     rid.setClusterPosition(ppos.clusterPosition);
                     clientTx.updateIdentityAfterCommit(oldRID, rid);
                   }
@@ -2256,13 +2582,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                   OPaginatedCluster.RECORD_STATUS recordStatus =
                       cluster.getRecordStatus(rid.getClusterPosition());
                   if (recordStatus == OPaginatedCluster.RECORD_STATUS.NOT_EXISTENT) {
-                    OPhysicalPosition ppos =
-                        cluster.allocatePosition(
-                            ORecordInternal.getRecordType(rec), atomicOperation);
+                    OPhysicalPosition ppos = cluster.allocatePosition(recordType, atomicOperation);
                     while (ppos.clusterPosition < rid.getClusterPosition()) {
-                      ppos =
-                          cluster.allocatePosition(
-                              ORecordInternal.getRecordType(rec), atomicOperation);
+                      ppos = cluster.allocatePosition(recordType, atomicOperation);
                     }
                     if (ppos.clusterPosition != rid.getClusterPosition()) {
                       throw new OConcurrentCreateException(
@@ -2271,8 +2593,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                   } else if (recordStatus == OPaginatedCluster.RECORD_STATUS.PRESENT
                       || recordStatus == OPaginatedCluster.RECORD_STATUS.REMOVED) {
                     final OPhysicalPosition ppos =
-                        cluster.allocatePosition(
-                            ORecordInternal.getRecordType(rec), atomicOperation);
+                        cluster.allocatePosition(recordType, atomicOperation);
                     throw new OConcurrentCreateException(
                         rid, new ORecordId(rid.getClusterId(), ppos.clusterPosition));
                   }
@@ -2359,8 +2680,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       final Set<ORecordOperation> newRecords = new TreeSet<>(COMMIT_RECORD_OPERATION_COMPARATOR);
 
       for (final ORecordOperation recordOperation : recordOperations) {
-        if (recordOperation.type == ORecordOperation.CREATED
-            || recordOperation.type == ORecordOperation.UPDATED) {
+        // SPILLED RECORDS ARE VALIDATED BEFORE THEY ARE SPILLED
+        if ((recordOperation.type == ORecordOperation.CREATED
+                || recordOperation.type == ORecordOperation.UPDATED)
+            && !(recordOperation.getRecordContainer() instanceof OSpilledRecord)) {
           final ORecord record = recordOperation.getRecord();
           if (record instanceof ODocument) {
             ((ODocument) record).validate();
@@ -2369,19 +2692,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         if (recordOperation.type == ORecordOperation.UPDATED
             || recordOperation.type == ORecordOperation.DELETED) {
-          final int clusterId = recordOperation.getRecord().getIdentity().getClusterId();
+          final int clusterId = recordOperation.getRID().getClusterId();
           clustersToLock.put(clusterId, doGetAndCheckCluster(clusterId));
         } else if (recordOperation.type == ORecordOperation.CREATED) {
           newRecords.add(recordOperation);
 
-          final ORecord record = recordOperation.getRecord();
-          final ORID rid = record.getIdentity();
+          final ORID rid = recordOperation.getRID();
 
           int clusterId = rid.getClusterId();
 
-          if (record.isDirty()
-              && clusterId == ORID.CLUSTER_ID_INVALID
-              && record instanceof ODocument) {
+          // SPILLED RECORDS ALWAYS HAVE A CLUSTER, THEY ARE NOT LOADED BACK HERE
+          final ORecord record =
+              clusterId == ORID.CLUSTER_ID_INVALID ? recordOperation.getRecord() : null;
+          if (record != null && record.isDirty() && record instanceof ODocument) {
             // TRY TO FIX CLUSTER ID TO THE DEFAULT CLUSTER ID DEFINED IN SCHEMA CLASS
 
             final OImmutableClass class_ =
@@ -2433,7 +2756,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
             final Map<ORecordOperation, OPhysicalPosition> positions = new IdentityHashMap<>(8);
             for (final ORecordOperation recordOperation : newRecords) {
-              final ORecord rec = recordOperation.getRecord();
+              // THE CONTENT OF SPILLED RECORDS IS NOT NEEDED TO ALLOCATE THEIR POSITIONS
+              final OIdentifiable rec = recordOperation.getRecordContainer();
+              final byte recordType = getRecordType(recordOperation);
 
               if (allocated) {
                 if (rec.getIdentity().isPersistent()) {
@@ -2444,7 +2769,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                   throw new OStorageException(
                       "Impossible to commit a transaction with not valid rid in pre-allocated commit");
                 }
-              } else if (rec.isDirty() && !rec.getIdentity().isPersistent()) {
+              } else if (isDirty(recordOperation) && !rec.getIdentity().isPersistent()) {
                 final ORecordId rid = (ORecordId) rec.getIdentity().copy();
                 final ORecordId oldRID = rid.copy();
 
@@ -2455,7 +2780,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                 final OCluster cluster = doGetAndCheckCluster(clusterId);
 
                 OPhysicalPosition physicalPosition =
-                    cluster.allocatePosition(ORecordInternal.getRecordType(rec), atomicOperation);
+                    cluster.allocatePosition(recordType, atomicOperation);
                 rid.setClusterId(cluster.getId());
 
                 if (rid.getClusterPosition() > -1) {
@@ -2465,9 +2790,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                   // SO THE OWNER NODE DELETED
                   // RECORD HAVING A HIGHER CLUSTER POSITION
                   while (rid.getClusterPosition() > physicalPosition.clusterPosition) {
-                    physicalPosition =
-                        cluster.allocatePosition(
-                            ORecordInternal.getRecordType(rec), atomicOperation);
+                    physicalPosition = cluster.allocatePosition(recordType, atomicOperation);
                   }
 
                   if (rid.getClusterPosition() != physicalPosition.clusterPosition) {
@@ -2483,14 +2806,24 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             lockRidBags(clustersToLock, indexOperations, indexManager, database);
             checkReadOnlyConditions();
 
-            for (final ORecordOperation recordOperation : recordOperations) {
-              commitEntry(
+            final Map<OPaginatedCluster, List<BatchedRecord>> batches = new LinkedHashMap<>();
+            for (final ORecordOperation recordOperation : inWriteOrder(recordOperations)) {
+              final OPhysicalPosition allocatedPosition = positions.get(recordOperation);
+              if (!addToBatch(
                   atomicOperation,
                   recordOperation,
-                  positions.get(recordOperation),
-                  database.getSerializer());
+                  allocatedPosition,
+                  database.getSerializer(),
+                  batches)) {
+                commitEntry(
+                    atomicOperation, recordOperation, allocatedPosition, database.getSerializer());
+              }
               result.add(recordOperation);
             }
+            for (final Map.Entry<OPaginatedCluster, List<BatchedRecord>> batch :
+                batches.entrySet()) {
+              commitBatch(atomicOperation, batch.getKey(), batch.getValue());
+            }
             lockIndexes(indexOperations);
             checkReadOnlyConditions();
             commitIndexes(indexOperations);
@@ -2823,6 +3156,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                 engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
               }
 
+              // this property is used by unique CELL_BTREE indexes split between writers
+              final int writePartitions =
+                  metadata != null && metadata.containsField("writePartitions")
+                      ? Integer.parseInt(metadata.field("writePartitions").toString())
+                      : configuration
+                          .getContextConfiguration()
+                          .getValueAsInteger(OGlobalConfiguration.INDEX_WRITE_PARTITIONS);
+              if (writePartitions > 1) {
+                engineProperties.put("writePartitions", Integer.toString(writePartitions));
+              } else {
+                engineProperties.remove("writePartitions");
+              }
+
               final OBaseIndexEngine engine =
                   addIndexEngineInternal(
                       atomicOperation,
@@ -5541,6 +5887,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       recordUpdated.increment();
+      invalidateSharedRecord(rid);
 
       if (contentModified) {
         return new OStorageOperationResult<>(newRecordVersion, content, false);
@@ -5600,6 +5947,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       recordDeleted.increment();
+      invalidateSharedRecord(rid);
 
       return new OStorageOperationResult<>(true);
     } catch (final IOException ioe) {
@@ -5895,6 +6243,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
     cluster.delete(atomicOperation);
 
+    final OSharedRecordCache cache = sharedRecordCache;
+    if (cache != null) {
+      // RIDS OF THE DROPPED CLUSTER CAN BE REUSED BY A NEW ONE
+      cache.clear();
+    }
+
     clusterMap.remove(cluster.getName().toLowerCase(configuration.getLocaleInstance()));
     clusters.set(clusterId, null);
 
@@ -5922,6 +6276,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       status = STATUS.CLOSING;
+      sharedRecordCache = null;
 
       if (jvmError.get() == null) {
         if (!onDelete && jvmError.get() == null) {
@@ -6210,12 +6565,158 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       ORecordSerializationContext.pullContext();
     }
 
+    completeEntry(txEntry, rec);
+  }
+
+  /**
+   * Serializes a new record which has an allocated position and adds it to the batch of records of
+   * its cluster, the batch is written once it is full.
+   *
+   * @return <code>false</code> if the record has to be committed by {@link
+   *     #commitEntry(OAtomicOperation, ORecordOperation, OPhysicalPosition, ORecordSerializer)}
+   */
+  private boolean addToBatch(
+      final OAtomicOperation atomicOperation,
+      final ORecordOperation txEntry,
+      final OPhysicalPosition allocated,
+      final ORecordSerializer serializer,
+      final Map<OPaginatedCluster, List<BatchedRecord>> batches) {
+    if (allocated == null || txEntry.type != ORecordOperation.CREATED) {
+      return false;
+    }
+    final ORecord rec = txEntry.getRecord();
+    if (!rec.isDirty()) {
+      return false;
+    }
+
+    final OCluster cluster = doGetAndCheckCluster(rec.getIdentity().getClusterId());
+    if (!(cluster instanceof OPaginatedCluster)
+        || cluster.getName().equals(OMetadataDefault.CLUSTER_INDEX_NAME)
+        || cluster.getName().equals(OMetadataDefault.CLUSTER_MANUAL_INDEX_NAME)) {
+      return false;
+    }
+
+    // OPERATIONS ON THE RIDBAGS OF THE RECORD ARE EXECUTED AFTER IT IS CREATED
+    final ORecordSerializationContext context = ORecordSerializationContext.pushContext();
+    final byte[] stream;
+    try {
+      stream = serializer.toStream(rec);
+    } finally {
+      ORecordSerializationContext.pullContext();
+    }
+    if (stream == null) {
+      throw new IllegalArgumentException("Record is null");
+    }
+
+    final int recordVersion = rec.getVersion() > -1 ? rec.getVersion() + 1 : 0;
+    final List<BatchedRecord> batch =
+        batches.computeIfAbsent((OPaginatedCluster) cluster, k -> new ArrayList<>());
+    batch.add(
+        new BatchedRecord(
+            txEntry,
+            rec,
+            context,
+            new OPaginatedCluster.NewRecord(
+                stream, recordVersion, ORecordInternal.getRecordType(rec), allocated)));
+
+    if (batch.size() >= COMMIT_BATCH_SIZE) {
+      commitBatch(atomicOperation, (OPaginatedCluster) cluster, batch);
+      batch.clear();
+    }
+    return true;
+  }
+
+  private void commitBatch(
+      final OAtomicOperation atomicOperation,
+      final OPaginatedCluster cluster,
+      final List<BatchedRecord> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    final List<OPaginatedCluster.NewRecord> records = new ArrayList<>(batch.size());
+    for (final BatchedRecord batchedRecord : batch) {
+      records.add(batchedRecord.record);
+    }
+
+    try {
+      cluster.createRecords(records, atomicOperation);
+
+      for (final BatchedRecord batchedRecord : batch) {
+        batchedRecord.context.executeOperations(atomicOperation, this);
+      }
+    } catch (final Exception e) {
+      OLogManager.instance().error(this, "Error on creating records in cluster: " + cluster, e);
+      throw ODatabaseException.wrapException(
+          new OStorageException("Error during creation of records"), e);
+    }
+
+    for (final BatchedRecord batchedRecord : batch) {
+      final OPhysicalPosition ppos = batchedRecord.record.getPosition();
+      ((ORecordId) batchedRecord.rec.getIdentity()).setClusterPosition(ppos.clusterPosition);
+      ORecordInternal.setVersion(batchedRecord.rec, ppos.recordVersion);
+      recordCreated.increment();
+
+      completeEntry(batchedRecord.txEntry, batchedRecord.rec);
+    }
+  }
+
+  private static boolean isDirty(final ORecordOperation recordOperation) {
+    if (recordOperation.getRecordContainer() instanceof OSpilledRecord) {
+      return ((OSpilledRecord) recordOperation.getRecordContainer()).isDirty();
+    }
+    return recordOperation.getRecord().isDirty();
+  }
+
+  private static byte getRecordType(final ORecordOperation recordOperation) {
+    if (recordOperation.getRecordContainer() instanceof OSpilledRecord) {
+      return ((OSpilledRecord) recordOperation.getRecordContainer()).getRecordType();
+    }
+    return ORecordInternal.getRecordType(recordOperation.getRecord());
+  }
+
+  /**
+   * Spilled records are written after the others, in the order of their content in the spill file,
+   * so the file is read sequentially and every record is loaded back only once.
+   */
+  private static Collection<ORecordOperation> inWriteOrder(
+      final Collection<ORecordOperation> recordOperations) {
+    List<ORecordOperation> spilled = null;
+    for (final ORecordOperation recordOperation : recordOperations) {
+      if (recordOperation.getRecordContainer() instanceof OSpilledRecord) {
+        if (spilled == null) {
+          spilled = new ArrayList<>();
+        }
+        spilled.add(recordOperation);
+      }
+    }
+    if (spilled == null) {
+      return recordOperations;
+    }
+
+    final List<ORecordOperation> ordered = new ArrayList<>(recordOperations.size());
+    for (final ORecordOperation recordOperation : recordOperations) {
+      if (!(recordOperation.getRecordContainer() instanceof OSpilledRecord)) {
+        ordered.add(recordOperation);
+      }
+    }
+    spilled.sort(
+        Comparator.comparingLong(o -> ((OSpilledRecord) o.getRecordContainer()).getPosition()));
+    ordered.addAll(spilled);
+    return ordered;
+  }
+
+  private static void completeEntry(final ORecordOperation txEntry, final ORecord rec) {
     // RESET TRACKING
     if (rec instanceof ODocument && ((ODocument) rec).isTrackingChanges()) {
       ODocumentInternal.clearTrackData(((ODocument) rec));
       ODocumentInternal.clearTransactionTrackData(((ODocument) rec));
     }
     ORecordInternal.unsetDirty(rec);
+
+    if (txEntry.getRecordContainer() instanceof OSpilledRecord) {
+      ((OSpilledRecord) txEntry.getRecordContainer()).committed(rec);
+    }
   }
 
   private void checkClusterSegmentIndexRange(final int iClusterId) {
@@ -6482,6 +6983,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       final Map<Long, byte[]> operationMetadata = new LinkedHashMap<>(1024);
 
       long lastReportTime = 0;
+      final long restoreStart = System.currentTimeMillis();
+      final OPageRedoDispatcher redoDispatcher =
+          new OPageRedoDispatcher(
+              name,
+              OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger(),
+              this::restorePageChange);
 
       try {
         List<WriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
@@ -6498,7 +7005,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               // flushed to the disk
               if (atomicUnit != null) {
                 atomicUnit.add(walRecord);
-                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, redoDispatcher);
               }
               byte[] metadata = operationMetadata.remove(atomicUnitEndRecord.getOperationUnitId());
               if (metadata != null) {
@@ -6561,9 +7068,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               OLogManager.instance()
                   .infoNoDb(
                       this,
-                      "%d operations were processed, current LSN is %s last LSN is %s",
+                      "%d operations were processed (%d page changes applied, %d operations/s), current LSN is %s last LSN is %s",
                       recordsProcessed,
-                      lsn,
+                      redoDispatcher.getAppliedChanges(),
+                      recordsProcessed * 1000 / Math.max(1, currentTime - restoreStart),
+                      logSequenceNumber,
                       writeAheadLog.end());
               lastReportTime = currentTime;
             }
@@ -6571,6 +7080,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
           records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
         }
+
+        redoDispatcher.barrier();
       } catch (final OWALPageBrokenException e) {
         OLogManager.instance()
             .errorNoDb(
@@ -6583,8 +7094,21 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                 this,
                 "Data restore was paused because of exception. The rest of changes will be rolled back.",
                 e);
+      } finally {
+        redoDispatcher.close();
       }
 
+      final long restoreTime = System.currentTimeMillis() - restoreStart;
+      OLogManager.instance()
+          .infoNoDb(
+              this,
+              "%d operations were processed and %d page changes applied by %d threads in %d ms (%d operations/s)",
+              recordsProcessed,
+              redoDispatcher.getAppliedChanges(),
+              redoDispatcher.getThreads(),
+              restoreTime,
+              recordsProcessed * 1000 / Math.max(1, restoreTime));
+
       if (atLeastOnePageUpdate.getValue()) {
         return logSequenceNumber;
       }
@@ -6596,18 +7120,24 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   }
 
   protected final void restoreAtomicUnit(
-      final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
+      final List<OWALRecord> atomicUnit,
+      final OModifiableBoolean atLeastOnePageUpdate,
+      final OPageRedoDispatcher redoDispatcher)
       throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
+    redoDispatcher.startUnit();
+
     for (final OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord) {
         final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
+        redoDispatcher.barrier();
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
         }
       } else if (walRecord instanceof OFileCreatedWALRecord) {
         final OFileCreatedWALRecord fileCreatedCreatedWALRecord = (OFileCreatedWALRecord) walRecord;
+        redoDispatcher.barrier();
 
         if (!writeCache.exists(fileCreatedCreatedWALRecord.getFileName())) {
           readCache.addFile(
@@ -6615,53 +7145,25 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               fileCreatedCreatedWALRecord.getFileId(),
               writeCache);
         }
+      } else if (walRecord instanceof OFileTruncatedWALRecord) {
+        final OFileTruncatedWALRecord fileTruncatedWALRecord = (OFileTruncatedWALRecord) walRecord;
+        redoDispatcher.barrier();
+        if (writeCache.exists(fileTruncatedWALRecord.getFileId())) {
+          readCache.truncateFile(fileTruncatedWALRecord.getFileId(), writeCache);
+        }
       } else if (walRecord instanceof OUpdatePageRecord) {
         final OUpdatePageRecord updatePageRecord = (OUpdatePageRecord) walRecord;
-
-        long fileId = updatePageRecord.getFileId();
-        if (!writeCache.exists(fileId)) {
-          final String fileName = writeCache.restoreFileById(fileId);
-
-          if (fileName == null) {
-            throw new OStorageException(
-                "File with id "
-                    + fileId
-                    + " was deleted from storage, the rest of operations can not be restored");
-          } else {
-            OLogManager.instance()
-                .warn(
-                    this,
-                    "Previously deleted file with name "
-                        + fileName
-                        + " was deleted but new empty file was added to continue restore process");
-          }
-        }
-
-        final long pageIndex = updatePageRecord.getPageIndex();
-        fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry =
-            readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          if (durablePage.getLsn().compareTo(walRecord.getLsn()) < 0) {
-            durablePage.restoreChanges(updatePageRecord.getChanges());
-            durablePage.setLsn(updatePageRecord.getLsn());
-          }
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
-        }
-
+        redoDispatcher.dispatch(
+            walRecord,
+            restoreFileId(updatePageRecord.getFileId()),
+            updatePageRecord.getPageIndex());
+        atLeastOnePageUpdate.setValue(true);
+      } else if (walRecord instanceof PageOperationRecord) {
+        final PageOperationRecord pageOperationRecord = (PageOperationRecord) walRecord;
+        redoDispatcher.dispatch(
+            walRecord,
+            restoreFileId(pageOperationRecord.getFileId()),
+            pageOperationRecord.getPageIndex());
         atLeastOnePageUpdate.setValue(true);
       } else if (walRecord instanceof OAtomicUnitStartRecord) {
         //noinspection UnnecessaryContinue
@@ -6685,6 +7187,70 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Restores the file of a page change if it was deleted, it is called by the thread which reads
+   * WAL so that page changes of the same file restored by different threads never add it twice.
+   *
+   * @return external id of the file
+   */
+  private long restoreFileId(long fileId) throws IOException {
+    if (!writeCache.exists(fileId)) {
+      final String fileName = writeCache.restoreFileById(fileId);
+
+      if (fileName == null) {
+        throw new OStorageException(
+            "File with id "
+                + fileId
+                + " was deleted from storage, the rest of operations can not be restored");
+      } else {
+        OLogManager.instance()
+            .warn(
+                this,
+                "Previously deleted file with name "
+                    + fileName
+                    + " was deleted but new empty file was added to continue restore process");
+      }
+    }
+
+    return writeCache.externalFileId(writeCache.internalFileId(fileId));
+  }
+
+  /** Applies a page change read from WAL, called concurrently for changes of different pages. */
+  private void restorePageChange(
+      final OWALRecord walRecord, final long fileId, final long pageIndex) throws IOException {
+    OCacheEntry cacheEntry =
+        readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+    if (cacheEntry == null) {
+      // PAGES ARE ADDED AT THE END OF THE FILE, ONE THREAD AT A TIME
+      synchronized (restoredPagesAllocationLock) {
+        cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+        if (cacheEntry == null) {
+          do {
+            if (cacheEntry != null) {
+              readCache.releaseFromWrite(cacheEntry, writeCache, true);
+            }
+
+            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+          } while (cacheEntry.getPageIndex() != pageIndex);
+        }
+      }
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      if (durablePage.getLsn().compareTo(walRecord.getLsn()) < 0) {
+        if (walRecord instanceof OUpdatePageRecord) {
+          durablePage.restoreChanges(((OUpdatePageRecord) walRecord).getChanges());
+        } else {
+          ((PageOperationRecord) walRecord).redo(cacheEntry);
+        }
+        durablePage.setLsn(walRecord.getLsn());
+      }
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
   /**
    * Method which is called before any data modification operation to check alarm conditions such
    * as:
@@ -6871,6 +7437,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       final OIndexInternal index = changes.getAssociatedIndex();
 
       final List<Object> orderedIndexNames = new ArrayList<>(changes.changesPerKey.keySet());
+      // THE PARTITION OF THE NULL KEY IS LOCKED IN THE SAME ORDER AS THE OTHERS TO AVOID DEADLOCKS
+      if (!changes.nullKeyChanges.entries.isEmpty()) {
+        orderedIndexNames.add(null);
+      }
       if (orderedIndexNames.size() > 1) {
         orderedIndexNames.sort(
             (o1, o2) -> {
@@ -6880,16 +7450,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             });
       }
 
-      boolean fullyLocked = false;
       for (final Object key : orderedIndexNames) {
         if (index.acquireAtomicExclusiveLock(key)) {
-          fullyLocked = true;
           break;
         }
       }
-      if (!fullyLocked && !changes.nullKeyChanges.entries.isEmpty()) {
-        index.acquireAtomicExclusiveLock(null);
-      }
     }
   }
 
@@ -7480,6 +8045,25 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return Optional.ofNullable(lastMetadata);
   }
 
+  /** New record of a transaction which is serialized and waits to be written with its batch. */
+  private static final class BatchedRecord {
+    private final ORecordOperation txEntry;
+    private final ORecord rec;
+    private final ORecordSerializationContext context;
+    private final OPaginatedCluster.NewRecord record;
+
+    private BatchedRecord(
+        final ORecordOperation txEntry,
+        final ORecord rec,
+        final ORecordSerializationContext context,
+        final OPaginatedCluster.NewRecord record) {
+      this.txEntry = txEntry;
+      this.rec = rec;
+      this.context = context;
+      this.record = record;
+    }
+  }
+
   private static final class FuzzyCheckpointThreadFactory implements ThreadFactory {
     @Override
     public final Thread newThread(final Runnable r) {
@@ -0,0 +1,255 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies the page changes read from WAL during a data restore on a pool of workers.
+ *
+ * <p>Changes are partitioned by page: all the changes of a page are applied by the same worker in
+ * the order they were dispatched, changes of different pages are applied concurrently. Operations
+ * which are not page changes (creation, deletion or truncation of files) have to be preceded by a
+ * {@link #barrier()}, which waits until all the changes dispatched so far are applied. With a
+ * single worker changes are applied on the calling thread.
+ *
+ * <p>Changes are grouped by atomic unit, each unit is started by {@link #startUnit()}. Once a
+ * change fails, the workers still apply the pending changes of the previous units, but skip the
+ * ones of the failed unit and of the following units, and no further unit can be started. Workers
+ * do not wait for each other, so when a change fails the changes of the following units which were
+ * already applied by other workers are kept: unlike the single threaded restore, the parallel one
+ * stops at the granularity of the units in flight, not exactly at the failed change.
+ */
+final class OPageRedoDispatcher implements AutoCloseable {
+  private static final int QUEUE_CAPACITY = 1024;
+
+  /** Applies a page change. */
+  interface OPageRedo {
+    void redo(OWALRecord record, long fileId, long pageIndex) throws IOException;
+  }
+
+  private final OPageRedo redo;
+  private final Worker[] workers;
+  private final AtomicLong appliedChanges = new AtomicLong();
+
+  /** Sequence number of the current atomic unit. */
+  private long unit = 0;
+
+  /** Lowest unit which failed, changes of this unit and of the following ones are skipped. */
+  private volatile long failedUnit = Long.MAX_VALUE;
+
+  private volatile Throwable failure;
+
+  OPageRedoDispatcher(final String storageName, final int threads, final OPageRedo redo) {
+    this.redo = redo;
+    if (threads > 1) {
+      workers = new Worker[threads];
+      for (int i = 0; i < threads; i++) {
+        workers[i] = new Worker();
+        final Thread thread =
+            new Thread(
+                OStorageAbstract.storageThreadGroup,
+                workers[i],
+                "OrientDB WAL restore of " + storageName + " #" + i);
+        thread.setDaemon(true);
+        thread.start();
+      }
+    } else {
+      workers = null;
+    }
+  }
+
+  /**
+   * Starts the next atomic unit, the page changes dispatched from now on belong to it.
+   *
+   * @throws IOException if a change of one of the previous units failed
+   */
+  void startUnit() throws IOException {
+    checkFailure();
+    unit++;
+  }
+
+  void dispatch(final OWALRecord record, final long fileId, final long pageIndex)
+      throws IOException {
+    checkFailure();
+    if (workers == null) {
+      redo.redo(record, fileId, pageIndex);
+      appliedChanges.incrementAndGet();
+      return;
+    }
+
+    final int partition = (int) ((31 * fileId + pageIndex) & Integer.MAX_VALUE) % workers.length;
+    put(workers[partition].queue, new Task(record, fileId, pageIndex, unit, null));
+  }
+
+  /**
+   * Waits until all the page changes dispatched so far are applied.
+   *
+   * @throws IOException if one of them failed, the same is true for all the following calls
+   */
+  void barrier() throws IOException {
+    drain();
+    checkFailure();
+  }
+
+  /** @return amount of page changes applied so far */
+  long getAppliedChanges() {
+    return appliedChanges.get();
+  }
+
+  int getThreads() {
+    return workers == null ? 1 : workers.length;
+  }
+
+  /**
+   * Applies the pending page changes and stops the workers. Failures are reported only by {@link
+   * #dispatch} and {@link #barrier()}.
+   */
+  @Override
+  public void close() {
+    if (workers != null) {
+      try {
+        drain();
+      } finally {
+        for (final Worker worker : workers) {
+          put(worker.queue, Task.STOP);
+        }
+      }
+    }
+  }
+
+  private void drain() {
+    if (workers == null) {
+      return;
+    }
+    final CountDownLatch latch = new CountDownLatch(workers.length);
+    for (final Worker worker : workers) {
+      put(worker.queue, new Task(null, 0, 0, 0, latch));
+    }
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("Data restore was interrupted"), e);
+    }
+  }
+
+  private void checkFailure() throws IOException {
+    final Throwable error = failure;
+    if (error == null) {
+      return;
+    }
+    if (error instanceof IOException) {
+      throw (IOException) error;
+    }
+    if (error instanceof RuntimeException) {
+      throw (RuntimeException) error;
+    }
+    if (error instanceof Error) {
+      throw (Error) error;
+    }
+    throw OException.wrapException(
+        new OStorageException("Error during restore of page changes"), error);
+  }
+
+  private synchronized void fail(final long failed, final Throwable error) {
+    if (failed < failedUnit) {
+      failure = error;
+      failedUnit = failed;
+    }
+  }
+
+  private static void put(final BlockingQueue<Task> queue, final Task task) {
+    try {
+      queue.put(task);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("Data restore was interrupted"), e);
+    }
+  }
+
+  private static final class Task {
+    private static final Task STOP = new Task(null, 0, 0, 0, null);
+
+    private final OWALRecord record;
+    private final long fileId;
+    private final long pageIndex;
+    private final long unit;
+    private final CountDownLatch barrier;
+
+    private Task(
+        final OWALRecord record,
+        final long fileId,
+        final long pageIndex,
+        final long unit,
+        final CountDownLatch barrier) {
+      this.record = record;
+      this.fileId = fileId;
+      this.pageIndex = pageIndex;
+      this.unit = unit;
+      this.barrier = barrier;
+    }
+  }
+
+  private final class Worker implements Runnable {
+    private final BlockingQueue<Task> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    @Override
+    public void run() {
+      while (true) {
+        final Task task;
+        try {
+          task = queue.take();
+        } catch (final InterruptedException e) {
+          fail(-1, e);
+          continue;
+        }
+
+        if (task == Task.STOP) {
+          return;
+        }
+        if (task.barrier != null) {
+          task.barrier.countDown();
+          continue;
+        }
+        // ONCE A CHANGE FAILED THE CHANGES OF THE SAME AND OF THE FOLLOWING UNITS ARE ONLY
+        // DRAINED, THE RESTORE IS PAUSED
+        if (task.unit >= failedUnit) {
+          continue;
+        }
+
+        try {
+          redo.redo(task.record, task.fileId, task.pageIndex);
+          appliedChanges.incrementAndGet();
+        } catch (final Throwable t) {
+          fail(task.unit, t);
+        }
+      }
+    }
+  }
+}
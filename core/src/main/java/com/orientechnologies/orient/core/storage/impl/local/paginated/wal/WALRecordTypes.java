@@ -182,4 +182,6 @@ public final class WALRecordTypes {
   public static final int TX_METADATA = 194;
 
   public static final int PAGINATED_VERSION_STATE_V0_SET_FILE_SIZE_PO = 195;
+
+  public static final int CLUSTER_PAGE_APPEND_RECORDS_PO = 196;
 }
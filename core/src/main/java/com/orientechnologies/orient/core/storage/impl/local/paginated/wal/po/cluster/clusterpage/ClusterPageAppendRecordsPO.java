@@ -0,0 +1,124 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.WALRecordTypes;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.PageOperationRecord;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+/** Records appended to the same cluster page by a single batch write of a transaction. */
+public final class ClusterPageAppendRecordsPO extends PageOperationRecord {
+  private int[] recordVersions;
+  private byte[][] records;
+  private int[] recordPositions;
+  private boolean[] allocatedFromFreeList;
+
+  public ClusterPageAppendRecordsPO() {}
+
+  public ClusterPageAppendRecordsPO(
+      int[] recordVersions,
+      byte[][] records,
+      int[] recordPositions,
+      boolean[] allocatedFromFreeList) {
+    this.recordVersions = recordVersions;
+    this.records = records;
+    this.recordPositions = recordPositions;
+    this.allocatedFromFreeList = allocatedFromFreeList;
+  }
+
+  public int[] getRecordVersions() {
+    return recordVersions;
+  }
+
+  public byte[][] getRecords() {
+    return records;
+  }
+
+  public int[] getRecordPositions() {
+    return recordPositions;
+  }
+
+  public boolean[] getAllocatedFromFreeList() {
+    return allocatedFromFreeList;
+  }
+
+  @Override
+  public void redo(OCacheEntry cacheEntry) {
+    final OClusterPage clusterPage = new OClusterPage(cacheEntry);
+    for (int i = 0; i < records.length; i++) {
+      final int allocatedPosition =
+          clusterPage.appendRecord(
+              recordVersions[i], records[i], recordPositions[i], Collections.emptySet());
+      if (allocatedPosition < 0) {
+        throw new IllegalStateException("Can not redo operation of record creation");
+      }
+    }
+  }
+
+  @Override
+  public void undo(OCacheEntry cacheEntry) {
+    final OClusterPage clusterPage = new OClusterPage(cacheEntry);
+    for (int i = records.length - 1; i >= 0; i--) {
+      final byte[] deletedRecord =
+          clusterPage.deleteRecord(recordPositions[i], allocatedFromFreeList[i]);
+      if (deletedRecord == null) {
+        throw new IllegalStateException("Can not undo operation of record creation");
+      }
+    }
+  }
+
+  @Override
+  public int getId() {
+    return WALRecordTypes.CLUSTER_PAGE_APPEND_RECORDS_PO;
+  }
+
+  @Override
+  public int serializedSize() {
+    int size = super.serializedSize() + OIntegerSerializer.INT_SIZE;
+    for (final byte[] record : records) {
+      size += 3 * OIntegerSerializer.INT_SIZE + record.length + OByteSerializer.BYTE_SIZE;
+    }
+    return size;
+  }
+
+  @Override
+  protected void serializeToByteBuffer(ByteBuffer buffer) {
+    super.serializeToByteBuffer(buffer);
+
+    buffer.putInt(records.length);
+    for (int i = 0; i < records.length; i++) {
+      buffer.put(allocatedFromFreeList[i] ? 1 : (byte) 0);
+
+      buffer.putInt(recordVersions[i]);
+      buffer.putInt(recordPositions[i]);
+
+      buffer.putInt(records[i].length);
+      buffer.put(records[i]);
+    }
+  }
+
+  @Override
+  protected void deserializeFromByteBuffer(ByteBuffer buffer) {
+    super.deserializeFromByteBuffer(buffer);
+
+    final int count = buffer.getInt();
+    recordVersions = new int[count];
+    records = new byte[count][];
+    recordPositions = new int[count];
+    allocatedFromFreeList = new boolean[count];
+
+    for (int i = 0; i < count; i++) {
+      allocatedFromFreeList[i] = buffer.get() > 0;
+
+      recordVersions[i] = buffer.getInt();
+      recordPositions[i] = buffer.getInt();
+
+      final int recordLen = buffer.getInt();
+      records[i] = new byte[recordLen];
+      buffer.get(records[i]);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.tx;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.storage.OStorage;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+
+/**
+ * Record of a transaction whose content was written to the spill file of the transaction. The
+ * record instance saved by the application is kept only as long as the application uses it, after
+ * that an equivalent instance is loaded from the spill file whenever the record is needed.
+ *
+ * <p>The loaded instance has only the content of the record, documents are spilled only when they
+ * are new, so they have no original values or collection changes to track.
+ *
+ * <p>The identity is shared with all the instances of the record, so the RIDs assigned on commit
+ * are seen by all of them.
+ */
+public final class OSpilledRecord implements OIdentifiable {
+  private final OTransactionSpillFile file;
+  private final ORecordId rid;
+  private final byte recordType;
+  private final long position;
+  private final int length;
+
+  private int version;
+  private boolean dirty;
+  private boolean contentChanged;
+  private WeakReference<ORecord> loaded;
+
+  OSpilledRecord(
+      final OTransactionSpillFile file,
+      final ORecord record,
+      final long position,
+      final int length) {
+    this.file = file;
+    this.rid = (ORecordId) record.getIdentity();
+    this.recordType = ORecordInternal.getRecordType(record);
+    this.position = position;
+    this.length = length;
+    this.version = record.getVersion();
+    this.dirty = record.isDirty();
+    this.contentChanged = ORecordInternal.isContentChanged(record);
+    this.loaded = new WeakReference<>(record);
+  }
+
+  @Override
+  public ORID getIdentity() {
+    return rid;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends ORecord> T getRecord() {
+    ORecord record = loaded.get();
+    if (record == null) {
+      record = load();
+      loaded = new WeakReference<>(record);
+    }
+    return (T) record;
+  }
+
+  /** @return the record if an instance of it is still in memory, otherwise <code>null</code> */
+  public ORecord getRecordIfLoaded() {
+    return loaded.get();
+  }
+
+  /** Keeps the version assigned by the storage, the instance may not be in memory anymore. */
+  public void committed(final ORecord record) {
+    version = record.getVersion();
+    dirty = record.isDirty();
+    contentChanged = ORecordInternal.isContentChanged(record);
+  }
+
+  public byte getRecordType() {
+    return recordType;
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  /** @return the position of the content in the spill file */
+  public long getPosition() {
+    return position;
+  }
+
+  @Override
+  public void lock(final boolean iExclusive) {
+    rid.lock(iExclusive);
+  }
+
+  @Override
+  public boolean isLocked() {
+    return rid.isLocked();
+  }
+
+  @Override
+  public OStorage.LOCKING_STRATEGY lockingStrategy() {
+    return rid.lockingStrategy();
+  }
+
+  @Override
+  public void unlock() {
+    rid.unlock();
+  }
+
+  @Override
+  public int compareTo(final OIdentifiable other) {
+    return rid.compareTo(other);
+  }
+
+  @Override
+  public int compare(final OIdentifiable first, final OIdentifiable second) {
+    return rid.compare(first, second);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof OIdentifiable)) return false;
+    return rid.equals(((OIdentifiable) obj).getIdentity());
+  }
+
+  @Override
+  public int hashCode() {
+    return rid.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return rid.toString();
+  }
+
+  private ORecord load() {
+    final byte[] content;
+    try {
+      content = file.read(position, length);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new ODatabaseException("Error on reading spilled record " + rid), e);
+    }
+
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.instance().get();
+    final ORecord record =
+        Orient.instance()
+            .getRecordFactoryManager()
+            .newInstance(recordType, rid.getClusterId(), database);
+    ORecordInternal.setIdentity(record, rid);
+    ORecordInternal.setRecordSerializer(record, database.getSerializer());
+    ORecordInternal.fill(record, rid, version, content, dirty, database);
+    ORecordInternal.setContentChanged(record, contentChanged);
+    if (record instanceof ODocument) {
+      ODocumentInternal.checkClass((ODocument) record, database);
+    }
+    return record;
+  }
+}
@@ -26,6 +26,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -60,23 +61,36 @@ public abstract class OTransactionAbstract implements OTransaction {
     final OLocalRecordCache dbCache = database.getLocalCache();
 
     for (ORecordOperation txEntry : entries) {
-      if (!updateStrategy) {
+      // SPILLED RECORDS ARE NOT LOADED BACK ONLY TO BE CACHED
+      final ORecord record = getRecordIfLoaded(txEntry);
+      if (!updateStrategy || record == null) {
         // ALWAYS REMOVE THE RECORD FROM CACHE
-        dbCache.deleteRecord(txEntry.getRecord().getIdentity());
+        dbCache.deleteRecord(txEntry.getRID());
       } else if (txEntry.type == ORecordOperation.DELETED) {
         // DELETION
-        dbCache.deleteRecord(txEntry.getRecord().getIdentity());
+        dbCache.deleteRecord(record.getIdentity());
       } else if (txEntry.type == ORecordOperation.UPDATED
           || txEntry.type == ORecordOperation.CREATED) {
         // UPDATE OR CREATE
-        dbCache.updateRecord(txEntry.getRecord());
+        dbCache.updateRecord(record);
       }
-      if (txEntry.getRecord() instanceof ODocument) {
-        ODocumentInternal.clearTransactionTrackData((ODocument) txEntry.getRecord());
+      if (record instanceof ODocument) {
+        ODocumentInternal.clearTransactionTrackData((ODocument) record);
       }
     }
   }
 
+  /**
+   * @return the record of the operation, or <code>null</code> if its content was spilled and no
+   *     instance of it is in memory
+   */
+  protected static ORecord getRecordIfLoaded(final ORecordOperation recordOperation) {
+    if (recordOperation.getRecordContainer() instanceof OSpilledRecord) {
+      return ((OSpilledRecord) recordOperation.getRecordContainer()).getRecordIfLoaded();
+    }
+    return recordOperation.getRecord();
+  }
+
   @Override
   public ISOLATION_LEVEL getIsolationLevel() {
     return isolationLevel;
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.tx;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabase.OPERATION_MODE;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
@@ -29,11 +30,15 @@ import com.orientechnologies.orient.core.db.document.LatestVersionRecordReader;
 import com.orientechnologies.orient.core.db.document.RecordReader;
 import com.orientechnologies.orient.core.db.document.SimpleRecordReader;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.exception.OTransactionException;
+import com.orientechnologies.orient.core.exception.OValidationException;
 import com.orientechnologies.orient.core.hook.ORecordHook.TYPE;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
@@ -44,6 +49,7 @@ import com.orientechnologies.orient.core.metadata.sequence.OSequenceLibraryProxy
 import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.ODirtyManager;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -52,10 +58,14 @@ import com.orientechnologies.orient.core.schedule.OScheduledEvent;
 import com.orientechnologies.orient.core.storage.OBasicTransaction;
 import com.orientechnologies.orient.core.storage.ORecordCallback;
 import com.orientechnologies.orient.core.storage.OStorage;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -67,6 +77,12 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
   private int txStartCounter;
   private boolean sentToServer = false;
 
+  /** Saved records kept in memory, the oldest ones are spilled when they exceed the threshold. */
+  private final ArrayDeque<ORecordOperation> recordsInMemory = new ArrayDeque<>();
+
+  private int spillThreshold;
+  private OTransactionSpillFile spillFile;
+
   public OTransactionOptimistic(final ODatabaseDocumentInternal iDatabase) {
     super(iDatabase, txSerial.incrementAndGet());
   }
@@ -77,6 +93,12 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
     }
     if (txStartCounter == 0) {
       status = TXSTATUS.BEGUN;
+      spillThreshold =
+          database.isRemote()
+              ? 0
+              : database
+                  .getConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.TX_SPILL_THRESHOLD);
     }
     txStartCounter++;
 
@@ -140,8 +162,10 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
 
     // REMOVE ALL THE DIRTY ENTRIES AND UNDO ANY DIRTY DOCUMENT IF POSSIBLE.
     for (final ORecordOperation v : allEntries.values()) {
-      final ORecord rec = v.getRecord();
-      rec.unload();
+      final ORecord rec = getRecordIfLoaded(v);
+      if (rec != null) {
+        rec.unload();
+      }
     }
     close();
     status = TXSTATUS.ROLLED_BACK;
@@ -529,8 +553,12 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
             // NEW ENTRY: JUST REGISTER IT
             txEntry = new ORecordOperation(iRecord, iStatus);
             allEntries.put(rid.copy(), txEntry);
+            trackRecordInMemory(txEntry);
           }
         } else {
+          if (txEntry.record instanceof OSpilledRecord) {
+            trackRecordInMemory(txEntry);
+          }
           // UPDATE PREVIOUS STATUS
           txEntry.record = iRecord;
 
@@ -584,6 +612,8 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
         if (iRecord instanceof ODocument && ((ODocument) iRecord).isTrackingChanges()) {
           ODocumentInternal.clearTrackData(((ODocument) iRecord));
         }
+
+        spillRecords();
         return txEntry;
       } catch (final Exception e) {
         switch (iStatus) {
@@ -632,18 +662,157 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
 
   private void invokeCallbacks() {
     for (final ORecordOperation recordOperation : allEntries.values()) {
-      final ORecord record = recordOperation.getRecord();
-      final ORID identity = record.getIdentity();
-      locks.keySet();
+      final ORID identity = recordOperation.getRID();
       if (recordOperation.type == ORecordOperation.CREATED
           && recordOperation.createdCallback != null) {
         recordOperation.createdCallback.call(
             new ORecordId(identity), identity.getClusterPosition());
       } else if (recordOperation.type == ORecordOperation.UPDATED
           && recordOperation.updatedCallback != null) {
-        recordOperation.updatedCallback.call(new ORecordId(identity), record.getVersion());
+        recordOperation.updatedCallback.call(
+            new ORecordId(identity), recordOperation.getRecord().getVersion());
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+
+    recordsInMemory.clear();
+    if (spillFile != null) {
+      try {
+        spillFile.close();
+      } catch (IOException e) {
+        OLogManager.instance()
+            .error(this, "Error on deleting the spill file of transaction %d", e, id);
+      }
+      spillFile = null;
+    }
+  }
+
+  private void trackRecordInMemory(final ORecordOperation recordOperation) {
+    if (spillThreshold > 0 && recordOperation.type != ORecordOperation.LOADED) {
+      recordsInMemory.add(recordOperation);
+    }
+  }
+
+  /**
+   * Writes the content of the oldest saved records to the spill file, until the threshold is
+   * respected. The instances saved by the application are dropped by the transaction, they stay in
+   * memory only while the application uses them.
+   */
+  private void spillRecords() {
+    while (recordsInMemory.size() > spillThreshold) {
+      final ORecordOperation recordOperation = recordsInMemory.poll();
+      if (recordOperation.record instanceof OSpilledRecord
+          || allEntries.get(recordOperation.getRID()) != recordOperation) {
+        // ALREADY SPILLED OR REMOVED FROM THE TRANSACTION
+        continue;
+      }
+
+      final ORecord record = recordOperation.getRecord();
+      if (!isSpillable(recordOperation.type, record)) {
+        continue;
+      }
+
+      try {
+        final byte[] content = database.getSerializer().toStream(record);
+        if (spillFile == null) {
+          spillFile = new OTransactionSpillFile();
+        }
+        final long position = spillFile.write(content);
+        recordOperation.record = new OSpilledRecord(spillFile, record, position, content.length);
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new ODatabaseException("Error on spilling record " + record.getIdentity()), e);
+      }
+    }
+  }
+
+  /**
+   * Only new documents are spilled: updated and deleted documents keep the tracking of their
+   * changes (dirty fields, original values and collection changes) until the commit, and it is not
+   * part of their content. New documents are validated before they are spilled, so the commit
+   * doesn't load them back to validate them, the invalid ones are kept in memory and fail on
+   * commit.
+   *
+   * <p>Records which link new records are kept in memory too: their serialized content would still
+   * contain the temporary RIDs after the linked records are created. The same holds for RidBags
+   * stored in trees, whose changes are kept apart from the content of the record.
+   */
+  private static boolean isSpillable(final byte type, final ORecord record) {
+    if (type == ORecordOperation.DELETED) {
+      return false;
+    }
+    if (record instanceof ODocument) {
+      final ODocument document = (ODocument) record;
+      return type == ORecordOperation.CREATED
+          && !document.isEmbedded()
+          && isSpillableDocument(document)
+          && isValid(document);
+    }
+    return record instanceof ORecordAbstract;
+  }
+
+  private static boolean isValid(final ODocument document) {
+    try {
+      document.validate();
+      return true;
+    } catch (OValidationException | OSecurityException ignore) {
+      return false;
+    }
+  }
+
+  private static boolean isSpillableDocument(final ODocument document) {
+    for (String field : document.fieldNames()) {
+      if (!isSpillableValue(document.rawField(field))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSpillableValue(final Object value) {
+    if (value instanceof ORidBag) {
+      final ORidBag ridBag = (ORidBag) value;
+      return ridBag.isEmbedded() && isSpillableLinks(ridBag.rawIterator());
+    }
+    if (value instanceof ODocument && ((ODocument) value).isEmbedded()) {
+      return isSpillableDocument((ODocument) value);
+    }
+    if (value instanceof OIdentifiable) {
+      return !((OIdentifiable) value).getIdentity().isNew();
+    }
+    if (value instanceof ORecordLazyMultiValue) {
+      return isSpillableLinks(((ORecordLazyMultiValue) value).rawIterator());
+    }
+    if (value instanceof Map) {
+      return isSpillableValues(((Map<?, ?>) value).values());
+    }
+    if (value instanceof Collection) {
+      return isSpillableValues((Collection<?>) value);
+    }
+    return true;
+  }
+
+  private static boolean isSpillableLinks(final Iterator<OIdentifiable> links) {
+    while (links.hasNext()) {
+      final OIdentifiable link = links.next();
+      if (link != null && link.getIdentity().isNew()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSpillableValues(final Collection<?> values) {
+    for (Object item : values) {
+      if (!isSpillableValue(item)) {
+        return false;
       }
     }
+    return true;
   }
 
   @Override
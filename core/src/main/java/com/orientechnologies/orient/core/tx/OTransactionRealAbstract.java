@@ -90,7 +90,7 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract
   public void close() {
     super.close();
     for (final ORecordOperation recordOperation : getRecordOperations()) {
-      final ORecord record = recordOperation.getRecord();
+      final ORecord record = getRecordIfLoaded(recordOperation);
       if (record instanceof ODocument) {
         final ODocument document = (ODocument) record;
         if (document.isDirty()) {
@@ -354,18 +354,24 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract
     if (rec != null) {
       updatedRids.put(newRid.copy(), oldRid.copy());
 
-      if (!rec.getRecord().getIdentity().equals(newRid)) {
-        ORecordInternal.onBeforeIdentityChanged(rec.getRecord());
+      final ORecord record = getRecordIfLoaded(rec);
+      if (record == null) {
+        // SPILLED RECORD NOT IN MEMORY, ITS IDENTITY IS SHARED WITH THE INSTANCES LOADED LATER
+        final ORecordId recordId = (ORecordId) rec.getRID();
+        recordId.setClusterPosition(newRid.getClusterPosition());
+        recordId.setClusterId(newRid.getClusterId());
+      } else if (!record.getIdentity().equals(newRid)) {
+        ORecordInternal.onBeforeIdentityChanged(record);
 
-        final ORecordId recordId = (ORecordId) rec.getRecord().getIdentity();
+        final ORecordId recordId = (ORecordId) record.getIdentity();
         if (recordId == null) {
-          ORecordInternal.setIdentity(rec.getRecord(), new ORecordId(newRid));
+          ORecordInternal.setIdentity(record, new ORecordId(newRid));
         } else {
           recordId.setClusterPosition(newRid.getClusterPosition());
           recordId.setClusterId(newRid.getClusterId());
         }
 
-        ORecordInternal.onAfterIdentityChanged(rec.getRecord());
+        ORecordInternal.onAfterIdentityChanged(record);
       }
     }
 
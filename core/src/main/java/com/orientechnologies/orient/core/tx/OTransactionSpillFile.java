@@ -0,0 +1,132 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.tx;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append only temporary file where a transaction writes the content of the records it does not keep
+ * in memory. The file is deleted when it is closed.
+ *
+ * <p>Reads are served from a read ahead buffer, so the commit, which reads the records in the order
+ * they were written, reads the file sequentially.
+ */
+public final class OTransactionSpillFile implements Closeable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+  /** Position in the file of the content of the read buffer, -1 if it is empty. */
+  private long readPosition = -1;
+
+  /** Amount of bytes already written in the file, the buffer holds the ones which follow. */
+  private long fileSize;
+
+  public OTransactionSpillFile() throws IOException {
+    final Path path = Files.createTempFile("orientdb-tx-", ".spill");
+    channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.DELETE_ON_CLOSE);
+  }
+
+  /** @return the position of the content in the file */
+  public long write(final byte[] content) throws IOException {
+    if (content.length > buffer.remaining()) {
+      flush();
+    }
+
+    final long position = fileSize + buffer.position();
+    if (content.length > buffer.capacity()) {
+      final ByteBuffer source = ByteBuffer.wrap(content);
+      while (source.hasRemaining()) {
+        fileSize += channel.write(source, fileSize);
+      }
+    } else {
+      buffer.put(content);
+    }
+    return position;
+  }
+
+  public byte[] read(final long position, final int length) throws IOException {
+    final byte[] content = new byte[length];
+    if (position >= fileSize) {
+      // CONTENTS NEVER SPAN THE FILE AND THE BUFFER
+      System.arraycopy(buffer.array(), (int) (position - fileSize), content, 0, length);
+      return content;
+    }
+
+    if (length > readBuffer.capacity()) {
+      final ByteBuffer target = ByteBuffer.wrap(content);
+      readFully(target, position);
+      return content;
+    }
+
+    if (readPosition < 0
+        || position < readPosition
+        || position + length > readPosition + readBuffer.limit()) {
+      // READ AHEAD THE CONTENTS WHICH FOLLOW, THEY ARE USUALLY THE NEXT ONES TO BE READ
+      readBuffer.clear();
+      readBuffer.limit((int) Math.min(readBuffer.capacity(), fileSize - position));
+      readFully(readBuffer, position);
+      readBuffer.flip();
+      readPosition = position;
+    }
+    System.arraycopy(readBuffer.array(), (int) (position - readPosition), content, 0, length);
+    return content;
+  }
+
+  /** @return amount of bytes written so far */
+  public long getSize() {
+    return fileSize + buffer.position();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private void readFully(final ByteBuffer target, final long position) throws IOException {
+    while (target.hasRemaining()) {
+      if (channel.read(target, position + target.position()) < 0) {
+        throw new EOFException("Spilled content at position " + position + " is truncated");
+      }
+    }
+  }
+
+  private void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      fileSize += channel.write(buffer, fileSize);
+    }
+    buffer.clear();
+  }
+}
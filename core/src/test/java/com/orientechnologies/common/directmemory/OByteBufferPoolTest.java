@@ -156,6 +156,88 @@ public class OByteBufferPoolTest {
     byteBufferPool.checkMemoryLeaks();
   }
 
+  @Test
+  public void testByteBufferAllocationFromArena() {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(64, allocator, 0, 64 * 3, false);
+
+    final OPointer pointerOne = byteBufferPool.acquireDirect(false);
+    Assert.assertEquals(64, pointerOne.getNativeByteBuffer().capacity());
+    Assert.assertEquals(64 * 3, allocator.getMemoryConsumption());
+    Assert.assertEquals(1, byteBufferPool.getArenaCount());
+    Assert.assertEquals(1, byteBufferPool.getArenaPagesInUse());
+
+    final OPointer pointerTwo = byteBufferPool.acquireDirect(true);
+    final OPointer pointerThree = byteBufferPool.acquireDirect(true);
+    assertBufferIsClear(pointerThree.getNativeByteBuffer());
+
+    Assert.assertEquals(1, byteBufferPool.getArenaCount());
+    Assert.assertEquals(3, byteBufferPool.getArenaPagesAllocated());
+    Assert.assertEquals(100, byteBufferPool.getArenasOccupancy()[0]);
+
+    final OPointer pointerFour = byteBufferPool.acquireDirect(false);
+    Assert.assertEquals(2, byteBufferPool.getArenaCount());
+    Assert.assertEquals(6, byteBufferPool.getArenaPagesCapacity());
+    Assert.assertEquals(4, byteBufferPool.getArenaPagesInUse());
+    Assert.assertEquals(64 * 6, allocator.getMemoryConsumption());
+
+    // PAGES OF ARENAS ARE KEPT IN THE POOL EVEN IF POOL LIMIT IS REACHED
+    byteBufferPool.release(pointerOne);
+    byteBufferPool.release(pointerTwo);
+    Assert.assertEquals(2, byteBufferPool.getPoolSize());
+    Assert.assertEquals(2, byteBufferPool.getArenaPagesInUse());
+    Assert.assertEquals(64 * 6, allocator.getMemoryConsumption());
+
+    final OPointer pointerFive = byteBufferPool.acquireDirect(true);
+    assertBufferIsClear(pointerFive.getNativeByteBuffer());
+    Assert.assertEquals(1, byteBufferPool.getPoolSize());
+    Assert.assertEquals(2, byteBufferPool.getArenaCount());
+
+    byteBufferPool.release(pointerThree);
+    byteBufferPool.release(pointerFour);
+    byteBufferPool.release(pointerFive);
+    Assert.assertEquals(0, byteBufferPool.getArenaPagesInUse());
+
+    byteBufferPool.clear();
+    byteBufferPool.checkMemoryLeaks();
+
+    Assert.assertEquals(0, byteBufferPool.getArenaCount());
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    allocator.checkMemoryLeaks();
+  }
+
+  @Test
+  public void testHugePagesArena() {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final int arenaSize = 2 * 1024 * 1024;
+    final OByteBufferPool byteBufferPool =
+        new OByteBufferPool(64 * 1024, allocator, 0, arenaSize, true);
+
+    final OPointer pointer = byteBufferPool.acquireDirect(true);
+    assertBufferIsClear(pointer.getNativeByteBuffer());
+    Assert.assertEquals(arenaSize, allocator.getMemoryConsumption());
+    Assert.assertEquals(32, byteBufferPool.getArenaPagesCapacity());
+
+    final long hugePagesMemory = allocator.getHugePagesMemoryConsumption();
+    Assert.assertTrue(hugePagesMemory == 0 || hugePagesMemory == arenaSize);
+
+    byteBufferPool.release(pointer);
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertEquals(0, allocator.getHugePagesMemoryConsumption());
+  }
+
+  @Test
+  public void testArenaSizeInBytes() {
+    Assert.assertEquals(0, OByteBufferPool.arenaSizeInBytes(0));
+    Assert.assertEquals(64 * 1024 * 1024, OByteBufferPool.arenaSizeInBytes(64));
+    Assert.assertEquals(OByteBufferPool.MAX_ARENA_SIZE, OByteBufferPool.arenaSizeInBytes(1024));
+    // WOULD OVERFLOW AN INT
+    Assert.assertEquals(OByteBufferPool.MAX_ARENA_SIZE, OByteBufferPool.arenaSizeInBytes(2048));
+    Assert.assertEquals(OByteBufferPool.MAX_ARENA_SIZE, OByteBufferPool.arenaSizeInBytes(4096));
+  }
+
   @Test
   @Ignore
   public void mtTest() throws Exception {
@@ -0,0 +1,137 @@
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OSharedRecordCacheTest {
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    orientDB =
+        new OrientDB(
+            "embedded:",
+            OrientDBConfig.builder().addConfig(OGlobalConfiguration.CACHE_LEVEL2_SIZE, 1).build());
+    orientDB.create(OSharedRecordCacheTest.class.getSimpleName(), ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(OSharedRecordCacheTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testWeightIsBounded() {
+    final OSharedRecordCache cache = new OSharedRecordCache(10_000);
+    for (int i = 0; i < 1000; i++) {
+      final ODocument document = new ODocument();
+      ORecordInternal.setIdentity(document, new ORecordId(10, i));
+      document.field("value", i);
+      cache.put(document, 100);
+    }
+
+    Assert.assertTrue(cache.getWeight() <= cache.getMaxWeight());
+    Assert.assertTrue(cache.getSize() <= 100);
+
+    final ODocument copy = new ODocument();
+    Assert.assertFalse(cache.copyTo(new ORecordId(10, 0), 1, copy));
+  }
+
+  @Test
+  public void testSessionsShareImages() {
+    final ORID rid;
+    final ORID vertexRid;
+    try (ODatabaseSession db = open()) {
+      final OElement doc = db.newElement();
+      doc.setProperty("name", "John");
+      doc.setProperty("tags", Arrays.asList("a", "b"));
+      final ODocument address = new ODocument();
+      address.field("city", "Rome");
+      doc.setProperty("address", address);
+      rid = db.save(doc, "default").getIdentity();
+
+      final OVertex vertex = db.newVertex();
+      vertex.setProperty("name", "Vertex");
+      vertexRid = db.save(vertex).getIdentity();
+    }
+
+    final OSharedRecordCache cache = cache();
+    Assert.assertNotNull(cache);
+
+    // THE IMAGE IS CREATED ON THE SECOND ACCESS
+    load(rid);
+    load(rid);
+    // SESSIONS READ ALSO THE SECURITY RECORDS
+    final long hits = cache.getHits();
+
+    try (ODatabaseSession db = open()) {
+      final ODocument doc = db.load(rid);
+      Assert.assertTrue(cache.getHits() > hits);
+      Assert.assertEquals("John", doc.field("name"));
+      Assert.assertEquals(Arrays.asList("a", "b"), doc.field("tags"));
+
+      // CHANGES OF A COPY DON'T LEAK INTO THE IMAGE
+      final ODocument address = doc.field("address");
+      address.field("city", "London");
+      Assert.assertTrue(doc.isDirty());
+      doc.<java.util.List<String>>field("tags").add("c");
+    }
+
+    try (ODatabaseSession db = open()) {
+      final ODocument doc = db.load(rid);
+      Assert.assertEquals("Rome", doc.<ODocument>field("address").field("city"));
+      Assert.assertEquals(2, doc.<java.util.List<String>>field("tags").size());
+
+      doc.field("name", "Jane");
+      db.save(doc);
+    }
+
+    try (ODatabaseSession db = open()) {
+      final ODocument doc = db.load(rid);
+      Assert.assertEquals("Jane", doc.field("name"));
+    }
+
+    load(vertexRid);
+    load(vertexRid);
+    try (ODatabaseSession db = open()) {
+      final OElement vertex = db.load(vertexRid);
+      Assert.assertTrue(vertex.isVertex());
+      Assert.assertTrue(vertex instanceof OVertex);
+      Assert.assertEquals("Vertex", vertex.getProperty("name"));
+    }
+  }
+
+  private void load(ORID rid) {
+    try (ODatabaseSession db = open()) {
+      Assert.assertNotNull(db.load(rid));
+    }
+  }
+
+  private OSharedRecordCache cache() {
+    try (ODatabaseSession db = open()) {
+      return ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage())
+          .getSharedRecordCache();
+    }
+  }
+
+  private ODatabaseSession open() {
+    return orientDB.open(OSharedRecordCacheTest.class.getSimpleName(), "admin", "admin");
+  }
+}
@@ -0,0 +1,234 @@
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OGraphSnapshotTest {
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+  private final List<OVertex> chain = new ArrayList<>();
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(OGraphSnapshotTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    db = orientDB.open(OGraphSnapshotTest.class.getSimpleName(), "admin", "admin");
+    db.createEdgeClass("Next");
+    db.createEdgeClass("Jump");
+
+    // CHAIN 0 -> 1 -> ... -> 9 WITH A SHORTCUT 2 -> 7 OF ANOTHER CLASS, AND AN ISOLATED VERTEX
+    for (int i = 0; i < 10; i++) {
+      final OVertex vertex = db.newVertex();
+      vertex.setProperty("id", i);
+      chain.add(vertex.save());
+    }
+    for (int i = 1; i < 10; i++) db.newEdge(chain.get(i - 1), chain.get(i), "Next").save();
+    db.newEdge(chain.get(2), chain.get(7), "Jump").save();
+    db.newVertex().save();
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(OGraphSnapshotTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  private OGraphSnapshot acquire(final String... edgeClasses) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    return database
+        .getSharedContext()
+        .getGraphSnapshotManager()
+        .acquire(database, Arrays.asList(edgeClasses));
+  }
+
+  private ORID rid(final int index) {
+    return chain.get(index).getIdentity();
+  }
+
+  @Test
+  public void testShortestPath() {
+    try (OGraphSnapshot snapshot = acquire()) {
+      Assert.assertEquals(11, snapshot.getActiveVertexCount());
+      Assert.assertEquals(10, snapshot.getEdgeCount());
+      Assert.assertEquals(
+          Arrays.asList(rid(0), rid(1), rid(2), rid(7), rid(8)),
+          OGraphAlgorithms.shortestPath(snapshot, rid(0), rid(8), ODirection.OUT, -1));
+      Assert.assertEquals(
+          Collections.emptyList(),
+          OGraphAlgorithms.shortestPath(snapshot, rid(8), rid(0), ODirection.OUT, -1));
+      Assert.assertEquals(
+          5, OGraphAlgorithms.shortestPath(snapshot, rid(8), rid(0), ODirection.BOTH, -1).size());
+      Assert.assertEquals(
+          Collections.emptyList(),
+          OGraphAlgorithms.shortestPath(snapshot, rid(0), rid(8), ODirection.OUT, 3));
+    }
+
+    try (OGraphSnapshot snapshot = acquire("Next")) {
+      Assert.assertEquals(9, snapshot.getEdgeCount());
+      Assert.assertEquals(
+          9, OGraphAlgorithms.shortestPath(snapshot, rid(0), rid(8), ODirection.OUT, -1).size());
+    }
+  }
+
+  @Test
+  public void testBfs() {
+    try (OGraphSnapshot snapshot = acquire()) {
+      final List<ORawPair<ORID, Integer>> reached =
+          OGraphAlgorithms.bfs(snapshot, rid(0), ODirection.OUT, 3);
+      Assert.assertEquals(5, reached.size());
+      Assert.assertEquals(rid(0), reached.get(0).first);
+      Assert.assertEquals(0, (int) reached.get(0).second);
+      Assert.assertTrue(reached.contains(new ORawPair<>(rid(7), 3)));
+      Assert.assertTrue(reached.contains(new ORawPair<>(rid(3), 3)));
+    }
+  }
+
+  @Test
+  public void testPageRank() {
+    try (OGraphSnapshot snapshot = acquire()) {
+      final List<ORawPair<ORID, Double>> ranks =
+          OGraphAlgorithms.pageRank(snapshot, ODirection.OUT, 100, 0.85, 1e-10, -1);
+      Assert.assertEquals(11, ranks.size());
+      double total = 0;
+      for (ORawPair<ORID, Double> rank : ranks) total += rank.second;
+      Assert.assertEquals(1.0, total, 1e-6);
+      // THE END OF THE CHAIN COLLECTS THE RANK OF ALL THE OTHER VERTICES
+      Assert.assertEquals(rid(9), ranks.get(0).first);
+      Assert.assertEquals(
+          ranks.subList(0, 3),
+          OGraphAlgorithms.pageRank(snapshot, ODirection.OUT, 100, 0.85, 1e-10, 3));
+    }
+  }
+
+  @Test
+  public void testConnectedComponentsAndDegreeStats() {
+    try (OGraphSnapshot snapshot = acquire()) {
+      final List<ORawPair<ORID, Integer>> components =
+          OGraphAlgorithms.connectedComponents(snapshot, -1);
+      Assert.assertEquals(2, components.size());
+      Assert.assertEquals(10, (int) components.get(0).second);
+      Assert.assertEquals(1, (int) components.get(1).second);
+
+      final Map<String, Object> stats = OGraphAlgorithms.degreeStats(snapshot, ODirection.OUT);
+      Assert.assertEquals(11, stats.get("vertices"));
+      Assert.assertEquals(10L, stats.get("edges"));
+      Assert.assertEquals(0L, stats.get("minDegree"));
+      Assert.assertEquals(2L, stats.get("maxDegree"));
+      Assert.assertEquals(2L, stats.get("isolatedVertices"));
+    }
+  }
+
+  @Test
+  public void testIncrementalRefresh() {
+    final OGraphSnapshot before = acquire();
+
+    // SPLITS THE CHAIN AND JOINS THE ISOLATED PART WITH A NEW VERTEX
+    db.begin();
+    final OVertex added = db.newVertex();
+    added.save();
+    db.newEdge(chain.get(9), added, "Next").save();
+    db.commit();
+
+    for (OEdge edge : chain.get(4).getEdges(ODirection.OUT, "Next")) edge.delete();
+    chain.get(2).getEdges(ODirection.OUT, "Jump").iterator().next().delete();
+    chain.get(8).delete();
+
+    try (OGraphSnapshot after = acquire()) {
+      Assert.assertEquals(11, after.getActiveVertexCount());
+      Assert.assertEquals(7, after.getEdgeCount());
+      Assert.assertEquals(-1, after.indexOf(rid(8)));
+      Assert.assertEquals(
+          Collections.emptyList(),
+          OGraphAlgorithms.shortestPath(after, rid(0), rid(9), ODirection.BOTH, -1));
+      Assert.assertEquals(
+          Arrays.asList(rid(9), added.getIdentity()),
+          OGraphAlgorithms.shortestPath(after, rid(9), added.getIdentity(), ODirection.OUT, -1));
+
+      final List<ORawPair<ORID, Integer>> components =
+          OGraphAlgorithms.connectedComponents(after, -1);
+      Assert.assertEquals(4, components.size());
+      Assert.assertEquals(5, (int) components.get(0).second);
+    }
+
+    // THE PREVIOUS SNAPSHOT IS NOT AFFECTED
+    Assert.assertEquals(10, before.getEdgeCount());
+    Assert.assertEquals(
+        5, OGraphAlgorithms.shortestPath(before, rid(0), rid(8), ODirection.OUT, -1).size());
+    before.close();
+  }
+
+  @Test
+  public void testLargeFrontier() {
+    final OVertex hub = db.newVertex().save();
+    final OVertex target = db.newVertex().save();
+    db.begin();
+    final List<OVertex> leaves = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      final OVertex leaf = db.newVertex().save();
+      db.newEdge(hub, leaf, "Next").save();
+      leaves.add(leaf);
+    }
+    for (int i = 0; i < 3000; i += 100) db.newEdge(leaves.get(i), target, "Next").save();
+    db.commit();
+
+    try (OGraphSnapshot snapshot = acquire("Next")) {
+      Assert.assertEquals(
+          3,
+          OGraphAlgorithms.shortestPath(
+                  snapshot, hub.getIdentity(), target.getIdentity(), ODirection.OUT, -1)
+              .size());
+      Assert.assertEquals(
+          3002, OGraphAlgorithms.bfs(snapshot, hub.getIdentity(), ODirection.OUT, -1).size());
+    }
+  }
+
+  @Test
+  public void testFunctions() {
+    try (OResultSet rs = db.query("select expand(bfs(?, 'out', 'Next', 2))", rid(0))) {
+      Assert.assertEquals(3, rs.stream().count());
+    }
+
+    try (OResultSet rs = db.query("select expand(pageRank(null, {'limit': 1}))")) {
+      final OResult top = rs.next();
+      Assert.assertEquals(rid(9), top.getProperty("vertex"));
+      Assert.assertFalse(rs.hasNext());
+    }
+
+    try (OResultSet rs = db.query("select expand(connectedComponents())")) {
+      Assert.assertEquals(10, (int) rs.next().getProperty("size"));
+      Assert.assertEquals(1, (int) rs.next().getProperty("size"));
+    }
+
+    try (OResultSet rs = db.query("select expand(degreeStats('in', ['Next']))")) {
+      final OResult stats = rs.next();
+      Assert.assertEquals(9L, (long) stats.getProperty("edges"));
+      Assert.assertEquals(1L, (long) stats.getProperty("maxDegree"));
+    }
+
+    try (OResultSet rs =
+        db.query(
+            "select shortestPath(?, ?, 'out', null, {'snapshot': true}) as path", rid(0), rid(8))) {
+      Assert.assertEquals(5, rs.next().<List<?>>getProperty("path").size());
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.orientechnologies.orient.core.db.tool;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ODatabaseBinaryExportImportTest {
+  private static final String SOURCE = ODatabaseBinaryExportImportTest.class.getSimpleName();
+  private static final String TARGET = "imported" + SOURCE;
+
+  private OrientDB orientDB;
+  private File directory;
+  private final Map<ORID, Map<String, Object>> persons = new HashMap<>();
+  private ORID deleted;
+  private ORID hub;
+
+  @Before
+  public void before() throws IOException {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(SOURCE, ODatabaseType.MEMORY);
+    orientDB.create(TARGET, ODatabaseType.MEMORY);
+    directory = Files.createTempDirectory("binaryExport").toFile();
+
+    try (ODatabaseSession db = orientDB.open(SOURCE, "admin", "admin")) {
+      // PROPERTIES CREATED IN A DIFFERENT ORDER THAN IN THE TARGET
+      final OClass tag = db.createClass("Tag");
+      tag.createProperty("weight", OType.DOUBLE);
+      final OClass person = db.createVertexClass("Person");
+      person.createProperty("age", OType.INTEGER);
+      person.createProperty("name", OType.STRING);
+      person.createIndex("Person.name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+      db.createEdgeClass("Knows");
+
+      final List<OVertex> vertices = new ArrayList<>();
+      for (int i = 0; i < 60; i++) {
+        final OVertex vertex = db.newVertex("Person");
+        vertex.setProperty("name", "person" + i);
+        vertex.setProperty("age", i);
+        vertex.setProperty("tags", new ODocument("Tag").field("weight", i / 2.0));
+        vertex.save();
+        vertices.add(vertex);
+      }
+
+      final OVertex hubVertex = db.newVertex("Person");
+      hubVertex.setProperty("name", "hub");
+      hubVertex.save();
+      for (OVertex vertex : vertices) hubVertex.addEdge(vertex, "Knows").save();
+      hub = hubVertex.getIdentity();
+
+      deleted = vertices.get(10).getIdentity();
+      vertices.get(10).delete();
+
+      for (ODocument doc : db.browseClass("Person")) {
+        if (doc.getIdentity().equals(hub)) continue;
+        final Map<String, Object> content = new HashMap<>();
+        content.put("name", doc.field("name"));
+        content.put("age", doc.field("age"));
+        content.put("version", doc.getVersion());
+        persons.put(doc.getIdentity(), content);
+      }
+    }
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(SOURCE);
+    orientDB.drop(TARGET);
+    orientDB.close();
+    OFileUtils.deleteRecursively(directory);
+  }
+
+  @Test
+  public void testExportImport() {
+    export(null);
+    doImport(null);
+    checkImported();
+  }
+
+  @Test
+  public void testResumeInterruptedExportAndImport() throws IOException {
+    final OInterruptingListener exportListener = new OInterruptingListener("Exported segment");
+    try {
+      export(exportListener);
+      Assert.fail();
+    } catch (ODatabaseExportException e) {
+      // EXPECTED
+    }
+    Assert.assertFalse(
+        OBinaryExportFormat.readDocument(new File(directory, OBinaryExportFormat.MANIFEST))
+            .<Boolean>field("completed"));
+
+    final OInterruptingListener resumedExport = new OInterruptingListener(null);
+    export(resumedExport);
+    Assert.assertTrue(resumedExport.received("Resuming interrupted export: 2 of"));
+
+    final OInterruptingListener importListener = new OInterruptingListener("Imported segment");
+    try {
+      doImport(importListener);
+      Assert.fail();
+    } catch (ODatabaseImportException e) {
+      // EXPECTED
+    }
+
+    final OInterruptingListener resumedImport = new OInterruptingListener(null);
+    doImport(resumedImport);
+    Assert.assertTrue(resumedImport.received("Resuming interrupted import:"));
+
+    checkImported();
+  }
+
+  private void export(final OCommandOutputListener listener) {
+    try (ODatabaseSession db = orientDB.open(SOURCE, "admin", "admin")) {
+      new ODatabaseBinaryExport((ODatabaseDocumentInternal) db, directory.getPath(), listener)
+          .setOptions("-parallel=3 -segmentSize=4")
+          .exportDatabase();
+    }
+  }
+
+  private void doImport(final OCommandOutputListener listener) {
+    try (ODatabaseSession db = orientDB.open(TARGET, "admin", "admin")) {
+      new ODatabaseBinaryImport((ODatabaseDocumentInternal) db, directory.getPath(), listener)
+          .setOptions("-parallel=2 -batchSize=3")
+          .importDatabase();
+    }
+  }
+
+  private void checkImported() {
+    try (ODatabaseSession db = orientDB.open(TARGET, "admin", "admin")) {
+      Assert.assertEquals(persons.size() + 1, db.countClass("Person"));
+      Assert.assertEquals(59, db.countClass("Knows"));
+      Assert.assertNull(db.load(deleted));
+
+      for (Map.Entry<ORID, Map<String, Object>> entry : persons.entrySet()) {
+        final ODocument doc = db.load(entry.getKey());
+        Assert.assertEquals(entry.getValue().get("name"), doc.field("name"));
+        Assert.assertEquals(entry.getValue().get("age"), doc.field("age"));
+        Assert.assertEquals(entry.getValue().get("version"), doc.getVersion());
+        Assert.assertEquals("Tag", doc.<ODocument>field("tags").getClassName());
+      }
+
+      final OVertex hubVertex = db.<ODocument>load(hub).asVertex().get();
+      final ORidBag edges = hubVertex.getProperty("out_Knows");
+      Assert.assertFalse(edges.isEmbedded());
+      Assert.assertEquals(59, edges.size());
+      int linked = 0;
+      for (OIdentifiable vertex : hubVertex.getVertices(ODirection.OUT, "Knows")) {
+        Assert.assertTrue(persons.containsKey(vertex.getIdentity()));
+        linked++;
+      }
+      Assert.assertEquals(59, linked);
+
+      try (OResultSet rs = db.query("select from Person where name = ?", "person42")) {
+        Assert.assertEquals(42, (int) rs.next().getProperty("age"));
+        Assert.assertFalse(rs.hasNext());
+      }
+      Assert.assertEquals(
+          persons.size() + 1,
+          ((ODatabaseDocumentInternal) db)
+              .getMetadata()
+              .getIndexManagerInternal()
+              .getIndex((ODatabaseDocumentInternal) db, "Person.name")
+              .getInternal()
+              .size());
+    }
+
+    try (ODatabaseSession db = orientDB.open(TARGET, "reader", "reader")) {
+      Assert.assertEquals(persons.size() + 1, db.countClass("Person"));
+    }
+  }
+
+  private static class OInterruptingListener implements OCommandOutputListener {
+    private final String interruptOn;
+    private final List<String> messages = new ArrayList<>();
+    private int count;
+
+    private OInterruptingListener(final String interruptOn) {
+      this.interruptOn = interruptOn;
+    }
+
+    @Override
+    public void onMessage(final String iText) {
+      messages.add(iText);
+      if (interruptOn != null && iText.contains(interruptOn) && ++count == 2)
+        throw new IllegalStateException("Interrupted");
+    }
+
+    private boolean received(final String text) {
+      for (String message : messages) {
+        if (message.contains(text)) return true;
+      }
+      return false;
+    }
+  }
+}
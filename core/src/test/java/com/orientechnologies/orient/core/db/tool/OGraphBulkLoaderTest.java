@@ -0,0 +1,198 @@
+package com.orientechnologies.orient.core.db.tool;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OGraphBulkLoaderTest {
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(OGraphBulkLoaderTest.class.getSimpleName(), ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(OGraphBulkLoaderTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testMultipleClassesWithSpill() {
+    final OGraphBulkLoader loader =
+        new OGraphBulkLoader(
+            orientDB, OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin");
+    loader.setParallel(3);
+    loader.setMaxBufferedEntries(50);
+    loader.setUseLightweightEdges(true);
+    loader.begin();
+
+    final int persons = 100;
+    for (int i = 0; i < persons; i++) {
+      if (i == 10) continue; // LEAVE A HOLE
+      final Map<String, Object> props = new HashMap<>();
+      props.put("name", "person" + i);
+      loader.createVertex("Person", i, props);
+    }
+    loader.createVertex("City", 0, Collections.singletonMap("name", "Rome"));
+    loader.createVertex("City", 1, Collections.singletonMap("name", "London"));
+
+    for (int i = 0; i < persons; i++) {
+      if (i == 10) continue;
+      loader.createEdge(
+          "Knows", "Person", i, "Person", (i + 1) % persons == 10 ? 0 : (i + 1) % persons, null);
+      loader.createEdge(
+          "LivesIn", "Person", i, "City", i % 2, Collections.singletonMap("since", 2000 + i));
+    }
+    loader.end();
+
+    Assert.assertTrue(loader.getSpilledEntries() > 0);
+    Assert.assertEquals(persons - 1 + 2, loader.getVerticesWritten());
+    Assert.assertEquals(2 * (persons - 1), loader.getEdgesCreated());
+
+    try (ODatabaseSession db =
+        orientDB.open(OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin")) {
+      Assert.assertEquals(persons - 1, db.countClass("Person"));
+      Assert.assertEquals(2, db.countClass("City"));
+      Assert.assertEquals(persons - 1, db.countClass("LivesIn"));
+      Assert.assertEquals(0, db.countClass("Knows"));
+
+      try (OResultSet rs = db.query("select from Person where uid = 5")) {
+        final OVertex person = rs.next().getVertex().get();
+        Assert.assertEquals("person5", person.getProperty("name"));
+
+        final OVertex next = person.getVertices(ODirection.OUT, "Knows").iterator().next();
+        Assert.assertEquals(6L, (long) next.getProperty("uid"));
+
+        final OEdge livesIn = person.getEdges(ODirection.OUT, "LivesIn").iterator().next();
+        Assert.assertEquals(2005, (int) livesIn.getProperty("since"));
+        Assert.assertEquals("London", livesIn.getTo().getProperty("name"));
+      }
+
+      try (OResultSet rs = db.query("select from City where name = 'Rome'")) {
+        final OResult city = rs.next();
+        final ORidBag in = city.getProperty("in_LivesIn");
+        // PERSON 10 IS MISSING
+        Assert.assertEquals(persons / 2 - 1, in.size());
+      }
+
+      try (OResultSet rs = db.query("select from Person where uid = 0")) {
+        final OVertex person = rs.next().getVertex().get();
+        // PERSON 9 AND PERSON 99 BOTH POINT TO PERSON 0
+        Assert.assertEquals(2, ((ORidBag) person.getProperty("in_Knows")).size());
+      }
+    }
+  }
+
+  @Test
+  public void testClustersWithDeletedTail() {
+    final int[] clusterIds;
+    try (ODatabaseSession db =
+        orientDB.open(OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin")) {
+      final OClass person = db.createVertexClass("Person");
+      for (int c = person.getClusterIds().length; c < 2; c++) person.addCluster("person_" + c);
+      clusterIds = person.getClusterIds();
+
+      for (int c = 0; c < 2; c++) {
+        final String clusterName = db.getClusterNameById(clusterIds[c]);
+        final List<OVertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+          final OVertex vertex = db.newVertex("Person");
+          vertex.setProperty("name", "old" + i);
+          db.save(vertex, clusterName);
+          vertices.add(vertex);
+        }
+        // THE LAST RECORDS ARE DELETED, NEXT POSITION IS AFTER THEM
+        for (int i = 2; i < 5; i++) db.delete(vertices.get(i));
+      }
+    }
+
+    final OGraphBulkLoader loader =
+        new OGraphBulkLoader(
+            orientDB, OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin");
+    loader.setParallel(2);
+    loader.begin();
+    for (int i = 0; i < 10; i++) {
+      loader.createVertex("Person", i, Collections.singletonMap("name", "person" + i));
+    }
+    for (int i = 0; i < 10; i++) {
+      loader.createEdge("Knows", "Person", i, "Person", (i + 1) % 10, null);
+    }
+    loader.end();
+
+    try (ODatabaseSession db =
+        orientDB.open(OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin")) {
+      Assert.assertEquals(14, db.countClass("Person"));
+      Assert.assertEquals(10, db.countClass("Knows"));
+
+      try (OResultSet rs = db.query("select from Person where uid = 3")) {
+        final OVertex person = rs.next().getVertex().get();
+        Assert.assertEquals(clusterIds[1], person.getIdentity().getClusterId());
+        Assert.assertEquals(5 + 1, person.getIdentity().getClusterPosition());
+
+        final OEdge knows = person.getEdges(ODirection.OUT, "Knows").iterator().next();
+        Assert.assertEquals(person.getIdentity(), knows.getFrom().getIdentity());
+        Assert.assertEquals("person4", knows.getTo().getProperty("name"));
+        Assert.assertEquals(
+            "person2", person.getVertices(ODirection.IN).iterator().next().getProperty("name"));
+      }
+    }
+  }
+
+  @Test
+  public void testModifiedClusterIsDetectedBeforeEdges() {
+    final OGraphBulkLoader loader =
+        new OGraphBulkLoader(
+            orientDB, OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin");
+    loader.setParallel(2);
+    loader.begin();
+    loader.createVertex("Person", 0);
+    loader.createVertex("Person", 1);
+
+    try (ODatabaseSession db =
+        orientDB.open(OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin")) {
+      final int clusterId = db.getClass("Person").getClusterIds()[1];
+      db.save(db.newVertex("Person"), db.getClusterNameById(clusterId));
+    }
+
+    try {
+      loader.createEdge("Knows", "Person", 0, "Person", 1, null);
+      Assert.fail("Modified cluster was not detected");
+    } catch (ODatabaseException e) {
+      Assert.assertTrue(e.getMessage().contains("modified during the bulk load"));
+    }
+    try {
+      loader.end();
+      Assert.fail("Modified cluster was not detected");
+    } catch (ODatabaseException e) {
+      Assert.assertTrue(e.getMessage().contains("modified during the bulk load"));
+    }
+
+    try (ODatabaseSession db =
+        orientDB.open(OGraphBulkLoaderTest.class.getSimpleName(), "admin", "admin")) {
+      // NOTHING WAS WRITTEN WITH THE WRONG RIDS
+      Assert.assertEquals(0, db.countClass("Knows"));
+      Assert.assertEquals(1, db.countClass("Person"));
+    }
+  }
+}
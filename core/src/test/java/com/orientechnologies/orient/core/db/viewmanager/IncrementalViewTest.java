@@ -0,0 +1,282 @@
+package com.orientechnologies.orient.core.db.viewmanager;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.metadata.schema.OViewConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalViewTest {
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(IncrementalViewTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    db = orientDB.open(IncrementalViewTest.class.getSimpleName(), "admin", "admin");
+
+    db.createClass("Person");
+    db.createClass("City");
+    createPerson("John", "Rome", 30);
+    createPerson("Jane", "Rome", 40);
+    createPerson("Mark", "London", 50);
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(IncrementalViewTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testFilterView() throws InterruptedException {
+    testFilterView(false);
+  }
+
+  @Test
+  public void testFilterViewWithOriginIndex() throws InterruptedException {
+    testFilterView(true);
+  }
+
+  private void testFilterView(boolean originIndex) throws InterruptedException {
+    OViewConfig cfg =
+        new OViewConfig("Adults", "SELECT name, age FROM Person WHERE age >= 40 AND name <> 'X'");
+    cfg.setOriginRidField("origin");
+    cfg.setUpdateIntervalSeconds(3600);
+    if (originIndex) {
+      cfg.addIndex(OClass.INDEX_TYPE.NOTUNIQUE.name(), null).addProperty("origin", OType.LINK);
+    }
+    createView(cfg);
+    Assert.assertEquals(2, countRows("Adults"));
+
+    int cluster = db.getMetadata().getSchema().getView("Adults").getClusterIds()[0];
+
+    OElement paul = createPerson("Paul", "Paris", 60);
+    OElement young = createPerson("Young", "Paris", 10);
+
+    db.begin();
+    OElement john = db.query("SELECT FROM Person WHERE name = 'John'").next().getElement().get();
+    john.setProperty("age", 45);
+    db.save(john);
+    db.commit();
+
+    db.query("SELECT FROM Person WHERE name = 'Mark'").next().getElement().get().delete();
+
+    // NOT COMMITTED, IS NOT APPLIED
+    db.begin();
+    young.setProperty("age", 70);
+    db.save(young);
+    db.rollback();
+
+    updateView("Adults");
+
+    OView view = db.getMetadata().getSchema().getView("Adults");
+    Assert.assertEquals(cluster, view.getClusterIds()[0]);
+
+    Map<String, Object> ages = rowsByName("Adults", "age");
+    Assert.assertEquals(3, ages.size());
+    Assert.assertEquals(45, ages.get("John"));
+    Assert.assertEquals(40, ages.get("Jane"));
+    Assert.assertEquals(60, ages.get("Paul"));
+
+    try (OResultSet rs = db.query("SELECT FROM Adults WHERE name = 'Paul'")) {
+      OResult row = rs.next();
+      Assert.assertEquals(paul.getIdentity(), row.getProperty("origin"));
+      Assert.assertFalse(row.getPropertyNames().contains(IncrementalView.ORIGIN_ALIAS));
+    }
+
+    if (originIndex) {
+      OIndex index = view.getClassIndexes().iterator().next();
+      Assert.assertEquals(3, index.getInternal().size());
+    }
+  }
+
+  @Test
+  public void testFailedChangesKeepTheOldRows() throws InterruptedException {
+    OViewConfig cfg = new OViewConfig("Names", "SELECT name FROM Person");
+    cfg.setOriginRidField("origin");
+    cfg.setUpdateIntervalSeconds(3600);
+    cfg.addIndex(OClass.INDEX_TYPE.UNIQUE.name(), null).addProperty("name", OType.STRING);
+    createView(cfg);
+
+    // THE NEW ROW OF JOHN VIOLATES THE UNIQUE INDEX OF THE VIEW
+    OElement john = db.query("SELECT FROM Person WHERE name = 'John'").next().getElement().get();
+    john.setProperty("name", "Jane");
+    db.save(john);
+    try {
+      updateView("Names");
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // EXPECTED
+    }
+
+    Map<String, Object> origins = rowsByName("Names", "origin");
+    Assert.assertEquals(3, origins.size());
+    Assert.assertEquals(john.getIdentity(), origins.get("John"));
+  }
+
+  @Test
+  public void testAggregateView() throws InterruptedException {
+    OViewConfig cfg =
+        new OViewConfig(
+            "Cities", "SELECT city, count(*) AS total, sum(age) AS ages FROM Person GROUP BY city");
+    cfg.setUpdateIntervalSeconds(3600);
+    createView(cfg);
+    Assert.assertEquals(2, countRows("Cities"));
+
+    int cluster = db.getMetadata().getSchema().getView("Cities").getClusterIds()[0];
+
+    createPerson("Paul", "Paris", 60);
+
+    // MOVES JANE FROM ROME TO LONDON
+    OElement jane = db.query("SELECT FROM Person WHERE name = 'Jane'").next().getElement().get();
+    jane.setProperty("city", "London");
+    db.save(jane);
+
+    updateView("Cities");
+
+    Assert.assertEquals(cluster, db.getMetadata().getSchema().getView("Cities").getClusterIds()[0]);
+    Map<String, Object> totals = rowsByCity("total");
+    Map<String, Object> ages = rowsByCity("ages");
+    Assert.assertEquals(3, totals.size());
+    Assert.assertEquals(1L, totals.get("Rome"));
+    Assert.assertEquals(30, ages.get("Rome"));
+    Assert.assertEquals(2L, totals.get("London"));
+    Assert.assertEquals(90, ages.get("London"));
+    Assert.assertEquals(1L, totals.get("Paris"));
+
+    // THE LAST RECORD OF A GROUP REMOVES THE GROUP
+    db.command("DELETE FROM Person WHERE city = 'Rome'").close();
+    updateView("Cities");
+
+    totals = rowsByCity("total");
+    Assert.assertEquals(2, totals.size());
+    Assert.assertFalse(totals.containsKey("Rome"));
+  }
+
+  @Test
+  public void testOnlyViewsOnSourcePropertiesAreIncremental() throws InterruptedException {
+    Assert.assertTrue(isIncremental("SELECT name, age * 2 AS double FROM Person WHERE age > 10"));
+    Assert.assertTrue(
+        isIncremental("SELECT ifnull(city, 'none') AS city FROM Person WHERE name IN ['a', 'b']"));
+    Assert.assertTrue(isIncremental("SELECT city, count(*) AS total FROM Person GROUP BY city"));
+
+    Assert.assertFalse(isIncremental("SELECT name, friend.name AS friend FROM Person"));
+    Assert.assertFalse(isIncremental("SELECT name FROM Person WHERE address.city = 'Rome'"));
+    Assert.assertFalse(isIncremental("SELECT name, out('Knows') AS known FROM Person"));
+    Assert.assertFalse(isIncremental("SELECT name, $parent AS parent FROM Person"));
+    Assert.assertFalse(
+        isIncremental("SELECT name FROM Person WHERE name IN (SELECT name FROM Person)"));
+  }
+
+  @Test
+  public void testViewFollowingLinksIsRebuilt() throws InterruptedException {
+    OElement rome = db.newElement("City");
+    rome.setProperty("name", "Rome");
+    db.save(rome);
+    OElement john = db.query("SELECT FROM Person WHERE name = 'John'").next().getElement().get();
+    john.setProperty("home", rome);
+    db.save(john);
+
+    OViewConfig cfg =
+        new OViewConfig(
+            "Homes", "SELECT name, home.name AS home FROM Person WHERE home IS NOT NULL");
+    cfg.setOriginRidField("origin");
+    cfg.setUpdateIntervalSeconds(3600);
+    createView(cfg);
+
+    // ONLY THE LINKED RECORD CHANGES
+    rome.setProperty("name", "Roma");
+    db.save(rome);
+    updateView("Homes");
+
+    Assert.assertEquals("Roma", rowsByName("Homes", "home").get("John"));
+  }
+
+  private boolean isIncremental(String query) throws InterruptedException {
+    String viewName = "View" + Math.abs(query.hashCode());
+    OViewConfig cfg = new OViewConfig(viewName, query);
+    cfg.setOriginRidField("origin");
+    cfg.setUpdateIntervalSeconds(3600);
+    createView(cfg);
+    return IncrementalView.analyze(
+            db.getMetadata().getSchema().getView(viewName), (ODatabaseDocumentInternal) db)
+        != null;
+  }
+
+  private OElement createPerson(String name, String city, int age) {
+    OElement person = db.newElement("Person");
+    person.setProperty("name", name);
+    person.setProperty("city", city);
+    person.setProperty("age", age);
+    return db.save(person);
+  }
+
+  private void createView(OViewConfig cfg) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    db.getMetadata()
+        .getSchema()
+        .createView(
+            cfg,
+            new ViewCreationListener() {
+              @Override
+              public void afterCreate(ODatabaseSession database, String viewName) {
+                latch.countDown();
+              }
+
+              @Override
+              public void onError(String viewName, Exception exception) {
+                latch.countDown();
+              }
+            });
+    latch.await();
+  }
+
+  private void updateView(String viewName) {
+    ODatabaseDocumentInternal internal = (ODatabaseDocumentInternal) db;
+    internal
+        .getSharedContext()
+        .getViewManager()
+        .updateView(internal.getMetadata().getSchema().getView(viewName), internal);
+  }
+
+  private long countRows(String viewName) {
+    try (OResultSet rs = db.query("SELECT count(*) AS count FROM " + viewName)) {
+      return rs.next().getProperty("count");
+    }
+  }
+
+  private Map<String, Object> rowsByName(String viewName, String property) {
+    Map<String, Object> result = new HashMap<>();
+    try (OResultSet rs = db.query("SELECT FROM " + viewName)) {
+      rs.forEachRemaining(row -> result.put(row.getProperty("name"), row.getProperty(property)));
+    }
+    return result;
+  }
+
+  private Map<String, Object> rowsByCity(String property) {
+    Map<String, Object> result = new HashMap<>();
+    try (OResultSet rs = db.query("SELECT FROM Cities")) {
+      rs.forEachRemaining(row -> result.put(row.getProperty("city"), row.getProperty(property)));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,153 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OIndexRebuildCoordinatorTest {
+  private static final String DB_NAME = OIndexRebuildCoordinatorTest.class.getSimpleName();
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+    db = orientDB.open(DB_NAME, "admin", "admin");
+
+    final OClass person = db.createClass("Person");
+    person.createProperty("name", OType.STRING);
+    person.createProperty("age", OType.INTEGER);
+    person.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+    person.createIndex("Person.name", OClass.INDEX_TYPE.UNIQUE, "name");
+    person.createIndex("Person.age", OClass.INDEX_TYPE.NOTUNIQUE, "age");
+    person.createIndex("Person.tags", OClass.INDEX_TYPE.NOTUNIQUE, "tags");
+    final OClass employee = db.createClass("Employee", "Person");
+    employee.createProperty("company", OType.STRING);
+    employee.createIndex("Employee.company", OClass.INDEX_TYPE.NOTUNIQUE, "company");
+
+    for (int i = 0; i < 3000; i++) {
+      final ODocument doc = new ODocument(i % 3 == 0 ? "Employee" : "Person");
+      doc.field("name", "person" + i);
+      doc.field("age", i % 50);
+      doc.field("tags", Arrays.asList("tag" + (i % 7), "tag" + (i % 11)));
+      if (i % 3 == 0) doc.field("company", "company" + (i % 5));
+      doc.save();
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Test
+  public void testRebuildAllIndexes() {
+    final long[] sizes = indexSizes();
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    long sequentiallyIndexed = 0;
+    for (OIndex index : database.getMetadata().getIndexManagerInternal().getIndexes(database)) {
+      if (index.isAutomatic()) sequentiallyIndexed += index.rebuild();
+    }
+
+    try (OResultSet rs = db.command("rebuild index *")) {
+      Assert.assertEquals(sequentiallyIndexed, (long) rs.next().<Long>getProperty("totalIndexed"));
+    }
+
+    Assert.assertArrayEquals(sizes, indexSizes());
+    try (OResultSet rs = db.query("select from Person where name = 'person42'")) {
+      Assert.assertEquals(42 % 50, (int) rs.next().<Integer>getProperty("age"));
+      Assert.assertFalse(rs.hasNext());
+    }
+    try (OResultSet rs =
+        db.query("select count(*) as count from Employee where company = ?", "company2")) {
+      Assert.assertEquals(200L, (long) rs.next().<Long>getProperty("count"));
+    }
+  }
+
+  @Test
+  public void testRebuildWithSingleScan() throws Exception {
+    final long[] sizes = indexSizes();
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    final List<OIndexAbstract> indexes = new ArrayList<>();
+    for (String name :
+        new String[] {"Person.name", "Person.age", "Person.tags", "Employee.company"}) {
+      final OIndexAbstract index = (OIndexAbstract) getIndex(name);
+      index.recreateEngine();
+      indexes.add(index);
+    }
+
+    final OIndexRebuildCoordinator coordinator = new OIndexRebuildCoordinator(database, indexes, 3);
+    Assert.assertEquals(3000L * 3 + 1000, coordinator.rebuild());
+
+    Assert.assertTrue(coordinator.getFailures().isEmpty());
+    Assert.assertEquals(3000, coordinator.getRecordsTotal());
+    Assert.assertEquals(3000, coordinator.getRecordsScanned());
+    Assert.assertEquals(coordinator.getClustersTotal(), coordinator.getClustersScanned());
+    Assert.assertEquals(100, coordinator.getProgress(), 0);
+    Assert.assertEquals(0, coordinator.getKeysPending());
+    Assert.assertEquals(1000, coordinator.getDocumentsIndexed(indexes.get(3)));
+    for (OIndexAbstract index : indexes) {
+      Assert.assertFalse(index.isRebuilding());
+    }
+    Assert.assertArrayEquals(sizes, indexSizes());
+
+    Assert.assertFalse(
+        ManagementFactory.getPlatformMBeanServer()
+            .isRegistered(
+                new ObjectName(
+                    "com.orientechnologies.orient.core.index:type=OIndexRebuildMXBean,database="
+                        + ObjectName.quote(DB_NAME))));
+  }
+
+  @Test
+  public void testRebuildingIndexIsNotUsedByQueries() {
+    final OIndexAbstract index = (OIndexAbstract) getIndex("Person.name");
+    final String query = "explain select from Person where name = 'person42'";
+
+    index.setRebuilding(true);
+    try {
+      try (OResultSet rs = db.query(query)) {
+        Assert.assertFalse(
+            rs.next().<String>getProperty("executionPlanAsString").contains("FETCH FROM INDEX"));
+      }
+    } finally {
+      index.setRebuilding(false);
+    }
+
+    try (OResultSet rs = db.query(query)) {
+      Assert.assertTrue(
+          rs.next().<String>getProperty("executionPlanAsString").contains("FETCH FROM INDEX"));
+    }
+  }
+
+  private OIndexInternal getIndex(final String name) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    return (OIndexInternal) database.getMetadata().getIndexManagerInternal().getRawIndex(name);
+  }
+
+  private long[] indexSizes() {
+    final String[] names = {"Person.name", "Person.age", "Person.tags", "Employee.company"};
+    final long[] sizes = new long[names.length];
+    for (int i = 0; i < names.length; i++) sizes[i] = getIndex(names[i]).size();
+    return sizes;
+  }
+}
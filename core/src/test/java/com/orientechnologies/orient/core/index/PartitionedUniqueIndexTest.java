@@ -0,0 +1,234 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PartitionedUniqueIndexTest {
+  private static final String DB_NAME = PartitionedUniqueIndexTest.class.getSimpleName();
+
+  private String buildDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    buildDirectory = System.getProperty("buildDirectory", "./target") + File.separator + DB_NAME;
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    orientDB = new OrientDB("embedded:" + buildDirectory, OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.PLOCAL);
+
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OClass cls = db.createClass("Account");
+      cls.createProperty("number", OType.INTEGER);
+      cls.createIndex(
+          "Account.number",
+          OClass.INDEX_TYPE.UNIQUE.name(),
+          null,
+          new ODocument().field("writePartitions", 4),
+          new String[] {"number"});
+    }
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+  }
+
+  @Test
+  public void testNullKeyPartitionIsLockedInOrder() throws Exception {
+    final String indexName = "Transfer.number";
+    final OIndex index;
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OClass cls = db.createClass("Transfer");
+      cls.createProperty("number", OType.INTEGER);
+      cls.addCluster("transfer_a");
+      cls.addCluster("transfer_b");
+      cls.createIndex(
+          indexName,
+          OClass.INDEX_TYPE.UNIQUE.name(),
+          null,
+          new ODocument().field("writePartitions", 4).field("ignoreNullValues", false),
+          new String[] {"number"});
+      index = db.getMetadata().getIndexManager().getIndex(indexName);
+    }
+
+    // THE NULL KEY IS STORED IN THE FIRST PARTITION
+    final Integer first = keyOfPartition(index, indexName);
+    final Integer third = keyOfPartition(index, indexName + "_p2");
+    final Integer otherThird = keyOfPartition(index, indexName + "_p2", third + 1);
+
+    // BOTH TRANSACTIONS CHANGE THE FIRST AND THE THIRD PARTITION, SO THEY HAVE TO TAKE THE LOCKS
+    // IN THE SAME ORDER. THEY WRITE IN DIFFERENT CLUSTERS, SO CLUSTER LOCKS DO NOT SERIALIZE THEM
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<?> first2third =
+          executor.submit(() -> insertAndDelete("transfer_a", first, third));
+      final Future<?> third2null =
+          executor.submit(() -> insertAndDelete("transfer_b", otherThird, null));
+      first2third.get(1, TimeUnit.MINUTES);
+      third2null.get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdown();
+    }
+
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      Assert.assertEquals(
+          0, db.getMetadata().getIndexManager().getIndex(indexName).getInternal().size());
+    }
+  }
+
+  private static Integer keyOfPartition(final OIndex index, final String partition) {
+    return keyOfPartition(index, partition, 0);
+  }
+
+  private static Integer keyOfPartition(
+      final OIndex index, final String partition, final int from) {
+    for (int key = from; ; key++) {
+      if (index.getInternal().getIndexNameByKey(key).equals(partition)) {
+        return key;
+      }
+    }
+  }
+
+  private Void insertAndDelete(
+      final String cluster, final Integer firstKey, final Integer secondKey) {
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      for (int i = 0; i < 500; i++) {
+        db.begin();
+        final OElement first = db.newElement("Transfer");
+        first.setProperty("number", firstKey);
+        db.save(first, cluster);
+        final OElement second = db.newElement("Transfer");
+        second.setProperty("number", secondKey);
+        db.save(second, cluster);
+        db.commit();
+
+        db.begin();
+        db.delete(first);
+        db.delete(second);
+        db.commit();
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void testConcurrentWritersAndOrderedIteration() throws Exception {
+    final int threads = 4;
+    final int perThread = 500;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        final int thread = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+                    for (int i = 0; i < perThread; i++) {
+                      db.begin();
+                      final OElement account = db.newElement("Account");
+                      account.setProperty("number", i * threads + thread);
+                      db.save(account);
+                      db.commit();
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    final int total = threads * perThread;
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OIndex index =
+          ((ODatabaseDocumentInternal) db)
+              .getMetadata()
+              .getIndexManagerInternal()
+              .getIndex((ODatabaseDocumentInternal) db, "Account.number");
+      Assert.assertEquals(total, index.getInternal().size());
+
+      final OCellBTreeSingleValueIndexEngine engine =
+          (OCellBTreeSingleValueIndexEngine)
+              ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage())
+                  .getIndexEngine(index.getIndexId());
+      Assert.assertEquals(4, engine.getPartitionsCount());
+
+      try (Stream<Object> keys = index.getInternal().keyStream()) {
+        final List<Object> sorted = keys.collect(Collectors.toList());
+        Assert.assertEquals(total, sorted.size());
+        for (int i = 0; i < total; i++) {
+          Assert.assertEquals(i, sorted.get(i));
+        }
+      }
+
+      try (Stream<ORID> rids = index.getInternal().getRids(42)) {
+        Assert.assertEquals(1, rids.count());
+      }
+
+      try (Stream<ORawPair<Object, ORID>> range =
+          index.getInternal().streamEntriesBetween(10, true, 19, true, false)) {
+        final List<Object> keys = range.map(pair -> pair.first).collect(Collectors.toList());
+        Assert.assertEquals(10, keys.size());
+        Assert.assertEquals(19, keys.get(0));
+        Assert.assertEquals(10, keys.get(9));
+      }
+
+      try {
+        db.begin();
+        final OElement duplicate = db.newElement("Account");
+        duplicate.setProperty("number", 7);
+        db.save(duplicate);
+        db.commit();
+        Assert.fail("Expected record duplicate exception");
+      } catch (ORecordDuplicatedException e) {
+        // EXPECTED
+      }
+    }
+
+    // PARTITIONS ARE LOADED BACK FROM THE ENGINE PROPERTIES
+    orientDB.close();
+    orientDB = new OrientDB("embedded:" + buildDirectory, OrientDBConfig.defaultConfig());
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      Assert.assertEquals(
+          total,
+          db.getMetadata().getIndexManager().getIndex("Account.number").getInternal().size());
+      try (Stream<ORID> rids =
+          db.getMetadata().getIndexManager().getIndex("Account.number").getInternal().getRids(7)) {
+        Assert.assertEquals(1, rids.count());
+      }
+    }
+  }
+}
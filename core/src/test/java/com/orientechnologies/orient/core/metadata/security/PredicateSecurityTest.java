@@ -13,6 +13,8 @@ import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -483,4 +485,70 @@ public class PredicateSecurityTest {
       Assert.assertEquals(1, rids.count());
     }
   }
+
+  @Test
+  public void testSqlReadPolicyInQueryPlan() {
+    OSecurityInternal security = ((ODatabaseInternal) db).getSharedContext().getSecurity();
+
+    OClass person = db.createClass("Person");
+    person.createProperty("name", OType.STRING);
+    db.command("create index Person.name on Person (name) NOTUNIQUE");
+    db.createClass("Employee", "Person");
+
+    OSecurityPolicyImpl policy = security.createSecurityPolicy(db, "testPolicy");
+    policy.setActive(true);
+    policy.setReadRule("name = 'foo'");
+    security.saveSecurityPolicy(db, policy);
+    security.setSecurityPolicy(db, security.getRole(db, "reader"), "database.class.Person", policy);
+
+    for (String name : new String[] {"foo", "bar", "baz"}) {
+      OElement elem = db.newElement("Person");
+      elem.setProperty("name", name);
+      db.save(elem);
+      elem = db.newElement("Employee");
+      elem.setProperty("name", name);
+      db.save(elem);
+    }
+
+    // THE SAME STATEMENT IS CACHED FOR EACH ROLE
+    Assert.assertEquals(6, count("select from Person"));
+
+    db.close();
+    this.db = orient.open(DB_NAME, "reader", "reader");
+    Assert.assertEquals(2, count("select from Person"));
+    Assert.assertEquals(0, count("select from Person where name = 'bar'"));
+    Assert.assertEquals(1, count("select from Employee"));
+    try (OResultSet rs = db.query("explain select from Person")) {
+      String plan = rs.next().getProperty("executionPlanAsString");
+      Assert.assertTrue(plan.contains("Person.name"));
+    }
+
+    // A SUBCLASS WITH A DIFFERENT POLICY IS CHECKED RECORD BY RECORD
+    db.close();
+    this.db = orient.open(DB_NAME, "admin", "admin");
+    security = ((ODatabaseInternal) db).getSharedContext().getSecurity();
+    OSecurityPolicyImpl employeePolicy = security.createSecurityPolicy(db, "employeePolicy");
+    employeePolicy.setActive(true);
+    employeePolicy.setReadRule("name = 'bar'");
+    security.saveSecurityPolicy(db, employeePolicy);
+    security.setSecurityPolicy(
+        db, security.getRole(db, "reader"), "database.class.Employee", employeePolicy);
+
+    db.close();
+    this.db = orient.open(DB_NAME, "reader", "reader");
+    Map<String, Long> names = new HashMap<>();
+    try (OResultSet rs = db.query("select name, @class as cls from Person")) {
+      rs.forEachRemaining(
+          x -> names.merge(x.getProperty("cls") + ":" + x.getProperty("name"), 1L, Long::sum));
+    }
+    Assert.assertEquals(2, names.size());
+    Assert.assertTrue(names.containsKey("Person:foo"));
+    Assert.assertTrue(names.containsKey("Employee:bar"));
+  }
+
+  private long count(String query) {
+    try (OResultSet rs = db.query(query)) {
+      return rs.stream().count();
+    }
+  }
 }
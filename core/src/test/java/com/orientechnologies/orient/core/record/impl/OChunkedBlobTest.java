@@ -0,0 +1,188 @@
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OChunkedBlobTest {
+  private static final int CHUNK_SIZE = 1000;
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+  private byte[] content;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(OChunkedBlobTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    db = orientDB.open(OChunkedBlobTest.class.getSimpleName(), "admin", "admin");
+
+    content = new byte[10 * CHUNK_SIZE + 123];
+    new Random(42).nextBytes(content);
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(OChunkedBlobTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    final ORID rid = store(content);
+
+    db.getLocalCache().clear();
+    final OChunkedBlob blob = new OChunkedBlob(db.load(rid));
+    Assert.assertEquals(content.length, blob.getSize());
+    Assert.assertEquals(CHUNK_SIZE, blob.getChunkSize());
+    Assert.assertEquals(11, blob.getChunks().size());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    blob.toOutputStream(out);
+    Assert.assertArrayEquals(content, out.toByteArray());
+
+    try (InputStream in = blob.openStream()) {
+      for (int i = 0; i < 2 * CHUNK_SIZE; i++) {
+        Assert.assertEquals(content[i] & 0xFF, in.read());
+      }
+    }
+  }
+
+  @Test
+  public void testChunksAreNotCached() throws IOException {
+    final ORID rid = store(content);
+    final OChunkedBlob blob = new OChunkedBlob(db.load(rid));
+
+    for (ORID chunk : blob.getChunks()) {
+      Assert.assertNull(db.getLocalCache().findRecord(chunk));
+    }
+    readAll(blob.openStream());
+    for (ORID chunk : blob.getChunks()) {
+      Assert.assertNull(db.getLocalCache().findRecord(chunk));
+    }
+  }
+
+  @Test
+  public void testRangedRead() throws IOException {
+    final OChunkedBlob blob = new OChunkedBlob(db.load(store(content)));
+
+    Assert.assertArrayEquals(
+        Arrays.copyOfRange(content, 1500, 3750), readAll(blob.openStream(1500, 2250)));
+    Assert.assertArrayEquals(
+        Arrays.copyOfRange(content, 10000, content.length),
+        readAll(blob.openStream(10000, content.length - 10000)));
+    Assert.assertEquals(0, readAll(blob.openStream(content.length, 0)).length);
+
+    try (InputStream in = blob.openStream()) {
+      Assert.assertEquals(5432, in.skip(5432));
+      Assert.assertEquals(content[5432] & 0xFF, in.read());
+      Assert.assertEquals(content.length - 5433, in.skip(Long.MAX_VALUE));
+      Assert.assertEquals(-1, in.read());
+    }
+
+    try {
+      blob.openStream(10000, content.length);
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      // EXPECTED
+    }
+  }
+
+  @Test
+  public void testSmallWrites() throws IOException {
+    final ORID rid;
+    try (OChunkedBlobOutputStream out = OChunkedBlob.create(null, CHUNK_SIZE)) {
+      for (byte b : content) {
+        out.write(b);
+      }
+      out.close();
+      rid = out.getBlob().getIdentity();
+    }
+
+    Assert.assertArrayEquals(content, readAll(new OChunkedBlob(db.load(rid)).openStream()));
+  }
+
+  @Test
+  public void testEmptyBlob() throws IOException {
+    final OChunkedBlob blob = new OChunkedBlob(db.load(store(new byte[0])));
+    Assert.assertEquals(0, blob.getSize());
+    Assert.assertTrue(blob.getChunks().isEmpty());
+    Assert.assertEquals(-1, blob.openStream().read());
+  }
+
+  @Test
+  public void testWriteInTransaction() throws IOException {
+    db.begin();
+    final OChunkedBlob blob;
+    try (OChunkedBlobOutputStream out = OChunkedBlob.create(null, CHUNK_SIZE)) {
+      out.write(content);
+      out.close();
+      blob = out.getBlob();
+    }
+    db.commit();
+
+    Assert.assertTrue(blob.getIdentity().isPersistent());
+    db.getLocalCache().clear();
+    Assert.assertArrayEquals(
+        content, readAll(new OChunkedBlob(db.load(blob.getIdentity())).openStream()));
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    final OChunkedBlob blob = new OChunkedBlob(db.load(store(content)));
+    final List<ORID> chunks = blob.getChunks();
+
+    blob.delete();
+
+    Assert.assertNull(db.load(blob.getIdentity()));
+    for (ORID chunk : chunks) {
+      Assert.assertNull(db.load(chunk));
+    }
+  }
+
+  @Test
+  public void testAbort() throws IOException {
+    final long records = db.countClusterElements(db.getDefaultClusterId());
+
+    final OChunkedBlobOutputStream out = OChunkedBlob.create(null, CHUNK_SIZE);
+    out.write(content);
+    out.abort();
+
+    Assert.assertEquals(records, db.countClusterElements(db.getDefaultClusterId()));
+  }
+
+  private ORID store(final byte[] bytes) throws IOException {
+    try (OChunkedBlobOutputStream out = OChunkedBlob.create(null, CHUNK_SIZE)) {
+      out.write(bytes);
+      out.close();
+      return out.getBlob().getIdentity();
+    }
+  }
+
+  private static byte[] readAll(final InputStream in) throws IOException {
+    try {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[700];
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } finally {
+      in.close();
+    }
+  }
+}
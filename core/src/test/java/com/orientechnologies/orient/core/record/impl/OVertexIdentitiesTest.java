@@ -0,0 +1,138 @@
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OVertexIdentitiesTest {
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+  private ORID hub;
+  private final Set<ORID> friends = new HashSet<>();
+  private ORID stranger;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(OVertexIdentitiesTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    db = orientDB.open(OVertexIdentitiesTest.class.getSimpleName(), "admin", "admin");
+    db.createVertexClass("Person");
+    db.createVertexClass("Robot");
+    db.createEdgeClass("Knows");
+    db.createEdgeClass("Owns");
+
+    final OVertex hubVertex = db.newVertex("Person");
+    hubVertex.setProperty("name", "hub");
+    hubVertex.save();
+    hub = hubVertex.getIdentity();
+    for (int i = 0; i < 5; i++) {
+      final OVertex friend = db.newVertex("Person");
+      friend.setProperty("name", "friend" + i);
+      friend.save();
+      db.newEdge(hubVertex, friend, "Knows").save();
+      friends.add(friend.getIdentity());
+      for (int j = 0; j < 3; j++) {
+        final OVertex friendOfFriend = db.newVertex(j == 0 ? "Robot" : "Person");
+        friendOfFriend.setProperty("name", "friend" + i + "-" + j);
+        friendOfFriend.save();
+        db.newEdge(friend, friendOfFriend, "Knows").save();
+      }
+    }
+    final OVertex robot = db.newVertex("Robot").save();
+    stranger = robot.getIdentity();
+    db.newEdge(hubVertex, robot, "Owns").save();
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(OVertexIdentitiesTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testVerticesAreNotLoaded() {
+    ((ODatabaseDocumentInternal) db).getLocalCache().clear();
+    final OVertex hubVertex = db.<ODocument>load(hub).asVertex().get();
+
+    final Set<ORID> result = new HashSet<>();
+    for (OIdentifiable vertex : hubVertex.getVertexIdentities(ODirection.OUT, "Knows")) {
+      Assert.assertFalse(vertex instanceof ODocument);
+      result.add(vertex.getIdentity());
+    }
+    Assert.assertEquals(friends, result);
+    for (ORID friend : friends)
+      Assert.assertNull(((ODatabaseDocumentInternal) db).getLocalCache().findRecord(friend));
+
+    int count = 0;
+    for (OIdentifiable vertex : hubVertex.getVertexIdentities(ODirection.BOTH)) {
+      Assert.assertTrue(friends.contains(vertex.getIdentity()) || stranger.equals(vertex));
+      count++;
+    }
+    Assert.assertEquals(6, count);
+
+    final OVertex friend = db.<ODocument>load(friends.iterator().next()).asVertex().get();
+    Assert.assertEquals(hub, friend.getVertexIdentities(ODirection.IN, "Knows").iterator().next());
+  }
+
+  @Test
+  public void testVerticesCreatedInTransaction() {
+    db.begin();
+    final OVertex hubVertex = db.<ODocument>load(hub).asVertex().get();
+    final OVertex added = db.newVertex("Person").save();
+    db.newEdge(hubVertex, added, "Knows").save();
+
+    final Set<ORID> result = new HashSet<>();
+    for (OIdentifiable vertex : hubVertex.getVertexIdentities(ODirection.OUT, "Knows"))
+      result.add(vertex.getIdentity());
+    Assert.assertEquals(6, result.size());
+    Assert.assertTrue(result.contains(added.getIdentity()));
+    db.rollback();
+  }
+
+  @Test
+  public void testMatch() {
+    try (OResultSet rs =
+        db.query(
+            "match {class: Person, where: (name = 'hub')}.out('Knows'){as: f}"
+                + ".out('Knows'){class: Person, as: ff} return ff.name as name")) {
+      int count = 0;
+      while (rs.hasNext()) {
+        final String name = rs.next().getProperty("name");
+        Assert.assertTrue(name.startsWith("friend") && !name.endsWith("-0"));
+        count++;
+      }
+      Assert.assertEquals(10, count);
+    }
+
+    try (OResultSet rs =
+        db.query(
+            "match {class: Person, where: (name = 'hub')}.out(){class: Robot, as: r} return r")) {
+      final OResult robot = rs.next();
+      Assert.assertEquals(stranger, robot.<OIdentifiable>getProperty("r").getIdentity());
+      Assert.assertFalse(rs.hasNext());
+    }
+
+    try (OResultSet rs =
+        db.query(
+            "match {class: Person, where: (name = 'hub')}.out('Knows'){as: f}"
+                + ".out('Knows'){as: ff, where: (name = 'friend3-2')} return f.name as name")) {
+      Assert.assertEquals("friend3", rs.next().getProperty("name"));
+      Assert.assertFalse(rs.hasNext());
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class HashJoinStepTest extends TestUtilsFixture {
+
+  @BeforeClass
+  public static void createData() {
+    database.createClass("HashJoinA");
+    database.createClass("HashJoinB");
+    OClass indexed = database.createClass("HashJoinIndexedB");
+    indexed.createProperty("fk", OType.INTEGER);
+    indexed.createIndex("HashJoinIndexedB.fk", OClass.INDEX_TYPE.NOTUNIQUE, "fk");
+
+    for (int i = 0; i < 5; i++) {
+      database.save(new ODocument("HashJoinA").field("id", i));
+    }
+    for (int i = 0; i < 10; i++) {
+      database.save(new ODocument("HashJoinB").field("fk", i % 5).field("n", i));
+      database.save(new ODocument("HashJoinIndexedB").field("fk", i % 5).field("n", i));
+    }
+  }
+
+  @Test
+  public void testMatchCorrelatedPatterns() {
+    String query =
+        "match {class: HashJoinA, as: a}, {class: HashJoinB, as: b, where: (fk = $matched.a.id and n > 2)}"
+            + " return a.id as aid, b.fk as bfk, b.n as n";
+    checkMatch(query);
+
+    try (OResultSet result = database.query(query)) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertTrue(plan.contains("HASH JOIN ON {b}.fk = $matched.a.id"));
+      Assert.assertFalse(plan.contains("CARTESIAN PRODUCT"));
+    }
+  }
+
+  @Test
+  public void testMatchCorrelatedPatternsSpilled() {
+    long maxInMemory = OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.getValueAsLong();
+    OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.setValue(2);
+    try {
+      checkMatch(
+          "match {class: HashJoinA, as: a}, {class: HashJoinB, as: b, where: (fk = $matched.a.id and n > 2)}"
+              + " return a.id as aid, b.fk as bfk, b.n as n");
+    } finally {
+      OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.setValue(maxInMemory);
+    }
+  }
+
+  private void checkMatch(String query) {
+    List<Integer> found = new ArrayList<>();
+    try (OResultSet result = database.query(query)) {
+      while (result.hasNext()) {
+        OResult item = result.next();
+        Assert.assertEquals((Object) item.getProperty("aid"), item.getProperty("bfk"));
+        found.add(item.getProperty("n"));
+      }
+    }
+    Collections.sort(found);
+    Assert.assertEquals(Arrays.asList(3, 4, 5, 6, 7, 8, 9), found);
+  }
+
+  @Test
+  public void testLetCorrelatedSubquery() {
+    String query =
+        "select id, $x as x from HashJoinA"
+            + " let $x = (select n from HashJoinB where fk = $parent.$current.id order by n desc)";
+    checkLet(query);
+
+    try (OResultSet result = database.query(query)) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertTrue(plan.contains("LET (hash join)"));
+    }
+  }
+
+  @Test
+  public void testLetCorrelatedSubquerySpilled() {
+    long maxInMemory = OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.getValueAsLong();
+    OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.setValue(3);
+    try {
+      checkLet(
+          "select id, $x as x from HashJoinA"
+              + " let $x = (select n from HashJoinB where fk = $parent.$current.id order by n desc)");
+
+      try (OResultSet result =
+          database.query(
+              "select id, $x.size() as size, $x[0].fk as fk from HashJoinA"
+                  + " let $x = (select from HashJoinB where fk = $parent.$current.id)")) {
+        int count = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Assert.assertEquals(2, (int) item.getProperty("size"));
+          Assert.assertEquals((Object) item.getProperty("id"), item.getProperty("fk"));
+          count++;
+        }
+        Assert.assertEquals(5, count);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_HASH_JOIN_MAX_IN_MEMORY.setValue(maxInMemory);
+    }
+  }
+
+  private void checkLet(String query) {
+    int count = 0;
+    try (OResultSet result = database.query(query)) {
+      while (result.hasNext()) {
+        OResult item = result.next();
+        int id = item.getProperty("id");
+        List<OResult> x = item.getProperty("x");
+        Assert.assertEquals(2, x.size());
+        Assert.assertEquals(Collections.singleton("n"), x.get(0).getPropertyNames());
+        Assert.assertEquals(id + 5, (int) x.get(0).getProperty("n"));
+        Assert.assertEquals(id, (int) x.get(1).getProperty("n"));
+        count++;
+      }
+    }
+    Assert.assertEquals(5, count);
+  }
+
+  @Test
+  public void testLetIndexedSubqueryNotDecorrelated() {
+    try (OResultSet result =
+        database.query(
+            "select id, $x.size() as size from HashJoinA"
+                + " let $x = (select from HashJoinIndexedB where fk = $parent.$current.id)")) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertTrue(plan.contains("LET (for each record)"));
+      while (result.hasNext()) {
+        Assert.assertEquals(2, (int) result.next().getProperty("size"));
+      }
+    }
+  }
+
+  @Test
+  public void testTableKeyKinds() {
+    OResultInternal integer = new OResultInternal();
+    integer.setProperty("name", "integer");
+    OResultInternal longValue = new OResultInternal();
+    longValue.setProperty("name", "long");
+    OResultInternal string = new OResultInternal();
+    string.setProperty("name", "string");
+
+    try (OHashJoinTable table = new OHashJoinTable(1)) {
+      table.add(Collections.singletonList(1), integer);
+      table.add(Collections.singletonList(2L), longValue);
+      table.add(Collections.singletonList("2"), string);
+      table.add(Collections.singletonList(null), integer);
+      Assert.assertEquals(3, table.size());
+      Assert.assertEquals(2, table.getSpilledRows());
+
+      Assert.assertEquals(Arrays.asList("long"), names(table.get(Collections.singletonList(2.0))));
+      Assert.assertEquals(
+          Arrays.asList("long", "string"), names(table.get(Collections.singletonList(2))));
+      Assert.assertEquals(
+          Arrays.asList("integer"), names(table.get(Collections.singletonList("1"))));
+      Assert.assertTrue(table.get(Collections.singletonList(3)).isEmpty());
+      Assert.assertTrue(table.get(Collections.singletonList(null)).isEmpty());
+    }
+  }
+
+  private static List<String> names(List<OResult> rows) {
+    List<String> result = new ArrayList<>();
+    for (OResult row : rows) {
+      result.add(row.getProperty("name"));
+    }
+    return result;
+  }
+}
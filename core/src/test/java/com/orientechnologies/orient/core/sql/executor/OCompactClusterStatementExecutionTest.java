@@ -0,0 +1,121 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OCompactClusterStatementExecutionTest {
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(
+        OCompactClusterStatementExecutionTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    db =
+        orientDB.open(
+            OCompactClusterStatementExecutionTest.class.getSimpleName(), "admin", "admin");
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(OCompactClusterStatementExecutionTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testCompactSparseCluster() {
+    db.command("CREATE CLASS Event CLUSTERS 1").close();
+    final OClass clazz = db.getClass("Event");
+    final String clusterName = db.getClusterNameById(clazz.getDefaultClusterId());
+
+    final StringBuilder payload = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      payload.append('x');
+    }
+
+    final Map<ORID, Integer> survivors = new HashMap<>();
+    for (int i = 0; i < 2000; i++) {
+      final OElement event = db.newElement("Event");
+      event.setProperty("index", i);
+      event.setProperty("payload", payload.toString());
+      db.save(event);
+
+      if (i % 10 == 0) {
+        survivors.put(event.getIdentity(), i);
+      }
+    }
+    db.command("DELETE FROM Event WHERE index % 10 <> 0").close();
+
+    final Map<ORID, Integer> versions = new HashMap<>();
+    for (ORID rid : survivors.keySet()) {
+      versions.put(rid, ((ORecord) db.load(rid)).getVersion());
+    }
+
+    try (OResultSet rs = db.command("COMPACT CLUSTER " + clusterName + " THROTTLE 0")) {
+      final OResult result = rs.next();
+      Assert.assertEquals("compact cluster", result.getProperty("operation"));
+      Assert.assertTrue((long) result.getProperty("movedRecords") > 0);
+      // EVERY WINDOW OF THE POSITION MAP IS SCANNED
+      Assert.assertEquals(
+          (long) result.getProperty("candidates"),
+          (long) result.getProperty("movedRecords") + (long) result.getProperty("skippedRecords"));
+      Assert.assertTrue((int) result.getProperty("releasedPages") > 0);
+      Assert.assertTrue((long) result.getProperty("reclaimedBytes") > 0);
+      Assert.assertFalse(result.getProperty("outOfSpace"));
+    }
+
+    // RIDS AND VERSIONS DO NOT CHANGE
+    db.getLocalCache().clear();
+    Assert.assertEquals(survivors.size(), db.countClass("Event"));
+    for (Map.Entry<ORID, Integer> survivor : survivors.entrySet()) {
+      final OElement event = db.load(survivor.getKey());
+      Assert.assertEquals(survivor.getValue(), event.getProperty("index"));
+      Assert.assertEquals(payload.toString(), event.getProperty("payload"));
+      Assert.assertEquals((int) versions.get(survivor.getKey()), event.getVersion());
+    }
+
+    // RELEASED PAGES ARE REUSED
+    for (int i = 0; i < 500; i++) {
+      final OElement event = db.newElement("Event");
+      event.setProperty("index", -i);
+      event.setProperty("payload", payload.toString());
+      db.save(event);
+    }
+    Assert.assertEquals(survivors.size() + 500, db.countClass("Event"));
+    try (OResultSet rs = db.query("SELECT count(*) AS count FROM Event WHERE index <= 0")) {
+      Assert.assertEquals(501L, (long) rs.next().getProperty("count"));
+    }
+  }
+
+  @Test
+  public void testCompactDenseCluster() {
+    db.command("CREATE CLASS Dense CLUSTERS 1").close();
+    final OClass clazz = db.getClass("Dense");
+    for (int i = 0; i < 100; i++) {
+      final OElement element = db.newElement("Dense");
+      element.setProperty("index", i);
+      db.save(element);
+    }
+
+    try (OResultSet rs = db.command("COMPACT CLUSTER " + clazz.getDefaultClusterId())) {
+      final OResult result = rs.next();
+      Assert.assertEquals(0L, (long) result.getProperty("movedRecords"));
+      Assert.assertEquals(0, (int) result.getProperty("releasedPages"));
+    }
+    Assert.assertEquals(100, db.countClass("Dense"));
+  }
+}
@@ -0,0 +1,169 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OCompactRidSetTest {
+
+  @Test
+  public void testAdd() {
+    OCompactRidSet set = new OCompactRidSet();
+    for (long position : new long[] {0, 31, 63, 64, 65535, 65536, Long.MAX_VALUE}) {
+      ORID rid = new ORecordId(12, position);
+      Assert.assertFalse(set.contains(rid));
+      Assert.assertTrue(set.add(rid));
+      Assert.assertTrue(set.contains(rid));
+      Assert.assertFalse(set.add(rid));
+    }
+    Assert.assertEquals(7, set.size());
+    Assert.assertFalse(set.contains(new ORecordId(12, 1)));
+    Assert.assertFalse(set.contains(new ORecordId(13, 0)));
+    Assert.assertFalse(set.contains(new ORecordId(1200, 0)));
+  }
+
+  @Test
+  public void testRemove() {
+    OCompactRidSet set = new OCompactRidSet();
+    ORID rid = new ORecordId(12, 31);
+    set.add(rid);
+    Assert.assertTrue(set.remove(rid));
+    Assert.assertFalse(set.contains(rid));
+    Assert.assertFalse(set.remove(rid));
+    Assert.assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void testNegatives() {
+    OCompactRidSet set = new OCompactRidSet();
+    ORID temporary = new ORecordId(12, -3);
+    ORID noCluster = new ORecordId(-1, -1);
+    set.add(temporary);
+    set.add(noCluster);
+    set.add(new ORecordId(12, 3));
+    Assert.assertTrue(set.contains(temporary));
+    Assert.assertTrue(set.contains(noCluster));
+    Assert.assertEquals(3, set.size());
+
+    Set<ORID> iterated = new HashSet<>(set);
+    Assert.assertEquals(set, iterated);
+    Assert.assertTrue(set.remove(temporary));
+    Assert.assertFalse(set.contains(temporary));
+  }
+
+  @Test
+  public void testIterator() {
+    OCompactRidSet set = new OCompactRidSet();
+    List<ORID> expected = new ArrayList<>();
+    for (int cluster = 0; cluster < 20; cluster += 3) {
+      for (long position = 0; position < 200_000; position += cluster + 1) {
+        expected.add(new ORecordId(cluster, position));
+      }
+      expected.add(new ORecordId(cluster, Long.MAX_VALUE));
+    }
+    for (int i = expected.size() - 1; i >= 0; i--) {
+      set.add(expected.get(i));
+    }
+    Assert.assertEquals(expected.size(), set.size());
+
+    // POSITIONS ARE RETURNED IN ASCENDING ORDER
+    Iterator<ORID> iterator = set.iterator();
+    for (ORID rid : expected) {
+      Assert.assertTrue(iterator.hasNext());
+      Assert.assertEquals(rid, iterator.next());
+    }
+    Assert.assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    OCompactRidSet set = new OCompactRidSet();
+    for (long position = 0; position < 10_000; position++) {
+      set.add(new ORecordId(5, position));
+      set.add(new ORecordId(7, position << 16));
+    }
+    Iterator<ORID> iterator = set.iterator();
+    int count = 0;
+    while (iterator.hasNext()) {
+      ORID rid = iterator.next();
+      if (rid.getClusterId() == 7 || rid.getClusterPosition() % 3 != 0) {
+        iterator.remove();
+      }
+      count++;
+    }
+    Assert.assertEquals(20_000, count);
+    Assert.assertEquals(3334, set.size());
+    for (ORID rid : set) {
+      Assert.assertEquals(5, rid.getClusterId());
+      Assert.assertEquals(0, rid.getClusterPosition() % 3);
+    }
+  }
+
+  @Test
+  public void testArrayToBitmapAndBack() {
+    OCompactRidSet set = new OCompactRidSet();
+    for (long position = 0; position < 10_000; position += 2) {
+      set.add(new ORecordId(3, position));
+    }
+    for (long position = 0; position < 9_000; position += 2) {
+      Assert.assertTrue(set.remove(new ORecordId(3, position)));
+    }
+    Assert.assertEquals(500, set.size());
+    for (long position = 0; position < 10_000; position++) {
+      Assert.assertEquals(
+          position >= 9_000 && position % 2 == 0, set.contains(new ORecordId(3, position)));
+    }
+    Assert.assertEquals(new ORecordId(3, 9_000), set.iterator().next());
+  }
+
+  @Test
+  public void testRandomAgainstHashSet() {
+    randomAgainstHashSet(new OCompactRidSet());
+  }
+
+  @Test
+  public void testRandomAgainstHashSetOffHeap() {
+    long memory = ODirectMemoryAllocator.instance().getMemoryConsumption();
+    try (OCompactRidSet set = new OCompactRidSet(true)) {
+      Assert.assertTrue(set.isOffHeap());
+      randomAgainstHashSet(set);
+    }
+    Assert.assertEquals(memory, ODirectMemoryAllocator.instance().getMemoryConsumption());
+  }
+
+  private static void randomAgainstHashSet(OCompactRidSet set) {
+    long seed = System.nanoTime();
+    Random random = new Random(seed);
+    Set<ORID> expected = new HashSet<>();
+    for (int i = 0; i < 100_000; i++) {
+      int cluster = random.nextInt(4);
+      // DENSE AND SPARSE POSITIONS, SO BOTH ARRAYS AND BITMAPS ARE USED AND CONVERTED
+      long position = cluster == 3 ? random.nextLong() >>> 1 : random.nextInt(20_000 << cluster);
+      ORID rid = new ORecordId(cluster, position);
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals("seed " + seed, expected.remove(rid), set.remove(rid));
+      } else {
+        Assert.assertEquals("seed " + seed, expected.add(rid), set.add(rid));
+      }
+    }
+    Assert.assertEquals("seed " + seed, expected.size(), set.size());
+    Assert.assertEquals("seed " + seed, expected, new HashSet<>(set));
+    for (ORID rid : expected) {
+      Assert.assertTrue("seed " + seed, set.contains(rid));
+    }
+
+    set.retainAll(new HashSet<>(new ArrayList<>(expected).subList(0, expected.size() / 2)));
+    Assert.assertEquals("seed " + seed, expected.size() / 2, set.size());
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertFalse(set.iterator().hasNext());
+  }
+}
@@ -0,0 +1,110 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OVertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class OMatchFanOutPlanningTest extends TestUtilsFixture {
+
+  private static final String QUERY =
+      "MATCH {class: FanOutA, as: a}.out('FanOutE'){class: FanOutB, as: b, where: (g = 3)}"
+          + " RETURN a.name as aName, b.name as bName";
+
+  @BeforeClass
+  public static void createData() {
+    database.createVertexClass("FanOutA");
+    OClass b = database.createVertexClass("FanOutB");
+    b.createProperty("g", OType.INTEGER);
+    b.createIndex("FanOutB.g", OClass.INDEX_TYPE.NOTUNIQUE, "g");
+    database.createEdgeClass("FanOutE");
+
+    database.begin();
+    for (int i = 0; i < 5; i++) {
+      OVertex a = database.newVertex("FanOutA");
+      a.setProperty("name", "a" + i);
+      a.save();
+      for (int j = 0; j < 60; j++) {
+        int n = i * 60 + j;
+        OVertex target = database.newVertex("FanOutB");
+        target.setProperty("name", "b" + n);
+        target.setProperty("g", n % 10);
+        target.save();
+        a.addEdge(target, "FanOutE").save();
+      }
+    }
+    database.commit();
+  }
+
+  @Test
+  public void testFanOutStatistics() throws InterruptedException {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) database;
+    OEdgeFanOutStatistics statistics = OEdgeFanOutStatistics.get(db);
+    Assert.assertEquals(60, statistics.getFanOut(db, "FanOutA", "FanOutE", ODirection.OUT), 0.001);
+    Assert.assertEquals(1, statistics.getFanOut(db, "FanOutB", "FanOutE", ODirection.IN), 0.001);
+    Assert.assertEquals(0, statistics.getFanOut(db, "FanOutB", "FanOutE", ODirection.OUT), 0.001);
+    Assert.assertEquals(
+        0, statistics.getFanOut(db, "FanOutA", "NoSuchEdgeClass", ODirection.OUT), 0.001);
+    Assert.assertEquals(
+        -1, statistics.getFanOut(db, "NoSuchClass", "FanOutE", ODirection.OUT), 0.001);
+
+    // THE FAN-OUT IS PERSISTED IN BACKGROUND
+    long deadline = System.currentTimeMillis() + 10000;
+    String persisted;
+    while ((persisted =
+                db.getStorage().getConfiguration().getProperty("match.fanOut.out.FanOutA.FanOutE"))
+            == null
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Assert.assertNotNull(persisted);
+  }
+
+  @Test
+  public void testStartFromSelectiveSide() {
+    try (OResultSet result = database.query(QUERY)) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      // THE PATTERN STARTS FROM THE FILTERED B VERTICES AND TRAVERSES THE EDGE BACKWARDS
+      Assert.assertTrue(plan.contains("<----"));
+      Assert.assertTrue(plan.contains("estimated rows"));
+    }
+    Assert.assertEquals(30, collect(QUERY).size());
+  }
+
+  @Test
+  public void testSameResultWithoutStatistics() {
+    List<String> expected = collect(QUERY);
+
+    int sampleSize = OGlobalConfiguration.QUERY_MATCH_FAN_OUT_SAMPLE_SIZE.getValueAsInteger();
+    OGlobalConfiguration.QUERY_MATCH_FAN_OUT_SAMPLE_SIZE.setValue(0);
+    try {
+      try (OResultSet result = database.query(QUERY)) {
+        String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+        Assert.assertTrue(plan.contains("---->"));
+      }
+      Assert.assertEquals(expected, collect(QUERY));
+    } finally {
+      OGlobalConfiguration.QUERY_MATCH_FAN_OUT_SAMPLE_SIZE.setValue(sampleSize);
+    }
+  }
+
+  private List<String> collect(String query) {
+    List<String> rows = new ArrayList<>();
+    try (OResultSet result = database.query(query)) {
+      while (result.hasNext()) {
+        OResult item = result.next();
+        rows.add(item.getProperty("aName") + "-" + item.getProperty("bName"));
+      }
+    }
+    Collections.sort(rows);
+    return rows;
+  }
+}
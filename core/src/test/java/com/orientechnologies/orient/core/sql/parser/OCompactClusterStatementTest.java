@@ -0,0 +1,27 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+
+public class OCompactClusterStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("COMPACT CLUSTER Foo");
+    checkRightSyntax("compact cluster Foo");
+
+    checkRightSyntax("COMPACT CLUSTER 12");
+    checkRightSyntax("COMPACT CLUSTER Foo THROTTLE 10");
+    checkRightSyntax("compact cluster 12 throttle 0");
+
+    checkRightSyntax("COMPACT CLUSTER `Foo bar`");
+
+    checkWrongSyntax("COMPACT CLASS Foo");
+    checkWrongSyntax("COMPACT CLUSTER Foo THROTTLE");
+    checkWrongSyntax("compact cluster Foo bar");
+  }
+
+  @Test
+  public void testKeywordsAsIdentifiers() {
+    checkRightSyntax("SELECT compact, throttle FROM Foo");
+  }
+}
@@ -0,0 +1,151 @@
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
+import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OPaginatedClusterV2BatchCreationTest {
+  private static final String DB_NAME = OPaginatedClusterV2BatchCreationTest.class.getSimpleName();
+
+  private OrientDB orientDB;
+  private ODatabaseDocumentInternal db;
+  private OAbstractPaginatedStorage storage;
+  private OPaginatedClusterV2 cluster;
+
+  @Before
+  public void before() throws IOException {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+    db = (ODatabaseDocumentInternal) orientDB.open(DB_NAME, "admin", "admin");
+    storage = (OAbstractPaginatedStorage) db.getStorage();
+
+    cluster = new OPaginatedClusterV2("batchCreationTest", storage);
+    cluster.configure(42, "batchCreationTest");
+    storage
+        .getAtomicOperationsManager()
+        .executeInsideAtomicOperation(null, atomicOperation -> cluster.create(atomicOperation));
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Test
+  public void testCreateRecords() throws IOException {
+    final List<OPaginatedCluster.NewRecord> records = new ArrayList<>();
+    storage
+        .getAtomicOperationsManager()
+        .executeInsideAtomicOperation(
+            null,
+            atomicOperation -> {
+              for (int i = 0; i < 300; i++) {
+                // A FEW RECORDS DO NOT FIT IN A SINGLE PAGE
+                final byte[] content = new byte[i % 100 == 0 ? OClusterPage.PAGE_SIZE + 10 : 100];
+                content[0] = (byte) i;
+                content[content.length - 1] = (byte) (i + 1);
+                records.add(
+                    new OPaginatedCluster.NewRecord(
+                        content,
+                        0,
+                        (byte) 'b',
+                        cluster.allocatePosition((byte) 'b', atomicOperation)));
+              }
+              // RECORDS ARE STORED IN THE ORDER OF THEIR POSITIONS ANYWAY
+              final List<OPaginatedCluster.NewRecord> reversed = new ArrayList<>(records);
+              Collections.reverse(reversed);
+              cluster.createRecords(reversed, atomicOperation);
+            });
+
+    Assert.assertEquals(300, cluster.getEntries());
+
+    final Set<Long> pages = new HashSet<>();
+    for (final OPaginatedCluster.NewRecord record : records) {
+      final OPhysicalPosition position = record.getPosition();
+      Assert.assertEquals(record.getAllocatedPosition().clusterPosition, position.clusterPosition);
+      Assert.assertEquals((byte) 'b', position.recordType);
+
+      final ORawBuffer buffer = cluster.readRecord(position.clusterPosition, false);
+      Assert.assertArrayEquals(record.getContent(), buffer.buffer);
+      Assert.assertEquals(position.recordVersion, buffer.version);
+
+      if (record.getContent().length == 100) {
+        pages.add(cluster.readDebug(position.clusterPosition).pages.get(0).pageIndex);
+      }
+    }
+    // SMALL RECORDS FILL THE PAGES ONE AFTER THE OTHER
+    Assert.assertTrue(pages.size() <= 297 * 150 / OClusterPage.PAGE_SIZE + 2);
+  }
+
+  @Test
+  public void testCreateRecordsRollback() throws IOException {
+    try {
+      storage
+          .getAtomicOperationsManager()
+          .executeInsideAtomicOperation(
+              null,
+              atomicOperation -> {
+                final List<OPaginatedCluster.NewRecord> records = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                  records.add(new OPaginatedCluster.NewRecord(new byte[100], 0, (byte) 'b', null));
+                }
+                cluster.createRecords(records, atomicOperation);
+                throw new IllegalStateException("rollback");
+              });
+      Assert.fail();
+    } catch (OStorageException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    Assert.assertEquals(0, cluster.getEntries());
+  }
+
+  @Test
+  public void testTransactionCommit() {
+    db.createClass("BatchCreation");
+
+    final List<ODocument> documents = new ArrayList<>();
+    db.begin();
+    for (int i = 0; i < 3000; i++) {
+      final ODocument document = new ODocument("BatchCreation");
+      document.field("value", i);
+      if (i % 1000 == 0) {
+        document.field("big", new byte[OClusterPage.PAGE_SIZE]);
+      }
+      document.save();
+      documents.add(document);
+    }
+    db.commit();
+
+    Assert.assertEquals(3000, db.countClass("BatchCreation"));
+    for (int i = 0; i < documents.size(); i++) {
+      final ODocument document = documents.get(i);
+      Assert.assertTrue(document.getIdentity().isPersistent());
+      Assert.assertFalse(document.isDirty());
+
+      final ODocument loaded = db.load(document.getIdentity(), null, true);
+      Assert.assertEquals(i, (int) loaded.field("value"));
+      Assert.assertEquals(document.getVersion(), loaded.getVersion());
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OPageRedoDispatcherTest {
+
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() throws IOException {
+    final Map<OWALRecord, Integer> sequence = new IdentityHashMap<>();
+    final List<OWALRecord> records = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      final OWALRecord record = new OUpdatePageRecord();
+      sequence.put(record, i);
+      records.add(record);
+    }
+
+    final Map<Long, List<Integer>> applied = new ConcurrentHashMap<>();
+    final Map<Long, Thread> threads = new ConcurrentHashMap<>();
+    try (OPageRedoDispatcher dispatcher =
+        new OPageRedoDispatcher(
+            "test",
+            4,
+            (record, fileId, pageIndex) -> {
+              final long page = fileId * 100 + pageIndex;
+              Assert.assertSame(
+                  threads.computeIfAbsent(page, p -> Thread.currentThread()),
+                  Thread.currentThread());
+              applied
+                  .computeIfAbsent(page, p -> Collections.synchronizedList(new ArrayList<>()))
+                  .add(sequence.get(record));
+            })) {
+      for (int i = 0; i < records.size(); i++) {
+        dispatcher.dispatch(records.get(i), i % 3, i % 17);
+      }
+      dispatcher.barrier();
+
+      Assert.assertEquals(10_000, dispatcher.getAppliedChanges());
+      Assert.assertEquals(4, dispatcher.getThreads());
+    }
+
+    Assert.assertEquals(3 * 17, applied.size());
+    for (List<Integer> changes : applied.values()) {
+      final List<Integer> sorted = new ArrayList<>(changes);
+      Collections.sort(sorted);
+      Assert.assertEquals(sorted, changes);
+    }
+  }
+
+  @Test
+  public void testSingleThreadAppliesChangesOnCaller() throws IOException {
+    final Thread caller = Thread.currentThread();
+    final AtomicInteger applied = new AtomicInteger();
+    try (OPageRedoDispatcher dispatcher =
+        new OPageRedoDispatcher(
+            "test",
+            1,
+            (record, fileId, pageIndex) -> {
+              Assert.assertSame(caller, Thread.currentThread());
+              applied.incrementAndGet();
+            })) {
+      dispatcher.dispatch(new OUpdatePageRecord(), 1, 1);
+      Assert.assertEquals(1, applied.get());
+    }
+  }
+
+  @Test
+  public void testFailureIsReportedByBarrier() throws IOException {
+    try (OPageRedoDispatcher dispatcher =
+        new OPageRedoDispatcher(
+            "test",
+            2,
+            (record, fileId, pageIndex) -> {
+              if (pageIndex == 5) {
+                throw new IOException("broken page");
+              }
+            })) {
+      for (int i = 0; i < 10; i++) {
+        dispatcher.dispatch(new OUpdatePageRecord(), 1, i);
+      }
+      try {
+        dispatcher.barrier();
+        Assert.fail();
+      } catch (IOException e) {
+        Assert.assertEquals("broken page", e.getMessage());
+      }
+
+      try {
+        dispatcher.dispatch(new OUpdatePageRecord(), 1, 1);
+        Assert.fail();
+      } catch (IOException | OStorageException e) {
+        // EXPECTED
+      }
+    }
+  }
+
+  @Test
+  public void testChangesOfPreviousUnitsAreAppliedAfterFailure() throws IOException {
+    final AtomicInteger applied = new AtomicInteger();
+    try (OPageRedoDispatcher dispatcher =
+        new OPageRedoDispatcher(
+            "test",
+            4,
+            (record, fileId, pageIndex) -> {
+              if (fileId == 2) {
+                throw new IOException("broken page");
+              }
+              applied.incrementAndGet();
+            })) {
+      dispatcher.startUnit();
+      for (int i = 0; i < 1_000; i++) {
+        dispatcher.dispatch(new OUpdatePageRecord(), 1, i);
+      }
+      dispatcher.startUnit();
+      // THE FAILED CHANGE MAY BE APPLIED BEFORE THE QUEUED CHANGES OF THE PREVIOUS UNIT
+      dispatcher.dispatch(new OUpdatePageRecord(), 2, 0);
+
+      try {
+        dispatcher.barrier();
+        Assert.fail();
+      } catch (IOException e) {
+        Assert.assertEquals("broken page", e.getMessage());
+      }
+      Assert.assertEquals(1_000, applied.get());
+
+      try {
+        dispatcher.startUnit();
+        Assert.fail();
+      } catch (IOException e) {
+        Assert.assertEquals("broken page", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.PageOperationRecord;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ClusterPageAppendRecordsPOTest {
+  @Test
+  public void testRedo() {
+    final int pageSize = OClusterPage.PAGE_SIZE;
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize);
+    try {
+      final OPointer pointer = byteBufferPool.acquireDirect(false);
+      final OCachePointer cachePointer = new OCachePointer(pointer, byteBufferPool, 0, 0);
+      final OCacheEntry entry = new OCacheEntryImpl(0, 0, cachePointer, false);
+
+      OClusterPage clusterPage = new OClusterPage(entry);
+      clusterPage.init();
+
+      clusterPage.appendRecord(1, new byte[] {1}, -1, Collections.emptySet());
+      clusterPage.appendRecord(2, new byte[] {2}, -1, Collections.emptySet());
+      clusterPage.deleteRecord(0, true);
+
+      entry.clearPageOperations();
+
+      final OPointer restoredPointer = byteBufferPool.acquireDirect(false);
+      final OCachePointer restoredCachePointer =
+          new OCachePointer(restoredPointer, byteBufferPool, 0, 0);
+      final OCacheEntry restoredCacheEntry = new OCacheEntryImpl(0, 0, restoredCachePointer, false);
+
+      final ByteBuffer originalBuffer = cachePointer.getBufferDuplicate();
+      final ByteBuffer restoredBuffer = restoredCachePointer.getBufferDuplicate();
+
+      Assert.assertNotNull(originalBuffer);
+      Assert.assertNotNull(restoredBuffer);
+
+      restoredBuffer.put(originalBuffer);
+
+      final int[] positions = new int[3];
+      final int appended =
+          clusterPage.appendRecords(
+              new int[] {3, 4, 5},
+              new byte[][] {{3}, {4}, {5}},
+              0,
+              positions,
+              Collections.emptySet());
+      Assert.assertEquals(3, appended);
+      Assert.assertArrayEquals(new int[] {0, 2, 3}, positions);
+
+      final List<PageOperationRecord> operations = entry.getPageOperations();
+      Assert.assertEquals(1, operations.size());
+
+      Assert.assertTrue(operations.get(0) instanceof ClusterPageAppendRecordsPO);
+
+      final ClusterPageAppendRecordsPO pageOperation =
+          (ClusterPageAppendRecordsPO) operations.get(0);
+
+      OClusterPage restoredPage = new OClusterPage(restoredCacheEntry);
+      Assert.assertEquals(1, restoredPage.getRecordsCount());
+
+      pageOperation.redo(restoredCacheEntry);
+
+      Assert.assertEquals(4, restoredPage.getRecordsCount());
+
+      Assert.assertEquals(3, restoredPage.getRecordVersion(0));
+      Assert.assertEquals(2, restoredPage.getRecordVersion(1));
+      Assert.assertEquals(4, restoredPage.getRecordVersion(2));
+      Assert.assertEquals(5, restoredPage.getRecordVersion(3));
+
+      Assert.assertArrayEquals(new byte[] {3}, restoredPage.getRecordBinaryValue(0, 0, 1));
+      Assert.assertArrayEquals(new byte[] {2}, restoredPage.getRecordBinaryValue(1, 0, 1));
+      Assert.assertArrayEquals(new byte[] {4}, restoredPage.getRecordBinaryValue(2, 0, 1));
+      Assert.assertArrayEquals(new byte[] {5}, restoredPage.getRecordBinaryValue(3, 0, 1));
+
+      byteBufferPool.release(pointer);
+      byteBufferPool.release(restoredPointer);
+    } finally {
+      byteBufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testUndo() {
+    final int pageSize = OClusterPage.PAGE_SIZE;
+
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize);
+    try {
+      final OPointer pointer = byteBufferPool.acquireDirect(false);
+      final OCachePointer cachePointer = new OCachePointer(pointer, byteBufferPool, 0, 0);
+      final OCacheEntry entry = new OCacheEntryImpl(0, 0, cachePointer, false);
+
+      OClusterPage clusterPage = new OClusterPage(entry);
+      clusterPage.init();
+
+      clusterPage.appendRecord(1, new byte[] {1}, -1, Collections.emptySet());
+      clusterPage.appendRecord(2, new byte[] {2}, -1, Collections.emptySet());
+
+      entry.clearPageOperations();
+
+      final int[] positions = new int[3];
+      clusterPage.appendRecords(
+          new int[] {0, 3, 4}, new byte[][] {{0}, {3}, {4}}, 1, positions, Collections.emptySet());
+
+      final List<PageOperationRecord> operations = entry.getPageOperations();
+      Assert.assertEquals(1, operations.size());
+
+      final ClusterPageAppendRecordsPO pageOperation =
+          (ClusterPageAppendRecordsPO) operations.get(0);
+      Assert.assertArrayEquals(new int[] {2, 3}, pageOperation.getRecordPositions());
+
+      final OClusterPage restoredPage = new OClusterPage(entry);
+      Assert.assertEquals(4, restoredPage.getRecordsCount());
+
+      pageOperation.undo(entry);
+
+      Assert.assertEquals(2, restoredPage.getRecordsCount());
+
+      Assert.assertEquals(1, restoredPage.getRecordVersion(0));
+      Assert.assertEquals(2, restoredPage.getRecordVersion(1));
+
+      Assert.assertArrayEquals(new byte[] {1}, restoredPage.getRecordBinaryValue(0, 0, 1));
+      Assert.assertArrayEquals(new byte[] {2}, restoredPage.getRecordBinaryValue(1, 0, 1));
+
+      byteBufferPool.release(pointer);
+    } finally {
+      byteBufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testSerialization() {
+    ClusterPageAppendRecordsPO operation =
+        new ClusterPageAppendRecordsPO(
+            new int[] {12, 13},
+            new byte[][] {{4, 2}, {1}},
+            new int[] {45, 46},
+            new boolean[] {true, false});
+
+    operation.setFileId(42);
+    operation.setPageIndex(24);
+    operation.setOperationUnitId(1);
+
+    final int serializedSize = operation.serializedSize();
+    final byte[] stream = new byte[serializedSize + 1];
+    int pos = operation.toStream(stream, 1);
+
+    Assert.assertEquals(serializedSize + 1, pos);
+
+    ClusterPageAppendRecordsPO restoredOperation = new ClusterPageAppendRecordsPO();
+    restoredOperation.fromStream(stream, 1);
+
+    Assert.assertEquals(42, restoredOperation.getFileId());
+    Assert.assertEquals(24, restoredOperation.getPageIndex());
+    Assert.assertEquals(1, restoredOperation.getOperationUnitId());
+
+    Assert.assertArrayEquals(new int[] {12, 13}, restoredOperation.getRecordVersions());
+    Assert.assertArrayEquals(new byte[] {4, 2}, restoredOperation.getRecords()[0]);
+    Assert.assertArrayEquals(new byte[] {1}, restoredOperation.getRecords()[1]);
+    Assert.assertArrayEquals(new int[] {45, 46}, restoredOperation.getRecordPositions());
+    Assert.assertArrayEquals(
+        new boolean[] {true, false}, restoredOperation.getAllocatedFromFreeList());
+  }
+}
@@ -0,0 +1,223 @@
+package com.orientechnologies.orient.core.tx;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializerDelta;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TransactionSpillTest {
+  private static final int THRESHOLD = 10;
+  private static final int RECORDS = 300;
+
+  private OrientDB orientDB;
+  private ODatabaseDocumentInternal db;
+  private List<ORID> rids;
+
+  @Before
+  public void before() {
+    orientDB =
+        new OrientDB(
+            "embedded:",
+            OrientDBConfig.builder()
+                .addConfig(OGlobalConfiguration.TX_SPILL_THRESHOLD, THRESHOLD)
+                .build());
+    orientDB.create("test", ODatabaseType.MEMORY);
+    db = (ODatabaseDocumentInternal) orientDB.open("test", "admin", "admin");
+
+    final OClass clazz = db.createClass("Item");
+    clazz.createProperty("key", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+
+    rids = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      rids.add(
+          db.save(new ODocument("Item").field("key", i).field("value", "v" + i)).getIdentity());
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.close();
+  }
+
+  @Test
+  public void testNewRecordsAreSpilledAndCommitted() {
+    db.begin();
+    final List<ORID> created = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document =
+          new ODocument("Item").field("key", RECORDS + i).field("value", "new" + i);
+      created.add(db.save(document).getIdentity());
+    }
+
+    Assert.assertTrue(countSpilled() >= RECORDS - THRESHOLD);
+    // THE SPILLED RECORDS ARE NOT USED ANYMORE, THEY ARE LOADED BACK FROM THE SPILL FILE
+    System.gc();
+
+    // THE TRANSACTION SEES ITS OWN CHANGES
+    final ODocument first = db.load(created.get(0));
+    Assert.assertEquals("new0", first.field("value"));
+    Assert.assertEquals(RECORDS, (int) first.<Integer>field("key"));
+
+    final OIndex index = db.getMetadata().getIndexManagerInternal().getIndex(db, "Item.key");
+    try (Stream<ORID> stream = index.getInternal().getRids(RECORDS + 5)) {
+      Assert.assertEquals(created.get(5), stream.findFirst().orElse(null));
+    }
+
+    db.commit();
+
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = db.load(created.get(i));
+      Assert.assertTrue(document.getIdentity().isPersistent());
+      Assert.assertEquals("new" + i, document.field("value"));
+      Assert.assertEquals(i + RECORDS, (int) document.<Integer>field("key"));
+    }
+
+    try (OResultSet result = db.query("select from Item where key = ?", RECORDS + 7)) {
+      Assert.assertEquals(created.get(7), result.next().getIdentity().get());
+    }
+    Assert.assertEquals(2 * RECORDS, db.countClass("Item"));
+  }
+
+  @Test
+  public void testUpdatedDocumentsKeepTheirChanges() {
+    db.begin();
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      document.field("value", "updated");
+      db.save(document);
+    }
+    Assert.assertEquals(0, countSpilled());
+
+    // THE DELTA OF AN UPDATED DOCUMENT IS BUILT FROM THE TRACKING OF ITS CHANGES
+    final ODocumentSerializerDelta serializer = ODocumentSerializerDelta.instance();
+    final ODocument updated = (ODocument) db.getTransaction().getRecord(rids.get(3));
+    final ODocument original = new ODocument("Item").field("key", 3).field("value", "v3");
+    serializer.deserializeDelta(serializer.serializeDelta(updated), original);
+    Assert.assertEquals("updated", original.field("value"));
+    db.commit();
+
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      Assert.assertEquals("updated", document.field("value"));
+      Assert.assertEquals(2, document.getVersion());
+    }
+  }
+
+  @Test
+  public void testReferencedRecordsStayConsistent() {
+    db.begin();
+    final ODocument kept = db.load(rids.get(0));
+    kept.field("value", "kept");
+    db.save(kept);
+
+    final List<ODocument> created = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = new ODocument("Item").field("key", RECORDS + i);
+      db.save(document);
+      if (i % 50 == 0) {
+        created.add(document);
+      }
+    }
+    Assert.assertTrue(countSpilled() > 0);
+    db.commit();
+
+    // THE INSTANCES STILL USED BY THE APPLICATION ARE UPDATED BY THE COMMIT
+    Assert.assertEquals(2, kept.getVersion());
+    for (ODocument document : created) {
+      Assert.assertTrue(document.getIdentity().isPersistent());
+      final ODocument loaded = db.load(document.getIdentity());
+      Assert.assertEquals((Integer) document.field("key"), loaded.<Integer>field("key"));
+    }
+
+    kept.field("value", "again");
+    db.save(kept);
+    Assert.assertEquals("again", db.<ODocument>load(rids.get(0)).field("value"));
+    Assert.assertEquals(2 * RECORDS, db.countClass("Item"));
+  }
+
+  @Test
+  public void testRecordsLinkingNewRecordsAreNotSpilled() {
+    db.begin();
+    ODocument previous = null;
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = new ODocument("Item").field("key", RECORDS + i);
+      if (previous != null) {
+        document.field("previous", previous);
+      }
+      db.save(document);
+      previous = document;
+    }
+    Assert.assertEquals(1, countSpilled());
+    db.commit();
+
+    try (OResultSet result =
+        db.query("select previous.key as previous from Item where key = ?", 2 * RECORDS - 1)) {
+      Assert.assertEquals(2 * RECORDS - 2, (int) result.next().<Integer>getProperty("previous"));
+    }
+  }
+
+  @Test
+  public void testRollback() {
+    db.begin();
+    for (int i = 0; i < RECORDS; i++) {
+      db.save(new ODocument("Item").field("key", RECORDS + i));
+    }
+    Assert.assertTrue(countSpilled() > 0);
+    db.rollback();
+
+    Assert.assertEquals(RECORDS, db.countClass("Item"));
+  }
+
+  @Test
+  public void testSpillFileIsReadInAnyOrder() throws Exception {
+    final List<byte[]> contents = new ArrayList<>();
+    final List<Long> positions = new ArrayList<>();
+    try (OTransactionSpillFile file = new OTransactionSpillFile()) {
+      final Random random = new Random(42);
+      for (int i = 0; i < 500; i++) {
+        // SOME CONTENTS ARE BIGGER THAN THE BUFFERS
+        final byte[] content = new byte[i % 100 == 0 ? 100_000 : random.nextInt(2_000)];
+        random.nextBytes(content);
+        contents.add(content);
+        positions.add(file.write(content));
+      }
+
+      for (int i = 0; i < contents.size(); i++) {
+        Assert.assertArrayEquals(
+            contents.get(i), file.read(positions.get(i), contents.get(i).length));
+      }
+      for (int i = contents.size() - 1; i >= 0; i -= 7) {
+        Assert.assertArrayEquals(
+            contents.get(i), file.read(positions.get(i), contents.get(i).length));
+      }
+    }
+  }
+
+  private int countSpilled() {
+    int spilled = 0;
+    for (ORecordOperation operation : db.getTransaction().getRecordOperations()) {
+      if (operation.getRecordContainer() instanceof OSpilledRecord) {
+        spilled++;
+      }
+    }
+    return spilled;
+  }
+}
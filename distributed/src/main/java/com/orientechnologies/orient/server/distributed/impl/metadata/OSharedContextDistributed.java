@@ -86,6 +86,7 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
   @Override
   public synchronized void close() {
     viewManager.close();
+    graphSnapshotManager.close();
     schema.close();
     security.close();
     indexManager.close();
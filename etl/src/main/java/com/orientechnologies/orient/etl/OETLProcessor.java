@@ -32,6 +32,8 @@ import com.orientechnologies.orient.etl.context.OETLContextWrapper;
 import com.orientechnologies.orient.etl.extractor.OETLExtractor;
 import com.orientechnologies.orient.etl.loader.OETLLoader;
 import com.orientechnologies.orient.etl.source.OETLSource;
+import com.orientechnologies.orient.etl.transformer.OETLAbstractLookupTransformer;
+import com.orientechnologies.orient.etl.transformer.OETLLookupCache;
 import com.orientechnologies.orient.etl.transformer.OETLTransformer;
 import java.util.List;
 import java.util.Locale;
@@ -277,6 +279,27 @@ public class OETLProcessor {
 
     OETLContextWrapper.getInstance().getMessageHandler().info(this, "END ETL PROCESSOR");
     dumpProgress();
+    dumpLookupCacheStats();
+  }
+
+  protected void dumpLookupCacheStats() {
+    for (OETLTransformer t : transformers) {
+      if (!(t instanceof OETLAbstractLookupTransformer)) continue;
+
+      final OETLLookupCache cache = ((OETLAbstractLookupTransformer) t).getLookupCache();
+      if (cache == null) continue;
+
+      OETLContextWrapper.getInstance()
+          .getMessageHandler()
+          .info(
+              this,
+              "+ lookup cache of transformer '%s': %,d entries, %,d hits, %,d misses (%3.2f%% hit rate)",
+              t.getName(),
+              cache.size(),
+              cache.getHits(),
+              cache.getMisses(),
+              cache.getHitRate());
+    }
   }
 
   protected void dumpProgress() {
@@ -18,6 +18,8 @@
 
 package com.orientechnologies.orient.etl.transformer;
 
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -30,8 +32,13 @@ import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.etl.context.OETLContextWrapper;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,6 +48,9 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
   protected Object joinValue;
   protected String lookup;
   protected ACTION unresolvedLinkAction = ACTION.NOTHING;
+  protected OETLLookupCache lookupCache;
+  protected boolean lookupCachePreload = false;
+  private volatile boolean initialized;
   private OSQLQuery<ODocument> sqlQuery;
   private OIndex index;
 
@@ -58,34 +68,54 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
       unresolvedLinkAction =
           ACTION.valueOf(
               iConfiguration.field("unresolvedLinkAction").toString().toUpperCase(Locale.ENGLISH));
+
+    if (iConfiguration.containsField("lookupCacheSize")) {
+      final int cacheSize = ((Number) iConfiguration.field("lookupCacheSize")).intValue();
+      if (cacheSize > 0) lookupCache = new OETLLookupCache(cacheSize);
+    }
+
+    if (iConfiguration.containsField("lookupCachePreload"))
+      lookupCachePreload = (Boolean) iConfiguration.field("lookupCachePreload");
+  }
+
+  protected String getLookupConfigurationParameters() {
+    return "{lookup:{optional:false,description:'<Class>.<property> or Query to execute'}},"
+        + "{lookupCacheSize:{optional:true,description:'Maximum number of resolved lookups kept in memory. Default is 0 (no cache)'}},"
+        + "{lookupCachePreload:{optional:true,description:'Fills the lookup cache scanning the lookup index before the first lookup', default:false}}";
+  }
+
+  /** Returns the lookup result cache, or <code>null</code> if the cache is disabled. */
+  public OETLLookupCache getLookupCache() {
+    return lookupCache;
   }
 
+  /**
+   * Resolves the join value of the current row. Rows go through the pipeline one at a time, each in
+   * its own transaction, and a row can look up records created by the previous ones, so the keys of
+   * different rows are not resolved together: repeated keys are served by the lookup cache and the
+   * index can be loaded in bulk with <code>lookupCachePreload</code>.
+   */
   protected Object lookup(
       ODatabaseDocumentInternal db, Object joinValue, final boolean iReturnRIDS) {
     Object result = null;
 
     if (joinValue != null) {
-      if (sqlQuery == null && index == null) {
+      if (!initialized) {
         // ONLY THE FIRST TIME
-        if (lookup.toUpperCase(Locale.ENGLISH).startsWith("SELECT"))
-          sqlQuery = new OSQLSynchQuery<>(lookup);
-        else {
-          index = db.getMetadata().getIndexManagerInternal().getIndex(db, lookup);
-          if (index == null) {
-            OETLContextWrapper.getInstance()
-                .getMessageHandler()
-                .warn(this, "WARNING: index %s not found. Lookups could be really slow", lookup);
-            final String[] parts = lookup.split("\\.");
-            sqlQuery =
-                new OSQLSynchQuery<ODocument>(
-                    "SELECT FROM " + parts[0] + " WHERE " + parts[1] + " = ?");
-          }
-        }
+        initLookup(db);
       }
 
       if (index != null) {
         final OType idxFieldType = index.getDefinition().getTypes()[0];
         joinValue = OType.convert(joinValue, idxFieldType.getDefaultJavaType());
+      }
+
+      if (iReturnRIDS && lookupCache != null) {
+        final Object cached = lookupCache.get(joinValue);
+        if (cached != null) return copyOf(cached);
+      }
+
+      if (index != null) {
         //noinspection resource
         result = index.getInternal().getRids(joinValue);
       } else {
@@ -97,13 +127,17 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
       if (result instanceof Stream) {
         @SuppressWarnings("unchecked")
         final Stream<ORID> stream = (Stream<ORID>) result;
-        final List<ORID> rids = stream.collect(Collectors.toList());
+        final List<ORID> rids;
+        try {
+          rids = stream.collect(Collectors.toList());
+        } finally {
+          stream.close();
+        }
         if (rids.isEmpty()) {
           return null;
         }
-        return rids;
-      }
-      if (result != null && result instanceof Collection) {
+        result = rids;
+      } else if (result != null && result instanceof Collection) {
         final Collection coll = (Collection) result;
 
         if (!coll.isEmpty()) {
@@ -120,8 +154,149 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
         if (iReturnRIDS) result = ((OIdentifiable) result).getIdentity();
         else result = ((OIdentifiable) result).getRecord();
       }
+
+      if (iReturnRIDS && lookupCache != null && result != null) {
+        lookupCache.put(joinValue, result);
+        result = copyOf(result);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Resolves the values of a multi-valued join field of the current row at once, returning the RIDs
+   * found for every value in the same order of the values. When the lookup is an index the keys not
+   * found in the cache are resolved with a single multi-key index scan instead of one index access
+   * per key.
+   *
+   * <p>Only the values of one row are batched: single-valued joins are resolved by {@link
+   * #lookup(ODatabaseDocumentInternal, Object, boolean)} because every row is transformed and
+   * committed on its own and can link the vertices created by the previous rows. Keys repeated
+   * across rows are served by the lookup cache. A key repeated in the same row gets the same result
+   * for every occurrence, so the caller has to reuse what it creates for the first one.
+   */
+  protected List<Object> lookupAll(ODatabaseDocumentInternal db, final Iterable<?> joinValues) {
+    final List<Object> values = new ArrayList<>();
+    for (Object o : joinValues) values.add(o);
+
+    if (values.isEmpty()) return new ArrayList<>();
+
+    if (!initialized) initLookup(db);
+
+    if (!isBatchLookupSupported()) {
+      final List<Object> results = new ArrayList<>(values.size());
+      for (Object o : values) results.add(lookup(db, o, true));
+      return results;
+    }
+
+    final OType idxFieldType = index.getDefinition().getTypes()[0];
+    final Object[] keys = new Object[values.size()];
+    final Object[] results = new Object[values.size()];
+    final Set<Object> missing = new HashSet<>();
+    for (int i = 0; i < keys.length; i++) {
+      final Object value = values.get(i);
+      if (value == null) continue;
+
+      keys[i] = OType.convert(value, idxFieldType.getDefaultJavaType());
+      if (keys[i] == null) continue;
+
+      if (lookupCache != null) results[i] = lookupCache.get(keys[i]);
+      if (results[i] == null) missing.add(keys[i]);
     }
 
+    if (!missing.isEmpty()) {
+      final Map<Object, List<ORID>> found = new HashMap<>();
+      try (Stream<ORawPair<Object, ORID>> stream =
+          index.getInternal().streamEntries(missing, true)) {
+        stream.forEach(
+            entry -> found.computeIfAbsent(entry.first, k -> new ArrayList<>()).add(entry.second));
+      }
+
+      for (int i = 0; i < keys.length; i++) {
+        if (results[i] == null && keys[i] != null) {
+          results[i] = found.get(keys[i]);
+          if (lookupCache != null) lookupCache.put(keys[i], results[i]);
+        }
+      }
+    }
+
+    final List<Object> result = new ArrayList<>(results.length);
+    for (Object o : results) result.add(copyOf(o));
+    return result;
+  }
+
+  private boolean isBatchLookupSupported() {
+    return index != null
+        && index.getDefinition().getParamCount() == 1
+        && index.getDefinition().getCollate() instanceof ODefaultCollate;
+  }
+
+  private synchronized void initLookup(final ODatabaseDocumentInternal db) {
+    if (initialized) return;
+
+    if (lookup.toUpperCase(Locale.ENGLISH).startsWith("SELECT"))
+      sqlQuery = new OSQLSynchQuery<>(lookup);
+    else {
+      index = db.getMetadata().getIndexManagerInternal().getIndex(db, lookup);
+      if (index == null) {
+        OETLContextWrapper.getInstance()
+            .getMessageHandler()
+            .warn(this, "WARNING: index %s not found. Lookups could be really slow", lookup);
+        final String[] parts = lookup.split("\\.");
+        sqlQuery =
+            new OSQLSynchQuery<ODocument>(
+                "SELECT FROM " + parts[0] + " WHERE " + parts[1] + " = ?");
+      } else if (lookupCache != null && lookupCachePreload && isBatchLookupSupported()) {
+        preloadCache();
+      }
+    }
+
+    initialized = true;
+  }
+
+  private void preloadCache() {
+    final long begin = System.currentTimeMillis();
+
+    try (Stream<ORawPair<Object, ORID>> stream = index.getInternal().stream()) {
+      final Iterator<ORawPair<Object, ORID>> it = stream.iterator();
+
+      // ENTRIES ARE SORTED BY KEY: GROUP THE RIDS OF THE SAME KEY BEFORE CACHING THEM
+      Object currentKey = null;
+      List<ORID> currentRids = null;
+      while (it.hasNext()) {
+        final ORawPair<Object, ORID> entry = it.next();
+        if (currentRids != null && entry.first != null && entry.first.equals(currentKey)) {
+          currentRids.add(entry.second);
+          continue;
+        }
+
+        if (currentRids != null) lookupCache.put(currentKey, currentRids);
+        if (lookupCache.isFull()) {
+          currentRids = null;
+          break;
+        }
+
+        currentKey = entry.first;
+        currentRids = new ArrayList<>();
+        currentRids.add(entry.second);
+      }
+
+      if (currentRids != null) lookupCache.put(currentKey, currentRids);
+    }
+
+    OETLContextWrapper.getInstance()
+        .getMessageHandler()
+        .info(
+            this,
+            "Preloaded %,d keys of index %s in the lookup cache in %,dms",
+            lookupCache.size(),
+            lookup,
+            System.currentTimeMillis() - begin);
+  }
+
+  private static Object copyOf(final Object result) {
+    if (result instanceof List) return new ArrayList<>((List<?>) result);
     return result;
   }
 
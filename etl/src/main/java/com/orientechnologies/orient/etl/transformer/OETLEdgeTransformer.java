@@ -24,6 +24,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.OEdge;
 import com.orientechnologies.orient.core.record.OElement;
@@ -32,7 +33,9 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.etl.OETLProcessHaltedException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
@@ -51,7 +54,8 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
                 + ","
                 + "{joinValue:{optional:true,description:'value to use for join'}},"
                 + "{joinFieldName:{optional:true,description:'field name containing the value to join'}},"
-                + "{lookup:{optional:false,description:'<Class>.<property> or Query to execute'}},"
+                + getLookupConfigurationParameters()
+                + ","
                 + "{direction:{optional:true,description:'Direction between \'in\' and \'out\'. Default is \'out\''}},"
                 + "{class:{optional:true,description:'Edge class name. Default is \'E\''}},"
                 + "{targetVertexFields:{optional:true,description:'Map of fields to set in target vertex. Use ${$input.<field>} to get input field values'}},"
@@ -116,9 +120,16 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
 
       if (OMultiValue.isMultiValue(joinCurrentValue)) {
         // RESOLVE SINGLE JOINS
-        for (Object ob : OMultiValue.getMultiValueIterable(joinCurrentValue)) {
-          final Object r = lookup((ODatabaseDocumentInternal) db, ob, true);
-          if (createEdge(db, vertex, ob, r) == null) {
+        final List<Object> joinValues = new ArrayList<>();
+        for (Object ob : OMultiValue.getMultiValueIterable(joinCurrentValue)) joinValues.add(ob);
+
+        final List<Object> results = lookupAll((ODatabaseDocumentInternal) db, joinValues);
+        // A KEY CAN BE REPEATED IN THE ROW: THE VERTEX CREATED FOR ITS FIRST OCCURRENCE IS REUSED
+        final Map<Object, ORID> createdVertices = new HashMap<>();
+        for (int i = 0; i < joinValues.size(); i++) {
+          final Object ob = joinValues.get(i);
+          final Object r = results.get(i);
+          if (createEdge(db, vertex, ob, r, createdVertices) == null) {
             if (unresolvedLinkAction == ACTION.SKIP)
               // RETURN NULL ONLY IN CASE SKIP ACTION IS REQUESTED
               return null;
@@ -126,7 +137,7 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
         }
       } else {
         final Object result = lookup((ODatabaseDocumentInternal) db, joinCurrentValue, true);
-        if (createEdge(db, vertex, joinCurrentValue, result) == null) {
+        if (createEdge(db, vertex, joinCurrentValue, result, null) == null) {
           if (unresolvedLinkAction == ACTION.SKIP)
             // RETURN NULL ONLY IN CASE SKIP ACTION IS REQUESTED
             return null;
@@ -137,8 +148,20 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
     return input;
   }
 
+  /**
+   * @param createdVertices vertices created by the <code>CREATE</code> action for the previous join
+   *     values of the same row, they are not visible to the lookup until the row is committed. It
+   *     can be <code>null</code>
+   */
   private List<OEdge> createEdge(
-      ODatabaseDocument db, final OVertex vertex, final Object joinCurrentValue, Object result) {
+      ODatabaseDocument db,
+      final OVertex vertex,
+      final Object joinCurrentValue,
+      Object result,
+      final Map<Object, ORID> createdVertices) {
+    if (result == null && createdVertices != null && joinCurrentValue != null)
+      result = createdVertices.get(joinCurrentValue);
+
     log(Level.FINE, "joinCurrentValue=%s, lookupResult=%s", joinCurrentValue, result);
 
     if (result == null) {
@@ -162,6 +185,8 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
               log(Level.FINE, "created new vertex=" + linkedV.getRecord());
 
               result = linkedV.getIdentity();
+              if (createdVertices != null)
+                createdVertices.put(joinCurrentValue, linkedV.getIdentity());
             } else {
               throw new OConfigurationException(
                   "Cannot create linked document because target class is unknown. Use 'lookup' field");
@@ -51,7 +51,8 @@ public class OETLLinkTransformer extends OETLAbstractLookupTransformer {
                 + "{joinValue:{optional:true,description:'value to use in lookup query'}},"
                 + "{linkFieldName:{optional:false,description:'field name containing the link to set'}},"
                 + "{linkFieldType:{optional:true,description:'field type containing the link to set. Use LINK for single link and LINKSET or LINKLIST for many'}},"
-                + "{lookup:{optional:false,description:'<Class>.<property> or Query to execute'}},"
+                + getLookupConfigurationParameters()
+                + ","
                 + "{unresolvedLinkAction:{optional:true,description:'action when a unresolved link is found',values:"
                 + stringArray2Json(ACTION.values())
                 + "}}],"
@@ -92,11 +93,9 @@ public class OETLLinkTransformer extends OETLAbstractLookupTransformer {
     Object result;
     if (OMultiValue.isMultiValue(joinRuntimeValue)) {
       // RESOLVE SINGLE JOINS
-      final Collection<Object> singleJoinsResult = new ArrayList<Object>();
-      for (Object o : OMultiValue.getMultiValueIterable(joinRuntimeValue)) {
-        singleJoinsResult.add(lookup((ODatabaseDocumentInternal) db, o, true));
-      }
-      result = singleJoinsResult;
+      result =
+          lookupAll(
+              (ODatabaseDocumentInternal) db, OMultiValue.getMultiValueIterable(joinRuntimeValue));
     } else result = lookup((ODatabaseDocumentInternal) db, joinRuntimeValue, true);
 
     log(Level.FINE, "joinRuntimeValue=%s, lookupResult=%s", joinRuntimeValue, result);
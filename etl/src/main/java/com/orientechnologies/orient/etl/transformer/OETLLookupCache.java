@@ -0,0 +1,100 @@
+/*
+ *
+ *  * Copyright 2010-2016 OrientDB LTD (info(-at-)orientdb.com)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ */
+
+package com.orientechnologies.orient.etl.transformer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of lookup results (key to RID or list of RIDs) shared by all the pipelines of a
+ * lookup transformer. Only resolved keys are cached, so records created during the load (for
+ * example with <code>unresolvedLinkAction:'CREATE'</code>) are found by the next lookup.
+ */
+public class OETLLookupCache {
+  private final int maxSize;
+  private final Map<Object, Object> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public OETLLookupCache(final int maxSize) {
+    this.maxSize = maxSize;
+    this.entries =
+        new LinkedHashMap<Object, Object>(Math.min(maxSize, 1 << 16), 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Object, Object> eldest) {
+            return size() > OETLLookupCache.this.maxSize;
+          }
+        };
+  }
+
+  /** Returns the cached result for the key, or <code>null</code> if it is not cached. */
+  public Object get(final Object key) {
+    final Object result;
+    synchronized (entries) {
+      result = entries.get(key);
+    }
+
+    if (result != null) hits.incrementAndGet();
+    else misses.incrementAndGet();
+
+    return result;
+  }
+
+  public void put(final Object key, final Object result) {
+    if (key == null || result == null) return;
+
+    synchronized (entries) {
+      entries.put(key, result);
+    }
+  }
+
+  /** Returns <code>true</code> if no more entries can be added without evicting others. */
+  public boolean isFull() {
+    synchronized (entries) {
+      return entries.size() >= maxSize;
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public float getHitRate() {
+    final long h = hits.get();
+    final long total = h + misses.get();
+    return total > 0 ? h * 100f / total : 0f;
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+}
@@ -131,6 +131,35 @@ public class OETLEdgeTransformerTest extends OETLBaseTest {
     pool.close();
   }
 
+  @Test
+  public void testCreateRepeatedUnresolvedValueOnce() {
+    configure(
+        "{source: { content: { value: 'name,friends\nJay,Enrico;Luca;Enrico' } }, extractor : { csv: {} },"
+            + " transformers: [{field: {fieldName:'friends', expression:\"friends.split(';')\"}}, {vertex: {class:'V1'}},"
+            + " {edge:{class:'Knows',joinFieldName:'friends',lookup:'V2.name',unresolvedLinkAction:'CREATE'}},"
+            + "], loader: { orientdb: { dbURL: 'memory:"
+            + name.getMethodName()
+            + "', dbType:'graph', useLightweightEdges:false } } }");
+
+    OETLLoader loader = proc.getLoader();
+    ODatabasePool pool = loader.getPool();
+    ODatabaseDocument db = pool.acquire();
+    createClasses(db);
+    db.getClass("V2").createProperty("name", OType.STRING);
+    db.getClass("V2").createIndex("V2.name", OClass.INDEX_TYPE.UNIQUE, "name");
+    db.close();
+
+    proc.execute();
+    assertEquals(0, proc.getStats().errors.get());
+    db = pool.acquire();
+
+    assertEquals(1, db.countClass("V1"));
+    assertEquals(2, db.countClass("V2"));
+    assertEquals(3, db.countClass("Knows"));
+    db.close();
+    pool.close();
+  }
+
   @Test
   public void testEdgeWithProperties() {
     configure(
@@ -291,4 +320,41 @@ public class OETLEdgeTransformerTest extends OETLBaseTest {
     pool.close();
     proc.getLoader().close();
   }
+
+  @Test
+  public void testLookupCache() {
+    configure(
+        "{source: { content: { value: 'name,surname,friend\nJay,Miner,Luca\nJohn,Doe,Luca\nJane,Doe,Enrico\nJim,Doe,Luca' } }, extractor : { csv: {} },"
+            + " transformers: [{vertex: {class:'V1'}}, {edge:{class:'Friend',joinFieldName:'friend',lookup:'V2.name',lookupCacheSize:10,lookupCachePreload:true}},"
+            + "], loader: { orientdb: { dbURL: 'memory:"
+            + name.getMethodName()
+            + "', dbType:'graph', useLightweightEdges:false } } }");
+
+    OETLLoader loader = proc.getLoader();
+    ODatabasePool pool = loader.getPool();
+    ODatabaseDocument db = pool.acquire();
+    createClasses(db);
+    db.getClass("V2").createProperty("name", OType.STRING);
+    db.getClass("V2").createIndex("V2.name", OClass.INDEX_TYPE.UNIQUE, "name");
+    OVertex vertex = db.newVertex("V2");
+    vertex.setProperty("name", "Enrico");
+    db.save(vertex);
+    db.close();
+
+    proc.execute();
+    db = pool.acquire();
+
+    assertEquals(4, db.countClass("V1"));
+    assertEquals(2, db.countClass("V2"));
+    assertEquals(4, db.countClass("Friend"));
+    db.close();
+    pool.close();
+
+    final OETLLookupCache cache =
+        ((OETLAbstractLookupTransformer) proc.getTransformers().get(1)).getLookupCache();
+    assertNotNull(cache);
+    assertEquals(2, cache.size());
+    assertEquals(4, cache.getHits());
+    assertEquals(0, cache.getMisses());
+  }
 }
@@ -76,6 +76,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p>batch.createVertex(Long) is needed only if you want to create unconnected vertices
  *
+ * <p>All the edges are kept in memory until end(), for graphs with many vertex and edge classes or
+ * that don't fit in memory use {@link com.orientechnologies.orient.core.db.tool.OGraphBulkLoader}.
+ *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) (l.dellaquila-at-orientdb.com)
  * @since 2.0 M3
  */
@@ -43,9 +43,12 @@ import java.sql.SQLSyntaxErrorException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * @author Roberto Franchini (CELI Srl - franchini@celi.it)
@@ -55,6 +58,7 @@ import java.util.Map;
 public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements PreparedStatement {
 
   protected final Map<Integer, Object> params;
+  protected final List<Object[]> batchParams;
 
   public OrientJdbcPreparedStatement(OrientJdbcConnection iConnection, String sql) {
     this(
@@ -79,7 +83,8 @@ public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements
       String sql) {
     super(iConnection, resultSetType, resultSetConcurrency, resultSetHoldability);
     this.sql = sql;
-    params = new HashMap<>();
+    params = new TreeMap<>();
+    batchParams = new ArrayList<>();
   }
 
   @SuppressWarnings("unchecked")
@@ -214,9 +219,39 @@ public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements
   }
 
   public void addBatch() throws SQLException {
+    batches.add(sql);
+    batchParams.add(params.values().toArray());
+  }
 
-    //    batches.add(sql);
-    throw new UnsupportedOperationException();
+  @Override
+  public void addBatch(final String sql) throws SQLException {
+    super.addBatch(sql);
+    batchParams.add(new Object[] {});
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+    super.clearBatch();
+    batchParams.clear();
+  }
+
+  @Override
+  protected Object[] getBatchParameters(final int from, final int to) {
+    // INPUT PARAMETERS OF A SCRIPT ARE NUMBERED ACROSS ALL ITS STATEMENTS
+    final List<Object> parameters = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      parameters.addAll(Arrays.asList(batchParams.get(i)));
+    }
+    return parameters.toArray();
+  }
+
+  @Override
+  protected int executeBatchEntry(final int index) throws SQLException {
+    try (OResultSet rs = database.command(batches.get(index), batchParams.get(index))) {
+      return toUpdateCount(rs);
+    } catch (OException e) {
+      throw new SQLException("Error while executing command", e);
+    }
   }
 
   public void setCharacterStream(int parameterIndex, Reader reader, int length)
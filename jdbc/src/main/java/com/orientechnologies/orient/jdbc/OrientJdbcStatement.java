@@ -18,13 +18,25 @@ package com.orientechnologies.orient.jdbc;
 import static java.lang.Boolean.parseBoolean;
 
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.exception.OQueryParsingException;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OCreateEdgeStatement;
+import com.orientechnologies.orient.core.sql.parser.OCreateVertexStatement;
+import com.orientechnologies.orient.core.sql.parser.ODeleteEdgeStatement;
+import com.orientechnologies.orient.core.sql.parser.ODeleteStatement;
+import com.orientechnologies.orient.core.sql.parser.ODeleteVertexStatement;
+import com.orientechnologies.orient.core.sql.parser.OInsertStatement;
+import com.orientechnologies.orient.core.sql.parser.OMoveVertexStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.parser.OUpdateStatement;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -32,6 +44,8 @@ import java.sql.SQLSyntaxErrorException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -138,17 +152,40 @@ public class OrientJdbcStatement implements Statement {
     try {
       oResultSet = executeCommand(sql);
 
-      Optional<OResult> res = oResultSet.stream().findFirst();
+      return toUpdateCount(oResultSet);
+    } finally {
+      oResultSet.close();
+    }
+  }
 
-      if (res.isPresent()) {
-        if (res.get().getProperty("count") != null) {
-          return Math.toIntExact((Long) res.get().getProperty("count"));
-        } else return 1;
-      } else {
+  /** Converts the value of a command result kept in a script variable to its update count. */
+  private int toUpdateCount(final Object value) {
+    if (value instanceof OResultSet) {
+      return toUpdateCount((OResultSet) value);
+    }
+    if (value instanceof Iterable) {
+      final Iterator<?> iterator = ((Iterable<?>) value).iterator();
+      if (!iterator.hasNext()) {
         return 0;
       }
-    } finally {
-      oResultSet.close();
+      final Object first = iterator.next();
+      if (first instanceof OResult && ((OResult) first).getProperty("count") != null) {
+        return Math.toIntExact(((Number) ((OResult) first).getProperty("count")).longValue());
+      }
+      return 1;
+    }
+    return value == null ? 0 : 1;
+  }
+
+  protected int toUpdateCount(OResultSet resultSet) {
+    Optional<OResult> res = resultSet.stream().findFirst();
+
+    if (res.isPresent()) {
+      if (res.get().getProperty("count") != null) {
+        return Math.toIntExact((Long) res.get().getProperty("count"));
+      } else return 1;
+    } else {
+      return 0;
     }
   }
 
@@ -207,15 +244,132 @@ public class OrientJdbcStatement implements Statement {
 
   public void clearWarnings() throws SQLException {}
 
+  /**
+   * Executes all the batched commands. Consecutive data manipulation commands are sent to the
+   * server as a single SQL script, which runs them in one transaction and returns the update count
+   * of each of them, so the whole group costs one round trip and one commit. Schema commands can't
+   * run inside a transaction, so they close the current group and are executed on their own. If a
+   * transaction is already active on the connection the script simply joins it.
+   */
   public int[] executeBatch() throws SQLException {
-    int[] results = new int[batches.size()];
+    database.activateOnCurrentThread();
+
+    final int[] results = new int[batches.size()];
+    final boolean externalTx = database.getTransaction().isActive();
+    // number of commands whose changes have been made durable (or handed to the caller's tx)
+    int done = 0;
     int i = 0;
-    for (String sql : batches) {
-      results[i++] = executeUpdate(sql);
+    try {
+      while (i < results.length) {
+        int end = i;
+        while (end < results.length && isTransactional(batches.get(end))) {
+          end++;
+        }
+
+        if (end > i) {
+          executeBatchGroup(i, end, !externalTx, results);
+          i = end;
+        } else {
+          results[i] = executeBatchEntry(i);
+          i++;
+        }
+        done = i;
+      }
+    } catch (SQLException | OException e) {
+      // A FAILED SCRIPT MAY LEAVE ITS TRANSACTION OPEN
+      if (!externalTx && database.getTransaction().isActive()) {
+        database.rollback();
+      }
+      throw new BatchUpdateException(
+          "Error while executing batch command " + i, Arrays.copyOf(results, done), e);
+    } finally {
+      clearBatch();
     }
     return results;
   }
 
+  /**
+   * Executes the batched commands in the range <code>[from, to)</code> as one SQL script. The
+   * result of every command is kept in a script variable and the script returns all of them, so the
+   * update counts are split on the client.
+   */
+  protected void executeBatchGroup(
+      final int from, final int to, final boolean transaction, final int[] results)
+      throws SQLException {
+    final StringBuilder script = new StringBuilder();
+    if (transaction) {
+      script.append("BEGIN;\n");
+    }
+    for (int i = from; i < to; i++) {
+      script
+          .append("LET $batch")
+          .append(i - from)
+          .append(" = ")
+          .append(stripTerminator(batches.get(i)))
+          .append(";\n");
+    }
+    if (transaction) {
+      script.append("COMMIT;\n");
+    }
+    script.append("RETURN [");
+    for (int i = from; i < to; i++) {
+      if (i > from) {
+        script.append(", ");
+      }
+      script.append("$batch").append(i - from);
+    }
+    script.append("];");
+
+    try (OResultSet rs = database.execute("sql", script.toString(), getBatchParameters(from, to))) {
+      final List<?> values = rs.hasNext() ? rs.next().getProperty("value") : null;
+      if (values == null || values.size() != to - from) {
+        throw new SQLException("Unexpected result of the batch script: " + values);
+      }
+      for (int i = from; i < to; i++) {
+        results[i] = toUpdateCount(values.get(i - from));
+      }
+    }
+  }
+
+  /** @return positional parameters of the batched commands in the range <code>[from, to)</code> */
+  protected Object[] getBatchParameters(final int from, final int to) {
+    return new Object[] {};
+  }
+
+  private static String stripTerminator(String command) {
+    command = command.trim();
+    while (command.endsWith(";")) {
+      command = command.substring(0, command.length() - 1).trim();
+    }
+    return command;
+  }
+
+  protected int executeBatchEntry(final int index) throws SQLException {
+    return executeUpdate(batches.get(index));
+  }
+
+  /**
+   * Tells whether a batched command changes records, so it can be grouped with the other ones in a
+   * transaction. The command is parsed, so comments, spacing and UPSERT/UPDATE EDGE variants are
+   * recognized. Commands that can't be parsed are executed on their own, and report their error.
+   */
+  protected boolean isTransactional(final String command) {
+    final OStatement statement;
+    try {
+      statement = OSQLEngine.parse(command, (ODatabaseDocumentInternal) database);
+    } catch (OException e) {
+      return false;
+    }
+    return statement instanceof OInsertStatement
+        || statement instanceof OUpdateStatement
+        || statement instanceof ODeleteStatement
+        || statement instanceof ODeleteVertexStatement
+        || statement instanceof ODeleteEdgeStatement
+        || statement instanceof OCreateVertexStatement
+        || statement instanceof OCreateEdgeStatement
+        || statement instanceof OMoveVertexStatement;
+  }
+
   public int getFetchDirection() throws SQLException {
 
     return 0;
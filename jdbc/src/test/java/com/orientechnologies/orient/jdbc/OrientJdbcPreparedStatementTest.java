@@ -18,7 +18,9 @@ package com.orientechnologies.orient.jdbc;
 import static java.sql.ResultSet.CONCUR_READ_ONLY;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
+import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -200,4 +202,51 @@ public class OrientJdbcPreparedStatementTest extends OrientJdbcDbPerMethodTempla
     stmt.setString(1, "theSequence");
     stmt.executeQuery();
   }
+
+  @Test
+  public void shouldExecuteBatchWithParameters() throws Exception {
+    conn.createStatement().executeQuery("CREATE CLASS Batchable");
+
+    PreparedStatement stmt =
+        conn.prepareStatement("INSERT INTO Batchable (id, name) VALUES (?, ?)");
+    for (int i = 0; i < 10; i++) {
+      stmt.setInt(1, i);
+      stmt.setString(2, "name" + i);
+      stmt.addBatch();
+    }
+
+    int[] counts = stmt.executeBatch();
+    assertThat(counts).hasSize(10).containsOnly(1);
+
+    ResultSet rs =
+        conn.createStatement().executeQuery("SELECT count(*) AS cnt FROM Batchable WHERE id < 5");
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.getLong("cnt")).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldRollbackFailedBatch() throws Exception {
+    conn.createStatement().executeQuery("CREATE CLASS Batchable");
+    conn.createStatement().executeQuery("CREATE PROPERTY Batchable.id INTEGER");
+    conn.createStatement().executeQuery("CREATE INDEX Batchable.id ON Batchable (id) UNIQUE");
+
+    PreparedStatement stmt = conn.prepareStatement("INSERT INTO Batchable (id) VALUES (?)");
+    stmt.setInt(1, 1);
+    stmt.addBatch();
+    stmt.setInt(1, 2);
+    stmt.addBatch();
+    stmt.setInt(1, 1);
+    stmt.addBatch();
+
+    try {
+      stmt.executeBatch();
+      fail();
+    } catch (BatchUpdateException e) {
+      assertThat(e.getUpdateCounts()).isEmpty();
+    }
+
+    ResultSet rs = conn.createStatement().executeQuery("SELECT count(*) AS cnt FROM Batchable");
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.getLong("cnt")).isEqualTo(0);
+  }
 }
@@ -128,4 +128,40 @@ public class OrientJdbcStatementDMLtest extends OrientJdbcDbPerMethodTemplateTes
     assertThat(account.getProperty("birthDate").getType()).isEqualTo(OType.DATE);
     assertThat(account.getProperty("binary").getType()).isEqualTo(OType.BINARY);
   }
+
+  @Test
+  public void shouldReturnTheUpdateCountOfEveryGroupedCommand() throws SQLException {
+    Statement stmt = conn.createStatement();
+
+    stmt.addBatch("UPDATE Item SET text = 'batched' WHERE intKey <= 3");
+    stmt.addBatch("INSERT INTO Item (stringKey, intKey) VALUES ('b1', 1001);");
+    stmt.addBatch("CREATE CLASS Batched");
+    stmt.addBatch("INSERT INTO Batched SET name = 'a'");
+    stmt.addBatch("DELETE FROM Item WHERE intKey = 1001");
+    stmt.addBatch("UPDATE Item SET text = 'none' WHERE intKey = -1");
+    assertThat(stmt.executeBatch()).containsExactly(3, 1, 1, 1, 1, 0);
+    stmt.close();
+
+    ResultSet rs =
+        conn.createStatement()
+            .executeQuery("SELECT count(*) AS cnt FROM Item WHERE text = 'batched'");
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.getLong("cnt")).isEqualTo(3);
+    assertThat(conn.getDatabase().countClass("Batched")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldClassifyBatchCommandsByParsingThem() throws SQLException {
+    OrientJdbcStatement stmt = (OrientJdbcStatement) conn.createStatement();
+
+    assertThat(stmt.isTransactional("CREATE  VERTEX V SET name = 'a'")).isTrue();
+    assertThat(stmt.isTransactional("  insert\ninto Item set stringKey = 'a'")).isTrue();
+    assertThat(stmt.isTransactional("/* comment */ DELETE FROM Item")).isTrue();
+    assertThat(stmt.isTransactional("UPDATE Item SET text = 'a' UPSERT WHERE stringKey = 'a'"))
+        .isTrue();
+    assertThat(stmt.isTransactional("CREATE CLASS Account")).isFalse();
+    assertThat(stmt.isTransactional("SELECT FROM Item")).isFalse();
+    assertThat(stmt.isTransactional("not a command")).isFalse();
+    stmt.close();
+  }
 }
@@ -1042,18 +1042,12 @@ public class OObjectEntitySerializer {
 
   public static Object getFieldValue(Field iField, Object iInstance)
       throws IllegalArgumentException, IllegalAccessException {
-    if (!iField.isAccessible()) {
-      iField.setAccessible(true);
-    }
-    return iField.get(iInstance);
+    return OObjectFieldAccessor.of(iField).get(iInstance);
   }
 
   public static void setFieldValue(Field iField, Object iInstance, Object iValue)
       throws IllegalArgumentException, IllegalAccessException {
-    if (!iField.isAccessible()) {
-      iField.setAccessible(true);
-    }
-    iField.set(iInstance, iValue);
+    OObjectFieldAccessor.of(iField).set(iInstance, iValue);
   }
 
   public static void invokeBeforeSerializationCallbacks(
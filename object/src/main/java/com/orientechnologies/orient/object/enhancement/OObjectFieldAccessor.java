@@ -0,0 +1,153 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.object.enhancement;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads and writes a POJO field through method handles bound once per field, instead of going
+ * through {@link Field#get(Object)}/{@link Field#set(Object, Object)} and their access checks on
+ * every call. Accessors are cached per declaring class and never evicted. They hold method handles
+ * and fields that reference the class, so a class whose fields have been accessed stays loaded as
+ * long as this class is loaded, even if its class loader is discarded. Fields that can't be
+ * accessed through method handles (e.g. final fields) fall back to reflection.
+ */
+public final class OObjectFieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<ConcurrentMap<String, OObjectFieldAccessor>> ACCESSORS =
+      new ClassValue<ConcurrentMap<String, OObjectFieldAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, OObjectFieldAccessor> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+  private final Class<?> boxedType;
+
+  private OObjectFieldAccessor(final Field field) {
+    this.field = field;
+    this.boxedType = field.getType().isPrimitive() ? box(field.getType()) : field.getType();
+    if (!field.isAccessible()) field.setAccessible(true);
+
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle g;
+    try {
+      g = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      g = null;
+    }
+
+    MethodHandle s = null;
+    if (!Modifier.isFinal(field.getModifiers())) {
+      try {
+        s = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+      } catch (IllegalAccessException | RuntimeException e) {
+        s = null;
+      }
+    }
+
+    this.getter = g;
+    this.setter = s;
+  }
+
+  public static OObjectFieldAccessor of(final Field field) {
+    final ConcurrentMap<String, OObjectFieldAccessor> accessors =
+        ACCESSORS.get(field.getDeclaringClass());
+
+    OObjectFieldAccessor accessor = accessors.get(field.getName());
+    if (accessor == null) {
+      accessor = new OObjectFieldAccessor(field);
+      final OObjectFieldAccessor existing = accessors.putIfAbsent(field.getName(), accessor);
+      if (existing != null) accessor = existing;
+    }
+
+    return accessor;
+  }
+
+  public Field getField() {
+    return field;
+  }
+
+  public Object get(final Object instance) throws IllegalAccessException {
+    if (getter == null) return field.get(instance);
+
+    if (instance == null && !Modifier.isStatic(field.getModifiers()))
+      throw new NullPointerException("Cannot read field " + field + " of a null instance");
+
+    try {
+      return (Object) getter.invokeExact(instance);
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          "Cannot read field " + field + " on an instance of " + instance.getClass(), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  public void set(final Object instance, final Object value) throws IllegalAccessException {
+    if (setter == null || !isDirectlyAssignable(value)) {
+      // LET REFLECTION CHECK AND REPORT THE ILLEGAL ASSIGNMENT
+      field.set(instance, value);
+      return;
+    }
+
+    if (instance == null && !Modifier.isStatic(field.getModifiers()))
+      throw new NullPointerException("Cannot write field " + field + " of a null instance");
+
+    try {
+      setter.invokeExact(instance, value);
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          "Cannot set field " + field + " to a value of type " + value.getClass(), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Returns <code>true</code> if the value can be stored without any widening conversion, that
+   * method handles and reflection would handle differently.
+   */
+  private boolean isDirectlyAssignable(final Object value) {
+    if (value == null) return !field.getType().isPrimitive();
+    if (field.getType().isPrimitive()) return value.getClass() == boxedType;
+    return boxedType.isInstance(value);
+  }
+
+  private static Class<?> box(final Class<?> primitive) {
+    return MethodType.methodType(primitive).wrap().returnType();
+  }
+}
@@ -57,6 +57,7 @@ import com.orientechnologies.orient.core.tx.OTransactionOptimistic;
 import com.orientechnologies.orient.object.db.OObjectLazyList;
 import com.orientechnologies.orient.object.db.OObjectLazyMap;
 import com.orientechnologies.orient.object.db.OObjectNotDetachedException;
+import com.orientechnologies.orient.object.enhancement.OObjectFieldAccessor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -199,7 +200,7 @@ public class OObjectSerializerHelper {
       Object o = getters.get(className + "." + iProperty);
 
       if (o instanceof Method) return ((Method) o).invoke(iPojo);
-      else if (o instanceof Field) return ((Field) o).get(iPojo);
+      else if (o instanceof Field) return OObjectFieldAccessor.of((Field) o).get(iPojo);
       return null;
     } catch (Exception e) {
       throw OException.wrapException(
@@ -224,7 +225,7 @@ public class OObjectSerializerHelper {
                 OObjectSerializerHelper.convertInObject(
                     iPojo, iProperty, iValue, ((Method) o).getParameterTypes()[0]));
       } else if (o instanceof Field) {
-        ((Field) o).set(iPojo, OType.convert(iValue, ((Field) o).getType()));
+        OObjectFieldAccessor.of((Field) o).set(iPojo, OType.convert(iValue, ((Field) o).getType()));
       }
 
     } catch (Exception e) {
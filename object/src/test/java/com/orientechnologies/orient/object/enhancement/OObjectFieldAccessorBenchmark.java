@@ -0,0 +1,101 @@
+package com.orientechnologies.orient.object.enhancement;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Compares reflective field access with the method handle based {@link OObjectFieldAccessor}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 5)
+@Warmup(iterations = 3)
+@Fork(1)
+public class OObjectFieldAccessorBenchmark {
+  public static class Pojo {
+    private String name = "name";
+    private int count = 1;
+  }
+
+  private Pojo pojo;
+  private Field nameField;
+  private Field countField;
+  private OObjectFieldAccessor nameAccessor;
+  private OObjectFieldAccessor countAccessor;
+
+  public static void main(String[] args) throws RunnerException {
+    final Options opt =
+        new OptionsBuilder()
+            .include("OObjectFieldAccessorBenchmark.*")
+            .jvmArgs("-server", "-Xmx1G", "-Xms1G")
+            .build();
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setup() throws Exception {
+    pojo = new Pojo();
+    nameField = Pojo.class.getDeclaredField("name");
+    countField = Pojo.class.getDeclaredField("count");
+    nameAccessor = OObjectFieldAccessor.of(nameField);
+    countAccessor = OObjectFieldAccessor.of(countField);
+  }
+
+  @Benchmark
+  public Object reflectionGetReference() throws Exception {
+    if (!nameField.isAccessible()) nameField.setAccessible(true);
+    return nameField.get(pojo);
+  }
+
+  @Benchmark
+  public Object accessorGetReference() throws Exception {
+    return nameAccessor.get(pojo);
+  }
+
+  @Benchmark
+  public void reflectionSetReference() throws Exception {
+    if (!nameField.isAccessible()) nameField.setAccessible(true);
+    nameField.set(pojo, "value");
+  }
+
+  @Benchmark
+  public void accessorSetReference() throws Exception {
+    nameAccessor.set(pojo, "value");
+  }
+
+  @Benchmark
+  public Object reflectionGetPrimitive() throws Exception {
+    if (!countField.isAccessible()) countField.setAccessible(true);
+    return countField.get(pojo);
+  }
+
+  @Benchmark
+  public Object accessorGetPrimitive() throws Exception {
+    return countAccessor.get(pojo);
+  }
+
+  @Benchmark
+  public void reflectionSetPrimitive() throws Exception {
+    if (!countField.isAccessible()) countField.setAccessible(true);
+    countField.set(pojo, 10);
+  }
+
+  @Benchmark
+  public void accessorSetPrimitive() throws Exception {
+    countAccessor.set(pojo, 10);
+  }
+}
@@ -0,0 +1,72 @@
+package com.orientechnologies.orient.object.enhancement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class OObjectFieldAccessorTest {
+
+  @SuppressWarnings("unused")
+  private static class Pojo {
+    private String name;
+    private int count;
+    private long total;
+    private final String constant = "constant";
+  }
+
+  @Test
+  public void testReadWriteReference() throws Exception {
+    final OObjectFieldAccessor accessor =
+        OObjectFieldAccessor.of(Pojo.class.getDeclaredField("name"));
+    final Pojo pojo = new Pojo();
+
+    assertNull(accessor.get(pojo));
+    accessor.set(pojo, "test");
+    assertEquals("test", pojo.name);
+    assertEquals("test", accessor.get(pojo));
+  }
+
+  @Test
+  public void testReadWritePrimitive() throws Exception {
+    final OObjectFieldAccessor count =
+        OObjectFieldAccessor.of(Pojo.class.getDeclaredField("count"));
+    final OObjectFieldAccessor total =
+        OObjectFieldAccessor.of(Pojo.class.getDeclaredField("total"));
+    final Pojo pojo = new Pojo();
+
+    count.set(pojo, 10);
+    assertEquals(10, pojo.count);
+    assertEquals(10, count.get(pojo));
+
+    // WIDENING IS DELEGATED TO REFLECTION
+    total.set(pojo, 5);
+    assertEquals(5L, pojo.total);
+    assertEquals(5L, total.get(pojo));
+  }
+
+  @Test
+  public void testFinalField() throws Exception {
+    final OObjectFieldAccessor accessor =
+        OObjectFieldAccessor.of(Pojo.class.getDeclaredField("constant"));
+    assertEquals("constant", accessor.get(new Pojo()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongType() throws Exception {
+    OObjectFieldAccessor.of(Pojo.class.getDeclaredField("name")).set(new Pojo(), 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPrimitive() throws Exception {
+    OObjectFieldAccessor.of(Pojo.class.getDeclaredField("count")).set(new Pojo(), null);
+  }
+
+  @Test
+  public void testCached() throws Exception {
+    assertSame(
+        OObjectFieldAccessor.of(Pojo.class.getDeclaredField("name")),
+        OObjectFieldAccessor.of(Pojo.class.getDeclaredField("name")));
+  }
+}
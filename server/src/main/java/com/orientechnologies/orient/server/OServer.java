@@ -61,6 +61,7 @@ import com.orientechnologies.orient.server.network.OServerNetworkListener;
 import com.orientechnologies.orient.server.network.OServerSocketFactory;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocolData;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpCursorManager;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpSessionManager;
 import com.orientechnologies.orient.server.network.protocol.http.ONetworkProtocolHttpDb;
 import com.orientechnologies.orient.server.plugin.OServerPlugin;
@@ -111,6 +112,7 @@ public class OServer {
   private String databaseDirectory;
   private OClientConnectionManager clientConnectionManager;
   private OHttpSessionManager httpSessionManager;
+  private OHttpCursorManager httpCursorManager;
   private OPushManager pushManager;
   private ClassLoader extensionClassLoader;
   private OTokenHandler tokenHandler;
@@ -235,6 +237,10 @@ public class OServer {
     return httpSessionManager;
   }
 
+  public OHttpCursorManager getHttpCursorManager() {
+    return httpCursorManager;
+  }
+
   public OPushManager getPushManager() {
     return pushManager;
   }
@@ -349,6 +355,7 @@ public class OServer {
 
     clientConnectionManager = new OClientConnectionManager(this);
     httpSessionManager = new OHttpSessionManager(this);
+    httpCursorManager = new OHttpCursorManager(this);
     pushManager = new OPushManager();
     rejectRequests = false;
 
@@ -599,6 +606,7 @@ public class OServer {
         pushManager.shutdown();
         clientConnectionManager.shutdown();
         httpSessionManager.shutdown();
+        httpCursorManager.shutdown();
 
         if (pluginManager != null) pluginManager.shutdown();
 
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.server.network.protocol.http;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class OChunkedResponse extends OutputStream {
 
@@ -28,29 +29,90 @@ public class OChunkedResponse extends OutputStream {
   private byte[] buffer = new byte[8192];
   private int bufferSize = 0;
 
+  /** Compresses the content before it is split in chunks, if the response is gzip encoded. */
+  private GZIPOutputStream gzip;
+
   public OChunkedResponse(final OHttpResponse iHttpResponse) {
     response = iHttpResponse;
   }
 
+  public OChunkedResponse(final OHttpResponse iHttpResponse, final boolean iCompress)
+      throws IOException {
+    response = iHttpResponse;
+    if (iCompress) {
+      // SYNC FLUSH, SO EVERY FLUSH SENDS TO THE CLIENT ALL THE CONTENT WRITTEN SO FAR
+      gzip =
+          new GZIPOutputStream(
+              new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                  writeChunked(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                  writeChunked(b, off, len);
+                }
+              },
+              buffer.length,
+              true);
+    }
+  }
+
   @Override
   public void write(int b) throws IOException {
-    buffer[bufferSize++] = (byte) b;
-    if (bufferSize >= buffer.length) writeContent();
+    if (gzip != null) {
+      gzip.write(b);
+    } else {
+      writeChunked(b);
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (gzip != null) {
+      gzip.write(b, off, len);
+    } else {
+      writeChunked(b, off, len);
+    }
   }
 
   @Override
   public void flush() throws IOException {
+    if (gzip != null) {
+      gzip.flush();
+    }
     writeContent();
     response.flush();
   }
 
   @Override
   public void close() throws IOException {
+    if (gzip != null) {
+      gzip.finish();
+    }
     writeContent();
     response.writeLine("0");
     response.writeLine(null);
   }
 
+  private void writeChunked(int b) throws IOException {
+    buffer[bufferSize++] = (byte) b;
+    if (bufferSize >= buffer.length) writeContent();
+  }
+
+  private void writeChunked(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      final int copied = Math.min(len, buffer.length - bufferSize);
+      System.arraycopy(b, off, buffer, bufferSize, copied);
+      bufferSize += copied;
+      off += copied;
+      len -= copied;
+
+      if (bufferSize >= buffer.length) writeContent();
+    }
+  }
+
   protected void writeContent() throws IOException {
     if (bufferSize > 0) {
       response.writeLine(Integer.toHexString(bufferSize));
@@ -0,0 +1,161 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.http;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server side cursor of a HTTP query. It keeps open the result set of the query, and the database
+ * session which executed it, until all the rows are fetched, the client closes it or it expires.
+ * Pages of a cursor are fetched one at a time, possibly by different threads.
+ */
+public class OHttpCursor {
+  private final String id;
+  private final String databaseName;
+  private final String userName;
+  private final ODatabaseDocumentInternal database;
+  private final OResultSet resultSet;
+  private final String fetchPlan;
+  private final int pageSize;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private int remaining;
+  private volatile long updatedOn;
+  private volatile boolean closed;
+
+  public OHttpCursor(
+      final String id,
+      final String databaseName,
+      final String userName,
+      final ODatabaseDocumentInternal database,
+      final OResultSet resultSet,
+      final String fetchPlan,
+      final int pageSize,
+      final int remaining) {
+    this.id = id;
+    this.databaseName = databaseName;
+    this.userName = userName;
+    this.database = database;
+    this.resultSet = resultSet;
+    this.fetchPlan = fetchPlan;
+    this.pageSize = pageSize;
+    this.remaining = remaining;
+    this.updatedOn = System.currentTimeMillis();
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getDatabaseName() {
+    return databaseName;
+  }
+
+  public String getUserName() {
+    return userName;
+  }
+
+  /** Binds the database session of the cursor to the current thread. */
+  public ODatabaseDocumentInternal activateDatabase() {
+    database.activateOnCurrentThread();
+    return database;
+  }
+
+  public OResultSet getResultSet() {
+    return resultSet;
+  }
+
+  public String getFetchPlan() {
+    return fetchPlan;
+  }
+
+  /** @return number of rows fetched by default by every request */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /** @return number of rows which can still be fetched, -1 if there is no limit */
+  public int getRemaining() {
+    return remaining;
+  }
+
+  public void consumed(final int rows) {
+    if (remaining >= 0) {
+      remaining = Math.max(0, remaining - rows);
+    }
+  }
+
+  public long getUpdatedOn() {
+    return updatedOn;
+  }
+
+  public void updateLastUpdatedOn() {
+    updatedOn = System.currentTimeMillis();
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  void lock() {
+    lock.lock();
+  }
+
+  boolean tryLock() {
+    return lock.tryLock();
+  }
+
+  void unlock() {
+    lock.unlock();
+  }
+
+  /**
+   * Closes the result set and the database session of the cursor. The database session bound to the
+   * current thread, if any, is restored.
+   */
+  void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    final ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    try {
+      database.activateOnCurrentThread();
+      try {
+        resultSet.close();
+      } finally {
+        database.close();
+      }
+    } catch (RuntimeException e) {
+      OLogManager.instance().warn(this, "Error on closing HTTP cursor %s", e, id);
+    } finally {
+      if (current != null && current != database) {
+        current.activateOnCurrentThread();
+      } else {
+        ODatabaseRecordThreadLocal.instance().remove();
+      }
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.http;
+
+import com.orientechnologies.common.concur.resource.OSharedResourceAbstract;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TimerTask;
+
+/**
+ * Handles the server side cursors of the HTTP queries. Cursors which are not used for longer than
+ * the expiration time are closed, and the least recently used cursor is closed when too many of
+ * them are open.
+ */
+public class OHttpCursorManager extends OSharedResourceAbstract {
+  private final Map<String, OHttpCursor> cursors = new HashMap<String, OHttpCursor>();
+  private final int expirationTime;
+  private final int maxCursors;
+  private final Random random = new SecureRandom();
+  private final TimerTask expirationTask;
+
+  public OHttpCursorManager(final OServer server) {
+    expirationTime =
+        server
+                .getContextConfiguration()
+                .getValueAsInteger(OGlobalConfiguration.NETWORK_HTTP_CURSOR_EXPIRE_TIMEOUT)
+            * 1000;
+    maxCursors =
+        server
+            .getContextConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.NETWORK_HTTP_MAX_CURSORS);
+
+    expirationTask =
+        Orient.instance()
+            .scheduleTask(
+                () -> {
+                  final int expired = checkCursorsValidity();
+                  if (expired > 0)
+                    OLogManager.instance()
+                        .debug(this, "Closed %d cursors because expired", expired);
+                },
+                expirationTime,
+                expirationTime);
+  }
+
+  /**
+   * Registers a cursor over the remaining rows of a result set. The cursor owns the result set and
+   * the database session from now on.
+   *
+   * @return id of the cursor
+   */
+  public String createCursor(
+      final String databaseName,
+      final String userName,
+      final ODatabaseDocumentInternal database,
+      final OResultSet resultSet,
+      final String fetchPlan,
+      final int pageSize,
+      final int remaining) {
+    final OHttpCursor evicted;
+    final String id;
+
+    acquireExclusiveLock();
+    try {
+      evicted = cursors.size() >= maxCursors ? removeLeastRecentlyUsed() : null;
+
+      id = "OC" + System.currentTimeMillis() + Long.toHexString(random.nextLong());
+      cursors.put(
+          id,
+          new OHttpCursor(
+              id, databaseName, userName, database, resultSet, fetchPlan, pageSize, remaining));
+    } finally {
+      releaseExclusiveLock();
+    }
+
+    if (evicted != null) {
+      OLogManager.instance()
+          .debug(this, "Closed cursor %s because too many cursors are open", evicted.getId());
+      evicted.close();
+      evicted.unlock();
+    }
+    return id;
+  }
+
+  /**
+   * Locks a cursor, so no other thread can fetch its rows, until {@link
+   * #releaseCursor(OHttpCursor)} is called.
+   *
+   * @return the cursor or <code>null</code> if it does not exist or it was closed
+   */
+  public OHttpCursor acquireCursor(final String id) {
+    final OHttpCursor cursor;
+    acquireSharedLock();
+    try {
+      cursor = cursors.get(id);
+    } finally {
+      releaseSharedLock();
+    }
+
+    if (cursor == null) {
+      return null;
+    }
+
+    cursor.lock();
+    if (cursor.isClosed()) {
+      cursor.unlock();
+      return null;
+    }
+    cursor.updateLastUpdatedOn();
+    return cursor;
+  }
+
+  public void releaseCursor(final OHttpCursor cursor) {
+    cursor.updateLastUpdatedOn();
+    cursor.unlock();
+  }
+
+  /** Closes a cursor acquired by the current thread. */
+  public void closeCursor(final OHttpCursor cursor) {
+    acquireExclusiveLock();
+    try {
+      cursors.remove(cursor.getId());
+    } finally {
+      releaseExclusiveLock();
+    }
+
+    try {
+      cursor.close();
+    } finally {
+      cursor.unlock();
+    }
+  }
+
+  public int checkCursorsValidity() {
+    final List<OHttpCursor> expired = new ArrayList<OHttpCursor>();
+
+    acquireExclusiveLock();
+    try {
+      final long now = System.currentTimeMillis();
+      for (Iterator<OHttpCursor> it = cursors.values().iterator(); it.hasNext(); ) {
+        final OHttpCursor cursor = it.next();
+        // CURSORS WHICH ARE FETCHED RIGHT NOW ARE NOT EXPIRED
+        if (now - cursor.getUpdatedOn() > expirationTime && cursor.tryLock()) {
+          it.remove();
+          expired.add(cursor);
+        }
+      }
+    } finally {
+      releaseExclusiveLock();
+    }
+
+    for (OHttpCursor cursor : expired) {
+      try {
+        cursor.close();
+      } finally {
+        cursor.unlock();
+      }
+    }
+    return expired.size();
+  }
+
+  public int getCursorsCount() {
+    acquireSharedLock();
+    try {
+      return cursors.size();
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  public void shutdown() {
+    if (expirationTask != null) {
+      expirationTask.cancel();
+    }
+
+    final List<OHttpCursor> open;
+    acquireExclusiveLock();
+    try {
+      open = new ArrayList<OHttpCursor>(cursors.values());
+      cursors.clear();
+    } finally {
+      releaseExclusiveLock();
+    }
+
+    for (OHttpCursor cursor : open) {
+      if (cursor.tryLock()) {
+        try {
+          cursor.close();
+        } finally {
+          cursor.unlock();
+        }
+      }
+    }
+  }
+
+  /** @return the least recently used cursor which is not being fetched, locked */
+  private OHttpCursor removeLeastRecentlyUsed() {
+    OHttpCursor candidate = null;
+    for (OHttpCursor cursor : cursors.values()) {
+      if ((candidate == null || cursor.getUpdatedOn() < candidate.getUpdatedOn())
+          && cursor.tryLock()) {
+        if (candidate != null) {
+          candidate.unlock();
+        }
+        candidate = cursor;
+      }
+    }
+
+    if (candidate != null) {
+      cursors.remove(candidate.getId());
+    }
+    return candidate;
+  }
+}
@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.server.network.protocol.http;
 
 import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
@@ -35,7 +36,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -83,142 +86,185 @@ public class OHttpGraphResponse extends OHttpResponse {
     if (accept != null && accept.contains("text/csv"))
       throw new IllegalArgumentException("Graph mode cannot accept '" + accept + "'");
 
-    ODatabaseDocument graph = ODatabaseRecordThreadLocal.instance().get();
+    final ODatabaseDocument graph = ODatabaseRecordThreadLocal.instance().get();
 
     try {
-      // DIVIDE VERTICES FROM EDGES
-      final Set<OVertex> vertices = new HashSet<>();
-
-      Set<ORID> edgeRids = new HashSet<ORID>();
-      boolean lightweightFound = false;
-
       final Iterator<Object> iIterator = OMultiValue.getMultiValueIterator(iRecords);
-      while (iIterator.hasNext()) {
-        Object entry = iIterator.next();
-
-        if (entry != null && entry instanceof OResult && ((OResult) entry).isElement()) {
-
-          entry = ((OResult) entry).getElement().get();
-
-        } else if (entry == null || !(entry instanceof OIdentifiable)) {
-          // IGNORE IT
-          continue;
-        }
+      if (isStreaming()) {
+        // FETCH THE FIRST ROW BEFORE THE HEADERS ARE SENT, SO A FAILING QUERY IS STILL REPORTED
+        // WITH AN ERROR STATUS
+        iIterator.hasNext();
+
+        sendStream(
+            OHttpUtils.STATUS_OK_CODE,
+            OHttpUtils.STATUS_OK_DESCRIPTION,
+            OHttpUtils.CONTENT_JSON,
+            null,
+            iArgument -> {
+              try {
+                final OutputStreamWriter writer = new OutputStreamWriter(iArgument, utf8);
+                writeGraph(iIterator, iAdditionalProperties, writer);
+                writer.flush();
+              } catch (IOException e) {
+                OLogManager.instance()
+                    .error(this, "Error during writing of records to the HTTP response", e);
+              }
+              return null;
+            });
+      } else {
+        final StringWriter buffer = new StringWriter();
+        writeGraph(iIterator, iAdditionalProperties, buffer);
+        send(
+            OHttpUtils.STATUS_OK_CODE,
+            OHttpUtils.STATUS_OK_DESCRIPTION,
+            OHttpUtils.CONTENT_JSON,
+            buffer.toString(),
+            null);
+      }
+    } finally {
+      graph.close();
+    }
+  }
 
-        entry = ((OIdentifiable) entry).getRecord();
+  /**
+   * Writes the vertices while the records are fetched. Only the identities of the vertices and of
+   * the edges are kept in memory, the edges are loaded again when the vertices are all written.
+   */
+  private void writeGraph(
+      final Iterator<Object> iIterator,
+      final Map<String, Object> iAdditionalProperties,
+      final Writer buffer)
+      throws IOException {
+    // DIVIDE VERTICES FROM EDGES
+    final Set<ORID> vertices = new HashSet<>();
 
-        if (entry == null || !(entry instanceof OIdentifiable))
-          // IGNORE IT
-          continue;
+    Set<ORID> edgeRids = new HashSet<ORID>();
+    boolean lightweightFound = false;
 
-        if (entry instanceof OElement) {
-          OElement element = (OElement) entry;
-          if (element.isVertex()) {
-            vertices.add(element.asVertex().get());
-          } else if (element.isEdge()) {
-            OEdge edge = element.asEdge().get();
-            vertices.add(edge.getTo());
-            vertices.add(edge.getFrom());
-            if (edge.getIdentity() != null) {
-              edgeRids.add(edge.getIdentity());
-            } else {
-              lightweightFound = true;
-            }
-          } else
-            // IGNORE IT
-            continue;
-        }
-      }
+    final OJSONWriter json = new OJSONWriter(buffer, "");
+    json.beginObject();
+    json.beginObject("graph");
 
-      final StringWriter buffer = new StringWriter();
-      final OJSONWriter json = new OJSONWriter(buffer, "");
-      json.beginObject();
-      json.beginObject("graph");
+    // WRITE VERTICES
+    json.beginCollection("vertices");
+    while (iIterator.hasNext()) {
+      Object entry = iIterator.next();
 
-      // WRITE VERTICES
-      json.beginCollection("vertices");
-      for (OVertex vertex : vertices) {
-        json.beginObject();
+      if (entry != null && entry instanceof OResult && ((OResult) entry).isElement()) {
 
-        json.writeAttribute("@rid", vertex.getIdentity());
-        json.writeAttribute("@class", vertex.getSchemaType().get().getName());
+        entry = ((OResult) entry).getElement().get();
 
-        // ADD ALL THE PROPERTIES
-        for (String field : vertex.getPropertyNames()) {
-          final Object v = vertex.getProperty(field);
-          if (v != null) json.writeAttribute(field, v);
-        }
-        json.endObject();
+      } else if (entry == null || !(entry instanceof OIdentifiable)) {
+        // IGNORE IT
+        continue;
       }
-      json.endCollection();
 
-      if (lightweightFound) {
-        // clean up cached edges and re-calculate, there could be more
-        edgeRids.clear();
+      entry = ((OIdentifiable) entry).getRecord();
+
+      if (entry == null || !(entry instanceof OIdentifiable))
+        // IGNORE IT
+        continue;
+
+      if (entry instanceof OElement) {
+        OElement element = (OElement) entry;
+        if (element.isVertex()) {
+          printVertex(json, vertices, element.asVertex().get());
+        } else if (element.isEdge()) {
+          OEdge edge = element.asEdge().get();
+          printVertex(json, vertices, edge.getTo());
+          printVertex(json, vertices, edge.getFrom());
+          if (edge.getIdentity() != null) {
+            edgeRids.add(edge.getIdentity());
+          } else {
+            lightweightFound = true;
+          }
+        } else
+          // IGNORE IT
+          continue;
       }
+    }
+    json.endCollection();
 
-      // WRITE EDGES
-      json.beginCollection("edges");
-
-      if (edgeRids.isEmpty()) {
-        for (OVertex vertex : vertices) {
-          for (OEdge e : vertex.getEdges(ODirection.OUT)) {
-            OEdge edge = (OEdge) e;
-            if (edgeRids.contains(e.getIdentity())
-                && e.getIdentity() != null /* only for non-lighweight */) {
-              continue;
-            }
-            if (!vertices.contains(edge.getVertex(ODirection.OUT))
-                || !vertices.contains(edge.getVertex(ODirection.IN)))
-              // ONE OF THE 2 VERTICES ARE NOT PART OF THE RESULT SET: DISCARD IT
-              continue;
+    if (lightweightFound) {
+      // clean up cached edges and re-calculate, there could be more
+      edgeRids.clear();
+    }
 
-            edgeRids.add(edge.getIdentity());
+    // WRITE EDGES
+    json.beginCollection("edges");
 
-            printEdge(json, edge);
-          }
+    if (edgeRids.isEmpty()) {
+      for (ORID vertexRid : vertices) {
+        final OElement vertex = vertexRid.getRecord();
+        if (vertex == null || !vertex.isVertex()) {
+          continue;
         }
-      } else {
-        for (ORID edgeRid : edgeRids) {
-          OElement elem = edgeRid.getRecord();
-          if (elem == null) {
+        for (OEdge e : vertex.asVertex().get().getEdges(ODirection.OUT)) {
+          OEdge edge = (OEdge) e;
+          if (edgeRids.contains(e.getIdentity())
+              && e.getIdentity() != null /* only for non-lighweight */) {
             continue;
           }
-          OEdge edge = elem.asEdge().orElse(null);
-          if (edge != null) {
-            printEdge(json, edge);
-          }
+          if (!vertices.contains(edge.getVertex(ODirection.OUT).getIdentity())
+              || !vertices.contains(edge.getVertex(ODirection.IN).getIdentity()))
+            // ONE OF THE 2 VERTICES ARE NOT PART OF THE RESULT SET: DISCARD IT
+            continue;
+
+          edgeRids.add(edge.getIdentity());
+
+          printEdge(json, edge);
         }
       }
+    } else {
+      for (ORID edgeRid : edgeRids) {
+        OElement elem = edgeRid.getRecord();
+        if (elem == null) {
+          continue;
+        }
+        OEdge edge = elem.asEdge().orElse(null);
+        if (edge != null) {
+          printEdge(json, edge);
+        }
+      }
+    }
 
-      json.endCollection();
+    json.endCollection();
 
-      if (iAdditionalProperties != null) {
-        for (Map.Entry<String, Object> entry : iAdditionalProperties.entrySet()) {
+    if (iAdditionalProperties != null) {
+      for (Map.Entry<String, Object> entry : iAdditionalProperties.entrySet()) {
 
-          final Object v = entry.getValue();
-          if (OMultiValue.isMultiValue(v)) {
-            json.beginCollection(-1, true, entry.getKey());
-            formatMultiValue(OMultiValue.getMultiValueIterator(v), buffer, null);
-            json.endCollection(-1, true);
-          } else json.writeAttribute(entry.getKey(), v);
+        final Object v = entry.getValue();
+        if (OMultiValue.isMultiValue(v)) {
+          json.beginCollection(-1, true, entry.getKey());
+          formatMultiValue(OMultiValue.getMultiValueIterator(v), buffer, null);
+          json.endCollection(-1, true);
+        } else json.writeAttribute(entry.getKey(), v);
 
-          if (Thread.currentThread().isInterrupted()) break;
-        }
+        if (Thread.currentThread().isInterrupted()) break;
       }
+    }
 
-      json.endObject();
-      json.endObject();
+    json.endObject();
+    json.endObject();
+  }
 
-      send(
-          OHttpUtils.STATUS_OK_CODE,
-          OHttpUtils.STATUS_OK_DESCRIPTION,
-          OHttpUtils.CONTENT_JSON,
-          buffer.toString(),
-          null);
-    } finally {
-      graph.close();
+  private void printVertex(final OJSONWriter json, final Set<ORID> written, final OVertex vertex)
+      throws IOException {
+    if (vertex == null || !written.add(vertex.getIdentity())) {
+      return;
+    }
+
+    json.beginObject();
+
+    json.writeAttribute("@rid", vertex.getIdentity());
+    json.writeAttribute("@class", vertex.getSchemaType().get().getName());
+
+    // ADD ALL THE PROPERTIES
+    for (String field : vertex.getPropertyNames()) {
+      final Object v = vertex.getProperty(field);
+      if (v != null) json.writeAttribute(field, v);
     }
+    json.endObject();
   }
 
   private void printEdge(OJSONWriter json, OEdge edge) throws IOException {
@@ -338,22 +384,7 @@ public class OHttpGraphResponse extends OHttpResponse {
       final String iFileName,
       final OCallable<Void, OChunkedResponse> iWriter)
       throws IOException {
-    writeStatus(iCode, iReason);
-    writeHeaders(iContentType);
-    writeLine("Content-Transfer-Encoding: binary");
-    writeLine("Transfer-Encoding: chunked");
-
-    if (iFileName != null) {
-      writeLine("Content-Disposition: attachment; filename=\"" + iFileName + "\"");
-    }
-
-    writeLine(null);
-
-    final OChunkedResponse chunkedOutput = new OChunkedResponse(this);
-    iWriter.call(chunkedOutput);
-    chunkedOutput.close();
-
-    flush();
+    iWrapped.sendStream(iCode, iReason, iContentType, iFileName, iWriter);
   }
 
   @Override
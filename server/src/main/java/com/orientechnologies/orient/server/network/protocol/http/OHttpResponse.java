@@ -41,6 +41,7 @@ import java.io.Writer;
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -48,6 +49,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.zip.GZIPOutputStream;
 
@@ -60,6 +62,9 @@ public abstract class OHttpResponse {
   public static final String JSON_FORMAT =
       "type,indent:-1,rid,version,attribSameRow,class,keepTypes,alwaysFetchEmbeddedDocuments";
   public static final char[] URL_SEPARATOR = {'/'};
+  /** Number of rows read before the CSV header is written, to collect the column names. */
+  public static final int CSV_HEADER_ROWS = 1000;
+
   protected static final Charset utf8 = Charset.forName("utf8");
 
   private final String httpVersion;
@@ -271,38 +276,14 @@ public abstract class OHttpResponse {
             @Override
             public Void call(final OChunkedResponse iArgument) {
               final LinkedHashSet<String> colNames = new LinkedHashSet<String>();
-              final List<OElement> records = new ArrayList<OElement>();
-
-              // BROWSE ALL THE RECORD TO HAVE THE COMPLETE COLUMN
-              // NAMES LIST
-              while (it.hasNext()) {
-                final Object r = it.next();
-
-                if (r instanceof OResult) {
-
-                  OResult result = (OResult) r;
-                  records.add(result.toElement());
-
-                  result
-                      .toElement()
-                      .getSchemaType()
-                      .ifPresent(x -> x.properties().forEach(prop -> colNames.add(prop.getName())));
-                  for (String fieldName : result.getPropertyNames()) {
-                    colNames.add(fieldName);
-                  }
-
-                } else if (r != null && r instanceof OIdentifiable) {
-                  final ORecord rec = ((OIdentifiable) r).getRecord();
-                  if (rec != null) {
-                    if (rec instanceof ODocument) {
-                      final ODocument doc = (ODocument) rec;
-                      records.add(doc);
-
-                      for (String fieldName : doc.fieldNames()) {
-                        colNames.add(fieldName);
-                      }
-                    }
-                  }
+              final List<OElement> firstRecords = new ArrayList<OElement>();
+
+              // THE COLUMN NAMES ARE TAKEN FROM THE FIRST RECORDS ONLY, THE OTHER RECORDS ARE
+              // WRITTEN WHILE THEY ARE FETCHED
+              while (firstRecords.size() < CSV_HEADER_ROWS && it.hasNext()) {
+                final OElement doc = toCsvRecord(it.next(), colNames);
+                if (doc != null) {
+                  firstRecords.add(doc);
                 }
               }
 
@@ -318,20 +299,16 @@ public abstract class OHttpResponse {
                 iArgument.write(OHttpUtils.EOL);
 
                 // WRITE EACH RECORD
-                for (OElement doc : records) {
-                  for (int col = 0; col < orderedColumns.size(); ++col) {
-                    if (col > 0) {
-                      iArgument.write(',');
-                    }
-
-                    Object value = doc.getProperty(orderedColumns.get(col));
-                    if (value != null) {
-                      if (!(value instanceof Number)) value = "\"" + value + "\"";
-
-                      iArgument.write(value.toString().getBytes());
-                    }
+                for (OElement doc : firstRecords) {
+                  writeCsvRecord(iArgument, orderedColumns, doc);
+                }
+                firstRecords.clear();
+
+                while (it.hasNext()) {
+                  final OElement doc = toCsvRecord(it.next(), null);
+                  if (doc != null) {
+                    writeCsvRecord(iArgument, orderedColumns, doc);
                   }
-                  iArgument.write(OHttpUtils.EOL);
                 }
 
                 iArgument.flush();
@@ -349,6 +326,10 @@ public abstract class OHttpResponse {
 
       final String sendFormat = iFormat;
       if (isStreaming()) {
+        // FETCH THE FIRST ROW BEFORE THE HEADERS ARE SENT, SO A FAILING QUERY IS STILL REPORTED
+        // WITH AN ERROR STATUS
+        it.hasNext();
+
         sendStream(
             OHttpUtils.STATUS_OK_CODE,
             OHttpUtils.STATUS_OK_DESCRIPTION,
@@ -356,7 +337,7 @@ public abstract class OHttpResponse {
             null,
             iArgument -> {
               try {
-                OutputStreamWriter writer = new OutputStreamWriter(iArgument);
+                OutputStreamWriter writer = new OutputStreamWriter(iArgument, utf8);
                 writeRecordsOnStream(iFetchPlan, sendFormat, iAdditionalProperties, it, writer);
                 writer.flush();
               } catch (IOException e) {
@@ -378,6 +359,48 @@ public abstract class OHttpResponse {
     }
   }
 
+  private static OElement toCsvRecord(final Object r, final Set<String> colNames) {
+    if (r instanceof OResult) {
+      final OResult result = (OResult) r;
+      final OElement element = result.toElement();
+      if (colNames != null) {
+        element
+            .getSchemaType()
+            .ifPresent(x -> x.properties().forEach(prop -> colNames.add(prop.getName())));
+        colNames.addAll(result.getPropertyNames());
+      }
+      return element;
+
+    } else if (r instanceof OIdentifiable) {
+      final ORecord rec = ((OIdentifiable) r).getRecord();
+      if (rec instanceof ODocument) {
+        final ODocument doc = (ODocument) rec;
+        if (colNames != null) {
+          colNames.addAll(Arrays.asList(doc.fieldNames()));
+        }
+        return doc;
+      }
+    }
+    return null;
+  }
+
+  private static void writeCsvRecord(
+      final OutputStream out, final List<String> columns, final OElement doc) throws IOException {
+    for (int col = 0; col < columns.size(); ++col) {
+      if (col > 0) {
+        out.write(',');
+      }
+
+      Object value = doc.getProperty(columns.get(col));
+      if (value != null) {
+        if (!(value instanceof Number)) value = "\"" + value + "\"";
+
+        out.write(value.toString().getBytes());
+      }
+    }
+    out.write(OHttpUtils.EOL);
+  }
+
   private void writeRecordsOnStream(
       String iFetchPlan,
       String iFormat,
@@ -697,6 +720,17 @@ public abstract class OHttpResponse {
     return streaming;
   }
 
+  /**
+   * Streams the JSON records with the chunked transfer encoding if the client supports it, that is
+   * with HTTP/1.1 or later. The records are then written while they are fetched instead of being
+   * collected in a buffer first.
+   */
+  public void setStreamingIfSupported() {
+    if (httpVersion != null && !httpVersion.equalsIgnoreCase("HTTP/1.0")) {
+      setStreaming(true);
+    }
+  }
+
   public void setSameSiteCookie(boolean sameSiteCookie) {
     this.sameSiteCookie = sameSiteCookie;
   }
@@ -208,7 +208,9 @@ public class OHttpResponseImpl extends OHttpResponse {
 
     writeLine(null);
 
-    final OChunkedResponse chunkedOutput = new OChunkedResponse(this);
+    final OChunkedResponse chunkedOutput =
+        new OChunkedResponse(
+            this, OHttpUtils.CONTENT_ACCEPT_GZIP_ENCODED.equals(getContentEncoding()));
     iWriter.call(chunkedOutput);
     chunkedOutput.close();
 
@@ -0,0 +1,86 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.http;
+
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the rows of a result set which are written in a HTTP response. Rows are fetched
+ * only while the response is written, so they are never collected in memory.
+ *
+ * <p>The callback passed to the constructor is called once, when the last row of the page is
+ * fetched. It can fill the properties written after the rows, such as the execution plan or the
+ * cursor to fetch the next page.
+ */
+public class OHttpResultSetIterator implements Iterator<Object> {
+  private final OResultSet resultSet;
+  private final int limit;
+  private final Runnable onEnd;
+
+  private int count;
+  private boolean ended;
+
+  /**
+   * @param limit maximum number of rows, -1 to iterate all of them
+   * @param onEnd called when the iteration ends, may be <code>null</code>
+   */
+  public OHttpResultSetIterator(final OResultSet resultSet, final int limit, final Runnable onEnd) {
+    this.resultSet = resultSet;
+    this.limit = limit;
+    this.onEnd = onEnd;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (ended) {
+      return false;
+    }
+
+    if ((limit >= 0 && count >= limit) || !resultSet.hasNext()) {
+      ended = true;
+      if (onEnd != null) {
+        onEnd.run();
+      }
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public Object next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    count++;
+    return resultSet.next();
+  }
+
+  /** @return number of rows returned so far */
+  public int getCount() {
+    return count;
+  }
+
+  public boolean isEnded() {
+    return ended;
+  }
+}
@@ -54,6 +54,8 @@ public class OHttpUtils {
   public static final String HEADER_AUTHENTICATION = "OAuthentication: ";
   public static final String HEADER_CONTENT_ENCODING = "Accept-Encoding: ";
   public static final String HEADER_ETAG = "ETag: ";
+  public static final String HEADER_ACCEPT_RANGES = "Accept-Ranges: ";
+  public static final String HEADER_CONTENT_RANGE = "Content-Range: ";
   public static final String HEADER_AUTHENTICATE_NEGOTIATE = "WWW-Authenticate: Negotiate";
 
   public static final String AUTHORIZATION_BEARER = "Bearer";
@@ -87,6 +89,8 @@ public class OHttpUtils {
   public static final String STATUS_OK_DESCRIPTION = "OK";
   public static final int STATUS_OK_NOCONTENT_CODE = 204;
   public static final String STATUS_OK_NOCONTENT_DESCRIPTION = "OK";
+  public static final int STATUS_PARTIAL_CONTENT_CODE = 206;
+  public static final String STATUS_PARTIAL_CONTENT_DESCRIPTION = "Partial Content";
   public static final int STATUS_OK_NOMODIFIED_CODE = 304;
   public static final String STATUS_OK_NOMODIFIED_DESCRIPTION = "Not Modified";
   public static final int STATUS_BADREQ_CODE = 400;
@@ -101,6 +105,9 @@ public class OHttpUtils {
   public static final String STATUS_INVALIDMETHOD_DESCRIPTION = "Method Not Allowed";
   public static final int STATUS_CONFLICT_CODE = 409;
   public static final String STATUS_CONFLICT_DESCRIPTION = "Conflict";
+  public static final int STATUS_RANGE_NOT_SATISFIABLE_CODE = 416;
+  public static final String STATUS_RANGE_NOT_SATISFIABLE_DESCRIPTION =
+      "Requested Range Not Satisfiable";
   public static final int STATUS_INTERNALERROR_CODE = 500;
   public static final String STATUS_INTERNALERROR_DESCRIPTION = "Internal Server Error";
   public static final int STATUS_NOTIMPL_CODE = 501;
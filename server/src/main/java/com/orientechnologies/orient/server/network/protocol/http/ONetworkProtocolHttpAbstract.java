@@ -47,6 +47,7 @@ import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommand;
 import com.orientechnologies.orient.server.network.protocol.http.command.all.OServerCommandFunction;
 import com.orientechnologies.orient.server.network.protocol.http.command.delete.OServerCommandDeleteClass;
+import com.orientechnologies.orient.server.network.protocol.http.command.delete.OServerCommandDeleteCursor;
 import com.orientechnologies.orient.server.network.protocol.http.command.delete.OServerCommandDeleteDatabase;
 import com.orientechnologies.orient.server.network.protocol.http.command.delete.OServerCommandDeleteDocument;
 import com.orientechnologies.orient.server.network.protocol.http.command.delete.OServerCommandDeleteIndex;
@@ -55,6 +56,7 @@ import com.orientechnologies.orient.server.network.protocol.http.command.get.OSe
 import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetCluster;
 import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetConnect;
 import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetConnections;
+import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetCursor;
 import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetDatabase;
 import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetDictionary;
 import com.orientechnologies.orient.server.network.protocol.http.command.get.OServerCommandGetDisconnect;
@@ -946,6 +948,7 @@ public abstract class ONetworkProtocolHttpAbstract extends ONetworkProtocol
     cmdManager.registerCommand(new OServerCommandGetDocument());
     cmdManager.registerCommand(new OServerCommandGetDocumentByClass());
     cmdManager.registerCommand(new OServerCommandGetQuery());
+    cmdManager.registerCommand(new OServerCommandGetCursor());
     cmdManager.registerCommand(new OServerCommandGetServer());
     cmdManager.registerCommand(new OServerCommandGetServerVersion());
     cmdManager.registerCommand(new OServerCommandGetConnections());
@@ -975,6 +978,7 @@ public abstract class ONetworkProtocolHttpAbstract extends ONetworkProtocol
     cmdManager.registerCommand(new OServerCommandDeleteDocument());
     cmdManager.registerCommand(new OServerCommandDeleteProperty());
     cmdManager.registerCommand(new OServerCommandDeleteIndex());
+    cmdManager.registerCommand(new OServerCommandDeleteCursor());
     cmdManager.registerCommand(new OServerCommandOptions());
     cmdManager.registerCommand(new OServerCommandFunction());
     cmdManager.registerCommand(new OServerCommandPostKillDbConnection());
@@ -0,0 +1,72 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.http.command;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpCursor;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpUtils;
+import java.io.IOException;
+import java.util.Objects;
+
+/** Base class of the commands which work on the server side cursors of the HTTP queries. */
+public abstract class OServerCommandCursorAbstract extends OServerCommandAuthenticatedDbAbstract {
+
+  /**
+   * Locks the requested cursor. A cursor can be used only by the user who opened it, against the
+   * same database.
+   *
+   * @return the cursor, or <code>null</code> if it does not exist, it expired or it was opened by
+   *     someone else
+   */
+  protected OHttpCursor acquireCursor(final OHttpRequest iRequest, final String iCursorId)
+      throws InterruptedException {
+    final String userName;
+    final ODatabaseDocumentInternal db = getProfiledDatabaseInstance(iRequest);
+    try {
+      userName = db.getUser() != null ? db.getUser().getName() : null;
+    } finally {
+      db.close();
+    }
+
+    final OHttpCursor cursor = server.getHttpCursorManager().acquireCursor(iCursorId);
+    if (cursor == null) {
+      return null;
+    }
+
+    if (!cursor.getDatabaseName().equals(iRequest.getDatabaseName())
+        || !Objects.equals(cursor.getUserName(), userName)) {
+      server.getHttpCursorManager().releaseCursor(cursor);
+      return null;
+    }
+    return cursor;
+  }
+
+  protected void sendCursorNotFound(final OHttpResponse iResponse, final String iCursorId)
+      throws IOException {
+    iResponse.send(
+        OHttpUtils.STATUS_NOTFOUND_CODE,
+        OHttpUtils.STATUS_NOTFOUND_DESCRIPTION,
+        OHttpUtils.CONTENT_TEXT_PLAIN,
+        "Cursor '" + iCursorId + "' was not found or it expired",
+        null);
+  }
+}
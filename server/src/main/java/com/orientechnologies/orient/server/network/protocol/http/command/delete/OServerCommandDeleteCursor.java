@@ -0,0 +1,62 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.http.command.delete;
+
+import com.orientechnologies.orient.server.network.protocol.http.OHttpCursor;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpUtils;
+import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommandCursorAbstract;
+
+/** Closes a server side cursor before all its rows are fetched. */
+public class OServerCommandDeleteCursor extends OServerCommandCursorAbstract {
+  private static final String[] NAMES = {"DELETE|cursor/*"};
+
+  @Override
+  public boolean execute(final OHttpRequest iRequest, final OHttpResponse iResponse)
+      throws Exception {
+    final String[] urlParts =
+        checkSyntax(iRequest.getUrl(), 3, "Syntax error: cursor/<database>/<cursor-id>");
+
+    final String cursorId = urlParts[2];
+    iRequest.getData().commandInfo = "Close cursor";
+    iRequest.getData().commandDetail = cursorId;
+
+    final OHttpCursor cursor = acquireCursor(iRequest, cursorId);
+    if (cursor == null) {
+      sendCursorNotFound(iResponse, cursorId);
+      return false;
+    }
+
+    server.getHttpCursorManager().closeCursor(cursor);
+    iResponse.send(
+        OHttpUtils.STATUS_OK_NOCONTENT_CODE,
+        OHttpUtils.STATUS_OK_NOCONTENT_DESCRIPTION,
+        OHttpUtils.CONTENT_TEXT_PLAIN,
+        null,
+        null);
+    return false;
+  }
+
+  @Override
+  public String[] getNames() {
+    return NAMES;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.http.command.get;
+
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpCursor;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpResultSetIterator;
+import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommandCursorAbstract;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fetches the next page of rows of a server side cursor opened by a paginated command. The response
+ * contains the id of the cursor only if there are more rows to fetch, otherwise the cursor is
+ * closed.
+ */
+public class OServerCommandGetCursor extends OServerCommandCursorAbstract {
+  private static final String[] NAMES = {"GET|cursor/*"};
+
+  @Override
+  public boolean execute(final OHttpRequest iRequest, final OHttpResponse iResponse)
+      throws Exception {
+    final String[] urlParts =
+        checkSyntax(
+            iRequest.getUrl(), 3, "Syntax error: cursor/<database>/<cursor-id>[/<page-size>]");
+
+    final String cursorId = urlParts[2];
+    final String accept = iRequest.getHeader("accept");
+
+    iRequest.getData().commandInfo = "Fetch cursor";
+    iRequest.getData().commandDetail = cursorId;
+
+    final OHttpCursor cursor = acquireCursor(iRequest, cursorId);
+    if (cursor == null) {
+      sendCursorNotFound(iResponse, cursorId);
+      return false;
+    }
+
+    boolean close = true;
+    try {
+      final long begin = System.currentTimeMillis();
+      final int pageSize =
+          urlParts.length > 3 ? Integer.parseInt(urlParts[3].trim()) : cursor.getPageSize();
+      if (pageSize <= 0) {
+        throw new IllegalArgumentException("Invalid page size: " + pageSize);
+      }
+      final int rows =
+          cursor.getRemaining() >= 0 ? Math.min(pageSize, cursor.getRemaining()) : pageSize;
+
+      cursor.activateDatabase();
+      final OResultSet resultSet = cursor.getResultSet();
+
+      final Map<String, Object> additionalContent = new HashMap<>();
+      final OHttpResultSetIterator rowsIterator =
+          new OHttpResultSetIterator(
+              resultSet,
+              rows,
+              () -> {
+                if ((cursor.getRemaining() < 0 || cursor.getRemaining() > rows)
+                    && resultSet.hasNext()) {
+                  additionalContent.put("cursor", cursorId);
+                }
+                additionalContent.put("elapsedMs", System.currentTimeMillis() - begin);
+              });
+
+      String format = null;
+      if (cursor.getFetchPlan() != null) {
+        format = "fetchPlan:" + cursor.getFetchPlan();
+      }
+
+      iResponse.setStreamingIfSupported();
+
+      iResponse.writeRecords(rowsIterator, null, format, accept, additionalContent, "resultset");
+
+      cursor.consumed(rowsIterator.getCount());
+      close = !additionalContent.containsKey("cursor");
+    } finally {
+      if (close) {
+        server.getHttpCursorManager().closeCursor(cursor);
+      } else {
+        server.getHttpCursorManager().releaseCursor(cursor);
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public String[] getNames() {
+    return NAMES;
+  }
+}
@@ -22,6 +22,7 @@ import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecordAbstract;
 import com.orientechnologies.orient.core.record.impl.OBlob;
+import com.orientechnologies.orient.core.record.impl.OChunkedBlob;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
@@ -29,6 +30,8 @@ import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpUtils;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommandAuthenticatedDbAbstract;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Date;
 
 /** @author Luca Molino (molino.luca--at--gmail.com) */
@@ -73,6 +76,10 @@ public class OServerCommandGetFileDownload extends OServerCommandAuthenticatedDb
               fileType,
               (OBlob) response,
               fileName);
+        } else if (response instanceof ODocument
+            && OChunkedBlob.isChunkedBlob((ODocument) response)) {
+          sendChunkedBlobContent(
+              iRequest, iResponse, fileType, new OChunkedBlob((ODocument) response), fileName);
         } else if (response instanceof ODocument) {
           for (OProperty prop :
               ODocumentInternal.getImmutableSchemaClass(((ODocument) response)).properties()) {
@@ -137,6 +144,107 @@ public class OServerCommandGetFileDownload extends OServerCommandAuthenticatedDb
     iResponse.flush();
   }
 
+  /**
+   * Streams the content of a chunked blob, one chunk at a time. A single range of bytes can be
+   * requested with the <code>Range</code> header, only the chunks which contain it are loaded.
+   */
+  protected void sendChunkedBlobContent(
+      final OHttpRequest iRequest,
+      final OHttpResponse iResponse,
+      final String iContentType,
+      final OChunkedBlob blob,
+      final String iFileName)
+      throws IOException {
+    final long size = blob.getSize();
+
+    final String range = iRequest.getHeaders() != null ? iRequest.getHeader("Range") : null;
+    final long[] bounds = range != null ? parseRange(range, size) : new long[] {0, size - 1};
+    if (bounds == null) {
+      iResponse.writeStatus(
+          OHttpUtils.STATUS_RANGE_NOT_SATISFIABLE_CODE,
+          OHttpUtils.STATUS_RANGE_NOT_SATISFIABLE_DESCRIPTION);
+      iResponse.writeHeaders(OHttpUtils.CONTENT_TEXT_PLAIN);
+      iResponse.writeLine(OHttpUtils.HEADER_CONTENT_RANGE + "bytes */" + size);
+      iResponse.writeLine(OHttpUtils.HEADER_CONTENT_LENGTH + 0);
+      iResponse.writeLine(null);
+      iResponse.flush();
+      return;
+    }
+
+    final long length = bounds[1] - bounds[0] + 1;
+    if (range != null) {
+      iResponse.writeStatus(
+          OHttpUtils.STATUS_PARTIAL_CONTENT_CODE, OHttpUtils.STATUS_PARTIAL_CONTENT_DESCRIPTION);
+    } else {
+      iResponse.writeStatus(OHttpUtils.STATUS_OK_CODE, OHttpUtils.STATUS_OK_DESCRIPTION);
+    }
+    iResponse.writeHeaders(iContentType);
+    iResponse.writeLine("Content-Disposition: attachment; filename=" + iFileName);
+    iResponse.writeLine("Date: " + new Date());
+    iResponse.writeLine(OHttpUtils.HEADER_ACCEPT_RANGES + "bytes");
+    if (range != null) {
+      iResponse.writeLine(
+          OHttpUtils.HEADER_CONTENT_RANGE + "bytes " + bounds[0] + "-" + bounds[1] + "/" + size);
+    }
+    iResponse.writeLine(OHttpUtils.HEADER_CONTENT_LENGTH + length);
+    iResponse.writeLine(null);
+
+    final OutputStream out = iResponse.getOutputStream();
+    try (InputStream in = blob.openStream(bounds[0], length)) {
+      final byte[] buffer = new byte[blob.getChunkSize()];
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        out.write(buffer, 0, read);
+      }
+    }
+
+    iResponse.flush();
+  }
+
+  /**
+   * Parses a <code>bytes=first-last</code>, <code>bytes=first-</code> or <code>bytes=-suffix
+   * </code> range.
+   *
+   * @return first and last byte of the range, or <code>null</code> if the range can not be served
+   */
+  private static long[] parseRange(final String range, final long size) {
+    if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+      return null;
+    }
+
+    final String spec = range.substring("bytes=".length()).trim();
+    final int separator = spec.indexOf('-');
+    if (separator < 0) {
+      return null;
+    }
+
+    try {
+      final String first = spec.substring(0, separator).trim();
+      final String last = spec.substring(separator + 1).trim();
+
+      final long start;
+      final long end;
+      if (first.isEmpty()) {
+        final long suffix = Long.parseLong(last);
+        if (suffix <= 0) {
+          return null;
+        }
+        start = Math.max(0, size - suffix);
+        end = size - 1;
+      } else {
+        start = Long.parseLong(first);
+        end = last.isEmpty() ? size - 1 : Math.min(size - 1, Long.parseLong(last));
+      }
+
+      if (start < 0 || start >= size || end < start) {
+        return null;
+      }
+      return new long[] {start, end};
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   protected void sendBinaryFieldFileContent(
       final OHttpRequest iRequest,
       final OHttpResponse iResponse,
@@ -24,11 +24,10 @@ import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpResultSetIterator;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommandAuthenticatedDbAbstract;
 import com.orientechnologies.orient.server.network.protocol.http.command.post.OServerCommandPostCommand;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class OServerCommandGetQuery extends OServerCommandAuthenticatedDbAbstract {
@@ -52,43 +51,41 @@ public class OServerCommandGetQuery extends OServerCommandAuthenticatedDbAbstrac
     iRequest.getData().commandDetail = text;
 
     ODatabaseDocument db = null;
+    OResultSet result = null;
 
     try {
       db = getProfiledDatabaseInstance(iRequest);
 
       OStatement stm = OServerCommandPostCommand.parseStatement("SQL", text, db);
-      OResultSet result = db.query(text, new Object[] {});
+      result = db.query(text, new Object[] {});
       limit = OServerCommandPostCommand.getLimitFromStatement(stm, limit);
       String localFetchPlan = OServerCommandPostCommand.getFetchPlanFromStatement(stm);
       if (localFetchPlan != null) {
         fetchPlan = localFetchPlan;
       }
-      int i = 0;
-      List response = new ArrayList();
-      while (result.hasNext()) {
-        if (limit >= 0 && i >= limit) {
-          break;
-        }
-        response.add(result.next());
-        i++;
-      }
-
-      Map<String, Object> additionalContent = new HashMap<>();
-
-      result
-          .getExecutionPlan()
-          .ifPresent(x -> additionalContent.put("executionPlan", x.toResult().toElement()));
 
-      result.close();
+      final OResultSet resultSet = result;
+      final Map<String, Object> additionalContent = new HashMap<>();
+      final OHttpResultSetIterator rowsIterator =
+          new OHttpResultSetIterator(
+              result,
+              limit,
+              () ->
+                  resultSet
+                      .getExecutionPlan()
+                      .ifPresent(
+                          x -> additionalContent.put("executionPlan", x.toResult().toElement())));
 
       String format = null;
       if (fetchPlan != null) {
         format = "fetchPlan:" + fetchPlan;
       }
 
-      iResponse.writeRecords(response, fetchPlan, null, accept, additionalContent);
+      iResponse.setStreamingIfSupported();
+      iResponse.writeRecords(rowsIterator, fetchPlan, null, accept, additionalContent);
 
     } finally {
+      if (result != null) result.close();
       if (db != null) db.close();
     }
 
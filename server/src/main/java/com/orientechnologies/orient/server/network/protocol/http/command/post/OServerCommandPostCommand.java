@@ -33,11 +33,10 @@ import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.parser.OTraverseStatement;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
+import com.orientechnologies.orient.server.network.protocol.http.OHttpResultSetIterator;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommandAuthenticatedDbAbstract;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbstract {
@@ -62,8 +61,9 @@ public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbst
     String mode = "resultset";
 
     boolean returnExecutionPlan = true;
+    int pageSize = -1;
 
-    long begin = System.currentTimeMillis();
+    final long begin = System.currentTimeMillis();
     if (iRequest.getContent() != null && !iRequest.getContent().isEmpty()) {
       // CONTENT REPLACES TEXT
       if (iRequest.getContent().startsWith("{")) {
@@ -72,6 +72,7 @@ public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbst
         text = doc.field("command");
         params = doc.field("parameters");
         if (doc.containsField("mode")) mode = doc.field("mode");
+        if (doc.containsField("pageSize")) pageSize = ((Number) doc.field("pageSize")).intValue();
 
         if ("false".equalsIgnoreCase("" + doc.field("returnExecutionPlan"))) {
           returnExecutionPlan = false;
@@ -97,49 +98,77 @@ public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbst
     iRequest.getData().commandDetail = text;
 
     ODatabaseDocument db = null;
+    OResultSet result = null;
+    final boolean[] cursorOpened = {false};
 
     try {
       db = getProfiledDatabaseInstance(iRequest);
       OStatement stm = parseStatement(language, text, db);
-      OResultSet result = executeStatement(language, text, params, db);
+      result = executeStatement(language, text, params, db);
       limit = getLimitFromStatement(stm, limit);
       String localFetchPlan = getFetchPlanFromStatement(stm);
       if (localFetchPlan != null) {
         fetchPlan = localFetchPlan;
       }
-      int i = 0;
-      List response = new ArrayList();
-      while (result.hasNext()) {
-        if (limit >= 0 && i >= limit) {
-          break;
-        }
-        response.add(result.next());
-        i++;
-      }
 
-      Map<String, Object> additionalContent = new HashMap<>();
-      if (returnExecutionPlan) {
-        result
-            .getExecutionPlan()
-            .ifPresent(x -> additionalContent.put("executionPlan", x.toResult().toElement()));
-      }
-
-      result.close();
-      long elapsedMs = System.currentTimeMillis() - begin;
+      // WITH A PAGE SIZE ONLY THE FIRST PAGE IS RETURNED, THE REST IS LEFT IN A SERVER SIDE CURSOR
+      final boolean paginated = pageSize > 0 && (limit < 0 || pageSize < limit);
+      final int rows = paginated ? pageSize : limit;
+      final int remaining = limit < 0 ? -1 : limit - rows;
+
+      final ODatabaseDocument database = db;
+      final OResultSet resultSet = result;
+      final String cursorFetchPlan = fetchPlan;
+      final int cursorPageSize = pageSize;
+      final boolean executionPlan = returnExecutionPlan;
+      final Map<String, Object> additionalContent = new HashMap<>();
+
+      // ROWS ARE SERIALIZED WHILE THEY ARE FETCHED, THE ADDITIONAL CONTENT IS WRITTEN AFTER THEM
+      final OHttpResultSetIterator rowsIterator =
+          new OHttpResultSetIterator(
+              result,
+              rows,
+              () -> {
+                if (executionPlan) {
+                  resultSet
+                      .getExecutionPlan()
+                      .ifPresent(
+                          x -> additionalContent.put("executionPlan", x.toResult().toElement()));
+                }
+                if (paginated && resultSet.hasNext()) {
+                  final String cursorId =
+                      server
+                          .getHttpCursorManager()
+                          .createCursor(
+                              iRequest.getDatabaseName(),
+                              database.getUser() != null ? database.getUser().getName() : null,
+                              (ODatabaseDocumentInternal) database,
+                              resultSet,
+                              cursorFetchPlan,
+                              cursorPageSize,
+                              remaining);
+                  additionalContent.put("cursor", cursorId);
+                  cursorOpened[0] = true;
+                }
+                additionalContent.put("elapsedMs", System.currentTimeMillis() - begin);
+              });
 
       String format = null;
       if (fetchPlan != null) {
         format = "fetchPlan:" + fetchPlan;
       }
 
-      if (iRequest.getHeader("TE") != null) iResponse.setStreaming(true);
+      iResponse.setStreamingIfSupported();
 
-      additionalContent.put("elapsedMs", elapsedMs);
-      iResponse.writeResult(response, format, accept, additionalContent, mode);
+      iResponse.writeRecords(rowsIterator, null, format, accept, additionalContent, mode);
 
     } finally {
-      if (db != null) {
+      // THE CURSOR OWNS THE DATABASE AND THE RESULT SET UNTIL IT IS CLOSED
+      if (db != null && !cursorOpened[0]) {
         db.activateOnCurrentThread();
+        if (result != null) {
+          result.close();
+        }
         db.close();
       }
     }
@@ -1,13 +1,19 @@
 package com.orientechnologies.orient.server.query;
 
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUERY_REMOTE_RESULTSET_MAX_PREFETCHES;
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.client.remote.message.ORemoteResultSet;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
@@ -105,6 +111,92 @@ public class RemoteQuerySupportTest {
     }
   }
 
+  @Test
+  public void testQueryPrefetchedPages() {
+    QUERY_REMOTE_RESULTSET_PREFETCH.setValue(true);
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("num", i);
+      session.save(doc);
+    }
+    try (OResultSet res = session.query("select from Some order by num")) {
+      for (int i = 0; i < 150; i++) {
+        assertTrue(res.hasNext());
+        assertEquals(i, (int) res.next().getProperty("num"));
+      }
+      assertFalse(res.hasNext());
+    }
+    assertTrue(((ODatabaseDocumentInternal) session).getActiveQueries().isEmpty());
+  }
+
+  @Test
+  public void testCloseWithPrefetchedPage() {
+    QUERY_REMOTE_RESULTSET_PREFETCH.setValue(true);
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("num", i);
+      session.save(doc);
+    }
+    OResultSet res = session.query("select from Some");
+    for (int i = 0; i < 15; i++) res.next();
+    res.close();
+    assertTrue(((ODatabaseDocumentInternal) session).getActiveQueries().isEmpty());
+
+    try (OResultSet all = session.query("select from Some")) {
+      assertEquals(150, all.stream().count());
+    }
+  }
+
+  @Test
+  public void testQueryWithoutPrefetch() {
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", "value");
+      session.save(doc);
+    }
+    try (OResultSet res = session.query("select from Some")) {
+      assertEquals(150, res.stream().count());
+    }
+  }
+
+  @Test
+  public void testPrefetchesAreLimited() {
+    QUERY_REMOTE_RESULTSET_PREFETCH.setValue(true);
+    QUERY_REMOTE_RESULTSET_MAX_PREFETCHES.setValue(1);
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", "value");
+      session.save(doc);
+    }
+    try (OResultSet first = session.query("select from Some");
+        OResultSet second = session.query("select from Some")) {
+      assertNotNull(((ORemoteResultSet) first).getPrefetcher());
+      assertNull(((ORemoteResultSet) second).getPrefetcher());
+      assertEquals(150, first.stream().count());
+      assertEquals(150, second.stream().count());
+    }
+    assertTrue(((ODatabaseDocumentInternal) session).getActiveQueries().isEmpty());
+  }
+
+  @Test
+  public void testQueryPagesInTransaction() {
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", "value");
+      session.save(doc);
+    }
+    session.begin();
+    for (int i = 0; i < 5; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", "new");
+      session.save(doc);
+    }
+    try (OResultSet res = session.query("select from Some")) {
+      assertEquals(155, res.stream().count());
+    }
+    session.commit();
+  }
+
   @Test(expected = ODatabaseException.class)
   public void testQueryKilledSession() {
     for (int i = 0; i < 150; i++) {
@@ -273,6 +365,8 @@ public class RemoteQuerySupportTest {
   @After
   public void after() {
     QUERY_REMOTE_RESULTSET_PAGE_SIZE.setValue(oldPageSize);
+    QUERY_REMOTE_RESULTSET_PREFETCH.setValue(false);
+    QUERY_REMOTE_RESULTSET_MAX_PREFETCHES.setValue(8);
     session.close();
     orientDB.close();
     server.shutdown();
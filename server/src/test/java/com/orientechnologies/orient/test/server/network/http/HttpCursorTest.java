@@ -0,0 +1,189 @@
+package com.orientechnologies.orient.test.server.network.http;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.util.List;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.util.EntityUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/** Tests paginated HTTP commands and the "cursor" commands. */
+public class HttpCursorTest extends BaseHttpDatabaseTest {
+  private static final int ITEMS = 95;
+
+  @Override
+  protected void onAfterDatabaseCreated() throws Exception {
+    final ODatabaseDocumentInternal db = getServer().openDatabase(getDatabaseName());
+    try {
+      db.createClass("Item");
+      for (int i = 0; i < ITEMS; i++) {
+        db.save(new ODocument("Item").field("value", i));
+      }
+    } finally {
+      db.close();
+    }
+  }
+
+  @Test
+  public void testFetchAllPages() throws IOException {
+    ODocument page = command("select from Item order by value", 10);
+    int expected = 0;
+    int pages = 1;
+    while (true) {
+      final List<ODocument> rows = page.field("result");
+      for (ODocument row : rows) {
+        Assert.assertEquals(expected++, (int) row.<Integer>field("value"));
+      }
+
+      final String cursor = page.field("cursor");
+      if (cursor == null) {
+        break;
+      }
+      Assert.assertEquals(10, rows.size());
+
+      final HttpResponse response = get("cursor/" + getDatabaseName() + "/" + cursor).getResponse();
+      Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+      page = new ODocument().fromJSON(response.getEntity().getContent());
+      pages++;
+    }
+
+    Assert.assertEquals(ITEMS, expected);
+    Assert.assertEquals(10, pages);
+    Assert.assertEquals(0, getServer().getHttpCursorManager().getCursorsCount());
+  }
+
+  @Test
+  public void testLimitSpansPages() throws IOException {
+    ODocument page = command("select from Item order by value limit 25", 10);
+    int rows = ((List<?>) page.field("result")).size();
+
+    page = fetch(page.field("cursor"), 20);
+    rows += ((List<?>) page.field("result")).size();
+
+    Assert.assertNull(page.field("cursor"));
+    Assert.assertEquals(25, rows);
+  }
+
+  @Test
+  public void testCloseCursor() throws IOException {
+    final ODocument page = command("select from Item", 10);
+    final String cursor = page.field("cursor");
+    Assert.assertNotNull(cursor);
+    Assert.assertEquals(1, getServer().getHttpCursorManager().getCursorsCount());
+
+    HttpResponse response = delete("cursor/" + getDatabaseName() + "/" + cursor).getResponse();
+    Assert.assertEquals(204, response.getStatusLine().getStatusCode());
+    Assert.assertEquals(0, getServer().getHttpCursorManager().getCursorsCount());
+
+    response = get("cursor/" + getDatabaseName() + "/" + cursor).getResponse();
+    Assert.assertEquals(404, response.getStatusLine().getStatusCode());
+    EntityUtils.consume(response.getEntity());
+  }
+
+  @Test
+  public void testCursorOfAnotherUser() throws IOException {
+    setUserName("admin").setUserPassword("admin");
+    final String cursor = command("select from Item", 10).field("cursor");
+
+    final HttpResponse response =
+        get("cursor/" + getDatabaseName() + "/" + cursor)
+            .setUserName("root")
+            .setUserPassword("root")
+            .getResponse();
+    Assert.assertEquals(404, response.getStatusLine().getStatusCode());
+    EntityUtils.consume(response.getEntity());
+
+    setUserName("admin").setUserPassword("admin");
+    Assert.assertEquals(
+        204,
+        delete("cursor/" + getDatabaseName() + "/" + cursor)
+            .getResponse()
+            .getStatusLine()
+            .getStatusCode());
+  }
+
+  @Test
+  public void testStreamingCompressedResponse() throws IOException {
+    final HttpResponse response =
+        get(
+                "command/"
+                    + getDatabaseName()
+                    + "/sql/"
+                    + URLEncoder.encode("select from Item order by value", "UTF-8"),
+                new Header[] {new BasicHeader("Accept-Encoding", "gzip")})
+            .getResponse();
+    Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+    Assert.assertTrue(response.getEntity().isChunked());
+
+    final ODocument result = new ODocument().fromJSON(response.getEntity().getContent());
+    final List<ODocument> rows = result.field("result");
+    Assert.assertEquals(ITEMS, rows.size());
+    for (int i = 0; i < ITEMS; i++) {
+      Assert.assertEquals(i, (int) rows.get(i).<Integer>field("value"));
+    }
+    Assert.assertNotNull(result.field("elapsedMs"));
+  }
+
+  @Test
+  public void testStreamingQuery() throws IOException {
+    final HttpResponse response =
+        get("query/"
+                + getDatabaseName()
+                + "/sql/"
+                + URLEncoder.encode("select from Item order by value", "UTF-8")
+                + "/-1")
+            .getResponse();
+    Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+    Assert.assertTrue(response.getEntity().isChunked());
+
+    final ODocument result = new ODocument().fromJSON(response.getEntity().getContent());
+    final List<ODocument> rows = result.field("result");
+    Assert.assertEquals(ITEMS, rows.size());
+  }
+
+  @Test
+  public void testStreamingCsv() throws IOException {
+    final HttpResponse response =
+        get(
+                "command/"
+                    + getDatabaseName()
+                    + "/sql/"
+                    + URLEncoder.encode("select value from Item order by value", "UTF-8"),
+                new Header[] {new BasicHeader("Accept", "text/csv")})
+            .getResponse();
+    Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+
+    final String[] lines = EntityUtils.toString(response.getEntity()).split("\r?\n");
+    Assert.assertEquals(ITEMS + 1, lines.length);
+    Assert.assertEquals("value", lines[0]);
+    for (int i = 0; i < ITEMS; i++) {
+      Assert.assertEquals(String.valueOf(i), lines[i + 1]);
+    }
+  }
+
+  private ODocument command(final String text, final int pageSize) throws IOException {
+    final HttpResponse response =
+        post("command/" + getDatabaseName() + "/sql/")
+            .payload("{\"command\":\"" + text + "\",\"pageSize\":" + pageSize + "}", CONTENT.JSON)
+            .getResponse();
+    Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+    return new ODocument().fromJSON(response.getEntity().getContent());
+  }
+
+  private ODocument fetch(final String cursor, final int pageSize) throws IOException {
+    final HttpResponse response =
+        get("cursor/" + getDatabaseName() + "/" + cursor + "/" + pageSize).getResponse();
+    Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+    return new ODocument().fromJSON(response.getEntity().getContent());
+  }
+
+  @Override
+  public String getDatabaseName() {
+    return "httpcursor";
+  }
+}
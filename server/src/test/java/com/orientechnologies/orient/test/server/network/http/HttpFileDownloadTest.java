@@ -0,0 +1,81 @@
+package com.orientechnologies.orient.test.server.network.http;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.record.impl.OChunkedBlob;
+import com.orientechnologies.orient.core.record.impl.OChunkedBlobOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.util.EntityUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/** Tests HTTP "fileDownload" command. */
+public class HttpFileDownloadTest extends BaseHttpDatabaseTest {
+  private byte[] content;
+  private String rid;
+
+  @Override
+  protected void onAfterDatabaseCreated() throws Exception {
+    content = new byte[100 * 1024 + 17];
+    new Random(7).nextBytes(content);
+
+    final ODatabaseDocumentInternal db = getServer().openDatabase(getDatabaseName());
+    try (OChunkedBlobOutputStream out = OChunkedBlob.create(null, 4096)) {
+      out.write(content);
+      out.close();
+      rid = out.getBlob().getIdentity().toString().substring(1);
+    } finally {
+      db.close();
+    }
+  }
+
+  @Test
+  public void testDownloadChunkedBlob() throws Exception {
+    final HttpResponse response =
+        get("fileDownload/" + getDatabaseName() + "/" + rid + "/blob.bin").getResponse();
+    Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+    Assert.assertEquals("bytes", response.getFirstHeader("Accept-Ranges").getValue());
+    Assert.assertArrayEquals(content, EntityUtils.toByteArray(response.getEntity()));
+  }
+
+  @Test
+  public void testDownloadRange() throws Exception {
+    HttpResponse response = download("bytes=1000-9999");
+    Assert.assertEquals(206, response.getStatusLine().getStatusCode());
+    Assert.assertEquals(
+        "bytes 1000-9999/" + content.length, response.getFirstHeader("Content-Range").getValue());
+    Assert.assertArrayEquals(
+        Arrays.copyOfRange(content, 1000, 10000), EntityUtils.toByteArray(response.getEntity()));
+
+    response = download("bytes=-100");
+    Assert.assertEquals(206, response.getStatusLine().getStatusCode());
+    Assert.assertArrayEquals(
+        Arrays.copyOfRange(content, content.length - 100, content.length),
+        EntityUtils.toByteArray(response.getEntity()));
+
+    response = download("bytes=50000-");
+    Assert.assertEquals(206, response.getStatusLine().getStatusCode());
+    Assert.assertArrayEquals(
+        Arrays.copyOfRange(content, 50000, content.length),
+        EntityUtils.toByteArray(response.getEntity()));
+
+    response = download("bytes=" + content.length + "-");
+    Assert.assertEquals(416, response.getStatusLine().getStatusCode());
+    EntityUtils.consume(response.getEntity());
+  }
+
+  private HttpResponse download(final String range) throws Exception {
+    return get(
+            "fileDownload/" + getDatabaseName() + "/" + rid + "/blob.bin",
+            new Header[] {new BasicHeader("Range", range)})
+        .getResponse();
+  }
+
+  @Override
+  public String getDatabaseName() {
+    return "httpfiledownload";
+  }
+}